@@ -0,0 +1,108 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.entitySystem.entity.internal;
+
+import com.google.common.collect.Lists;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reflections.Reflections;
+import org.terasology.context.internal.ContextImpl;
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.metadata.ComponentLibrary;
+import org.terasology.entitySystem.metadata.EntitySystemLibrary;
+import org.terasology.entitySystem.prefab.internal.PojoPrefabManager;
+import org.terasology.logic.location.LocationComponent;
+import org.terasology.persistence.typeHandling.TypeHandlerLibrary;
+import org.terasology.registry.CoreRegistry;
+import org.terasology.rendering.logic.MeshComponent;
+import org.terasology.utilities.random.FastRandom;
+import org.terasology.world.block.BlockComponent;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates 1000 entities with a random mix of location, mesh and block components, and iterates over those with one
+ * or two of the components.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EntityManagerBenchmark {
+
+    private static final int ENTITIES = 1000;
+
+    private ContextImpl context;
+    private ComponentLibrary componentLibrary;
+    private List<List<Component>> rawEntityData;
+    private PojoEntityManager entityManager;
+
+    @Setup
+    public void setup() {
+        context = new ContextImpl();
+        CoreRegistry.setContext(context);
+        TypeHandlerLibrary serializationLibrary = new TypeHandlerLibrary(new Reflections(getClass().getClassLoader()));
+        componentLibrary = new EntitySystemLibrary(context, serializationLibrary).getComponentLibrary();
+
+        FastRandom rand = new FastRandom(0L);
+        rawEntityData = Lists.newArrayList();
+        for (int i = 0; i < ENTITIES; ++i) {
+            List<Component> entityData = Lists.newArrayList();
+            if (rand.nextFloat() < 0.75f) {
+                entityData.add(new LocationComponent());
+            }
+            if (rand.nextFloat() < 0.5f) {
+                entityData.add(new MeshComponent());
+            }
+            if (rand.nextFloat() < 0.25f) {
+                entityData.add(new BlockComponent());
+            }
+            rawEntityData.add(entityData);
+        }
+
+        entityManager = createEntityManager();
+        rawEntityData.forEach(entityManager::create);
+    }
+
+    @Benchmark
+    public PojoEntityManager create() {
+        PojoEntityManager newEntityManager = createEntityManager();
+        rawEntityData.forEach(newEntityManager::create);
+        return newEntityManager;
+    }
+
+    @Benchmark
+    public void iterateSingleComponent(Blackhole blackhole) {
+        for (EntityRef entity : entityManager.getEntitiesWith(LocationComponent.class)) {
+            blackhole.consume(entity.getComponent(LocationComponent.class).getLocalPosition());
+        }
+    }
+
+    @Benchmark
+    public void iterateMultipleComponents(Blackhole blackhole) {
+        for (EntityRef entity : entityManager.getEntitiesWith(MeshComponent.class, LocationComponent.class)) {
+            blackhole.consume(entity.getComponent(LocationComponent.class).getLocalPosition());
+            blackhole.consume(entity.getComponent(MeshComponent.class));
+        }
+    }
+
+    private PojoEntityManager createEntityManager() {
+        PojoEntityManager result = new PojoEntityManager();
+        result.setComponentLibrary(componentLibrary);
+        result.setPrefabManager(new PojoPrefabManager(context));
+        return result;
+    }
+}
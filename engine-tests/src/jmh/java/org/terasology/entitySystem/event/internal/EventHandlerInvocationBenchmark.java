@@ -0,0 +1,149 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.entitySystem.event.internal;
+
+import com.esotericsoftware.reflectasm.MethodAccess;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.reflections.Reflections;
+import org.terasology.context.internal.ContextImpl;
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.entity.internal.PojoEntityManager;
+import org.terasology.entitySystem.event.Event;
+import org.terasology.entitySystem.metadata.EntitySystemLibrary;
+import org.terasology.entitySystem.prefab.internal.PojoPrefabManager;
+import org.terasology.entitySystem.stubs.EntityRefComponent;
+import org.terasology.entitySystem.stubs.GetterSetterComponent;
+import org.terasology.entitySystem.stubs.IntegerComponent;
+import org.terasology.entitySystem.stubs.StringComponent;
+import org.terasology.entitySystem.systems.BaseComponentSystem;
+import org.terasology.persistence.typeHandling.TypeHandlerLibrary;
+import org.terasology.registry.CoreRegistry;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the ways of calling a {@code @ReceiveEvent} method with 0 to 4 component parameters: plain reflection,
+ * the reflectasm {@link MethodAccess} the event system used before, and the {@link EventHandlerInvoker} it uses now.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventHandlerInvocationBenchmark {
+
+    private static final List<Class<? extends Component>> COMPONENT_TYPES = Arrays.asList(StringComponent.class,
+            IntegerComponent.class, EntityRefComponent.class, GetterSetterComponent.class);
+
+    @Param({"0", "1", "2", "3", "4"})
+    private int componentParams;
+
+    private BenchmarkHandler handler;
+    private EntityRef entity;
+    private Event event;
+    private List<Class<? extends Component>> componentTypes;
+
+    private Method method;
+    private MethodAccess methodAccess;
+    private int methodIndex;
+    private EventHandlerInvoker invoker;
+
+    @Setup
+    public void setup() throws Exception {
+        ContextImpl context = new ContextImpl();
+        CoreRegistry.setContext(context);
+        TypeHandlerLibrary serializationLibrary = new TypeHandlerLibrary(new Reflections(getClass().getClassLoader()));
+        EntitySystemLibrary entitySystemLibrary = new EntitySystemLibrary(context, serializationLibrary);
+        PojoEntityManager entityManager = new PojoEntityManager();
+        entityManager.setComponentLibrary(entitySystemLibrary.getComponentLibrary());
+        entityManager.setPrefabManager(new PojoPrefabManager(context));
+        entity = entityManager.create(new StringComponent(), new IntegerComponent(), new EntityRefComponent(),
+                new GetterSetterComponent());
+
+        handler = new BenchmarkHandler();
+        event = new BenchmarkEvent();
+        componentTypes = COMPONENT_TYPES.subList(0, componentParams);
+        Class<?>[] parameterTypes = new Class<?>[componentParams + 2];
+        parameterTypes[0] = BenchmarkEvent.class;
+        parameterTypes[1] = EntityRef.class;
+        for (int i = 0; i < componentParams; ++i) {
+            parameterTypes[i + 2] = componentTypes.get(i);
+        }
+        method = BenchmarkHandler.class.getMethod("onEvent", parameterTypes);
+        methodAccess = MethodAccess.get(BenchmarkHandler.class);
+        methodIndex = methodAccess.getIndex("onEvent", parameterTypes);
+        invoker = EventHandlerInvoker.create(handler, method, componentTypes);
+    }
+
+    @Benchmark
+    public int reflected() throws Exception {
+        method.invoke(handler, createParams());
+        return handler.calls;
+    }
+
+    @Benchmark
+    public int byteCode() {
+        methodAccess.invoke(handler, methodIndex, createParams());
+        return handler.calls;
+    }
+
+    @Benchmark
+    public int generated() throws Throwable {
+        invoker.invoke(entity, event);
+        return handler.calls;
+    }
+
+    private Object[] createParams() {
+        Object[] params = new Object[2 + componentTypes.size()];
+        params[0] = event;
+        params[1] = entity;
+        for (int i = 0; i < componentTypes.size(); ++i) {
+            params[i + 2] = entity.getComponent(componentTypes.get(i));
+        }
+        return params;
+    }
+
+    public static class BenchmarkEvent implements Event {
+    }
+
+    public static class BenchmarkHandler extends BaseComponentSystem {
+        private int calls;
+
+        public void onEvent(BenchmarkEvent event, EntityRef entity) {
+            calls++;
+        }
+
+        public void onEvent(BenchmarkEvent event, EntityRef entity, StringComponent a) {
+            calls++;
+        }
+
+        public void onEvent(BenchmarkEvent event, EntityRef entity, StringComponent a, IntegerComponent b) {
+            calls++;
+        }
+
+        public void onEvent(BenchmarkEvent event, EntityRef entity, StringComponent a, IntegerComponent b,
+                            EntityRefComponent c) {
+            calls++;
+        }
+
+        public void onEvent(BenchmarkEvent event, EntityRef entity, StringComponent a, IntegerComponent b,
+                            EntityRefComponent c, GetterSetterComponent d) {
+            calls++;
+        }
+    }
+}
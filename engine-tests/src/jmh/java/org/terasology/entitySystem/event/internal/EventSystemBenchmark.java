@@ -0,0 +1,139 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.entitySystem.event.internal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.reflections.Reflections;
+import org.terasology.context.internal.ContextImpl;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.entity.internal.PojoEntityManager;
+import org.terasology.entitySystem.event.AbstractConsumableEvent;
+import org.terasology.entitySystem.event.Event;
+import org.terasology.entitySystem.event.ReceiveEvent;
+import org.terasology.entitySystem.metadata.EntitySystemLibrary;
+import org.terasology.entitySystem.prefab.internal.PojoPrefabManager;
+import org.terasology.entitySystem.stubs.IntegerComponent;
+import org.terasology.entitySystem.stubs.StringComponent;
+import org.terasology.entitySystem.systems.BaseComponentSystem;
+import org.terasology.network.NetworkMode;
+import org.terasology.network.NetworkSystem;
+import org.terasology.persistence.typeHandling.TypeHandlerLibrary;
+import org.terasology.recording.EventCatcher;
+import org.terasology.recording.RecordAndReplayCurrentStatus;
+import org.terasology.registry.CoreRegistry;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Sends events through the {@link EventSystemImpl} to entities, with a number of systems that each have a handler for
+ * a component of the entity and one for a component it lacks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventSystemBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int systems;
+
+    private EventSystemImpl eventSystem;
+    private EntityRef entity;
+    private EntityRef unhandledEntity;
+    private StringComponent component;
+    private BenchmarkSystem lastSystem;
+
+    @Setup
+    public void setup() {
+        ContextImpl context = new ContextImpl();
+        CoreRegistry.setContext(context);
+        TypeHandlerLibrary serializationLibrary = new TypeHandlerLibrary(new Reflections(getClass().getClassLoader()));
+        EntitySystemLibrary entitySystemLibrary = new EntitySystemLibrary(context, serializationLibrary);
+        PojoEntityManager entityManager = new PojoEntityManager();
+        entityManager.setComponentLibrary(entitySystemLibrary.getComponentLibrary());
+        entityManager.setPrefabManager(new PojoPrefabManager(context));
+        NetworkSystem networkSystem = mock(NetworkSystem.class);
+        when(networkSystem.getMode()).thenReturn(NetworkMode.NONE);
+        // Thread scoped state is set up by the benchmark thread, which the event system takes as its main thread
+        eventSystem = new EventSystemImpl(entitySystemLibrary.getEventLibrary(), networkSystem,
+                new EventCatcher(null, null), new RecordAndReplayCurrentStatus());
+        entityManager.setEventSystem(eventSystem);
+
+        for (int i = 0; i < systems; i++) {
+            lastSystem = new BenchmarkSystem();
+            eventSystem.registerEventHandler(lastSystem);
+        }
+        component = new StringComponent();
+        entity = entityManager.create(component);
+        unhandledEntity = entityManager.create(new IntegerComponent());
+    }
+
+    @Benchmark
+    public int send() {
+        eventSystem.send(entity, new BenchmarkEvent());
+        return lastSystem.received;
+    }
+
+    @Benchmark
+    public int sendToComponent() {
+        eventSystem.send(entity, new BenchmarkEvent(), component);
+        return lastSystem.received;
+    }
+
+    @Benchmark
+    public int sendWithoutReceivers() {
+        eventSystem.send(unhandledEntity, new BenchmarkEvent());
+        return lastSystem.received;
+    }
+
+    @Benchmark
+    public int sendConsumable() {
+        eventSystem.send(entity, new BenchmarkConsumableEvent());
+        return lastSystem.received;
+    }
+
+    public static class BenchmarkEvent implements Event {
+    }
+
+    public static class BenchmarkConsumableEvent extends AbstractConsumableEvent {
+    }
+
+    public static class BenchmarkSystem extends BaseComponentSystem {
+        private int received;
+
+        @ReceiveEvent(components = StringComponent.class)
+        public void onEvent(BenchmarkEvent event, EntityRef entity) {
+            received++;
+        }
+
+        @ReceiveEvent
+        public void onEventWithComponent(BenchmarkEvent event, EntityRef entity, StringComponent component) {
+            received++;
+        }
+
+        @ReceiveEvent(components = {StringComponent.class, IntegerComponent.class})
+        public void onEventWithMissingComponent(BenchmarkEvent event, EntityRef entity) {
+            received++;
+        }
+
+        @ReceiveEvent(components = StringComponent.class)
+        public void onConsumableEvent(BenchmarkConsumableEvent event, EntityRef entity) {
+            received++;
+        }
+    }
+}
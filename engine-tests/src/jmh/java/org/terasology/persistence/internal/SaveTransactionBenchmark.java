@@ -0,0 +1,132 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.persistence.internal;
+
+import com.google.common.collect.Lists;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.terasology.HeadlessEnvironment;
+import org.terasology.context.Context;
+import org.terasology.entitySystem.entity.internal.EngineEntityManager;
+import org.terasology.game.GameManifest;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.persistence.serializers.PrefabSerializer;
+import org.terasology.recording.RecordAndReplayCurrentStatus;
+import org.terasology.recording.RecordAndReplayUtils;
+import org.terasology.world.block.Block;
+import org.terasology.world.chunks.BenchmarkChunks;
+import org.terasology.world.chunks.internal.ChunkImpl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Saves 8 x 2 x 8 loaded chunks of hilly terrain into an empty save directory, for each chunk storage format and
+ * compression. Every save writes to a fresh directory, so the time covers compressing and writing all chunks.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class SaveTransactionBenchmark {
+
+    private static final int CHUNK_ZIP_WRITER_THREADS = 4;
+
+    @Param({"CHUNK_ZIPS", "CHUNK_REGIONS"})
+    private ChunkStorageFormat chunkStorageFormat;
+
+    @Param({"GZIP", "DEFLATE", "LZ4"})
+    private ChunkCompression chunkCompression;
+
+    private HeadlessEnvironment environment;
+    private EngineEntityManager entityManager;
+    private PrefabSerializer prefabSerializer;
+    private List<ChunkImpl> chunks;
+    private Path saveDirectory;
+    private SaveTransaction transaction;
+
+    @Setup
+    public void setup() throws IOException {
+        environment = BenchmarkChunks.createEnvironment();
+        Context context = environment.getContext();
+        entityManager = context.get(EngineEntityManager.class);
+        prefabSerializer = new PrefabSerializer(entityManager.getComponentLibrary(),
+                entityManager.getTypeSerializerLibrary());
+        Block grass = BenchmarkChunks.createBlock(context, "engine:benchmarkGrass", (byte) 0, false);
+        Block dirt = BenchmarkChunks.createBlock(context, "engine:benchmarkDirt", (byte) 0, false);
+
+        chunks = Lists.newArrayList();
+        for (int x = 0; x < 8; x++) {
+            for (int y = 0; y < 2; y++) {
+                for (int z = 0; z < 8; z++) {
+                    chunks.add(BenchmarkChunks.createTerrainChunk(context, new Vector3i(x, y, z), grass, dirt));
+                }
+            }
+        }
+        saveDirectory = Files.createTempDirectory("saveTransactionBenchmark");
+    }
+
+    @Setup(Level.Invocation)
+    public void createTransaction() throws IOException {
+        deleteContents(saveDirectory);
+        SaveTransactionBuilder builder = new SaveTransactionBuilder(entityManager,
+                new EntitySetDeltaRecorder(entityManager.getComponentLibrary()), chunkStorageFormat, chunkCompression,
+                CHUNK_ZIP_WRITER_THREADS, new StoragePathProvider(saveDirectory), new ReentrantLock(), null,
+                new RecordAndReplayUtils(), new RecordAndReplayCurrentStatus());
+        for (ChunkImpl chunk : chunks) {
+            builder.addLoadedChunk(chunk.getPosition(), chunk);
+        }
+        builder.setGlobalStoreBuilder(new GlobalStoreBuilder(entityManager, prefabSerializer));
+        builder.setGameManifest(new GameManifest("benchmark", "benchmark", 0));
+        transaction = builder.build();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        deleteContents(saveDirectory);
+        Files.delete(saveDirectory);
+        environment.close();
+    }
+
+    @Benchmark
+    public SaveTransactionResult save() {
+        transaction.run();
+        SaveTransactionResult result = transaction.getResult();
+        if (!result.isSuccess()) {
+            throw new IllegalStateException("Saving failed", result.getCatchedThrowable());
+        }
+        return result;
+    }
+
+    private static void deleteContents(Path directory) throws IOException {
+        List<Path> contents;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            contents = paths.filter(path -> !path.equals(directory))
+                    .sorted(Comparator.reverseOrder())
+                    .collect(Collectors.toList());
+        }
+        for (Path path : contents) {
+            Files.delete(path);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.reflection.reflect;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.terasology.entitySystem.stubs.GetterSetterComponent;
+import org.terasology.logic.common.DisplayNameComponent;
+import org.terasology.logic.location.LocationComponent;
+import org.terasology.math.geom.Vector3f;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares constructing objects and accessing fields, directly or through getters and setters, via the reflection
+ * and byte code {@link ReflectFactory}s.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReflectFactoryBenchmark {
+
+    @Param({"ReflectionReflectFactory", "ByteCodeReflectFactory"})
+    private String factoryType;
+
+    private ObjectConstructor<LocationComponent> constructor;
+    private FieldAccessor<DisplayNameComponent, String> fieldAccessor;
+    private FieldAccessor<GetterSetterComponent, Vector3f> getterSetterAccessor;
+    private DisplayNameComponent displayName = new DisplayNameComponent();
+    private GetterSetterComponent getterSetter = new GetterSetterComponent();
+    private Vector3f value = new Vector3f(1, 2, 3);
+
+    @Setup
+    public void setup() throws Exception {
+        ReflectFactory reflectFactory = "ByteCodeReflectFactory".equals(factoryType) ? new ByteCodeReflectFactory()
+                : new ReflectionReflectFactory();
+        constructor = reflectFactory.createConstructor(LocationComponent.class);
+        fieldAccessor = reflectFactory.createFieldAccessor(DisplayNameComponent.class,
+                DisplayNameComponent.class.getField("description"), String.class);
+        getterSetterAccessor = reflectFactory.createFieldAccessor(GetterSetterComponent.class,
+                GetterSetterComponent.class.getDeclaredField("value"), Vector3f.class);
+    }
+
+    @Benchmark
+    public LocationComponent construct() {
+        return constructor.construct();
+    }
+
+    @Benchmark
+    public String fieldAccess() {
+        fieldAccessor.setValue(displayName, "description");
+        return fieldAccessor.getValue(displayName);
+    }
+
+    @Benchmark
+    public Vector3f getterSetterAccess() {
+        getterSetterAccessor.setValue(getterSetter, value);
+        return getterSetterAccessor.getValue(getterSetter);
+    }
+}
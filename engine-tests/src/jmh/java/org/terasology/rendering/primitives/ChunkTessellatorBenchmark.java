@@ -0,0 +1,79 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.rendering.primitives;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.terasology.HeadlessEnvironment;
+import org.terasology.context.Context;
+import org.terasology.engine.subsystem.lwjgl.GLBufferPool;
+import org.terasology.math.Region3i;
+import org.terasology.math.TeraMath;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.ChunkView;
+import org.terasology.world.block.Block;
+import org.terasology.world.block.BlockManager;
+import org.terasology.world.chunks.BenchmarkChunks;
+import org.terasology.world.chunks.Chunk;
+import org.terasology.world.chunks.ChunkConstants;
+import org.terasology.world.internal.ChunkViewCoreImpl;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates the mesh of a chunk of hilly terrain, surrounded by its neighbours like on the mesh update threads.
+ * The mesh is only tessellated, it is never uploaded to the GPU.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChunkTessellatorBenchmark {
+
+    private HeadlessEnvironment environment;
+    private ChunkTessellator tessellator;
+    private ChunkView chunkView;
+
+    @Setup
+    public void setup() {
+        environment = BenchmarkChunks.createEnvironment();
+        Context context = environment.getContext();
+        Block grass = BenchmarkChunks.createBlock(context, "engine:benchmarkGrass", (byte) 0, false);
+        Block dirt = BenchmarkChunks.createBlock(context, "engine:benchmarkDirt", (byte) 0, false);
+
+        Region3i region = Region3i.createFromCenterExtents(Vector3i.zero(), ChunkConstants.LOCAL_REGION_EXTENTS);
+        Vector3i size = region.size();
+        Chunk[] chunks = new Chunk[size.x * size.y * size.z];
+        for (Vector3i position : region) {
+            Vector3i local = new Vector3i(position.x - region.minX(), position.y - region.minY(),
+                    position.z - region.minZ());
+            chunks[TeraMath.calculate3DArrayIndex(local, size)] =
+                    BenchmarkChunks.createTerrainChunk(context, position, grass, dirt);
+        }
+        Vector3i offset = new Vector3i(-region.minX(), -region.minY(), -region.minZ());
+        chunkView = new ChunkViewCoreImpl(chunks, region, offset,
+                context.get(BlockManager.class).getBlock(BlockManager.AIR_ID));
+        tessellator = new ChunkTessellator(new GLBufferPool(false));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        environment.close();
+    }
+
+    @Benchmark
+    public ChunkMesh generateMesh() {
+        return tessellator.generateMesh(chunkView, ChunkConstants.SIZE_Y, 0);
+    }
+}
@@ -0,0 +1,95 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.utilities.procedural;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares evaluating a 64 x 64 area and a 32 x 32 x 32 volume of noise one value at a time with the grid methods of
+ * {@link Noise}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NoiseBenchmark {
+
+    private static final int AREA_SIZE = 64;
+    private static final int VOLUME_SIZE = 32;
+    private static final float ORIGIN = 1234.5f;
+    private static final float STEP = 0.01f;
+
+    @Param({"SimplexNoise", "PerlinNoise", "BrownianNoise"})
+    private String noiseType;
+
+    private Noise noise;
+    private float[] area = new float[AREA_SIZE * AREA_SIZE];
+    private float[] volume = new float[VOLUME_SIZE * VOLUME_SIZE * VOLUME_SIZE];
+
+    @Setup
+    public void setup() {
+        switch (noiseType) {
+            case "SimplexNoise":
+                noise = new SimplexNoise(0xCAFE);
+                break;
+            case "PerlinNoise":
+                noise = new PerlinNoise(0xCAFE);
+                break;
+            case "BrownianNoise":
+                noise = new BrownianNoise(new PerlinNoise(0xCAFE), 8);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown noise type: " + noiseType);
+        }
+    }
+
+    @Benchmark
+    public float[] areaSingleValues() {
+        int index = 0;
+        for (int y = 0; y < AREA_SIZE; y++) {
+            for (int x = 0; x < AREA_SIZE; x++) {
+                area[index++] = noise.noise(ORIGIN + x * STEP, ORIGIN + y * STEP);
+            }
+        }
+        return area;
+    }
+
+    @Benchmark
+    public float[] areaGrid() {
+        noise.noise(area, ORIGIN, ORIGIN, STEP, STEP, AREA_SIZE, AREA_SIZE);
+        return area;
+    }
+
+    @Benchmark
+    public float[] volumeSingleValues() {
+        int index = 0;
+        for (int z = 0; z < VOLUME_SIZE; z++) {
+            for (int y = 0; y < VOLUME_SIZE; y++) {
+                for (int x = 0; x < VOLUME_SIZE; x++) {
+                    volume[index++] = noise.noise(ORIGIN + x * STEP, ORIGIN + y * STEP, ORIGIN + z * STEP);
+                }
+            }
+        }
+        return volume;
+    }
+
+    @Benchmark
+    public float[] volumeGrid() {
+        noise.noise(volume, ORIGIN, ORIGIN, ORIGIN, STEP, STEP, STEP, VOLUME_SIZE, VOLUME_SIZE, VOLUME_SIZE);
+        return volume;
+    }
+}
@@ -0,0 +1,80 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.world.chunks;
+
+import org.terasology.HeadlessEnvironment;
+import org.terasology.assets.ResourceUrn;
+import org.terasology.assets.management.AssetManager;
+import org.terasology.context.Context;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.naming.Name;
+import org.terasology.world.block.Block;
+import org.terasology.world.block.BlockManager;
+import org.terasology.world.block.family.SymmetricFamily;
+import org.terasology.world.block.loader.BlockFamilyDefinition;
+import org.terasology.world.block.loader.BlockFamilyDefinitionData;
+import org.terasology.world.block.shapes.BlockShape;
+import org.terasology.world.chunks.blockdata.ExtraBlockDataManager;
+import org.terasology.world.chunks.blockdata.TeraArray;
+import org.terasology.world.chunks.blockdata.TeraPaletteArray;
+import org.terasology.world.chunks.internal.ChunkImpl;
+
+/**
+ * Creates the blocks and chunks the world benchmarks work on, in a headless environment with the engine module.
+ */
+public final class BenchmarkChunks {
+
+    private BenchmarkChunks() {
+    }
+
+    public static HeadlessEnvironment createEnvironment() {
+        return new HeadlessEnvironment(new Name("engine"));
+    }
+
+    /**
+     * Registers a cube shaped block with the given properties.
+     */
+    public static Block createBlock(Context context, String uri, byte luminance, boolean translucent) {
+        AssetManager assetManager = context.get(AssetManager.class);
+        BlockFamilyDefinitionData data = new BlockFamilyDefinitionData();
+        data.getBaseSection().setDisplayName(uri);
+        data.getBaseSection().setShape(assetManager.getAsset("engine:cube", BlockShape.class).get());
+        data.getBaseSection().setLuminance(luminance);
+        data.getBaseSection().setTranslucent(translucent);
+        data.setBlockFamily(SymmetricFamily.class);
+        assetManager.loadAsset(new ResourceUrn(uri), data, BlockFamilyDefinition.class);
+        return context.get(BlockManager.class).getBlock(uri);
+    }
+
+    /**
+     * Creates a chunk of rolling hills, with air above the surface, a layer of the surface block and the ground block
+     * below. The result only depends on the position of the chunk.
+     */
+    public static ChunkImpl createTerrainChunk(Context context, Vector3i position, Block surface, Block ground) {
+        TeraArray blockData = new TeraPaletteArray(ChunkConstants.SIZE_X, ChunkConstants.SIZE_Y, ChunkConstants.SIZE_Z);
+        return createTerrainChunk(context, position, blockData, surface, ground);
+    }
+
+    /**
+     * Like {@link #createTerrainChunk(Context, Vector3i, Block, Block)}, with the given, empty, block storage.
+     */
+    public static ChunkImpl createTerrainChunk(Context context, Vector3i position, TeraArray blockData, Block surface,
+                                               Block ground) {
+        TeraArray[] extraData = context.get(ExtraBlockDataManager.class)
+                .makeDataArrays(ChunkConstants.SIZE_X, ChunkConstants.SIZE_Y, ChunkConstants.SIZE_Z);
+        ChunkImpl chunk = new ChunkImpl(position, blockData, extraData, context.get(BlockManager.class));
+        for (int x = 0; x < ChunkConstants.SIZE_X; x++) {
+            for (int z = 0; z < ChunkConstants.SIZE_Z; z++) {
+                int worldX = position.x * ChunkConstants.SIZE_X + x;
+                int worldZ = position.z * ChunkConstants.SIZE_Z + z;
+                int height = ChunkConstants.SIZE_Y / 2
+                        + (int) (8 * Math.sin(worldX * 0.2) + 6 * Math.cos(worldZ * 0.15));
+                for (int y = 0; y < height; y++) {
+                    chunk.setBlock(x, y, z, y == height - 1 ? surface : ground);
+                }
+            }
+        }
+        chunk.markReady();
+        return chunk;
+    }
+}
@@ -0,0 +1,93 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.world.chunks.blockdata;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.terasology.world.chunks.ChunkConstants;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads and writes every position of a chunk sized {@link TeraArray} of each implementation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TeraArrayBenchmark {
+
+    @Param({"TeraDenseArray4Bit", "TeraDenseArray8Bit", "TeraDenseArray16Bit", "TeraSparseArray4Bit",
+            "TeraSparseArray8Bit", "TeraSparseArray16Bit", "TeraPaletteArray"})
+    private String arrayType;
+
+    private TeraArray array;
+
+    @Setup
+    public void setup() {
+        array = createArray(arrayType);
+        // Give the sparse arrays a few inflated layers to work with
+        for (int y = 0; y < array.getSizeY(); y += 4) {
+            array.set(0, y, 0, 1);
+        }
+    }
+
+    @Benchmark
+    public void read(Blackhole blackhole) {
+        for (int y = 0; y < array.getSizeY(); y++) {
+            for (int z = 0; z < array.getSizeZ(); z++) {
+                for (int x = 0; x < array.getSizeX(); x++) {
+                    blackhole.consume(array.get(x, y, z));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public TeraArray write() {
+        for (int y = 0; y < array.getSizeY(); y++) {
+            for (int z = 0; z < array.getSizeZ(); z++) {
+                for (int x = 0; x < array.getSizeX(); x++) {
+                    array.set(x, y, z, (x + y + z) & 7);
+                }
+            }
+        }
+        return array;
+    }
+
+    static TeraArray createArray(String arrayType) {
+        int sizeX = ChunkConstants.SIZE_X;
+        int sizeY = ChunkConstants.SIZE_Y;
+        int sizeZ = ChunkConstants.SIZE_Z;
+        switch (arrayType) {
+            case "TeraDenseArray4Bit":
+                return new TeraDenseArray4Bit(sizeX, sizeY, sizeZ);
+            case "TeraDenseArray8Bit":
+                return new TeraDenseArray8Bit(sizeX, sizeY, sizeZ);
+            case "TeraDenseArray16Bit":
+                return new TeraDenseArray16Bit(sizeX, sizeY, sizeZ);
+            case "TeraSparseArray4Bit":
+                return new TeraSparseArray4Bit(sizeX, sizeY, sizeZ);
+            case "TeraSparseArray8Bit":
+                return new TeraSparseArray8Bit(sizeX, sizeY, sizeZ);
+            case "TeraSparseArray16Bit":
+                return new TeraSparseArray16Bit(sizeX, sizeY, sizeZ);
+            case "TeraPaletteArray":
+                return new TeraPaletteArray(sizeX, sizeY, sizeZ);
+            default:
+                throw new IllegalArgumentException("Unknown array type: " + arrayType);
+        }
+    }
+}
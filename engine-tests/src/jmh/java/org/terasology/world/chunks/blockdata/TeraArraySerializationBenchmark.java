@@ -0,0 +1,128 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.world.chunks.blockdata;
+
+import com.google.protobuf.ByteString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the ways of getting a serialized {@link TeraArray} into a buffer, a {@link ByteString} or a stream, and
+ * deserializes it again.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TeraArraySerializationBenchmark {
+
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    @Param({"TeraDenseArray8Bit", "TeraDenseArray16Bit", "TeraSparseArray8Bit", "TeraPaletteArray"})
+    private String arrayType;
+
+    private TeraArray array;
+    private TeraArray.SerializationHandler<TeraArray> handler;
+    private ByteBuffer buffer;
+    private ByteBuffer serialized;
+    private ByteArrayOutputStream out;
+    private WritableByteChannel channel;
+    private byte[] via;
+
+    @Setup
+    public void setup() {
+        array = TeraArrayBenchmark.createArray(arrayType);
+        // A ground layer with a few different blocks, like a typical generated chunk
+        for (int y = 0; y < array.getSizeY() / 2; y++) {
+            for (int z = 0; z < array.getSizeZ(); z++) {
+                for (int x = 0; x < array.getSizeX(); x++) {
+                    array.set(x, y, z, 1 + (x * 7 + y * 3 + z) % 5);
+                }
+            }
+        }
+        handler = createHandler(arrayType);
+        buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        serialized = handler.serialize(array);
+        out = new ByteArrayOutputStream(BUFFER_SIZE);
+        channel = Channels.newChannel(out);
+        via = new byte[BUFFER_SIZE];
+    }
+
+    @Benchmark
+    public ByteBuffer serializeToBuffer() {
+        buffer.rewind();
+        return handler.serialize(array, buffer);
+    }
+
+    @Benchmark
+    public ByteString serializeToByteString() {
+        buffer.rewind();
+        handler.serialize(array, buffer);
+        int length = buffer.position();
+        buffer.rewind();
+        return ByteString.copyFrom(buffer, length);
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream serializeToStreamViaByteArray() {
+        buffer.rewind();
+        handler.serialize(array, buffer);
+        int length = buffer.position();
+        buffer.rewind();
+        buffer.get(via, 0, length);
+        out.reset();
+        out.write(via, 0, length);
+        return out;
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream serializeToStreamViaChannel() throws IOException {
+        buffer.rewind();
+        handler.serialize(array, buffer);
+        buffer.flip();
+        out.reset();
+        channel.write(buffer);
+        buffer.clear();
+        return out;
+    }
+
+    @Benchmark
+    public TeraArray deserializeFromBuffer() {
+        serialized.rewind();
+        return handler.deserialize(serialized);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TeraArray.SerializationHandler<TeraArray> createHandler(String arrayType) {
+        switch (arrayType) {
+            case "TeraDenseArray8Bit":
+                return (TeraArray.SerializationHandler) new TeraDenseArray8Bit.SerializationHandler();
+            case "TeraDenseArray16Bit":
+                return (TeraArray.SerializationHandler) new TeraDenseArray16Bit.SerializationHandler();
+            case "TeraSparseArray8Bit":
+                return (TeraArray.SerializationHandler) new TeraSparseArray8Bit.SerializationHandler();
+            case "TeraPaletteArray":
+                return (TeraArray.SerializationHandler) new TeraPaletteArray.SerializationHandler();
+            default:
+                throw new IllegalArgumentException("Unknown array type: " + arrayType);
+        }
+    }
+}
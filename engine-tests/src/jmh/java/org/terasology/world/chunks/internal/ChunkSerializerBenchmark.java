@@ -0,0 +1,89 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.world.chunks.internal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.terasology.HeadlessEnvironment;
+import org.terasology.context.Context;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.protobuf.EntityData;
+import org.terasology.world.block.Block;
+import org.terasology.world.block.BlockManager;
+import org.terasology.world.chunks.BenchmarkChunks;
+import org.terasology.world.chunks.Chunk;
+import org.terasology.world.chunks.ChunkConstants;
+import org.terasology.world.chunks.blockdata.ExtraBlockDataManager;
+import org.terasology.world.chunks.blockdata.TeraArray;
+import org.terasology.world.chunks.blockdata.TeraDenseArray16Bit;
+import org.terasology.world.chunks.blockdata.TeraPaletteArray;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encodes a chunk of hilly terrain into the protobuf message it is stored and sent as, and decodes it again, for each
+ * kind of block storage.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChunkSerializerBenchmark {
+
+    @Param({"TeraPaletteArray", "TeraDenseArray16Bit"})
+    private String blockStorage;
+
+    private HeadlessEnvironment environment;
+    private BlockManager blockManager;
+    private ExtraBlockDataManager extraDataManager;
+    private ChunkImpl chunk;
+    private EntityData.ChunkStore message;
+
+    @Setup
+    public void setup() {
+        environment = BenchmarkChunks.createEnvironment();
+        Context context = environment.getContext();
+        blockManager = context.get(BlockManager.class);
+        extraDataManager = context.get(ExtraBlockDataManager.class);
+        Block grass = BenchmarkChunks.createBlock(context, "engine:benchmarkGrass", (byte) 0, false);
+        Block dirt = BenchmarkChunks.createBlock(context, "engine:benchmarkDirt", (byte) 0, false);
+
+        TeraArray blockData = "TeraDenseArray16Bit".equals(blockStorage)
+                ? new TeraDenseArray16Bit(ChunkConstants.SIZE_X, ChunkConstants.SIZE_Y, ChunkConstants.SIZE_Z)
+                : new TeraPaletteArray(ChunkConstants.SIZE_X, ChunkConstants.SIZE_Y, ChunkConstants.SIZE_Z);
+        chunk = BenchmarkChunks.createTerrainChunk(context, new Vector3i(1, 0, 2), blockData, grass, dirt);
+        message = chunk.encode().build();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        environment.close();
+    }
+
+    @Benchmark
+    public EntityData.ChunkStore encode() {
+        return chunk.encode().build();
+    }
+
+    @Benchmark
+    public byte[] encodeToBytes() {
+        return chunk.encode().build().toByteArray();
+    }
+
+    @Benchmark
+    public Chunk decode() {
+        return ChunkSerializer.decode(message, blockManager, extraDataManager);
+    }
+}
@@ -0,0 +1,107 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.world.chunks.localChunkProvider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.chunks.Chunk;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Looks up, iterates and replaces the chunks of a loaded area of 16 x 8 x 16 chunks in each {@link ChunkCache}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChunkCacheBenchmark {
+
+    private static final Vector3i AREA = new Vector3i(16, 8, 16);
+
+    @Param({"ConcurrentMapChunkCache", "PackedPositionChunkCache"})
+    private String cacheType;
+
+    private ChunkCache cache;
+    private Vector3i[] positions;
+    private Chunk chunk;
+
+    @Setup
+    public void setup() {
+        cache = "PackedPositionChunkCache".equals(cacheType) ? new PackedPositionChunkCache()
+                : new ConcurrentMapChunkCache();
+        chunk = mock(Chunk.class);
+        positions = new Vector3i[AREA.x * AREA.y * AREA.z];
+        int index = 0;
+        for (int x = 0; x < AREA.x; x++) {
+            for (int y = 0; y < AREA.y; y++) {
+                for (int z = 0; z < AREA.z; z++) {
+                    positions[index] = new Vector3i(x - AREA.x / 2, y - AREA.y / 2, z - AREA.z / 2);
+                    cache.put(positions[index], chunk);
+                    index++;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void getByPosition(Blackhole blackhole) {
+        for (Vector3i position : positions) {
+            blackhole.consume(cache.get(position));
+        }
+    }
+
+    @Benchmark
+    public void getByCoordinates(Blackhole blackhole) {
+        for (Vector3i position : positions) {
+            blackhole.consume(cache.get(position.x, position.y, position.z));
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void getByCoordinatesConcurrently(Blackhole blackhole) {
+        for (Vector3i position : positions) {
+            blackhole.consume(cache.get(position.x, position.y, position.z));
+        }
+    }
+
+    @Benchmark
+    public void forEachChunkPosition(Blackhole blackhole) {
+        cache.forEachChunkPosition(position -> {
+            blackhole.consume(position);
+            return true;
+        });
+    }
+
+    /**
+     * Unloads and reloads a layer of chunks, like the player moving through the world does.
+     */
+    @Benchmark
+    public ChunkCache removeAndPut() {
+        int layer = AREA.y * AREA.z;
+        for (int i = 0; i < layer; i++) {
+            cache.removeChunkAt(positions[i]);
+        }
+        for (int i = 0; i < layer; i++) {
+            cache.put(positions[i], chunk);
+        }
+        return cache;
+    }
+}
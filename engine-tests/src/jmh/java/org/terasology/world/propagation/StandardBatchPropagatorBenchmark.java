@@ -0,0 +1,116 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.world.propagation;
+
+import com.google.common.collect.Lists;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.terasology.HeadlessEnvironment;
+import org.terasology.context.Context;
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.block.Block;
+import org.terasology.world.block.BlockManager;
+import org.terasology.world.chunks.BenchmarkChunks;
+import org.terasology.world.chunks.ChunkConstants;
+import org.terasology.world.propagation.light.LightPropagationRules;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Places light sources in a room with pillars and removes them again, with each kind of propagation queue of the
+ * {@link StandardBatchPropagator}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StandardBatchPropagatorBenchmark {
+
+    private static final int TORCHES = 16;
+
+    @Param({"LINKED_SETS", "PACKED"})
+    private PropagationQueueType queueType;
+
+    private HeadlessEnvironment environment;
+    private StubPropagatorWorldView worldView;
+    private BatchPropagator propagator;
+    private Block air;
+    private Block torch;
+    private List<BlockChange> placeTorch;
+    private List<BlockChange> removeTorch;
+    private List<BlockChange> placeTorches;
+    private List<BlockChange> removeTorches;
+
+    @Setup
+    public void setup() {
+        environment = BenchmarkChunks.createEnvironment();
+        Context context = environment.getContext();
+        air = context.get(BlockManager.class).getBlock(BlockManager.AIR_ID);
+        torch = BenchmarkChunks.createBlock(context, "engine:benchmarkTorch", ChunkConstants.MAX_LIGHT, true);
+        Block stone = BenchmarkChunks.createBlock(context, "engine:benchmarkStone", (byte) 0, false);
+
+        Region3i region = Region3i.createFromMinMax(
+                new Vector3i(-ChunkConstants.SIZE_X, -ChunkConstants.SIZE_Y, -ChunkConstants.SIZE_Z),
+                new Vector3i(2 * ChunkConstants.SIZE_X, 2 * ChunkConstants.SIZE_Y, 2 * ChunkConstants.SIZE_Z));
+        worldView = new StubPropagatorWorldView(region, air);
+        for (int x = -24; x <= 24; x += 6) {
+            for (int z = -24; z <= 24; z += 6) {
+                for (int y = -8; y <= 8; y++) {
+                    worldView.setBlockAt(new Vector3i(x + 3, y, z + 3), stone);
+                }
+            }
+        }
+        propagator = new StandardBatchPropagator(new LightPropagationRules(), worldView, queueType);
+
+        placeTorch = Lists.newArrayList(new BlockChange(new org.joml.Vector3i(), air, torch));
+        removeTorch = Lists.newArrayList(new BlockChange(new org.joml.Vector3i(), torch, air));
+        placeTorches = Lists.newArrayList();
+        removeTorches = Lists.newArrayList();
+        for (int i = 0; i < TORCHES; i++) {
+            org.joml.Vector3i position = new org.joml.Vector3i((i % 4) * 6 - 12, 0, (i / 4) * 6 - 12);
+            placeTorches.add(new BlockChange(position, air, torch));
+            removeTorches.add(new BlockChange(position, torch, air));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        environment.close();
+    }
+
+    @Benchmark
+    public StubPropagatorWorldView placeAndRemoveLight() {
+        apply(placeTorch, torch);
+        apply(removeTorch, air);
+        return worldView;
+    }
+
+    @Benchmark
+    public StubPropagatorWorldView placeAndRemoveLightsInBatch() {
+        apply(placeTorches, torch);
+        apply(removeTorches, air);
+        return worldView;
+    }
+
+    private void apply(List<BlockChange> changes, Block block) {
+        for (BlockChange change : changes) {
+            worldView.setBlockAt(new Vector3i(change.getPosition().x(), change.getPosition().y(),
+                    change.getPosition().z()), block);
+        }
+        propagator.process(changes);
+    }
+}
@@ -0,0 +1,152 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.systems.BaseComponentSystem;
+import org.terasology.entitySystem.systems.ComponentAccess;
+import org.terasology.entitySystem.systems.UpdateSubscriberSystem;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UpdateSubscriberSchedulerTest {
+
+    @Test
+    public void testConflictingSystemsAreStagedInRegistrationOrder() {
+        UpdateSubscriberSystem readsA = new ReadsA();
+        UpdateSubscriberSystem readsA2 = new ReadsA();
+        UpdateSubscriberSystem writesB = new WritesB();
+        UpdateSubscriberSystem writesA = new WritesA();
+        UpdateSubscriberSystem undeclared = new Undeclared();
+        UpdateSubscriberSystem writesB2 = new WritesB();
+
+        List<List<UpdateSubscriberSystem>> stages = UpdateSubscriberScheduler.buildStages(
+                Arrays.asList(readsA, readsA2, writesB, writesA, undeclared, writesB2));
+
+        assertEquals(Arrays.asList(
+                Arrays.asList(readsA, readsA2, writesB),
+                Collections.singletonList(writesA),
+                Collections.singletonList(undeclared),
+                Collections.singletonList(writesB2)), stages);
+    }
+
+    @Test
+    public void testEverySystemIsUpdatedOnce() {
+        List<String> updates = Collections.synchronizedList(Lists.newArrayList());
+        UpdateSubscriberScheduler scheduler = new UpdateSubscriberScheduler();
+        scheduler.setParallel(true);
+        for (int i = 0; i < 8; i++) {
+            scheduler.add(new RecordingSystem("reader" + i, updates));
+        }
+        scheduler.add(new RecordingUndeclaredSystem("last", updates));
+
+        try {
+            scheduler.update(0.1f);
+        } finally {
+            scheduler.clear();
+        }
+
+        assertEquals(9, updates.size());
+        assertEquals("last", updates.get(8));
+        for (int i = 0; i < 8; i++) {
+            assertTrue(updates.contains("reader" + i));
+        }
+    }
+
+    @Test
+    public void testFailuresOfParallelSystemsArePropagated() {
+        IllegalStateException failure = new IllegalStateException("failed update");
+        UpdateSubscriberScheduler scheduler = new UpdateSubscriberScheduler();
+        scheduler.setParallel(true);
+        scheduler.add(new ReadsA());
+        scheduler.add(new FailingSystem(failure));
+
+        try {
+            RuntimeException thrown = assertThrows(RuntimeException.class, () -> scheduler.update(0.1f));
+            assertSame(failure.getClass(), thrown.getClass());
+        } finally {
+            scheduler.clear();
+        }
+    }
+
+    private static class ComponentA implements Component {
+    }
+
+    private static class ComponentB implements Component {
+    }
+
+    @ComponentAccess(reads = ComponentA.class)
+    private static class ReadsA extends BaseComponentSystem implements UpdateSubscriberSystem {
+        @Override
+        public void update(float delta) {
+        }
+    }
+
+    @ComponentAccess(writes = ComponentA.class)
+    private static class WritesA extends BaseComponentSystem implements UpdateSubscriberSystem {
+        @Override
+        public void update(float delta) {
+        }
+    }
+
+    @ComponentAccess(writes = ComponentB.class)
+    private static class WritesB extends BaseComponentSystem implements UpdateSubscriberSystem {
+        @Override
+        public void update(float delta) {
+        }
+    }
+
+    private static class Undeclared extends BaseComponentSystem implements UpdateSubscriberSystem {
+        @Override
+        public void update(float delta) {
+        }
+    }
+
+    @ComponentAccess(reads = ComponentB.class)
+    private static class FailingSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
+        private final RuntimeException failure;
+
+        FailingSystem(RuntimeException failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public void update(float delta) {
+            throw failure;
+        }
+    }
+
+    @ComponentAccess(reads = ComponentA.class)
+    private static class RecordingSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
+        private final String name;
+        private final List<String> updates;
+
+        RecordingSystem(String name, List<String> updates) {
+            this.name = name;
+            this.updates = updates;
+        }
+
+        @Override
+        public void update(float delta) {
+            updates.add(name);
+        }
+    }
+
+    /**
+     * {@link ComponentAccess} is not inherited, so this system does not declare the components it accesses.
+     */
+    private static class RecordingUndeclaredSystem extends RecordingSystem {
+        RecordingUndeclaredSystem(String name, List<String> updates) {
+            super(name, updates);
+        }
+    }
+}
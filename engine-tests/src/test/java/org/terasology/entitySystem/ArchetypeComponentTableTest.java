@@ -0,0 +1,137 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.entitySystem;
+
+import gnu.trove.iterator.TLongIterator;
+import gnu.trove.iterator.TLongObjectIterator;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
+import org.junit.jupiter.api.Test;
+import org.terasology.entitySystem.entity.internal.ArchetypeComponentTable;
+import org.terasology.entitySystem.stubs.EntityRefComponent;
+import org.terasology.entitySystem.stubs.IntegerComponent;
+import org.terasology.entitySystem.stubs.StringComponent;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ArchetypeComponentTableTest {
+
+    private ArchetypeComponentTable table = new ArchetypeComponentTable();
+
+    @Test
+    public void testPutAndGet() {
+        StringComponent stringComponent = new StringComponent("a");
+        IntegerComponent integerComponent = new IntegerComponent(1);
+        assertNull(table.put(1, stringComponent));
+        assertNull(table.put(1, integerComponent));
+
+        assertSame(stringComponent, table.get(1, StringComponent.class));
+        assertSame(integerComponent, table.get(1, IntegerComponent.class));
+        assertNull(table.get(1, EntityRefComponent.class));
+        assertNull(table.get(2, StringComponent.class));
+    }
+
+    @Test
+    public void testPutReplacesComponent() {
+        StringComponent first = new StringComponent("a");
+        StringComponent second = new StringComponent("b");
+        table.put(1, first);
+
+        assertSame(first, table.put(1, second));
+        assertSame(second, table.get(1, StringComponent.class));
+        assertEquals(1, table.getComponentCount(StringComponent.class));
+    }
+
+    @Test
+    public void testRemoveKeepsOtherEntitiesIntact() {
+        for (long id = 1; id <= 3; id++) {
+            table.put(id, new StringComponent(Long.toString(id)));
+            table.put(id, new IntegerComponent((int) id));
+        }
+
+        IntegerComponent removed = (IntegerComponent) table.remove(1, IntegerComponent.class);
+        assertEquals(1, removed.value);
+        assertNull(table.get(1, IntegerComponent.class));
+        assertEquals("1", table.get(1, StringComponent.class).value);
+        assertEquals(2, table.get(2, IntegerComponent.class).value);
+        assertEquals(3, table.get(3, IntegerComponent.class).value);
+        assertEquals("3", table.get(3, StringComponent.class).value);
+
+        table.remove(1, StringComponent.class);
+        assertTrue(table.getComponentsInNewList(1).isEmpty());
+        assertEquals(2, table.numEntities());
+    }
+
+    @Test
+    public void testRemoveAndReturnComponentsOf() {
+        StringComponent stringComponent = new StringComponent("a");
+        IntegerComponent integerComponent = new IntegerComponent(1);
+        table.put(1, stringComponent);
+        table.put(1, integerComponent);
+        table.put(2, new StringComponent("b"));
+
+        assertEquals(2, table.removeAndReturnComponentsOf(1).size());
+        assertNull(table.get(1, StringComponent.class));
+        assertEquals("b", table.get(2, StringComponent.class).value);
+        assertEquals(1, table.numEntities());
+    }
+
+    @Test
+    public void testEntityIdIteratorMatchesAllComponents() {
+        table.put(1, new StringComponent("a"));
+        table.put(2, new StringComponent("b"));
+        table.put(2, new IntegerComponent(2));
+        table.put(3, new IntegerComponent(3));
+        table.put(3, new StringComponent("c"));
+        table.put(3, new EntityRefComponent());
+
+        TLongSet matches = new TLongHashSet();
+        TLongIterator iterator = table.entityIdIterator(Arrays.asList(StringComponent.class, IntegerComponent.class));
+        while (iterator.hasNext()) {
+            matches.add(iterator.next());
+        }
+        assertEquals(new TLongHashSet(new long[]{2, 3}), matches);
+        assertEquals(3, table.getEntityCount(Collections.singletonList(StringComponent.class)));
+        assertEquals(1, table.getEntityCount(Collections.singletonList(EntityRefComponent.class)));
+    }
+
+    @Test
+    public void testIterateComponentPairs() {
+        table.put(1, new StringComponent("a"));
+        table.put(2, new StringComponent("b"));
+        table.put(2, new IntegerComponent(2));
+        table.put(3, new IntegerComponent(3));
+
+        TLongSet visited = new TLongHashSet();
+        table.iterateComponents(StringComponent.class, IntegerComponent.class, (entityId, first, second) -> {
+            assertEquals("b", first.value);
+            assertEquals(2, second.value);
+            visited.add(entityId);
+        });
+        assertEquals(new TLongHashSet(new long[]{2}), visited);
+    }
+
+    @Test
+    public void testComponentIterator() {
+        table.put(1, new IntegerComponent(1));
+        table.put(2, new IntegerComponent(2));
+        table.put(2, new StringComponent("b"));
+
+        TLongSet visited = new TLongHashSet();
+        TLongObjectIterator<IntegerComponent> iterator = table.componentIterator(IntegerComponent.class);
+        while (iterator.hasNext()) {
+            iterator.advance();
+            assertEquals(iterator.key(), iterator.value().value);
+            visited.add(iterator.key());
+        }
+        assertEquals(new TLongHashSet(new long[]{1, 2}), visited);
+        assertFalse(table.componentIterator(EntityRefComponent.class).hasNext());
+    }
+}
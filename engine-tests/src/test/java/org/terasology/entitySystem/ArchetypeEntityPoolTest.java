@@ -0,0 +1,120 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.entitySystem;
+
+import com.google.common.collect.Sets;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.terasology.assets.AssetFactory;
+import org.terasology.assets.management.AssetManager;
+import org.terasology.assets.module.ModuleAwareAssetTypeManager;
+import org.terasology.config.Config;
+import org.terasology.context.Context;
+import org.terasology.context.internal.ContextImpl;
+import org.terasology.engine.bootstrap.EntitySystemSetupUtil;
+import org.terasology.engine.module.ModuleManager;
+import org.terasology.entitySystem.entity.EntityManager;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.entity.internal.ArchetypeEntityPool;
+import org.terasology.entitySystem.entity.internal.PojoEntityManager;
+import org.terasology.entitySystem.prefab.Prefab;
+import org.terasology.entitySystem.prefab.PrefabData;
+import org.terasology.entitySystem.prefab.internal.PojoPrefab;
+import org.terasology.entitySystem.stubs.IntegerComponent;
+import org.terasology.entitySystem.stubs.StringComponent;
+import org.terasology.network.NetworkSystem;
+import org.terasology.recording.RecordAndReplayCurrentStatus;
+import org.terasology.registry.CoreRegistry;
+import org.terasology.testUtil.ModuleManagerFactory;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class ArchetypeEntityPoolTest {
+
+    private static Context context;
+    private PojoEntityManager entityManager;
+    private ArchetypeEntityPool pool;
+
+    @BeforeAll
+    public static void setupClass() throws Exception {
+        context = new ContextImpl();
+        ModuleManager moduleManager = ModuleManagerFactory.create();
+        context.put(ModuleManager.class, moduleManager);
+        ModuleAwareAssetTypeManager assetTypeManager = new ModuleAwareAssetTypeManager();
+        assetTypeManager.registerCoreAssetType(Prefab.class,
+                (AssetFactory<Prefab, PrefabData>) PojoPrefab::new, "prefabs");
+        assetTypeManager.switchEnvironment(moduleManager.getEnvironment());
+        context.put(AssetManager.class, assetTypeManager.getAssetManager());
+        context.put(RecordAndReplayCurrentStatus.class, new RecordAndReplayCurrentStatus());
+        Config config = new Config(context);
+        config.loadDefaults();
+        config.getSystem().setArchetypeEntityStorageEnabled(true);
+        context.put(Config.class, config);
+        CoreRegistry.setContext(context);
+    }
+
+    @BeforeEach
+    public void setup() {
+        context.put(NetworkSystem.class, mock(NetworkSystem.class));
+        EntitySystemSetupUtil.addReflectionBasedLibraries(context);
+        EntitySystemSetupUtil.addEntityManagementRelatedClasses(context);
+        entityManager = (PojoEntityManager) context.get(EntityManager.class);
+        // Selected by the config
+        pool = (ArchetypeEntityPool) entityManager.getGlobalPool();
+    }
+
+    @Test
+    public void testCreateAndDestroy() {
+        EntityRef entity = entityManager.create(new StringComponent("a"), new IntegerComponent(1));
+        assertTrue(pool.contains(entity.getId()));
+        assertEquals(1, entityManager.getCountOfEntitiesWith(StringComponent.class, IntegerComponent.class));
+
+        entity.destroy();
+
+        assertFalse(pool.contains(entity.getId()));
+        assertEquals(0, entityManager.getCountOfEntitiesWith(StringComponent.class));
+        assertFalse(pool.getEntitiesWith(StringComponent.class).iterator().hasNext());
+    }
+
+    @Test
+    public void testGetEntitiesWith() {
+        EntityRef stringEntity = entityManager.create(new StringComponent("a"));
+        EntityRef bothEntity = entityManager.create(new StringComponent("b"), new IntegerComponent(2));
+        EntityRef integerEntity = entityManager.create(new IntegerComponent(3));
+
+        assertEquals(Sets.newHashSet(stringEntity, bothEntity), entitiesWith(StringComponent.class));
+        assertEquals(Sets.newHashSet(bothEntity, integerEntity), entitiesWith(IntegerComponent.class));
+        assertEquals(Sets.newHashSet(bothEntity), entitiesWith(StringComponent.class, IntegerComponent.class));
+        assertEquals(Sets.newHashSet(stringEntity, bothEntity, integerEntity), entitiesWith());
+        assertEquals(2, pool.getCountOfEntitiesWith(new Class[]{StringComponent.class}));
+    }
+
+    @Test
+    public void testMovingEntityBetweenArchetypes() {
+        EntityRef entity = entityManager.create(new StringComponent("a"));
+
+        entity.addComponent(new IntegerComponent(1));
+        assertEquals(Sets.newHashSet(entity), entitiesWith(StringComponent.class, IntegerComponent.class));
+        assertEquals("a", entity.getComponent(StringComponent.class).value);
+
+        entity.removeComponent(StringComponent.class);
+        assertTrue(entitiesWith(StringComponent.class).isEmpty());
+        assertEquals(Sets.newHashSet(entity), entitiesWith(IntegerComponent.class));
+        assertEquals(1, entity.getComponent(IntegerComponent.class).value);
+
+        entity.addComponent(new StringComponent("b"));
+        assertEquals(Sets.newHashSet(entity), entitiesWith(StringComponent.class, IntegerComponent.class));
+        assertEquals("b", entity.getComponent(StringComponent.class).value);
+    }
+
+    @SafeVarargs
+    private final Set<EntityRef> entitiesWith(Class<? extends Component>... componentClasses) {
+        return Sets.newHashSet(pool.getEntitiesWith(componentClasses));
+    }
+}
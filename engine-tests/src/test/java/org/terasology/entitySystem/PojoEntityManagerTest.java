@@ -58,6 +58,7 @@
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -392,6 +393,22 @@ public void testDestructionOfUnloadedEntitiesPrevented() {
         assertTrue(entity.exists());
     }
 
+    @Test
+    public void testRefReusedWhenEntityRestored() {
+        PojoEntityPool pool = (PojoEntityPool) entityManager.getGlobalPool();
+        int loadedRefs = pool.getLoadedRefCount();
+        EntityRef entity = entityManager.create(new StringComponent());
+        assertEquals(loadedRefs + 1, pool.getLoadedRefCount());
+
+        entityManager.deactivateForStorage(entity);
+        assertEquals(loadedRefs, pool.getLoadedRefCount());
+
+        EntityRef restored = entityManager.createEntityWithId(entity.getId(),
+                Collections.<Component>singletonList(new StringComponent()));
+        assertSame(entity, restored);
+        assertEquals(loadedRefs + 1, pool.getLoadedRefCount());
+    }
+
     @Test
     public void testMoveToPool() {
         EntityRef entity = entityManager.create();
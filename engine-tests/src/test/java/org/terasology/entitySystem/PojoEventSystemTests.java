@@ -132,6 +132,25 @@ public void testSendEventToEntityComponent() {
         assertEquals(entity, handler.receivedList.get(0).entity);
     }
 
+    @Test
+    public void testHandlerSelectionFollowsComponentChanges() {
+        entity.addComponent(new StringComponent());
+
+        TestEventHandler handler = new TestEventHandler();
+        eventSystem.registerEventHandler(handler);
+
+        entity.send(new TestEvent());
+        assertEquals(1, handler.receivedList.size());
+
+        entity.addComponent(new IntegerComponent());
+        entity.send(new TestEvent());
+        assertEquals(3, handler.receivedList.size());
+
+        entity.removeComponent(StringComponent.class);
+        entity.send(new TestEvent());
+        assertEquals(4, handler.receivedList.size());
+    }
+
     @Test
     public void testNoReceiveEventWhenMissingComponents() {
         entity.addComponent(new StringComponent());
@@ -0,0 +1,107 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.logic.characters;
+
+import org.junit.jupiter.api.Test;
+import org.terasology.math.geom.Quat4f;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.math.geom.Vector3i;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CharacterStateCodecTest {
+
+    @Test
+    public void testFullStateRoundTrip() {
+        CharacterStateSnapshot state = CharacterStateSnapshot.quantize(walkingState(1000, 10, 12.3f));
+
+        assertEquals(state, CharacterStateCodec.decode(CharacterStateCodec.encode(state, null), null));
+    }
+
+    @Test
+    public void testDeltaRoundTrip() {
+        CharacterStateSnapshot baseline = CharacterStateSnapshot.quantize(walkingState(1000, 10, 12.3f));
+        CharacterStateEvent event = walkingState(1050, 11, 12.5f);
+        event.setMode(MovementMode.CLIMBING);
+        event.setClimbDirection(new Vector3i(1, 0, 0));
+        CharacterStateSnapshot state = CharacterStateSnapshot.quantize(event);
+
+        assertEquals(state, CharacterStateCodec.decode(CharacterStateCodec.encode(state, baseline), baseline));
+    }
+
+    @Test
+    public void testDeltaIsSmallerThanFullState() {
+        CharacterStateSnapshot baseline = CharacterStateSnapshot.quantize(walkingState(1000, 10, 12.3f));
+        CharacterStateSnapshot walked = CharacterStateSnapshot.quantize(walkingState(1050, 11, 12.5f));
+        CharacterStateSnapshot stood = CharacterStateSnapshot.quantize(walkingState(1050, 11, 12.3f));
+
+        int full = CharacterStateCodec.encode(walked, null).length;
+        int delta = CharacterStateCodec.encode(walked, baseline).length;
+        assertTrue(delta < full / 2, "delta of " + delta + " bytes, full state of " + full + " bytes");
+        assertTrue(CharacterStateCodec.encode(stood, baseline).length <= 4);
+    }
+
+    @Test
+    public void testQuantizationPrecision() {
+        CharacterStateEvent event = walkingState(1000, 10, 12.3f);
+        CharacterStateEvent decoded = CharacterStateSnapshot.quantize(event).toEvent();
+
+        assertEquals(event.getPosition().x, decoded.getPosition().x, 1f / 256);
+        assertEquals(event.getVelocity().z, decoded.getVelocity().z, 1f / 256);
+        assertEquals(event.getYaw(), decoded.getYaw(), 0.01f);
+        assertEquals(event.getTime(), decoded.getTime());
+        assertEquals(event.getSequenceNumber(), decoded.getSequenceNumber());
+        assertSame(event.getMode(), decoded.getMode());
+        assertNull(decoded.getClimbDirection());
+
+        Quat4f rotation = event.getRotation();
+        Quat4f decodedRotation = decoded.getRotation();
+        float dot = rotation.getX() * decodedRotation.getX() + rotation.getY() * decodedRotation.getY()
+                + rotation.getZ() * decodedRotation.getZ() + rotation.getW() * decodedRotation.getW();
+        assertEquals(1f, Math.abs(dot), 0.001f);
+    }
+
+    @Test
+    public void testNegatedRotationIsTheSame() {
+        Quat4f rotation = new Quat4f(0.1f, -0.7f, 0.1f, 0.7f);
+        Quat4f negated = new Quat4f(-0.1f, 0.7f, -0.1f, -0.7f);
+
+        assertEquals(CharacterStateSnapshot.packRotation(rotation), CharacterStateSnapshot.packRotation(negated));
+    }
+
+    @Test
+    public void testTruncatedDataIsRejected() {
+        CharacterStateSnapshot state = CharacterStateSnapshot.quantize(walkingState(1000, 10, 12.3f));
+        byte[] data = CharacterStateCodec.encode(state, null);
+        byte[] truncated = new byte[data.length - 1];
+        System.arraycopy(data, 0, truncated, 0, truncated.length);
+
+        assertThrows(IllegalArgumentException.class, () -> CharacterStateCodec.decode(truncated, null));
+    }
+
+    @Test
+    public void testHistoryKeepsLatestStates() {
+        CharacterStateHistory history = new CharacterStateHistory(4);
+        CharacterStateSnapshot state = CharacterStateSnapshot.quantize(walkingState(1000, 10, 12.3f));
+        for (int i = 0; i < 6; i++) {
+            assertEquals(i + 1, history.add(state));
+        }
+
+        assertEquals(6, history.getLatestId());
+        assertNull(history.get(0));
+        assertNull(history.get(2));
+        assertSame(state, history.get(3));
+        assertSame(state, history.get(6));
+        assertNull(history.get(7));
+    }
+
+    private static CharacterStateEvent walkingState(long time, int sequenceNumber, float x) {
+        return new CharacterStateEvent(time, sequenceNumber, new Vector3f(x, 40.5f, -7.25f),
+                new Quat4f(0, 0.38268343f, 0, 0.9238795f), new Vector3f(4f, 0, -0.3f), 45.2f, -10f,
+                MovementMode.WALKING, true);
+    }
+}
@@ -0,0 +1,104 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.logic.characters;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.terasology.math.geom.Quat4f;
+import org.terasology.math.geom.Vector3f;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class CharacterStateJitterBufferTest {
+
+    private static final long MIN_DELAY = 100;
+    private static final long MAX_DELAY = 150;
+    private static final long INTERVAL = 50;
+
+    private CharacterStateJitterBuffer buffer;
+
+    @BeforeEach
+    public void setup() {
+        buffer = new CharacterStateJitterBuffer(MIN_DELAY, MAX_DELAY);
+    }
+
+    @Test
+    public void testConstantTransitTimeHasNoJitter() {
+        for (int i = 1; i <= 100; i++) {
+            buffer.add(state(i * INTERVAL), i * INTERVAL + 30);
+        }
+
+        assertEquals(0, buffer.getJitter(), 0.001f);
+        assertEquals(10000 - MIN_DELAY, buffer.getRenderTime(10000));
+        assertEquals(20000 - MIN_DELAY, buffer.getRenderTime(20000));
+    }
+
+    @Test
+    public void testJitterIsEstimatedFromTransitTimeVariation() {
+        // The transit time alternates between 10 and 50 ms
+        for (int i = 1; i <= 100; i++) {
+            buffer.add(state(i * INTERVAL), i * INTERVAL + (i % 2 == 0 ? 10 : 50));
+        }
+
+        assertEquals(40, buffer.getJitter(), 0.5f);
+    }
+
+    @Test
+    public void testDelayFollowsJitterSlowlyAndIsClamped() {
+        for (int i = 1; i <= 100; i++) {
+            buffer.add(state(i * INTERVAL), i * INTERVAL + (i % 2 == 0 ? 10 : 50));
+        }
+
+        // The jitter asks for more than the maximum delay, which is reached at 0.1 ms per ms
+        assertEquals(10000 - MIN_DELAY, buffer.getRenderTime(10000));
+        assertEquals(10100 - 110, buffer.getRenderTime(10100));
+        assertEquals(10200 - 120, buffer.getRenderTime(10200));
+        assertEquals(20000 - MAX_DELAY, buffer.getRenderTime(20000));
+        assertEquals(MAX_DELAY, buffer.getDelay());
+
+        // Without jitter, the delay drops back to the minimum just as slowly
+        for (int i = 101; i <= 300; i++) {
+            buffer.add(state(i * INTERVAL), i * INTERVAL + 30);
+        }
+        assertEquals(20100 - 140, buffer.getRenderTime(20100));
+        assertEquals(30000 - MIN_DELAY, buffer.getRenderTime(30000));
+    }
+
+    @Test
+    public void testOlderStatesAreDropped() {
+        CharacterStateEvent newer = state(200);
+        buffer.add(newer, 230);
+        buffer.add(state(100), 240);
+
+        assertNull(buffer.getStateBefore(150));
+        assertSame(newer, buffer.getStateBefore(250));
+    }
+
+    @Test
+    public void testRemoveBeforeKeepsStateToInterpolateFrom() {
+        CharacterStateEvent[] states = new CharacterStateEvent[4];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = state((i + 1) * 100);
+            buffer.add(states[i], (i + 1) * 100 + 30);
+        }
+
+        buffer.removeBefore(50);
+        assertSame(states[0], buffer.getStateBefore(100));
+
+        buffer.removeBefore(250);
+        assertNull(buffer.getStateBefore(150));
+        assertSame(states[1], buffer.getStateBefore(250));
+        assertSame(states[2], buffer.getStateAfter(250));
+
+        buffer.removeBefore(1000);
+        assertSame(states[3], buffer.getStateBefore(1000));
+        assertNull(buffer.getStateAfter(1000));
+    }
+
+    private static CharacterStateEvent state(long time) {
+        return new CharacterStateEvent(time, (int) time, new Vector3f(), new Quat4f(0, 0, 0, 1), new Vector3f(), 0, 0,
+                MovementMode.WALKING, true);
+    }
+}
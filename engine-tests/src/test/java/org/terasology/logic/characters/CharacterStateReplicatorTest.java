@@ -0,0 +1,166 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.logic.characters;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.math.geom.Quat4f;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.network.Client;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CharacterStateReplicatorTest {
+
+    private CharacterStateReplicator replicator;
+    private EntityRef character;
+    private Client first;
+    private Client second;
+    private List<Client> clients;
+    private long time;
+
+    @BeforeEach
+    public void setup() {
+        replicator = new CharacterStateReplicator();
+        character = mock(EntityRef.class);
+        first = mockClient(false);
+        second = mockClient(false);
+        clients = Lists.newArrayList(first, second);
+    }
+
+    @Test
+    public void testFirstStateIsSentInFull() {
+        CharacterStateEvent state = nextState();
+        replicator.replicate(character, state, clients);
+
+        CharacterStateDeltaEvent event = lastSent(first);
+        assertEquals(1, event.getSnapshotId());
+        assertEquals(0, event.getBaselineId());
+        assertEquals(CharacterStateSnapshot.quantize(state), CharacterStateCodec.decode(event.getData(), null));
+    }
+
+    @Test
+    public void testStateIsEncodedAgainstAcknowledgedState() {
+        CharacterStateEvent baseline = nextState();
+        replicator.replicate(character, baseline, clients);
+        replicator.acknowledge(first.getEntity(), character, 1);
+        CharacterStateEvent state = nextState();
+        replicator.replicate(character, state, clients);
+
+        CharacterStateDeltaEvent event = lastSent(first);
+        assertEquals(2, event.getSnapshotId());
+        assertEquals(1, event.getBaselineId());
+        assertEquals(CharacterStateSnapshot.quantize(state), CharacterStateCodec.decode(event.getData(),
+                CharacterStateSnapshot.quantize(baseline)));
+        assertEquals(0, lastSent(second).getBaselineId());
+    }
+
+    @Test
+    public void testClientsOnTheSameBaselineShareTheEncoding() {
+        replicator.replicate(character, nextState(), clients);
+        assertSame(lastSent(first).getData(), lastSent(second).getData());
+
+        replicator.acknowledge(first.getEntity(), character, 1);
+        replicator.replicate(character, nextState(), clients);
+        assertNotSame(lastSent(first).getData(), lastSent(second).getData());
+
+        replicator.acknowledge(second.getEntity(), character, 1);
+        replicator.replicate(character, nextState(), clients);
+        assertEquals(1, lastSent(second).getBaselineId());
+        assertSame(lastSent(first).getData(), lastSent(second).getData());
+    }
+
+    @Test
+    public void testEvictedBaselineFallsBackToFullState() {
+        replicator.replicate(character, nextState(), clients);
+        replicator.acknowledge(first.getEntity(), character, 1);
+
+        // Snapshot 1 stays in the history until the snapshot that replaces it is added
+        for (int i = 0; i < CharacterStateReplicator.HISTORY_SIZE - 1; i++) {
+            replicator.replicate(character, nextState(), clients);
+        }
+        assertEquals(1, lastSent(first).getBaselineId());
+
+        CharacterStateEvent state = nextState();
+        replicator.replicate(character, state, clients);
+        CharacterStateDeltaEvent event = lastSent(first);
+        assertEquals(CharacterStateReplicator.HISTORY_SIZE + 1, event.getSnapshotId());
+        assertEquals(0, event.getBaselineId());
+        assertEquals(CharacterStateSnapshot.quantize(state), CharacterStateCodec.decode(event.getData(), null));
+    }
+
+    @Test
+    public void testAcknowledgingSnapshotZeroRequestsFullState() {
+        replicator.replicate(character, nextState(), clients);
+        replicator.acknowledge(first.getEntity(), character, 1);
+        replicator.replicate(character, nextState(), clients);
+        assertEquals(1, lastSent(first).getBaselineId());
+
+        replicator.acknowledge(first.getEntity(), character, 0);
+        CharacterStateEvent state = nextState();
+        replicator.replicate(character, state, clients);
+        CharacterStateDeltaEvent event = lastSent(first);
+        assertEquals(0, event.getBaselineId());
+        assertEquals(CharacterStateSnapshot.quantize(state), CharacterStateCodec.decode(event.getData(), null));
+
+        // After recovering, the client gets deltas again
+        replicator.acknowledge(first.getEntity(), character, 3);
+        replicator.replicate(character, nextState(), clients);
+        assertEquals(3, lastSent(first).getBaselineId());
+    }
+
+    @Test
+    public void testUnknownAndOlderAcknowledgementsAreIgnored() {
+        replicator.replicate(character, nextState(), clients);
+        replicator.replicate(character, nextState(), clients);
+        replicator.acknowledge(first.getEntity(), character, 2);
+        replicator.acknowledge(first.getEntity(), character, 1);
+        replicator.acknowledge(second.getEntity(), character, 5);
+
+        replicator.replicate(character, nextState(), clients);
+        assertEquals(2, lastSent(first).getBaselineId());
+        assertEquals(0, lastSent(second).getBaselineId());
+    }
+
+    @Test
+    public void testLocalClientIsSkipped() {
+        Client local = mockClient(true);
+        clients.add(local);
+
+        replicator.replicate(character, nextState(), clients);
+        verify(local, never()).send(any(), any());
+    }
+
+    private CharacterStateEvent nextState() {
+        time += 50;
+        return new CharacterStateEvent(time, (int) time, new Vector3f(time / 100f, 40.5f, -7.25f),
+                new Quat4f(0, 0, 0, 1), new Vector3f(2f, 0, 0), 45.2f, -10f, MovementMode.WALKING, true);
+    }
+
+    private CharacterStateDeltaEvent lastSent(Client client) {
+        ArgumentCaptor<CharacterStateDeltaEvent> sent = ArgumentCaptor.forClass(CharacterStateDeltaEvent.class);
+        verify(client, atLeastOnce()).send(sent.capture(), any());
+        return sent.getValue();
+    }
+
+    private static Client mockClient(boolean local) {
+        Client client = mock(Client.class);
+        EntityRef clientEntity = mock(EntityRef.class);
+        when(client.getEntity()).thenReturn(clientEntity);
+        when(client.isLocal()).thenReturn(local);
+        return client;
+    }
+}
@@ -0,0 +1,69 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.logic.characters;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+import org.terasology.math.AABB;
+import org.terasology.math.geom.Quat4f;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.network.LagCompensatedEvent;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ServerCharacterPredictionSystemTest {
+
+    private static final Vector3f EXTENTS = new Vector3f(0.3f, 1.6f, 0.3f);
+
+    @Test
+    public void testFindStateBefore() {
+        List<CharacterStateEvent> states = Lists.newArrayList(state(100, 0), state(150, 0), state(150, 0),
+                state(200, 0));
+
+        assertEquals(-1, ServerCharacterPredictionSystem.findStateBefore(states, 99));
+        assertEquals(0, ServerCharacterPredictionSystem.findStateBefore(states, 100));
+        assertEquals(0, ServerCharacterPredictionSystem.findStateBefore(states, 149));
+        assertEquals(2, ServerCharacterPredictionSystem.findStateBefore(states, 150));
+        assertEquals(3, ServerCharacterPredictionSystem.findStateBefore(states, 1000));
+        assertEquals(-1, ServerCharacterPredictionSystem.findStateBefore(Collections.emptyList(), 100));
+    }
+
+    @Test
+    public void testInterpolatedTrajectoryInRegion() {
+        List<CharacterStateEvent> states = Lists.newArrayList(state(100, 0), state(200, 10), state(300, 20));
+        AABB region = AABB.createMinMax(new Vector3f(14, -1, -1), new Vector3f(16, 1, 1));
+
+        assertFalse(ServerCharacterPredictionSystem.mayBeInRegion(states, 150, EXTENTS, region));
+        assertTrue(ServerCharacterPredictionSystem.mayBeInRegion(states, 250, EXTENTS, region));
+        assertFalse(ServerCharacterPredictionSystem.mayBeInRegion(states, 50, EXTENTS, region));
+    }
+
+    @Test
+    public void testExtrapolatedTrajectoryInRegion() {
+        CharacterStateEvent last = state(100, 0);
+        last.setVelocity(new Vector3f(10, 0, 0));
+        List<CharacterStateEvent> states = Lists.newArrayList(last);
+        AABB region = AABB.createMinMax(new Vector3f(4, -1, -1), new Vector3f(5, 1, 1));
+
+        assertFalse(ServerCharacterPredictionSystem.mayBeInRegion(states, 200, EXTENTS, region));
+        assertTrue(ServerCharacterPredictionSystem.mayBeInRegion(states, 600, EXTENTS, region));
+    }
+
+    @Test
+    public void testRayRegion() {
+        AABB region = LagCompensatedEvent.createRayRegion(new Vector3f(1, 2, 3), new Vector3f(0, 0, -2), 5);
+
+        assertEquals(new Vector3f(1, 2, -2), region.getMin());
+        assertEquals(new Vector3f(1, 2, 3), region.getMax());
+    }
+
+    private static CharacterStateEvent state(long time, float x) {
+        return new CharacterStateEvent(time, 0, new Vector3f(x, 0, 0), new Quat4f(0, 0, 0, 1), new Vector3f(), 0, 0,
+                MovementMode.WALKING, true);
+    }
+}
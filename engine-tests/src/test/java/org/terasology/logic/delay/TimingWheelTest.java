@@ -0,0 +1,86 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.logic.delay;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimingWheelTest {
+
+    @Test
+    public void testTimersExpireInOrderOfTheirDeadlines() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000);
+        wheel.schedule("third", 1000 + 70_000);
+        wheel.schedule("first", 1000 + 5);
+        wheel.schedule("second", 1000 + 300);
+        List<String> expired = Lists.newArrayList();
+
+        wheel.advance(1004, expired);
+        assertTrue(expired.isEmpty());
+
+        wheel.advance(1000 + 100_000, expired);
+        assertEquals(Arrays.asList("first", "second", "third"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testCancelledTimersDoNotExpire() {
+        TimingWheel<String> wheel = new TimingWheel<>(0);
+        TimingWheel.Timer<String> cancelled = wheel.schedule("cancelled", 5000);
+        wheel.schedule("kept", 5000);
+        wheel.cancel(cancelled);
+        wheel.cancel(cancelled);
+        List<String> expired = Lists.newArrayList();
+
+        wheel.advance(10_000, expired);
+
+        assertEquals(Collections.singletonList("kept"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testPastDeadlinesExpireAtTheNextAdvance() {
+        TimingWheel<String> wheel = new TimingWheel<>(0);
+        List<String> expired = Lists.newArrayList();
+        wheel.advance(500, expired);
+
+        wheel.schedule("late", 100);
+        wheel.advance(501, expired);
+
+        assertEquals(Collections.singletonList("late"), expired);
+    }
+
+    @Test
+    public void testRandomTimersMatchTheirDeadlines() {
+        Random random = new Random(7);
+        TimingWheel<Long> wheel = new TimingWheel<>(0);
+        List<Long> deadlines = Lists.newArrayList();
+        for (int i = 0; i < 2000; i++) {
+            long deadline = random.nextInt(4) == 0 ? random.nextInt(100) : (long) random.nextInt(1 << 30) * 8;
+            deadlines.add(deadline);
+            wheel.schedule(deadline, deadline);
+        }
+        Collections.sort(deadlines);
+
+        List<Long> expired = Lists.newArrayList();
+        long time = 0;
+        while (wheel.size() > 0) {
+            time += 1 + random.nextInt(1 << 28);
+            int before = expired.size();
+            wheel.advance(time, expired);
+            for (int i = before; i < expired.size(); i++) {
+                assertTrue(expired.get(i) <= time);
+            }
+            assertTrue(expired.size() == deadlines.size() || deadlines.get(expired.size()) > time);
+        }
+        assertEquals(deadlines, expired);
+    }
+}
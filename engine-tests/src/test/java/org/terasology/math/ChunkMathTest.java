@@ -105,4 +105,20 @@ public void testFloatingPointCalcChunkPos() {
         assertTrue(ChunkMath.calcChunkPos(-.1f, -.99f, 2f, temp).equals(-1, -1, 0), temp.toString());
     }
 
+    @Test
+    public void testPackChunkPos() {
+        int[] coordinates = {0, 1, -1, 17, -4000, (1 << 20) - 1, -(1 << 20)};
+        for (int x : coordinates) {
+            for (int y : coordinates) {
+                for (int z : coordinates) {
+                    long packed = ChunkMath.packChunkPos(x, y, z);
+                    assertTrue(packed >= 0);
+                    assertEquals(x, ChunkMath.unpackChunkPosX(packed));
+                    assertEquals(y, ChunkMath.unpackChunkPosY(packed));
+                    assertEquals(z, ChunkMath.unpackChunkPosZ(packed));
+                }
+            }
+        }
+        assertEquals(new Vector3i(3, -2, 1), ChunkMath.unpackChunkPos(ChunkMath.packChunkPos(new Vector3i(3, -2, 1))));
+    }
 }
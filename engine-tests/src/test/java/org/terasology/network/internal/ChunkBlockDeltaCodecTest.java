@@ -0,0 +1,111 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.network.internal;
+
+import gnu.trove.map.TIntIntMap;
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.protobuf.NetData;
+import org.terasology.world.block.Block;
+import org.terasology.world.block.BlockManager;
+import org.terasology.world.chunks.ChunkConstants;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ChunkBlockDeltaCodecTest {
+    private static final short AIR_ID = 0;
+    private static final short STONE_ID = 1;
+    private static final short DIRT_ID = 2;
+
+    private BlockManager blockManager;
+    private Block air;
+    private Block stone;
+    private Block dirt;
+
+    @BeforeEach
+    public void setup() {
+        air = new Block();
+        stone = new Block();
+        dirt = new Block();
+        blockManager = mock(BlockManager.class);
+        when(blockManager.getBlock(AIR_ID)).thenReturn(air);
+        when(blockManager.getBlock(STONE_ID)).thenReturn(stone);
+        when(blockManager.getBlock(DIRT_ID)).thenReturn(dirt);
+    }
+
+    @Test
+    public void testFilledAreaIsEncodedAsFewRuns() {
+        Vector3i chunkPos = new Vector3i(-1, 0, 2);
+        TIntIntMap changes = new TIntIntHashMap();
+        Map<Vector3i, Block> expected = new HashMap<>();
+        for (int y = 10; y < 20; y++) {
+            for (int z = 0; z < ChunkConstants.SIZE_Z; z++) {
+                for (int x = 0; x < ChunkConstants.SIZE_X; x++) {
+                    short id = y < 15 ? AIR_ID : STONE_ID;
+                    changes.put(ChunkBlockDeltaCodec.blockIndex(x, y, z), id);
+                    expected.put(worldPos(chunkPos, x, y, z), y < 15 ? air : stone);
+                }
+            }
+        }
+
+        NetData.ChunkBlockDeltaMessage message = ChunkBlockDeltaCodec.encode(chunkPos, changes);
+
+        assertEquals(2, message.getPaletteCount());
+        assertEquals(2 * 3, message.getRunsCount());
+        assertEquals(expected, decode(message));
+    }
+
+    @Test
+    public void testScatteredChangesRoundTrip() {
+        Vector3i chunkPos = new Vector3i(3, -2, 0);
+        TIntIntMap changes = new TIntIntHashMap();
+        Map<Vector3i, Block> expected = new HashMap<>();
+        for (int i = 0; i < 500; i++) {
+            int x = (i * 7) % ChunkConstants.SIZE_X;
+            int y = (i * 13) % ChunkConstants.SIZE_Y;
+            int z = (i * 3) % ChunkConstants.SIZE_Z;
+            short id = (short) (i % 3);
+            changes.put(ChunkBlockDeltaCodec.blockIndex(x, y, z), id);
+            expected.put(worldPos(chunkPos, x, y, z), id == AIR_ID ? air : id == STONE_ID ? stone : dirt);
+        }
+
+        NetData.ChunkBlockDeltaMessage message = ChunkBlockDeltaCodec.encode(chunkPos, changes);
+
+        assertEquals(3, message.getPaletteCount());
+        assertEquals(expected, decode(message));
+    }
+
+    @Test
+    public void testInvalidRunsAreRejected() {
+        NetData.ChunkBlockDeltaMessage.Builder builder = NetData.ChunkBlockDeltaMessage.newBuilder()
+                .setChunkPos(NetMessageUtil.convert(new Vector3i()))
+                .addPalette(STONE_ID);
+        NetData.ChunkBlockDeltaMessage incomplete = builder.clone().addRuns(0).addRuns(1).build();
+        NetData.ChunkBlockDeltaMessage outOfChunk = builder.clone()
+                .addRuns(0).addRuns(Integer.MAX_VALUE).addRuns(0).build();
+        NetData.ChunkBlockDeltaMessage unknownPaletteEntry = builder.clone().addRuns(0).addRuns(1).addRuns(1).build();
+
+        assertThrows(IllegalArgumentException.class, () -> decode(incomplete));
+        assertThrows(IllegalArgumentException.class, () -> decode(outOfChunk));
+        assertThrows(IllegalArgumentException.class, () -> decode(unknownPaletteEntry));
+    }
+
+    private Map<Vector3i, Block> decode(NetData.ChunkBlockDeltaMessage message) {
+        Map<Vector3i, Block> result = new HashMap<>();
+        ChunkBlockDeltaCodec.decode(message, blockManager, result);
+        return result;
+    }
+
+    private static Vector3i worldPos(Vector3i chunkPos, int x, int y, int z) {
+        return new Vector3i(chunkPos.x * ChunkConstants.SIZE_X + x, chunkPos.y * ChunkConstants.SIZE_Y + y,
+                chunkPos.z * ChunkConstants.SIZE_Z + z);
+    }
+}
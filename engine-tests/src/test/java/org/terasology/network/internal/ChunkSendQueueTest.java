@@ -0,0 +1,69 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.network.internal;
+
+import org.junit.jupiter.api.Test;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.chunks.Chunk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class ChunkSendQueueTest {
+
+    @Test
+    public void testChunksArePolledClosestFirst() {
+        ChunkSendQueue queue = new ChunkSendQueue();
+        Chunk far = mock(Chunk.class);
+        Chunk near = mock(Chunk.class);
+        Chunk center = mock(Chunk.class);
+        queue.add(new Vector3i(5, 0, 0), far);
+        queue.add(new Vector3i(0, 1, 0), near);
+        queue.add(new Vector3i(0, 0, 0), center);
+
+        assertSame(center, queue.poll());
+        assertSame(near, queue.poll());
+        assertSame(far, queue.poll());
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testOrderFollowsTheCenter() {
+        ChunkSendQueue queue = new ChunkSendQueue();
+        Chunk west = mock(Chunk.class);
+        Chunk east = mock(Chunk.class);
+        queue.add(new Vector3i(-4, 0, 0), west);
+        queue.add(new Vector3i(4, 0, 0), east);
+
+        queue.setCenter(new Vector3i(3, 0, 0));
+        assertSame(east, queue.poll());
+
+        queue.add(new Vector3i(4, 0, 0), east);
+        queue.setCenter(new Vector3i(-3, 0, 0));
+        assertSame(west, queue.poll());
+        assertSame(east, queue.poll());
+    }
+
+    @Test
+    public void testRemovedAndReplacedChunks() {
+        ChunkSendQueue queue = new ChunkSendQueue();
+        Chunk removed = mock(Chunk.class);
+        Chunk replaced = mock(Chunk.class);
+        Chunk replacement = mock(Chunk.class);
+        queue.add(new Vector3i(1, 0, 0), removed);
+        queue.add(new Vector3i(2, 0, 0), replaced);
+        queue.add(new Vector3i(2, 0, 0), replacement);
+        queue.remove(new Vector3i(1, 0, 0));
+        queue.remove(new Vector3i(1, 0, 0));
+        queue.add(new Vector3i(1, 0, 0), removed);
+        queue.remove(new Vector3i(1, 0, 0));
+
+        assertEquals(1, queue.size());
+        assertSame(replacement, queue.poll());
+        assertNull(queue.poll());
+    }
+}
@@ -0,0 +1,103 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.network.internal;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.stubs.IntegerComponent;
+import org.terasology.entitySystem.stubs.StringComponent;
+import org.terasology.protobuf.EntityData;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class EntityDeltaCacheTest {
+
+    private static final Set<Class<? extends Component>> NONE = Collections.emptySet();
+    private static final Set<Class<? extends Component>> STRING = ImmutableSet.of(StringComponent.class);
+
+    private EntityDeltaCache cache;
+    private AtomicInteger serializations;
+
+    @BeforeEach
+    public void setup() {
+        cache = new EntityDeltaCache();
+        serializations = new AtomicInteger();
+    }
+
+    @Test
+    public void testSameChangesAreSerializedOnce() {
+        EntityData.PackedEntity first = cache.get(1, false, NONE, STRING, NONE, serializer());
+        EntityData.PackedEntity second = cache.get(1, false, NONE, Sets.newHashSet(STRING), NONE, serializer());
+
+        assertSame(first, second);
+        assertEquals(1, serializations.get());
+        assertEquals(1, cache.getHitsSinceLastCall());
+        assertEquals(1, cache.getMissesSinceLastCall());
+        assertEquals(0, cache.getHitsSinceLastCall());
+        assertEquals(0, cache.getMissesSinceLastCall());
+    }
+
+    @Test
+    public void testOwnershipAndChangesAreSerializedSeparately() {
+        cache.get(1, false, NONE, STRING, NONE, serializer());
+        cache.get(1, true, NONE, STRING, NONE, serializer());
+        cache.get(1, false, NONE, ImmutableSet.of(StringComponent.class, IntegerComponent.class), NONE, serializer());
+        cache.get(1, false, NONE, NONE, STRING, serializer());
+        cache.get(2, false, NONE, STRING, NONE, serializer());
+
+        assertEquals(5, serializations.get());
+        assertEquals(0, cache.getHitsSinceLastCall());
+    }
+
+    @Test
+    public void testEmptyUpdatesAreCached() {
+        Supplier<EntityData.PackedEntity> empty = () -> {
+            serializations.incrementAndGet();
+            return null;
+        };
+        assertNull(cache.get(1, false, NONE, STRING, NONE, empty));
+        assertNull(cache.get(1, false, NONE, STRING, NONE, empty));
+        assertEquals(1, serializations.get());
+    }
+
+    @Test
+    public void testCopiesTheComponentSets() {
+        Set<Class<? extends Component>> changed = Sets.newHashSet(STRING);
+        cache.get(1, false, NONE, changed, NONE, serializer());
+        changed.clear();
+
+        cache.get(1, false, NONE, STRING, NONE, serializer());
+        assertEquals(1, serializations.get());
+    }
+
+    @Test
+    public void testInvalidateAndClear() {
+        cache.get(1, false, NONE, STRING, NONE, serializer());
+        cache.get(2, false, NONE, STRING, NONE, serializer());
+        cache.invalidate(1);
+        cache.get(1, false, NONE, STRING, NONE, serializer());
+        cache.get(2, false, NONE, STRING, NONE, serializer());
+        assertEquals(3, serializations.get());
+
+        cache.clear();
+        cache.get(2, false, NONE, STRING, NONE, serializer());
+        assertEquals(4, serializations.get());
+    }
+
+    private Supplier<EntityData.PackedEntity> serializer() {
+        return () -> {
+            serializations.incrementAndGet();
+            return EntityData.PackedEntity.newBuilder().build();
+        };
+    }
+}
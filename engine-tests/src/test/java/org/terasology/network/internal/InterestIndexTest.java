@@ -0,0 +1,168 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.network.internal;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InterestIndexTest {
+
+    private static final String NEAR_CLIENT = "near";
+    private static final String FAR_CLIENT = "far";
+
+    private InterestIndex<String> index;
+
+    @BeforeEach
+    public void setup() {
+        index = new InterestIndex<>(64, 16);
+        index.setArea(NEAR_CLIENT, 0, 0, 128, 32);
+        index.setArea(FAR_CLIENT, 1000, 0, 128, 32);
+    }
+
+    @Test
+    public void testRanges() {
+        index.setPosition(1, 20, 20);
+        index.setPosition(2, 0, 100);
+        index.setPosition(3, -130, 0);
+        index.setPosition(4, 200, 0);
+
+        assertEquals(InterestIndex.Range.NEAR, index.getRange(NEAR_CLIENT, 1));
+        assertEquals(InterestIndex.Range.FAR, index.getRange(NEAR_CLIENT, 2));
+        assertEquals(InterestIndex.Range.MARGIN, index.getRange(NEAR_CLIENT, 3));
+        assertEquals(InterestIndex.Range.OUTSIDE, index.getRange(NEAR_CLIENT, 4));
+        assertNull(index.getRange(NEAR_CLIENT, 5));
+        assertNull(index.getRange("unknown", 1));
+    }
+
+    @Test
+    public void testInterestedClients() {
+        index.setPosition(1, 10, 0);
+        index.setPosition(2, 900, 0);
+        index.setPosition(3, 500, 0);
+
+        assertEquals(singleClient(NEAR_CLIENT, true), interestedClients(1));
+        assertEquals(singleClient(FAR_CLIENT, false), interestedClients(2));
+        assertTrue(interestedClients(3).isEmpty());
+        assertFalse(index.forEachInterestedClient(4, (client, near) -> { }));
+    }
+
+    @Test
+    public void testEntitiesInArea() {
+        index.setPosition(1, 10, 0);
+        index.setPosition(2, -100, -60);
+        index.setPosition(3, -130, 0);
+        index.setPosition(4, 1000, 0);
+
+        assertEquals(Sets.newHashSet(1, 2), entitiesInArea(NEAR_CLIENT));
+        assertEquals(Sets.newHashSet(4), entitiesInArea(FAR_CLIENT));
+    }
+
+    @Test
+    public void testMovingEntitiesAndAreas() {
+        index.setPosition(1, 10, 0);
+        index.setPosition(1, 990, 0);
+        assertEquals(singleClient(FAR_CLIENT, true), interestedClients(1));
+        assertTrue(entitiesInArea(NEAR_CLIENT).isEmpty());
+
+        index.setArea(NEAR_CLIENT, 900, 0, 128, 32);
+        assertEquals(2, interestedClients(1).size());
+        assertEquals(Sets.newHashSet(1), entitiesInArea(NEAR_CLIENT));
+
+        index.removeArea(FAR_CLIENT);
+        assertEquals(singleClient(NEAR_CLIENT, false), interestedClients(1));
+
+        index.removePosition(1);
+        assertFalse(index.hasPosition(1));
+        assertTrue(entitiesInArea(NEAR_CLIENT).isEmpty());
+    }
+
+    @Test
+    public void testNegativeCoordinates() {
+        index.setArea(NEAR_CLIENT, -1000, -1000, 50, 10);
+        index.setPosition(1, -1040, -1000);
+        index.setPosition(2, -1000, -955);
+
+        assertEquals(Sets.newHashSet(1, 2), entitiesInArea(NEAR_CLIENT));
+        assertEquals(singleClient(NEAR_CLIENT, false), interestedClients(1));
+    }
+
+    @Test
+    public void testChangedCellsOfArea() {
+        index.setPosition(1, 10, 0);
+        index.setPosition(2, 140, 0);
+        index.setPosition(3, 300, 0);
+
+        // The first refresh covers every entity the area overlaps
+        assertEquals(Sets.newHashSet(1, 2), entitiesInChangedCells(NEAR_CLIENT));
+        assertTrue(entitiesInChangedCells(NEAR_CLIENT).isEmpty());
+
+        // Only the cells along the edges of the old and the new area are checked, not the cells within both areas
+        // or beyond the margin of both
+        index.setArea(NEAR_CLIENT, 100, 0, 128, 32);
+        assertEquals(Sets.newHashSet(2), entitiesInChangedCells(NEAR_CLIENT));
+        assertTrue(entitiesInChangedCells(NEAR_CLIENT).isEmpty());
+
+        index.setArea(NEAR_CLIENT, 100, 0, 200, 32);
+        assertEquals(Sets.newHashSet(3), entitiesInChangedCells(NEAR_CLIENT));
+    }
+
+    @Test
+    public void testMovedEntities() {
+        index.setPosition(1, 10, 0);
+        index.setPosition(2, 20, 0);
+        index.setPosition(3, 30, 0);
+        assertEquals(Sets.newHashSet(1, 2, 3), movedEntities());
+        assertTrue(movedEntities().isEmpty());
+
+        index.setPosition(1, 11, 0);
+        index.setPosition(2, 20, 0);
+        index.setPosition(3, 300, 0);
+        assertEquals(Sets.newHashSet(1, 3), movedEntities());
+
+        index.setPosition(1, 12, 0);
+        index.removePosition(1);
+        index.markMoved(2);
+        index.markMoved(4);
+        assertEquals(Sets.newHashSet(2), movedEntities());
+    }
+
+    private Map<String, Boolean> interestedClients(int netId) {
+        Map<String, Boolean> result = Maps.newHashMap();
+        index.forEachInterestedClient(netId, result::put);
+        return result;
+    }
+
+    private Set<Integer> entitiesInArea(String client) {
+        Set<Integer> result = Sets.newHashSet();
+        index.forEachEntityInArea(client, result::add);
+        return result;
+    }
+
+    private Set<Integer> entitiesInChangedCells(String client) {
+        Set<Integer> result = Sets.newHashSet();
+        index.forEachEntityInChangedCells(client, result::add);
+        return result;
+    }
+
+    private Set<Integer> movedEntities() {
+        Set<Integer> result = Sets.newHashSet();
+        index.forEachMovedEntity(result::add);
+        return result;
+    }
+
+    private static Map<String, Boolean> singleClient(String client, boolean near) {
+        Map<String, Boolean> result = Maps.newHashMap();
+        result.put(client, near);
+        return result;
+    }
+}
@@ -0,0 +1,221 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.network.internal;
+
+import com.google.common.collect.Sets;
+import com.google.protobuf.ByteString;
+import org.jboss.netty.buffer.ChannelBuffers;
+import org.jboss.netty.channel.Channel;
+import org.jboss.netty.channel.ChannelHandlerContext;
+import org.jboss.netty.channel.ChannelPipeline;
+import org.jboss.netty.channel.MessageEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.terasology.TerasologyTestingEnvironment;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.metadata.EventLibrary;
+import org.terasology.identity.PublicIdentityCertificate;
+import org.terasology.logic.location.LocationComponent;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.network.NetworkComponent;
+import org.terasology.persistence.serializers.EventSerializer;
+import org.terasology.persistence.serializers.NetworkEntitySerializer;
+import org.terasology.protobuf.EntityData;
+import org.terasology.protobuf.NetData;
+import org.terasology.world.chunks.Chunk;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class NetClientTest extends TerasologyTestingEnvironment {
+
+    private static final int FAR_ENTITY_UPDATE_INTERVAL = 3;
+    private static final int NEAR_ENTITY = 1;
+    private static final int FAR_ENTITY = 2;
+    /** The bandwidth per client in kbit/s, 1000 bytes per net tick */
+    private static final int BANDWIDTH = 160;
+    private static final int BYTES_PER_TICK = 1000;
+    private static final int CHUNK_DATA_SIZE = 400;
+
+    private Channel channel;
+    private NetworkSystemImpl networkSystem;
+    private MetricRecordingHandler metrics;
+    private NetClient client;
+
+    @BeforeEach
+    @Override
+    public void setup() throws Exception {
+        super.setup();
+        channel = mock(Channel.class);
+        ChannelPipeline pipeline = mock(ChannelPipeline.class);
+        metrics = new MetricRecordingHandler();
+        when(pipeline.get(MetricRecordingHandler.NAME)).thenReturn(metrics);
+        when(channel.getPipeline()).thenReturn(pipeline);
+        EntityRef entity = mock(EntityRef.class);
+        when(entity.exists()).thenReturn(true);
+        when(entity.hasComponent(NetworkComponent.class)).thenReturn(true);
+        networkSystem = mock(NetworkSystemImpl.class);
+        when(networkSystem.getEntity(anyInt())).thenReturn(entity);
+        when(networkSystem.getEntityDeltaCache()).thenReturn(new EntityDeltaCache());
+        when(networkSystem.getFarEntityUpdateInterval()).thenReturn(FAR_ENTITY_UPDATE_INTERVAL);
+        NetworkEntitySerializer entitySerializer = mock(NetworkEntitySerializer.class);
+        when(entitySerializer.serialize(any(EntityRef.class), anyBoolean(), any()))
+                .thenReturn(EntityData.PackedEntity.newBuilder());
+        when(entitySerializer.serialize(any(EntityRef.class), any(), any(), any(), any()))
+                .thenReturn(EntityData.PackedEntity.getDefaultInstance());
+
+        PublicIdentityCertificate identity = mock(PublicIdentityCertificate.class);
+        when(identity.getId()).thenReturn("dummyID");
+        client = new NetClient(channel, networkSystem, identity);
+        client.connected(getEntityManager(), entitySerializer, mock(EventSerializer.class), mock(EventLibrary.class));
+        client.setNetInitial(NEAR_ENTITY);
+        client.setNetInitial(FAR_ENTITY);
+        tick();
+    }
+
+    @Test
+    public void testNearChangesAreSentEveryTick() {
+        client.setComponentDirty(NEAR_ENTITY, LocationComponent.class, false);
+        assertEquals(Sets.newHashSet(NEAR_ENTITY), updatedEntities(tick()));
+
+        client.setComponentDirty(NEAR_ENTITY, LocationComponent.class, false);
+        assertEquals(Sets.newHashSet(NEAR_ENTITY), updatedEntities(tick()));
+    }
+
+    @Test
+    public void testFarChangesAreSentAtTheFarRate() {
+        client.setComponentDirty(FAR_ENTITY, LocationComponent.class, true);
+        assertTrue(updatedEntities(tick()).isEmpty());
+
+        client.setComponentDirty(FAR_ENTITY, LocationComponent.class, true);
+        assertEquals(Sets.newHashSet(FAR_ENTITY), updatedEntities(tick()));
+
+        client.setComponentDirty(FAR_ENTITY, LocationComponent.class, true);
+        for (int i = 1; i < FAR_ENTITY_UPDATE_INTERVAL; i++) {
+            assertTrue(updatedEntities(tick()).isEmpty());
+        }
+        assertEquals(Sets.newHashSet(FAR_ENTITY), updatedEntities(tick()));
+    }
+
+    @Test
+    public void testNearChangeSendsDeferredChanges() {
+        client.setComponentDirty(FAR_ENTITY, LocationComponent.class, true);
+        client.setComponentDirty(FAR_ENTITY, NetworkComponent.class, false);
+        assertEquals(Sets.newHashSet(FAR_ENTITY), updatedEntities(tick()));
+    }
+
+    @Test
+    public void testAddedComponentSendsDeferredChanges() {
+        client.setComponentDirty(FAR_ENTITY, LocationComponent.class, true);
+        client.setComponentAdded(FAR_ENTITY, NetworkComponent.class);
+        assertEquals(Sets.newHashSet(FAR_ENTITY), updatedEntities(tick()));
+    }
+
+    @Test
+    public void testDeferredChangesAreDroppedWithEntity() {
+        client.setComponentDirty(FAR_ENTITY, LocationComponent.class, true);
+        client.setNetRemoved(FAR_ENTITY);
+
+        NetData.NetMessage message = tick();
+        assertEquals(1, message.getRemoveEntityCount());
+        assertEquals(FAR_ENTITY, message.getRemoveEntity(0).getNetId());
+        for (int i = 1; i < FAR_ENTITY_UPDATE_INTERVAL; i++) {
+            assertTrue(updatedEntities(tick()).isEmpty());
+        }
+    }
+
+    @Test
+    public void testEntityRemovedAndAddedAgainInOneTick() {
+        client.setNetRemoved(FAR_ENTITY);
+        client.setNetInitial(FAR_ENTITY);
+
+        NetData.NetMessage message = tick();
+        assertEquals(1, message.getRemoveEntityCount());
+        assertEquals(1, message.getCreateEntityCount());
+        assertTrue(client.isNetRelevant(FAR_ENTITY));
+
+        client.setComponentDirty(FAR_ENTITY, LocationComponent.class, false);
+        assertEquals(Sets.newHashSet(FAR_ENTITY), updatedEntities(tick()));
+    }
+
+    @Test
+    public void testChunksAreSentWithinTheBudget() {
+        when(networkSystem.getBandwidthPerClient()).thenReturn(BANDWIDTH);
+        addChunks(10);
+
+        // Without compression, a tick sends chunks until the budget is exceeded, and the excess is carried over
+        assertEquals(3, tick().getChunkInfoCount());
+        assertEquals(2, tick().getChunkInfoCount());
+        assertEquals(3, tick().getChunkInfoCount());
+    }
+
+    @Test
+    public void testChunksAreChargedTheirCompressedSize() throws Exception {
+        when(networkSystem.getBandwidthPerClient()).thenReturn(BANDWIDTH);
+        addChunks(1000);
+
+        for (int i = 0; i < 50; i++) {
+            tickCompressed(0.25f);
+        }
+        assertEquals(0.25f, client.getCompressionRatio(), 0.01f);
+
+        // The compressed bytes sent per tick stay at the bandwidth on average
+        long compressedBytes = metrics.getTotalSentBytes();
+        int chunks = 0;
+        for (int i = 0; i < 10; i++) {
+            chunks += tickCompressed(0.25f).getChunkInfoCount();
+        }
+        assertTrue(chunks >= 90);
+        assertEquals(10 * BYTES_PER_TICK, metrics.getTotalSentBytes() - compressedBytes, BYTES_PER_TICK / 2);
+    }
+
+    private void addChunks(int count) {
+        for (int i = 0; i < count; i++) {
+            Vector3i pos = new Vector3i(i, 0, 0);
+            Chunk chunk = mock(Chunk.class);
+            when(chunk.getPosition()).thenReturn(pos);
+            when(chunk.encode()).thenAnswer(invocation -> EntityData.ChunkStore.newBuilder()
+                    .setX(pos.x).setDeprecatedData4(ByteString.copyFrom(new byte[CHUNK_DATA_SIZE])));
+            client.onChunkRelevant(pos, chunk);
+        }
+    }
+
+    /**
+     * Runs a tick and lets the channel send the written message, compressed to the given ratio.
+     */
+    private NetData.NetMessage tickCompressed(float ratio) throws Exception {
+        NetData.NetMessage message = tick();
+        int compressedSize = (int) (message.getSerializedSize() * ratio);
+        MessageEvent event = mock(MessageEvent.class);
+        when(event.getMessage()).thenReturn(ChannelBuffers.wrappedBuffer(new byte[compressedSize]));
+        metrics.writeRequested(mock(ChannelHandlerContext.class), event);
+        return message;
+    }
+
+    private NetData.NetMessage tick() {
+        client.update(true);
+        ArgumentCaptor<Object> sent = ArgumentCaptor.forClass(Object.class);
+        verify(channel, atLeastOnce()).write(sent.capture());
+        List<Object> messages = sent.getAllValues();
+        return (NetData.NetMessage) messages.get(messages.size() - 1);
+    }
+
+    private static Set<Integer> updatedEntities(NetData.NetMessage message) {
+        Set<Integer> result = Sets.newHashSet();
+        for (NetData.UpdateEntityMessage update : message.getUpdateEntityList()) {
+            result.add(update.getNetId());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,210 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.network.internal;
+
+import gnu.trove.set.TIntSet;
+import gnu.trove.set.hash.TIntHashSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.terasology.TerasologyTestingEnvironment;
+import org.terasology.engine.ComponentSystemManager;
+import org.terasology.engine.bootstrap.EntitySystemSetupUtil;
+import org.terasology.engine.module.ModuleManager;
+import org.terasology.entitySystem.entity.EntityManager;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.entity.internal.EngineEntityManager;
+import org.terasology.entitySystem.metadata.EventLibrary;
+import org.terasology.logic.location.LocationComponent;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.network.ClientComponent;
+import org.terasology.network.NetworkComponent;
+import org.terasology.network.NetworkSystem;
+import org.terasology.testUtil.ModuleManagerFactory;
+import org.terasology.world.BlockEntityRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the replication of entities to the clients whose area of interest they are in.
+ */
+public class NetworkInterestTest extends TerasologyTestingEnvironment {
+
+    private static final float INTEREST_RADIUS = 128;
+    /** The number of net ticks between the refreshes of the relevant entities of the clients */
+    private static final int REFRESH_TICKS = 10;
+
+    private EngineEntityManager entityManager;
+    private NetworkSystemImpl networkSystem;
+    private NetClient client;
+    private EntityRef character;
+    private TIntSet relevant;
+    private long realTime;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        super.setup();
+        ModuleManager moduleManager = ModuleManagerFactory.create();
+        context.put(ModuleManager.class, moduleManager);
+        when(mockTime.getRealTimeInMs()).thenAnswer(invocation -> realTime += 1000);
+        networkSystem = new NetworkSystemImpl(mockTime, context);
+        networkSystem.setContext(context);
+        context.put(NetworkSystem.class, networkSystem);
+
+        EntitySystemSetupUtil.addReflectionBasedLibraries(context);
+        EntitySystemSetupUtil.addEntityManagementRelatedClasses(context);
+        entityManager = (EngineEntityManager) context.get(EntityManager.class);
+        context.put(ComponentSystemManager.class, new ComponentSystemManager(context));
+        entityManager.clear();
+
+        ClientComponent clientComp = new ClientComponent();
+        character = entityManager.create(new LocationComponent(new Vector3f()));
+        clientComp.character = character;
+        NetworkComponent clientNetComp = new NetworkComponent();
+        clientNetComp.replicateMode = NetworkComponent.ReplicateMode.OWNER;
+        EntityRef clientEntity = entityManager.create(clientComp, clientNetComp);
+
+        relevant = new TIntHashSet();
+        client = mock(NetClient.class);
+        when(client.getEntity()).thenReturn(clientEntity);
+        when(client.getId()).thenReturn("dummyID");
+        when(client.getInterestRadius()).thenReturn(INTEREST_RADIUS);
+        when(client.isNetRelevant(anyInt())).thenAnswer(invocation -> relevant.contains(invocation.getArgument(0)));
+        when(client.getNetRelevant()).thenAnswer(invocation -> relevant.toArray());
+        doAnswer(invocation -> {
+            int netId = invocation.getArgument(0);
+            relevant.add(netId);
+            networkSystem.addReplicatedClient(netId, client);
+            return null;
+        }).when(client).setNetInitial(anyInt());
+        doAnswer(invocation -> {
+            int netId = invocation.getArgument(0);
+            relevant.remove(netId);
+            networkSystem.removeReplicatedClient(netId, client);
+            return null;
+        }).when(client).setNetRemoved(anyInt());
+
+        networkSystem.mockHost();
+        networkSystem.connectToEntitySystem(entityManager, context.get(EventLibrary.class),
+                mock(BlockEntityRegistry.class));
+        networkSystem.registerNetworkEntity(clientEntity);
+        context.put(ServerConnectListManager.class, new ServerConnectListManager(context));
+        networkSystem.addClient(client);
+        networkSystem.update();
+    }
+
+    @Test
+    public void testEntityInAreaIsReplicated() {
+        int netId = createEntity(10);
+
+        verify(client).setNetInitial(netId);
+        moveEntity(netId, 20);
+        verify(client).setComponentDirty(netId, LocationComponent.class, false);
+    }
+
+    @Test
+    public void testEntityOutsideAreaIsNotReplicated() {
+        int netId = createEntity(1000);
+
+        moveEntity(netId, 1010);
+        refresh();
+        verify(client, never()).setNetInitial(netId);
+        verify(client, never()).setComponentDirty(netId, LocationComponent.class, true);
+    }
+
+    @Test
+    public void testEntityEnteringAreaIsReplicatedOnRefresh() {
+        int netId = createEntity(1000);
+
+        moveEntity(netId, 100);
+        verify(client, never()).setNetInitial(netId);
+        refresh();
+        verify(client).setNetInitial(netId);
+    }
+
+    @Test
+    public void testChangesAreSentUntilEntityIsRemoved() {
+        int netId = createEntity(10);
+
+        moveEntity(netId, 1000);
+        verify(client).setComponentDirty(netId, LocationComponent.class, true);
+        refresh();
+        verify(client).setNetRemoved(netId);
+        assertFalse(relevant.contains(netId));
+
+        moveEntity(netId, 1010);
+        verify(client, times(1)).setComponentDirty(netId, LocationComponent.class, true);
+    }
+
+    @Test
+    public void testEntityLeavingAndReenteringBetweenRefreshes() {
+        int netId = createEntity(10);
+
+        moveEntity(netId, 1000);
+        moveEntity(netId, 100);
+        verify(client, times(2)).setComponentDirty(netId, LocationComponent.class, true);
+        moveEntity(netId, 10);
+        verify(client).setComponentDirty(netId, LocationComponent.class, false);
+
+        refresh();
+        verify(client, never()).setNetRemoved(netId);
+        verify(client, times(1)).setNetInitial(netId);
+        assertTrue(relevant.contains(netId));
+    }
+
+    @Test
+    public void testEntityIsRemovedWhenAreaMovesAway() {
+        int netId = createEntity(10);
+        refresh();
+
+        moveCharacter(1000);
+        verify(client, never()).setNetRemoved(netId);
+        refresh();
+        verify(client).setNetRemoved(netId);
+    }
+
+    @Test
+    public void testEntityIsReplicatedWhenAreaMovesToIt() {
+        int netId = createEntity(1000);
+        refresh();
+
+        moveCharacter(950);
+        verify(client, never()).setNetInitial(netId);
+        refresh();
+        verify(client).setNetInitial(netId);
+    }
+
+    private int createEntity(float x) {
+        NetworkComponent netComp = new NetworkComponent();
+        netComp.replicateMode = NetworkComponent.ReplicateMode.RELEVANT;
+        EntityRef entity = entityManager.create(netComp, new LocationComponent(new Vector3f(x, 0, 0)));
+        networkSystem.registerNetworkEntity(entity);
+        return entity.getComponent(NetworkComponent.class).getNetworkId();
+    }
+
+    private void moveEntity(int netId, float x) {
+        EntityRef entity = networkSystem.getEntity(netId);
+        LocationComponent location = entity.getComponent(LocationComponent.class);
+        location.setWorldPosition(new Vector3f(x, 0, 0));
+        entity.saveComponent(location);
+    }
+
+    private void moveCharacter(float x) {
+        LocationComponent location = character.getComponent(LocationComponent.class);
+        location.setWorldPosition(new Vector3f(x, 0, 0));
+        character.saveComponent(location);
+    }
+
+    private void refresh() {
+        for (int i = 0; i < REFRESH_TICKS; i++) {
+            networkSystem.update();
+        }
+    }
+}
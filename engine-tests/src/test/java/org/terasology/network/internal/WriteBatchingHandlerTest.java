@@ -0,0 +1,72 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.network.internal;
+
+import org.jboss.netty.buffer.ChannelBuffer;
+import org.jboss.netty.buffer.ChannelBuffers;
+import org.jboss.netty.handler.codec.embedder.EncoderEmbedder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WriteBatchingHandlerTest {
+
+    private MetricRecordingHandler metrics;
+    private WriteBatchingHandler handler;
+    private EncoderEmbedder<ChannelBuffer> embedder;
+
+    @BeforeEach
+    public void setup() {
+        metrics = new MetricRecordingHandler();
+        handler = new WriteBatchingHandler(metrics);
+        embedder = new EncoderEmbedder<>(handler);
+    }
+
+    @Test
+    public void testWritesOutsideOfBatchPassThrough() {
+        embedder.offer(buffer("first"));
+        embedder.offer(buffer("second"));
+
+        assertEquals("first", string(embedder.poll()));
+        assertEquals("second", string(embedder.poll()));
+        assertNull(embedder.poll());
+    }
+
+    @Test
+    public void testBatchedWritesAreFlushedAsOne() {
+        handler.beginBatch();
+        embedder.offer(buffer("first"));
+        embedder.offer(buffer("second"));
+        assertNull(embedder.poll());
+
+        handler.flush();
+        assertEquals("firstsecond", string(embedder.poll()));
+        assertNull(embedder.poll());
+        assertTrue(metrics.getFlushTimeSinceLastCall() > 0);
+
+        embedder.offer(buffer("third"));
+        assertEquals("third", string(embedder.poll()));
+    }
+
+    @Test
+    public void testFlushWithoutWrites() {
+        handler.beginBatch();
+        handler.flush();
+
+        assertNull(embedder.poll());
+        assertEquals(0, metrics.getFlushTimeSinceLastCall());
+    }
+
+    private static ChannelBuffer buffer(String content) {
+        return ChannelBuffers.copiedBuffer(content, StandardCharsets.UTF_8);
+    }
+
+    private static String string(ChannelBuffer buffer) {
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,77 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.persistence.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ChunkCompressionTest {
+
+    @Test
+    public void testRoundTripOfAllCodecs() throws IOException {
+        Random random = new Random(42);
+        byte[] noise = new byte[70000];
+        random.nextBytes(noise);
+        byte[] runs = new byte[200000];
+        for (int i = 0; i < runs.length; i++) {
+            runs[i] = (byte) ((i / 1000) % 7);
+        }
+        byte[][] inputs = {new byte[0], "chunk".getBytes(), noise, runs};
+
+        for (ChunkCompression codec : ChunkCompression.values()) {
+            for (byte[] input : inputs) {
+                assertArrayEquals(input, ChunkCompression.decompress(codec.compress(input)), codec.name());
+            }
+            assertTrue(codec.compress(runs).length < runs.length / 10, codec.name());
+        }
+    }
+
+    @Test
+    public void testLz4MatchesOverlappingTheirSource() throws IOException {
+        byte[] input = new byte[10000];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = (byte) (i % 3);
+        }
+        input[5000] = 42;
+
+        assertArrayEquals(input, ChunkCompression.decompress(ChunkCompression.LZ4.compress(input)));
+    }
+
+    @Test
+    public void testChunksOfOldSavesCanBeDecompressed() throws IOException {
+        byte[] input = "legacy chunk".getBytes();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(baos)) {
+            gzipOut.write(input);
+        }
+
+        assertArrayEquals(input, ChunkCompression.decompress(baos.toByteArray()));
+    }
+
+    @Test
+    public void testCorruptDataIsRejected() {
+        byte[] compressed = ChunkCompression.LZ4.compress(new byte[1000]);
+        byte[] truncated = Arrays.copyOf(compressed, compressed.length - 3);
+
+        assertThrows(IOException.class, () -> ChunkCompression.decompress(truncated));
+        assertThrows(IOException.class, () -> ChunkCompression.decompress(new byte[]{1, 2, 3}));
+    }
+
+    @Test
+    public void testFromName() {
+        assertEquals(ChunkCompression.LZ4, ChunkCompression.fromName("lz4"));
+        assertEquals(ChunkCompression.DEFLATE, ChunkCompression.fromName("DEFLATE"));
+        assertEquals(ChunkCompression.GZIP, ChunkCompression.fromName(null));
+        assertEquals(ChunkCompression.GZIP, ChunkCompression.fromName("unknown"));
+    }
+}
@@ -0,0 +1,153 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.persistence.internal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.terasology.math.geom.Vector3i;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ChunkRegionFileTest {
+
+    private StoragePathProvider storagePathProvider;
+    private Path regionPath;
+
+    @BeforeEach
+    public void setup(@TempDir Path saveDirectory) throws IOException {
+        storagePathProvider = new StoragePathProvider(saveDirectory);
+        Files.createDirectories(storagePathProvider.getWorldPath());
+        regionPath = storagePathProvider.getChunkRegionPath(new Vector3i());
+    }
+
+    @Test
+    public void testWrittenChunksCanBeReadAfterReopening() throws IOException {
+        byte[] small = "small".getBytes(StandardCharsets.UTF_8);
+        byte[] large = new byte[3 * ChunkRegionFile.SECTOR_SIZE + 5];
+        Arrays.fill(large, (byte) 7);
+        try (ChunkRegionFile regionFile = ChunkRegionFile.open(regionPath)) {
+            regionFile.write(new Vector3i(0, 0, 0), small);
+            regionFile.write(new Vector3i(7, 7, 7), large);
+        }
+
+        assertArrayEquals(small, ChunkRegionFile.readChunk(regionPath, new Vector3i(0, 0, 0)));
+        assertArrayEquals(large, ChunkRegionFile.readChunk(regionPath, new Vector3i(7, 7, 7)));
+        assertNull(ChunkRegionFile.readChunk(regionPath, new Vector3i(1, 0, 0)));
+        try (ChunkRegionFile regionFile = ChunkRegionFile.open(regionPath)) {
+            assertArrayEquals(large, regionFile.read(new Vector3i(7, 7, 7)));
+            assertFalse(regionFile.contains(new Vector3i(1, 0, 0)));
+        }
+    }
+
+    @Test
+    public void testRewritingChunksReusesFreeSectors() throws IOException {
+        byte[] large = new byte[2 * ChunkRegionFile.SECTOR_SIZE];
+        byte[] larger = new byte[4 * ChunkRegionFile.SECTOR_SIZE];
+        byte[] small = "small".getBytes(StandardCharsets.UTF_8);
+        try (ChunkRegionFile regionFile = ChunkRegionFile.open(regionPath)) {
+            regionFile.write(new Vector3i(0, 0, 0), large);
+            regionFile.write(new Vector3i(0, 0, 1), small);
+        }
+        long initialSize = Files.size(regionPath);
+
+        try (ChunkRegionFile regionFile = ChunkRegionFile.open(regionPath)) {
+            regionFile.write(new Vector3i(0, 0, 0), larger);
+            regionFile.write(new Vector3i(0, 0, 2), large);
+        }
+
+        // the larger chunk gets appended, the chunk written last fills the sectors it left behind
+        assertEquals(initialSize - small.length + (1 + 4) * ChunkRegionFile.SECTOR_SIZE, Files.size(regionPath));
+        assertArrayEquals(larger, ChunkRegionFile.readChunk(regionPath, new Vector3i(0, 0, 0)));
+        assertArrayEquals(small, ChunkRegionFile.readChunk(regionPath, new Vector3i(0, 0, 1)));
+        assertArrayEquals(large, ChunkRegionFile.readChunk(regionPath, new Vector3i(0, 0, 2)));
+    }
+
+    @Test
+    public void testNegativeChunkPositionsUseTheirOwnRegion() {
+        Vector3i chunkPos = new Vector3i(-1, -8, -9);
+        assertEquals(new Vector3i(-1, -1, -2), storagePathProvider.getChunkRegionPosition(chunkPos));
+        assertEquals(ChunkRegionFile.indexOf(new Vector3i(7, 0, 7)), ChunkRegionFile.indexOf(chunkPos));
+    }
+
+    @Test
+    public void testConvertChunkZips() throws IOException {
+        Vector3i first = new Vector3i(1, 2, 3);
+        Vector3i second = new Vector3i(9, 2, 3);
+        Path chunkZipPath = storagePathProvider.getChunkZipPath(storagePathProvider.getChunkZipPosition(first));
+        try (ZipOutputStream zipOut = new ZipOutputStream(Files.newOutputStream(chunkZipPath))) {
+            writeEntry(zipOut, storagePathProvider.getChunkFilename(first), "first");
+            writeEntry(zipOut, storagePathProvider.getChunkFilename(second), "second");
+        }
+
+        assertEquals(2, ChunkRegionConverter.convertChunkZips(storagePathProvider));
+
+        assertFalse(Files.exists(chunkZipPath));
+        assertTrue(ChunkRegionConverter.hasChunkRegions(storagePathProvider));
+        assertEquals("first", readChunk(first));
+        assertEquals("second", readChunk(second));
+    }
+
+    @Test
+    public void testInterruptedConversionCanBeRunAgain() throws IOException {
+        Vector3i existing = new Vector3i(0, 0, 0);
+        Vector3i first = new Vector3i(1, 2, 3);
+        Vector3i second = new Vector3i(9, 2, 3);
+        try (ChunkRegionFile regionFile = ChunkRegionFile.open(regionPath)) {
+            regionFile.write(existing, "existing".getBytes(StandardCharsets.UTF_8));
+        }
+        Path chunkZipPath = storagePathProvider.getChunkZipPath(storagePathProvider.getChunkZipPosition(first));
+        try (ZipOutputStream zipOut = new ZipOutputStream(Files.newOutputStream(chunkZipPath))) {
+            writeEntry(zipOut, storagePathProvider.getChunkFilename(first), "first");
+            writeEntry(zipOut, storagePathProvider.getChunkFilename(second), "second");
+        }
+        // a directory in the way of the second region file makes the conversion fail midway
+        Path secondRegionPath =
+                storagePathProvider.getChunkRegionPath(storagePathProvider.getChunkRegionPosition(second));
+        Path blocker = ChunkRegionConverter.getTemporaryPath(secondRegionPath);
+        Files.createDirectories(blocker.resolve("blocker"));
+
+        assertThrows(IOException.class, () -> ChunkRegionConverter.convertChunkZips(storagePathProvider));
+
+        assertTrue(Files.exists(chunkZipPath));
+        assertFalse(Files.exists(secondRegionPath));
+        assertFalse(Files.exists(ChunkRegionConverter.getTemporaryPath(regionPath)));
+        assertEquals("existing", readChunk(existing));
+        assertNull(ChunkRegionFile.readChunk(regionPath, first));
+
+        Files.delete(blocker.resolve("blocker"));
+        Files.delete(blocker);
+        assertEquals(2, ChunkRegionConverter.convertChunkZips(storagePathProvider));
+
+        assertFalse(Files.exists(chunkZipPath));
+        assertFalse(Files.exists(ChunkRegionConverter.getTemporaryPath(regionPath)));
+        assertFalse(Files.exists(ChunkRegionConverter.getTemporaryPath(secondRegionPath)));
+        assertEquals("existing", readChunk(existing));
+        assertEquals("first", readChunk(first));
+        assertEquals("second", readChunk(second));
+    }
+
+    private String readChunk(Vector3i chunkPos) throws IOException {
+        Path path = storagePathProvider.getChunkRegionPath(storagePathProvider.getChunkRegionPosition(chunkPos));
+        return new String(ChunkRegionFile.readChunk(path, chunkPos), StandardCharsets.UTF_8);
+    }
+
+    private static void writeEntry(ZipOutputStream zipOut, String name, String content) throws IOException {
+        zipOut.putNextEntry(new ZipEntry(name));
+        zipOut.write(content.getBytes(StandardCharsets.UTF_8));
+        zipOut.closeEntry();
+    }
+}
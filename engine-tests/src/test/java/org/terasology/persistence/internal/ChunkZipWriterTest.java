@@ -0,0 +1,86 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.persistence.internal;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.terasology.math.geom.Vector3i;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ChunkZipWriterTest {
+
+    private StoragePathProvider storagePathProvider;
+
+    @BeforeEach
+    public void setup(@TempDir Path saveDirectory) throws IOException {
+        storagePathProvider = new StoragePathProvider(saveDirectory);
+        Files.createDirectories(storagePathProvider.getWorldPath());
+        Files.createDirectories(storagePathProvider.getWorldTempPath());
+    }
+
+    @Test
+    public void testWritesOneZipPerRegion() throws IOException {
+        Map<Vector3i, CompressedChunkBuilder> chunks = Maps.newHashMap();
+        chunks.put(new Vector3i(1, 2, 3), chunkWithContent("a"));
+        chunks.put(new Vector3i(100, 2, 3), chunkWithContent("b"));
+        chunks.put(new Vector3i(-1, 2, 3), chunkWithContent("c"));
+
+        new ChunkZipWriter(storagePathProvider, 2).write(chunks);
+
+        for (Map.Entry<Vector3i, CompressedChunkBuilder> entry : chunks.entrySet()) {
+            Vector3i chunkZipPos = storagePathProvider.getChunkZipPosition(entry.getKey());
+            assertTrue(Files.isRegularFile(storagePathProvider.getChunkZipTempPath(chunkZipPos)));
+            assertEquals(new String(entry.getValue().buildEncodedChunk(), StandardCharsets.UTF_8),
+                    readChunk(entry.getKey()));
+        }
+    }
+
+    @Test
+    public void testKeepsUnchangedChunksOfPreviousZip() throws IOException {
+        Vector3i unchangedPos = new Vector3i(1, 1, 1);
+        Vector3i changedPos = new Vector3i(2, 2, 2);
+        Path oldZipPath = storagePathProvider.getChunkZipPath(storagePathProvider.getChunkZipPosition(unchangedPos));
+        try (FileSystem oldZip = FileSystems.newFileSystem(URI.create("jar:" + oldZipPath.toUri()),
+                ImmutableMap.of("create", "true"))) {
+            Files.write(oldZip.getPath(storagePathProvider.getChunkFilename(unchangedPos)),
+                    "unchanged".getBytes(StandardCharsets.UTF_8));
+            Files.write(oldZip.getPath(storagePathProvider.getChunkFilename(changedPos)),
+                    "old".getBytes(StandardCharsets.UTF_8));
+        }
+
+        new ChunkZipWriter(storagePathProvider, 2).write(ImmutableMap.of(changedPos, chunkWithContent("new")));
+
+        assertEquals("unchanged", readChunk(unchangedPos));
+        assertEquals("new", readChunk(changedPos));
+    }
+
+    private CompressedChunkBuilder chunkWithContent(String content) {
+        CompressedChunkBuilder chunk = mock(CompressedChunkBuilder.class);
+        when(chunk.buildEncodedChunk()).thenReturn(content.getBytes(StandardCharsets.UTF_8));
+        return chunk;
+    }
+
+    private String readChunk(Vector3i chunkPos) throws IOException {
+        Path zipPath = storagePathProvider.getChunkZipTempPath(storagePathProvider.getChunkZipPosition(chunkPos));
+        try (FileSystem zip = FileSystems.newFileSystem(zipPath, null)) {
+            byte[] data = Files.readAllBytes(zip.getPath(storagePathProvider.getChunkFilename(chunkPos)));
+            return new String(data, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -30,6 +30,7 @@
 
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -101,4 +102,36 @@ public void testResolution(Noise noiseGen) {
 
         fail();
     }
+
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testGridMatchesSingleValues(Noise noiseGen) {
+        float originX = rng.nextFloat() * 100f - 50f;
+        float originY = rng.nextFloat() * 100f - 50f;
+        float originZ = rng.nextFloat() * 100f - 50f;
+        float step = 0.37f;
+
+        float[] expected2D = new float[7 * 5];
+        for (int y = 0; y < 5; y++) {
+            for (int x = 0; x < 7; x++) {
+                expected2D[x + 7 * y] = noiseGen.noise(originX + x * step, originY + y * step);
+            }
+        }
+        float[] grid2D = new float[7 * 5];
+        noiseGen.noise(grid2D, originX, originY, step, step, 7, 5);
+        assertArrayEquals(expected2D, grid2D);
+
+        float[] expected3D = new float[7 * 5 * 3];
+        for (int z = 0; z < 3; z++) {
+            for (int y = 0; y < 5; y++) {
+                for (int x = 0; x < 7; x++) {
+                    expected3D[x + 7 * (y + 5 * z)] =
+                            noiseGen.noise(originX + x * step, originY + y * step, originZ + z * step);
+                }
+            }
+        }
+        float[] grid3D = new float[7 * 5 * 3];
+        noiseGen.noise(grid3D, originX, originY, originZ, step, step, step, 7, 5, 3);
+        assertArrayEquals(expected3D, grid3D);
+    }
 }
@@ -0,0 +1,64 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.world;
+
+import org.junit.jupiter.api.Test;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.block.Block;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ChunkBlockChangesTest {
+
+    @Test
+    public void testChangesAreKeptInOrderWhileGrowing() {
+        Vector3i chunkPos = new Vector3i(1, 0, -2);
+        ChunkBlockChanges changes = new ChunkBlockChanges(chunkPos);
+        chunkPos.set(0, 0, 0);
+        Block air = new Block();
+        Block stone = new Block();
+
+        for (int i = 0; i < 100; i++) {
+            changes.add(32 + i % 32, i, -64 + i % 32, i % 2 == 0 ? stone : air, i % 2 == 0 ? air : stone);
+        }
+
+        assertEquals(new Vector3i(1, 0, -2), changes.getChunkPos());
+        assertEquals(100, changes.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(new Vector3i(32 + i % 32, i, -64 + i % 32), changes.getPosition(i));
+            assertSame(i % 2 == 0 ? stone : air, changes.getNewBlock(i));
+            assertSame(i % 2 == 0 ? air : stone, changes.getOriginalBlock(i));
+        }
+    }
+
+    @Test
+    public void testListenersReceiveSingleChangesByDefault() {
+        Block air = new Block();
+        Block stone = new Block();
+        ChunkBlockChanges changes = new ChunkBlockChanges(new Vector3i());
+        changes.add(1, 2, 3, stone, air);
+        changes.add(4, 5, 6, air, stone);
+        List<Vector3i> notified = new ArrayList<>();
+
+        WorldChangeListener listener = new WorldChangeListener() {
+            @Override
+            public void onBlockChanged(Vector3i pos, Block newBlock, Block originalBlock) {
+                assertSame(newBlock == stone ? air : stone, originalBlock);
+                notified.add(pos);
+            }
+
+            @Override
+            public void onExtraDataChanged(int i, Vector3i pos, int newData, int oldData) {
+            }
+        };
+        listener.onBlocksChanged(changes);
+
+        assertEquals(2, notified.size());
+        assertEquals(new Vector3i(1, 2, 3), notified.get(0));
+        assertEquals(new Vector3i(4, 5, 6), notified.get(1));
+    }
+}
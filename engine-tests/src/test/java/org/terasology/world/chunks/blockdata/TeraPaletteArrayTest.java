@@ -0,0 +1,139 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.world.chunks.blockdata;
+
+import org.junit.jupiter.api.Test;
+import org.terasology.world.chunks.deflate.TeraStandardDeflator;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TeraPaletteArrayTest {
+    private static final int SIZE_X = 16;
+    private static final int SIZE_Y = 32;
+    private static final int SIZE_Z = 16;
+
+    @Test
+    public void testIndicesAreWidenedAsThePaletteGrows() {
+        TeraPaletteArray array = new TeraPaletteArray(SIZE_X, SIZE_Y, SIZE_Z);
+        TeraDenseArray16Bit expected = new TeraDenseArray16Bit(SIZE_X, SIZE_Y, SIZE_Z);
+        assertEquals(0, array.getBitsPerEntry());
+
+        int[] distinctValues = {1, 2, 4, 16, 256, 300};
+        int[] expectedBits = {0, 1, 2, 4, 8, 16};
+        int value = 0;
+        for (int i = 0; i < distinctValues.length; i++) {
+            // value 0 is already part of the palette
+            for (; value < distinctValues[i]; value++) {
+                int pos = value * 7;
+                int x = pos % SIZE_X;
+                int z = (pos / SIZE_X) % SIZE_Z;
+                int y = pos / (SIZE_X * SIZE_Z);
+                short stored = (short) (value == 0 ? 0 : 0xFFFF - value);
+                assertEquals(expected.set(x, y, z, stored), array.set(x, y, z, stored));
+            }
+            assertEquals(expectedBits[i], array.getBitsPerEntry());
+            assertSameContent(expected, array);
+        }
+    }
+
+    @Test
+    public void testCompareAndSet() {
+        TeraPaletteArray array = new TeraPaletteArray(SIZE_X, SIZE_Y, SIZE_Z);
+
+        assertFalse(array.set(1, 2, 3, 5, 4));
+        assertTrue(array.set(1, 2, 3, 5, 0));
+        assertEquals(5, array.get(1, 2, 3));
+        assertEquals(0, array.get(3, 2, 1));
+    }
+
+    @Test
+    public void testCopyIsIndependent() {
+        TeraPaletteArray array = TeraPaletteArray.copyOf(randomArray(new Random(1), 20));
+        TeraArray copy = array.copy();
+
+        copy.set(0, 0, 0, 1234);
+
+        assertEquals(1234, copy.get(0, 0, 0));
+        assertEquals(array.get(1, 0, 0), copy.get(1, 0, 0));
+        assertTrue(array.get(0, 0, 0) != 1234);
+    }
+
+    @Test
+    public void testDeflateDropsUnusedPaletteEntries() {
+        TeraPaletteArray array = new TeraPaletteArray(SIZE_X, SIZE_Y, SIZE_Z);
+        for (int x = 0; x < SIZE_X; x++) {
+            array.set(x, 0, 0, x + 1);
+        }
+        for (int x = 0; x < SIZE_X; x++) {
+            array.set(x, 0, 0, 7);
+        }
+        assertEquals(8, array.getBitsPerEntry());
+
+        TeraArray deflated = new TeraStandardDeflator().deflate(array);
+
+        assertNotSame(array, deflated);
+        assertEquals(1, ((TeraPaletteArray) deflated).getBitsPerEntry());
+        assertSameContent(array, deflated);
+        assertSame(deflated, new TeraStandardDeflator().deflate(deflated));
+    }
+
+    @Test
+    public void testConstructionFromDenseData() {
+        TeraDenseArray16Bit dense = randomArray(new Random(2), 1000);
+        short[] data = new short[SIZE_X * SIZE_Y * SIZE_Z];
+        for (int y = 0; y < SIZE_Y; y++) {
+            for (int z = 0; z < SIZE_Z; z++) {
+                for (int x = 0; x < SIZE_X; x++) {
+                    data[y * SIZE_X * SIZE_Z + z * SIZE_X + x] = (short) dense.get(x, y, z);
+                }
+            }
+        }
+
+        TeraPaletteArray array = new TeraPaletteArray(SIZE_X, SIZE_Y, SIZE_Z, data);
+
+        assertEquals(16, array.getBitsPerEntry());
+        assertSameContent(dense, array);
+    }
+
+    @Test
+    public void testSerializationRoundTrip() {
+        TeraPaletteArray array = TeraPaletteArray.copyOf(randomArray(new Random(3), 5));
+        TeraPaletteArray.SerializationHandler handler = new TeraPaletteArray.SerializationHandler();
+
+        ByteBuffer buffer = handler.serialize(array);
+        buffer.rewind();
+        TeraPaletteArray deserialized = handler.deserialize(buffer);
+
+        assertEquals(array.getBitsPerEntry(), deserialized.getBitsPerEntry());
+        assertSameContent(array, deserialized);
+    }
+
+    private static TeraDenseArray16Bit randomArray(Random random, int distinctValues) {
+        TeraDenseArray16Bit array = new TeraDenseArray16Bit(SIZE_X, SIZE_Y, SIZE_Z);
+        for (int y = 0; y < SIZE_Y; y++) {
+            for (int z = 0; z < SIZE_Z; z++) {
+                for (int x = 0; x < SIZE_X; x++) {
+                    array.set(x, y, z, random.nextInt(distinctValues));
+                }
+            }
+        }
+        return array;
+    }
+
+    private static void assertSameContent(TeraArray expected, TeraArray actual) {
+        for (int y = 0; y < SIZE_Y; y++) {
+            for (int z = 0; z < SIZE_Z; z++) {
+                for (int x = 0; x < SIZE_X; x++) {
+                    assertEquals(expected.get(x, y, z), actual.get(x, y, z));
+                }
+            }
+        }
+    }
+}
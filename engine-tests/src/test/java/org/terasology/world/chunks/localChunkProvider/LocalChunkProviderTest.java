@@ -29,6 +29,8 @@
 import org.terasology.entitySystem.entity.EntityStore;
 import org.terasology.entitySystem.event.Event;
 import org.terasology.entitySystem.prefab.Prefab;
+import org.terasology.logic.location.LocationComponent;
+import org.terasology.math.geom.Vector3f;
 import org.terasology.math.geom.Vector3i;
 import org.terasology.persistence.ChunkStore;
 import org.terasology.world.BlockEntityRegistry;
@@ -37,6 +39,7 @@
 import org.terasology.world.block.OnActivatedBlocks;
 import org.terasology.world.block.OnAddedBlocks;
 import org.terasology.world.chunks.Chunk;
+import org.terasology.world.chunks.ChunkConstants;
 import org.terasology.world.chunks.blockdata.ExtraBlockDataManager;
 import org.terasology.world.chunks.event.OnChunkGenerated;
 import org.terasology.world.chunks.event.OnChunkLoaded;
@@ -46,6 +49,9 @@
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -194,6 +200,95 @@ public void testCompleteUpdateSendsBlockActivatedEvents() throws Exception {
         assertTrue(Lists.newArrayList(positions).contains(new Vector3i(1, 2, 3)));
     }
 
+    @Test
+    public void testChunksAreUnloadedWhenRelevanceEntityIsRemoved() {
+        final RelevanceSystem relevanceSystem = createRelevanceSystem();
+        fillChunkCacheAround(Vector3i.zero(), 3);
+        final EntityRef entity = mockRelevanceEntityInChunk(Vector3i.zero());
+        relevanceSystem.addRelevanceEntity(entity, new Vector3i(3, 3, 3), null);
+        relevanceSystem.update(0);
+        unloadChunks();
+        assertEquals(343, chunkCache.getAllChunks().size());
+
+        relevanceSystem.removeRelevanceEntity(entity);
+        unloadChunks();
+
+        // The region and the chunks kept around it are unloaded, the chunks further away were never marked
+        assertEquals(343 - 125, chunkCache.getAllChunks().size());
+        assertNull(chunkCache.get(new Vector3i(2, 2, 2)));
+        assertNotNull(chunkCache.get(new Vector3i(3, 0, 0)));
+    }
+
+    @Test
+    public void testChunksLeftByMovingRegionAreUnloaded() {
+        final RelevanceSystem relevanceSystem = createRelevanceSystem();
+        fillChunkCacheAround(Vector3i.zero(), 3);
+        final EntityRef entity = mockRelevanceEntityInChunk(Vector3i.zero());
+        relevanceSystem.addRelevanceEntity(entity, new Vector3i(3, 3, 3), null);
+        relevanceSystem.update(0);
+
+        moveToChunk(entity, new Vector3i(2, 0, 0));
+        relevanceSystem.update(0);
+        unloadChunks();
+
+        // Only the two slabs behind the moved region are left
+        assertEquals(343 - 50, chunkCache.getAllChunks().size());
+        assertNull(chunkCache.get(new Vector3i(-2, 0, 0)));
+        assertNull(chunkCache.get(new Vector3i(-1, 2, -2)));
+        assertNotNull(chunkCache.get(new Vector3i(0, 0, 0)));
+        assertNotNull(chunkCache.get(new Vector3i(-3, 0, 0)));
+    }
+
+    @Test
+    public void testChunksOfChangedRegionAreUnloadedWhenRelevanceEntityIsRemoved() {
+        final RelevanceSystem relevanceSystem = createRelevanceSystem();
+        fillChunkCacheAround(Vector3i.zero(), 3);
+        final EntityRef entity = mockRelevanceEntityInChunk(Vector3i.zero());
+        relevanceSystem.addRelevanceEntity(entity, new Vector3i(5, 5, 5), null);
+        relevanceSystem.update(0);
+
+        // Removed before an update could mark the chunks left by the smaller region
+        relevanceSystem.updateRelevanceEntityDistance(entity, new Vector3i(3, 3, 3));
+        relevanceSystem.removeRelevanceEntity(entity);
+        unloadChunks();
+
+        assertTrue(chunkCache.getAllChunks().isEmpty());
+    }
+
+    private RelevanceSystem createRelevanceSystem() {
+        final RelevanceSystem relevanceSystem = new RelevanceSystem(chunkProvider);
+        chunkProvider.setRelevanceSystem(relevanceSystem);
+        return relevanceSystem;
+    }
+
+    private void fillChunkCacheAround(final Vector3i position, final int sideWidth) {
+        generateMockChunkCubeWithSideWidthAround(position, sideWidth, chunkCache);
+        chunkCache.put(position, mockChunkAt(position.x, position.y, position.z));
+    }
+
+    private void unloadChunks() {
+        for (int i = 0; i < 10; i++) {
+            chunkProvider.beginUpdate();
+        }
+    }
+
+    private static EntityRef mockRelevanceEntityInChunk(final Vector3i chunkPos) {
+        final EntityRef entity = mock(EntityRef.class);
+        final LocationComponent location = new LocationComponent();
+        when(entity.exists()).thenReturn(true);
+        when(entity.hasComponent(LocationComponent.class)).thenReturn(true);
+        when(entity.getComponent(LocationComponent.class)).thenReturn(location);
+        moveToChunk(entity, chunkPos);
+        return entity;
+    }
+
+    private static void moveToChunk(final EntityRef entity, final Vector3i chunkPos) {
+        entity.getComponent(LocationComponent.class).setWorldPosition(new Vector3f(
+                chunkPos.x * ChunkConstants.SIZE_X + 1,
+                chunkPos.y * ChunkConstants.SIZE_Y + 1,
+                chunkPos.z * ChunkConstants.SIZE_Z + 1));
+    }
+
     private static void markAllChunksAsReady(final ChunkCache chunkCache) {
         markAllChunksAsReadyExcludingPosition(chunkCache, null);
     }
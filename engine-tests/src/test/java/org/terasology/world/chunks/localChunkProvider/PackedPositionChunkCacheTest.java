@@ -0,0 +1,119 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.world.chunks.localChunkProvider;
+
+import com.google.common.collect.Maps;
+import gnu.trove.list.TLongList;
+import gnu.trove.list.array.TLongArrayList;
+import org.junit.jupiter.api.Test;
+import org.terasology.math.ChunkMath;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.chunks.Chunk;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class PackedPositionChunkCacheTest {
+
+    private final PackedPositionChunkCache chunkCache = new PackedPositionChunkCache();
+
+    @Test
+    public void testPutAndGet() {
+        Chunk chunk = mock(Chunk.class);
+        chunkCache.put(new Vector3i(1, -2, 3), chunk);
+
+        assertSame(chunk, chunkCache.get(new Vector3i(1, -2, 3)));
+        assertSame(chunk, chunkCache.get(1, -2, 3));
+        assertTrue(chunkCache.containsChunkAt(new Vector3i(1, -2, 3)));
+        assertNull(chunkCache.get(3, -2, 1));
+    }
+
+    @Test
+    public void testPutReplacesExistingChunk() {
+        Chunk first = mock(Chunk.class);
+        Chunk second = mock(Chunk.class);
+        chunkCache.put(new Vector3i(0, 0, 0), first);
+        chunkCache.put(new Vector3i(0, 0, 0), second);
+
+        assertSame(second, chunkCache.get(0, 0, 0));
+        assertEquals(1, chunkCache.size());
+    }
+
+    @Test
+    public void testMatchesMapUnderRandomOperations() {
+        Map<Vector3i, Chunk> expected = Maps.newHashMap();
+        Random random = new Random(42);
+        Chunk[] chunks = new Chunk[8];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = mock(Chunk.class);
+        }
+        for (int i = 0; i < 100000; i++) {
+            Vector3i pos = new Vector3i(random.nextInt(40) - 20, random.nextInt(8) - 4, random.nextInt(40) - 20);
+            switch (random.nextInt(3)) {
+                case 0:
+                    Chunk chunk = chunks[random.nextInt(chunks.length)];
+                    chunkCache.put(pos, chunk);
+                    expected.put(pos, chunk);
+                    break;
+                case 1:
+                    chunkCache.removeChunkAt(pos);
+                    expected.remove(pos);
+                    break;
+                default:
+                    assertSame(expected.get(pos), chunkCache.get(pos));
+            }
+        }
+        assertEquals(expected.size(), chunkCache.size());
+        assertEquals(expected.size(), chunkCache.getAllChunks().size());
+        for (Map.Entry<Vector3i, Chunk> entry : expected.entrySet()) {
+            assertSame(entry.getValue(), chunkCache.get(entry.getKey()));
+        }
+    }
+
+    @Test
+    public void testForEachChunkPosition() {
+        chunkCache.put(new Vector3i(5, 6, 7), mock(Chunk.class));
+        chunkCache.put(new Vector3i(-5, -6, -7), mock(Chunk.class));
+
+        TLongList positions = new TLongArrayList();
+        assertTrue(chunkCache.forEachChunkPosition(positions::add));
+
+        assertEquals(2, positions.size());
+        assertTrue(positions.contains(ChunkMath.packChunkPos(5, 6, 7)));
+        assertTrue(positions.contains(ChunkMath.packChunkPos(-5, -6, -7)));
+        assertFalse(chunkCache.forEachChunkPosition(pos -> false));
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        chunkCache.put(new Vector3i(1, 1, 1), mock(Chunk.class));
+        chunkCache.put(new Vector3i(2, 2, 2), mock(Chunk.class));
+
+        Iterator<Vector3i> iterator = chunkCache.iterateChunkPositions();
+        while (iterator.hasNext()) {
+            if (iterator.next().equals(new Vector3i(1, 1, 1))) {
+                iterator.remove();
+            }
+        }
+
+        assertNull(chunkCache.get(1, 1, 1));
+        assertEquals(1, chunkCache.size());
+    }
+
+    @Test
+    public void testClear() {
+        chunkCache.put(new Vector3i(1, 1, 1), mock(Chunk.class));
+        chunkCache.clear();
+
+        assertEquals(0, chunkCache.size());
+        assertNull(chunkCache.get(1, 1, 1));
+    }
+}
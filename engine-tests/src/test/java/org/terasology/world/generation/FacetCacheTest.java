@@ -0,0 +1,202 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.world.generation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.terasology.context.Context;
+import org.terasology.context.internal.ContextImpl;
+import org.terasology.entitySystem.Component;
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.generation.facets.base.BaseFacet2D;
+import org.terasology.world.generation.facets.base.BaseFacet3D;
+import org.terasology.world.generator.plugin.WorldGeneratorPluginLibrary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class FacetCacheTest {
+
+    private static final Region3i LOWER_REGION = Region3i.createFromMinAndSize(new Vector3i(0, 0, 0),
+            new Vector3i(4, 4, 4));
+    private static final Region3i UPPER_REGION = Region3i.createFromMinAndSize(new Vector3i(0, 4, 0),
+            new Vector3i(4, 4, 4));
+    private static final Region3i NEIGHBOUR_REGION = Region3i.createFromMinAndSize(new Vector3i(4, 0, 0),
+            new Vector3i(4, 4, 4));
+
+    private Context context = new ContextImpl();
+    private WorldBuilder worldBuilder;
+    private HeightProvider heightProvider;
+    private SlopeProvider slopeProvider;
+    private DensityProvider densityProvider;
+
+    @BeforeEach
+    public void setup() {
+        worldBuilder = new WorldBuilder(context.get(WorldGeneratorPluginLibrary.class));
+        worldBuilder.setSeed(12);
+        heightProvider = new HeightProvider();
+        slopeProvider = new SlopeProvider();
+        densityProvider = new DensityProvider();
+        worldBuilder.addProvider(heightProvider);
+        worldBuilder.addProvider(slopeProvider);
+        worldBuilder.addProvider(densityProvider);
+    }
+
+    @Test
+    public void testColumnFacetsAreSharedByRegionsAboveEachOther() {
+        World world = worldBuilder.build();
+
+        Region lower = world.getWorldData(LOWER_REGION);
+        Region upper = world.getWorldData(UPPER_REGION);
+        Region neighbour = world.getWorldData(NEIGHBOUR_REGION);
+        lower.getFacet(DensityFacet.class);
+        upper.getFacet(DensityFacet.class);
+        neighbour.getFacet(DensityFacet.class);
+
+        assertSame(lower.getFacet(HeightFacet.class), upper.getFacet(HeightFacet.class));
+        assertSame(lower.getFacet(SlopeFacet.class), upper.getFacet(SlopeFacet.class));
+        assertEquals(2, heightProvider.processed);
+        assertEquals(1, slopeProvider.processed);
+        assertEquals(3, densityProvider.processed);
+
+        FacetCache facetCache = ((WorldImpl) world).getFacetCache();
+        assertEquals(1 / 3.0, facetCache.getHitRate(HeightFacet.class), 1e-9);
+        assertEquals(0, facetCache.getHitRate(DensityFacet.class), 1e-9);
+    }
+
+    @Test
+    public void testUpdatedFacetsAreNotCached() {
+        worldBuilder.addProvider(new HeightUpdater());
+        World world = worldBuilder.build();
+
+        world.getWorldData(LOWER_REGION).getFacet(SlopeFacet.class);
+        world.getWorldData(UPPER_REGION).getFacet(SlopeFacet.class);
+
+        assertEquals(2, heightProvider.processed);
+        assertEquals(2, slopeProvider.processed);
+    }
+
+    @Test
+    public void testConfigurationChangesClearTheCache() {
+        World world = worldBuilder.build();
+        WorldConfiguration configuration = new WorldConfiguration();
+
+        world.getWorldData(LOWER_REGION).getFacet(HeightFacet.class);
+        worldBuilder.createConfigurator().setProperty(HeightProvider.CONFIGURATION_NAME, configuration);
+        world.getWorldData(UPPER_REGION).getFacet(HeightFacet.class);
+
+        assertEquals(2, heightProvider.processed);
+        assertSame(configuration, heightProvider.configuration);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedFacetsAreEvicted() {
+        // Room for the height and slope facets of a single column
+        worldBuilder.setFacetCacheCapacity(500);
+        World world = worldBuilder.build();
+
+        world.getWorldData(LOWER_REGION).getFacet(HeightFacet.class);
+        world.getWorldData(NEIGHBOUR_REGION).getFacet(HeightFacet.class);
+        world.getWorldData(UPPER_REGION).getFacet(HeightFacet.class);
+
+        assertEquals(3, heightProvider.processed);
+        // Only the height facet of the upper region is left, which has a border of 1 for the slope provider
+        assertEquals(128 + 4 * 6 * 6, ((WorldImpl) world).getFacetCache().getSize());
+    }
+
+    @Test
+    public void testCacheCanBeDisabled() {
+        worldBuilder.setFacetCacheCapacity(0);
+        World world = worldBuilder.build();
+
+        world.getWorldData(LOWER_REGION).getFacet(HeightFacet.class);
+        world.getWorldData(UPPER_REGION).getFacet(HeightFacet.class);
+
+        assertEquals(2, heightProvider.processed);
+    }
+
+    public static class HeightFacet extends BaseFacet2D {
+        public HeightFacet(Region3i targetRegion, Border3D border) {
+            super(targetRegion, border);
+        }
+    }
+
+    public static class SlopeFacet extends BaseFacet2D {
+        public SlopeFacet(Region3i targetRegion, Border3D border) {
+            super(targetRegion, border);
+        }
+    }
+
+    public static class DensityFacet extends BaseFacet3D {
+        public DensityFacet(Region3i targetRegion, Border3D border) {
+            super(targetRegion, border);
+        }
+    }
+
+    public static class WorldConfiguration implements Component {
+    }
+
+    @Produces(HeightFacet.class)
+    public static class HeightProvider implements ConfigurableFacetProvider {
+        static final String CONFIGURATION_NAME = "height";
+
+        int processed;
+        Component configuration = new WorldConfiguration();
+
+        @Override
+        public void process(GeneratingRegion region) {
+            processed++;
+            region.setRegionFacet(HeightFacet.class,
+                    new HeightFacet(region.getRegion(), region.getBorderForFacet(HeightFacet.class)));
+        }
+
+        @Override
+        public String getConfigurationName() {
+            return CONFIGURATION_NAME;
+        }
+
+        @Override
+        public Component getConfiguration() {
+            return configuration;
+        }
+
+        @Override
+        public void setConfiguration(Component configuration) {
+            this.configuration = configuration;
+        }
+    }
+
+    @Produces(SlopeFacet.class)
+    @Requires(@Facet(value = HeightFacet.class, border = @FacetBorder(sides = 1)))
+    public static class SlopeProvider implements FacetProvider {
+        int processed;
+
+        @Override
+        public void process(GeneratingRegion region) {
+            processed++;
+            region.setRegionFacet(SlopeFacet.class,
+                    new SlopeFacet(region.getRegion(), region.getBorderForFacet(SlopeFacet.class)));
+        }
+    }
+
+    @Produces(DensityFacet.class)
+    @Requires(@Facet(HeightFacet.class))
+    public static class DensityProvider implements FacetProvider {
+        int processed;
+
+        @Override
+        public void process(GeneratingRegion region) {
+            processed++;
+            region.setRegionFacet(DensityFacet.class,
+                    new DensityFacet(region.getRegion(), region.getBorderForFacet(DensityFacet.class)));
+        }
+    }
+
+    @Updates(@Facet(HeightFacet.class))
+    public static class HeightUpdater implements FacetProvider {
+        @Override
+        public void process(GeneratingRegion region) {
+        }
+    }
+}
@@ -0,0 +1,121 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.world.internal;
+
+import com.google.common.collect.Maps;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.terasology.context.Context;
+import org.terasology.context.internal.ContextImpl;
+import org.terasology.engine.SimpleUri;
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.ChunkBlockChanges;
+import org.terasology.world.WorldChangeListener;
+import org.terasology.world.block.Block;
+import org.terasology.world.chunks.Chunk;
+import org.terasology.world.chunks.internal.GeneratingChunkProvider;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WorldProviderCoreImplTest {
+
+    private final Block air = new Block();
+    private final Block stone = new Block();
+    private final Map<Vector3i, Chunk> chunks = Maps.newHashMap();
+
+    private WorldProviderCoreImpl worldProvider;
+    private WorldChangeListener listener;
+
+    @BeforeEach
+    public void setup() {
+        GeneratingChunkProvider chunkProvider = mock(GeneratingChunkProvider.class);
+        when(chunkProvider.getChunk(any(Vector3i.class)))
+                .thenAnswer(invocation -> chunks.get(invocation.getArgument(0)));
+        when(chunkProvider.getChunk(anyInt(), anyInt(), anyInt())).thenAnswer(invocation -> chunks.get(new Vector3i(
+                invocation.<Integer>getArgument(0), invocation.<Integer>getArgument(1), invocation.getArgument(2))));
+
+        Context context = new ContextImpl();
+        worldProvider = new WorldProviderCoreImpl("test", "test", "seed", 0, new SimpleUri(), chunkProvider, air,
+                context);
+        listener = mock(WorldChangeListener.class);
+        worldProvider.registerListener(listener);
+    }
+
+    @Test
+    public void testRegionMarksTouchedChunksDirtyOnce() {
+        Chunk left = loadChunk(-1, 0, 0);
+        Chunk first = loadChunk(0, 0, 0);
+        Chunk second = loadChunk(1, 0, 0);
+        Chunk right = loadChunk(2, 0, 0);
+
+        // Crosses the border between the chunks at x = 0 and x = 1, away from all other chunk borders
+        worldProvider.setBlocks(Region3i.createFromMinMax(new Vector3i(30, 10, 10), new Vector3i(33, 12, 12)), stone);
+
+        verify(first, times(1)).setDirty(true);
+        verify(second, times(1)).setDirty(true);
+        verify(left, never()).setDirty(anyBoolean());
+        verify(right, never()).setDirty(anyBoolean());
+    }
+
+    @Test
+    public void testRegionNotifiesListenersOncePerChunk() {
+        loadChunk(0, 0, 0);
+        loadChunk(1, 0, 0);
+
+        Map<Vector3i, Block> result = worldProvider.setBlocks(
+                Region3i.createFromMinMax(new Vector3i(30, 10, 10), new Vector3i(33, 12, 12)), stone);
+
+        assertEquals(4 * 3 * 3, result.size());
+        ArgumentCaptor<ChunkBlockChanges> changes = ArgumentCaptor.forClass(ChunkBlockChanges.class);
+        verify(listener, times(2)).onBlocksChanged(changes.capture());
+        verify(listener, never()).onBlockChanged(any(), any(), any());
+        List<ChunkBlockChanges> notified = changes.getAllValues();
+        assertEquals(2, notified.size());
+        for (ChunkBlockChanges chunkChanges : notified) {
+            assertEquals(2 * 3 * 3, chunkChanges.size());
+            for (int i = 0; i < chunkChanges.size(); i++) {
+                assertEquals(chunkChanges.getX(i) < 32 ? 0 : 1, chunkChanges.getChunkPos().x);
+                assertSame(stone, chunkChanges.getNewBlock(i));
+                assertSame(air, chunkChanges.getOriginalBlock(i));
+            }
+        }
+    }
+
+    @Test
+    public void testRegionSkipsUnloadedChunks() {
+        Chunk loaded = loadChunk(0, 0, 0);
+
+        Map<Vector3i, Block> result = worldProvider.setBlocks(
+                Region3i.createFromMinMax(new Vector3i(31, 10, 10), new Vector3i(32, 10, 10)), stone);
+
+        assertSame(air, result.get(new Vector3i(31, 10, 10)));
+        assertNull(result.get(new Vector3i(32, 10, 10)));
+        verify(loaded, times(1)).setDirty(true);
+        ArgumentCaptor<ChunkBlockChanges> changes = ArgumentCaptor.forClass(ChunkBlockChanges.class);
+        verify(listener, times(1)).onBlocksChanged(changes.capture());
+        assertEquals(new Vector3i(0, 0, 0), changes.getValue().getChunkPos());
+        assertEquals(1, changes.getValue().size());
+    }
+
+    private Chunk loadChunk(int x, int y, int z) {
+        Chunk chunk = mock(Chunk.class);
+        when(chunk.setBlock(anyInt(), anyInt(), anyInt(), any(Block.class))).thenReturn(air);
+        chunks.put(new Vector3i(x, y, z), chunk);
+        return chunk;
+    }
+}
@@ -0,0 +1,85 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.world.propagation;
+
+import org.junit.jupiter.api.Test;
+import org.terasology.math.geom.Vector3i;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PackedPositionQueueTest {
+
+    @Test
+    public void testPositionsArePolledInOrderAndOnlyOnce() {
+        PackedPositionQueue queue = new PackedPositionQueue();
+        Vector3i[] positions = {new Vector3i(0, 0, 0), new Vector3i(-1, -65, -33), new Vector3i(31, 63, 31),
+                new Vector3i(1000000, -2000, 32)};
+        for (Vector3i pos : positions) {
+            assertTrue(queue.add(pos));
+        }
+        assertFalse(queue.add(new Vector3i(-1, -65, -33)));
+
+        Vector3i polled = new Vector3i();
+        for (Vector3i pos : positions) {
+            queue.poll(polled);
+            assertEquals(pos, polled);
+        }
+        assertTrue(queue.isEmpty());
+        assertThrows(NoSuchElementException.class, () -> queue.poll(polled));
+    }
+
+    @Test
+    public void testRemovedPositionsAreSkipped() {
+        PackedPositionQueue queue = new PackedPositionQueue();
+        queue.add(new Vector3i(1, 2, 3));
+        queue.add(new Vector3i(4, 5, 6));
+
+        assertTrue(queue.remove(new Vector3i(1, 2, 3)));
+        assertFalse(queue.remove(new Vector3i(1, 2, 3)));
+        assertFalse(queue.remove(new Vector3i(7, 8, 9)));
+
+        Vector3i polled = new Vector3i();
+        queue.poll(polled);
+        assertEquals(new Vector3i(4, 5, 6), polled);
+        assertTrue(queue.isEmpty());
+        assertTrue(queue.add(new Vector3i(1, 2, 3)));
+    }
+
+    /**
+     * A position that got removed and added again may be polled at its original place in the queue, so only the
+     * queued positions are compared.
+     */
+    @Test
+    public void testHoldsTheSamePositionsAsLinkedPositionQueue() {
+        Random random = new Random(42);
+        PackedPositionQueue packed = new PackedPositionQueue();
+        LinkedPositionQueue linked = new LinkedPositionQueue();
+        Vector3i pos = new Vector3i();
+        Vector3i packedResult = new Vector3i();
+
+        for (int i = 0; i < 100000; i++) {
+            pos.set(random.nextInt(200) - 100, random.nextInt(200) - 100, random.nextInt(200) - 100);
+            int operation = random.nextInt(10);
+            if (operation < 5) {
+                assertEquals(linked.add(pos), packed.add(pos));
+            } else if (operation < 6) {
+                assertEquals(linked.remove(pos), packed.remove(pos));
+            } else if (operation < 9) {
+                if (!packed.isEmpty()) {
+                    packed.poll(packedResult);
+                    assertTrue(linked.remove(packedResult));
+                }
+            } else if (random.nextInt(100) == 0) {
+                linked.clear();
+                packed.clear();
+            }
+            assertEquals(linked.isEmpty(), packed.isEmpty());
+        }
+    }
+}
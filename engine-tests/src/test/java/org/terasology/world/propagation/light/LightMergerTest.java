@@ -0,0 +1,90 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.world.propagation.light;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.chunks.Chunk;
+import org.terasology.world.chunks.internal.GeneratingChunkProvider;
+import org.terasology.world.chunks.pipeline.ChunkTask;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class LightMergerTest {
+
+    private List<ChunkTask> submittedTasks;
+    private LightMerger<String> lightMerger;
+
+    @BeforeEach
+    public void setup() {
+        submittedTasks = new ArrayList<>();
+        lightMerger = new LightMerger<>(mock(GeneratingChunkProvider.class), submittedTasks::add);
+    }
+
+    @Test
+    public void testMergesOfOverlappingNeighbourhoodsWaitForEachOther() {
+        lightMerger.beginMerge(chunkAt(0, 0, 0), "first");
+        lightMerger.beginMerge(chunkAt(2, 0, 0), "overlapping");
+        lightMerger.beginMerge(chunkAt(0, 3, 0), "separate");
+
+        assertEquals(Arrays.asList(new Vector3i(0, 0, 0), new Vector3i(0, 3, 0)), submittedPositions());
+
+        runSubmittedTask(0);
+
+        assertEquals(Arrays.asList(new Vector3i(0, 3, 0), new Vector3i(2, 0, 0)), submittedPositions());
+        assertEquals(Arrays.asList("first"), lightMerger.completeMerge());
+    }
+
+    @Test
+    public void testLaterMergesDoNotOvertakeWaitingOverlappingMerges() {
+        lightMerger.beginMerge(chunkAt(0, 0, 0), "first");
+        lightMerger.beginMerge(chunkAt(2, 0, 0), "waiting");
+        lightMerger.beginMerge(chunkAt(4, 0, 0), "overlapping the waiting merge");
+
+        assertEquals(Arrays.asList(new Vector3i(0, 0, 0)), submittedPositions());
+
+        runSubmittedTask(0);
+        runSubmittedTask(0);
+        runSubmittedTask(0);
+
+        assertTrue(submittedTasks.isEmpty());
+        assertEquals(Arrays.asList("first", "waiting", "overlapping the waiting merge"), lightMerger.completeMerge());
+    }
+
+    @Test
+    public void testShutdownDropsWaitingMerges() {
+        lightMerger.beginMerge(chunkAt(0, 0, 0), "first");
+        lightMerger.beginMerge(chunkAt(1, 0, 0), "waiting");
+
+        lightMerger.shutdown();
+        runSubmittedTask(0);
+
+        assertTrue(submittedTasks.isEmpty());
+    }
+
+    private void runSubmittedTask(int index) {
+        submittedTasks.remove(index).run();
+    }
+
+    private List<Vector3i> submittedPositions() {
+        List<Vector3i> positions = new ArrayList<>();
+        for (ChunkTask task : submittedTasks) {
+            positions.add(task.getPosition());
+        }
+        return positions;
+    }
+
+    private static Chunk chunkAt(int x, int y, int z) {
+        Chunk chunk = mock(Chunk.class);
+        when(chunk.getPosition()).thenReturn(new Vector3i(x, y, z));
+        return chunk;
+    }
+}
@@ -49,6 +49,22 @@ public class NetworkConfig {
      */
     private String masterServer = "meta.terasology.org";
 
+    /**
+     * The distance in blocks within which clients get every change of an entity
+     */
+    private int entityNearDistance = 64;
+
+    /**
+     * The number of net ticks between the updates of entities beyond the near distance
+     */
+    private int farEntityUpdateInterval = 4;
+
+    /**
+     * The zlib compression level of the data sent by the server, from 1 for the fastest to 9 for the best compression,
+     * or 0 to send it uncompressed
+     */
+    private int compressionLevel = 6;
+
     public void clear() {
         servers.clear();
     }
@@ -96,4 +112,28 @@ public String getMasterServer() {
     public void setMasterServer(String masterServer) {
         this.masterServer = masterServer;
     }
+
+    public int getEntityNearDistance() {
+        return entityNearDistance;
+    }
+
+    public void setEntityNearDistance(int entityNearDistance) {
+        this.entityNearDistance = entityNearDistance;
+    }
+
+    public int getFarEntityUpdateInterval() {
+        return farEntityUpdateInterval;
+    }
+
+    public void setFarEntityUpdateInterval(int farEntityUpdateInterval) {
+        this.farEntityUpdateInterval = farEntityUpdateInterval;
+    }
+
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    public void setCompressionLevel(int compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
 }
@@ -31,6 +31,11 @@ public class SystemConfig {
     private boolean monitoringEnabled;
     private boolean writeSaveGamesEnabled;
     private long chunkGenerationFailTimeoutInMs;
+    private int chunkZipWriterThreads;
+    private boolean chunkRegionFilesEnabled;
+    private String chunkCompression;
+    private boolean parallelSystemUpdatesEnabled;
+    private boolean archetypeEntityStorageEnabled;
     private String locale;
 
     public long getDayNightLengthInMs() {
@@ -101,6 +106,66 @@ public void setChunkGenerationFailTimeoutInMs(long chunkGenerationFailTimeoutInM
         this.chunkGenerationFailTimeoutInMs = chunkGenerationFailTimeoutInMs;
     }
 
+    /**
+     * @return the number of chunk zips a save writes in parallel. 0 keeps writing them one after another through the
+     *         zip file system.
+     */
+    public int getChunkZipWriterThreads() {
+        return chunkZipWriterThreads;
+    }
+
+    public void setChunkZipWriterThreads(int chunkZipWriterThreads) {
+        this.chunkZipWriterThreads = chunkZipWriterThreads;
+    }
+
+    /**
+     * @return whether the chunks of saves are stored in region files. Saves that store their chunks in zips get
+     *         converted when they are loaded.
+     */
+    public boolean isChunkRegionFilesEnabled() {
+        return chunkRegionFilesEnabled;
+    }
+
+    public void setChunkRegionFilesEnabled(boolean chunkRegionFilesEnabled) {
+        this.chunkRegionFilesEnabled = chunkRegionFilesEnabled;
+    }
+
+    /**
+     * @return the name of the codec the chunks of new saves get compressed with, one of gzip, deflate and lz4.
+     *         Existing saves keep the codec they were created with.
+     */
+    public String getChunkCompression() {
+        return chunkCompression;
+    }
+
+    public void setChunkCompression(String chunkCompression) {
+        this.chunkCompression = chunkCompression;
+    }
+
+    /**
+     * @return whether update subscriber systems that declare the components they access may be updated in parallel.
+     *         Otherwise all of them are updated one after another, in the order they were registered in.
+     */
+    public boolean isParallelSystemUpdatesEnabled() {
+        return parallelSystemUpdatesEnabled;
+    }
+
+    public void setParallelSystemUpdatesEnabled(boolean parallelSystemUpdatesEnabled) {
+        this.parallelSystemUpdatesEnabled = parallelSystemUpdatesEnabled;
+    }
+
+    /**
+     * @return whether the entity manager stores the components of entities grouped by the set of component types of
+     *         each entity, which speeds up finding the entities with given components
+     */
+    public boolean isArchetypeEntityStorageEnabled() {
+        return archetypeEntityStorageEnabled;
+    }
+
+    public void setArchetypeEntityStorageEnabled(boolean archetypeEntityStorageEnabled) {
+        this.archetypeEntityStorageEnabled = archetypeEntityStorageEnabled;
+    }
+
     public Locale getLocale() {
         if (locale == null) {
             setLocale(Locale.getDefault(Category.DISPLAY));
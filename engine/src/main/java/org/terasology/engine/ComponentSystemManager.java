@@ -21,6 +21,7 @@
 import com.google.common.collect.Maps;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.terasology.config.Config;
 import org.terasology.context.Context;
 import org.terasology.engine.subsystem.DisplayDevice;
 import org.terasology.entitySystem.entity.EntityManager;
@@ -61,7 +62,7 @@ public class ComponentSystemManager {
     private static final Logger logger = LoggerFactory.getLogger(ComponentSystemManager.class);
 
     private Map<String, ComponentSystem> namedLookup = Maps.newHashMap();
-    private List<UpdateSubscriberSystem> updateSubscribers = Lists.newArrayList();
+    private final UpdateSubscriberScheduler updateSubscribers = new UpdateSubscriberScheduler();
     private List<RenderSystem> renderSubscribers = Lists.newArrayList();
     private List<ComponentSystem> store = Lists.newArrayList();
 
@@ -144,6 +145,8 @@ public void register(ComponentSystem object, String name) {
     public void initialise() {
         if (!initialised) {
             console = context.get(Console.class);
+            Config config = context.get(Config.class);
+            updateSubscribers.setParallel(config != null && config.getSystem().isParallelSystemUpdatesEnabled());
             for (ComponentSystem system : getAllSystems()) {
                 initialiseSystem(system);
             }
@@ -180,7 +183,18 @@ public List<ComponentSystem> getAllSystems() {
     }
 
     public Iterable<UpdateSubscriberSystem> iterateUpdateSubscribers() {
-        return updateSubscribers;
+        return updateSubscribers.getSystems();
+    }
+
+    /**
+     * Updates all registered {@link UpdateSubscriberSystem}s. Systems declaring their
+     * {@link org.terasology.entitySystem.systems.ComponentAccess} may be updated in parallel, if enabled in the
+     * {@link org.terasology.config.SystemConfig}.
+     *
+     * @param delta The time (in seconds) since the last engine update.
+     */
+    public void update(float delta) {
+        updateSubscribers.update(delta);
     }
 
     public Iterable<RenderSystem> iterateRenderSubscribers() {
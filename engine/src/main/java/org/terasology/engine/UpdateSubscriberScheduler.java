@@ -0,0 +1,189 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.systems.ComponentAccess;
+import org.terasology.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.monitoring.PerformanceMonitor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Updates the {@link UpdateSubscriberSystem}s, running systems that declare non-conflicting
+ * {@link ComponentAccess} in parallel.
+ * <br><br>
+ * The systems are split into stages: every system is placed in the stage after the last stage holding an earlier
+ * registered system it conflicts with. So conflicting systems are updated in registration order, no matter how the
+ * systems of a stage get scheduled. Systems without {@link ComponentAccess} conflict with all systems and get a stage
+ * on their own.
+ * <br><br>
+ * The first system of a stage is updated on the main thread, the others on a fork-join pool. Their execution times are
+ * reported to the {@link PerformanceMonitor} once the stage is complete.
+ */
+class UpdateSubscriberScheduler {
+    private final List<UpdateSubscriberSystem> systems = Lists.newArrayList();
+    private List<List<UpdateSubscriberSystem>> stages;
+    private boolean parallel;
+    private ForkJoinPool pool;
+
+    void add(UpdateSubscriberSystem system) {
+        systems.add(system);
+        stages = null;
+    }
+
+    List<UpdateSubscriberSystem> getSystems() {
+        return Collections.unmodifiableList(systems);
+    }
+
+    /**
+     * @param parallel whether systems are updated in parallel. Otherwise all systems are updated one after another on
+     *                 the main thread, in registration order.
+     */
+    void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    void update(float delta) {
+        if (!parallel) {
+            for (UpdateSubscriberSystem system : systems) {
+                updateOnCurrentThread(system, delta);
+            }
+            return;
+        }
+        for (List<UpdateSubscriberSystem> stage : getStages()) {
+            if (stage.size() == 1) {
+                updateOnCurrentThread(stage.get(0), delta);
+            } else {
+                updateInParallel(stage, delta);
+            }
+        }
+    }
+
+    List<List<UpdateSubscriberSystem>> getStages() {
+        if (stages == null) {
+            stages = buildStages(systems);
+        }
+        return stages;
+    }
+
+    void clear() {
+        systems.clear();
+        stages = null;
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+
+    private static void updateOnCurrentThread(UpdateSubscriberSystem system, float delta) {
+        PerformanceMonitor.startActivity(system.getClass().getSimpleName());
+        try {
+            system.update(delta);
+        } finally {
+            PerformanceMonitor.endActivity();
+        }
+    }
+
+    private void updateInParallel(List<UpdateSubscriberSystem> stage, float delta) {
+        if (pool == null) {
+            pool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+        }
+        long[] times = new long[stage.size()];
+        List<ForkJoinTask<?>> tasks = Lists.newArrayListWithCapacity(stage.size() - 1);
+        for (int i = 1; i < stage.size(); i++) {
+            UpdateSubscriberSystem system = stage.get(i);
+            int index = i;
+            tasks.add(pool.submit(() -> {
+                long start = System.nanoTime();
+                system.update(delta);
+                times[index] = System.nanoTime() - start;
+            }));
+        }
+
+        RuntimeException failure = null;
+        try {
+            updateOnCurrentThread(stage.get(0), delta);
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        for (ForkJoinTask<?> task : tasks) {
+            try {
+                task.join();
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        for (int i = 1; i < stage.size(); i++) {
+            PerformanceMonitor.recordActivityTime(stage.get(i).getClass().getSimpleName(),
+                    TimeUnit.NANOSECONDS.toMillis(times[i]));
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    static List<List<UpdateSubscriberSystem>> buildStages(List<UpdateSubscriberSystem> systems) {
+        List<List<UpdateSubscriberSystem>> result = Lists.newArrayList();
+        Access[] accesses = new Access[systems.size()];
+        int[] systemStages = new int[systems.size()];
+        for (int i = 0; i < systems.size(); i++) {
+            accesses[i] = Access.of(systems.get(i));
+            int stage = 0;
+            for (int j = 0; j < i; j++) {
+                if (systemStages[j] >= stage && accesses[i].conflictsWith(accesses[j])) {
+                    stage = systemStages[j] + 1;
+                }
+            }
+            systemStages[i] = stage;
+            if (stage == result.size()) {
+                result.add(Lists.newArrayList());
+            }
+            result.get(stage).add(systems.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * The component types a system declared to access, null sets if it did not declare them.
+     */
+    private static final class Access {
+        private final Set<Class<? extends Component>> reads;
+        private final Set<Class<? extends Component>> writes;
+
+        private Access(Set<Class<? extends Component>> reads, Set<Class<? extends Component>> writes) {
+            this.reads = reads;
+            this.writes = writes;
+        }
+
+        static Access of(UpdateSubscriberSystem system) {
+            ComponentAccess access = system.getClass().getAnnotation(ComponentAccess.class);
+            if (access == null) {
+                return new Access(null, null);
+            }
+            return new Access(Sets.newHashSet(Arrays.asList(access.reads())),
+                    Sets.newHashSet(Arrays.asList(access.writes())));
+        }
+
+        boolean conflictsWith(Access other) {
+            if (writes == null || other.writes == null) {
+                return true;
+            }
+            return !Collections.disjoint(writes, other.writes)
+                    || !Collections.disjoint(writes, other.reads)
+                    || !Collections.disjoint(reads, other.writes);
+        }
+    }
+}
@@ -18,12 +18,14 @@
 
 import org.terasology.assets.ResourceUrn;
 import org.terasology.audio.events.PlaySoundEvent;
+import org.terasology.config.Config;
 import org.terasology.context.Context;
 import org.terasology.engine.SimpleUri;
 import org.terasology.engine.module.ModuleManager;
 import org.terasology.entitySystem.Component;
 import org.terasology.entitySystem.entity.EntityManager;
 import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.entity.internal.ArchetypeEntityPool;
 import org.terasology.entitySystem.entity.internal.EngineEntityManager;
 import org.terasology.entitySystem.entity.internal.PojoEntityManager;
 import org.terasology.entitySystem.event.Event;
@@ -107,6 +109,9 @@ public static void addReflectionBasedLibraries(Context context) {
      * <li>{@link PrefabManager}</li>
      * <li>{@link EventSystem}</li>
      * </ul>
+     * <p>
+     * The entity manager stores components by archetype if a {@link Config} in the context enables it, see
+     * {@link org.terasology.config.SystemConfig#isArchetypeEntityStorageEnabled()}.
      */
     public static void addEntityManagementRelatedClasses(Context context) {
         ModuleManager moduleManager = context.get(ModuleManager.class);
@@ -114,7 +119,13 @@ public static void addEntityManagementRelatedClasses(Context context) {
         NetworkSystem networkSystem = context.get(NetworkSystem.class);
 
         // Entity Manager
-        PojoEntityManager entityManager = new PojoEntityManager();
+        Config config = context.get(Config.class);
+        PojoEntityManager entityManager;
+        if (config != null && config.getSystem().isArchetypeEntityStorageEnabled()) {
+            entityManager = new PojoEntityManager(ArchetypeEntityPool::new);
+        } else {
+            entityManager = new PojoEntityManager();
+        }
         context.put(EntityManager.class, entityManager);
         context.put(EngineEntityManager.class, entityManager);
 
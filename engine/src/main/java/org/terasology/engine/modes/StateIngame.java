@@ -26,7 +26,6 @@
 import org.terasology.engine.subsystem.DisplayDevice;
 import org.terasology.entitySystem.entity.internal.EngineEntityManager;
 import org.terasology.entitySystem.event.internal.EventSystem;
-import org.terasology.entitySystem.systems.UpdateSubscriberSystem;
 import org.terasology.game.GameManifest;
 import org.terasology.identity.storageServiceClient.StorageServiceWorker;
 import org.terasology.input.InputSystem;
@@ -166,11 +165,7 @@ public void update(float delta) {
 
         eventSystem.process();
 
-        for (UpdateSubscriberSystem system : componentSystemManager.iterateUpdateSubscribers()) {
-            PerformanceMonitor.startActivity(system.getClass().getSimpleName());
-            system.update(delta);
-            PerformanceMonitor.endActivity();
-        }
+        componentSystemManager.update(delta);
 
         if (worldRenderer != null && shouldUpdateWorld()) {
             worldRenderer.update(delta);
@@ -0,0 +1,458 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.entitySystem.entity.internal;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import gnu.trove.iterator.TLongIterator;
+import gnu.trove.iterator.TLongObjectIterator;
+import gnu.trove.list.TLongList;
+import gnu.trove.list.array.TLongArrayList;
+import gnu.trove.map.TLongIntMap;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongIntHashMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import gnu.trove.set.hash.TLongHashSet;
+import org.terasology.entitySystem.Component;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A component table that groups entities by their set of component types (their archetype).
+ * <p>
+ * Each archetype keeps the ids of its entities and one dense column per component type, so iterating over all
+ * entities with a given set of components walks arrays instead of probing a map per component per entity. Adding
+ * or removing a component moves the entity to the matching archetype; the transitions are cached on the archetypes.
+ * <p>
+ * Like {@link ComponentTable} this is not safe for concurrent modification.
+ */
+public class ArchetypeComponentTable extends ComponentTable {
+    private static final int INITIAL_ARCHETYPE_CAPACITY = 16;
+
+    private final Archetype emptyArchetype = new Archetype(ImmutableSet.of());
+    private final Map<Set<Class<? extends Component>>, Archetype> archetypes = Maps.newHashMap();
+    private final TLongObjectMap<Archetype> entityArchetypes = new TLongObjectHashMap<>();
+    private final TLongIntMap entityRows = new TLongIntHashMap();
+
+    @Override
+    public <T extends Component> T get(long entityId, Class<T> componentClass) {
+        Archetype archetype = entityArchetypes.get(entityId);
+        if (archetype != null) {
+            int column = archetype.columnOf(componentClass);
+            if (column >= 0) {
+                return componentClass.cast(archetype.columns[column][entityRows.get(entityId)]);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Component put(long entityId, Component component) {
+        Class<? extends Component> componentClass = component.getClass();
+        Archetype archetype = entityArchetypes.get(entityId);
+        if (archetype == null) {
+            Archetype target = transitionAdding(emptyArchetype, componentClass);
+            int row = target.addRow(entityId);
+            target.columns[target.columnOf(componentClass)][row] = component;
+            entityArchetypes.put(entityId, target);
+            entityRows.put(entityId, row);
+            return null;
+        }
+
+        int row = entityRows.get(entityId);
+        int column = archetype.columnOf(componentClass);
+        if (column >= 0) {
+            Component previous = archetype.columns[column][row];
+            archetype.columns[column][row] = component;
+            return previous;
+        }
+        Archetype target = transitionAdding(archetype, componentClass);
+        int newRow = move(entityId, archetype, row, target);
+        target.columns[target.columnOf(componentClass)][newRow] = component;
+        return null;
+    }
+
+    /**
+     * @return removes the component with the specified class from the entity and returns it.
+     *         Returns null if no component could be removed.
+     */
+    @Override
+    public <T extends Component> Component remove(long entityId, Class<T> componentClass) {
+        Archetype archetype = entityArchetypes.get(entityId);
+        if (archetype == null) {
+            return null;
+        }
+        int column = archetype.columnOf(componentClass);
+        if (column < 0) {
+            return null;
+        }
+        int row = entityRows.get(entityId);
+        Component removed = archetype.columns[column][row];
+        if (archetype.types.length == 1) {
+            removeEntity(entityId, archetype, row);
+        } else {
+            move(entityId, archetype, row, transitionRemoving(archetype, componentClass));
+        }
+        return removed;
+    }
+
+    @Override
+    public List<Component> removeAndReturnComponentsOf(long entityId) {
+        Archetype archetype = entityArchetypes.get(entityId);
+        if (archetype == null) {
+            return Lists.newArrayList();
+        }
+        int row = entityRows.get(entityId);
+        List<Component> components = archetype.getRow(row);
+        removeEntity(entityId, archetype, row);
+        return components;
+    }
+
+    @Override
+    public void remove(long entityId) {
+        Archetype archetype = entityArchetypes.get(entityId);
+        if (archetype != null) {
+            removeEntity(entityId, archetype, entityRows.get(entityId));
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (Archetype archetype : archetypes.values()) {
+            archetype.clear();
+        }
+        entityArchetypes.clear();
+        entityRows.clear();
+    }
+
+    @Override
+    public int getComponentCount(Class<? extends Component> componentClass) {
+        int count = 0;
+        for (Archetype archetype : archetypes.values()) {
+            if (archetype.columnOf(componentClass) >= 0) {
+                count += archetype.size;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public Iterable<Component> iterateComponents(long entityId) {
+        return getComponentsInNewList(entityId);
+    }
+
+    @Override
+    public List<Component> getComponentsInNewList(long entityId) {
+        Archetype archetype = entityArchetypes.get(entityId);
+        if (archetype == null) {
+            return Lists.newArrayList();
+        }
+        return archetype.getRow(entityRows.get(entityId));
+    }
+
+    /**
+     * The returned iterator does not support {@link TLongObjectIterator#remove()}.
+     */
+    @Override
+    public <T extends Component> TLongObjectIterator<T> componentIterator(Class<T> componentClass) {
+        return new ColumnIterator<>(componentClass, matchingArchetypes(Collections.singletonList(componentClass)));
+    }
+
+    @Override
+    public TLongIterator entityIdIterator() {
+        return new TLongHashSet(entityArchetypes.keys()).iterator();
+    }
+
+    @Override
+    public int numEntities() {
+        return entityArchetypes.size();
+    }
+
+    /**
+     * Produces an iterator over the ids of all entities that have all of the given components.
+     * <br><br>
+     * The ids are copied when this method is called, so components can be added and removed while iterating.
+     *
+     * @param componentClasses the required component types
+     * @return an iterator over the matching entity ids
+     */
+    public TLongIterator entityIdIterator(List<Class<? extends Component>> componentClasses) {
+        TLongList ids = new TLongArrayList();
+        for (Archetype archetype : matchingArchetypes(componentClasses)) {
+            ids.add(archetype.entityIds, 0, archetype.size);
+        }
+        return ids.iterator();
+    }
+
+    /**
+     * @return the number of entities that have all of the given components
+     */
+    public int getEntityCount(List<Class<? extends Component>> componentClasses) {
+        int count = 0;
+        for (Archetype archetype : matchingArchetypes(componentClasses)) {
+            count += archetype.size;
+        }
+        return count;
+    }
+
+    /**
+     * Visits every entity with a component of the given type.
+     * <br><br>
+     * The visitor must not add or remove components or entities; use {@link #entityIdIterator(List)} for that.
+     */
+    public <A extends Component> void iterateComponents(Class<A> componentClass, ComponentVisitor<A> visitor) {
+        for (Archetype archetype : matchingArchetypes(Collections.singletonList(componentClass))) {
+            Component[] column = archetype.columns[archetype.columnOf(componentClass)];
+            long[] ids = archetype.entityIds;
+            for (int row = 0; row < archetype.size; row++) {
+                visitor.visit(ids[row], componentClass.cast(column[row]));
+            }
+        }
+    }
+
+    /**
+     * Visits every entity with components of both given types.
+     * <br><br>
+     * The visitor must not add or remove components or entities; use {@link #entityIdIterator(List)} for that.
+     */
+    public <A extends Component, B extends Component> void iterateComponents(Class<A> firstClass, Class<B> secondClass,
+                                                                             ComponentPairVisitor<A, B> visitor) {
+        for (Archetype archetype : matchingArchetypes(Arrays.asList(firstClass, secondClass))) {
+            Component[] firstColumn = archetype.columns[archetype.columnOf(firstClass)];
+            Component[] secondColumn = archetype.columns[archetype.columnOf(secondClass)];
+            long[] ids = archetype.entityIds;
+            for (int row = 0; row < archetype.size; row++) {
+                visitor.visit(ids[row], firstClass.cast(firstColumn[row]), secondClass.cast(secondColumn[row]));
+            }
+        }
+    }
+
+    private List<Archetype> matchingArchetypes(List<? extends Class<? extends Component>> componentClasses) {
+        List<Archetype> result = Lists.newArrayList();
+        for (Archetype archetype : archetypes.values()) {
+            if (archetype.size > 0 && archetype.typeSet.containsAll(componentClasses)) {
+                result.add(archetype);
+            }
+        }
+        return result;
+    }
+
+    private Archetype transitionAdding(Archetype from, Class<? extends Component> componentClass) {
+        Archetype target = from.addTransitions.get(componentClass);
+        if (target == null) {
+            target = getOrCreateArchetype(ImmutableSet.<Class<? extends Component>>builder()
+                    .addAll(from.typeSet).add(componentClass).build());
+            from.addTransitions.put(componentClass, target);
+        }
+        return target;
+    }
+
+    private Archetype transitionRemoving(Archetype from, Class<? extends Component> componentClass) {
+        Archetype target = from.removeTransitions.get(componentClass);
+        if (target == null) {
+            ImmutableSet.Builder<Class<? extends Component>> types = ImmutableSet.builder();
+            for (Class<? extends Component> type : from.types) {
+                if (type != componentClass) {
+                    types.add(type);
+                }
+            }
+            target = getOrCreateArchetype(types.build());
+            from.removeTransitions.put(componentClass, target);
+        }
+        return target;
+    }
+
+    private Archetype getOrCreateArchetype(ImmutableSet<Class<? extends Component>> types) {
+        return archetypes.computeIfAbsent(types, Archetype::new);
+    }
+
+    /**
+     * Moves the entity's components at the given row to the target archetype, leaving the columns the source
+     * archetype does not have empty.
+     *
+     * @return the row of the entity in the target archetype
+     */
+    private int move(long entityId, Archetype from, int row, Archetype to) {
+        int newRow = to.addRow(entityId);
+        for (int column = 0; column < from.types.length; column++) {
+            int targetColumn = to.columnOf(from.types[column]);
+            if (targetColumn >= 0) {
+                to.columns[targetColumn][newRow] = from.columns[column][row];
+            }
+        }
+        removeRow(from, row);
+        entityArchetypes.put(entityId, to);
+        entityRows.put(entityId, newRow);
+        return newRow;
+    }
+
+    private void removeEntity(long entityId, Archetype archetype, int row) {
+        removeRow(archetype, row);
+        entityArchetypes.remove(entityId);
+        entityRows.remove(entityId);
+    }
+
+    /**
+     * Removes the row by moving the archetype's last row into it.
+     */
+    private void removeRow(Archetype archetype, int row) {
+        int last = archetype.size - 1;
+        if (row != last) {
+            long movedEntity = archetype.entityIds[last];
+            archetype.entityIds[row] = movedEntity;
+            for (Component[] column : archetype.columns) {
+                column[row] = column[last];
+            }
+            entityRows.put(movedEntity, row);
+        }
+        for (Component[] column : archetype.columns) {
+            column[last] = null;
+        }
+        archetype.size = last;
+    }
+
+    @FunctionalInterface
+    public interface ComponentVisitor<A extends Component> {
+        void visit(long entityId, A component);
+    }
+
+    @FunctionalInterface
+    public interface ComponentPairVisitor<A extends Component, B extends Component> {
+        void visit(long entityId, A first, B second);
+    }
+
+    private static final class Archetype {
+        private final Set<Class<? extends Component>> typeSet;
+        private final Class<? extends Component>[] types;
+        private final Map<Class<? extends Component>, Archetype> addTransitions = Maps.newHashMap();
+        private final Map<Class<? extends Component>, Archetype> removeTransitions = Maps.newHashMap();
+
+        private long[] entityIds = new long[INITIAL_ARCHETYPE_CAPACITY];
+        private Component[][] columns;
+        private int size;
+
+        @SuppressWarnings("unchecked")
+        Archetype(Set<Class<? extends Component>> typeSet) {
+            this.typeSet = typeSet;
+            this.types = typeSet.toArray(new Class[typeSet.size()]);
+            this.columns = new Component[types.length][INITIAL_ARCHETYPE_CAPACITY];
+        }
+
+        /**
+         * Archetypes rarely have more than a dozen component types, so a linear scan beats hashing here.
+         *
+         * @return the column of the component type, or -1 if entities of this archetype don't have it
+         */
+        int columnOf(Class<?> componentClass) {
+            for (int i = 0; i < types.length; i++) {
+                if (types[i] == componentClass) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int addRow(long entityId) {
+            if (size == entityIds.length) {
+                int capacity = size * 2;
+                entityIds = Arrays.copyOf(entityIds, capacity);
+                for (int i = 0; i < columns.length; i++) {
+                    columns[i] = Arrays.copyOf(columns[i], capacity);
+                }
+            }
+            entityIds[size] = entityId;
+            return size++;
+        }
+
+        List<Component> getRow(int row) {
+            List<Component> components = Lists.newArrayListWithCapacity(columns.length);
+            for (Component[] column : columns) {
+                components.add(column[row]);
+            }
+            return components;
+        }
+
+        void clear() {
+            for (Component[] column : columns) {
+                Arrays.fill(column, 0, size, null);
+            }
+            size = 0;
+        }
+    }
+
+    /**
+     * Iterates over one component column of several archetypes.
+     */
+    private static final class ColumnIterator<T extends Component> implements TLongObjectIterator<T> {
+        private final Class<T> componentClass;
+        private final List<Archetype> archetypes;
+        private int archetypeIndex;
+        private int row = -1;
+        private Archetype current;
+
+        ColumnIterator(Class<T> componentClass, List<Archetype> archetypes) {
+            this.componentClass = componentClass;
+            this.archetypes = archetypes;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (current != null && row + 1 < current.size) {
+                return true;
+            }
+            for (int i = current == null ? archetypeIndex : archetypeIndex + 1; i < archetypes.size(); i++) {
+                if (archetypes.get(i).size > 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void advance() {
+            if (current != null && row + 1 < current.size) {
+                row++;
+                return;
+            }
+            int next = current == null ? archetypeIndex : archetypeIndex + 1;
+            while (next < archetypes.size() && archetypes.get(next).size == 0) {
+                next++;
+            }
+            if (next >= archetypes.size()) {
+                throw new NoSuchElementException();
+            }
+            archetypeIndex = next;
+            current = archetypes.get(next);
+            row = 0;
+        }
+
+        @Override
+        public long key() {
+            return current.entityIds[row];
+        }
+
+        @Override
+        public T value() {
+            return componentClass.cast(current.columns[current.columnOf(componentClass)][row]);
+        }
+
+        @Override
+        public T setValue(T val) {
+            Component[] column = current.columns[current.columnOf(componentClass)];
+            T previous = componentClass.cast(column[row]);
+            column[row] = val;
+            return previous;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
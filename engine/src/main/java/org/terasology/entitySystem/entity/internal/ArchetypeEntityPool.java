@@ -0,0 +1,78 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.entitySystem.entity.internal;
+
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.entity.EntityRef;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * An entity pool storing its components in an {@link ArchetypeComponentTable}.
+ * <p>
+ * Queries for entities with a set of components only look at the archetypes containing all of them, and
+ * {@link #iterateComponents(Class, Class, ComponentPairConsumer)} hands out the components without looking them up
+ * per entity. Use it through {@link PojoEntityManager#PojoEntityManager(java.util.function.Function)}, which the
+ * engine does if {@link org.terasology.config.SystemConfig#isArchetypeEntityStorageEnabled()} is set.
+ */
+public class ArchetypeEntityPool extends PojoEntityPool {
+
+    private final ArchetypeComponentTable componentTable;
+
+    public ArchetypeEntityPool(PojoEntityManager entityManager) {
+        this(entityManager, new ArchetypeComponentTable());
+    }
+
+    private ArchetypeEntityPool(PojoEntityManager entityManager, ArchetypeComponentTable componentTable) {
+        super(entityManager, componentTable);
+        this.componentTable = componentTable;
+    }
+
+    @Override
+    public ArchetypeComponentTable getComponentStore() {
+        return componentTable;
+    }
+
+    @Override
+    protected Iterable<EntityRef> findEntitiesWith(Class<? extends Component>[] componentClasses) {
+        if (componentClasses.length == 0) {
+            return super.findEntitiesWith(componentClasses);
+        }
+        return () -> new EntityIterator(componentTable.entityIdIterator(Arrays.asList(componentClasses)), this);
+    }
+
+    @Override
+    public int getCountOfEntitiesWith(Class<? extends Component>[] componentClasses) {
+        if (componentClasses.length == 0) {
+            return super.getCountOfEntitiesWith(componentClasses);
+        }
+        return componentTable.getEntityCount(Arrays.asList(componentClasses));
+    }
+
+    /**
+     * Calls the consumer for every entity of this pool with a component of the given type.
+     * <br><br>
+     * The consumer must not add or remove components or entities; use {@link #getEntitiesWith} for that.
+     */
+    public <A extends Component> void iterateComponents(Class<A> componentClass, BiConsumer<EntityRef, A> consumer) {
+        componentTable.iterateComponents(componentClass,
+                (entityId, component) -> consumer.accept(getEntity(entityId), component));
+    }
+
+    /**
+     * Calls the consumer for every entity of this pool with components of both given types.
+     * <br><br>
+     * The consumer must not add or remove components or entities; use {@link #getEntitiesWith} for that.
+     */
+    public <A extends Component, B extends Component> void iterateComponents(Class<A> firstClass, Class<B> secondClass,
+                                                                             ComponentPairConsumer<A, B> consumer) {
+        componentTable.iterateComponents(firstClass, secondClass,
+                (entityId, first, second) -> consumer.accept(getEntity(entityId), first, second));
+    }
+
+    @FunctionalInterface
+    public interface ComponentPairConsumer<A extends Component, B extends Component> {
+        void accept(EntityRef entity, A first, B second);
+    }
+}
@@ -48,6 +48,14 @@ public interface EngineEntityPool extends EntityPool {
 
     void putEntity(long entityId, BaseEntityRef ref);
 
+    /**
+     * Stops holding the ref of an entity that was deactivated for storage, unless it is still referenced elsewhere.
+     * The entity stays in this pool and gets its ref back once it is loaded again.
+     *
+     * @param entityId the id of the deactivated entity
+     */
+    void deactivateRef(long entityId);
+
     ComponentTable getComponentStore();
 
     /**
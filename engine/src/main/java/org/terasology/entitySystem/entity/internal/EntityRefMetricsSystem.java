@@ -0,0 +1,24 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.entitySystem.entity.internal;
+
+import org.terasology.entitySystem.systems.BaseComponentSystem;
+import org.terasology.entitySystem.systems.RegisterSystem;
+import org.terasology.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.registry.In;
+
+/**
+ * Reports the entity ref metrics of the {@link PojoEntityManager} to the performance monitor every frame.
+ */
+@RegisterSystem
+public class EntityRefMetricsSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
+    @In
+    private EngineEntityManager entityManager;
+
+    @Override
+    public void update(float delta) {
+        if (entityManager instanceof PojoEntityManager) {
+            ((PojoEntityManager) entityManager).recordRefMetrics(delta);
+        }
+    }
+}
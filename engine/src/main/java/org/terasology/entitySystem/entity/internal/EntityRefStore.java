@@ -0,0 +1,112 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.entitySystem.entity.internal;
+
+import com.google.common.collect.MapMaker;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Holds the {@link BaseEntityRef}s of an entity pool.
+ * <p>
+ * Refs of loaded entities are kept in a primitive keyed map until the entity is destroyed, removed from the pool or
+ * deactivated for storage. Only refs of entities that are not loaded are held weakly, so they can be dropped once
+ * nothing else references them but are reused if the entity is loaded again while they are still in use.
+ */
+class EntityRefStore {
+    private final TLongObjectMap<BaseEntityRef> loadedRefs = new TLongObjectHashMap<>(1000);
+    private final Map<Long, BaseEntityRef> unloadedRefs = new MapMaker().weakValues().concurrencyLevel(4).makeMap();
+    private long createdRefCount;
+
+    /**
+     * @param entityId the id of the entity
+     * @param loaded whether the entity is currently loaded. The ref of a loaded entity is no longer held weakly.
+     * @return the ref of the entity, or null if the store has none
+     */
+    synchronized BaseEntityRef get(long entityId, boolean loaded) {
+        BaseEntityRef ref = loadedRefs.get(entityId);
+        if (ref == null && !unloadedRefs.isEmpty()) {
+            ref = loaded ? unloadedRefs.remove(entityId) : unloadedRefs.get(entityId);
+            if (ref != null && loaded) {
+                loadedRefs.put(entityId, ref);
+            }
+        }
+        return ref;
+    }
+
+    synchronized void put(long entityId, BaseEntityRef ref, boolean loaded) {
+        if (loaded) {
+            loadedRefs.put(entityId, ref);
+            unloadedRefs.remove(entityId);
+        } else {
+            unloadedRefs.put(entityId, ref);
+            loadedRefs.remove(entityId);
+        }
+    }
+
+    /**
+     * Stores a ref that was just created for the entity.
+     */
+    synchronized void putCreated(long entityId, BaseEntityRef ref, boolean loaded) {
+        put(entityId, ref, loaded);
+        createdRefCount++;
+    }
+
+    synchronized BaseEntityRef remove(long entityId) {
+        BaseEntityRef ref = loadedRefs.remove(entityId);
+        BaseEntityRef unloadedRef = unloadedRefs.remove(entityId);
+        return ref != null ? ref : unloadedRef;
+    }
+
+    /**
+     * Only holds the ref of the entity weakly from now on, as it got unloaded.
+     */
+    synchronized void markUnloaded(long entityId) {
+        BaseEntityRef ref = loadedRefs.remove(entityId);
+        if (ref != null) {
+            unloadedRefs.put(entityId, ref);
+        }
+    }
+
+    synchronized boolean contains(long entityId) {
+        return loadedRefs.containsKey(entityId) || unloadedRefs.containsKey(entityId);
+    }
+
+    /**
+     * @return a copy of the ids of the loaded entities
+     */
+    synchronized long[] getLoadedIds() {
+        return loadedRefs.keys();
+    }
+
+    synchronized int getLoadedCount() {
+        return loadedRefs.size();
+    }
+
+    synchronized int getUnloadedCount() {
+        return unloadedRefs.size();
+    }
+
+    /**
+     * @return the number of refs created for this store so far
+     */
+    synchronized long getCreatedCount() {
+        return createdRefCount;
+    }
+
+    /**
+     * Removes all refs, passing each of them to the given consumer.
+     */
+    synchronized void clear(Consumer<BaseEntityRef> removedRefConsumer) {
+        loadedRefs.forEachValue(ref -> {
+            removedRefConsumer.accept(ref);
+            return true;
+        });
+        unloadedRefs.values().forEach(removedRefConsumer);
+        loadedRefs.clear();
+        unloadedRefs.clear();
+    }
+}
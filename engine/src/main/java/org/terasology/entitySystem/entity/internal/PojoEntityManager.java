@@ -45,6 +45,7 @@
 import org.terasology.game.GameManifest;
 import org.terasology.math.geom.Quat4f;
 import org.terasology.math.geom.Vector3f;
+import org.terasology.monitoring.PerformanceMonitor;
 import org.terasology.persistence.typeHandling.TypeHandlerLibrary;
 import org.terasology.world.internal.WorldInfo;
 
@@ -56,6 +57,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 
 import static org.terasology.entitySystem.entity.internal.EntityScope.SECTOR;
 
@@ -67,7 +69,8 @@ public class PojoEntityManager implements EngineEntityManager {
     private long nextEntityId = 1;
     private TLongSet loadedIds = new TLongHashSet();
 
-    private EngineEntityPool globalPool = new PojoEntityPool(this);
+    private final Function<PojoEntityManager, ? extends EngineEntityPool> poolFactory;
+    private EngineEntityPool globalPool;
     private PojoSectorManager sectorManager = new PojoSectorManager(this);
     private Map<Long, EngineEntityPool> poolMap = new MapMaker().initialCapacity(1000).makeMap();
     private List<EngineEntityPool> worldPools = Lists.newArrayList();
@@ -85,6 +88,21 @@ public class PojoEntityManager implements EngineEntityManager {
 
     private TypeHandlerLibrary typeSerializerLibrary;
 
+    private long lastCreatedRefCount;
+
+    public PojoEntityManager() {
+        this(PojoEntityPool::new);
+    }
+
+    /**
+     * @param poolFactory creates the global and world pools, e.g. {@code ArchetypeEntityPool::new} to store
+     *                    components by archetype
+     */
+    public PojoEntityManager(Function<PojoEntityManager, ? extends EngineEntityPool> poolFactory) {
+        this.poolFactory = poolFactory;
+        this.globalPool = poolFactory.apply(this);
+    }
+
     @Override
     public RefStrategy getEntityRefStrategy() {
         return refStrategy;
@@ -159,7 +177,7 @@ public void createWorldPools(GameManifest game) {
         Map<String, WorldInfo> worldInfoMap = gameManifest.getWorldInfoMap();
         worldManager = new WorldManager(gameManifest.getWorldInfo(TerasologyConstants.MAIN_WORLD));
         for (Map.Entry<String, WorldInfo> worldInfoEntry : worldInfoMap.entrySet()) {
-            EngineEntityPool pool = new PojoEntityPool(this);
+            EngineEntityPool pool = poolFactory.apply(this);
             //pool.create();
             worldPools.add(pool);
             worldManager.addWorldPool(worldInfoEntry.getValue(), pool);
@@ -299,6 +317,36 @@ public int getActiveEntityCount() {
 
     }
 
+    /**
+     * Records the number of entity refs held for loaded and for unloaded entities, and the number of refs created per
+     * second since the last call, with the {@link PerformanceMonitor}.
+     *
+     * @param delta the time since the last call, in seconds
+     */
+    public void recordRefMetrics(float delta) {
+        int loadedRefs = 0;
+        int unloadedRefs = 0;
+        long createdRefs = 0;
+        List<EngineEntityPool> pools = Lists.newArrayList(globalPool);
+        pools.addAll(worldPools);
+        pools.addAll(sectorManager.getPools());
+        for (EngineEntityPool pool : pools) {
+            if (pool instanceof PojoEntityPool) {
+                PojoEntityPool pojoPool = (PojoEntityPool) pool;
+                loadedRefs += pojoPool.getLoadedRefCount();
+                unloadedRefs += pojoPool.getUnloadedRefCount();
+                createdRefs += pojoPool.getCreatedRefCount();
+            }
+        }
+        PerformanceMonitor.recordValue("Entity refs - loaded", loadedRefs);
+        PerformanceMonitor.recordValue("Entity refs - unloaded", unloadedRefs);
+        if (delta > 0) {
+            PerformanceMonitor.recordValue("Entity refs - created per second",
+                    Math.max(0, createdRefs - lastCreatedRefCount) / delta);
+        }
+        lastCreatedRefCount = createdRefs;
+    }
+
     @Override
     public ComponentLibrary getComponentLibrary() {
         return componentLibrary;
@@ -456,6 +504,12 @@ public void deactivateForStorage(EntityRef entity) {
             getPool(entityId).ifPresent(pool -> pool.getComponentStore().remove(entityId, component.getClass()));
         }
         loadedIds.remove(entityId);
+        deactivateRef(entityId);
+    }
+
+    @Override
+    public void deactivateRef(long entityId) {
+        getPool(entityId).ifPresent(pool -> pool.deactivateRef(entityId));
     }
 
     @Override
@@ -16,7 +16,6 @@
 package org.terasology.entitySystem.entity.internal;
 
 import com.google.common.collect.Lists;
-import com.google.common.collect.MapMaker;
 import org.joml.Quaternionfc;
 import org.joml.Vector3fc;
 import org.slf4j.Logger;
@@ -34,8 +33,6 @@
 import org.terasology.math.geom.Vector3f;
 
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.Map;
 import java.util.Optional;
 
 import static org.terasology.entitySystem.entity.internal.PojoEntityManager.NULL_ID;
@@ -46,21 +43,23 @@ public class PojoEntityPool implements EngineEntityPool {
 
     private static final Logger logger = LoggerFactory.getLogger(PojoEntityPool.class);
 
-    private Map<Long, BaseEntityRef> entityStore = new MapMaker().weakValues().concurrencyLevel(4).initialCapacity(1000).makeMap();
-    private ComponentTable componentStore = new ComponentTable();
+    private EntityRefStore entityStore = new EntityRefStore();
+    private ComponentTable componentStore;
 
     public PojoEntityPool(PojoEntityManager entityManager) {
+        this(entityManager, new ComponentTable());
+    }
+
+    protected PojoEntityPool(PojoEntityManager entityManager, ComponentTable componentStore) {
         this.entityManager = entityManager;
+        this.componentStore = componentStore;
     }
 
     @Override
     public void clear() {
         //Todo: should also clear out ids from the EntityManager
-        for (EntityRef entity : entityStore.values()) {
-            entity.invalidate();
-        }
+        entityStore.clear(EntityRef::invalidate);
         componentStore.clear();
-        entityStore.clear();
     }
 
 
@@ -261,17 +260,6 @@ public EntityBuilder newBuilder(Prefab prefab) {
         return builder;
     }
 
-    /**
-     * Gets the internal entity store.
-     * <p>
-     * It is returned as an unmodifiable map, so cannot be edited. Use {@link #putEntity} to modify the map.
-     *
-     * @return an unmodifiable version of the internal entity store
-     */
-    protected Map<Long, BaseEntityRef> getEntityStore() {
-        return Collections.unmodifiableMap(entityStore);
-    }
-
     /**
      * Puts an entity into the internal storage.
      * <p>
@@ -283,7 +271,12 @@ protected Map<Long, BaseEntityRef> getEntityStore() {
      */
     @Override
     public void putEntity(long entityId, BaseEntityRef ref) {
-        entityStore.put(entityId, ref);
+        entityStore.put(entityId, ref, entityManager.idLoaded(entityId));
+    }
+
+    @Override
+    public void deactivateRef(long entityId) {
+        entityStore.markUnloaded(entityId);
     }
 
     @Override
@@ -298,7 +291,8 @@ public EntityRef getEntity(long entityId) {
             return EntityRef.NULL;
         }
 
-        EntityRef existing = entityStore.get(entityId);
+        boolean loaded = entityManager.idLoaded(entityId);
+        EntityRef existing = entityStore.get(entityId, loaded);
         if (existing != EntityRef.NULL && existing != null) {
             // Entity already has a ref
             return existing;
@@ -307,7 +301,7 @@ public EntityRef getEntity(long entityId) {
         // Create a new ref
         BaseEntityRef entity = entityManager.getEntityRefStrategy().createRefFor(entityId, entityManager);
 
-        entityStore.put(entityId, entity);
+        entityStore.putCreated(entityId, entity, loaded);
         entityManager.assignToPool(entityId, this);
         return entity;
     }
@@ -315,7 +309,15 @@ public EntityRef getEntity(long entityId) {
     @SafeVarargs
     @Override
     public final Iterable<EntityRef> getEntitiesWith(Class<? extends Component>... componentClasses) {
-        return () -> entityStore.keySet().stream()
+        return findEntitiesWith(componentClasses);
+    }
+
+    /**
+     * Finds the entities of this pool with all of the given components. Pools storing their components differently
+     * override this, as {@link #getEntitiesWith(Class[])} is final.
+     */
+    protected Iterable<EntityRef> findEntitiesWith(Class<? extends Component>[] componentClasses) {
+        return () -> Arrays.stream(entityStore.getLoadedIds()).boxed()
                 //Keep entities which have all of the required components
                 .filter(id -> Arrays.stream(componentClasses)
                         .allMatch(component -> componentStore.get(id, component) != null))
@@ -337,7 +339,7 @@ public int getCountOfEntitiesWith(Class<? extends Component>[] componentClasses)
 
     @Override
     public int getActiveEntityCount() {
-        return entityStore.size();
+        return entityStore.getLoadedCount();
     }
 
     @Override
@@ -354,19 +356,40 @@ public boolean hasComponent(long entityId, Class<? extends Component> componentC
     public Optional<BaseEntityRef> remove(long id) {
         componentStore.remove(id);
         entityManager.unassignPool(id);
-        return Optional.of(entityStore.remove(id));
+        return Optional.ofNullable(entityStore.remove(id));
     }
 
     @Override
     public void insertRef(BaseEntityRef ref, Iterable<Component> components) {
-        entityStore.put(ref.getId(), ref);
+        entityStore.put(ref.getId(), ref, entityManager.idLoaded(ref.getId()));
         components.forEach(comp -> componentStore.put(ref.getId(), comp));
         entityManager.assignToPool(ref.getId(), this);
     }
 
     @Override
     public boolean contains(long id) {
-        return entityStore.containsKey(id);
+        return entityStore.contains(id);
+    }
+
+    /**
+     * @return the number of refs held for loaded entities
+     */
+    public int getLoadedRefCount() {
+        return entityStore.getLoadedCount();
+    }
+
+    /**
+     * @return the number of refs still held for entities that are not loaded, because they are referenced elsewhere
+     */
+    public int getUnloadedRefCount() {
+        return entityStore.getUnloadedCount();
+    }
+
+    /**
+     * @return the number of refs this pool created so far
+     */
+    public long getCreatedRefCount() {
+        return entityStore.getCreatedCount();
     }
 
 }
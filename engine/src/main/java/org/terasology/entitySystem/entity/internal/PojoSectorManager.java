@@ -150,6 +150,18 @@ public void putEntity(long entityId, BaseEntityRef ref) {
         getPool().putEntity(entityId, ref);
     }
 
+    @Override
+    public void deactivateRef(long entityId) {
+        entityManager.getPool(entityId).ifPresent(pool -> pool.deactivateRef(entityId));
+    }
+
+    /**
+     * @return the pools holding the sector-scope entities
+     */
+    List<EngineEntityPool> getPools() {
+        return pools;
+    }
+
     @Override
     public ComponentTable getComponentStore() {
         return getPool().getComponentStore();
@@ -0,0 +1,161 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.entitySystem.event.internal;
+
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.event.Event;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Calls a {@link org.terasology.entitySystem.event.ReceiveEvent} annotated method through a {@link MethodHandle}.
+ * <p>
+ * The handle is bound to the handler object and adapted to a fixed signature for the number of component parameters,
+ * so it can be called with {@code invokeExact}. Handlers with up to four component parameters are invoked without
+ * reflection and without allocating a parameter array.
+ */
+abstract class EventHandlerInvoker {
+
+    private static final int MAX_SPECIALIZED_COMPONENT_PARAMS = 4;
+
+    protected final MethodHandle handle;
+    protected final Class<? extends Component>[] componentParams;
+
+    private EventHandlerInvoker(MethodHandle handle, Class<? extends Component>[] componentParams) {
+        this.handle = handle;
+        this.componentParams = componentParams;
+    }
+
+    /**
+     * @param handler the object declaring the method
+     * @param method the handler method, taking the event, the entity and then the component parameters
+     * @param componentParams the types of the component parameters of the method
+     * @return an invoker calling the method on the handler
+     * @throws IllegalAccessException if the method is not accessible
+     */
+    @SuppressWarnings("unchecked")
+    static EventHandlerInvoker create(Object handler, Method method, List<Class<? extends Component>> componentParams)
+            throws IllegalAccessException {
+        Class<? extends Component>[] params = componentParams.toArray(new Class[componentParams.size()]);
+        MethodHandle bound = MethodHandles.lookup().unreflect(method).bindTo(handler);
+        if (params.length > MAX_SPECIALIZED_COMPONENT_PARAMS) {
+            return new Spreading(bound, params);
+        }
+        Class<?>[] genericTypes = new Class<?>[params.length + 2];
+        genericTypes[0] = Event.class;
+        genericTypes[1] = EntityRef.class;
+        Arrays.fill(genericTypes, 2, genericTypes.length, Component.class);
+        MethodHandle exact = bound.asType(MethodType.methodType(void.class, genericTypes));
+        switch (params.length) {
+            case 0:
+                return new NoComponents(exact, params);
+            case 1:
+                return new OneComponent(exact, params);
+            case 2:
+                return new TwoComponents(exact, params);
+            case 3:
+                return new ThreeComponents(exact, params);
+            default:
+                return new FourComponents(exact, params);
+        }
+    }
+
+    /**
+     * Calls the handler method, looking up its component parameters on the entity.
+     *
+     * @param entity the entity the event was sent to
+     * @param event the event
+     * @throws Throwable anything thrown by the handler method
+     */
+    abstract void invoke(EntityRef entity, Event event) throws Throwable;
+
+    private static final class NoComponents extends EventHandlerInvoker {
+        NoComponents(MethodHandle handle, Class<? extends Component>[] componentParams) {
+            super(handle, componentParams);
+        }
+
+        @Override
+        void invoke(EntityRef entity, Event event) throws Throwable {
+            handle.invokeExact(event, entity);
+        }
+    }
+
+    private static final class OneComponent extends EventHandlerInvoker {
+        OneComponent(MethodHandle handle, Class<? extends Component>[] componentParams) {
+            super(handle, componentParams);
+        }
+
+        @Override
+        void invoke(EntityRef entity, Event event) throws Throwable {
+            handle.invokeExact(event, entity, (Component) entity.getComponent(componentParams[0]));
+        }
+    }
+
+    private static final class TwoComponents extends EventHandlerInvoker {
+        TwoComponents(MethodHandle handle, Class<? extends Component>[] componentParams) {
+            super(handle, componentParams);
+        }
+
+        @Override
+        void invoke(EntityRef entity, Event event) throws Throwable {
+            handle.invokeExact(event, entity,
+                    (Component) entity.getComponent(componentParams[0]),
+                    (Component) entity.getComponent(componentParams[1]));
+        }
+    }
+
+    private static final class ThreeComponents extends EventHandlerInvoker {
+        ThreeComponents(MethodHandle handle, Class<? extends Component>[] componentParams) {
+            super(handle, componentParams);
+        }
+
+        @Override
+        void invoke(EntityRef entity, Event event) throws Throwable {
+            handle.invokeExact(event, entity,
+                    (Component) entity.getComponent(componentParams[0]),
+                    (Component) entity.getComponent(componentParams[1]),
+                    (Component) entity.getComponent(componentParams[2]));
+        }
+    }
+
+    private static final class FourComponents extends EventHandlerInvoker {
+        FourComponents(MethodHandle handle, Class<? extends Component>[] componentParams) {
+            super(handle, componentParams);
+        }
+
+        @Override
+        void invoke(EntityRef entity, Event event) throws Throwable {
+            handle.invokeExact(event, entity,
+                    (Component) entity.getComponent(componentParams[0]),
+                    (Component) entity.getComponent(componentParams[1]),
+                    (Component) entity.getComponent(componentParams[2]),
+                    (Component) entity.getComponent(componentParams[3]));
+        }
+    }
+
+    /**
+     * Fallback for handlers with many component parameters, which still needs a parameter array per call.
+     */
+    private static final class Spreading extends EventHandlerInvoker {
+        Spreading(MethodHandle handle, Class<? extends Component>[] componentParams) {
+            super(handle, componentParams);
+        }
+
+        @Override
+        void invoke(EntityRef entity, Event event) throws Throwable {
+            Object[] params = new Object[2 + componentParams.length];
+            params[0] = event;
+            params[1] = entity;
+            for (int i = 0; i < componentParams.length; ++i) {
+                params[i + 2] = entity.getComponent(componentParams[i]);
+            }
+            handle.invokeWithArguments(params);
+        }
+    }
+}
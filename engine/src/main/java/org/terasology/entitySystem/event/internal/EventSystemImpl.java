@@ -15,7 +15,6 @@
  */
 package org.terasology.entitySystem.event.internal;
 
-import com.esotericsoftware.reflectasm.MethodAccess;
 import com.google.common.base.Objects;
 import com.google.common.base.Predicates;
 import com.google.common.collect.BiMap;
@@ -27,6 +26,8 @@
 import com.google.common.collect.Queues;
 import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
 import org.reflections.ReflectionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -79,6 +80,7 @@ public class EventSystemImpl implements EventSystem {
     private Map<Class<? extends Event>, SetMultimap<Class<? extends Component>, EventHandlerInfo>> componentSpecificHandlers = Maps.newHashMap();
     private SetMultimap<Class<? extends Event>, EventHandlerInfo> generalHandlers = HashMultimap.create();
     private Comparator<EventHandlerInfo> priorityComparator = new EventHandlerPriorityComparator();
+    private Map<Class<? extends Event>, EventHandlerDispatchTable> dispatchTables = Maps.newHashMap();
 
     // Event metadata
     private BiMap<SimpleUri, Class<? extends Event>> eventIdMap = HashBiMap.create();
@@ -116,6 +118,7 @@ public void process() {
     @Override
     public void registerEvent(SimpleUri uri, Class<? extends Event> eventType) {
         eventIdMap.put(uri, eventType);
+        dispatchTables.clear();
         logger.debug("Registering event {}", eventType.getSimpleName());
         for (Class parent : ReflectionUtils.getAllSuperTypes(eventType, Predicates.assignableFrom(Event.class))) {
             if (!AbstractConsumableEvent.class.equals(parent) && !Event.class.equals(parent)) {
@@ -175,8 +178,14 @@ public void registerEventHandler(ComponentSystem handler) {
                     componentParams.add((Class<? extends Component>) types[i]);
                 }
 
-                ByteCodeEventHandlerInfo handlerInfo = new ByteCodeEventHandlerInfo(handler, method, receiveEventAnnotation.priority(),
-                        receiveEventAnnotation.activity(), requiredComponents, componentParams);
+                GeneratedEventHandlerInfo handlerInfo;
+                try {
+                    handlerInfo = new GeneratedEventHandlerInfo(handler, method, receiveEventAnnotation.priority(),
+                            receiveEventAnnotation.activity(), requiredComponents, componentParams);
+                } catch (IllegalAccessException e) {
+                    logger.error("Cannot access event handler method: {}", method.getName(), e);
+                    return;
+                }
                 addEventHandler((Class<? extends Event>) types[0], handlerInfo, requiredComponents);
             }
         }
@@ -184,6 +193,7 @@ public void registerEventHandler(ComponentSystem handler) {
 
     @Override
     public void unregisterEventHandler(ComponentSystem handler) {
+        dispatchTables.clear();
         for (SetMultimap<Class<? extends Component>, EventHandlerInfo> eventHandlers : componentSpecificHandlers.values()) {
             Iterator<EventHandlerInfo> eventHandlerIterator = eventHandlers.values().iterator();
             while (eventHandlerIterator.hasNext()) {
@@ -204,6 +214,7 @@ public void unregisterEventHandler(ComponentSystem handler) {
     }
 
     private void addEventHandler(Class<? extends Event> type, EventHandlerInfo handler, Collection<Class<? extends Component>> components) {
+        dispatchTables.clear();
         if (components.isEmpty()) {
             generalHandlers.put(type, handler);
             for (Class<? extends Event> childType : childEvents.get(type)) {
@@ -241,6 +252,7 @@ public <T extends Event> void registerEventReceiver(EventReceiver<T> eventReceiv
 
     @Override
     public <T extends Event> void unregisterEventReceiver(EventReceiver<T> eventReceiver, Class<T> eventClass, Class<? extends Component>... componentTypes) {
+        dispatchTables.clear();
         SetMultimap<Class<? extends Component>, EventHandlerInfo> eventHandlerMap = componentSpecificHandlers.get(eventClass);
         if (eventHandlerMap != null) {
             ReceiverEventHandlerInfo testReceiver = new ReceiverEventHandlerInfo<>(eventReceiver, 0, componentTypes);
@@ -273,9 +285,7 @@ public void send(EntityRef entity, Event event) {
             }
             networkReplicate(entity, event);
 
-            Set<EventHandlerInfo> selectedHandlersSet = selectEventHandlers(event.getClass(), entity);
-            List<EventHandlerInfo> selectedHandlers = Lists.newArrayList(selectedHandlersSet);
-            selectedHandlers.sort(priorityComparator);
+            EventHandlerInfo[] selectedHandlers = getDispatchTable(event.getClass()).selectEventHandlers(entity);
 
             if (event instanceof ConsumableEvent) {
                 sendConsumableEvent(entity, event, selectedHandlers);
@@ -285,7 +295,7 @@ public void send(EntityRef entity, Event event) {
         }
     }
 
-    private void sendStandardEvent(EntityRef entity, Event event, List<EventHandlerInfo> selectedHandlers) {
+    private void sendStandardEvent(EntityRef entity, Event event, EventHandlerInfo[] selectedHandlers) {
         for (EventHandlerInfo handler : selectedHandlers) {
             // Check isValid at each stage in case components were removed.
             if (handler.isValidFor(entity)) {
@@ -294,7 +304,7 @@ private void sendStandardEvent(EntityRef entity, Event event, List<EventHandlerI
         }
     }
 
-    private void sendConsumableEvent(EntityRef entity, Event event, List<EventHandlerInfo> selectedHandlers) {
+    private void sendConsumableEvent(EntityRef entity, Event event, EventHandlerInfo[] selectedHandlers) {
         ConsumableEvent consumableEvent = (ConsumableEvent) event;
         for (EventHandlerInfo handler : selectedHandlers) {
             // Check isValid at each stage in case components were removed.
@@ -374,19 +384,30 @@ public void send(EntityRef entity, Event event, Component component) {
             if (recordAndReplayCurrentStatus.getStatus() == RecordAndReplayStatus.RECORDING) {
                 eventCatcher.addEvent(new PendingEvent(entity, event, component));
             }
-            SetMultimap<Class<? extends Component>, EventHandlerInfo> handlers = componentSpecificHandlers.get(event.getClass());
-            if (handlers != null) {
-                List<EventHandlerInfo> eventHandlers = Lists.newArrayList(handlers.get(component.getClass()));
-                eventHandlers.sort(priorityComparator);
-                for (EventHandlerInfo eventHandler : eventHandlers) {
-                    if (eventHandler.isValidFor(entity)) {
-                        eventHandler.invoke(entity, event);
-                    }
+            EventHandlerInfo[] eventHandlers = getDispatchTable(event.getClass()).getComponentHandlers(component.getClass());
+            for (EventHandlerInfo eventHandler : eventHandlers) {
+                if (eventHandler.isValidFor(entity)) {
+                    eventHandler.invoke(entity, event);
                 }
             }
         }
     }
 
+    private EventHandlerDispatchTable getDispatchTable(Class<? extends Event> eventType) {
+        EventHandlerDispatchTable table = dispatchTables.get(eventType);
+        if (table == null) {
+            table = new EventHandlerDispatchTable(eventType);
+            dispatchTables.put(eventType, table);
+        }
+        return table;
+    }
+
+    private EventHandlerInfo[] sortByPriority(Collection<EventHandlerInfo> handlers) {
+        EventHandlerInfo[] sorted = handlers.toArray(new EventHandlerInfo[handlers.size()]);
+        Arrays.sort(sorted, priorityComparator);
+        return sorted;
+    }
+
     private Set<EventHandlerInfo> selectEventHandlers(Class<? extends Event> eventType, EntityRef entity) {
         Set<EventHandlerInfo> result = Sets.newHashSet();
         result.addAll(generalHandlers.get(eventType));
@@ -407,6 +428,95 @@ private Set<EventHandlerInfo> selectEventHandlers(Class<? extends Event> eventTy
         return result;
     }
 
+    /**
+     * Caches the handlers of one event type, sorted by priority, for every component signature seen so far.
+     * <p>
+     * The signature of an entity is the bitset of which of the event type's relevant components - those with
+     * component specific handlers - it has. Every handler's filter components are relevant components, so the
+     * handlers that are valid for an entity only depend on its signature. Resolving the handlers then takes one
+     * {@code hasComponent} check per relevant component and a lookup, without allocating.
+     * <p>
+     * Tables are dropped whenever handlers or events are (un)registered. They must only be used from the main thread.
+     */
+    private final class EventHandlerDispatchTable {
+        private final Class<? extends Event> eventType;
+        private final List<Class<? extends Component>> relevantComponents;
+        private final EventHandlerInfo[] generalHandlersOnly;
+        /**
+         * Scratch space for the signature of the entity that is being dispatched to.
+         */
+        private final long[] signature;
+        private final TLongObjectMap<SignatureEntry> entries = new TLongObjectHashMap<>();
+        private final Map<Class<? extends Component>, EventHandlerInfo[]> componentHandlers = Maps.newHashMap();
+
+        EventHandlerDispatchTable(Class<? extends Event> eventType) {
+            this.eventType = eventType;
+            SetMultimap<Class<? extends Component>, EventHandlerInfo> handlers = componentSpecificHandlers.get(eventType);
+            if (handlers == null) {
+                this.relevantComponents = ImmutableList.of();
+            } else {
+                this.relevantComponents = ImmutableList.copyOf(handlers.keySet());
+            }
+            this.generalHandlersOnly = sortByPriority(generalHandlers.get(eventType));
+            this.signature = new long[(relevantComponents.size() + Long.SIZE - 1) / Long.SIZE];
+        }
+
+        EventHandlerInfo[] selectEventHandlers(EntityRef entity) {
+            if (relevantComponents.isEmpty()) {
+                return generalHandlersOnly;
+            }
+            Arrays.fill(signature, 0L);
+            for (int i = 0; i < relevantComponents.size(); i++) {
+                if (entity.hasComponent(relevantComponents.get(i))) {
+                    signature[i / Long.SIZE] |= 1L << (i % Long.SIZE);
+                }
+            }
+            long hash = signatureHash();
+            SignatureEntry first = entries.get(hash);
+            for (SignatureEntry entry = first; entry != null; entry = entry.next) {
+                if (Arrays.equals(entry.signature, signature)) {
+                    return entry.handlers;
+                }
+            }
+            EventHandlerInfo[] selected = sortByPriority(EventSystemImpl.this.selectEventHandlers(eventType, entity));
+            entries.put(hash, new SignatureEntry(signature.clone(), selected, first));
+            return selected;
+        }
+
+        EventHandlerInfo[] getComponentHandlers(Class<? extends Component> componentClass) {
+            EventHandlerInfo[] result = componentHandlers.get(componentClass);
+            if (result == null) {
+                SetMultimap<Class<? extends Component>, EventHandlerInfo> handlers = componentSpecificHandlers.get(eventType);
+                result = (handlers == null) ? new EventHandlerInfo[0] : sortByPriority(handlers.get(componentClass));
+                componentHandlers.put(componentClass, result);
+            }
+            return result;
+        }
+
+        private long signatureHash() {
+            long hash = 1;
+            for (long word : signature) {
+                hash = 31 * hash + word;
+            }
+            return hash;
+        }
+    }
+
+    /**
+     * The handlers for one signature; entries whose signatures share a hash are chained.
+     */
+    private static final class SignatureEntry {
+        private final long[] signature;
+        private final EventHandlerInfo[] handlers;
+        private final SignatureEntry next;
+
+        SignatureEntry(long[] signature, EventHandlerInfo[] handlers, SignatureEntry next) {
+            this.signature = signature;
+            this.handlers = handlers;
+            this.next = next;
+        }
+    }
+
     private static class EventHandlerPriorityComparator implements Comparator<EventHandlerInfo> {
 
         @Override
@@ -425,84 +535,23 @@ private interface EventHandlerInfo {
         Object getHandler();
     }
 
-    private static class ReflectedEventHandlerInfo implements EventHandlerInfo {
-        private ComponentSystem handler;
-        private Method method;
-        private ImmutableList<Class<? extends Component>> filterComponents;
-        private ImmutableList<Class<? extends Component>> componentParams;
-        private int priority;
-
-        ReflectedEventHandlerInfo(ComponentSystem handler,
-                                         Method method,
-                                         int priority,
-                                         Collection<Class<? extends Component>> filterComponents,
-                                         Collection<Class<? extends Component>> componentParams) {
-            this.handler = handler;
-            this.method = method;
-            this.filterComponents = ImmutableList.copyOf(filterComponents);
-            this.componentParams = ImmutableList.copyOf(componentParams);
-            this.priority = priority;
-        }
-
-        @Override
-        public boolean isValidFor(EntityRef entity) {
-            for (Class<? extends Component> component : filterComponents) {
-                if (!entity.hasComponent(component)) {
-                    return false;
-                }
-            }
-            return true;
-        }
-
-        @Override
-        public void invoke(EntityRef entity, Event event) {
-            try {
-                Object[] params = new Object[2 + componentParams.size()];
-                params[0] = event;
-                params[1] = entity;
-                for (int i = 0; i < componentParams.size(); ++i) {
-                    params[i + 2] = entity.getComponent(componentParams.get(i));
-                }
-                method.invoke(handler, params);
-            } catch (Exception ex) {
-                logger.error("Failed to invoke event", ex);
-            }
-        }
-
-        @Override
-        public int getPriority() {
-            return priority;
-        }
-
-        @Override
-        public ComponentSystem getHandler() {
-            return handler;
-        }
-    }
-
-    private static class ByteCodeEventHandlerInfo implements EventHandlerInfo {
+    private static class GeneratedEventHandlerInfo implements EventHandlerInfo {
         private ComponentSystem handler;
         private String activity;
-        private MethodAccess methodAccess;
-        private int methodIndex;
+        private EventHandlerInvoker invoker;
         private ImmutableList<Class<? extends Component>> filterComponents;
-        private ImmutableList<Class<? extends Component>> componentParams;
         private int priority;
 
-        ByteCodeEventHandlerInfo(ComponentSystem handler,
-                                        Method method,
-                                        int priority,
-                                        String activity,
-                                        Collection<Class<? extends Component>> filterComponents,
-                                        Collection<Class<? extends Component>> componentParams) {
-
-
+        GeneratedEventHandlerInfo(ComponentSystem handler,
+                                  Method method,
+                                  int priority,
+                                  String activity,
+                                  Collection<Class<? extends Component>> filterComponents,
+                                  List<Class<? extends Component>> componentParams) throws IllegalAccessException {
             this.handler = handler;
             this.activity = activity;
-            this.methodAccess = MethodAccess.get(handler.getClass());
-            methodIndex = methodAccess.getIndex(method.getName(), method.getParameterTypes());
+            this.invoker = EventHandlerInvoker.create(handler, method, componentParams);
             this.filterComponents = ImmutableList.copyOf(filterComponents);
-            this.componentParams = ImmutableList.copyOf(componentParams);
             this.priority = priority;
         }
 
@@ -518,25 +567,19 @@ public boolean isValidFor(EntityRef entity) {
 
         @Override
         public void invoke(EntityRef entity, Event event) {
+            if (!activity.isEmpty()) {
+                PerformanceMonitor.startActivity(activity);
+            }
             try {
-                Object[] params = new Object[2 + componentParams.size()];
-                params[0] = event;
-                params[1] = entity;
-                for (int i = 0; i < componentParams.size(); ++i) {
-                    params[i + 2] = entity.getComponent(componentParams.get(i));
-                }
+                invoker.invoke(entity, event);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable ex) {
+                logger.error("Failed to invoke event", ex);
+            } finally {
                 if (!activity.isEmpty()) {
-                    PerformanceMonitor.startActivity(activity);
+                    PerformanceMonitor.endActivity();
                 }
-                try {
-                    methodAccess.invoke(handler, methodIndex, params);
-                } finally {
-                    if (!activity.isEmpty()) {
-                        PerformanceMonitor.endActivity();
-                    }
-                }
-            } catch (Exception ex) {
-                logger.error("Failed to invoke event", ex);
             }
         }
 
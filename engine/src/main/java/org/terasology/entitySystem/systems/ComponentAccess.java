@@ -0,0 +1,32 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.entitySystem.systems;
+
+import org.terasology.entitySystem.Component;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares which component types the {@link UpdateSubscriberSystem#update(float)} of a system reads and writes.
+ * <br><br>
+ * Systems with this annotation may get updated in parallel to other annotated systems they do not conflict with. Two
+ * systems conflict if one of them writes a component type the other one reads or writes. Systems that conflict are
+ * updated in the order they got registered in, and systems without this annotation are always updated on their own.
+ * <br><br>
+ * By adding this annotation a system promises that its update touches no shared state besides the declared
+ * components, like the world or fields of other systems. Events it sends get queued and are processed with the events
+ * of the next engine update.
+ * <br>
+ * <code>@ComponentAccess(reads = LocationComponent.class, writes = HealthComponent.class)</code>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ComponentAccess {
+
+    Class<? extends Component>[] reads() default {};
+
+    Class<? extends Component>[] writes() default {};
+}
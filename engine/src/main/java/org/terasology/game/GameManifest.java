@@ -50,6 +50,7 @@ public class GameManifest {
     private Map<String, Short> blockIdMap = Maps.newHashMap();
     private Map<String, WorldInfo> worlds = Maps.newHashMap();
     private List<NameVersion> modules = Lists.newArrayList();
+    private String chunkCompression;
 
     public GameManifest() {
     }
@@ -150,4 +151,16 @@ public void addModule(Name id, Version version) {
         modules.add(new NameVersion(id, version));
     }
 
+    /**
+     * @return the name of the codec the chunks of the save get compressed with, null for saves that predate the
+     *         choice of codecs and use gzip.
+     */
+    public String getChunkCompression() {
+        return chunkCompression;
+    }
+
+    public void setChunkCompression(String chunkCompression) {
+        this.chunkCompression = chunkCompression;
+    }
+
 }
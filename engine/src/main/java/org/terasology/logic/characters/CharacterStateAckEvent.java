@@ -0,0 +1,36 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.logic.characters;
+
+import com.google.common.collect.Lists;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.event.Event;
+import org.terasology.network.ServerEvent;
+
+import java.util.List;
+
+/**
+ * Sent by a client to its client entity, to acknowledge the latest character states it received through
+ * {@link CharacterStateDeltaEvent}s. The server encodes the following states of these characters against them.
+ */
+@ServerEvent
+public class CharacterStateAckEvent implements Event {
+    private List<EntityRef> characters = Lists.newArrayList();
+    private List<Integer> snapshotIds = Lists.newArrayList();
+
+    protected CharacterStateAckEvent() {
+    }
+
+    public CharacterStateAckEvent(List<EntityRef> characters, List<Integer> snapshotIds) {
+        this.characters = characters;
+        this.snapshotIds = snapshotIds;
+    }
+
+    public List<EntityRef> getCharacters() {
+        return characters;
+    }
+
+    public List<Integer> getSnapshotIds() {
+        return snapshotIds;
+    }
+}
@@ -0,0 +1,167 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.logic.characters;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import org.terasology.math.geom.Vector3i;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Encodes a {@link CharacterStateSnapshot} as the difference to a baseline snapshot the receiver already has.
+ * <br><br>
+ * The encoding starts with a bit mask of the fields that differ from the baseline, followed by the differences of the
+ * time and the sequence number and then the differences of the changed fields, all as variable length integers. A
+ * character that stands still costs a few bytes, one that walks a few more. Without a baseline, the snapshot is
+ * encoded as the difference to an all zero state.
+ */
+final class CharacterStateCodec {
+    private static final int POSITION = 1;
+    private static final int ROTATION = 1 << 1;
+    private static final int VELOCITY = 1 << 2;
+    private static final int YAW = 1 << 3;
+    private static final int PITCH = 1 << 4;
+    private static final int FOOTSTEP = 1 << 5;
+    private static final int MODE = 1 << 6;
+    private static final int GROUNDED = 1 << 7;
+    private static final int CLIMBING = 1 << 8;
+
+    private static final CharacterStateSnapshot ZERO = new CharacterStateSnapshot(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+            MovementMode.WALKING, false, null);
+
+    private CharacterStateCodec() {
+    }
+
+    /**
+     * @param baseline the snapshot the receiver decodes against, or null to encode the full state
+     */
+    static byte[] encode(CharacterStateSnapshot state, CharacterStateSnapshot baseline) {
+        CharacterStateSnapshot base = baseline != null ? baseline : ZERO;
+        int mask = 0;
+        if (state.positionX != base.positionX || state.positionY != base.positionY
+                || state.positionZ != base.positionZ) {
+            mask |= POSITION;
+        }
+        if (state.rotation != base.rotation) {
+            mask |= ROTATION;
+        }
+        if (state.velocityX != base.velocityX || state.velocityY != base.velocityY
+                || state.velocityZ != base.velocityZ) {
+            mask |= VELOCITY;
+        }
+        if (state.yaw != base.yaw) {
+            mask |= YAW;
+        }
+        if (state.pitch != base.pitch) {
+            mask |= PITCH;
+        }
+        if (state.footstepDelta != base.footstepDelta) {
+            mask |= FOOTSTEP;
+        }
+        if (state.mode != base.mode) {
+            mask |= MODE;
+        }
+        if (state.grounded) {
+            mask |= GROUNDED;
+        }
+        if (state.climbDirection != null) {
+            mask |= CLIMBING;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(32);
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        try {
+            output.writeUInt32NoTag(mask);
+            output.writeSInt64NoTag(state.time - base.time);
+            output.writeSInt32NoTag(state.sequenceNumber - base.sequenceNumber);
+            if ((mask & POSITION) != 0) {
+                output.writeSInt32NoTag(state.positionX - base.positionX);
+                output.writeSInt32NoTag(state.positionY - base.positionY);
+                output.writeSInt32NoTag(state.positionZ - base.positionZ);
+            }
+            if ((mask & ROTATION) != 0) {
+                output.writeFixed32NoTag(state.rotation);
+            }
+            if ((mask & VELOCITY) != 0) {
+                output.writeSInt32NoTag(state.velocityX - base.velocityX);
+                output.writeSInt32NoTag(state.velocityY - base.velocityY);
+                output.writeSInt32NoTag(state.velocityZ - base.velocityZ);
+            }
+            if ((mask & YAW) != 0) {
+                output.writeSInt32NoTag(state.yaw - base.yaw);
+            }
+            if ((mask & PITCH) != 0) {
+                output.writeSInt32NoTag(state.pitch - base.pitch);
+            }
+            if ((mask & FOOTSTEP) != 0) {
+                output.writeSInt32NoTag(state.footstepDelta - base.footstepDelta);
+            }
+            if ((mask & MODE) != 0) {
+                output.writeUInt32NoTag(state.mode.ordinal());
+            }
+            if ((mask & CLIMBING) != 0) {
+                output.writeSInt32NoTag(state.climbDirection.x);
+                output.writeSInt32NoTag(state.climbDirection.y);
+                output.writeSInt32NoTag(state.climbDirection.z);
+            }
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @param baseline the snapshot the data was encoded against, or null if it contains the full state
+     * @throws IllegalArgumentException if the data is malformed
+     */
+    static CharacterStateSnapshot decode(byte[] data, CharacterStateSnapshot baseline) {
+        CharacterStateSnapshot base = baseline != null ? baseline : ZERO;
+        CodedInputStream input = CodedInputStream.newInstance(data);
+        try {
+            int mask = input.readUInt32();
+            long time = base.time + input.readSInt64();
+            int sequenceNumber = base.sequenceNumber + input.readSInt32();
+            int positionX = base.positionX;
+            int positionY = base.positionY;
+            int positionZ = base.positionZ;
+            if ((mask & POSITION) != 0) {
+                positionX += input.readSInt32();
+                positionY += input.readSInt32();
+                positionZ += input.readSInt32();
+            }
+            int rotation = (mask & ROTATION) != 0 ? input.readFixed32() : base.rotation;
+            int velocityX = base.velocityX;
+            int velocityY = base.velocityY;
+            int velocityZ = base.velocityZ;
+            if ((mask & VELOCITY) != 0) {
+                velocityX += input.readSInt32();
+                velocityY += input.readSInt32();
+                velocityZ += input.readSInt32();
+            }
+            int yaw = base.yaw + ((mask & YAW) != 0 ? input.readSInt32() : 0);
+            int pitch = base.pitch + ((mask & PITCH) != 0 ? input.readSInt32() : 0);
+            int footstepDelta = base.footstepDelta + ((mask & FOOTSTEP) != 0 ? input.readSInt32() : 0);
+            MovementMode mode = base.mode;
+            if ((mask & MODE) != 0) {
+                int ordinal = input.readUInt32();
+                if (ordinal < 0 || ordinal >= MovementMode.values().length) {
+                    throw new IllegalArgumentException("Character state has an invalid movement mode " + ordinal);
+                }
+                mode = MovementMode.values()[ordinal];
+            }
+            Vector3i climbDirection = null;
+            if ((mask & CLIMBING) != 0) {
+                climbDirection = new Vector3i(input.readSInt32(), input.readSInt32(), input.readSInt32());
+            }
+            return new CharacterStateSnapshot(time, sequenceNumber, positionX, positionY, positionZ, rotation,
+                    velocityX, velocityY, velocityZ, yaw, pitch, footstepDelta, mode, (mask & GROUNDED) != 0,
+                    climbDirection);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Character state is truncated", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.logic.characters;
+
+import org.terasology.network.NetworkEvent;
+
+/**
+ * Sent by the server to a single client, with the state of a character encoded as the difference to a state the
+ * client acknowledged before, see {@link CharacterStateCodec}. The client decodes it into a {@link CharacterStateEvent}
+ * and acknowledges it with a {@link CharacterStateAckEvent}.
+ */
+public class CharacterStateDeltaEvent extends NetworkEvent {
+    private int snapshotId;
+    private int baselineId;
+    private byte[] data;
+
+    protected CharacterStateDeltaEvent() {
+    }
+
+    /**
+     * @param snapshotId the id of the encoded state, increasing with every state of the character
+     * @param baselineId the id of the state the data is encoded against, or 0 if it contains the full state
+     * @param data       the encoded state
+     */
+    public CharacterStateDeltaEvent(int snapshotId, int baselineId, byte[] data) {
+        this.snapshotId = snapshotId;
+        this.baselineId = baselineId;
+        this.data = data;
+    }
+
+    public int getSnapshotId() {
+        return snapshotId;
+    }
+
+    public int getBaselineId() {
+        return baselineId;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+}
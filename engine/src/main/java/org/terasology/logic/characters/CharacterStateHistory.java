@@ -0,0 +1,53 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.logic.characters;
+
+/**
+ * The latest replicated states of a character, by their snapshot id, that deltas may be encoded against.
+ * <br><br>
+ * Snapshot ids of a character increase by one with every state, so the history is a ring buffer indexed by id.
+ */
+final class CharacterStateHistory {
+    private final int[] ids;
+    private final CharacterStateSnapshot[] snapshots;
+    private int latestId;
+
+    CharacterStateHistory(int size) {
+        ids = new int[size];
+        snapshots = new CharacterStateSnapshot[size];
+    }
+
+    /**
+     * @return The id of the added snapshot
+     */
+    int add(CharacterStateSnapshot snapshot) {
+        int id = latestId + 1;
+        put(id, snapshot);
+        return id;
+    }
+
+    void put(int id, CharacterStateSnapshot snapshot) {
+        int index = Math.floorMod(id, ids.length);
+        ids[index] = id;
+        snapshots[index] = snapshot;
+        latestId = Math.max(latestId, id);
+    }
+
+    /**
+     * @return The snapshot with the given id, or null if it is not known or was replaced by newer snapshots
+     */
+    CharacterStateSnapshot get(int id) {
+        int index = Math.floorMod(id, ids.length);
+        if (id <= 0 || ids[index] != id) {
+            return null;
+        }
+        return snapshots[index];
+    }
+
+    /**
+     * @return The id of the latest snapshot, or 0 if there is none
+     */
+    int getLatestId() {
+        return latestId;
+    }
+}
@@ -0,0 +1,137 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.logic.characters;
+
+import com.google.common.collect.Queues;
+
+import java.util.Deque;
+
+/**
+ * Buffers the received states of a remote character, so that it can be shown interpolated between them.
+ * <br><br>
+ * The character is shown a delay behind the current time, which covers the interval between two states plus the
+ * jitter with which they arrive. The jitter is estimated as the smoothed variation of the transit times of the states,
+ * like RTP does. The delay follows the estimate slowly, so that the character does not visibly speed up or slow down.
+ */
+class CharacterStateJitterBuffer {
+    private static final int CAPACITY = 64;
+    /**
+     * How many times the estimated jitter is added to the minimum delay.
+     */
+    private static final float JITTER_FACTOR = 3f;
+    /**
+     * How fast the delay may change, in ms per ms.
+     */
+    private static final float MAX_DELAY_CHANGE = 0.1f;
+    private static final float JITTER_SMOOTHING = 1f / 16;
+
+    private final Deque<CharacterStateEvent> states = Queues.newArrayDeque();
+    private final long minDelay;
+    private final long maxDelay;
+
+    private float jitter;
+    private long lastTransitTime;
+    private boolean hasTransitTime;
+    private float delay;
+    private long lastRenderTime;
+
+    /**
+     * @param minDelay the delay without any jitter, in ms
+     * @param maxDelay the maximum delay, in ms
+     */
+    CharacterStateJitterBuffer(long minDelay, long maxDelay) {
+        this.minDelay = minDelay;
+        this.maxDelay = maxDelay;
+        this.delay = minDelay;
+    }
+
+    /**
+     * Adds a state, unless it is older than the latest state.
+     *
+     * @param arrivalTime the game time at which the state arrived
+     */
+    void add(CharacterStateEvent state, long arrivalTime) {
+        if (!states.isEmpty() && state.getTime() < states.getLast().getTime()) {
+            return;
+        }
+        states.addLast(state);
+        if (states.size() > CAPACITY) {
+            states.removeFirst();
+        }
+        long transitTime = arrivalTime - state.getTime();
+        if (hasTransitTime) {
+            jitter += (Math.abs(transitTime - lastTransitTime) - jitter) * JITTER_SMOOTHING;
+        }
+        lastTransitTime = transitTime;
+        hasTransitTime = true;
+    }
+
+    /**
+     * @return The estimated jitter, in ms
+     */
+    float getJitter() {
+        return jitter;
+    }
+
+    /**
+     * @return The delay the last render time was behind the current time, in ms
+     */
+    long getDelay() {
+        return Math.round(delay);
+    }
+
+    /**
+     * Moves the delay towards the current jitter estimate.
+     *
+     * @param currentTime the current game time
+     * @return The time to show the character at
+     */
+    long getRenderTime(long currentTime) {
+        float targetDelay = Math.min(maxDelay, minDelay + JITTER_FACTOR * jitter);
+        if (lastRenderTime != 0) {
+            float maxChange = Math.max(0, currentTime - lastRenderTime) * MAX_DELAY_CHANGE;
+            delay += Math.max(-maxChange, Math.min(maxChange, targetDelay - delay));
+        }
+        lastRenderTime = currentTime;
+        return currentTime - Math.round(delay);
+    }
+
+    /**
+     * @return The latest state at or before the given time, or null if there is none
+     */
+    CharacterStateEvent getStateBefore(long time) {
+        CharacterStateEvent result = null;
+        for (CharacterStateEvent state : states) {
+            if (state.getTime() > time) {
+                break;
+            }
+            result = state;
+        }
+        return result;
+    }
+
+    /**
+     * @return The first state after the given time, or null if there is none
+     */
+    CharacterStateEvent getStateAfter(long time) {
+        for (CharacterStateEvent state : states) {
+            if (state.getTime() > time) {
+                return state;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Drops the states that are no longer needed to interpolate at the given time or later.
+     */
+    void removeBefore(long time) {
+        CharacterStateEvent before = states.pollFirst();
+        while (!states.isEmpty() && states.peekFirst().getTime() <= time) {
+            before = states.pollFirst();
+        }
+        if (before != null) {
+            states.addFirst(before);
+        }
+    }
+}
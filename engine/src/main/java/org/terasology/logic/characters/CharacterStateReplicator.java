@@ -0,0 +1,92 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.logic.characters;
+
+import com.google.common.collect.Maps;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.network.Client;
+
+import java.util.Map;
+
+/**
+ * Replicates the states of characters to the clients, each one encoded against the latest state of the character the
+ * client acknowledged. Clients that acknowledged the same state share the encoded data.
+ * <br><br>
+ * A client that has not acknowledged any of the states still known here gets the full state. This is also how a
+ * client recovers after it lost its baseline: it acknowledges snapshot 0, see {@link #acknowledge}.
+ */
+class CharacterStateReplicator {
+    /**
+     * How many of the latest states of every character are kept as baselines. At one state per replication interval,
+     * a client has a few seconds to acknowledge a state before it has to get full states again.
+     */
+    static final int HISTORY_SIZE = 64;
+
+    private final Map<EntityRef, CharacterStateHistory> histories = Maps.newHashMap();
+    /**
+     * The snapshot ids of the acknowledged states, by client entity and character.
+     */
+    private final Map<EntityRef, TObjectIntMap<EntityRef>> acknowledged = Maps.newHashMap();
+
+    /**
+     * Sends the state of the character to all remote clients.
+     */
+    void replicate(EntityRef character, CharacterStateEvent state, Iterable<Client> clients) {
+        CharacterStateHistory history = histories.computeIfAbsent(character,
+                key -> new CharacterStateHistory(HISTORY_SIZE));
+        CharacterStateSnapshot snapshot = CharacterStateSnapshot.quantize(state);
+        int snapshotId = history.add(snapshot);
+
+        TIntObjectMap<byte[]> dataByBaseline = new TIntObjectHashMap<>();
+        for (Client client : clients) {
+            if (client.isLocal()) {
+                continue;
+            }
+            TObjectIntMap<EntityRef> clientAcknowledged = acknowledged.get(client.getEntity());
+            int baselineId = clientAcknowledged != null ? clientAcknowledged.get(character) : 0;
+            CharacterStateSnapshot baseline = history.get(baselineId);
+            if (baseline == null) {
+                baselineId = 0;
+            }
+            byte[] data = dataByBaseline.get(baselineId);
+            if (data == null) {
+                data = CharacterStateCodec.encode(snapshot, baseline);
+                dataByBaseline.put(baselineId, data);
+            }
+            client.send(new CharacterStateDeltaEvent(snapshotId, baselineId, data), character);
+        }
+    }
+
+    /**
+     * Records that the client received a state of the character. Newer states are encoded against the latest
+     * acknowledged state, while acknowledging snapshot 0 makes the client get the full state again.
+     */
+    void acknowledge(EntityRef clientEntity, EntityRef character, int snapshotId) {
+        CharacterStateHistory history = histories.get(character);
+        if (history == null) {
+            return;
+        }
+        TObjectIntMap<EntityRef> clientAcknowledged = acknowledged.computeIfAbsent(clientEntity,
+                key -> new TObjectIntHashMap<>());
+        if (snapshotId == 0) {
+            clientAcknowledged.remove(character);
+        } else if (snapshotId > clientAcknowledged.get(character) && snapshotId <= history.getLatestId()) {
+            clientAcknowledged.put(character, snapshotId);
+        }
+    }
+
+    void removeCharacter(EntityRef character) {
+        histories.remove(character);
+        for (TObjectIntMap<EntityRef> clientAcknowledged : acknowledged.values()) {
+            clientAcknowledged.remove(character);
+        }
+    }
+
+    void removeClient(EntityRef clientEntity) {
+        acknowledged.remove(clientEntity);
+    }
+}
@@ -0,0 +1,166 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.logic.characters;
+
+import org.terasology.math.geom.Quat4f;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.math.geom.Vector3i;
+
+import java.util.Objects;
+
+/**
+ * A {@link CharacterStateEvent} quantized to the precision it is replicated with.
+ * <br><br>
+ * Positions and velocities are stored in fixed point, angles in hundredths of a degree and the rotation in the
+ * "smallest three" form: the three smaller components of the quaternion with 10 bits each, and the index of the
+ * largest, which follows from the others. As the server and the clients both keep the quantized states, deltas between
+ * them are exact and do not accumulate rounding errors.
+ */
+public final class CharacterStateSnapshot {
+    static final float POSITION_SCALE = 256f;
+    static final float VELOCITY_SCALE = 256f;
+    static final float ANGLE_SCALE = 100f;
+    static final float FOOTSTEP_SCALE = 1024f;
+
+    private static final int ROTATION_BITS = 10;
+    private static final int ROTATION_MASK = (1 << ROTATION_BITS) - 1;
+    private static final float ROTATION_RANGE = (float) Math.sqrt(0.5);
+
+    final long time;
+    final int sequenceNumber;
+    final int positionX;
+    final int positionY;
+    final int positionZ;
+    final int rotation;
+    final int velocityX;
+    final int velocityY;
+    final int velocityZ;
+    final int yaw;
+    final int pitch;
+    final int footstepDelta;
+    final MovementMode mode;
+    final boolean grounded;
+    final Vector3i climbDirection;
+
+    CharacterStateSnapshot(long time, int sequenceNumber, int positionX, int positionY, int positionZ, int rotation,
+                           int velocityX, int velocityY, int velocityZ, int yaw, int pitch, int footstepDelta,
+                           MovementMode mode, boolean grounded, Vector3i climbDirection) {
+        this.time = time;
+        this.sequenceNumber = sequenceNumber;
+        this.positionX = positionX;
+        this.positionY = positionY;
+        this.positionZ = positionZ;
+        this.rotation = rotation;
+        this.velocityX = velocityX;
+        this.velocityY = velocityY;
+        this.velocityZ = velocityZ;
+        this.yaw = yaw;
+        this.pitch = pitch;
+        this.footstepDelta = footstepDelta;
+        this.mode = mode;
+        this.grounded = grounded;
+        this.climbDirection = climbDirection;
+    }
+
+    public static CharacterStateSnapshot quantize(CharacterStateEvent state) {
+        Vector3f position = state.getPosition();
+        Vector3f velocity = state.getVelocity();
+        Vector3i climbDirection = state.getClimbDirection();
+        return new CharacterStateSnapshot(state.getTime(), state.getSequenceNumber(),
+                quantize(position.x, POSITION_SCALE), quantize(position.y, POSITION_SCALE),
+                quantize(position.z, POSITION_SCALE), packRotation(state.getRotation()),
+                quantize(velocity.x, VELOCITY_SCALE), quantize(velocity.y, VELOCITY_SCALE),
+                quantize(velocity.z, VELOCITY_SCALE), quantize(state.getYaw(), ANGLE_SCALE),
+                quantize(state.getPitch(), ANGLE_SCALE), quantize(state.getFootstepDelta(), FOOTSTEP_SCALE),
+                state.getMode(), state.isGrounded(), climbDirection == null ? null : new Vector3i(climbDirection));
+    }
+
+    /**
+     * @return A new event with the state
+     */
+    public CharacterStateEvent toEvent() {
+        CharacterStateEvent state = new CharacterStateEvent(time, sequenceNumber,
+                new Vector3f(positionX / POSITION_SCALE, positionY / POSITION_SCALE, positionZ / POSITION_SCALE),
+                unpackRotation(rotation),
+                new Vector3f(velocityX / VELOCITY_SCALE, velocityY / VELOCITY_SCALE, velocityZ / VELOCITY_SCALE),
+                yaw / ANGLE_SCALE, pitch / ANGLE_SCALE, mode, grounded);
+        state.setFootstepDelta(footstepDelta / FOOTSTEP_SCALE);
+        state.setClimbDirection(climbDirection == null ? null : new Vector3i(climbDirection));
+        return state;
+    }
+
+    public long getTime() {
+        return time;
+    }
+
+    public int getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    private static int quantize(float value, float scale) {
+        return Math.round(value * scale);
+    }
+
+    static int packRotation(Quat4f rotation) {
+        float[] components = {rotation.getX(), rotation.getY(), rotation.getZ(), rotation.getW()};
+        int largest = 0;
+        for (int i = 1; i < components.length; i++) {
+            if (Math.abs(components[i]) > Math.abs(components[largest])) {
+                largest = i;
+            }
+        }
+        // q and -q are the same rotation, so the largest component can always be taken as positive
+        float sign = components[largest] < 0 ? -1 : 1;
+        int packed = largest;
+        int shift = 2;
+        for (int i = 0; i < components.length; i++) {
+            if (i != largest) {
+                float normalized = (sign * components[i] / ROTATION_RANGE + 1) / 2;
+                int quantized = Math.round(normalized * ROTATION_MASK);
+                packed |= Math.max(0, Math.min(ROTATION_MASK, quantized)) << shift;
+                shift += ROTATION_BITS;
+            }
+        }
+        return packed;
+    }
+
+    static Quat4f unpackRotation(int packed) {
+        int largest = packed & 3;
+        float[] components = new float[4];
+        float sumOfSquares = 0;
+        int shift = 2;
+        for (int i = 0; i < components.length; i++) {
+            if (i != largest) {
+                int quantized = (packed >>> shift) & ROTATION_MASK;
+                components[i] = ((float) quantized / ROTATION_MASK * 2 - 1) * ROTATION_RANGE;
+                sumOfSquares += components[i] * components[i];
+                shift += ROTATION_BITS;
+            }
+        }
+        components[largest] = (float) Math.sqrt(Math.max(0, 1 - sumOfSquares));
+        return new Quat4f(components[0], components[1], components[2], components[3]);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CharacterStateSnapshot)) {
+            return false;
+        }
+        CharacterStateSnapshot other = (CharacterStateSnapshot) o;
+        return time == other.time && sequenceNumber == other.sequenceNumber && positionX == other.positionX
+                && positionY == other.positionY && positionZ == other.positionZ && rotation == other.rotation
+                && velocityX == other.velocityX && velocityY == other.velocityY && velocityZ == other.velocityZ
+                && yaw == other.yaw && pitch == other.pitch && footstepDelta == other.footstepDelta
+                && mode == other.mode && grounded == other.grounded
+                && Objects.equals(climbDirection, other.climbDirection);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(time, sequenceNumber, positionX, positionY, positionZ, rotation, velocityX,
+                velocityY, velocityZ, yaw, pitch, footstepDelta, mode, grounded, climbDirection);
+    }
+}
@@ -16,6 +16,7 @@
 
 package org.terasology.logic.characters;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Queues;
 
@@ -36,11 +37,11 @@
 import org.terasology.math.geom.Vector3f;
 import org.terasology.network.ClientComponent;
 import org.terasology.physics.engine.PhysicsEngine;
-import org.terasology.utilities.collection.CircularBuffer;
 import org.terasology.world.WorldProvider;
 
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -48,7 +49,14 @@
 @RegisterSystem(RegisterMode.REMOTE_CLIENT)
 public class ClientCharacterPredictionSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
     private static final Logger logger = LoggerFactory.getLogger(ClientCharacterPredictionSystem.class);
-    private static final int BUFFER_SIZE = 128;
+    /**
+     * The maximum delay remote characters are shown with, when states arrive with a lot of jitter.
+     */
+    private static final int MAX_RENDER_DELAY = 400;
+    /**
+     * How often the received character states are acknowledged to the server.
+     */
+    private static final int TIME_BETWEEN_STATE_ACKS = 100;
 
     @In
     private Time time;
@@ -63,7 +71,10 @@ public class ClientCharacterPredictionSystem extends BaseComponentSystem impleme
     private LocalPlayer localPlayer;
 
     private CharacterMover characterMover;
-    private Map<EntityRef, CircularBuffer<CharacterStateEvent>> playerStates = Maps.newHashMap();
+    private Map<EntityRef, CharacterStateJitterBuffer> playerStates = Maps.newHashMap();
+    private Map<EntityRef, CharacterStateHistory> receivedStates = Maps.newHashMap();
+    private Map<EntityRef, Integer> statesToAcknowledge = Maps.newLinkedHashMap();
+    private long nextStateAck;
     private Deque<CharacterMoveInputEvent> inputs = Queues.newArrayDeque();
     private CharacterStateEvent predictedState;
     private CharacterStateEvent authoritiveState;
@@ -78,8 +89,9 @@ public void initialise() {
     @ReceiveEvent(components = {CharacterMovementComponent.class, LocationComponent.class, AliveCharacterComponent.class})
     public void onCreate(final OnActivatedComponent event, final EntityRef entity) {
         physics.getCharacterCollider(entity);
-        CircularBuffer<CharacterStateEvent> stateBuffer = CircularBuffer.create(BUFFER_SIZE);
-        stateBuffer.add(createInitialState(entity));
+        CharacterStateJitterBuffer stateBuffer =
+                new CharacterStateJitterBuffer(ServerCharacterPredictionSystem.RENDER_DELAY, MAX_RENDER_DELAY);
+        stateBuffer.add(createInitialState(entity), time.getGameTimeInMs());
         playerStates.put(entity, stateBuffer);
     }
 
@@ -94,6 +106,47 @@ public void onDestroy(final BeforeDeactivateComponent event, final EntityRef ent
         }
         physics.removeCharacterCollider(entity);
         playerStates.remove(entity);
+        receivedStates.remove(entity);
+        statesToAcknowledge.remove(entity);
+    }
+
+    /**
+     * Decodes a replicated state against the state it was encoded against and passes it on as a
+     * {@link CharacterStateEvent}. If that state is no longer known, the server is asked for the full state instead.
+     */
+    @ReceiveEvent(components = {CharacterMovementComponent.class, LocationComponent.class, AliveCharacterComponent.class})
+    public void onCharacterStateDelta(CharacterStateDeltaEvent event, EntityRef entity) {
+        CharacterStateHistory history = receivedStates.computeIfAbsent(entity,
+                key -> new CharacterStateHistory(CharacterStateReplicator.HISTORY_SIZE));
+        if (event.getSnapshotId() <= history.getLatestId()) {
+            if (event.getBaselineId() != 0) {
+                return;
+            }
+            // The server started the states of the character over
+            history = new CharacterStateHistory(CharacterStateReplicator.HISTORY_SIZE);
+            receivedStates.put(entity, history);
+        }
+        CharacterStateSnapshot baseline = null;
+        if (event.getBaselineId() != 0) {
+            baseline = history.get(event.getBaselineId());
+            if (baseline == null) {
+                logger.debug("Missing baseline {} of the state of {}, requesting the full state", event.getBaselineId(),
+                        entity);
+                statesToAcknowledge.put(entity, 0);
+                return;
+            }
+        }
+        CharacterStateSnapshot snapshot;
+        try {
+            snapshot = CharacterStateCodec.decode(event.getData(), baseline);
+        } catch (IllegalArgumentException e) {
+            logger.error("Received an invalid state of {}", entity, e);
+            statesToAcknowledge.put(entity, 0);
+            return;
+        }
+        history.put(event.getSnapshotId(), snapshot);
+        statesToAcknowledge.put(entity, event.getSnapshotId());
+        entity.send(snapshot.toEvent());
     }
 
     @ReceiveEvent(components = {CharacterMovementComponent.class, LocationComponent.class, AliveCharacterComponent.class})
@@ -118,7 +171,7 @@ public void onCharacterStateReceived(CharacterStateEvent state, EntityRef entity
             // TODO: soft correct predicted state
             predictedState = newState;
         } else {
-            playerStates.get(entity).add(state);
+            playerStates.get(entity).add(state, time.getGameTimeInMs());
         }
     }
 
@@ -149,18 +202,13 @@ private CharacterStateEvent stepState(CharacterMoveInputEvent input, CharacterSt
 
     @Override
     public void update(float delta) {
-        long renderTime = time.getGameTimeInMs() - ServerCharacterPredictionSystem.RENDER_DELAY;
-        for (Map.Entry<EntityRef, CircularBuffer<CharacterStateEvent>> entry : playerStates.entrySet()) {
-            CharacterStateEvent previous = null;
-            CharacterStateEvent next = null;
-            for (CharacterStateEvent state : entry.getValue()) {
-                if (state.getTime() <= renderTime) {
-                    previous = state;
-                } else {
-                    next = state;
-                    break;
-                }
-            }
+        long currentTime = time.getGameTimeInMs();
+        for (Map.Entry<EntityRef, CharacterStateJitterBuffer> entry : playerStates.entrySet()) {
+            CharacterStateJitterBuffer stateBuffer = entry.getValue();
+            long renderTime = stateBuffer.getRenderTime(currentTime);
+            stateBuffer.removeBefore(renderTime);
+            CharacterStateEvent previous = stateBuffer.getStateBefore(renderTime);
+            CharacterStateEvent next = stateBuffer.getStateAfter(renderTime);
             if (previous != null) {
                 if (next != null) {
                     characterMovementSystemUtility.setToInterpolateState(entry.getKey(), previous, next, renderTime);
@@ -169,5 +217,23 @@ public void update(float delta) {
                 }
             }
         }
+        if (currentTime >= nextStateAck) {
+            acknowledgeStates();
+            nextStateAck = currentTime + TIME_BETWEEN_STATE_ACKS;
+        }
+    }
+
+    /**
+     * Tells the server which states the deltas for the characters can be encoded against from now on, all characters
+     * in one event.
+     */
+    private void acknowledgeStates() {
+        if (statesToAcknowledge.isEmpty() || !localPlayer.getClientEntity().exists()) {
+            return;
+        }
+        List<EntityRef> characters = Lists.newArrayList(statesToAcknowledge.keySet());
+        List<Integer> snapshotIds = Lists.newArrayList(statesToAcknowledge.values());
+        statesToAcknowledge.clear();
+        localPlayer.getClientEntity().send(new CharacterStateAckEvent(characters, snapshotIds));
     }
 }
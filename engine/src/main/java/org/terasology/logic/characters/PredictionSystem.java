@@ -17,6 +17,7 @@
 package org.terasology.logic.characters;
 
 import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.math.AABB;
 
 /**
  * Interface for the system that provides the ability to compensate for lag, by rewinding and replaying state
@@ -31,5 +32,17 @@ public interface PredictionSystem {
      */
     void lagCompensate(EntityRef client, long timeMs);
 
+    /**
+     * Rewinds time for the specified client, but only for the characters that may have been within the region at that
+     * time. Can be called again with other regions before the next {@link #restoreToPresent()}.
+     *
+     * @param client The client entity to rewind for
+     * @param timeMs The time to rewind to
+     * @param region The region to rewind the characters in, or null to rewind all characters
+     */
+    default void lagCompensate(EntityRef client, long timeMs, AABB region) {
+        lagCompensate(client, timeMs);
+    }
+
     void restoreToPresent();
 }
@@ -19,6 +19,7 @@
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.engine.Time;
@@ -33,8 +34,11 @@
 import org.terasology.logic.characters.events.SetMovementModeEvent;
 import org.terasology.logic.location.LocationComponent;
 import org.terasology.logic.players.LocalPlayer;
+import org.terasology.math.AABB;
 import org.terasology.math.geom.Vector3f;
+import org.terasology.network.ClientComponent;
 import org.terasology.network.NetworkSystem;
+import org.terasology.network.events.DisconnectedEvent;
 import org.terasology.physics.engine.CharacterCollider;
 import org.terasology.physics.engine.PhysicsEngine;
 import org.terasology.recording.CharacterStateEventPositionMap;
@@ -47,6 +51,7 @@
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @RegisterSystem(RegisterMode.AUTHORITY)
 @Share(PredictionSystem.class)
@@ -86,6 +91,8 @@ public class ServerCharacterPredictionSystem extends BaseComponentSystem impleme
     private Map<EntityRef, CircularBuffer<CharacterStateEvent>> characterStates = Maps.newHashMap();
     private List<EntityRef> characterStatesToRemove = Lists.newArrayList();
     private Map<EntityRef, CharacterMoveInputEvent> lastInputEvent = Maps.newHashMap();
+    private CharacterStateReplicator stateReplicator = new CharacterStateReplicator();
+    private Set<EntityRef> compensatedCharacters = Sets.newHashSet();
     private long nextSendState;
     private CharacterMovementSystemUtility characterMovementSystemUtility;
 
@@ -111,6 +118,20 @@ public void onDestroy(final BeforeDeactivateComponent event, final EntityRef ent
         lastInputEvent.remove(entity);
     }
 
+    @ReceiveEvent(components = ClientComponent.class)
+    public void onCharacterStateAck(CharacterStateAckEvent event, EntityRef client) {
+        List<EntityRef> characters = event.getCharacters();
+        List<Integer> snapshotIds = event.getSnapshotIds();
+        for (int i = 0; i < characters.size() && i < snapshotIds.size(); i++) {
+            stateReplicator.acknowledge(client, characters.get(i), snapshotIds.get(i));
+        }
+    }
+
+    @ReceiveEvent(components = ClientComponent.class)
+    public void onDisconnected(DisconnectedEvent event, EntityRef client) {
+        stateReplicator.removeClient(client);
+    }
+
     @ReceiveEvent(components = {AliveCharacterComponent.class})
     public void onSetMovementModeEvent(SetMovementModeEvent event, EntityRef character, CharacterMovementComponent movementComponent) {
         CircularBuffer<CharacterStateEvent> stateBuffer = characterStates.get(character);
@@ -199,7 +220,7 @@ public void update(float delta) {
                 if (entry.getValue().size() > 0) {
                     CharacterStateEvent state = entry.getValue().getLast();
                     if (state.getTime() >= lastSendTime) {
-                        entry.getKey().send(state);
+                        stateReplicator.replicate(entry.getKey(), state, networkSystem.getPlayers());
                     } else if (time.getGameTimeInMs() - state.getTime() > MAX_INPUT_UNDERFLOW) {
                         // Haven't received input in a while, repeat last input
                         CharacterMoveInputEvent lastInput = lastInputEvent.get(entry.getKey());
@@ -208,7 +229,7 @@ public void update(float delta) {
                                     (int) (time.getGameTimeInMs() - state.getTime()));
                             onPlayerInput(newInput, entry.getKey());
                         }
-                        entry.getKey().send(state);
+                        stateReplicator.replicate(entry.getKey(), state, networkSystem.getPlayers());
                     }
                 }
             }
@@ -224,45 +245,114 @@ public void update(float delta) {
             }
         }
         characterStates.keySet().removeAll(characterStatesToRemove);
+        characterStatesToRemove.forEach(stateReplicator::removeCharacter);
         characterStatesToRemove.clear();
     }
 
     private void setToTime(long renderTime, EntityRef entity, CircularBuffer<CharacterStateEvent> buffer) {
-        CharacterStateEvent previous = null;
-        CharacterStateEvent next = null;
-        for (CharacterStateEvent state : buffer) {
-            if (state.getTime() <= renderTime) {
-                previous = state;
-            } else {
-                next = state;
-                break;
-            }
+        int index = findStateBefore(buffer, renderTime);
+        if (index < 0) {
+            return;
+        }
+        CharacterStateEvent previous = buffer.get(index);
+        if (index + 1 < buffer.size()) {
+            characterMovementSystemUtility.setToInterpolateState(entity, previous, buffer.get(index + 1), renderTime);
+        } else {
+            characterMovementSystemUtility.setToExtrapolateState(entity, previous, renderTime);
         }
-        if (previous != null) {
-            if (next != null) {
-                characterMovementSystemUtility.setToInterpolateState(entity, previous, next, renderTime);
+    }
+
+    /**
+     * Binary searches the states, which are ordered by time.
+     *
+     * @return The index of the last state at or before the given time, or -1 if there is none
+     */
+    static int findStateBefore(List<CharacterStateEvent> buffer, long time) {
+        int low = 0;
+        int high = buffer.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (buffer.get(middle).getTime() <= time) {
+                low = middle + 1;
             } else {
-                characterMovementSystemUtility.setToExtrapolateState(entity, previous, renderTime);
+                high = middle - 1;
             }
         }
+        return high;
+    }
+
+    /**
+     * Checks whether the character may be within the region at the given time: whether its collider on the way from
+     * the state before the time to the state after it, or as far as it gets by extrapolating, overlaps the region.
+     */
+    static boolean mayBeInRegion(List<CharacterStateEvent> buffer, long time, Vector3f colliderExtents, AABB region) {
+        int index = findStateBefore(buffer, time);
+        if (index < 0) {
+            return false;
+        }
+        CharacterStateEvent previous = buffer.get(index);
+        Vector3f from = previous.getPosition();
+        Vector3f to;
+        if (index + 1 < buffer.size()) {
+            to = buffer.get(index + 1).getPosition();
+        } else {
+            to = new Vector3f(previous.getVelocity());
+            to.scale((time - previous.getTime()) / 1000f);
+            to.add(from);
+        }
+        Vector3f min = new Vector3f(Math.min(from.x, to.x), Math.min(from.y, to.y), Math.min(from.z, to.z));
+        Vector3f max = new Vector3f(Math.max(from.x, to.x), Math.max(from.y, to.y), Math.max(from.z, to.z));
+        min.sub(colliderExtents);
+        max.add(colliderExtents);
+        return region.overlaps(AABB.createMinMax(min, max));
     }
 
     @Override
     public void lagCompensate(EntityRef client, long timeMs) {
+        lagCompensate(client, timeMs, null);
+    }
+
+    @Override
+    public void lagCompensate(EntityRef client, long timeMs, AABB region) {
+        ClientComponent clientComponent = client.getComponent(ClientComponent.class);
+        EntityRef clientCharacter = clientComponent != null ? clientComponent.character : EntityRef.NULL;
+        long renderTime = timeMs - RENDER_DELAY;
         for (Map.Entry<EntityRef, CircularBuffer<CharacterStateEvent>> entry : characterStates.entrySet()) {
-            if (networkSystem.getOwnerEntity(entry.getKey()).equals(client)) {
-                characterMovementSystemUtility.setToState(entry.getKey(), entry.getValue().getLast());
-            } else {
-                setToTime(timeMs - RENDER_DELAY, entry.getKey(), entry.getValue());
+            EntityRef character = entry.getKey();
+            CircularBuffer<CharacterStateEvent> buffer = entry.getValue();
+            if (buffer.isEmpty() || region != null && compensatedCharacters.contains(character)) {
+                continue;
+            }
+            if (character.equals(clientCharacter)) {
+                characterMovementSystemUtility.setToState(character, buffer.getLast());
+                compensatedCharacters.add(character);
+            } else if (region == null || mayBeInRegion(buffer, renderTime, getColliderExtents(character), region)) {
+                setToTime(renderTime, character, buffer);
+                compensatedCharacters.add(character);
             }
         }
     }
 
+    /**
+     * Conservatively, as the height of the collider is taken in both directions from the position.
+     */
+    private Vector3f getColliderExtents(EntityRef character) {
+        CharacterMovementComponent movementComponent = character.getComponent(CharacterMovementComponent.class);
+        if (movementComponent == null) {
+            return new Vector3f();
+        }
+        return new Vector3f(movementComponent.radius, movementComponent.height, movementComponent.radius);
+    }
+
     @Override
     public void restoreToPresent() {
         long renderTime = time.getGameTimeInMs() - RENDER_DELAY;
-        for (Map.Entry<EntityRef, CircularBuffer<CharacterStateEvent>> entry : characterStates.entrySet()) {
-            setToTime(renderTime, entry.getKey(), entry.getValue());
+        for (EntityRef character : compensatedCharacters) {
+            CircularBuffer<CharacterStateEvent> buffer = characterStates.get(character);
+            if (buffer != null) {
+                setToTime(renderTime, character, buffer);
+            }
         }
+        compensatedCharacters.clear();
     }
 }
@@ -17,14 +17,17 @@
 package org.terasology.logic.characters.events;
 
 import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.logic.characters.CharacterComponent;
+import org.terasology.math.AABB;
 import org.terasology.math.geom.Vector3f;
+import org.terasology.network.LagCompensatedEvent;
 import org.terasology.network.NetworkEvent;
 import org.terasology.network.ServerEvent;
 
 /**
  */
 @ServerEvent(lagCompensate = true)
-public class ActivationRequest extends NetworkEvent {
+public class ActivationRequest extends NetworkEvent implements LagCompensatedEvent {
     /**
      * The field is used to preserve the fact that an item got used, even when the item is no more at the target server.
      */
@@ -99,4 +102,17 @@ public Vector3f getHitNormal() {
     public int getActivationId() {
         return activationId;
     }
+
+    /**
+     * The activation is validated with a ray trace from the origin in the direction, within the interaction range of
+     * the character.
+     */
+    @Override
+    public AABB getLagCompensationRegion(EntityRef character) {
+        CharacterComponent characterComponent = character.getComponent(CharacterComponent.class);
+        if (characterComponent == null || origin == null || direction == null) {
+            return null;
+        }
+        return LagCompensatedEvent.createRayRegion(origin, direction, characterComponent.interactionRange);
+    }
 }
@@ -17,13 +17,18 @@
 package org.terasology.logic.characters.events;
 
 import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.logic.characters.CharacterComponent;
+import org.terasology.logic.characters.GazeAuthoritySystem;
+import org.terasology.logic.location.LocationComponent;
+import org.terasology.math.AABB;
+import org.terasology.network.LagCompensatedEvent;
 import org.terasology.network.NetworkEvent;
 import org.terasology.network.ServerEvent;
 
 /**
  */
 @ServerEvent(lagCompensate = true)
-public class AttackRequest extends NetworkEvent {
+public class AttackRequest extends NetworkEvent implements LagCompensatedEvent {
 
     private EntityRef item = EntityRef.NULL;
 
@@ -37,4 +42,19 @@ public AttackRequest(EntityRef withItem) {
     public EntityRef getItem() {
         return item;
     }
+
+    /**
+     * The attack hits whatever is first along the gaze of the character, within its interaction range.
+     */
+    @Override
+    public AABB getLagCompensationRegion(EntityRef character) {
+        CharacterComponent characterComponent = character.getComponent(CharacterComponent.class);
+        LocationComponent gazeLocation =
+                GazeAuthoritySystem.getGazeEntityForCharacter(character).getComponent(LocationComponent.class);
+        if (characterComponent == null || gazeLocation == null) {
+            return null;
+        }
+        return LagCompensatedEvent.createRayRegion(gazeLocation.getWorldPosition(), gazeLocation.getWorldDirection(),
+                characterComponent.interactionRange);
+    }
 }
@@ -18,6 +18,7 @@
 import org.terasology.entitySystem.Component;
 import org.terasology.world.block.ForceBlockActive;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -30,21 +31,16 @@
 @ForceBlockActive
 public final class DelayedActionComponent implements Component {
     private Map<String, Long> actionIdsWakeUp = new HashMap<>();
-    private long lowestWakeUp = Long.MAX_VALUE;
 
     public DelayedActionComponent() {
     }
 
     public void addActionId(String actionId, long wakeUp) {
         actionIdsWakeUp.put(actionId, wakeUp);
-        lowestWakeUp = Math.min(lowestWakeUp, wakeUp);
     }
 
     public void removeActionId(String actionId) {
-        final long removedWakeUp = actionIdsWakeUp.remove(actionId);
-        if (removedWakeUp == lowestWakeUp) {
-            lowestWakeUp = findSmallestWakeUp();
-        }
+        actionIdsWakeUp.remove(actionId);
     }
 
     public Set<String> removeActionsUpTo(final long worldTime) {
@@ -57,28 +53,31 @@ public Set<String> removeActionsUpTo(final long worldTime) {
                 entryIterator.remove();
             }
         }
-        lowestWakeUp = findSmallestWakeUp();
 
         return result;
     }
 
-    public long getLowestWakeUp() {
-        return lowestWakeUp;
+    public Set<String> getActionIds() {
+        return Collections.unmodifiableSet(actionIdsWakeUp.keySet());
     }
 
-    public boolean isEmpty() {
-        return actionIdsWakeUp.isEmpty();
+    public long getWakeUp(String actionId) {
+        return actionIdsWakeUp.get(actionId);
     }
 
-    public boolean containsActionId(String actionId) {
-        return actionIdsWakeUp.containsKey(actionId);
-    }
-
-    private long findSmallestWakeUp() {
+    public long getLowestWakeUp() {
         long result = Long.MAX_VALUE;
         for (long value : actionIdsWakeUp.values()) {
             result = Math.min(result, value);
         }
         return result;
     }
+
+    public boolean isEmpty() {
+        return actionIdsWakeUp.isEmpty();
+    }
+
+    public boolean containsActionId(String actionId) {
+        return actionIdsWakeUp.containsKey(actionId);
+    }
 }
@@ -15,9 +15,8 @@
  */
 package org.terasology.logic.delay;
 
-import com.google.common.collect.Ordering;
-import com.google.common.collect.SortedSetMultimap;
-import com.google.common.collect.TreeMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.engine.Time;
@@ -32,13 +31,16 @@
 import org.terasology.registry.In;
 import org.terasology.registry.Share;
 
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
 /**
  * Provides support for scheduling events that will trigger at some point in the future.
+ * <br><br>
+ * The wake up times of the actions are stored in the {@link DelayedActionComponent} and
+ * {@link PeriodicActionComponent} of the entities, so they survive the entity getting unloaded. While an entity is
+ * active, each of its actions has a timer in a {@link TimingWheel}, which is cancelled when the entity gets deactivated
+ * and recreated from the component when it gets activated again.
  */
 @RegisterSystem(RegisterMode.AUTHORITY)
 @Share(value = DelayManager.class)
@@ -48,8 +50,10 @@ public class DelayedActionSystem extends BaseComponentSystem implements UpdateSu
     @In
     private Time time;
 
-    private SortedSetMultimap<Long, EntityRef> delayedOperationsSortedByTime = TreeMultimap.create(Ordering.natural(), Ordering.arbitrary());
-    private SortedSetMultimap<Long, EntityRef> periodicOperationsSortedByTime = TreeMultimap.create(Ordering.natural(), Ordering.arbitrary());
+    private TimingWheel<ScheduledAction> timers;
+    private final Map<EntityRef, Map<String, ScheduledAction>> delayedActions = Maps.newHashMap();
+    private final Map<EntityRef, Map<String, ScheduledAction>> periodicActions = Maps.newHashMap();
+    private final List<ScheduledAction> dueActions = Lists.newArrayList();
 
     // ONLY use this for testing. DO NOT use this during regular usage.
     void setTime(Time t) {
@@ -59,98 +63,81 @@ void setTime(Time t) {
     @Override
     public void update(float delta) {
         final long currentWorldTime = time.getGameTimeInMs();
-        invokeDelayedOperations(currentWorldTime);
-        invokePeriodicOperations(currentWorldTime);
-    }
-
-    private void invokeDelayedOperations(long currentWorldTime) {
-        List<EntityRef> operationsToInvoke = new LinkedList<>();
-        Iterator<Long> scheduledOperationsIterator = delayedOperationsSortedByTime.keySet().iterator();
-        long processedTime;
-        while (scheduledOperationsIterator.hasNext()) {
-            processedTime = scheduledOperationsIterator.next();
-            if (processedTime > currentWorldTime) {
-                break;
-            }
-            operationsToInvoke.addAll(delayedOperationsSortedByTime.get(processedTime));
-            scheduledOperationsIterator.remove();
-        }
-
-        operationsToInvoke.stream().filter(EntityRef::exists).forEach(delayedEntity -> {
-            final DelayedActionComponent delayedActions = delayedEntity.getComponent(DelayedActionComponent.class);
-
-            // If there is a DelayedActionComponent, proceed. Else report an error to the log.
-            if (delayedActions != null) {
-                final Set<String> actionIds = delayedActions.removeActionsUpTo(currentWorldTime);
-                saveOrRemoveComponent(delayedEntity, delayedActions);
-
-                if (!delayedActions.isEmpty()) {
-                    delayedOperationsSortedByTime.put(delayedActions.getLowestWakeUp(), delayedEntity);
+        getTimers().advance(currentWorldTime, dueActions);
+        try {
+            for (ScheduledAction action : dueActions) {
+                if (action.periodic) {
+                    invokePeriodicAction(action, currentWorldTime);
+                } else {
+                    invokeDelayedAction(action);
                 }
-
-                for (String actionId : actionIds) {
-                    delayedEntity.send(new DelayedActionTriggeredEvent(actionId));
-                }
-            } else {
-                logger.error("ERROR: This entity is missing a DelayedActionComponent: {}. " +
-                        "So skipping delayed actions for this entity.", delayedEntity);
             }
-        });
+        } finally {
+            dueActions.clear();
+        }
     }
 
-    private void invokePeriodicOperations(long currentWorldTime) {
-        List<EntityRef> operationsToInvoke = new LinkedList<>();
-        Iterator<Long> scheduledOperationsIterator = periodicOperationsSortedByTime.keySet().iterator();
-        long processedTime;
-        while (scheduledOperationsIterator.hasNext()) {
-            processedTime = scheduledOperationsIterator.next();
-            if (processedTime > currentWorldTime) {
-                break;
-            }
-            operationsToInvoke.addAll(periodicOperationsSortedByTime.get(processedTime));
-            scheduledOperationsIterator.remove();
+    private void invokeDelayedAction(ScheduledAction action) {
+        // Actions cancelled by the events of actions due at the same time are skipped
+        if (!release(delayedActions, action) || !action.entity.exists()) {
+            return;
         }
+        final EntityRef delayedEntity = action.entity;
+        final DelayedActionComponent delayedActionComponent = delayedEntity.getComponent(DelayedActionComponent.class);
 
-        operationsToInvoke.stream().filter(EntityRef::exists).forEach(periodicEntity -> {
-            final PeriodicActionComponent periodicActionComponent = periodicEntity.getComponent(PeriodicActionComponent.class);
-
-            // If there is a PeriodicActionComponent, proceed. Else report an error to the log.
-            if (periodicActionComponent != null) {
-                final Set<String> actionIds = periodicActionComponent.getTriggeredActionsAndReschedule(currentWorldTime);
-                saveOrRemoveComponent(periodicEntity, periodicActionComponent);
+        // If there is a DelayedActionComponent, proceed. Else report an error to the log.
+        if (delayedActionComponent != null) {
+            delayedActionComponent.removeActionId(action.actionId);
+            saveOrRemoveComponent(delayedEntity, delayedActionComponent);
+            delayedEntity.send(new DelayedActionTriggeredEvent(action.actionId));
+        } else {
+            logger.error("ERROR: This entity is missing a DelayedActionComponent: {}. " +
+                    "So skipping delayed actions for this entity.", delayedEntity);
+        }
+    }
 
-                if (!periodicActionComponent.isEmpty()) {
-                    periodicOperationsSortedByTime.put(periodicActionComponent.getLowestWakeUp(), periodicEntity);
-                }
+    private void invokePeriodicAction(ScheduledAction action, long currentWorldTime) {
+        if (!release(periodicActions, action) || !action.entity.exists()) {
+            return;
+        }
+        final EntityRef periodicEntity = action.entity;
+        final PeriodicActionComponent periodicActionComponent = periodicEntity.getComponent(PeriodicActionComponent.class);
 
-                for (String actionId : actionIds) {
-                    periodicEntity.send(new PeriodicActionTriggeredEvent(actionId));
-                }
-            } else {
-                logger.error("ERROR: This entity is missing a DelayedActionComponent: {}. " +
-                        "So skipping delayed actions for this entity", periodicEntity);
-            }
-        });
+        // If there is a PeriodicActionComponent, proceed. Else report an error to the log.
+        if (periodicActionComponent != null && periodicActionComponent.containsActionId(action.actionId)) {
+            final long wakeUp = currentWorldTime + periodicActionComponent.getPeriod(action.actionId);
+            periodicActionComponent.rescheduleActionId(action.actionId, wakeUp);
+            periodicEntity.saveComponent(periodicActionComponent);
+            schedule(periodicActions, periodicEntity, action.actionId, true, wakeUp);
+            periodicEntity.send(new PeriodicActionTriggeredEvent(action.actionId));
+        } else {
+            logger.error("ERROR: This entity is missing a PeriodicActionComponent: {}. " +
+                    "So skipping periodic actions for this entity", periodicEntity);
+        }
     }
 
     @ReceiveEvent
     public void delayedComponentActivated(OnActivatedComponent event, EntityRef entity, DelayedActionComponent delayedActionComponent) {
-        delayedOperationsSortedByTime.put(delayedActionComponent.getLowestWakeUp(), entity);
+        for (String actionId : delayedActionComponent.getActionIds()) {
+            schedule(delayedActions, entity, actionId, false, delayedActionComponent.getWakeUp(actionId));
+        }
     }
 
     @ReceiveEvent
     public void periodicComponentActivated(OnActivatedComponent event, EntityRef entity, PeriodicActionComponent periodicActionComponent) {
-        periodicOperationsSortedByTime.put(periodicActionComponent.getLowestWakeUp(), entity);
+        for (String actionId : periodicActionComponent.getActionIds()) {
+            schedule(periodicActions, entity, actionId, true, periodicActionComponent.getWakeUp(actionId));
+        }
     }
 
     @ReceiveEvent
     public void delayedComponentDeactivated(BeforeDeactivateComponent event, EntityRef entity, DelayedActionComponent delayedActionComponent) {
-        delayedOperationsSortedByTime.remove(delayedActionComponent.getLowestWakeUp(), entity);
+        cancelAll(delayedActions, entity);
     }
 
     @ReceiveEvent
     public void periodicComponentDeactivated(BeforeDeactivateComponent event, EntityRef entity, PeriodicActionComponent periodicActionComponent) {
-        delayedOperationsSortedByTime.remove(periodicActionComponent.getLowestWakeUp(), entity);
+        cancelAll(periodicActions, entity);
     }
 
     @Override
@@ -159,19 +146,11 @@ public void addDelayedAction(EntityRef entity, String actionId, long delay) {
 
         DelayedActionComponent delayedActionComponent = entity.getComponent(DelayedActionComponent.class);
         if (delayedActionComponent != null) {
-            final long oldWakeUp = delayedActionComponent.getLowestWakeUp();
             delayedActionComponent.addActionId(actionId, scheduleTime);
             entity.saveComponent(delayedActionComponent);
-            final long newWakeUp = delayedActionComponent.getLowestWakeUp();
-            if (oldWakeUp < newWakeUp) {
-                delayedOperationsSortedByTime.remove(oldWakeUp, entity);
-                delayedOperationsSortedByTime.put(newWakeUp, entity);
-            } else {
-                // Even if the oldWakeUp time is greater than or equal to the new one, the next action should still be added
-                // to the delayedOperationsSortedByTime mapping.
-                delayedOperationsSortedByTime.put(scheduleTime, entity);
-            }
+            schedule(delayedActions, entity, actionId, false, scheduleTime);
         } else {
+            // Activating the component schedules the action
             delayedActionComponent = new DelayedActionComponent();
             delayedActionComponent.addActionId(actionId, scheduleTime);
             entity.addComponent(delayedActionComponent);
@@ -184,19 +163,11 @@ public void addPeriodicAction(EntityRef entity, String actionId, long initialDel
 
         PeriodicActionComponent periodicActionComponent = entity.getComponent(PeriodicActionComponent.class);
         if (periodicActionComponent != null) {
-            final long oldWakeUp = periodicActionComponent.getLowestWakeUp();
             periodicActionComponent.addScheduledActionId(actionId, scheduleTime, period);
             entity.saveComponent(periodicActionComponent);
-            final long newWakeUp = periodicActionComponent.getLowestWakeUp();
-            if (oldWakeUp < newWakeUp) {
-                periodicOperationsSortedByTime.remove(oldWakeUp, entity);
-                periodicOperationsSortedByTime.put(newWakeUp, entity);
-            } else {
-                // Even if the oldWakeUp time is greater than or equal to the new one, the next action should still be added
-                // to the delayedOperationsSortedByTime mapping.
-                periodicOperationsSortedByTime.put(scheduleTime, entity);
-            }
+            schedule(periodicActions, entity, actionId, true, scheduleTime);
         } else {
+            // Activating the component schedules the action
             periodicActionComponent = new PeriodicActionComponent();
             periodicActionComponent.addScheduledActionId(actionId, scheduleTime, period);
             entity.addComponent(periodicActionComponent);
@@ -206,30 +177,16 @@ public void addPeriodicAction(EntityRef entity, String actionId, long initialDel
     @Override
     public void cancelDelayedAction(EntityRef entity, String actionId) {
         DelayedActionComponent delayedComponent = entity.getComponent(DelayedActionComponent.class);
-        long oldWakeUp = delayedComponent.getLowestWakeUp();
+        cancel(delayedActions, entity, actionId);
         delayedComponent.removeActionId(actionId);
-        long newWakeUp = delayedComponent.getLowestWakeUp();
-        if (!delayedComponent.isEmpty() && oldWakeUp < newWakeUp) {
-            delayedOperationsSortedByTime.remove(oldWakeUp, entity);
-            delayedOperationsSortedByTime.put(newWakeUp, entity);
-        } else if (delayedComponent.isEmpty()) {
-            delayedOperationsSortedByTime.remove(oldWakeUp, entity);
-        }
         saveOrRemoveComponent(entity, delayedComponent);
     }
 
     @Override
     public void cancelPeriodicAction(EntityRef entity, String actionId) {
         PeriodicActionComponent periodicActionComponent = entity.getComponent(PeriodicActionComponent.class);
-        long oldWakeUp = periodicActionComponent.getLowestWakeUp();
+        cancel(periodicActions, entity, actionId);
         periodicActionComponent.removeScheduledActionId(actionId);
-        long newWakeUp = periodicActionComponent.getLowestWakeUp();
-        if (!periodicActionComponent.isEmpty() && oldWakeUp < newWakeUp) {
-            periodicOperationsSortedByTime.remove(oldWakeUp, entity);
-            periodicOperationsSortedByTime.put(newWakeUp, entity);
-        } else if (periodicActionComponent.isEmpty()) {
-            periodicOperationsSortedByTime.remove(oldWakeUp, entity);
-        }
         saveOrRemoveComponent(entity, periodicActionComponent);
     }
 
@@ -245,6 +202,65 @@ public boolean hasPeriodicAction(EntityRef entity, String actionId) {
         return periodicActionComponent != null && periodicActionComponent.containsActionId(actionId);
     }
 
+    private TimingWheel<ScheduledAction> getTimers() {
+        if (timers == null) {
+            timers = new TimingWheel<>(time.getGameTimeInMs());
+        }
+        return timers;
+    }
+
+    /**
+     * Schedules an action, replacing the timer the action of the entity with the same id had.
+     */
+    private void schedule(Map<EntityRef, Map<String, ScheduledAction>> actions, EntityRef entity, String actionId,
+                          boolean periodic, long wakeUp) {
+        ScheduledAction action = new ScheduledAction(entity, actionId, periodic);
+        action.timer = getTimers().schedule(action, wakeUp);
+        ScheduledAction replaced = actions.computeIfAbsent(entity, e -> Maps.newHashMap()).put(actionId, action);
+        if (replaced != null) {
+            timers.cancel(replaced.timer);
+        }
+    }
+
+    private void cancel(Map<EntityRef, Map<String, ScheduledAction>> actions, EntityRef entity, String actionId) {
+        Map<String, ScheduledAction> entityActions = actions.get(entity);
+        if (entityActions != null) {
+            ScheduledAction action = entityActions.remove(actionId);
+            if (action != null) {
+                timers.cancel(action.timer);
+            }
+            if (entityActions.isEmpty()) {
+                actions.remove(entity);
+            }
+        }
+    }
+
+    private void cancelAll(Map<EntityRef, Map<String, ScheduledAction>> actions, EntityRef entity) {
+        Map<String, ScheduledAction> entityActions = actions.remove(entity);
+        if (entityActions != null) {
+            for (ScheduledAction action : entityActions.values()) {
+                timers.cancel(action.timer);
+            }
+        }
+    }
+
+    /**
+     * Forgets an action whose timer expired.
+     *
+     * @return whether the action was still scheduled, i.e. got neither cancelled nor replaced
+     */
+    private boolean release(Map<EntityRef, Map<String, ScheduledAction>> actions, ScheduledAction action) {
+        Map<String, ScheduledAction> entityActions = actions.get(action.entity);
+        if (entityActions == null || entityActions.get(action.actionId) != action) {
+            return false;
+        }
+        entityActions.remove(action.actionId);
+        if (entityActions.isEmpty()) {
+            actions.remove(action.entity);
+        }
+        return true;
+    }
+
     private void saveOrRemoveComponent(EntityRef delayedEntity, DelayedActionComponent delayedActionComponent) {
         if (delayedActionComponent.isEmpty()) {
             delayedEntity.removeComponent(DelayedActionComponent.class);
@@ -276,4 +292,17 @@ public void cancelDelayedAction(CancelDelayedActionEvent event, EntityRef entity
     public void addDelayedAction(AddDelayedActionEvent event, EntityRef entity) {
         addDelayedAction(entity, event.getActionId(), event.getDelay());
     }
+
+    private static final class ScheduledAction {
+        private final EntityRef entity;
+        private final String actionId;
+        private final boolean periodic;
+        private TimingWheel.Timer<ScheduledAction> timer;
+
+        private ScheduledAction(EntityRef entity, String actionId, boolean periodic) {
+            this.entity = entity;
+            this.actionId = actionId;
+            this.periodic = periodic;
+        }
+    }
 }
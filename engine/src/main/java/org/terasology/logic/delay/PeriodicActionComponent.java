@@ -18,6 +18,7 @@
 import org.terasology.entitySystem.Component;
 import org.terasology.world.block.ForceBlockActive;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -31,7 +32,6 @@
 public final class PeriodicActionComponent implements Component {
     private Map<String, Long> actionIdsWakeUp = new HashMap<>();
     private Map<String, Long> actionIdsPeriod = new HashMap<>();
-    private long lowestWakeUp = Long.MAX_VALUE;
 
     public PeriodicActionComponent() {
     }
@@ -39,15 +39,15 @@ public PeriodicActionComponent() {
     public void addScheduledActionId(String actionId, long wakeUp, long period) {
         actionIdsWakeUp.put(actionId, wakeUp);
         actionIdsPeriod.put(actionId, period);
-        lowestWakeUp = Math.min(lowestWakeUp, wakeUp);
     }
 
     public void removeScheduledActionId(String actionId) {
-        final Long removedWakeUp = actionIdsWakeUp.remove(actionId);
+        actionIdsWakeUp.remove(actionId);
         actionIdsPeriod.remove(actionId);
-        if (removedWakeUp == lowestWakeUp) {
-            lowestWakeUp = findSmallestWakeUp();
-        }
+    }
+
+    public void rescheduleActionId(String actionId, long wakeUp) {
+        actionIdsWakeUp.put(actionId, wakeUp);
     }
 
     public Set<String> getTriggeredActionsAndReschedule(final long worldTime) {
@@ -66,16 +66,22 @@ public Set<String> getTriggeredActionsAndReschedule(final long worldTime) {
             actionIdsWakeUp.put(actionId, worldTime + actionIdsPeriod.get(actionId));
         }
 
-        lowestWakeUp = findSmallestWakeUp();
-
         return result;
     }
 
-    public long getLowestWakeUp() {
-        return lowestWakeUp;
+    public Set<String> getActionIds() {
+        return Collections.unmodifiableSet(actionIdsWakeUp.keySet());
     }
 
-    private long findSmallestWakeUp() {
+    public long getWakeUp(String actionId) {
+        return actionIdsWakeUp.get(actionId);
+    }
+
+    public long getPeriod(String actionId) {
+        return actionIdsPeriod.get(actionId);
+    }
+
+    public long getLowestWakeUp() {
         long result = Long.MAX_VALUE;
         for (long value : actionIdsWakeUp.values()) {
             result = Math.min(result, value);
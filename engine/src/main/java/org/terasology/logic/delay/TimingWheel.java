@@ -0,0 +1,227 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.logic.delay;
+
+import java.util.List;
+
+/**
+ * A hierarchical timing wheel with a resolution of one millisecond.
+ * <br><br>
+ * Every level of the wheel has 64 slots, a slot of a level spans all slots of the level below. A timer is kept in the
+ * lowest level that reaches its deadline and moved down a level whenever the wheel arrives at its slot, until it ends
+ * up in the lowest level and expires. Timers are kept in intrusive linked lists, so scheduling and cancelling a timer
+ * take constant time, no matter how many timers are scheduled. Levels without timers are skipped while advancing.
+ *
+ * @param <T> the type of the values the timers carry
+ */
+final class TimingWheel<T> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 6;
+
+    private final Timer<T>[][] slots;
+    private final int[] counts = new int[LEVELS];
+    /**
+     * Timers too far in the future for the highest level, re-examined whenever the highest level moves.
+     */
+    private Timer<T> overflow;
+    private int overflowCount;
+    private int size;
+    /**
+     * The next millisecond the wheel has not expired the timers of yet.
+     */
+    private long current;
+
+    /**
+     * @param startTime the time the wheel starts at, timers with an earlier deadline expire at the first advance
+     */
+    @SuppressWarnings("unchecked")
+    TimingWheel(long startTime) {
+        slots = new Timer[LEVELS][SLOTS];
+        current = startTime;
+    }
+
+    /**
+     * @param value    the value to hand out when the timer expires
+     * @param deadline the time at which the timer expires
+     * @return the timer, to be able to cancel it
+     */
+    Timer<T> schedule(T value, long deadline) {
+        Timer<T> timer = new Timer<>(value, deadline);
+        insert(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * Cancels a timer. Does nothing if the timer already expired or got cancelled.
+     */
+    void cancel(Timer<T> timer) {
+        if (timer.level != Timer.DETACHED) {
+            unlink(timer);
+            size--;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Advances the wheel up to and including the given time.
+     *
+     * @param time    the current time
+     * @param expired the list the values of all timers with a deadline up to the given time are added to, in the order
+     *                of their deadlines
+     */
+    void advance(long time, List<T> expired) {
+        while (current <= time) {
+            if (counts[0] > 0) {
+                expireSlot((int) (current & SLOT_MASK), expired);
+            }
+            long next = current + 1;
+            if (counts[0] == 0) {
+                int level = lowestUsedLevel();
+                if (level < 0) {
+                    current = Math.max(next, time + 1);
+                    break;
+                }
+                long span = 1L << (SLOT_BITS * level);
+                next = Math.min((next + span - 1) & -span, time + 1);
+            }
+            current = next;
+            if ((current & SLOT_MASK) == 0) {
+                cascade();
+            }
+        }
+    }
+
+    private void expireSlot(int slot, List<T> expired) {
+        Timer<T> timer = slots[0][slot];
+        while (timer != null) {
+            Timer<T> nextTimer = timer.next;
+            unlink(timer);
+            size--;
+            expired.add(timer.value);
+            timer = nextTimer;
+        }
+    }
+
+    private int lowestUsedLevel() {
+        for (int level = 1; level < LEVELS; level++) {
+            if (counts[level] > 0) {
+                return level;
+            }
+        }
+        return overflowCount > 0 ? LEVELS - 1 : -1;
+    }
+
+    /**
+     * Moves the timers of the slots the wheel just arrived at down to the lower levels.
+     */
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            int shift = SLOT_BITS * level;
+            if (level == LEVELS - 1 && (current & ((1L << shift) - 1)) == 0) {
+                reinsertOverflow();
+            }
+            if ((current & ((1L << shift) - 1)) != 0) {
+                return;
+            }
+            int slot = (int) ((current >>> shift) & SLOT_MASK);
+            Timer<T> timer = slots[level][slot];
+            while (timer != null) {
+                Timer<T> nextTimer = timer.next;
+                unlink(timer);
+                insert(timer);
+                timer = nextTimer;
+            }
+        }
+    }
+
+    private void reinsertOverflow() {
+        Timer<T> timer = overflow;
+        while (timer != null) {
+            Timer<T> nextTimer = timer.next;
+            unlink(timer);
+            insert(timer);
+            timer = nextTimer;
+        }
+    }
+
+    private void insert(Timer<T> timer) {
+        long deadline = Math.max(timer.deadline, current);
+        long delta = deadline - current;
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < 1L << (SLOT_BITS * (level + 1))) {
+                int slot = (int) ((deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+                timer.level = level;
+                timer.slot = slot;
+                timer.next = slots[level][slot];
+                if (timer.next != null) {
+                    timer.next.previous = timer;
+                }
+                slots[level][slot] = timer;
+                counts[level]++;
+                return;
+            }
+        }
+        timer.level = Timer.OVERFLOW;
+        timer.next = overflow;
+        if (overflow != null) {
+            overflow.previous = timer;
+        }
+        overflow = timer;
+        overflowCount++;
+    }
+
+    private void unlink(Timer<T> timer) {
+        if (timer.previous != null) {
+            timer.previous.next = timer.next;
+        } else if (timer.level == Timer.OVERFLOW) {
+            overflow = timer.next;
+        } else {
+            slots[timer.level][timer.slot] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.previous = timer.previous;
+        }
+        if (timer.level == Timer.OVERFLOW) {
+            overflowCount--;
+        } else {
+            counts[timer.level]--;
+        }
+        timer.level = Timer.DETACHED;
+        timer.previous = null;
+        timer.next = null;
+    }
+
+    /**
+     * A scheduled value, see {@link #schedule(Object, long)}.
+     */
+    static final class Timer<T> {
+        private static final int DETACHED = -1;
+        private static final int OVERFLOW = -2;
+
+        private final T value;
+        private final long deadline;
+        private int level = DETACHED;
+        private int slot;
+        private Timer<T> previous;
+        private Timer<T> next;
+
+        private Timer(T value, long deadline) {
+            this.value = value;
+            this.deadline = deadline;
+        }
+
+        T getValue() {
+            return value;
+        }
+
+        long getDeadline() {
+            return deadline;
+        }
+    }
+}
@@ -32,6 +32,8 @@
  */
 public final class ChunkMath {
 
+    private static final long PACKED_COORDINATE_MASK = (1L << 21) - 1;
+
     private ChunkMath() {
     }
 
@@ -484,6 +486,61 @@ public static void populateMinAdjacent2D(int[] source, int[] target, int dimX, i
         }
     }
 
+    /**
+     * Packs a chunk position into a single long, so it can be used as a key without allocating a {@link Vector3i}.
+     * <p>
+     * Each coordinate is stored as a signed 21 bit value, which covers any chunk position a world can reach.
+     * The highest bit of the result is never set.
+     *
+     * @param x the x coordinate of the chunk
+     * @param y the y coordinate of the chunk
+     * @param z the z coordinate of the chunk
+     * @return the packed position
+     */
+    public static long packChunkPos(int x, int y, int z) {
+        return ((x & PACKED_COORDINATE_MASK) << 42) | ((y & PACKED_COORDINATE_MASK) << 21) | (z & PACKED_COORDINATE_MASK);
+    }
+
+    /**
+     * @param chunkPos the position of the chunk
+     * @return the packed position, see {@link #packChunkPos(int, int, int)}
+     */
+    public static long packChunkPos(Vector3i chunkPos) {
+        return packChunkPos(chunkPos.x, chunkPos.y, chunkPos.z);
+    }
+
+    /**
+     * @param packedChunkPos a position created by {@link #packChunkPos(int, int, int)}
+     * @return the x coordinate of the chunk
+     */
+    public static int unpackChunkPosX(long packedChunkPos) {
+        return (int) ((packedChunkPos << 1) >> 43);
+    }
+
+    /**
+     * @param packedChunkPos a position created by {@link #packChunkPos(int, int, int)}
+     * @return the y coordinate of the chunk
+     */
+    public static int unpackChunkPosY(long packedChunkPos) {
+        return (int) ((packedChunkPos << 22) >> 43);
+    }
+
+    /**
+     * @param packedChunkPos a position created by {@link #packChunkPos(int, int, int)}
+     * @return the z coordinate of the chunk
+     */
+    public static int unpackChunkPosZ(long packedChunkPos) {
+        return (int) ((packedChunkPos << 43) >> 43);
+    }
+
+    /**
+     * @param packedChunkPos a position created by {@link #packChunkPos(int, int, int)}
+     * @return a new vector holding the unpacked position
+     */
+    public static Vector3i unpackChunkPos(long packedChunkPos) {
+        return new Vector3i(unpackChunkPosX(packedChunkPos), unpackChunkPosY(packedChunkPos), unpackChunkPosZ(packedChunkPos));
+    }
+
     /**
      * Works out whether the given block resides inside the given chunk.
      * <p>
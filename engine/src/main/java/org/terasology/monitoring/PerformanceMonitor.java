@@ -89,6 +89,32 @@ public static void endActivity() {
         instance.endActivity();
     }
 
+    /**
+     * Adds the execution time of an activity that was measured elsewhere, like an activity that ran on another thread.
+     * The time is not taken from any activity running on the main thread.
+     * <br><br>
+     * Like activities, execution times can only be recorded from the main thread.
+     *
+     * @param activityName the name of the activity
+     * @param timeInMs the execution time of the activity in milliseconds
+     */
+    public static void recordActivityTime(String activityName, long timeInMs) {
+        instance.recordActivityTime(activityName, timeInMs);
+    }
+
+    /**
+     * Records the current value of a metric that is not tied to an activity, such as the size of a cache.
+     * The last value recorded for a name is kept until it is recorded again.
+     * <br><br>
+     * Like activities, values can only be recorded from the main thread.
+     *
+     * @param name the name of the metric
+     * @param value the current value of the metric
+     */
+    public static void recordValue(String name, double value) {
+        instance.recordValue(name, value);
+    }
+
     /**
      * Drops old information and updates the metrics. Should be called once per frame.
      */
@@ -140,6 +166,15 @@ public static TObjectDoubleMap<String> getAllocationMean() {
         return instance.getAllocationMean();
     }
 
+    /**
+     * Returns a mapping from the name of a metric to the value last recorded for it with recordValue().
+     *
+     * @return a mapping from metric name to its last recorded value.
+     */
+    public static TObjectDoubleMap<String> getRecordedValues() {
+        return instance.getRecordedValues();
+    }
+
     /**
      * Enables or disables the Performance Monitoring system.
      * <br><br>
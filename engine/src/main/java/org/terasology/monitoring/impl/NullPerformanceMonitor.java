@@ -38,6 +38,14 @@ public Activity startActivity(String activity) {
     public void endActivity() {
     }
 
+    @Override
+    public void recordActivityTime(String activityName, long timeInMs) {
+    }
+
+    @Override
+    public void recordValue(String name, double value) {
+    }
+
     @Override
     public TObjectDoubleMap<String> getRunningMean() {
         return metrics;
@@ -53,4 +61,9 @@ public TObjectDoubleMap<String> getAllocationMean() {
         return metrics;
     }
 
+    @Override
+    public TObjectDoubleMap<String> getRecordedValues() {
+        return metrics;
+    }
+
 }
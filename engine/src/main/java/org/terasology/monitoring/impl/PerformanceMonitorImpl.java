@@ -57,6 +57,7 @@ public class PerformanceMonitorImpl implements PerformanceMonitorInternal {
     private final TObjectLongMap<String> runningExecutionTotals;
     private final TObjectLongMap<String> runningAllocationTotals;
     private final TObjectDoubleMap<String> spikeData;
+    private final TObjectDoubleMap<String> recordedValues;
 
     private final TObjectDoubleProcedure<String> decayLargestExecutionTime;
     private final TObjectLongProcedure<String> updateExecutionTimeTotalAndSpikeData;
@@ -79,6 +80,7 @@ public PerformanceMonitorImpl() {
         runningExecutionTotals = new TObjectLongHashMap<>();
         runningAllocationTotals = new TObjectLongHashMap<>();
         spikeData = new TObjectDoubleHashMap<>();
+        recordedValues = new TObjectDoubleHashMap<>();
 
         decayLargestExecutionTime  = new DecayerOfActivityLargestExecutionTime();
         updateExecutionTimeTotalAndSpikeData = new UpdaterOfActivityExecutionTimeTotalAndSpikeData();
@@ -157,6 +159,20 @@ public void endActivity() {
         }
     }
 
+    @Override
+    public void recordActivityTime(String activityName, long timeInMs) {
+        if (Thread.currentThread() == mainThread) {
+            currentExecutionData.adjustOrPutValue(activityName, timeInMs, timeInMs);
+        }
+    }
+
+    @Override
+    public void recordValue(String name, double value) {
+        if (Thread.currentThread() == mainThread) {
+            recordedValues.put(name, value);
+        }
+    }
+
     @Override
     public TObjectDoubleMap<String> getRunningMean() {
         TObjectDoubleMap<String> activityToMeanMap = new TObjectDoubleHashMap<>();
@@ -184,6 +200,11 @@ public TObjectDoubleMap<String> getAllocationMean() {
         return activityToMeanMap;
     }
 
+    @Override
+    public TObjectDoubleMap<String> getRecordedValues() {
+        return recordedValues;
+    }
+
     private class ActivityInfo {
         public String name;
         public long startTime;
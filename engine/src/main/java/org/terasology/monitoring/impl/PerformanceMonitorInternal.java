@@ -29,9 +29,15 @@ public interface PerformanceMonitorInternal {
 
     void endActivity();
 
+    void recordActivityTime(String activityName, long timeInMs);
+
+    void recordValue(String name, double value);
+
     TObjectDoubleMap<String> getRunningMean();
 
     TObjectDoubleMap<String> getDecayingSpikes();
 
     TObjectDoubleMap<String> getAllocationMean();
+
+    TObjectDoubleMap<String> getRecordedValues();
 }
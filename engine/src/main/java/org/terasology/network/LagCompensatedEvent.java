@@ -0,0 +1,35 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.network;
+
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.math.AABB;
+import org.terasology.math.geom.Vector3f;
+
+/**
+ * Interface for lag compensated server events that only depend on the characters within a region, such as the range of
+ * a ray trace. Only characters that may have been within the region are rewound before the event is processed.
+ *
+ * @see ServerEvent#lagCompensate()
+ */
+public interface LagCompensatedEvent {
+
+    /**
+     * @param target The entity the event is sent to
+     * @return The region the processing of the event depends on, or null if it may depend on all characters
+     */
+    AABB getLagCompensationRegion(EntityRef target);
+
+    /**
+     * @return The region covered by the ray from the origin in the direction, up to the given distance
+     */
+    static AABB createRayRegion(Vector3f origin, Vector3f direction, float distance) {
+        Vector3f end = new Vector3f(direction);
+        end.normalize();
+        end.scale(distance);
+        end.add(origin);
+        Vector3f min = new Vector3f(Math.min(origin.x, end.x), Math.min(origin.y, end.y), Math.min(origin.z, end.z));
+        Vector3f max = new Vector3f(Math.max(origin.x, end.x), Math.max(origin.y, end.y), Math.max(origin.z, end.z));
+        return AABB.createMinMax(min, max);
+    }
+}
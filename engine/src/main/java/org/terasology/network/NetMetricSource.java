@@ -42,4 +42,20 @@ public interface NetMetricSource {
      * @return The amount of bytes sent since last time this method was called
      */
     int getSentBytesSinceLastCall();
+
+    /**
+     * @return The nanoseconds spent serializing sent messages since last time this method was called
+     */
+    long getEncodeTimeSinceLastCall();
+
+    /**
+     * @return The nanoseconds spent compressing sent messages since last time this method was called
+     */
+    long getCompressTimeSinceLastCall();
+
+    /**
+     * @return The nanoseconds spent flushing batched messages towards the socket, compression included, since last time
+     * this method was called
+     */
+    long getFlushTimeSinceLastCall();
 }
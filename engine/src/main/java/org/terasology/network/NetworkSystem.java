@@ -65,6 +65,17 @@ public interface NetworkSystem extends BlockRegistrationListener {
 
     int getOutgoingBytesDelta();
 
+    /**
+     * @return The number of entity updates the server sent to a client without serializing them again, since the last
+     * request
+     */
+    int getEntityUpdatesReusedDelta();
+
+    /**
+     * @return The number of entity updates the server serialized for its clients since the last request
+     */
+    int getEntityUpdatesSerializedDelta();
+
     void forceDisconnect(Client client);
 
     void setContext(Context context);
@@ -31,7 +31,8 @@
 public @interface ServerEvent {
     /**
      * @return Whether the event should be compensated for lag - if true then the location and rotation of all characters
-     *         is rewound to simulate the condition on the client before processing the event.
+     *         is rewound to simulate the condition on the client before processing the event. Events implementing
+     *         {@link LagCompensatedEvent} only rewind the characters within their region.
      */
     boolean lagCompensate() default false;
 }
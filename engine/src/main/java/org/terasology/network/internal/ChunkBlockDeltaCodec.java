@@ -0,0 +1,118 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.network.internal;
+
+import gnu.trove.map.TIntIntMap;
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.protobuf.NetData;
+import org.terasology.world.block.Block;
+import org.terasology.world.block.BlockManager;
+import org.terasology.world.chunks.ChunkConstants;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Converts the block changes of a single chunk from and to a {@link NetData.ChunkBlockDeltaMessage}.
+ * <br><br>
+ * The changed blocks are identified by their index within the chunk, see {@link #blockIndex(int, int, int)}. Sorted by
+ * that index, neighbouring changes to the same block form runs, so large edits like filling or clearing an area only
+ * need a few runs.
+ */
+final class ChunkBlockDeltaCodec {
+    private static final int CHUNK_VOLUME = ChunkConstants.SIZE_X * ChunkConstants.SIZE_Y * ChunkConstants.SIZE_Z;
+
+    private ChunkBlockDeltaCodec() {
+    }
+
+    /**
+     * @param x the x coordinate of the block relative to its chunk
+     * @param y the y coordinate of the block relative to its chunk
+     * @param z the z coordinate of the block relative to its chunk
+     * @return the index of the block within its chunk
+     */
+    static int blockIndex(int x, int y, int z) {
+        return x + ChunkConstants.SIZE_X * (z + ChunkConstants.SIZE_Z * y);
+    }
+
+    /**
+     * @param chunkPos the position of the chunk
+     * @param index    the index of a block within the chunk
+     * @param result   the vector the world position of the block gets written to
+     * @return result
+     */
+    static Vector3i blockPosition(Vector3i chunkPos, int index, Vector3i result) {
+        int x = index % ChunkConstants.SIZE_X;
+        int z = (index / ChunkConstants.SIZE_X) % ChunkConstants.SIZE_Z;
+        int y = index / (ChunkConstants.SIZE_X * ChunkConstants.SIZE_Z);
+        result.set(chunkPos.x * ChunkConstants.SIZE_X + x, chunkPos.y * ChunkConstants.SIZE_Y + y,
+                chunkPos.z * ChunkConstants.SIZE_Z + z);
+        return result;
+    }
+
+    /**
+     * @param chunkPos the position of the chunk
+     * @param changes  the new block ids, by the index of the changed block within the chunk
+     */
+    static NetData.ChunkBlockDeltaMessage encode(Vector3i chunkPos, TIntIntMap changes) {
+        NetData.ChunkBlockDeltaMessage.Builder builder = NetData.ChunkBlockDeltaMessage.newBuilder()
+                .setChunkPos(NetMessageUtil.convert(chunkPos));
+        int[] indices = changes.keys();
+        Arrays.sort(indices);
+        TIntIntMap paletteIndices = new TIntIntHashMap(16, 0.5f, Integer.MIN_VALUE, -1);
+
+        int previousEnd = 0;
+        int i = 0;
+        while (i < indices.length) {
+            int start = indices[i];
+            int blockId = changes.get(start);
+            int length = 1;
+            while (i + length < indices.length && indices[i + length] == start + length
+                    && changes.get(indices[i + length]) == blockId) {
+                length++;
+            }
+            int paletteIndex = paletteIndices.get(blockId);
+            if (paletteIndex == -1) {
+                paletteIndex = builder.getPaletteCount();
+                paletteIndices.put(blockId, paletteIndex);
+                builder.addPalette(blockId);
+            }
+            builder.addRuns(start - previousEnd).addRuns(length).addRuns(paletteIndex);
+            previousEnd = start + length;
+            i += length;
+        }
+        return builder.build();
+    }
+
+    /**
+     * Adds the world positions and new blocks of all changes in the message to the given map.
+     *
+     * @throws IllegalArgumentException if the message is malformed
+     */
+    static void decode(NetData.ChunkBlockDeltaMessage message, BlockManager blockManager, Map<Vector3i, Block> result) {
+        if (message.getRunsCount() % 3 != 0) {
+            throw new IllegalArgumentException("Chunk block delta has an incomplete run");
+        }
+        Block[] palette = new Block[message.getPaletteCount()];
+        for (int i = 0; i < palette.length; i++) {
+            palette[i] = blockManager.getBlock((short) message.getPalette(i));
+        }
+        Vector3i chunkPos = NetMessageUtil.convert(message.getChunkPos());
+
+        int index = 0;
+        for (int run = 0; run < message.getRunsCount(); run += 3) {
+            int skip = message.getRuns(run);
+            int length = message.getRuns(run + 1);
+            int paletteIndex = message.getRuns(run + 2);
+            if (skip < 0 || length <= 0 || skip > CHUNK_VOLUME - index || length > CHUNK_VOLUME - index - skip
+                    || paletteIndex < 0 || paletteIndex >= palette.length) {
+                throw new IllegalArgumentException("Chunk block delta has an invalid run");
+            }
+            index += skip;
+            for (int end = index + length; index < end; index++) {
+                result.put(blockPosition(chunkPos, index, new Vector3i()), palette[paletteIndex]);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.network.internal;
+
+import com.google.common.collect.Maps;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.chunks.Chunk;
+
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * The chunks that are ready to be sent to a client, ordered by their distance to the chunk the client is centered on.
+ * <br><br>
+ * The order only gets rebuilt when the center moves into another chunk, so taking the closest chunk does not need to
+ * look at every waiting chunk. Removed chunks are only dropped from the order when they come up or the order is
+ * rebuilt.
+ */
+class ChunkSendQueue {
+    private final Map<Vector3i, Chunk> chunks = Maps.newHashMap();
+    private final Vector3i center = new Vector3i();
+    private PriorityQueue<Vector3i> order = new PriorityQueue<>(this::compareDistance);
+
+    /**
+     * Adds a chunk or replaces the chunk waiting at the same position.
+     */
+    void add(Vector3i pos, Chunk chunk) {
+        if (chunks.put(pos, chunk) == null) {
+            order.add(pos);
+        }
+    }
+
+    void remove(Vector3i pos) {
+        chunks.remove(pos);
+        if (chunks.isEmpty()) {
+            order.clear();
+        }
+    }
+
+    boolean isEmpty() {
+        return chunks.isEmpty();
+    }
+
+    int size() {
+        return chunks.size();
+    }
+
+    /**
+     * Moves the center the chunks are ordered around.
+     *
+     * @param chunkPos the position of the chunk to center on
+     */
+    void setCenter(Vector3i chunkPos) {
+        if (!center.equals(chunkPos)) {
+            center.set(chunkPos);
+            PriorityQueue<Vector3i> newOrder = new PriorityQueue<>(Math.max(1, chunks.size()), this::compareDistance);
+            newOrder.addAll(chunks.keySet());
+            order = newOrder;
+        }
+    }
+
+    /**
+     * Removes the chunk closest to the center.
+     *
+     * @return the removed chunk, or null if there is no chunk waiting
+     */
+    Chunk poll() {
+        while (!order.isEmpty()) {
+            Chunk chunk = chunks.remove(order.poll());
+            if (chunk != null) {
+                return chunk;
+            }
+        }
+        return null;
+    }
+
+    private int compareDistance(Vector3i a, Vector3i b) {
+        return Integer.compare(a.distanceSquared(center), b.distanceSquared(center));
+    }
+}
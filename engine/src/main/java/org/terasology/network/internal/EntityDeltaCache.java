@@ -0,0 +1,120 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.network.internal;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import org.terasology.entitySystem.Component;
+import org.terasology.protobuf.EntityData;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Shares the serialized updates of dirty entities between the clients of a net tick.
+ * <p>
+ * An update only depends on the entity, the added, changed and removed components and on whether the receiving client
+ * owns the entity. Clients that watch the same changes of an entity therefore receive the same update, which is
+ * serialized once for the first of them and reused for all others.
+ * <p>
+ * The cache must be cleared at the start of every net tick, and an entity must be invalidated whenever its components
+ * change, so that no client receives an update older than the change.
+ */
+class EntityDeltaCache {
+    private final TIntObjectMap<Map<DeltaKey, Optional<EntityData.PackedEntity>>> deltas = new TIntObjectHashMap<>();
+
+    private int hits;
+    private int misses;
+
+    /**
+     * @param serializer serializes the update if it is not cached yet, returning null if there is nothing to send
+     * @return The update of the entity, or null if there is nothing to send
+     */
+    EntityData.PackedEntity get(int netId, boolean owned, Set<Class<? extends Component>> added,
+                                Set<Class<? extends Component>> changed, Set<Class<? extends Component>> removed,
+                                Supplier<EntityData.PackedEntity> serializer) {
+        Map<DeltaKey, Optional<EntityData.PackedEntity>> entityDeltas = deltas.get(netId);
+        if (entityDeltas == null) {
+            entityDeltas = Maps.newHashMap();
+            deltas.put(netId, entityDeltas);
+        }
+        DeltaKey key = new DeltaKey(owned, added, changed, removed);
+        Optional<EntityData.PackedEntity> delta = entityDeltas.get(key);
+        if (delta != null) {
+            hits++;
+            return delta.orElse(null);
+        }
+        misses++;
+        delta = Optional.ofNullable(serializer.get());
+        entityDeltas.put(key, delta);
+        return delta.orElse(null);
+    }
+
+    /**
+     * Drops the cached updates of an entity, as its components changed since they were serialized.
+     */
+    void invalidate(int netId) {
+        deltas.remove(netId);
+    }
+
+    void clear() {
+        deltas.clear();
+    }
+
+    /**
+     * @return The number of updates that were reused since the last time this method was called
+     */
+    int getHitsSinceLastCall() {
+        int result = hits;
+        hits = 0;
+        return result;
+    }
+
+    /**
+     * @return The number of updates that had to be serialized since the last time this method was called
+     */
+    int getMissesSinceLastCall() {
+        int result = misses;
+        misses = 0;
+        return result;
+    }
+
+    private static final class DeltaKey {
+        private final boolean owned;
+        private final Set<Class<? extends Component>> added;
+        private final Set<Class<? extends Component>> changed;
+        private final Set<Class<? extends Component>> removed;
+
+        DeltaKey(boolean owned, Set<Class<? extends Component>> added, Set<Class<? extends Component>> changed,
+                 Set<Class<? extends Component>> removed) {
+            this.owned = owned;
+            // Copied, as the sets of the clients are cleared after sending
+            this.added = ImmutableSet.copyOf(added);
+            this.changed = ImmutableSet.copyOf(changed);
+            this.removed = ImmutableSet.copyOf(removed);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o instanceof DeltaKey) {
+                DeltaKey other = (DeltaKey) o;
+                return owned == other.owned && added.equals(other.added) && changed.equals(other.changed)
+                        && removed.equals(other.removed);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(owned, added, changed, removed);
+        }
+    }
+}
@@ -0,0 +1,381 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.network.internal;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import gnu.trove.procedure.TIntProcedure;
+import gnu.trove.set.TIntSet;
+import gnu.trove.set.hash.TIntHashSet;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Spatial index of the areas of interest of clients and of the positions of the entities replicated by distance.
+ * <p>
+ * Areas and positions are horizontal, as the relevant chunks of a client reach much further sideways than up and down.
+ * Both are stored in a grid of square cells: an area in every cell it overlaps, an entity in the cell it is in. Finding
+ * the clients interested in an entity therefore only looks at the clients of a single cell, and finding the entities
+ * in an area only at the entities of the cells it overlaps.
+ * <p>
+ * An area is a circle with a nearer circle inside, in which clients should get every change of an entity. A margin
+ * around the circle keeps entities that move along its edge from being removed and added again all the time: an
+ * entity is only in the area within the radius, but it only leaves the area beyond the radius plus the margin.
+ * <p>
+ * The index also keeps what changed since the relevant entities of the clients were last refreshed: the entities that
+ * moved, and for every area the position it was refreshed at. A refresh therefore only looks at the moved entities and
+ * at the cells along the edges of the areas that moved, instead of at every entity of every area.
+ *
+ * @param <T> The type of the clients
+ */
+class InterestIndex<T> {
+
+    enum Range {
+        /** Within the near radius of the area */
+        NEAR,
+        /** Within the radius of the area */
+        FAR,
+        /** Beyond the radius of the area, but not beyond its margin */
+        MARGIN,
+        /** Beyond the margin of the area */
+        OUTSIDE
+    }
+
+    private final float cellSize;
+    private final float margin;
+
+    private final Map<T, Area> areas = Maps.newHashMap();
+    private final TLongObjectMap<Set<T>> areaCells = new TLongObjectHashMap<>();
+    private final TIntObjectMap<Position> positions = new TIntObjectHashMap<>();
+    private final TLongObjectMap<TIntSet> positionCells = new TLongObjectHashMap<>();
+    private final TIntSet movedPositions = new TIntHashSet();
+
+    /**
+     * @param cellSize the size of the grid cells, in blocks
+     * @param margin   how far an entity has to be beyond the radius of an area to leave it, in blocks
+     */
+    InterestIndex(float cellSize, float margin) {
+        this.cellSize = cellSize;
+        this.margin = margin;
+    }
+
+    /**
+     * Sets the area of interest of a client to the circle with the given center and radius.
+     */
+    void setArea(T client, float x, float z, float radius, float nearRadius) {
+        Area area = areas.get(client);
+        float outerRadius = radius + margin;
+        int minX = cell(x - outerRadius);
+        int minZ = cell(z - outerRadius);
+        int maxX = cell(x + outerRadius);
+        int maxZ = cell(z + outerRadius);
+        if (area == null) {
+            area = new Area();
+            areas.put(client, area);
+        } else if (area.minX != minX || area.minZ != minZ || area.maxX != maxX || area.maxZ != maxZ) {
+            removeFromCells(client, area);
+        } else {
+            area.set(x, z, radius, nearRadius);
+            return;
+        }
+        area.set(x, z, radius, nearRadius);
+        area.minX = minX;
+        area.minZ = minZ;
+        area.maxX = maxX;
+        area.maxZ = maxZ;
+        for (int cellX = minX; cellX <= maxX; cellX++) {
+            for (int cellZ = minZ; cellZ <= maxZ; cellZ++) {
+                long key = key(cellX, cellZ);
+                Set<T> clients = areaCells.get(key);
+                if (clients == null) {
+                    clients = Sets.newLinkedHashSet();
+                    areaCells.put(key, clients);
+                }
+                clients.add(client);
+            }
+        }
+    }
+
+    void removeArea(T client) {
+        Area area = areas.remove(client);
+        if (area != null) {
+            removeFromCells(client, area);
+        }
+    }
+
+    boolean hasArea(T client) {
+        return areas.containsKey(client);
+    }
+
+    /**
+     * Sets the position of an entity replicated by distance.
+     */
+    void setPosition(int netId, float x, float z) {
+        long key = key(cell(x), cell(z));
+        Position position = positions.get(netId);
+        if (position == null) {
+            position = new Position();
+            positions.put(netId, position);
+        } else if (position.cell != key) {
+            removeFromCell(netId, position.cell);
+        } else {
+            if (position.x != x || position.z != z) {
+                movedPositions.add(netId);
+            }
+            position.x = x;
+            position.z = z;
+            return;
+        }
+        movedPositions.add(netId);
+        position.x = x;
+        position.z = z;
+        position.cell = key;
+        TIntSet netIds = positionCells.get(key);
+        if (netIds == null) {
+            netIds = new TIntHashSet();
+            positionCells.put(key, netIds);
+        }
+        netIds.add(netId);
+    }
+
+    void removePosition(int netId) {
+        Position position = positions.remove(netId);
+        if (position != null) {
+            removeFromCell(netId, position.cell);
+            movedPositions.remove(netId);
+        }
+    }
+
+    /**
+     * Makes the next call of {@link #forEachMovedEntity} include the entity, as if it moved.
+     */
+    void markMoved(int netId) {
+        if (positions.containsKey(netId)) {
+            movedPositions.add(netId);
+        }
+    }
+
+    boolean hasPosition(int netId) {
+        return positions.containsKey(netId);
+    }
+
+    /**
+     * @return The range of the entity in the area of the client, or null if the client has no area or the entity has
+     * no position
+     */
+    Range getRange(T client, int netId) {
+        Area area = areas.get(client);
+        Position position = positions.get(netId);
+        if (area == null || position == null) {
+            return null;
+        }
+        return area.getRange(position.x, position.z);
+    }
+
+    /**
+     * Calls the consumer with every client whose area the entity has not left, and whether it is near the client.
+     *
+     * @return Whether the entity has a position
+     */
+    boolean forEachInterestedClient(int netId, BiConsumer<T, Boolean> consumer) {
+        Position position = positions.get(netId);
+        if (position == null) {
+            return false;
+        }
+        Set<T> clients = areaCells.get(position.cell);
+        if (clients != null) {
+            for (T client : clients) {
+                Range range = areas.get(client).getRange(position.x, position.z);
+                if (range != Range.OUTSIDE) {
+                    consumer.accept(client, range == Range.NEAR);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calls the procedure with every entity within the radius of the area of the client, until it returns false.
+     */
+    void forEachEntityInArea(T client, TIntProcedure procedure) {
+        Area area = areas.get(client);
+        if (area == null) {
+            return;
+        }
+        int minX = cell(area.x - area.radius);
+        int minZ = cell(area.z - area.radius);
+        int maxX = cell(area.x + area.radius);
+        int maxZ = cell(area.z + area.radius);
+        for (int cellX = minX; cellX <= maxX; cellX++) {
+            for (int cellZ = minZ; cellZ <= maxZ; cellZ++) {
+                TIntSet netIds = positionCells.get(key(cellX, cellZ));
+                if (netIds != null && !netIds.forEach(netId -> {
+                    Position position = positions.get(netId);
+                    Range range = area.getRange(position.x, position.z);
+                    return range != Range.NEAR && range != Range.FAR || procedure.execute(netId);
+                })) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Calls the procedure with every entity whose range in the area of the client may have changed because the area
+     * moved or changed its radius since the last call for the client. These are the entities in the cells along the
+     * edges of the old and the new area, or every entity the area overlaps if this is the first call for the client.
+     */
+    void forEachEntityInChangedCells(T client, TIntProcedure procedure) {
+        Area area = areas.get(client);
+        if (area == null) {
+            return;
+        }
+        if (area.refreshed && area.x == area.refreshedX && area.z == area.refreshedZ
+                && area.radius == area.refreshedRadius) {
+            return;
+        }
+        int minX = area.minX;
+        int minZ = area.minZ;
+        int maxX = area.maxX;
+        int maxZ = area.maxZ;
+        if (area.refreshed) {
+            float outerRadius = area.refreshedRadius + margin;
+            minX = Math.min(minX, cell(area.refreshedX - outerRadius));
+            minZ = Math.min(minZ, cell(area.refreshedZ - outerRadius));
+            maxX = Math.max(maxX, cell(area.refreshedX + outerRadius));
+            maxZ = Math.max(maxZ, cell(area.refreshedZ + outerRadius));
+        }
+        for (int cellX = minX; cellX <= maxX; cellX++) {
+            for (int cellZ = minZ; cellZ <= maxZ; cellZ++) {
+                TIntSet netIds = positionCells.get(key(cellX, cellZ));
+                if (netIds != null && !(area.refreshed && area.isUnchanged(cellX, cellZ))) {
+                    netIds.forEach(procedure);
+                }
+            }
+        }
+        area.refreshed = true;
+        area.refreshedX = area.x;
+        area.refreshedZ = area.z;
+        area.refreshedRadius = area.radius;
+    }
+
+    /**
+     * Calls the procedure with every entity that moved since the last call, or was marked as moved.
+     */
+    void forEachMovedEntity(TIntProcedure procedure) {
+        movedPositions.forEach(procedure);
+        movedPositions.clear();
+    }
+
+    void clear() {
+        areas.clear();
+        areaCells.clear();
+        positions.clear();
+        positionCells.clear();
+        movedPositions.clear();
+    }
+
+    private void removeFromCells(T client, Area area) {
+        for (int cellX = area.minX; cellX <= area.maxX; cellX++) {
+            for (int cellZ = area.minZ; cellZ <= area.maxZ; cellZ++) {
+                long key = key(cellX, cellZ);
+                Set<T> clients = areaCells.get(key);
+                if (clients != null && clients.remove(client) && clients.isEmpty()) {
+                    areaCells.remove(key);
+                }
+            }
+        }
+    }
+
+    private void removeFromCell(int netId, long key) {
+        TIntSet netIds = positionCells.get(key);
+        if (netIds != null && netIds.remove(netId) && netIds.isEmpty()) {
+            positionCells.remove(key);
+        }
+    }
+
+    private int cell(float coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static long key(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    private final class Area {
+        private float x;
+        private float z;
+        private float radius;
+        private float nearRadius;
+        private int minX;
+        private int minZ;
+        private int maxX;
+        private int maxZ;
+        private boolean refreshed;
+        private float refreshedX;
+        private float refreshedZ;
+        private float refreshedRadius;
+
+        void set(float centerX, float centerZ, float newRadius, float newNearRadius) {
+            this.x = centerX;
+            this.z = centerZ;
+            this.radius = newRadius;
+            this.nearRadius = newNearRadius;
+        }
+
+        Range getRange(float positionX, float positionZ) {
+            float dx = positionX - x;
+            float dz = positionZ - z;
+            float distanceSquared = dx * dx + dz * dz;
+            if (distanceSquared <= nearRadius * nearRadius) {
+                return Range.NEAR;
+            } else if (distanceSquared <= radius * radius) {
+                return Range.FAR;
+            } else if (distanceSquared <= (radius + margin) * (radius + margin)) {
+                return Range.MARGIN;
+            }
+            return Range.OUTSIDE;
+        }
+
+        /**
+         * @return Whether no entity in the cell can have entered or left the area since it was refreshed, because the
+         * cell is within the radius of both the refreshed and the current area, or beyond the margin of both
+         */
+        boolean isUnchanged(int cellX, int cellZ) {
+            float minX = cellX * cellSize;
+            float minZ = cellZ * cellSize;
+            float maxX = minX + cellSize;
+            float maxZ = minZ + cellSize;
+            return isWithin(x, z, radius, minX, minZ, maxX, maxZ)
+                    && isWithin(refreshedX, refreshedZ, refreshedRadius, minX, minZ, maxX, maxZ)
+                    || isBeyond(x, z, radius + margin, minX, minZ, maxX, maxZ)
+                    && isBeyond(refreshedX, refreshedZ, refreshedRadius + margin, minX, minZ, maxX, maxZ);
+        }
+
+        private boolean isWithin(float centerX, float centerZ, float circleRadius,
+                                 float minX, float minZ, float maxX, float maxZ) {
+            float dx = Math.max(centerX - minX, maxX - centerX);
+            float dz = Math.max(centerZ - minZ, maxZ - centerZ);
+            return dx * dx + dz * dz <= circleRadius * circleRadius;
+        }
+
+        private boolean isBeyond(float centerX, float centerZ, float circleRadius,
+                                 float minX, float minZ, float maxX, float maxZ) {
+            float dx = Math.max(0, Math.max(minX - centerX, centerX - maxX));
+            float dz = Math.max(0, Math.max(minZ - centerZ, centerZ - maxZ));
+            return dx * dx + dz * dz > circleRadius * circleRadius;
+        }
+    }
+
+    private static final class Position {
+        private float x;
+        private float z;
+        private long cell;
+    }
+}
@@ -23,9 +23,11 @@
 import org.terasology.network.NetMetricSource;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * A generic Netty handler for recording metrics on sent and received bytes and messages.
+ * A generic Netty handler for recording metrics on sent and received bytes and messages, and on the time spent
+ * encoding, compressing and flushing the sent messages of the connection.
  *
  */
 public class MetricRecordingHandler extends SimpleChannelHandler implements NetMetricSource {
@@ -36,6 +38,10 @@ public class MetricRecordingHandler extends SimpleChannelHandler implements NetM
     private AtomicInteger receivedBytes = new AtomicInteger();
     private AtomicInteger sentMessages = new AtomicInteger();
     private AtomicInteger sentBytes = new AtomicInteger();
+    private AtomicLong totalSentBytes = new AtomicLong();
+    private AtomicLong encodeTime = new AtomicLong();
+    private AtomicLong compressTime = new AtomicLong();
+    private AtomicLong flushTime = new AtomicLong();
 
     @Override
     public void messageReceived(ChannelHandlerContext ctx, MessageEvent e) throws Exception {
@@ -50,9 +56,29 @@ public void writeRequested(ChannelHandlerContext ctx, MessageEvent e) throws Exc
         ChannelBuffer buf = (ChannelBuffer) e.getMessage();
         sentMessages.incrementAndGet();
         sentBytes.addAndGet(buf.readableBytes());
+        totalSentBytes.addAndGet(buf.readableBytes());
         ctx.sendDownstream(e);
     }
 
+    /**
+     * @return The number of bytes sent since the connection was opened, unlike the metrics not reset when read
+     */
+    public long getTotalSentBytes() {
+        return totalSentBytes.get();
+    }
+
+    public void recordEncodeTime(long nanos) {
+        encodeTime.addAndGet(nanos);
+    }
+
+    public void recordCompressTime(long nanos) {
+        compressTime.addAndGet(nanos);
+    }
+
+    public void recordFlushTime(long nanos) {
+        flushTime.addAndGet(nanos);
+    }
+
     @Override
     public int getReceivedMessagesSinceLastCall() {
         return receivedMessages.getAndSet(0);
@@ -72,4 +98,19 @@ public int getSentMessagesSinceLastCall() {
     public int getSentBytesSinceLastCall() {
         return sentBytes.getAndSet(0);
     }
+
+    @Override
+    public long getEncodeTimeSinceLastCall() {
+        return encodeTime.getAndSet(0);
+    }
+
+    @Override
+    public long getCompressTimeSinceLastCall() {
+        return compressTime.getAndSet(0);
+    }
+
+    @Override
+    public long getFlushTimeSinceLastCall() {
+        return flushTime.getAndSet(0);
+    }
 }
@@ -24,6 +24,8 @@
 import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
 import gnu.trove.iterator.TIntIterator;
+import gnu.trove.map.TIntIntMap;
+import gnu.trove.map.hash.TIntIntHashMap;
 import gnu.trove.set.TIntSet;
 import gnu.trove.set.hash.TIntHashSet;
 import org.jboss.netty.channel.Channel;
@@ -41,11 +43,13 @@
 import org.terasology.logic.characters.PredictionSystem;
 import org.terasology.logic.common.DisplayNameComponent;
 import org.terasology.logic.location.LocationComponent;
+import org.terasology.math.AABB;
 import org.terasology.math.ChunkMath;
 import org.terasology.math.geom.Vector3i;
 import org.terasology.network.Client;
 import org.terasology.network.ClientComponent;
 import org.terasology.network.ColorComponent;
+import org.terasology.network.LagCompensatedEvent;
 import org.terasology.network.NetMetricSource;
 import org.terasology.network.NetworkComponent;
 import org.terasology.network.serialization.ServerComponentFieldCheck;
@@ -58,12 +62,14 @@
 import org.terasology.protobuf.NetData;
 import org.terasology.registry.CoreRegistry;
 import org.terasology.rendering.world.viewDistance.ViewDistance;
+import org.terasology.world.ChunkBlockChanges;
 import org.terasology.world.WorldChangeListener;
 import org.terasology.world.WorldProvider;
 import org.terasology.world.block.Block;
 import org.terasology.world.block.BlockComponent;
 import org.terasology.world.block.family.BlockFamily;
 import org.terasology.world.chunks.Chunk;
+import org.terasology.world.chunks.ChunkConstants;
 
 import java.math.RoundingMode;
 import java.util.Arrays;
@@ -81,6 +87,20 @@
 public class NetClient extends AbstractClient implements WorldChangeListener {
     private static final Logger logger = LoggerFactory.getLogger(NetClient.class);
     private static final float NET_TICK_RATE = 0.05f;
+    private static final int BYTES_PER_KILOBIT = 125;
+    /**
+     * The number of changed blocks of a chunk from which on they are sent as a single chunk block delta.
+     */
+    private static final int BLOCK_DELTA_THRESHOLD = 8;
+    /**
+     * The number of bytes that have to be sent before the compression ratio is measured again.
+     */
+    private static final int COMPRESSION_SAMPLE_BYTES = 4096;
+    /**
+     * How much a new measurement of the compression ratio changes the estimate.
+     */
+    private static final float COMPRESSION_RATIO_WEIGHT = 0.25f;
+    private static final float MIN_COMPRESSION_RATIO = 0.05f;
 
     private Time time;
     private NetworkSystemImpl networkSystem;
@@ -88,7 +108,7 @@ public class NetClient extends AbstractClient implements WorldChangeListener {
     private NetworkEntitySerializer entitySerializer;
     private EventSerializer eventSerializer;
     private EventLibrary eventLibrary;
-    private NetMetricSource metricSource;
+    private MetricRecordingHandler metricSource;
 
     // Relevance
     private Set<Vector3i> relevantChunks = Sets.newHashSet();
@@ -98,6 +118,11 @@ public class NetClient extends AbstractClient implements WorldChangeListener {
     private TIntSet netInitial = new TIntHashSet();
     private TIntSet netDirty = new TIntHashSet();
     private TIntSet netRemoved = new TIntHashSet();
+    /**
+     * The dirty entities that only changed beyond the near distance, and are sent less often.
+     */
+    private TIntSet netDeferred = new TIntHashSet();
+    private int ticksSinceDeferredSent;
     private SetMultimap<Integer, Class<? extends Component>> dirtyComponents = LinkedHashMultimap.create();
     private SetMultimap<Integer, Class<? extends Component>> addedComponents = LinkedHashMultimap.create();
     private SetMultimap<Integer, Class<? extends Component>> removedComponents = LinkedHashMultimap.create();
@@ -105,19 +130,34 @@ public class NetClient extends AbstractClient implements WorldChangeListener {
     private String preferredName = "Player";
     private long lastReceivedTime;
     private ViewDistance viewDistance = ViewDistance.NEAR;
-    private float chunkSendCounter = 1.0f;
-
-    private float chunkSendRate = 0.05469f;
+    /**
+     * The radius in blocks of the area in which entities are relevant, or 0 to use the view distance.
+     */
+    private float interestRadius;
+    /**
+     * The number of bytes of chunk data that may still be sent, negative if the last chunks exceeded the budget.
+     */
+    private int chunkSendBudget;
+    /**
+     * The estimated size of the sent messages after compression, relative to their serialized size.
+     */
+    private float compressionRatio = 1;
+    private int sentBytesAtLastSample;
+    private long compressedBytesAtLastSample;
 
     private PublicIdentityCertificate identity;
 
     // Outgoing messages
-    private BlockingQueue<NetData.BlockChangeMessage> queuedOutgoingBlockChanges = Queues.newLinkedBlockingQueue();
+    /**
+     * The latest new block id of every changed position, by block index within the chunk, see
+     * {@link ChunkBlockDeltaCodec#blockIndex(int, int, int)}. Guarded by itself.
+     */
+    private final Map<Vector3i, TIntIntMap> queuedOutgoingBlockChanges = Maps.newLinkedHashMap();
     private BlockingQueue<NetData.ExtraDataChangeMessage> queuedOutgoingExtraDataChanges = Queues.newLinkedBlockingQueue();
     private List<NetData.EventMessage> queuedOutgoingEvents = Lists.newArrayList();
     private final List<BlockFamily> newlyRegisteredFamilies = Lists.newArrayList();
 
-    private Map<Vector3i, Chunk> readyChunks = Maps.newLinkedHashMap();
+    private ChunkSendQueue readyChunks = new ChunkSendQueue();
     private Set<Vector3i> invalidatedChunks = Sets.newLinkedHashSet();
 
 
@@ -139,7 +179,7 @@ public class NetClient extends AbstractClient implements WorldChangeListener {
      */
     public NetClient(Channel channel, NetworkSystemImpl networkSystem, PublicIdentityCertificate identity) {
         this.channel = channel;
-        metricSource = (NetMetricSource) channel.getPipeline().get(MetricRecordingHandler.NAME);
+        metricSource = (MetricRecordingHandler) channel.getPipeline().get(MetricRecordingHandler.NAME);
         this.networkSystem = networkSystem;
         this.time = CoreRegistry.get(Time.class);
         this.identity = identity;
@@ -244,34 +284,63 @@ private void sendRegisteredBlocks(NetData.NetMessage.Builder message) {
         }
     }
 
+    /**
+     * Sends the ready chunks closest to the client's character, as many as fit into the bandwidth available to the
+     * client for this tick. A chunk that exceeds the remaining budget is still sent, the excess is taken from the budget
+     * of the following ticks. As the messages are compressed before they go out, chunks are charged their serialized
+     * size scaled by the compression ratio measured on the connection.
+     */
     private void sendNewChunks(NetData.NetMessage.Builder message) {
+        int bytesPerTick = (int) (networkSystem.getBandwidthPerClient() * BYTES_PER_KILOBIT * NET_TICK_RATE);
         if (!readyChunks.isEmpty()) {
-            chunkSendCounter += chunkSendRate * NET_TICK_RATE * networkSystem.getBandwidthPerClient();
-            if (chunkSendCounter > 1.0f) {
-                chunkSendCounter -= 1.0f;
-                Vector3i center = new Vector3i();
+            updateCompressionRatio();
+            chunkSendBudget = Math.min(chunkSendBudget + bytesPerTick, bytesPerTick);
+            if (chunkSendBudget > 0) {
                 LocationComponent loc = getEntity().getComponent(ClientComponent.class).character.getComponent(LocationComponent.class);
-                if (loc != null&& !Float.isNaN(loc.getWorldPosition().x)) {
-                    center.set(ChunkMath.calcChunkPos(new Vector3i(loc.getWorldPosition(), RoundingMode.HALF_UP)));
+                if (loc != null && !Float.isNaN(loc.getWorldPosition().x)) {
+                    Vector3i characterPos = new Vector3i(loc.getWorldPosition(), RoundingMode.HALF_UP);
+                    readyChunks.setCenter(ChunkMath.calcChunkPos(characterPos));
                 }
-                Vector3i pos = null;
-                int distance = Integer.MAX_VALUE;
-                for (Vector3i chunkPos : readyChunks.keySet()) {
-                    int chunkDistance = chunkPos.distanceSquared(center);
-                    if (pos == null || chunkDistance < distance) {
-                        pos = chunkPos;
-                        distance = chunkDistance;
-                    }
+                while (chunkSendBudget > 0 && !readyChunks.isEmpty()) {
+                    Chunk chunk = readyChunks.poll();
+                    relevantChunks.add(chunk.getPosition());
+                    EntityData.ChunkStore chunkStore = chunk.encode().build();
+                    message.addChunkInfo(chunkStore);
+                    chunkSendBudget -= Math.max(1, (int) (chunkStore.getSerializedSize() * compressionRatio));
                 }
-                Chunk chunk = readyChunks.remove(pos);
-                relevantChunks.add(pos);
-                message.addChunkInfo(chunk.encode());
             }
         } else {
-            chunkSendCounter = 1.0f;
+            chunkSendBudget = bytesPerTick;
         }
     }
 
+    /**
+     * Compares the bytes written to the connection since the last measurement with the bytes that left it after
+     * compression. Messages are compressed when the writes of an update are flushed, so the measurement trails the
+     * writes by up to one update.
+     */
+    private void updateCompressionRatio() {
+        if (metricSource == null) {
+            return;
+        }
+        int written = sentBytes.get() - sentBytesAtLastSample;
+        if (written >= COMPRESSION_SAMPLE_BYTES) {
+            long compressedBytes = metricSource.getTotalSentBytes();
+            float ratio = (float) (compressedBytes - compressedBytesAtLastSample) / written;
+            ratio = Math.max(MIN_COMPRESSION_RATIO, Math.min(1, ratio));
+            compressionRatio += (ratio - compressionRatio) * COMPRESSION_RATIO_WEIGHT;
+            sentBytesAtLastSample += written;
+            compressedBytesAtLastSample = compressedBytes;
+        }
+    }
+
+    /**
+     * @return The estimated size of the sent messages after compression, relative to their serialized size
+     */
+    float getCompressionRatio() {
+        return compressionRatio;
+    }
+
     private void sendChunkInvalidations(NetData.NetMessage.Builder message) {
         Iterator<Vector3i> i = invalidatedChunks.iterator();
         while (i.hasNext()) {
@@ -285,6 +354,7 @@ private void sendChunkInvalidations(NetData.NetMessage.Builder message) {
 
     public void setNetInitial(int netId) {
         netInitial.add(netId);
+        networkSystem.addReplicatedClient(netId, this);
     }
 
     public void setNetRemoved(int netId) {
@@ -295,7 +365,25 @@ public void setNetRemoved(int netId) {
         addedComponents.keySet().remove(netId);
         removedComponents.keySet().remove(netId);
         netDirty.remove(netId);
+        netDeferred.remove(netId);
         netRelevant.remove(netId);
+        networkSystem.removeReplicatedClient(netId, this);
+    }
+
+    /**
+     * @return Whether the entity is replicated to this client
+     */
+    public boolean isNetRelevant(int netId) {
+        return netRelevant.contains(netId) || netInitial.contains(netId);
+    }
+
+    /**
+     * @return The ids of all entities replicated to this client
+     */
+    public int[] getNetRelevant() {
+        TIntSet result = new TIntHashSet(netRelevant);
+        result.addAll(netInitial);
+        return result.toArray();
     }
 
     public void setComponentAdded(int networkId, Class<? extends Component> component) {
@@ -306,6 +394,7 @@ public void setComponentAdded(int networkId, Class<? extends Component> componen
                 addedComponents.put(networkId, component);
                 netDirty.add(networkId);
             }
+            netDeferred.remove(networkId);
         }
     }
 
@@ -317,13 +406,26 @@ public void setComponentRemoved(int networkId, Class<? extends Component> compon
                     netDirty.add(networkId);
                 }
             }
+            netDeferred.remove(networkId);
         }
     }
 
     public void setComponentDirty(int netId, Class<? extends Component> componentType) {
+        setComponentDirty(netId, componentType, false);
+    }
+
+    /**
+     * @param deferred whether the entity is far away from the client, so the change may be sent later
+     */
+    public void setComponentDirty(int netId, Class<? extends Component> componentType, boolean deferred) {
         if (netRelevant.contains(netId) && !netInitial.contains(netId) && !addedComponents.get(netId).contains(componentType)) {
             dirtyComponents.put(netId, componentType);
-            netDirty.add(netId);
+            boolean newlyDirty = netDirty.add(netId);
+            if (!deferred) {
+                netDeferred.remove(netId);
+            } else if (newlyDirty) {
+                netDeferred.add(netId);
+            }
         }
     }
 
@@ -366,6 +468,25 @@ public ViewDistance getViewDistance() {
         return viewDistance;
     }
 
+    /**
+     * @return The radius in blocks of the area around the character of this client in which entities are relevant
+     */
+    public float getInterestRadius() {
+        if (interestRadius > 0) {
+            return interestRadius;
+        }
+        return (viewDistance.getChunkDistance().x() / 2) * ChunkConstants.SIZE_X;
+    }
+
+    /**
+     * Overrides the radius of the area in which entities are relevant to this client.
+     *
+     * @param interestRadius the radius in blocks, or 0 to use the radius of the view distance
+     */
+    public void setInterestRadius(float interestRadius) {
+        this.interestRadius = interestRadius;
+    }
+
     @Override
     public boolean isLocal() {
         return false;
@@ -381,7 +502,7 @@ void send(NetData.NetMessage data) {
     @Override
     public void onChunkRelevant(Vector3i pos, Chunk chunk) {
         invalidatedChunks.remove(pos);
-        readyChunks.put(pos, chunk);
+        readyChunks.add(pos, chunk);
     }
 
     @Override
@@ -394,13 +515,35 @@ public void onChunkIrrelevant(Vector3i pos) {
     public void onBlockChanged(Vector3i pos, Block newBlock, Block originalBlock) {
         Vector3i chunkPos = ChunkMath.calcChunkPos(pos);
         if (relevantChunks.contains(chunkPos)) {
-            queuedOutgoingBlockChanges.add(NetData.BlockChangeMessage.newBuilder()
-                    .setPos(NetMessageUtil.convert(pos))
-                    .setNewBlock(newBlock.getId())
-                    .build());
+            synchronized (queuedOutgoingBlockChanges) {
+                queueBlockChange(chunkPos, pos.x, pos.y, pos.z, newBlock);
+            }
+        }
+    }
+
+    @Override
+    public void onBlocksChanged(ChunkBlockChanges changes) {
+        if (relevantChunks.contains(changes.getChunkPos())) {
+            synchronized (queuedOutgoingBlockChanges) {
+                for (int i = 0; i < changes.size(); i++) {
+                    queueBlockChange(changes.getChunkPos(), changes.getX(i), changes.getY(i), changes.getZ(i),
+                            changes.getNewBlock(i));
+                }
+            }
         }
     }
 
+    private void queueBlockChange(Vector3i chunkPos, int x, int y, int z, Block newBlock) {
+        TIntIntMap changes = queuedOutgoingBlockChanges.get(chunkPos);
+        if (changes == null) {
+            changes = new TIntIntHashMap();
+            queuedOutgoingBlockChanges.put(new Vector3i(chunkPos), changes);
+        }
+        int index = ChunkBlockDeltaCodec.blockIndex(ChunkMath.calcBlockPosX(x), ChunkMath.calcBlockPosY(y),
+                ChunkMath.calcBlockPosZ(z));
+        changes.put(index, newBlock.getId());
+    }
+
     @Override
     public void onExtraDataChanged(int i, Vector3i pos, int newData, int oldData) {
         Vector3i chunkPos = ChunkMath.calcChunkPos(pos);
@@ -427,9 +570,24 @@ private void processReceivedMessages() {
     }
 
     private void sendEvents(NetData.NetMessage.Builder message) {
-        List<NetData.BlockChangeMessage> blockChanges = Lists.newArrayListWithExpectedSize(queuedOutgoingBlockChanges.size());
-        queuedOutgoingBlockChanges.drainTo(blockChanges);
-        message.addAllBlockChange(blockChanges);
+        synchronized (queuedOutgoingBlockChanges) {
+            for (Map.Entry<Vector3i, TIntIntMap> entry : queuedOutgoingBlockChanges.entrySet()) {
+                if (entry.getValue().size() >= BLOCK_DELTA_THRESHOLD) {
+                    message.addChunkBlockDelta(ChunkBlockDeltaCodec.encode(entry.getKey(), entry.getValue()));
+                } else {
+                    Vector3i chunkPos = entry.getKey();
+                    Vector3i pos = new Vector3i();
+                    entry.getValue().forEachEntry((index, blockId) -> {
+                        ChunkBlockDeltaCodec.blockPosition(chunkPos, index, pos);
+                        message.addBlockChange(NetData.BlockChangeMessage.newBuilder()
+                                .setPos(NetMessageUtil.convert(pos))
+                                .setNewBlock(blockId));
+                        return true;
+                    });
+                }
+            }
+            queuedOutgoingBlockChanges.clear();
+        }
         
         List<NetData.ExtraDataChangeMessage> extraDataChanges = Lists.newArrayListWithExpectedSize(queuedOutgoingExtraDataChanges.size());
         queuedOutgoingExtraDataChanges.drainTo(extraDataChanges);
@@ -450,24 +608,39 @@ private void processEntityUpdates(NetData.NetMessage message) {
     }
 
     private void sendDirtyEntities(NetData.NetMessage.Builder message) {
+        boolean sendDeferred = ++ticksSinceDeferredSent >= networkSystem.getFarEntityUpdateInterval();
+        if (sendDeferred) {
+            ticksSinceDeferredSent = 0;
+        }
         TIntIterator dirtyIterator = netDirty.iterator();
         while (dirtyIterator.hasNext()) {
             int netId = dirtyIterator.next();
+            if (!sendDeferred && netDeferred.contains(netId)) {
+                continue;
+            }
+            dirtyIterator.remove();
             EntityRef entity = networkSystem.getEntity(netId);
             if (!entity.exists()) {
                 logger.error("Sending non-existent entity update for netId {}", netId);
             }
             boolean isOwner = networkSystem.getOwner(entity) == this;
-            EntityData.PackedEntity entityData = entitySerializer.serialize(entity, addedComponents.get(netId), dirtyComponents.get(netId), removedComponents.get(netId),
-                    new ServerComponentFieldCheck(isOwner, false));
+            Set<Class<? extends Component>> added = addedComponents.get(netId);
+            Set<Class<? extends Component>> changed = dirtyComponents.get(netId);
+            Set<Class<? extends Component>> removed = removedComponents.get(netId);
+            // Other clients watching the same changes of this entity get the same update, so it is serialized once
+            EntityData.PackedEntity entityData = networkSystem.getEntityDeltaCache().get(netId, isOwner, added, changed,
+                    removed, () -> entitySerializer.serialize(entity, added, changed, removed,
+                            new ServerComponentFieldCheck(isOwner, false)));
             if (entityData != null) {
                 message.addUpdateEntity(NetData.UpdateEntityMessage.newBuilder().setEntity(entityData).setNetId(netId));
             }
+            addedComponents.removeAll(netId);
+            removedComponents.removeAll(netId);
+            dirtyComponents.removeAll(netId);
+        }
+        if (sendDeferred) {
+            netDeferred.clear();
         }
-        netDirty.clear();
-        addedComponents.clear();
-        removedComponents.clear();
-        dirtyComponents.clear();
     }
 
     private void sendRemovedEntities(NetData.NetMessage.Builder message) {
@@ -504,6 +677,7 @@ private void sendInitialEntities(NetData.NetMessage.Builder message) {
 
     private void processEvents(NetData.NetMessage message) {
         boolean lagCompensated = false;
+        boolean lagCompensatedAll = false;
         PredictionSystem predictionSystem = CoreRegistry.get(PredictionSystem.class);
         for (NetData.EventMessage eventMessage : message.getEventList()) {
             try {
@@ -513,16 +687,21 @@ private void processEvents(NetData.NetMessage message) {
                     logger.warn("Received non-server event '{}' from client '{}'", metadata, getName());
                     continue;
                 }
-                if (!lagCompensated && metadata.isLagCompensated()) {
-                    if (predictionSystem != null) {
-                        predictionSystem.lagCompensate(getEntity(), lastReceivedTime);
-                    }
-                    lagCompensated = true;
-                }
                 EntityRef target = EntityRef.NULL;
                 if (eventMessage.hasTargetId()) {
                     target = networkSystem.getEntity(eventMessage.getTargetId());
                 }
+                if (!lagCompensatedAll && metadata.isLagCompensated()) {
+                    AABB region = null;
+                    if (event instanceof LagCompensatedEvent && target.exists()) {
+                        region = ((LagCompensatedEvent) event).getLagCompensationRegion(target);
+                    }
+                    if (predictionSystem != null) {
+                        predictionSystem.lagCompensate(getEntity(), lastReceivedTime, region);
+                    }
+                    lagCompensated = true;
+                    lagCompensatedAll = region == null;
+                }
                 if (target.exists()) {
                     if (Objects.equal(networkSystem.getOwner(target), this)) {
                         target.send(event);
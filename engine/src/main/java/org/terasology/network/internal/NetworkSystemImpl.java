@@ -25,9 +25,12 @@
 import com.google.common.collect.Sets;
 import com.google.protobuf.ByteString;
 import gnu.trove.map.TIntLongMap;
+import gnu.trove.map.TIntObjectMap;
 import gnu.trove.map.hash.TIntLongHashMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
 import org.jboss.netty.bootstrap.ClientBootstrap;
 import org.jboss.netty.bootstrap.ServerBootstrap;
+import org.jboss.netty.buffer.DirectChannelBufferFactory;
 import org.jboss.netty.channel.Channel;
 import org.jboss.netty.channel.ChannelException;
 import org.jboss.netty.channel.ChannelFactory;
@@ -58,9 +61,12 @@
 import org.terasology.entitySystem.metadata.ComponentMetadata;
 import org.terasology.entitySystem.metadata.EventLibrary;
 import org.terasology.entitySystem.metadata.EventMetadata;
+import org.terasology.logic.location.LocationComponent;
+import org.terasology.math.geom.Vector3f;
 import org.terasology.module.Module;
 import org.terasology.monitoring.PerformanceMonitor;
 import org.terasology.network.Client;
+import org.terasology.network.ClientComponent;
 import org.terasology.network.JoinStatus;
 import org.terasology.network.NetworkComponent;
 import org.terasology.network.NetworkMode;
@@ -105,6 +111,8 @@
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * Implementation of the Network System using Netty and TCP/IP
@@ -115,6 +123,18 @@ public class NetworkSystemImpl implements EntityChangeSubscriber, NetworkSystem
     private static final int OWNER_DEPTH_LIMIT = 50;
     private static final int NET_TICK_RATE = 50;
     private static final int NULL_NET_ID = 0;
+    /**
+     * The size in blocks of the cells of the interest index.
+     */
+    private static final int INTEREST_CELL_SIZE = 64;
+    /**
+     * How far in blocks an entity has to be beyond the interest radius of a client to be removed from it.
+     */
+    private static final int INTEREST_MARGIN = 16;
+    /**
+     * The number of net ticks between checks which entities entered or left the areas of interest of the clients.
+     */
+    private static final int RELEVANCE_REFRESH_TICKS = 10;
 
     // Shared
     private Context context;
@@ -126,6 +146,14 @@ public class NetworkSystemImpl implements EntityChangeSubscriber, NetworkSystem
     private EventLibrary eventLibrary;
     private EventSerializer eventSerializer;
     private NetworkEntitySerializer entitySerializer;
+    private final EntityDeltaCache entityDeltaCache = new EntityDeltaCache();
+    private final InterestIndex<NetClient> interestIndex = new InterestIndex<>(INTEREST_CELL_SIZE, INTEREST_MARGIN);
+    /**
+     * The clients each entity is replicated to, by network id. Kept up to date by the clients, see
+     * {@link NetClient#setNetInitial(int)} and {@link NetClient#setNetRemoved(int)}.
+     */
+    private final TIntObjectMap<Set<NetClient>> replicatedClients = new TIntObjectHashMap<>();
+    private int ticksSinceRelevanceRefresh;
     private BlockManager blockManager;
     private OwnershipHelper ownershipHelper;
 
@@ -173,9 +201,10 @@ public void host(int port, boolean dedicatedServer) throws HostingFailedExceptio
 
                 factory = new NioServerSocketChannelFactory(Executors.newCachedThreadPool(), Executors.newCachedThreadPool());
                 ServerBootstrap bootstrap = new ServerBootstrap(factory);
-                bootstrap.setPipelineFactory(new TerasologyServerPipelineFactory(this));
+                bootstrap.setPipelineFactory(new TerasologyServerPipelineFactory(this, config.getCompressionLevel()));
                 bootstrap.setOption("child.tcpNoDelay", true);
                 bootstrap.setOption("child.keepAlive", true);
+                bootstrap.setOption("child.bufferFactory", DirectChannelBufferFactory.getInstance());
                 Channel listenChannel = bootstrap.bind(new InetSocketAddress(port));
                 allChannels.add(listenChannel);
                 logger.info("Started server on port {}", port);
@@ -223,6 +252,7 @@ public JoinStatus join(String address, int port) throws InterruptedException {
             bootstrap.setPipelineFactory(new TerasologyClientPipelineFactory(this));
             bootstrap.setOption("tcpNoDelay", true);
             bootstrap.setOption("keepAlive", true);
+            bootstrap.setOption("bufferFactory", DirectChannelBufferFactory.getInstance());
             ChannelFuture connectCheck = bootstrap.connect(new InetSocketAddress(address, port));
             try {
                 connectCheck.await();
@@ -280,6 +310,9 @@ public void shutdown() {
         componentLibrary = null;
         eventSerializer = null;
         entitySerializer = null;
+        entityDeltaCache.clear();
+        interestIndex.clear();
+        replicatedClients.clear();
         clientList.clear();
         netClientList.clear();
         blockManager = null;
@@ -310,7 +343,12 @@ public void update() {
                 if (currentTimer > nextNetworkTick) {
                     nextNetworkTick += NET_TICK_RATE;
                     netTick = true;
+                    entityDeltaCache.clear();
+                    if (mode.isServer()) {
+                        updateInterest();
+                    }
                 }
+                forEachWriteBatcher(WriteBatchingHandler::beginBatch);
                 PerformanceMonitor.startActivity("Client update");
                 for (Client client : clientList) {
                     client.update(netTick);
@@ -319,6 +357,16 @@ public void update() {
                 if (server != null) {
                     server.update(netTick);
                 }
+                forEachWriteBatcher(WriteBatchingHandler::flush);
+            }
+        }
+    }
+
+    private void forEachWriteBatcher(Consumer<WriteBatchingHandler> action) {
+        for (Channel channel : allChannels) {
+            WriteBatchingHandler writeBatcher = channel.getPipeline().get(WriteBatchingHandler.class);
+            if (writeBatcher != null) {
+                action.accept(writeBatcher);
             }
         }
     }
@@ -423,10 +471,9 @@ public void registerNetworkEntity(EntityRef entity) {
                     }
                     break;
                 default:
-                    for (NetClient client : netClientList) {
-                        // TODO: Relevance Check
-                        client.setNetInitial(netComponent.getNetworkId());
-                    }
+                    updateInterestPosition(netComponent, entity.getComponent(LocationComponent.class));
+                    forEachClientInArea(entity, netComponent.getNetworkId(),
+                            client -> client.setNetInitial(netComponent.getNetworkId()));
                     break;
             }
             EntityRef owner = entity.getOwner();
@@ -456,8 +503,18 @@ public void updateOwnership(EntityRef entity) {
 
             if (!Objects.equal(lastOwner, newOwner)) {
                 recursiveUpdateOwnership(entity, lastOwner, newOwner);
+                if (lastOwner != null) {
+                    // The entity may be outside the area of its last owner, which only kept it as the owner
+                    interestIndex.markMoved(netComponent.getNetworkId());
+                }
                 if (newOwner != null) {
                     int id = netComponent.getNetworkId();
+                    entityDeltaCache.invalidate(id);
+                    boolean ownerOnly = netComponent.replicateMode == NetworkComponent.ReplicateMode.OWNER;
+                    if (!ownerOnly && !newOwner.isNetRelevant(id)) {
+                        // Entities are always relevant to their owner, even out of its area of interest
+                        newOwner.setNetInitial(id);
+                    }
                     for (Component component : entity.iterateComponents()) {
                         if (componentLibrary.getMetadata(component.getClass()).isReplicated()) {
                             newOwner.setComponentDirty(id, component.getClass());
@@ -508,8 +565,10 @@ public void unregisterNetworkEntity(EntityRef entity) {
             if (netComponent != null) {
                 logger.debug("Unregistering network entity: {} with netId {}", entity, netComponent.getNetworkId());
                 netIdToEntityId.remove(netComponent.getNetworkId());
-                if (mode.isServer()) {
-                    for (NetClient client : netClientList) {
+                interestIndex.removePosition(netComponent.getNetworkId());
+                Set<NetClient> clients = replicatedClients.remove(netComponent.getNetworkId());
+                if (mode.isServer() && clients != null) {
+                    for (NetClient client : clients) {
                         client.setNetRemoved(netComponent.getNetworkId());
                     }
                 }
@@ -559,11 +618,14 @@ public void onEntityComponentAdded(EntityRef entity, Class<? extends Component>
         NetworkComponent netComp = entity.getComponent(NetworkComponent.class);
         if (netComp != null && netComp.getNetworkId() != NULL_NET_ID) {
             if (mode.isServer()) {
+                if (component == LocationComponent.class) {
+                    updateInterestPosition(netComp, entity.getComponent(LocationComponent.class));
+                }
                 if (metadata.isReplicated()) {
-                    for (NetClient client : netClientList) {
-                        logger.info("Component {} added to {}", component, entity);
-                        client.setComponentAdded(netComp.getNetworkId(), component);
-                    }
+                    entityDeltaCache.invalidate(netComp.getNetworkId());
+                    logger.info("Component {} added to {}", component, entity);
+                    forEachReplicatedClient(entity, netComp.getNetworkId(),
+                            (client, near) -> client.setComponentAdded(netComp.getNetworkId(), component));
                 }
             }
         }
@@ -576,11 +638,15 @@ public void onEntityComponentRemoved(EntityRef entity, Class<? extends Component
         NetworkComponent netComp = entity.getComponent(NetworkComponent.class);
         if (netComp != null && netComp.getNetworkId() != NULL_NET_ID) {
             if (mode.isServer()) {
+                if (component == LocationComponent.class) {
+                    // Notified before the component is removed
+                    updateInterestPosition(netComp, null);
+                }
                 if (metadata.isReplicated()) {
-                    for (NetClient client : netClientList) {
-                        logger.info("Component {} removed from {}", component, entity);
-                        client.setComponentRemoved(netComp.getNetworkId(), component);
-                    }
+                    entityDeltaCache.invalidate(netComp.getNetworkId());
+                    logger.info("Component {} removed from {}", component, entity);
+                    forEachReplicatedClient(entity, netComp.getNetworkId(),
+                            (client, near) -> client.setComponentRemoved(netComp.getNetworkId(), component));
                 }
             }
         }
@@ -607,10 +673,13 @@ public void onEntityComponentChange(EntityRef entity, Class<? extends Component>
             switch (mode) {
                 case LISTEN_SERVER:
                 case DEDICATED_SERVER:
+                    if (component == LocationComponent.class) {
+                        updateInterestPosition(netComp, entity.getComponent(LocationComponent.class));
+                    }
                     if (metadata.isReplicated()) {
-                        for (NetClient client : netClientList) {
-                            client.setComponentDirty(netComp.getNetworkId(), component);
-                        }
+                        entityDeltaCache.invalidate(netComp.getNetworkId());
+                        forEachReplicatedClient(entity, netComp.getNetworkId(),
+                                (client, near) -> client.setComponentDirty(netComp.getNetworkId(), component, !near));
                     }
                     break;
                 case CLIENT:
@@ -722,6 +791,173 @@ public int getOutgoingBytesDelta() {
         }
     }
 
+    /**
+     * Moves the areas of interest of the clients along with their characters. Every few net ticks, this also
+     * replicates the entities that entered the areas, and removes the entities that left them. Only the entities that
+     * moved since the last refresh, and the entities along the edges of the areas that moved, are checked.
+     */
+    private void updateInterest() {
+        boolean refresh = ++ticksSinceRelevanceRefresh >= RELEVANCE_REFRESH_TICKS;
+        if (refresh) {
+            ticksSinceRelevanceRefresh = 0;
+        }
+        for (NetClient client : netClientList) {
+            updateInterestArea(client);
+            if (refresh) {
+                interestIndex.forEachEntityInChangedCells(client, netId -> {
+                    refreshRelevance(client, netId);
+                    return true;
+                });
+            }
+        }
+        if (refresh) {
+            interestIndex.forEachMovedEntity(netId -> {
+                Set<NetClient> clients = replicatedClients.get(netId);
+                if (clients != null) {
+                    for (NetClient client : Lists.newArrayList(clients)) {
+                        refreshRelevance(client, netId);
+                    }
+                }
+                interestIndex.forEachInterestedClient(netId, (client, near) -> refreshRelevance(client, netId));
+                return true;
+            });
+        }
+    }
+
+    private void updateInterestArea(NetClient client) {
+        ClientComponent clientComponent = client.getEntity().getComponent(ClientComponent.class);
+        if (clientComponent == null) {
+            return;
+        }
+        // Without a character, the area stays where the character was last
+        LocationComponent location = clientComponent.character.getComponent(LocationComponent.class);
+        if (location != null) {
+            Vector3f position = location.getWorldPosition();
+            if (Float.isFinite(position.x) && Float.isFinite(position.z)) {
+                float radius = client.getInterestRadius();
+                interestIndex.setArea(client, position.x, position.z, radius,
+                        Math.min(radius, config.getEntityNearDistance()));
+            }
+        }
+    }
+
+    /**
+     * Replicates the entity to the client if it is within the area of interest of the client, or removes it from the
+     * client if it left the area and is not owned by the client.
+     */
+    private void refreshRelevance(NetClient client, int netId) {
+        InterestIndex.Range range = interestIndex.getRange(client, netId);
+        if (range == InterestIndex.Range.NEAR || range == InterestIndex.Range.FAR) {
+            if (!client.isNetRelevant(netId)) {
+                client.setNetInitial(netId);
+            }
+        } else if (range == InterestIndex.Range.OUTSIDE && client.isNetRelevant(netId)
+                && getNetOwner(getEntity(netId)) != client) {
+            client.setNetRemoved(netId);
+        }
+    }
+
+    /**
+     * Updates the position of an entity in the interest index. Entities replicated by distance are indexed by their
+     * location, unless they are attached to another entity, in which case they are relevant to every client.
+     */
+    private void updateInterestPosition(NetworkComponent netComponent, LocationComponent location) {
+        int netId = netComponent.getNetworkId();
+        if (netComponent.replicateMode == NetworkComponent.ReplicateMode.RELEVANT && location != null
+                && !location.getParent().exists()) {
+            Vector3f position = location.getWorldPosition();
+            if (Float.isFinite(position.x) && Float.isFinite(position.z)) {
+                interestIndex.setPosition(netId, position.x, position.z);
+                return;
+            }
+        }
+        if (interestIndex.hasPosition(netId)) {
+            interestIndex.removePosition(netId);
+            if (netComponent.replicateMode != NetworkComponent.ReplicateMode.OWNER) {
+                for (NetClient client : netClientList) {
+                    if (!client.isNetRelevant(netId)) {
+                        client.setNetInitial(netId);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Calls the consumer with every client whose area of interest the entity has not left, and its owner. Entities
+     * without a position in the interest index are in the area of every client.
+     */
+    private void forEachClientInArea(EntityRef entity, int netId, Consumer<NetClient> consumer) {
+        if (interestIndex.forEachInterestedClient(netId, (client, near) -> consumer.accept(client))) {
+            NetClient owner = getNetOwner(entity);
+            if (owner != null) {
+                consumer.accept(owner);
+            }
+        } else {
+            for (NetClient client : netClientList) {
+                consumer.accept(client);
+            }
+        }
+    }
+
+    /**
+     * Calls the consumer with every client the entity is replicated to, and whether the entity is near the client.
+     * This includes the clients whose area the entity left since the last refresh of their relevant entities, so they
+     * keep getting its changes until it is removed from them. Entities without a position in the interest index, and
+     * entities owned by the client, are near the client.
+     */
+    private void forEachReplicatedClient(EntityRef entity, int netId, BiConsumer<NetClient, Boolean> consumer) {
+        Set<NetClient> clients = replicatedClients.get(netId);
+        if (clients == null) {
+            return;
+        }
+        if (!interestIndex.hasPosition(netId)) {
+            for (NetClient client : clients) {
+                consumer.accept(client, true);
+            }
+            return;
+        }
+        NetClient owner = getNetOwner(entity);
+        for (NetClient client : clients) {
+            InterestIndex.Range range = interestIndex.getRange(client, netId);
+            consumer.accept(client, client == owner || range == null || range == InterestIndex.Range.NEAR);
+        }
+    }
+
+    void addReplicatedClient(int netId, NetClient client) {
+        Set<NetClient> clients = replicatedClients.get(netId);
+        if (clients == null) {
+            clients = Sets.newLinkedHashSet();
+            replicatedClients.put(netId, clients);
+        }
+        clients.add(client);
+    }
+
+    void removeReplicatedClient(int netId, NetClient client) {
+        Set<NetClient> clients = replicatedClients.get(netId);
+        if (clients != null && clients.remove(client) && clients.isEmpty()) {
+            replicatedClients.remove(netId);
+        }
+    }
+
+    int getFarEntityUpdateInterval() {
+        return Math.max(1, config.getFarEntityUpdateInterval());
+    }
+
+    @Override
+    public int getEntityUpdatesReusedDelta() {
+        return entityDeltaCache.getHitsSinceLastCall();
+    }
+
+    @Override
+    public int getEntityUpdatesSerializedDelta() {
+        return entityDeltaCache.getMissesSinceLastCall();
+    }
+
+    EntityDeltaCache getEntityDeltaCache() {
+        return entityDeltaCache;
+    }
+
     long getEntityId(int netId) {
         return netIdToEntityId.get(netId);
     }
@@ -786,6 +1022,10 @@ private void processRemovedClient(Client client) {
             }
             NetClient netClient = (NetClient) client;
             netClientList.remove(netClient);
+            interestIndex.removeArea(netClient);
+            for (int netId : netClient.getNetRelevant()) {
+                removeReplicatedClient(netId, netClient);
+            }
         }
         clientList.remove(client);
         clientPlayerLookup.remove(client.getEntity());
@@ -827,8 +1067,10 @@ private void processNewClient(NetClient client) {
                         }
                         break;
                     default:
-                        // TODO: Relevance Check
-                        client.setNetInitial(netComp.getNetworkId());
+                        // Entities replicated by distance are added once the client has an area of interest
+                        if (!interestIndex.hasPosition(netComp.getNetworkId()) || client.equals(getOwner(netEntity))) {
+                            client.setNetInitial(netComp.getNetworkId());
+                        }
                         break;
                 }
             }
@@ -97,7 +97,10 @@ public class ServerImpl implements Server {
     private BlockingQueue<Chunk> chunkQueue = Queues.newLinkedBlockingQueue();
     private TIntSet netDirty = new TIntHashSet();
     private SetMultimap<Integer, Class<? extends Component>> changedComponents = HashMultimap.create();
-    private ListMultimap<Vector3i, NetData.BlockChangeMessage> awaitingChunkReadyBlockUpdates = ArrayListMultimap.create();
+    /**
+     * The latest new block of every changed position in chunks that are not ready yet, by chunk position.
+     */
+    private Map<Vector3i, Map<Vector3i, Block>> awaitingChunkReadyBlockUpdates = Maps.newHashMap();
     private ListMultimap<Vector3i, NetData.ExtraDataChangeMessage> awaitingChunkReadyExtraDataUpdates = ArrayListMultimap.create();
 
     private EngineTime time;
@@ -294,18 +297,36 @@ private void processRemoveEntities(NetData.NetMessage message) {
     
     /**
      * Apply the block changes from the message to the local world.
+     * The changes of a chunk block delta are applied together, as a single bulk edit.
      */
     private void processBlockChanges(NetData.NetMessage message) {
+        WorldProvider worldProvider = CoreRegistry.get(WorldProvider.class);
         for (NetData.BlockChangeMessage blockChange : message.getBlockChangeList()) {
             Block newBlock = blockManager.getBlock((short) blockChange.getNewBlock());
             logger.debug("Received block change to {}", newBlock);
             // TODO: Store changes to blocks that aren't ready to be modified (the surrounding chunks aren't available)
-            WorldProvider worldProvider = CoreRegistry.get(WorldProvider.class);
             Vector3i pos = NetMessageUtil.convert(blockChange.getPos());
             if (worldProvider.isBlockRelevant(pos)) {
                 worldProvider.setBlock(pos, newBlock);
             } else {
-                awaitingChunkReadyBlockUpdates.put(ChunkMath.calcChunkPos(pos), blockChange);
+                awaitingChunkReadyBlockUpdates.computeIfAbsent(ChunkMath.calcChunkPos(pos), k -> Maps.newHashMap())
+                        .put(pos, newBlock);
+            }
+        }
+        for (NetData.ChunkBlockDeltaMessage blockDelta : message.getChunkBlockDeltaList()) {
+            Vector3i chunkPos = NetMessageUtil.convert(blockDelta.getChunkPos());
+            Map<Vector3i, Block> blocks = Maps.newHashMap();
+            try {
+                ChunkBlockDeltaCodec.decode(blockDelta, blockManager, blocks);
+            } catch (IllegalArgumentException e) {
+                logger.error("Received invalid block changes for chunk {}", chunkPos, e);
+                continue;
+            }
+            logger.debug("Received {} block changes for chunk {}", blocks.size(), chunkPos);
+            if (remoteWorldProvider.isChunkReady(chunkPos)) {
+                worldProvider.setBlocks(blocks);
+            } else {
+                awaitingChunkReadyBlockUpdates.computeIfAbsent(chunkPos, k -> Maps.newHashMap()).putAll(blocks);
             }
         }
     }
@@ -329,7 +350,7 @@ private void processInvalidatedChunks(NetData.NetMessage message) {
         for (NetData.InvalidateChunkMessage chunk : message.getInvalidateChunkList()) {
             Vector3i chunkPos = NetMessageUtil.convert(chunk.getPos());
             remoteWorldProvider.invalidateChunks(chunkPos);
-            awaitingChunkReadyBlockUpdates.removeAll(chunkPos);
+            awaitingChunkReadyBlockUpdates.remove(chunkPos);
             awaitingChunkReadyExtraDataUpdates.removeAll(chunkPos);
         }
     }
@@ -413,11 +434,9 @@ public NetMetricSource getMetrics() {
     public void onChunkReady(Vector3i chunkPos) {
         WorldProvider worldProvider = CoreRegistry.get(WorldProvider.class);
 
-        List<NetData.BlockChangeMessage> updateBlockMessages = awaitingChunkReadyBlockUpdates.removeAll(chunkPos);
-        for (NetData.BlockChangeMessage message : updateBlockMessages) {
-            Vector3i pos = NetMessageUtil.convert(message.getPos());
-            Block newBlock = blockManager.getBlock((short) message.getNewBlock());
-            worldProvider.setBlock(pos, newBlock);
+        Map<Vector3i, Block> updateBlocks = awaitingChunkReadyBlockUpdates.remove(chunkPos);
+        if (updateBlocks != null) {
+            worldProvider.setBlocks(updateBlocks);
         }
 
         List<NetData.ExtraDataChangeMessage> updateExtraDataMessages = awaitingChunkReadyExtraDataUpdates.removeAll(chunkPos);
@@ -0,0 +1,27 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.network.internal;
+
+import org.jboss.netty.channel.Channel;
+import org.jboss.netty.channel.ChannelHandlerContext;
+import org.jboss.netty.handler.codec.protobuf.ProtobufEncoder;
+
+/**
+ * A {@link ProtobufEncoder} that records the time spent serializing messages.
+ */
+public class TimedProtobufEncoder extends ProtobufEncoder {
+
+    private final MetricRecordingHandler metrics;
+
+    public TimedProtobufEncoder(MetricRecordingHandler metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected Object encode(ChannelHandlerContext ctx, Channel channel, Object msg) throws Exception {
+        long start = System.nanoTime();
+        Object result = super.encode(ctx, channel, msg);
+        metrics.recordEncodeTime(System.nanoTime() - start);
+        return result;
+    }
+}
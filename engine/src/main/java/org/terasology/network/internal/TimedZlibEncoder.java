@@ -0,0 +1,31 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.network.internal;
+
+import org.jboss.netty.channel.Channel;
+import org.jboss.netty.channel.ChannelHandlerContext;
+import org.jboss.netty.handler.codec.compression.ZlibEncoder;
+
+/**
+ * A {@link ZlibEncoder} that records the time spent compressing.
+ */
+public class TimedZlibEncoder extends ZlibEncoder {
+
+    private final MetricRecordingHandler metrics;
+
+    /**
+     * @param compressionLevel from 1 for the fastest to 9 for the best compression, or 0 for none
+     */
+    public TimedZlibEncoder(MetricRecordingHandler metrics, int compressionLevel) {
+        super(compressionLevel);
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected Object encode(ChannelHandlerContext ctx, Channel channel, Object msg) throws Exception {
+        long start = System.nanoTime();
+        Object result = super.encode(ctx, channel, msg);
+        metrics.recordCompressTime(System.nanoTime() - start);
+        return result;
+    }
+}
@@ -0,0 +1,87 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.network.internal;
+
+import com.google.common.collect.Lists;
+import org.jboss.netty.buffer.ChannelBuffer;
+import org.jboss.netty.buffer.ChannelBuffers;
+import org.jboss.netty.channel.ChannelFuture;
+import org.jboss.netty.channel.ChannelHandlerContext;
+import org.jboss.netty.channel.Channels;
+import org.jboss.netty.channel.MessageEvent;
+import org.jboss.netty.channel.SimpleChannelDownstreamHandler;
+
+import java.util.List;
+
+/**
+ * A Netty handler that coalesces the buffers written to a channel during an update of the network system, so that they
+ * are compressed, framed and written to the socket once per update instead of once per message.
+ * <br><br>
+ * Writes outside of an update, like those of the handshake, are passed on immediately.
+ */
+public class WriteBatchingHandler extends SimpleChannelDownstreamHandler {
+
+    public static final String NAME = "writeBatcher";
+
+    private final MetricRecordingHandler metrics;
+    private final List<MessageEvent> pending = Lists.newArrayList();
+    private ChannelHandlerContext context;
+    private boolean batching;
+
+    /**
+     * @param metrics the handler to record the flush times with
+     */
+    public WriteBatchingHandler(MetricRecordingHandler metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Holds back the writes until the next {@link #flush()}.
+     */
+    public synchronized void beginBatch() {
+        batching = true;
+    }
+
+    @Override
+    public synchronized void writeRequested(ChannelHandlerContext ctx, MessageEvent e) throws Exception {
+        if (batching && e.getMessage() instanceof ChannelBuffer) {
+            context = ctx;
+            pending.add(e);
+        } else {
+            ctx.sendDownstream(e);
+        }
+    }
+
+    /**
+     * Passes the writes held back since {@link #beginBatch()} on as a single write, and stops holding back writes.
+     */
+    public synchronized void flush() {
+        batching = false;
+        if (pending.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        if (pending.size() == 1) {
+            context.sendDownstream(pending.get(0));
+        } else {
+            ChannelBuffer[] buffers = new ChannelBuffer[pending.size()];
+            for (int i = 0; i < buffers.length; i++) {
+                buffers[i] = (ChannelBuffer) pending.get(i).getMessage();
+            }
+            List<MessageEvent> written = Lists.newArrayList(pending);
+            ChannelFuture future = Channels.future(context.getChannel());
+            future.addListener(result -> {
+                for (MessageEvent event : written) {
+                    if (result.isSuccess()) {
+                        event.getFuture().setSuccess();
+                    } else {
+                        event.getFuture().setFailure(result.getCause());
+                    }
+                }
+            });
+            Channels.write(context, future, ChannelBuffers.wrappedBuffer(buffers), written.get(0).getRemoteAddress());
+        }
+        pending.clear();
+        metrics.recordFlushTime(System.nanoTime() - start);
+    }
+}
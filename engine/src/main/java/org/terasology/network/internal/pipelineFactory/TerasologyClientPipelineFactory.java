@@ -21,7 +21,6 @@
 import org.jboss.netty.handler.codec.compression.ZlibDecoder;
 import org.jboss.netty.handler.codec.frame.LengthFieldBasedFrameDecoder;
 import org.jboss.netty.handler.codec.protobuf.ProtobufDecoder;
-import org.jboss.netty.handler.codec.protobuf.ProtobufEncoder;
 import org.jboss.netty.handler.codec.protobuf.ProtobufVarint32FrameDecoder;
 import org.jboss.netty.handler.codec.protobuf.ProtobufVarint32LengthFieldPrepender;
 import org.terasology.network.internal.ClientConnectionHandler;
@@ -30,6 +29,8 @@
 import org.terasology.network.internal.JoinStatusImpl;
 import org.terasology.network.internal.MetricRecordingHandler;
 import org.terasology.network.internal.NetworkSystemImpl;
+import org.terasology.network.internal.TimedProtobufEncoder;
+import org.terasology.network.internal.WriteBatchingHandler;
 import org.terasology.protobuf.NetData;
 
 import static org.jboss.netty.channel.Channels.pipeline;
@@ -50,15 +51,17 @@ public TerasologyClientPipelineFactory(NetworkSystemImpl networkSystem) {
     public ChannelPipeline getPipeline() throws Exception {
         JoinStatusImpl joinStatus = new JoinStatusImpl();
         ChannelPipeline p = pipeline();
-        p.addLast(MetricRecordingHandler.NAME, new MetricRecordingHandler());
+        MetricRecordingHandler metrics = new MetricRecordingHandler();
+        p.addLast(MetricRecordingHandler.NAME, metrics);
 
         p.addLast("lengthFrameDecoder", new LengthFieldBasedFrameDecoder(8388608, 0, 3, 0, 3));
         p.addLast("inflateDecoder", new ZlibDecoder());
         p.addLast("frameDecoder", new ProtobufVarint32FrameDecoder());
         p.addLast("protobufDecoder", new ProtobufDecoder(NetData.NetMessage.getDefaultInstance()));
 
+        p.addLast(WriteBatchingHandler.NAME, new WriteBatchingHandler(metrics));
         p.addLast("frameEncoder", new ProtobufVarint32LengthFieldPrepender());
-        p.addLast("protobufEncoder", new ProtobufEncoder());
+        p.addLast("protobufEncoder", new TimedProtobufEncoder(metrics));
         p.addLast("authenticationHandler", new ClientHandshakeHandler(joinStatus));
         p.addLast("connectionHandler", new ClientConnectionHandler(joinStatus, networkSystem));
         p.addLast("handler", new ClientHandler(networkSystem));
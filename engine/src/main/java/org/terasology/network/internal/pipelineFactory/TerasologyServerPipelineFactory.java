@@ -18,10 +18,8 @@
 
 import org.jboss.netty.channel.ChannelPipeline;
 import org.jboss.netty.channel.ChannelPipelineFactory;
-import org.jboss.netty.handler.codec.compression.ZlibEncoder;
 import org.jboss.netty.handler.codec.frame.LengthFieldPrepender;
 import org.jboss.netty.handler.codec.protobuf.ProtobufDecoder;
-import org.jboss.netty.handler.codec.protobuf.ProtobufEncoder;
 import org.jboss.netty.handler.codec.protobuf.ProtobufVarint32FrameDecoder;
 import org.jboss.netty.handler.codec.protobuf.ProtobufVarint32LengthFieldPrepender;
 import org.terasology.network.internal.MetricRecordingHandler;
@@ -29,34 +27,47 @@
 import org.terasology.network.internal.ServerConnectionHandler;
 import org.terasology.network.internal.ServerHandler;
 import org.terasology.network.internal.ServerHandshakeHandler;
+import org.terasology.network.internal.TimedProtobufEncoder;
+import org.terasology.network.internal.TimedZlibEncoder;
+import org.terasology.network.internal.WriteBatchingHandler;
 import org.terasology.protobuf.NetData;
 
 import static org.jboss.netty.channel.Channels.pipeline;
 
 /**
  * Netty Pipeline for the server
- *
+ * <br><br>
+ * The messages written during an update of the network system are compressed and framed together, see
+ * {@link WriteBatchingHandler}.
  */
 public class TerasologyServerPipelineFactory implements ChannelPipelineFactory {
 
     private NetworkSystemImpl networkSystem;
+    private int compressionLevel;
 
-    public TerasologyServerPipelineFactory(NetworkSystemImpl networkSystem) {
+    /**
+     * @param compressionLevel the zlib compression level of the sent messages, from 1 for the fastest to 9 for the
+     *                         best compression, or 0 for none
+     */
+    public TerasologyServerPipelineFactory(NetworkSystemImpl networkSystem, int compressionLevel) {
         this.networkSystem = networkSystem;
+        this.compressionLevel = compressionLevel;
     }
 
     @Override
     public ChannelPipeline getPipeline() throws Exception {
         ChannelPipeline p = pipeline();
-        p.addLast(MetricRecordingHandler.NAME, new MetricRecordingHandler());
+        MetricRecordingHandler metrics = new MetricRecordingHandler();
+        p.addLast(MetricRecordingHandler.NAME, metrics);
 
         p.addLast("frameDecoder", new ProtobufVarint32FrameDecoder());
         p.addLast("protobufDecoder", new ProtobufDecoder(NetData.NetMessage.getDefaultInstance()));
 
         p.addLast("frameLengthEncoder", new LengthFieldPrepender(3));
-        p.addLast("deflateEncoder", new ZlibEncoder());
+        p.addLast("deflateEncoder", new TimedZlibEncoder(metrics, compressionLevel));
+        p.addLast(WriteBatchingHandler.NAME, new WriteBatchingHandler(metrics));
         p.addLast("frameEncoder", new ProtobufVarint32LengthFieldPrepender());
-        p.addLast("protobufEncoder", new ProtobufEncoder());
+        p.addLast("protobufEncoder", new TimedProtobufEncoder(metrics));
 
         p.addLast("authenticationHandler", new ServerHandshakeHandler());
         p.addLast("connectionHandler", new ServerConnectionHandler(networkSystem));
@@ -22,6 +22,7 @@
 import org.terasology.entitySystem.entity.EntityRef;
 import org.terasology.entitySystem.entity.internal.EngineEntityManager;
 import org.terasology.entitySystem.entity.internal.OwnershipHelper;
+import org.terasology.game.GameManifest;
 import org.terasology.logic.location.LocationComponent;
 import org.terasology.math.AABB;
 import org.terasology.math.geom.Vector3i;
@@ -37,7 +38,6 @@
 import org.terasology.world.chunks.blockdata.ExtraBlockDataManager;
 
 import java.io.BufferedInputStream;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.FileSystem;
@@ -46,7 +46,6 @@
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
-import java.util.zip.GZIPInputStream;
 
 /**
  * An abstract implementation of {@link StorageManager} that is able
@@ -66,19 +65,49 @@ public abstract class AbstractStorageManager implements StorageManager {
     private final PrefabSerializer prefabSerializer;
     private final OwnershipHelper helper;
 
-    private boolean storeChunksInZips = true;
+    private ChunkStorageFormat chunkStorageFormat;
+    private ChunkCompression chunkCompression;
 
     public AbstractStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager,
                                   BlockManager blockManager, ExtraBlockDataManager extraDataManager, boolean storeChunksInZips) {
         this.entityManager = entityManager;
         this.environment = environment;
-        this.storeChunksInZips = storeChunksInZips;
         this.prefabSerializer = new PrefabSerializer(entityManager.getComponentLibrary(), entityManager.getTypeSerializerLibrary());
         this.blockManager = blockManager;
         this.extraDataManager = extraDataManager;
 
         this.storagePathProvider = new StoragePathProvider(savePath);
         this.helper = new OwnershipHelper(entityManager.getComponentLibrary());
+        this.chunkStorageFormat = storeChunksInZips ? ChunkStorageFormat.CHUNK_ZIPS : ChunkStorageFormat.CHUNK_FILES;
+        if (storeChunksInZips && hasChunkRegions()) {
+            this.chunkStorageFormat = ChunkStorageFormat.CHUNK_REGIONS;
+        }
+        this.chunkCompression = loadSavedChunkCompression();
+    }
+
+    /**
+     * Old saves have no codec in their manifest and use gzip, just like saves without a manifest. Chunks are
+     * loaded with whatever codec they got compressed with anyway.
+     */
+    private ChunkCompression loadSavedChunkCompression() {
+        Path manifestPath = storagePathProvider.getGameManifestPath();
+        if (Files.isRegularFile(manifestPath)) {
+            try {
+                return ChunkCompression.fromName(GameManifest.load(manifestPath).getChunkCompression());
+            } catch (IOException e) {
+                logger.error("Failed to read the chunk compression of the save from {}", manifestPath, e);
+            }
+        }
+        return ChunkCompression.GZIP;
+    }
+
+    private boolean hasChunkRegions() {
+        try {
+            return ChunkRegionConverter.hasChunkRegions(storagePathProvider);
+        } catch (IOException e) {
+            logger.error("Failed to check the world directory for chunk region files", e);
+            return false;
+        }
     }
 
     @Override
@@ -107,10 +136,10 @@ public ChunkStore loadChunkStore(Vector3i chunkPos) {
         byte[] chunkData = loadCompressedChunk(chunkPos);
         ChunkStore store = null;
         if (chunkData != null) {
-            ByteArrayInputStream bais = new ByteArrayInputStream(chunkData);
-            try (GZIPInputStream gzipIn = new GZIPInputStream(bais)) {
-                EntityData.ChunkStore storeData = EntityData.ChunkStore.parseFrom(gzipIn);
-                store = new ChunkStoreInternal(storeData, entityManager, blockManager, extraDataManager);
+            try {
+                byte[] storeData = ChunkCompression.decompress(chunkData);
+                EntityData.ChunkStore chunkStore = EntityData.ChunkStore.parseFrom(storeData);
+                store = new ChunkStoreInternal(chunkStore, entityManager, blockManager, extraDataManager);
             } catch (IOException e) {
                 logger.error("Failed to read existing saved chunk {}", chunkPos);
             }
@@ -135,23 +164,62 @@ protected byte[] loadChunkZip(Vector3i chunkPos) {
         return chunkData;
     }
 
+    /**
+     * Loads the chunk from its region file, falling back to the chunk zips that did not get converted yet.
+     */
+    protected byte[] loadChunkRegion(Vector3i chunkPos) {
+        Path regionPath = storagePathProvider.getChunkRegionPath(storagePathProvider.getChunkRegionPosition(chunkPos));
+        if (Files.isRegularFile(regionPath)) {
+            try {
+                byte[] chunkData = ChunkRegionFile.readChunk(regionPath, chunkPos);
+                if (chunkData != null) {
+                    return chunkData;
+                }
+            } catch (IOException e) {
+                logger.error("Failed to load chunk region file {}", regionPath, e);
+            }
+        }
+        return loadChunkZip(chunkPos);
+    }
+
     @Override
     public void update() {
     }
 
     public boolean isStoreChunksInZips() {
-        return storeChunksInZips;
+        return chunkStorageFormat == ChunkStorageFormat.CHUNK_ZIPS;
     }
 
     /**
      * For tests only
      */
     void setStoreChunksInZips(boolean storeChunksInZips) {
-        this.storeChunksInZips = storeChunksInZips;
+        setChunkStorageFormat(storeChunksInZips ? ChunkStorageFormat.CHUNK_ZIPS : ChunkStorageFormat.CHUNK_FILES);
+    }
+
+    /**
+     * @return the codec new and changed chunks are compressed with
+     */
+    public ChunkCompression getChunkCompression() {
+        return chunkCompression;
+    }
+
+    void setChunkCompression(ChunkCompression chunkCompression) {
+        this.chunkCompression = chunkCompression;
+    }
+
+    public ChunkStorageFormat getChunkStorageFormat() {
+        return chunkStorageFormat;
+    }
+
+    void setChunkStorageFormat(ChunkStorageFormat chunkStorageFormat) {
+        this.chunkStorageFormat = chunkStorageFormat;
     }
 
     protected byte[] loadCompressedChunk(Vector3i chunkPos) {
-        if (isStoreChunksInZips()) {
+        if (chunkStorageFormat == ChunkStorageFormat.CHUNK_REGIONS) {
+            return loadChunkRegion(chunkPos);
+        } else if (chunkStorageFormat == ChunkStorageFormat.CHUNK_ZIPS) {
             return loadChunkZip(chunkPos);
         } else {
             Path chunkPath = storagePathProvider.getChunkPath(chunkPos);
@@ -0,0 +1,200 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.persistence.internal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+
+/**
+ * The codecs the serialized chunk stores of a save can be compressed with.
+ * <br><br>
+ * Compressed chunks are self describing: gzip data starts with the gzip magic number, the other codecs write a short
+ * header with their own magic number and the uncompressed length. So chunks can always be decompressed, no matter
+ * which codec a save currently uses for writing them.
+ */
+public enum ChunkCompression {
+    /**
+     * The original format: a gzip stream. Used by saves that do not specify a codec.
+     */
+    GZIP((byte) 0) {
+        @Override
+        byte[] compressData(byte[] data) throws IOException {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzipOut = new GZIPOutputStream(baos)) {
+                gzipOut.write(data);
+            }
+            return baos.toByteArray();
+        }
+
+        @Override
+        byte[] decompressData(byte[] data, int offset, int length) throws IOException {
+            try (InputStream gzipIn = new GZIPInputStream(new ByteArrayInputStream(data))) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 4);
+                byte[] buffer = new byte[DECOMPRESSION_BUFFER_SIZE];
+                int read;
+                while ((read = gzipIn.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+                return out.toByteArray();
+            }
+        }
+    },
+    /**
+     * A raw deflate stream at the fastest compression level, without the header and checksum of gzip.
+     */
+    DEFLATE((byte) 1) {
+        @Override
+        byte[] compressData(byte[] data) {
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+            try {
+                deflater.setInput(data);
+                deflater.finish();
+                byte[] buffer = new byte[Math.max(64, data.length / 2)];
+                int length = 0;
+                while (!deflater.finished()) {
+                    if (length == buffer.length) {
+                        buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                    }
+                    length += deflater.deflate(buffer, length, buffer.length - length);
+                }
+                return Arrays.copyOf(buffer, length);
+            } finally {
+                deflater.end();
+            }
+        }
+
+        @Override
+        byte[] decompressData(byte[] data, int offset, int length) throws IOException {
+            Inflater inflater = new Inflater(true);
+            try {
+                inflater.setInput(data, offset, data.length - offset);
+                byte[] result = new byte[length];
+                int inflated = 0;
+                while (inflated < length) {
+                    int count = inflater.inflate(result, inflated, length - inflated);
+                    if (count == 0 && (inflater.finished() || inflater.needsInput())) {
+                        throw new IOException("Deflate compressed chunk is truncated");
+                    }
+                    inflated += count;
+                }
+                return result;
+            } catch (DataFormatException e) {
+                throw new IOException("Corrupt deflate compressed chunk", e);
+            } finally {
+                inflater.end();
+            }
+        }
+    },
+    /**
+     * A LZ4 block. Compresses less than {@link #DEFLATE} but is several times faster to compress and decompress.
+     */
+    LZ4((byte) 2) {
+        @Override
+        byte[] compressData(byte[] data) {
+            return Lz4BlockCodec.compress(data);
+        }
+
+        @Override
+        byte[] decompressData(byte[] data, int offset, int length) throws IOException {
+            return Lz4BlockCodec.decompress(data, offset, length);
+        }
+    };
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkCompression.class);
+
+    private static final int DECOMPRESSION_BUFFER_SIZE = 8192;
+    private static final byte GZIP_MAGIC_0 = 0x1f;
+    private static final byte GZIP_MAGIC_1 = (byte) 0x8b;
+    private static final byte HEADER_MAGIC_0 = 'T';
+    private static final byte HEADER_MAGIC_1 = 'C';
+    /**
+     * Magic number, codec id and uncompressed length.
+     */
+    private static final int HEADER_LENGTH = 3 + Integer.BYTES;
+
+    private final byte id;
+
+    ChunkCompression(byte id) {
+        this.id = id;
+    }
+
+    /**
+     * @return the codec with the given name or {@link #GZIP} if the name is null or unknown.
+     */
+    public static ChunkCompression fromName(String name) {
+        if (name == null) {
+            return GZIP;
+        }
+        try {
+            return valueOf(name.toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Unknown chunk compression '{}', using {}", name, GZIP);
+            return GZIP;
+        }
+    }
+
+    public byte[] compress(byte[] data) {
+        try {
+            if (this == GZIP) {
+                return compressData(data);
+            }
+            byte[] compressed = compressData(data);
+            return ByteBuffer.allocate(HEADER_LENGTH + compressed.length)
+                    .put(HEADER_MAGIC_0).put(HEADER_MAGIC_1).put(id)
+                    .putInt(data.length)
+                    .put(compressed)
+                    .array();
+        } catch (IOException e) {
+            // as no real IO is involved this should not happen
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Decompresses a chunk that got compressed with any of the codecs.
+     */
+    public static byte[] decompress(byte[] data) throws IOException {
+        if (data.length >= 2 && data[0] == GZIP_MAGIC_0 && data[1] == GZIP_MAGIC_1) {
+            return GZIP.decompressData(data, 0, -1);
+        }
+        if (data.length < HEADER_LENGTH || data[0] != HEADER_MAGIC_0 || data[1] != HEADER_MAGIC_1) {
+            throw new IOException("Unknown chunk compression");
+        }
+        ChunkCompression codec = forId(data[2]);
+        int length = ByteBuffer.wrap(data, 3, Integer.BYTES).getInt();
+        if (length < 0) {
+            throw new IOException("Corrupt compressed chunk");
+        }
+        return codec.decompressData(data, HEADER_LENGTH, length);
+    }
+
+    private static ChunkCompression forId(byte id) throws IOException {
+        for (ChunkCompression codec : values()) {
+            if (codec.id == id && codec != GZIP) {
+                return codec;
+            }
+        }
+        throw new IOException("Unknown chunk compression id " + id);
+    }
+
+    abstract byte[] compressData(byte[] data) throws IOException;
+
+    /**
+     * @param offset the start of the compressed data
+     * @param length the length of the uncompressed data, -1 if it is unknown
+     */
+    abstract byte[] decompressData(byte[] data, int offset, int length) throws IOException;
+}
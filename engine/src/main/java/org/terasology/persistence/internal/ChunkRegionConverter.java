@@ -0,0 +1,207 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.persistence.internal;
+
+import com.google.common.collect.Maps;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.math.geom.Vector3i;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Converts the chunk zips of a world into chunk region files.
+ * <br><br>
+ * The region files a chunk zip feeds are built under a temporary name, starting from a copy of the existing region
+ * file, and only moved into place once all of them are complete. The chunk zip is removed after that. So the world
+ * directory only ever contains complete region files, and every chunk is either in a region file or still in its
+ * chunk zip. Chunks that are in a region file already are either converted or saved after the conversion got
+ * interrupted, so they are never overwritten and an interrupted conversion can simply be run again.
+ */
+final class ChunkRegionConverter {
+    private static final Logger logger = LoggerFactory.getLogger(ChunkRegionConverter.class);
+    private static final String CHUNK_FILE_SUFFIX = ".chunk";
+    private static final int COPY_BUFFER_SIZE = 8192;
+
+    private ChunkRegionConverter() {
+    }
+
+    /**
+     * @return true if the world directory contains chunk region files
+     */
+    static boolean hasChunkRegions(StoragePathProvider storagePathProvider) throws IOException {
+        return containsFileWithExtension(storagePathProvider.getWorldPath(),
+                StoragePathProvider.CHUNK_REGION_EXTENSION);
+    }
+
+    /**
+     * @return true if the world directory contains chunk zips
+     */
+    static boolean hasChunkZips(StoragePathProvider storagePathProvider) throws IOException {
+        return containsFileWithExtension(storagePathProvider.getWorldPath(), StoragePathProvider.CHUNK_ZIP_EXTENSION);
+    }
+
+    /**
+     * Moves all chunks of the chunk zips in the world directory into chunk region files.
+     *
+     * @return the number of converted chunks
+     */
+    static int convertChunkZips(StoragePathProvider storagePathProvider) throws IOException {
+        Path worldPath = storagePathProvider.getWorldPath();
+        if (!Files.isDirectory(worldPath)) {
+            return 0;
+        }
+        int convertedChunks = 0;
+        try (DirectoryStream<Path> chunkZips = Files.newDirectoryStream(worldPath,
+                "*" + StoragePathProvider.CHUNK_ZIP_EXTENSION)) {
+            for (Path chunkZip : chunkZips) {
+                convertedChunks += convertChunkZip(storagePathProvider, chunkZip);
+                Files.delete(chunkZip);
+            }
+        }
+        return convertedChunks;
+    }
+
+    private static int convertChunkZip(StoragePathProvider storagePathProvider, Path chunkZipPath)
+            throws IOException {
+        Map<Vector3i, ChunkRegionFile> regionFiles = Maps.newHashMap();
+        boolean built = false;
+        int convertedChunks = 0;
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        try (ZipFile chunkZip = new ZipFile(chunkZipPath.toFile())) {
+            Enumeration<? extends ZipEntry> entries = chunkZip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                Vector3i chunkPos = parseChunkPosition(entry.getName());
+                if (entry.isDirectory() || chunkPos == null) {
+                    logger.warn("Skipping unexpected entry {} of chunk zip {}", entry.getName(), chunkZipPath);
+                    continue;
+                }
+                Vector3i regionPos = storagePathProvider.getChunkRegionPosition(chunkPos);
+                ChunkRegionFile regionFile = regionFiles.get(regionPos);
+                if (regionFile == null) {
+                    regionFile = openTemporaryCopy(storagePathProvider.getChunkRegionPath(regionPos));
+                    regionFiles.put(regionPos, regionFile);
+                }
+                if (regionFile.contains(chunkPos)) {
+                    continue;
+                }
+                try (InputStream in = chunkZip.getInputStream(entry)) {
+                    regionFile.write(chunkPos, readFully(in, buffer));
+                }
+                convertedChunks++;
+            }
+            closeAll(regionFiles);
+            built = true;
+        } finally {
+            if (!built) {
+                discardAll(storagePathProvider, regionFiles);
+            }
+        }
+        for (Vector3i regionPos : regionFiles.keySet()) {
+            Path regionPath = storagePathProvider.getChunkRegionPath(regionPos);
+            Files.move(getTemporaryPath(regionPath), regionPath, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        }
+        return convertedChunks;
+    }
+
+    /**
+     * @return the path a region file is built under before it gets moved into place
+     */
+    static Path getTemporaryPath(Path regionPath) {
+        return regionPath.resolveSibling(regionPath.getFileName() + ".tmp");
+    }
+
+    private static ChunkRegionFile openTemporaryCopy(Path regionPath) throws IOException {
+        Path temporaryPath = getTemporaryPath(regionPath);
+        if (Files.exists(regionPath)) {
+            Files.copy(regionPath, temporaryPath, StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.deleteIfExists(temporaryPath);
+        }
+        return ChunkRegionFile.open(temporaryPath);
+    }
+
+    private static void discardAll(StoragePathProvider storagePathProvider,
+                                   Map<Vector3i, ChunkRegionFile> regionFiles) {
+        for (Map.Entry<Vector3i, ChunkRegionFile> entry : regionFiles.entrySet()) {
+            Path temporaryPath = getTemporaryPath(storagePathProvider.getChunkRegionPath(entry.getKey()));
+            try {
+                entry.getValue().close();
+            } catch (IOException e) {
+                logger.debug("Failed to close the incomplete region file {}", temporaryPath, e);
+            }
+            try {
+                Files.deleteIfExists(temporaryPath);
+            } catch (IOException e) {
+                logger.warn("Failed to remove the incomplete region file {}", temporaryPath, e);
+            }
+        }
+    }
+
+    private static void closeAll(Map<Vector3i, ChunkRegionFile> regionFiles) throws IOException {
+        IOException failure = null;
+        for (ChunkRegionFile regionFile : regionFiles.values()) {
+            try {
+                regionFile.close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * @return the position encoded in a chunk file name as created by {@link StoragePathProvider#getChunkFilename}
+     * or null if it is no chunk file name
+     */
+    static Vector3i parseChunkPosition(String chunkFilename) {
+        if (!chunkFilename.endsWith(CHUNK_FILE_SUFFIX)) {
+            return null;
+        }
+        String[] parts = chunkFilename.substring(0, chunkFilename.length() - CHUNK_FILE_SUFFIX.length()).split("\\.");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            return new Vector3i(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static boolean containsFileWithExtension(Path directory, String extension) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return false;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + extension)) {
+            return files.iterator().hasNext();
+        }
+    }
+
+    private static byte[] readFully(InputStream in, byte[] buffer) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,204 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.persistence.internal;
+
+import org.terasology.math.geom.Vector3i;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+
+/**
+ * A file that stores the compressed chunks of a region, which is a cube of {@link #REGION_SIZE} chunks per axis.
+ * <br><br>
+ * The file starts with a fixed size header: a magic number, the format version and an offset table with one entry
+ * per chunk of the region. Each entry holds the first sector and the length in bytes of the chunk data, a first
+ * sector of 0 marks a chunk that is not stored. The chunk data itself is stored in consecutive sectors of
+ * {@link #SECTOR_SIZE} bytes, so a chunk can be loaded with a single lookup in the offset table and one read.
+ * <br><br>
+ * Writing a chunk reuses its current sectors if the new data fits into them, otherwise the first free range of
+ * sectors that is large enough is used.
+ */
+class ChunkRegionFile implements Closeable {
+    static final int REGION_SIZE = 8;
+    static final int SECTOR_SIZE = 4096;
+
+    private static final int MAGIC = 0x54435247;
+    private static final int VERSION = 1;
+    private static final int CHUNKS_PER_REGION = REGION_SIZE * REGION_SIZE * REGION_SIZE;
+    private static final int PREAMBLE_BYTES = 2 * Integer.BYTES;
+    private static final int ENTRY_BYTES = 2 * Integer.BYTES;
+    private static final int HEADER_BYTES = PREAMBLE_BYTES + CHUNKS_PER_REGION * ENTRY_BYTES;
+    private static final int HEADER_SECTORS = (HEADER_BYTES + SECTOR_SIZE - 1) / SECTOR_SIZE;
+
+    private final FileChannel channel;
+    private final int[] sectorOffsets = new int[CHUNKS_PER_REGION];
+    private final int[] lengths = new int[CHUNKS_PER_REGION];
+    private final BitSet usedSectors = new BitSet();
+
+    private ChunkRegionFile(FileChannel channel) throws IOException {
+        this.channel = channel;
+        usedSectors.set(0, HEADER_SECTORS);
+        if (channel.size() == 0) {
+            return;
+        }
+
+        ByteBuffer header = readFully(channel, 0, HEADER_BYTES);
+        checkPreamble(header);
+        for (int index = 0; index < CHUNKS_PER_REGION; index++) {
+            sectorOffsets[index] = header.getInt();
+            lengths[index] = header.getInt();
+            if (sectorOffsets[index] != 0) {
+                usedSectors.set(sectorOffsets[index], sectorOffsets[index] + sectorCount(lengths[index]));
+            }
+        }
+    }
+
+    /**
+     * Opens the region file for writing, creating an empty one if there is none yet.
+     */
+    static ChunkRegionFile open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            return new ChunkRegionFile(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads a single chunk of a region file without loading the rest of its header.
+     *
+     * @return the compressed chunk or null if the region file does not contain the chunk
+     */
+    static byte[] readChunk(Path path, Vector3i chunkPos) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            checkPreamble(readFully(channel, 0, PREAMBLE_BYTES));
+            ByteBuffer entry = readFully(channel, PREAMBLE_BYTES + (long) indexOf(chunkPos) * ENTRY_BYTES,
+                    ENTRY_BYTES);
+            int sectorOffset = entry.getInt();
+            int length = entry.getInt();
+            if (sectorOffset == 0) {
+                return null;
+            }
+            return readFully(channel, (long) sectorOffset * SECTOR_SIZE, length).array();
+        }
+    }
+
+    static int indexOf(Vector3i chunkPos) {
+        int x = Math.floorMod(chunkPos.x, REGION_SIZE);
+        int y = Math.floorMod(chunkPos.y, REGION_SIZE);
+        int z = Math.floorMod(chunkPos.z, REGION_SIZE);
+        return (x * REGION_SIZE + y) * REGION_SIZE + z;
+    }
+
+    boolean contains(Vector3i chunkPos) {
+        return sectorOffsets[indexOf(chunkPos)] != 0;
+    }
+
+    /**
+     * @return the compressed chunk or null if the region file does not contain the chunk
+     */
+    byte[] read(Vector3i chunkPos) throws IOException {
+        int index = indexOf(chunkPos);
+        if (sectorOffsets[index] == 0) {
+            return null;
+        }
+        return readFully(channel, (long) sectorOffsets[index] * SECTOR_SIZE, lengths[index]).array();
+    }
+
+    void write(Vector3i chunkPos, byte[] data) throws IOException {
+        int index = indexOf(chunkPos);
+        int sectors = sectorCount(data.length);
+        int sectorOffset = sectorOffsets[index];
+        if (sectorOffset == 0 || sectorCount(lengths[index]) < sectors) {
+            if (sectorOffset != 0) {
+                usedSectors.clear(sectorOffset, sectorOffset + sectorCount(lengths[index]));
+            }
+            sectorOffset = findFreeSectors(sectors);
+        } else {
+            usedSectors.clear(sectorOffset + sectors, sectorOffset + sectorCount(lengths[index]));
+        }
+        usedSectors.set(sectorOffset, sectorOffset + sectors);
+
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        long position = (long) sectorOffset * SECTOR_SIZE;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        sectorOffsets[index] = sectorOffset;
+        lengths[index] = data.length;
+    }
+
+    /**
+     * Writes the header and cuts off free sectors at the end of the file.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC);
+            header.putInt(VERSION);
+            for (int index = 0; index < CHUNKS_PER_REGION; index++) {
+                header.putInt(sectorOffsets[index]);
+                header.putInt(lengths[index]);
+            }
+            header.flip();
+            long position = 0;
+            while (header.hasRemaining()) {
+                position += channel.write(header, position);
+            }
+            long usedBytes = (long) Math.max(usedSectors.length(), HEADER_SECTORS) * SECTOR_SIZE;
+            if (channel.size() > usedBytes) {
+                channel.truncate(usedBytes);
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    private int findFreeSectors(int count) {
+        int start = usedSectors.nextClearBit(HEADER_SECTORS);
+        while (true) {
+            int end = usedSectors.nextSetBit(start);
+            if (end == -1 || end - start >= count) {
+                return start;
+            }
+            start = usedSectors.nextClearBit(end);
+        }
+    }
+
+    private static int sectorCount(int length) {
+        return Math.max(1, (length + SECTOR_SIZE - 1) / SECTOR_SIZE);
+    }
+
+    private static void checkPreamble(ByteBuffer preamble) throws IOException {
+        int magic = preamble.getInt();
+        int version = preamble.getInt();
+        if (magic != MAGIC) {
+            throw new IOException("Not a chunk region file");
+        }
+        if (version != VERSION) {
+            throw new IOException("Unsupported chunk region file version " + version);
+        }
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new EOFException("Chunk region file is truncated");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+}
@@ -0,0 +1,21 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.persistence.internal;
+
+/**
+ * The ways the chunks of a world can be stored in the world directory of a save.
+ */
+public enum ChunkStorageFormat {
+    /**
+     * One gzip compressed file per chunk.
+     */
+    CHUNK_FILES,
+    /**
+     * One zip archive per 32 x 32 x 32 chunks.
+     */
+    CHUNK_ZIPS,
+    /**
+     * One region file with a chunk offset table per 8 x 8 x 8 chunks.
+     */
+    CHUNK_REGIONS
+}
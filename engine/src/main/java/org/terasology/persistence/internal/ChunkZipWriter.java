@@ -0,0 +1,174 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.persistence.internal;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.terasology.math.geom.Vector3i;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes the chunk zips of a save transaction, one zip per chunk region, with a bounded number of threads.
+ * <br><br>
+ * Each region zip is streamed into its temporary location in a single pass: first the chunks to save, then the
+ * entries of the previously saved zip that were not replaced. The chunks are gzip compressed already, so the entries
+ * are stored without compressing them again.
+ */
+class ChunkZipWriter {
+    private static final int COPY_BUFFER_SIZE = 8192;
+
+    private final StoragePathProvider storagePathProvider;
+    private final int threads;
+
+    /**
+     * @param threads the maximum number of region zips written at the same time
+     */
+    ChunkZipWriter(StoragePathProvider storagePathProvider, int threads) {
+        this.storagePathProvider = storagePathProvider;
+        this.threads = threads;
+    }
+
+    void write(Map<Vector3i, CompressedChunkBuilder> chunks) throws IOException {
+        Map<Vector3i, Map<Vector3i, CompressedChunkBuilder>> regions = Maps.newHashMap();
+        for (Map.Entry<Vector3i, CompressedChunkBuilder> entry : chunks.entrySet()) {
+            Vector3i chunkZipPos = storagePathProvider.getChunkZipPosition(entry.getKey());
+            regions.computeIfAbsent(chunkZipPos, pos -> Maps.newHashMap()).put(entry.getKey(), entry.getValue());
+        }
+        if (regions.isEmpty()) {
+            return;
+        }
+
+        int poolSize = Math.max(1, Math.min(threads, regions.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize, new ThreadFactoryBuilder()
+                .setNameFormat("Saving-Chunk-Zip-%d")
+                .setDaemon(true)
+                .build());
+        try {
+            List<Future<Void>> results = new ArrayList<>(regions.size());
+            for (Map.Entry<Vector3i, Map<Vector3i, CompressedChunkBuilder>> region : regions.entrySet()) {
+                results.add(executor.submit(() -> {
+                    writeRegion(region.getKey(), region.getValue());
+                    return null;
+                }));
+            }
+            for (Future<Void> result : results) {
+                waitFor(result);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void waitFor(Future<Void> result) throws IOException {
+        try {
+            result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing chunk zips", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException("Writing chunk zip failed", cause);
+        }
+    }
+
+    private void writeRegion(Vector3i chunkZipPos, Map<Vector3i, CompressedChunkBuilder> chunks) throws IOException {
+        Path targetPath = storagePathProvider.getChunkZipTempPath(chunkZipPos);
+        Files.deleteIfExists(targetPath);
+        Set<String> writtenEntries = Sets.newHashSetWithExpectedSize(chunks.size());
+        try (ZipOutputStream zipOut =
+                     new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(targetPath)))) {
+            for (Map.Entry<Vector3i, CompressedChunkBuilder> entry : chunks.entrySet()) {
+                String entryName = storagePathProvider.getChunkFilename(entry.getKey());
+                writeStoredEntry(zipOut, entryName, entry.getValue().buildEncodedChunk());
+                writtenEntries.add(entryName);
+            }
+
+            Path oldChunkZipPath = storagePathProvider.getChunkZipPath(chunkZipPos);
+            if (Files.isRegularFile(oldChunkZipPath)) {
+                copyUnchangedEntries(oldChunkZipPath, writtenEntries, zipOut);
+            }
+        }
+    }
+
+    private void copyUnchangedEntries(Path oldChunkZipPath, Set<String> writtenEntries, ZipOutputStream zipOut)
+            throws IOException {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        try (ZipFile oldZip = new ZipFile(oldChunkZipPath.toFile())) {
+            Enumeration<? extends ZipEntry> entries = oldZip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry oldEntry = entries.nextElement();
+                if (oldEntry.isDirectory() || writtenEntries.contains(oldEntry.getName())) {
+                    continue;
+                }
+                try (InputStream in = oldZip.getInputStream(oldEntry)) {
+                    if (oldEntry.getSize() < 0 || oldEntry.getCrc() < 0) {
+                        writeStoredEntry(zipOut, oldEntry.getName(), readFully(in, buffer));
+                    } else {
+                        zipOut.putNextEntry(
+                                createStoredEntry(oldEntry.getName(), oldEntry.getSize(), oldEntry.getCrc()));
+                        int read;
+                        while ((read = in.read(buffer)) != -1) {
+                            zipOut.write(buffer, 0, read);
+                        }
+                        zipOut.closeEntry();
+                    }
+                }
+            }
+        }
+    }
+
+    private static void writeStoredEntry(ZipOutputStream zipOut, String name, byte[] data) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        zipOut.putNextEntry(createStoredEntry(name, data.length, crc.getValue()));
+        zipOut.write(data);
+        zipOut.closeEntry();
+    }
+
+    private static ZipEntry createStoredEntry(String name, long size, long crc) {
+        ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(size);
+        entry.setCompressedSize(size);
+        entry.setCrc(crc);
+        return entry;
+    }
+
+    private static byte[] readFully(InputStream in, byte[] buffer) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+}
@@ -20,11 +20,8 @@
 import org.terasology.protobuf.EntityData;
 import org.terasology.world.chunks.internal.ChunkImpl;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.Collection;
 import java.util.Set;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * Provides an easy to get a compressed version of a chunk. Either the chunk most have a snapshot of it's state
@@ -35,6 +32,7 @@ public class CompressedChunkBuilder {
     private EntityData.EntityStore entityStore;
     private ChunkImpl chunk;
     private boolean viaSnapshot;
+    private final ChunkCompression compression;
     private byte[] result;
     private Set<EntityRef> storedEntities;
 
@@ -44,10 +42,11 @@ public class CompressedChunkBuilder {
      * @param chunkUnloaded if true the chunk data will be used directly.  If deactivate is false then the chunk will be
      *                      but in snapshot mode so that concurrent modifications (and possibly future unload) is
      *                      possible.
+     * @param compression the codec to compress the chunk with
      */
     public CompressedChunkBuilder(EngineEntityManager entityManager, ChunkImpl chunk,
                                   Collection<EntityRef> entitiesToSave,
-                                  boolean chunkUnloaded) {
+                                  boolean chunkUnloaded, ChunkCompression compression) {
         EntityStorer storer = new EntityStorer(entityManager);
         entitiesToSave.stream().filter(EntityRef::isPersistent).forEach(storer::store);
         storedEntities = storer.getStoredEntities();
@@ -55,6 +54,7 @@ public CompressedChunkBuilder(EngineEntityManager entityManager, ChunkImpl chunk
 
         this.chunk = chunk;
         this.viaSnapshot = !chunkUnloaded;
+        this.compression = compression;
         if (viaSnapshot) {
             this.chunk.createSnapshot();
         }
@@ -65,11 +65,14 @@ public CompressedChunkBuilder(EngineEntityManager entityManager, ChunkImpl chunk
      * @param entityStore encoded entities to be stored.
      * @param chunk       chunk for which {@link ChunkImpl#createSnapshot()} has been called.
      * @param viaSnapshot specifies if the previously taken snapshot will be encoded or if
+     * @param compression the codec to compress the chunk with
      */
-    public CompressedChunkBuilder(EntityData.EntityStore entityStore, ChunkImpl chunk, boolean viaSnapshot) {
+    public CompressedChunkBuilder(EntityData.EntityStore entityStore, ChunkImpl chunk, boolean viaSnapshot,
+                                  ChunkCompression compression) {
         this.entityStore = entityStore;
         this.chunk = chunk;
         this.viaSnapshot = viaSnapshot;
+        this.compression = compression;
     }
 
     public synchronized byte[] buildEncodedChunk() {
@@ -83,22 +86,11 @@ public synchronized byte[] buildEncodedChunk() {
             }
             encoded.setStore(entityStore);
             EntityData.ChunkStore store = encoded.build();
-            result = compressChunkStore(store);
+            result = compression.compress(store.toByteArray());
         }
         return result;
     }
 
-    private byte[] compressChunkStore(EntityData.ChunkStore store) {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        try (GZIPOutputStream gzipOut = new GZIPOutputStream(baos)) {
-            store.writeTo(gzipOut);
-        } catch (IOException e) {
-            // as no real IO is involved this should not happen
-            throw new RuntimeException(e);
-        }
-        return baos.toByteArray();
-    }
-
     public Set<EntityRef> getStoredEntities() {
         return storedEntities;
     }
@@ -0,0 +1,160 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.persistence.internal;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A pure java implementation of the LZ4 block format.
+ * <br><br>
+ * The compressor is a greedy single pass matcher with a small hash table, which trades some compression ratio for
+ * speed. The length of the uncompressed data is not part of a block and has to be stored by the caller.
+ */
+final class Lz4BlockCodec {
+    private static final int MIN_MATCH = 4;
+    private static final int LAST_LITERALS = 5;
+    private static final int MATCH_FIND_LIMIT = 12;
+    private static final int MAX_OFFSET = 0xFFFF;
+    private static final int HASH_LOG = 12;
+    private static final int SKIP_TRIGGER = 6;
+    private static final int RUN_MASK = 15;
+
+    private Lz4BlockCodec() {
+    }
+
+    static int maxCompressedLength(int length) {
+        return length + length / 255 + 16;
+    }
+
+    static byte[] compress(byte[] src) {
+        byte[] dest = new byte[maxCompressedLength(src.length)];
+        int destPos = 0;
+        int anchor = 0;
+        if (src.length > MATCH_FIND_LIMIT) {
+            int[] hashTable = new int[1 << HASH_LOG];
+            int matchSearchLimit = src.length - MATCH_FIND_LIMIT;
+            int matchLengthLimit = src.length - LAST_LITERALS;
+            int pos = 0;
+            int misses = 0;
+            while (pos < matchSearchLimit) {
+                int sequence = readInt(src, pos);
+                int hash = hash(sequence);
+                int candidate = hashTable[hash] - 1;
+                hashTable[hash] = pos + 1;
+                if (candidate < 0 || pos - candidate > MAX_OFFSET || readInt(src, candidate) != sequence) {
+                    pos += 1 + (misses++ >> SKIP_TRIGGER);
+                    continue;
+                }
+                misses = 0;
+                int matchLength = MIN_MATCH;
+                while (pos + matchLength < matchLengthLimit && src[candidate + matchLength] == src[pos + matchLength]) {
+                    matchLength++;
+                }
+                int tokenPos = destPos;
+                destPos = writeLiterals(src, anchor, pos - anchor, dest, destPos);
+                dest[destPos++] = (byte) (pos - candidate);
+                dest[destPos++] = (byte) ((pos - candidate) >>> 8);
+                destPos = writeMatchLength(dest, tokenPos, destPos, matchLength - MIN_MATCH);
+                pos += matchLength;
+                anchor = pos;
+            }
+        }
+        destPos = writeLiterals(src, anchor, src.length - anchor, dest, destPos);
+        return Arrays.copyOf(dest, destPos);
+    }
+
+    /**
+     * @param length the length of the uncompressed data
+     */
+    static byte[] decompress(byte[] src, int srcPos, int length) throws IOException {
+        byte[] dest = new byte[length];
+        int destPos = 0;
+        try {
+            while (true) {
+                int token = src[srcPos++] & 0xFF;
+                int literalLength = token >>> 4;
+                if (literalLength == RUN_MASK) {
+                    int next;
+                    do {
+                        next = src[srcPos++] & 0xFF;
+                        literalLength += next;
+                    } while (next == 255);
+                }
+                System.arraycopy(src, srcPos, dest, destPos, literalLength);
+                srcPos += literalLength;
+                destPos += literalLength;
+                if (destPos == length) {
+                    return dest;
+                }
+
+                int offset = (src[srcPos++] & 0xFF) | (src[srcPos++] & 0xFF) << 8;
+                int matchLength = token & RUN_MASK;
+                if (matchLength == RUN_MASK) {
+                    int next;
+                    do {
+                        next = src[srcPos++] & 0xFF;
+                        matchLength += next;
+                    } while (next == 255);
+                }
+                matchLength += MIN_MATCH;
+                int matchPos = destPos - offset;
+                if (offset == 0 || matchPos < 0 || destPos + matchLength > length) {
+                    throw new IOException("Corrupt LZ4 block");
+                }
+                if (offset >= matchLength) {
+                    System.arraycopy(dest, matchPos, dest, destPos, matchLength);
+                    destPos += matchLength;
+                } else {
+                    for (int i = 0; i < matchLength; i++) {
+                        dest[destPos++] = dest[matchPos + i];
+                    }
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Corrupt LZ4 block", e);
+        }
+    }
+
+    /**
+     * Writes the token of a sequence followed by its literals.
+     */
+    private static int writeLiterals(byte[] src, int literalStart, int literalLength, byte[] dest, int destPos) {
+        int tokenPos = destPos++;
+        if (literalLength >= RUN_MASK) {
+            dest[tokenPos] = (byte) (RUN_MASK << 4);
+            destPos = writeLengthExtension(dest, destPos, literalLength - RUN_MASK);
+        } else {
+            dest[tokenPos] = (byte) (literalLength << 4);
+        }
+        System.arraycopy(src, literalStart, dest, destPos, literalLength);
+        return destPos + literalLength;
+    }
+
+    private static int writeMatchLength(byte[] dest, int tokenPos, int destPos, int matchLength) {
+        if (matchLength >= RUN_MASK) {
+            dest[tokenPos] |= RUN_MASK;
+            return writeLengthExtension(dest, destPos, matchLength - RUN_MASK);
+        }
+        dest[tokenPos] |= matchLength;
+        return destPos;
+    }
+
+    private static int writeLengthExtension(byte[] dest, int destPos, int remaining) {
+        while (remaining >= 255) {
+            dest[destPos++] = (byte) 255;
+            remaining -= 255;
+        }
+        dest[destPos++] = (byte) remaining;
+        return destPos;
+    }
+
+    private static int readInt(byte[] data, int pos) {
+        return (data[pos] & 0xFF) | (data[pos + 1] & 0xFF) << 8 | (data[pos + 2] & 0xFF) << 16
+                | (data[pos + 3] & 0xFF) << 24;
+    }
+
+    private static int hash(int sequence) {
+        return (sequence * -1640531535) >>> (32 - HASH_LOG);
+    }
+}
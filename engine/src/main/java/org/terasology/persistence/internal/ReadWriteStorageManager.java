@@ -141,6 +141,12 @@ public ReadWriteStorageManager(Path savePath, ModuleEnvironment environment, Eng
         this.saveTransactionHelper = new SaveTransactionHelper(getStoragePathProvider());
         this.saveThreadManager = TaskMaster.createFIFOTaskMaster("Saving", 1);
         this.config = CoreRegistry.get(Config.class);
+        if (!Files.isRegularFile(getStoragePathProvider().getGameManifestPath())) {
+            setChunkCompression(ChunkCompression.fromName(config.getSystem().getChunkCompression()));
+        }
+        if (storeChunksInZips && config.getSystem().isChunkRegionFilesEnabled()) {
+            convertChunkZipsToRegions();
+        }
         this.entityRefReplacingComponentLibrary = privateEntityManager.getComponentLibrary()
                 .createCopyUsingCopyStrategy(EntityRef.class, new DelayedEntityRefCopyStrategy(this));
         this.entitySetDeltaRecorder = new EntitySetDeltaRecorder(this.entityRefReplacingComponentLibrary);
@@ -150,6 +156,18 @@ public ReadWriteStorageManager(Path savePath, ModuleEnvironment environment, Eng
 
     }
 
+    private void convertChunkZipsToRegions() {
+        setChunkStorageFormat(ChunkStorageFormat.CHUNK_REGIONS);
+        try {
+            if (ChunkRegionConverter.hasChunkZips(getStoragePathProvider())) {
+                int convertedChunks = ChunkRegionConverter.convertChunkZips(getStoragePathProvider());
+                logger.info("Converted {} chunks from chunk zips to chunk region files", convertedChunks);
+            }
+        } catch (IOException e) {
+            logger.error("Failed to convert the chunk zips, the remaining ones will be read as before", e);
+        }
+    }
+
     private static EngineEntityManager createPrivateEntityManager(ComponentLibrary componentLibrary) {
         PojoEntityManager pojoEntityManager = new PojoEntityManager();
         pojoEntityManager.setComponentLibrary(componentLibrary);
@@ -264,7 +282,9 @@ private void waitForCompletionOfPreviousSave() {
 
     private SaveTransaction createSaveTransaction() {
         SaveTransactionBuilder saveTransactionBuilder = new SaveTransactionBuilder(privateEntityManager,
-                entitySetDeltaRecorder, isStoreChunksInZips(), getStoragePathProvider(), worldDirectoryWriteLock,
+                entitySetDeltaRecorder, getChunkStorageFormat(), getChunkCompression(),
+                config.getSystem().getChunkZipWriterThreads(),
+                getStoragePathProvider(), worldDirectoryWriteLock,
                 recordAndReplaySerializer, recordAndReplayUtils, recordAndReplayCurrentStatus);
 
         ChunkProvider chunkProvider = CoreRegistry.get(ChunkProvider.class);
@@ -328,7 +348,7 @@ public void deactivateChunk(Chunk chunk) {
         Collection<EntityRef> entitiesOfChunk = getEntitiesOfChunk(chunk);
         ChunkImpl chunkImpl = (ChunkImpl) chunk; // storage manager only works with ChunkImpl
         unloadedAndUnsavedChunkMap.put(chunk.getPosition(), new CompressedChunkBuilder(getEntityManager(), chunkImpl,
-                entitiesOfChunk, true));
+                entitiesOfChunk, true, getChunkCompression()));
 
         entitiesOfChunk.forEach(this::deactivateOrDestroyEntityRecursive);
     }
@@ -374,6 +394,7 @@ private void addGameManifestToSaveTransaction(SaveTransactionBuilder saveTransac
         }
         gameManifest.setRegisteredBlockFamilies(registeredBlockFamilies);
         gameManifest.setBlockIdMap(blockManager.getBlockIdMap());
+        gameManifest.setChunkCompression(getChunkCompression().name());
         List<WorldInfo> worlds = universeConfig.getWorlds();
         for (WorldInfo worldInfo: worlds) {
             gameManifest.addWorld(worldInfo);
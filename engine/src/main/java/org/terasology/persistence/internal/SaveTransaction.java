@@ -55,9 +55,11 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 
 /**
@@ -75,6 +77,7 @@ public class SaveTransaction extends AbstractTask {
     private final EngineEntityManager privateEntityManager;
     private final EntitySetDeltaRecorder deltaToSave;
     private volatile SaveTransactionResult result;
+    private final Map<String, Long> phaseTimings = new LinkedHashMap<>();
 
     // Unprocessed data to save:
     private final Map<String, EntityData.PlayerStore> unloadedPlayers;
@@ -90,7 +93,9 @@ public class SaveTransaction extends AbstractTask {
 
 
     // Save parameters:
-    private final boolean storeChunksInZips;
+    private final ChunkStorageFormat chunkStorageFormat;
+    private final ChunkCompression chunkCompression;
+    private final int chunkZipWriterThreads;
 
     // utility classes for saving:
     private final StoragePathProvider storagePathProvider;
@@ -106,7 +111,8 @@ public SaveTransaction(EngineEntityManager privateEntityManager, EntitySetDeltaR
                            Map<String, EntityData.PlayerStore> unloadedPlayers,
                            Map<String, PlayerStoreBuilder> loadedPlayers, GlobalStoreBuilder globalStoreBuilder,
                            Map<Vector3i, CompressedChunkBuilder> unloadedChunks, Map<Vector3i, ChunkImpl> loadedChunks,
-                           GameManifest gameManifest, boolean storeChunksInZips,
+                           GameManifest gameManifest, ChunkStorageFormat chunkStorageFormat,
+                           ChunkCompression chunkCompression, int chunkZipWriterThreads,
                            StoragePathProvider storagePathProvider, Lock worldDirectoryWriteLock,
                            RecordAndReplaySerializer recordAndReplaySerializer,
                            RecordAndReplayUtils recordAndReplayUtils,
@@ -119,7 +125,9 @@ public SaveTransaction(EngineEntityManager privateEntityManager, EntitySetDeltaR
         this.loadedChunks = loadedChunks;
         this.globalStoreBuilder = globalStoreBuilder;
         this.gameManifest = gameManifest;
-        this.storeChunksInZips = storeChunksInZips;
+        this.chunkStorageFormat = chunkStorageFormat;
+        this.chunkCompression = chunkCompression;
+        this.chunkZipWriterThreads = chunkZipWriterThreads;
         this.storagePathProvider = storagePathProvider;
         this.saveTransactionHelper = new SaveTransactionHelper(storagePathProvider);
         this.worldDirectoryWriteLock = worldDirectoryWriteLock;
@@ -144,26 +152,34 @@ public void run() {
                 // should not happen, as initialization should clean it up
                 throw new IOException("Save rand while there were unmerged changes");
             }
-            saveTransactionHelper.cleanupSaveTransactionDirectory();
-            applyDeltaToPrivateEntityManager();
-            prepareChunksPlayersAndGlobalStore();
+            runPhase("cleanup", saveTransactionHelper::cleanupSaveTransactionDirectory);
+            runPhase("applyEntityDelta", this::applyDeltaToPrivateEntityManager);
+            runPhase("prepareStores", this::prepareChunksPlayersAndGlobalStore);
             createPreviewImagesFolder();
             createSaveTransactionDirectory();
-            writePlayerStores();
-            writeGlobalStore();
-            writeChunkStores();
+            runPhase("writePlayerStores", this::writePlayerStores);
+            runPhase("writeGlobalStore", this::writeGlobalStore);
+            runPhase("writeChunkStores", this::writeChunkStores);
             saveGameManifest();
-            perpareChangesForMerge();
-            mergeChanges();
-            result = SaveTransactionResult.createSuccessResult();
-            logger.info("Save game finished");
+            runPhase("merge", () -> {
+                perpareChangesForMerge();
+                mergeChanges();
+            });
+            result = SaveTransactionResult.createSuccessResult(phaseTimings);
+            logger.info("Save game finished, phase timings in ms: {}", phaseTimings);
             saveRecordingData();
         } catch (IOException | RuntimeException t) {
             logger.error("Save game creation failed", t);
-            result = SaveTransactionResult.createFailureResult(t);
+            result = SaveTransactionResult.createFailureResult(t, phaseTimings);
         }
     }
 
+    private void runPhase(String name, SavePhase phase) throws IOException {
+        long start = System.nanoTime();
+        phase.run();
+        phaseTimings.put(name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
     private void createPreviewImagesFolder() throws IOException {
         Files.createDirectories(storagePathProvider.getPreviewsPath());
     }
@@ -230,7 +246,7 @@ private void prepareCompressedChunkBuilders(Set<EntityRef> unsavedEntities) {
             ChunkImpl chunk = chunkEntry.getValue();
             unsavedEntities.removeAll(entitiesToStore);
             CompressedChunkBuilder compressedChunkBuilder = new CompressedChunkBuilder(privateEntityManager, chunk,
-                    entitiesToStore, false);
+                    entitiesToStore, false, chunkCompression);
             unsavedEntities.removeAll(compressedChunkBuilder.getStoredEntities());
             allChunks.put(chunkEntry.getKey(), compressedChunkBuilder);
         }
@@ -402,7 +418,11 @@ private void writeGlobalStore() throws IOException {
     private void writeChunkStores() throws IOException {
         Path chunksPath = storagePathProvider.getWorldTempPath();
         Files.createDirectories(chunksPath);
-        if (storeChunksInZips) {
+        if (chunkStorageFormat == ChunkStorageFormat.CHUNK_REGIONS) {
+            writeChunkRegions();
+        } else if (chunkStorageFormat == ChunkStorageFormat.CHUNK_ZIPS && chunkZipWriterThreads > 0) {
+            new ChunkZipWriter(storagePathProvider, chunkZipWriterThreads).write(allChunks);
+        } else if (chunkStorageFormat == ChunkStorageFormat.CHUNK_ZIPS) {
             Map<Vector3i, FileSystem> newChunkZips = Maps.newHashMap();
             for (Map.Entry<Vector3i, CompressedChunkBuilder> entry : allChunks.entrySet()) {
                 Vector3i chunkPos = entry.getKey();
@@ -457,6 +477,31 @@ public FileVisitResult visitFile(Path file, BasicFileAttributes attrs)
         }
     }
 
+    /**
+     * Writes the chunks into copies of the current region files, so that only the changed chunks need to be written.
+     */
+    private void writeChunkRegions() throws IOException {
+        Map<Vector3i, Map<Vector3i, CompressedChunkBuilder>> regions = Maps.newHashMap();
+        for (Map.Entry<Vector3i, CompressedChunkBuilder> entry : allChunks.entrySet()) {
+            Vector3i chunkRegionPos = storagePathProvider.getChunkRegionPosition(entry.getKey());
+            regions.computeIfAbsent(chunkRegionPos, pos -> Maps.newHashMap()).put(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<Vector3i, Map<Vector3i, CompressedChunkBuilder>> region : regions.entrySet()) {
+            Path targetPath = storagePathProvider.getChunkRegionTempPath(region.getKey());
+            Path oldRegionPath = storagePathProvider.getChunkRegionPath(region.getKey());
+            if (Files.isRegularFile(oldRegionPath)) {
+                Files.copy(oldRegionPath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.deleteIfExists(targetPath);
+            }
+            try (ChunkRegionFile regionFile = ChunkRegionFile.open(targetPath)) {
+                for (Map.Entry<Vector3i, CompressedChunkBuilder> entry : region.getValue().entrySet()) {
+                    regionFile.write(entry.getKey(), entry.getValue().buildEncodedChunk());
+                }
+            }
+        }
+    }
+
     /**
      * @return the result if there is one yet or null. This method returns the value of a volatile variable and
      * can thus be used even from another thread.
@@ -483,4 +528,8 @@ private void mergeChanges() throws IOException {
         }
     }
 
+    @FunctionalInterface
+    private interface SavePhase {
+        void run() throws IOException;
+    }
 }
@@ -41,7 +41,9 @@ class SaveTransactionBuilder {
     private Map<Vector3i, CompressedChunkBuilder> unloadedChunks = Maps.newHashMap();
     private Map<Vector3i, ChunkImpl> loadedChunks = Maps.newHashMap();
     private GlobalStoreBuilder globalStoreBuilder;
-    private final boolean storeChunksInZips;
+    private final ChunkStorageFormat chunkStorageFormat;
+    private final ChunkCompression chunkCompression;
+    private final int chunkZipWriterThreads;
     private final StoragePathProvider storagePathProvider;
     private GameManifest gameManifest;
     private RecordAndReplaySerializer recordAndReplaySerializer;
@@ -49,13 +51,17 @@ class SaveTransactionBuilder {
     private RecordAndReplayCurrentStatus recordAndReplayCurrentStatus;
 
     SaveTransactionBuilder(EngineEntityManager privateEntityManager, EntitySetDeltaRecorder deltaToSave,
-                           boolean storeChunksInZips, StoragePathProvider storagePathProvider,
+                           ChunkStorageFormat chunkStorageFormat, ChunkCompression chunkCompression,
+                           int chunkZipWriterThreads,
+                           StoragePathProvider storagePathProvider,
                            Lock worldDirectoryWriteLock, RecordAndReplaySerializer recordAndReplaySerializer,
                            RecordAndReplayUtils recordAndReplayUtils,
                            RecordAndReplayCurrentStatus recordAndReplayCurrentStatus) {
         this.privateEntityManager = privateEntityManager;
         this.deltaToSave = deltaToSave;
-        this.storeChunksInZips = storeChunksInZips;
+        this.chunkStorageFormat = chunkStorageFormat;
+        this.chunkCompression = chunkCompression;
+        this.chunkZipWriterThreads = chunkZipWriterThreads;
         this.storagePathProvider = storagePathProvider;
         this.worldDirectoryWriteLock = worldDirectoryWriteLock;
         this.recordAndReplaySerializer = recordAndReplaySerializer;
@@ -86,8 +92,8 @@ void addLoadedChunk(final Vector3i chunkPosition, final ChunkImpl chunk) {
 
     public SaveTransaction build() {
         return new SaveTransaction(privateEntityManager, deltaToSave, unloadedPlayers, loadedPlayers, globalStoreBuilder,
-                unloadedChunks, loadedChunks, gameManifest, storeChunksInZips, storagePathProvider,
-                worldDirectoryWriteLock, recordAndReplaySerializer, recordAndReplayUtils, recordAndReplayCurrentStatus);
+                unloadedChunks, loadedChunks, gameManifest, chunkStorageFormat, chunkCompression, chunkZipWriterThreads,
+                storagePathProvider, worldDirectoryWriteLock, recordAndReplaySerializer, recordAndReplayUtils, recordAndReplayCurrentStatus);
 
     }
 
@@ -15,22 +15,28 @@
  */
 package org.terasology.persistence.internal;
 
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+
 /**
  * Represents the result of a {@link SaveTransaction}
  */
 final class SaveTransactionResult {
     private final Throwable catchedThrowable;
+    private final Map<String, Long> phaseTimings;
 
-    private SaveTransactionResult(Throwable catchedThrowable) {
+    private SaveTransactionResult(Throwable catchedThrowable, Map<String, Long> phaseTimings) {
         this.catchedThrowable = catchedThrowable;
+        this.phaseTimings = ImmutableMap.copyOf(phaseTimings);
     }
 
-    static  SaveTransactionResult createSuccessResult() {
-        return new SaveTransactionResult(null);
+    static  SaveTransactionResult createSuccessResult(Map<String, Long> phaseTimings) {
+        return new SaveTransactionResult(null, phaseTimings);
     }
 
-    static  SaveTransactionResult createFailureResult(Throwable catchedThrowable) {
-        return new SaveTransactionResult(catchedThrowable);
+    static  SaveTransactionResult createFailureResult(Throwable catchedThrowable, Map<String, Long> phaseTimings) {
+        return new SaveTransactionResult(catchedThrowable, phaseTimings);
     }
 
     public boolean isSuccess() {
@@ -40,4 +46,12 @@ public boolean isSuccess() {
     public Throwable getCatchedThrowable() {
         return catchedThrowable;
     }
+
+    /**
+     * @return the time in milliseconds each phase of the transaction took, in the order they ran. A failed
+     *         transaction only contains the phases that completed.
+     */
+    public Map<String, Long> getPhaseTimings() {
+        return phaseTimings;
+    }
 }
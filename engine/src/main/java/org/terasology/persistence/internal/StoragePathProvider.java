@@ -32,6 +32,8 @@ public class StoragePathProvider {
     private static final String UNFINISHED_SAVE_TRANSACTION = "unfinished-save-transaction";
     private static final String UNMERGED_CHANGED = "unmerged-changes";
     private static final int CHUNK_ZIP_DIM = 32;
+    static final String CHUNK_ZIP_EXTENSION = ".chunks.zip";
+    static final String CHUNK_REGION_EXTENSION = ".region";
 
     private final Path storagePathDirectory;
     private final Path playersPath;
@@ -97,6 +99,14 @@ public Path getChunkZipTempPath(Vector3i chunkZipPos) {
         return getWorldTempPath().resolve(getChunkZipFilename(chunkZipPos));
     }
 
+    public Path getChunkRegionPath(Vector3i chunkRegionPos) {
+        return worldPath.resolve(getChunkRegionFilename(chunkRegionPos));
+    }
+
+    public Path getChunkRegionTempPath(Vector3i chunkRegionPos) {
+        return getWorldTempPath().resolve(getChunkRegionFilename(chunkRegionPos));
+    }
+
     public Path getGlobalEntityStorePath() {
         return globalEntityStorePath;
     }
@@ -111,7 +121,17 @@ public String getChunkFilename(Vector3i pos) {
 
 
     private String getChunkZipFilename(Vector3i pos) {
-        return String.format("%d.%d.%d.chunks.zip", pos.x, pos.y, pos.z);
+        return String.format("%d.%d.%d%s", pos.x, pos.y, pos.z, CHUNK_ZIP_EXTENSION);
+    }
+
+    private String getChunkRegionFilename(Vector3i pos) {
+        return String.format("%d.%d.%d%s", pos.x, pos.y, pos.z, CHUNK_REGION_EXTENSION);
+    }
+
+    public Vector3i getChunkRegionPosition(Vector3i chunkPos) {
+        return new Vector3i(Math.floorDiv(chunkPos.x, ChunkRegionFile.REGION_SIZE),
+                Math.floorDiv(chunkPos.y, ChunkRegionFile.REGION_SIZE),
+                Math.floorDiv(chunkPos.z, ChunkRegionFile.REGION_SIZE));
     }
 
     public Vector3i getChunkZipPosition(Vector3i chunkPos) {
@@ -138,6 +158,10 @@ public Path getChunkTempPath(Vector3i chunkPos) {
     }
 
 
+    public Path getGameManifestPath() {
+        return storagePathDirectory.resolve(GameManifest.DEFAULT_FILE_NAME);
+    }
+
     public Path getGameManifestTempPath() {
         return unfinishedSaveTransactionPath.resolve(GameManifest.DEFAULT_FILE_NAME);
     }
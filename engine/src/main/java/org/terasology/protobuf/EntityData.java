@@ -12006,30 +12006,30 @@ public interface ChunkStoreOrBuilder extends
     org.terasology.protobuf.EntityData.RunLengthEncoding8OrBuilder getDeprecatedData6OrBuilder();
 
     /**
-     * <code>optional .RunLengthEncoding16 block_data = 10;</code>
+     * <code>optional .RunLengthEncoding16 deprecated_data_7 = 12;</code>
      */
-    boolean hasBlockData();
+    boolean hasDeprecatedData7();
     /**
-     * <code>optional .RunLengthEncoding16 block_data = 10;</code>
+     * <code>optional .RunLengthEncoding16 deprecated_data_7 = 12;</code>
      */
-    org.terasology.protobuf.EntityData.RunLengthEncoding16 getBlockData();
+    org.terasology.protobuf.EntityData.RunLengthEncoding16 getDeprecatedData7();
     /**
-     * <code>optional .RunLengthEncoding16 block_data = 10;</code>
+     * <code>optional .RunLengthEncoding16 deprecated_data_7 = 12;</code>
      */
-    org.terasology.protobuf.EntityData.RunLengthEncoding16OrBuilder getBlockDataOrBuilder();
+    org.terasology.protobuf.EntityData.RunLengthEncoding16OrBuilder getDeprecatedData7OrBuilder();
 
     /**
-     * <code>optional .RunLengthEncoding16 biome_data = 12;</code>
+     * <code>optional .RunLengthEncoding16 block_data = 10;</code>
      */
-    boolean hasBiomeData();
+    boolean hasBlockData();
     /**
-     * <code>optional .RunLengthEncoding16 biome_data = 12;</code>
+     * <code>optional .RunLengthEncoding16 block_data = 10;</code>
      */
-    org.terasology.protobuf.EntityData.RunLengthEncoding16 getBiomeData();
+    org.terasology.protobuf.EntityData.RunLengthEncoding16 getBlockData();
     /**
-     * <code>optional .RunLengthEncoding16 biome_data = 12;</code>
+     * <code>optional .RunLengthEncoding16 block_data = 10;</code>
      */
-    org.terasology.protobuf.EntityData.RunLengthEncoding16OrBuilder getBiomeDataOrBuilder();
+    org.terasology.protobuf.EntityData.RunLengthEncoding16OrBuilder getBlockDataOrBuilder();
 
     /**
      * <code>repeated .RunLengthEncoding16 extra_data = 13;</code>
@@ -12054,6 +12054,19 @@ public interface ChunkStoreOrBuilder extends
      */
     org.terasology.protobuf.EntityData.RunLengthEncoding16OrBuilder getExtraDataOrBuilder(
         int index);
+
+    /**
+     * <code>optional .PaletteEncoding16 block_palette = 14;</code>
+     */
+    boolean hasBlockPalette();
+    /**
+     * <code>optional .PaletteEncoding16 block_palette = 14;</code>
+     */
+    org.terasology.protobuf.EntityData.PaletteEncoding16 getBlockPalette();
+    /**
+     * <code>optional .PaletteEncoding16 block_palette = 14;</code>
+     */
+    org.terasology.protobuf.EntityData.PaletteEncoding16OrBuilder getBlockPaletteOrBuilder();
   }
   /**
    * Protobuf type {@code ChunkStore}
@@ -12163,7 +12176,7 @@ private ChunkStore(
             }
             case 82: {
               org.terasology.protobuf.EntityData.RunLengthEncoding16.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000400) == 0x00000400)) {
+              if (((bitField0_ & 0x00000800) == 0x00000800)) {
                 subBuilder = blockData_.toBuilder();
               }
               blockData_ = input.readMessage(org.terasology.protobuf.EntityData.RunLengthEncoding16.PARSER, extensionRegistry);
@@ -12171,7 +12184,7 @@ private ChunkStore(
                 subBuilder.mergeFrom(blockData_);
                 blockData_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x00000400;
+              bitField0_ |= 0x00000800;
               break;
             }
             case 90: {
@@ -12189,15 +12202,15 @@ private ChunkStore(
             }
             case 98: {
               org.terasology.protobuf.EntityData.RunLengthEncoding16.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000800) == 0x00000800)) {
-                subBuilder = biomeData_.toBuilder();
+              if (((bitField0_ & 0x00000400) == 0x00000400)) {
+                subBuilder = deprecatedData7_.toBuilder();
               }
-              biomeData_ = input.readMessage(org.terasology.protobuf.EntityData.RunLengthEncoding16.PARSER, extensionRegistry);
+              deprecatedData7_ = input.readMessage(org.terasology.protobuf.EntityData.RunLengthEncoding16.PARSER, extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(biomeData_);
-                biomeData_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom(deprecatedData7_);
+                deprecatedData7_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x00000800;
+              bitField0_ |= 0x00000400;
               break;
             }
             case 106: {
@@ -12208,6 +12221,19 @@ private ChunkStore(
               extraData_.add(input.readMessage(org.terasology.protobuf.EntityData.RunLengthEncoding16.PARSER, extensionRegistry));
               break;
             }
+            case 114: {
+              org.terasology.protobuf.EntityData.PaletteEncoding16.Builder subBuilder = null;
+              if (((bitField0_ & 0x00001000) == 0x00001000)) {
+                subBuilder = blockPalette_.toBuilder();
+              }
+              blockPalette_ = input.readMessage(org.terasology.protobuf.EntityData.PaletteEncoding16.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(blockPalette_);
+                blockPalette_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00001000;
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -12413,46 +12439,46 @@ public org.terasology.protobuf.EntityData.RunLengthEncoding8OrBuilder getDepreca
       return deprecatedData6_;
     }
 
-    public static final int BLOCK_DATA_FIELD_NUMBER = 10;
-    private org.terasology.protobuf.EntityData.RunLengthEncoding16 blockData_;
+    public static final int DEPRECATED_DATA_7_FIELD_NUMBER = 12;
+    private org.terasology.protobuf.EntityData.RunLengthEncoding16 deprecatedData7_;
     /**
-     * <code>optional .RunLengthEncoding16 block_data = 10;</code>
+     * <code>optional .RunLengthEncoding16 deprecated_data_7 = 12;</code>
      */
-    public boolean hasBlockData() {
+    public boolean hasDeprecatedData7() {
       return ((bitField0_ & 0x00000400) == 0x00000400);
     }
     /**
-     * <code>optional .RunLengthEncoding16 block_data = 10;</code>
+     * <code>optional .RunLengthEncoding16 deprecated_data_7 = 12;</code>
      */
-    public org.terasology.protobuf.EntityData.RunLengthEncoding16 getBlockData() {
-      return blockData_;
+    public org.terasology.protobuf.EntityData.RunLengthEncoding16 getDeprecatedData7() {
+      return deprecatedData7_;
     }
     /**
-     * <code>optional .RunLengthEncoding16 block_data = 10;</code>
+     * <code>optional .RunLengthEncoding16 deprecated_data_7 = 12;</code>
      */
-    public org.terasology.protobuf.EntityData.RunLengthEncoding16OrBuilder getBlockDataOrBuilder() {
-      return blockData_;
+    public org.terasology.protobuf.EntityData.RunLengthEncoding16OrBuilder getDeprecatedData7OrBuilder() {
+      return deprecatedData7_;
     }
 
-    public static final int BIOME_DATA_FIELD_NUMBER = 12;
-    private org.terasology.protobuf.EntityData.RunLengthEncoding16 biomeData_;
+    public static final int BLOCK_DATA_FIELD_NUMBER = 10;
+    private org.terasology.protobuf.EntityData.RunLengthEncoding16 blockData_;
     /**
-     * <code>optional .RunLengthEncoding16 biome_data = 12;</code>
+     * <code>optional .RunLengthEncoding16 block_data = 10;</code>
      */
-    public boolean hasBiomeData() {
+    public boolean hasBlockData() {
       return ((bitField0_ & 0x00000800) == 0x00000800);
     }
     /**
-     * <code>optional .RunLengthEncoding16 biome_data = 12;</code>
+     * <code>optional .RunLengthEncoding16 block_data = 10;</code>
      */
-    public org.terasology.protobuf.EntityData.RunLengthEncoding16 getBiomeData() {
-      return biomeData_;
+    public org.terasology.protobuf.EntityData.RunLengthEncoding16 getBlockData() {
+      return blockData_;
     }
     /**
-     * <code>optional .RunLengthEncoding16 biome_data = 12;</code>
+     * <code>optional .RunLengthEncoding16 block_data = 10;</code>
      */
-    public org.terasology.protobuf.EntityData.RunLengthEncoding16OrBuilder getBiomeDataOrBuilder() {
-      return biomeData_;
+    public org.terasology.protobuf.EntityData.RunLengthEncoding16OrBuilder getBlockDataOrBuilder() {
+      return blockData_;
     }
 
     public static final int EXTRA_DATA_FIELD_NUMBER = 13;
@@ -12490,6 +12516,27 @@ public org.terasology.protobuf.EntityData.RunLengthEncoding16OrBuilder getExtraD
       return extraData_.get(index);
     }
 
+    public static final int BLOCK_PALETTE_FIELD_NUMBER = 14;
+    private org.terasology.protobuf.EntityData.PaletteEncoding16 blockPalette_;
+    /**
+     * <code>optional .PaletteEncoding16 block_palette = 14;</code>
+     */
+    public boolean hasBlockPalette() {
+      return ((bitField0_ & 0x00001000) == 0x00001000);
+    }
+    /**
+     * <code>optional .PaletteEncoding16 block_palette = 14;</code>
+     */
+    public org.terasology.protobuf.EntityData.PaletteEncoding16 getBlockPalette() {
+      return blockPalette_;
+    }
+    /**
+     * <code>optional .PaletteEncoding16 block_palette = 14;</code>
+     */
+    public org.terasology.protobuf.EntityData.PaletteEncoding16OrBuilder getBlockPaletteOrBuilder() {
+      return blockPalette_;
+    }
+
     private void initFields() {
       store_ = org.terasology.protobuf.EntityData.EntityStore.getDefaultInstance();
       x_ = 0;
@@ -12501,9 +12548,10 @@ private void initFields() {
       deprecatedData2_ = com.google.protobuf.ByteString.EMPTY;
       deprecatedData5_ = com.google.protobuf.ByteString.EMPTY;
       deprecatedData6_ = org.terasology.protobuf.EntityData.RunLengthEncoding8.getDefaultInstance();
+      deprecatedData7_ = org.terasology.protobuf.EntityData.RunLengthEncoding16.getDefaultInstance();
       blockData_ = org.terasology.protobuf.EntityData.RunLengthEncoding16.getDefaultInstance();
-      biomeData_ = org.terasology.protobuf.EntityData.RunLengthEncoding16.getDefaultInstance();
       extraData_ = java.util.Collections.emptyList();
+      blockPalette_ = org.terasology.protobuf.EntityData.PaletteEncoding16.getDefaultInstance();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -12523,14 +12571,14 @@ public final boolean isInitialized() {
           return false;
         }
       }
-      if (hasBlockData()) {
-        if (!getBlockData().isInitialized()) {
+      if (hasDeprecatedData7()) {
+        if (!getDeprecatedData7().isInitialized()) {
           memoizedIsInitialized = 0;
           return false;
         }
       }
-      if (hasBiomeData()) {
-        if (!getBiomeData().isInitialized()) {
+      if (hasBlockData()) {
+        if (!getBlockData().isInitialized()) {
           memoizedIsInitialized = 0;
           return false;
         }
@@ -12541,6 +12589,12 @@ public final boolean isInitialized() {
           return false;
         }
       }
+      if (hasBlockPalette()) {
+        if (!getBlockPalette().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
       if (!extensionsAreInitialized()) {
         memoizedIsInitialized = 0;
         return false;
@@ -12582,18 +12636,21 @@ public void writeTo(com.google.protobuf.CodedOutputStream output)
       if (((bitField0_ & 0x00000100) == 0x00000100)) {
         output.writeBytes(9, deprecatedData5_);
       }
-      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
         output.writeMessage(10, blockData_);
       }
       if (((bitField0_ & 0x00000200) == 0x00000200)) {
         output.writeMessage(11, deprecatedData6_);
       }
-      if (((bitField0_ & 0x00000800) == 0x00000800)) {
-        output.writeMessage(12, biomeData_);
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        output.writeMessage(12, deprecatedData7_);
       }
       for (int i = 0; i < extraData_.size(); i++) {
         output.writeMessage(13, extraData_.get(i));
       }
+      if (((bitField0_ & 0x00001000) == 0x00001000)) {
+        output.writeMessage(14, blockPalette_);
+      }
       extensionWriter.writeUntil(536870912, output);
       getUnknownFields().writeTo(output);
     }
@@ -12640,7 +12697,7 @@ public int getSerializedSize() {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(9, deprecatedData5_);
       }
-      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(10, blockData_);
       }
@@ -12648,14 +12705,18 @@ public int getSerializedSize() {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(11, deprecatedData6_);
       }
-      if (((bitField0_ & 0x00000800) == 0x00000800)) {
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(12, biomeData_);
+          .computeMessageSize(12, deprecatedData7_);
       }
       for (int i = 0; i < extraData_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(13, extraData_.get(i));
       }
+      if (((bitField0_ & 0x00001000) == 0x00001000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(14, blockPalette_);
+      }
       size += extensionsSerializedSize();
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -12769,9 +12830,10 @@ private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
           getStoreFieldBuilder();
           getDeprecatedData6FieldBuilder();
+          getDeprecatedData7FieldBuilder();
           getBlockDataFieldBuilder();
-          getBiomeDataFieldBuilder();
           getExtraDataFieldBuilder();
+          getBlockPaletteFieldBuilder();
         }
       }
       private static Builder create() {
@@ -12808,16 +12870,16 @@ public Builder clear() {
           deprecatedData6Builder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000200);
-        if (blockDataBuilder_ == null) {
-          blockData_ = org.terasology.protobuf.EntityData.RunLengthEncoding16.getDefaultInstance();
+        if (deprecatedData7Builder_ == null) {
+          deprecatedData7_ = org.terasology.protobuf.EntityData.RunLengthEncoding16.getDefaultInstance();
         } else {
-          blockDataBuilder_.clear();
+          deprecatedData7Builder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000400);
-        if (biomeDataBuilder_ == null) {
-          biomeData_ = org.terasology.protobuf.EntityData.RunLengthEncoding16.getDefaultInstance();
+        if (blockDataBuilder_ == null) {
+          blockData_ = org.terasology.protobuf.EntityData.RunLengthEncoding16.getDefaultInstance();
         } else {
-          biomeDataBuilder_.clear();
+          blockDataBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000800);
         if (extraDataBuilder_ == null) {
@@ -12826,6 +12888,12 @@ public Builder clear() {
         } else {
           extraDataBuilder_.clear();
         }
+        if (blockPaletteBuilder_ == null) {
+          blockPalette_ = org.terasology.protobuf.EntityData.PaletteEncoding16.getDefaultInstance();
+        } else {
+          blockPaletteBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00002000);
         return this;
       }
 
@@ -12905,18 +12973,18 @@ public org.terasology.protobuf.EntityData.ChunkStore buildPartial() {
         if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
           to_bitField0_ |= 0x00000400;
         }
-        if (blockDataBuilder_ == null) {
-          result.blockData_ = blockData_;
+        if (deprecatedData7Builder_ == null) {
+          result.deprecatedData7_ = deprecatedData7_;
         } else {
-          result.blockData_ = blockDataBuilder_.build();
+          result.deprecatedData7_ = deprecatedData7Builder_.build();
         }
         if (((from_bitField0_ & 0x00000800) == 0x00000800)) {
           to_bitField0_ |= 0x00000800;
         }
-        if (biomeDataBuilder_ == null) {
-          result.biomeData_ = biomeData_;
+        if (blockDataBuilder_ == null) {
+          result.blockData_ = blockData_;
         } else {
-          result.biomeData_ = biomeDataBuilder_.build();
+          result.blockData_ = blockDataBuilder_.build();
         }
         if (extraDataBuilder_ == null) {
           if (((bitField0_ & 0x00001000) == 0x00001000)) {
@@ -12927,6 +12995,14 @@ public org.terasology.protobuf.EntityData.ChunkStore buildPartial() {
         } else {
           result.extraData_ = extraDataBuilder_.build();
         }
+        if (((from_bitField0_ & 0x00002000) == 0x00002000)) {
+          to_bitField0_ |= 0x00001000;
+        }
+        if (blockPaletteBuilder_ == null) {
+          result.blockPalette_ = blockPalette_;
+        } else {
+          result.blockPalette_ = blockPaletteBuilder_.build();
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -12973,12 +13049,12 @@ public Builder mergeFrom(org.terasology.protobuf.EntityData.ChunkStore other) {
         if (other.hasDeprecatedData6()) {
           mergeDeprecatedData6(other.getDeprecatedData6());
         }
+        if (other.hasDeprecatedData7()) {
+          mergeDeprecatedData7(other.getDeprecatedData7());
+        }
         if (other.hasBlockData()) {
           mergeBlockData(other.getBlockData());
         }
-        if (other.hasBiomeData()) {
-          mergeBiomeData(other.getBiomeData());
-        }
         if (extraDataBuilder_ == null) {
           if (!other.extraData_.isEmpty()) {
             if (extraData_.isEmpty()) {
@@ -13005,6 +13081,9 @@ public Builder mergeFrom(org.terasology.protobuf.EntityData.ChunkStore other) {
             }
           }
         }
+        if (other.hasBlockPalette()) {
+          mergeBlockPalette(other.getBlockPalette());
+        }
         this.mergeExtensionFields(other);
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
@@ -13023,14 +13102,14 @@ public final boolean isInitialized() {
             return false;
           }
         }
-        if (hasBlockData()) {
-          if (!getBlockData().isInitialized()) {
+        if (hasDeprecatedData7()) {
+          if (!getDeprecatedData7().isInitialized()) {
             
             return false;
           }
         }
-        if (hasBiomeData()) {
-          if (!getBiomeData().isInitialized()) {
+        if (hasBlockData()) {
+          if (!getBlockData().isInitialized()) {
             
             return false;
           }
@@ -13041,6 +13120,12 @@ public final boolean isInitialized() {
             return false;
           }
         }
+        if (hasBlockPalette()) {
+          if (!getBlockPalette().isInitialized()) {
+            
+            return false;
+          }
+        }
         if (!extensionsAreInitialized()) {
           
           return false;
@@ -13567,236 +13652,236 @@ public org.terasology.protobuf.EntityData.RunLengthEncoding8OrBuilder getDepreca
         return deprecatedData6Builder_;
       }
 
-      private org.terasology.protobuf.EntityData.RunLengthEncoding16 blockData_ = org.terasology.protobuf.EntityData.RunLengthEncoding16.getDefaultInstance();
+      private org.terasology.protobuf.EntityData.RunLengthEncoding16 deprecatedData7_ = org.terasology.protobuf.EntityData.RunLengthEncoding16.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
-          org.terasology.protobuf.EntityData.RunLengthEncoding16, org.terasology.protobuf.EntityData.RunLengthEncoding16.Builder, org.terasology.protobuf.EntityData.RunLengthEncoding16OrBuilder> blockDataBuilder_;
+          org.terasology.protobuf.EntityData.RunLengthEncoding16, org.terasology.protobuf.EntityData.RunLengthEncoding16.Builder, org.terasology.protobuf.EntityData.RunLengthEncoding16OrBuilder> deprecatedData7Builder_;
       /**
-       * <code>optional .RunLengthEncoding16 block_data = 10;</code>
+       * <code>optional .RunLengthEncoding16 deprecated_data_7 = 12;</code>
        */
-      public boolean hasBlockData() {
+      public boolean hasDeprecatedData7() {
         return ((bitField0_ & 0x00000400) == 0x00000400);
       }
       /**
-       * <code>optional .RunLengthEncoding16 block_data = 10;</code>
+       * <code>optional .RunLengthEncoding16 deprecated_data_7 = 12;</code>
        */
-      public org.terasology.protobuf.EntityData.RunLengthEncoding16 getBlockData() {
-        if (blockDataBuilder_ == null) {
-          return blockData_;
+      public org.terasology.protobuf.EntityData.RunLengthEncoding16 getDeprecatedData7() {
+        if (deprecatedData7Builder_ == null) {
+          return deprecatedData7_;
         } else {
-          return blockDataBuilder_.getMessage();
+          return deprecatedData7Builder_.getMessage();
         }
       }
       /**
-       * <code>optional .RunLengthEncoding16 block_data = 10;</code>
+       * <code>optional .RunLengthEncoding16 deprecated_data_7 = 12;</code>
        */
-      public Builder setBlockData(org.terasology.protobuf.EntityData.RunLengthEncoding16 value) {
-        if (blockDataBuilder_ == null) {
+      public Builder setDeprecatedData7(org.terasology.protobuf.EntityData.RunLengthEncoding16 value) {
+        if (deprecatedData7Builder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          blockData_ = value;
+          deprecatedData7_ = value;
           onChanged();
         } else {
-          blockDataBuilder_.setMessage(value);
+          deprecatedData7Builder_.setMessage(value);
         }
         bitField0_ |= 0x00000400;
         return this;
       }
       /**
-       * <code>optional .RunLengthEncoding16 block_data = 10;</code>
+       * <code>optional .RunLengthEncoding16 deprecated_data_7 = 12;</code>
        */
-      public Builder setBlockData(
+      public Builder setDeprecatedData7(
           org.terasology.protobuf.EntityData.RunLengthEncoding16.Builder builderForValue) {
-        if (blockDataBuilder_ == null) {
-          blockData_ = builderForValue.build();
+        if (deprecatedData7Builder_ == null) {
+          deprecatedData7_ = builderForValue.build();
           onChanged();
         } else {
-          blockDataBuilder_.setMessage(builderForValue.build());
+          deprecatedData7Builder_.setMessage(builderForValue.build());
         }
         bitField0_ |= 0x00000400;
         return this;
       }
       /**
-       * <code>optional .RunLengthEncoding16 block_data = 10;</code>
+       * <code>optional .RunLengthEncoding16 deprecated_data_7 = 12;</code>
        */
-      public Builder mergeBlockData(org.terasology.protobuf.EntityData.RunLengthEncoding16 value) {
-        if (blockDataBuilder_ == null) {
+      public Builder mergeDeprecatedData7(org.terasology.protobuf.EntityData.RunLengthEncoding16 value) {
+        if (deprecatedData7Builder_ == null) {
           if (((bitField0_ & 0x00000400) == 0x00000400) &&
-              blockData_ != org.terasology.protobuf.EntityData.RunLengthEncoding16.getDefaultInstance()) {
-            blockData_ =
-              org.terasology.protobuf.EntityData.RunLengthEncoding16.newBuilder(blockData_).mergeFrom(value).buildPartial();
+              deprecatedData7_ != org.terasology.protobuf.EntityData.RunLengthEncoding16.getDefaultInstance()) {
+            deprecatedData7_ =
+              org.terasology.protobuf.EntityData.RunLengthEncoding16.newBuilder(deprecatedData7_).mergeFrom(value).buildPartial();
           } else {
-            blockData_ = value;
+            deprecatedData7_ = value;
           }
           onChanged();
         } else {
-          blockDataBuilder_.mergeFrom(value);
+          deprecatedData7Builder_.mergeFrom(value);
         }
         bitField0_ |= 0x00000400;
         return this;
       }
       /**
-       * <code>optional .RunLengthEncoding16 block_data = 10;</code>
+       * <code>optional .RunLengthEncoding16 deprecated_data_7 = 12;</code>
        */
-      public Builder clearBlockData() {
-        if (blockDataBuilder_ == null) {
-          blockData_ = org.terasology.protobuf.EntityData.RunLengthEncoding16.getDefaultInstance();
+      public Builder clearDeprecatedData7() {
+        if (deprecatedData7Builder_ == null) {
+          deprecatedData7_ = org.terasology.protobuf.EntityData.RunLengthEncoding16.getDefaultInstance();
           onChanged();
         } else {
-          blockDataBuilder_.clear();
+          deprecatedData7Builder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000400);
         return this;
       }
       /**
-       * <code>optional .RunLengthEncoding16 block_data = 10;</code>
+       * <code>optional .RunLengthEncoding16 deprecated_data_7 = 12;</code>
        */
-      public org.terasology.protobuf.EntityData.RunLengthEncoding16.Builder getBlockDataBuilder() {
+      public org.terasology.protobuf.EntityData.RunLengthEncoding16.Builder getDeprecatedData7Builder() {
         bitField0_ |= 0x00000400;
         onChanged();
-        return getBlockDataFieldBuilder().getBuilder();
+        return getDeprecatedData7FieldBuilder().getBuilder();
       }
       /**
-       * <code>optional .RunLengthEncoding16 block_data = 10;</code>
+       * <code>optional .RunLengthEncoding16 deprecated_data_7 = 12;</code>
        */
-      public org.terasology.protobuf.EntityData.RunLengthEncoding16OrBuilder getBlockDataOrBuilder() {
-        if (blockDataBuilder_ != null) {
-          return blockDataBuilder_.getMessageOrBuilder();
+      public org.terasology.protobuf.EntityData.RunLengthEncoding16OrBuilder getDeprecatedData7OrBuilder() {
+        if (deprecatedData7Builder_ != null) {
+          return deprecatedData7Builder_.getMessageOrBuilder();
         } else {
-          return blockData_;
+          return deprecatedData7_;
         }
       }
       /**
-       * <code>optional .RunLengthEncoding16 block_data = 10;</code>
+       * <code>optional .RunLengthEncoding16 deprecated_data_7 = 12;</code>
        */
       private com.google.protobuf.SingleFieldBuilder<
           org.terasology.protobuf.EntityData.RunLengthEncoding16, org.terasology.protobuf.EntityData.RunLengthEncoding16.Builder, org.terasology.protobuf.EntityData.RunLengthEncoding16OrBuilder> 
-          getBlockDataFieldBuilder() {
-        if (blockDataBuilder_ == null) {
-          blockDataBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+          getDeprecatedData7FieldBuilder() {
+        if (deprecatedData7Builder_ == null) {
+          deprecatedData7Builder_ = new com.google.protobuf.SingleFieldBuilder<
               org.terasology.protobuf.EntityData.RunLengthEncoding16, org.terasology.protobuf.EntityData.RunLengthEncoding16.Builder, org.terasology.protobuf.EntityData.RunLengthEncoding16OrBuilder>(
-                  getBlockData(),
+                  getDeprecatedData7(),
                   getParentForChildren(),
                   isClean());
-          blockData_ = null;
+          deprecatedData7_ = null;
         }
-        return blockDataBuilder_;
+        return deprecatedData7Builder_;
       }
 
-      private org.terasology.protobuf.EntityData.RunLengthEncoding16 biomeData_ = org.terasology.protobuf.EntityData.RunLengthEncoding16.getDefaultInstance();
+      private org.terasology.protobuf.EntityData.RunLengthEncoding16 blockData_ = org.terasology.protobuf.EntityData.RunLengthEncoding16.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
-          org.terasology.protobuf.EntityData.RunLengthEncoding16, org.terasology.protobuf.EntityData.RunLengthEncoding16.Builder, org.terasology.protobuf.EntityData.RunLengthEncoding16OrBuilder> biomeDataBuilder_;
+          org.terasology.protobuf.EntityData.RunLengthEncoding16, org.terasology.protobuf.EntityData.RunLengthEncoding16.Builder, org.terasology.protobuf.EntityData.RunLengthEncoding16OrBuilder> blockDataBuilder_;
       /**
-       * <code>optional .RunLengthEncoding16 biome_data = 12;</code>
+       * <code>optional .RunLengthEncoding16 block_data = 10;</code>
        */
-      public boolean hasBiomeData() {
+      public boolean hasBlockData() {
         return ((bitField0_ & 0x00000800) == 0x00000800);
       }
       /**
-       * <code>optional .RunLengthEncoding16 biome_data = 12;</code>
+       * <code>optional .RunLengthEncoding16 block_data = 10;</code>
        */
-      public org.terasology.protobuf.EntityData.RunLengthEncoding16 getBiomeData() {
-        if (biomeDataBuilder_ == null) {
-          return biomeData_;
+      public org.terasology.protobuf.EntityData.RunLengthEncoding16 getBlockData() {
+        if (blockDataBuilder_ == null) {
+          return blockData_;
         } else {
-          return biomeDataBuilder_.getMessage();
+          return blockDataBuilder_.getMessage();
         }
       }
       /**
-       * <code>optional .RunLengthEncoding16 biome_data = 12;</code>
+       * <code>optional .RunLengthEncoding16 block_data = 10;</code>
        */
-      public Builder setBiomeData(org.terasology.protobuf.EntityData.RunLengthEncoding16 value) {
-        if (biomeDataBuilder_ == null) {
+      public Builder setBlockData(org.terasology.protobuf.EntityData.RunLengthEncoding16 value) {
+        if (blockDataBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          biomeData_ = value;
+          blockData_ = value;
           onChanged();
         } else {
-          biomeDataBuilder_.setMessage(value);
+          blockDataBuilder_.setMessage(value);
         }
         bitField0_ |= 0x00000800;
         return this;
       }
       /**
-       * <code>optional .RunLengthEncoding16 biome_data = 12;</code>
+       * <code>optional .RunLengthEncoding16 block_data = 10;</code>
        */
-      public Builder setBiomeData(
+      public Builder setBlockData(
           org.terasology.protobuf.EntityData.RunLengthEncoding16.Builder builderForValue) {
-        if (biomeDataBuilder_ == null) {
-          biomeData_ = builderForValue.build();
+        if (blockDataBuilder_ == null) {
+          blockData_ = builderForValue.build();
           onChanged();
         } else {
-          biomeDataBuilder_.setMessage(builderForValue.build());
+          blockDataBuilder_.setMessage(builderForValue.build());
         }
         bitField0_ |= 0x00000800;
         return this;
       }
       /**
-       * <code>optional .RunLengthEncoding16 biome_data = 12;</code>
+       * <code>optional .RunLengthEncoding16 block_data = 10;</code>
        */
-      public Builder mergeBiomeData(org.terasology.protobuf.EntityData.RunLengthEncoding16 value) {
-        if (biomeDataBuilder_ == null) {
+      public Builder mergeBlockData(org.terasology.protobuf.EntityData.RunLengthEncoding16 value) {
+        if (blockDataBuilder_ == null) {
           if (((bitField0_ & 0x00000800) == 0x00000800) &&
-              biomeData_ != org.terasology.protobuf.EntityData.RunLengthEncoding16.getDefaultInstance()) {
-            biomeData_ =
-              org.terasology.protobuf.EntityData.RunLengthEncoding16.newBuilder(biomeData_).mergeFrom(value).buildPartial();
+              blockData_ != org.terasology.protobuf.EntityData.RunLengthEncoding16.getDefaultInstance()) {
+            blockData_ =
+              org.terasology.protobuf.EntityData.RunLengthEncoding16.newBuilder(blockData_).mergeFrom(value).buildPartial();
           } else {
-            biomeData_ = value;
+            blockData_ = value;
           }
           onChanged();
         } else {
-          biomeDataBuilder_.mergeFrom(value);
+          blockDataBuilder_.mergeFrom(value);
         }
         bitField0_ |= 0x00000800;
         return this;
       }
       /**
-       * <code>optional .RunLengthEncoding16 biome_data = 12;</code>
+       * <code>optional .RunLengthEncoding16 block_data = 10;</code>
        */
-      public Builder clearBiomeData() {
-        if (biomeDataBuilder_ == null) {
-          biomeData_ = org.terasology.protobuf.EntityData.RunLengthEncoding16.getDefaultInstance();
+      public Builder clearBlockData() {
+        if (blockDataBuilder_ == null) {
+          blockData_ = org.terasology.protobuf.EntityData.RunLengthEncoding16.getDefaultInstance();
           onChanged();
         } else {
-          biomeDataBuilder_.clear();
+          blockDataBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000800);
         return this;
       }
       /**
-       * <code>optional .RunLengthEncoding16 biome_data = 12;</code>
+       * <code>optional .RunLengthEncoding16 block_data = 10;</code>
        */
-      public org.terasology.protobuf.EntityData.RunLengthEncoding16.Builder getBiomeDataBuilder() {
+      public org.terasology.protobuf.EntityData.RunLengthEncoding16.Builder getBlockDataBuilder() {
         bitField0_ |= 0x00000800;
         onChanged();
-        return getBiomeDataFieldBuilder().getBuilder();
+        return getBlockDataFieldBuilder().getBuilder();
       }
       /**
-       * <code>optional .RunLengthEncoding16 biome_data = 12;</code>
+       * <code>optional .RunLengthEncoding16 block_data = 10;</code>
        */
-      public org.terasology.protobuf.EntityData.RunLengthEncoding16OrBuilder getBiomeDataOrBuilder() {
-        if (biomeDataBuilder_ != null) {
-          return biomeDataBuilder_.getMessageOrBuilder();
+      public org.terasology.protobuf.EntityData.RunLengthEncoding16OrBuilder getBlockDataOrBuilder() {
+        if (blockDataBuilder_ != null) {
+          return blockDataBuilder_.getMessageOrBuilder();
         } else {
-          return biomeData_;
+          return blockData_;
         }
       }
       /**
-       * <code>optional .RunLengthEncoding16 biome_data = 12;</code>
+       * <code>optional .RunLengthEncoding16 block_data = 10;</code>
        */
       private com.google.protobuf.SingleFieldBuilder<
           org.terasology.protobuf.EntityData.RunLengthEncoding16, org.terasology.protobuf.EntityData.RunLengthEncoding16.Builder, org.terasology.protobuf.EntityData.RunLengthEncoding16OrBuilder> 
-          getBiomeDataFieldBuilder() {
-        if (biomeDataBuilder_ == null) {
-          biomeDataBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+          getBlockDataFieldBuilder() {
+        if (blockDataBuilder_ == null) {
+          blockDataBuilder_ = new com.google.protobuf.SingleFieldBuilder<
               org.terasology.protobuf.EntityData.RunLengthEncoding16, org.terasology.protobuf.EntityData.RunLengthEncoding16.Builder, org.terasology.protobuf.EntityData.RunLengthEncoding16OrBuilder>(
-                  getBiomeData(),
+                  getBlockData(),
                   getParentForChildren(),
                   isClean());
-          biomeData_ = null;
+          blockData_ = null;
         }
-        return biomeDataBuilder_;
+        return blockDataBuilder_;
       }
 
       private java.util.List<org.terasology.protobuf.EntityData.RunLengthEncoding16> extraData_ =
@@ -14039,59 +14124,175 @@ public org.terasology.protobuf.EntityData.RunLengthEncoding16.Builder addExtraDa
         return extraDataBuilder_;
       }
 
-      // @@protoc_insertion_point(builder_scope:ChunkStore)
-    }
-
-    static {
-      defaultInstance = new ChunkStore(true);
-      defaultInstance.initFields();
-    }
-
-    // @@protoc_insertion_point(class_scope:ChunkStore)
-  }
-
-  public interface RunLengthEncoding16OrBuilder extends
-      // @@protoc_insertion_point(interface_extends:RunLengthEncoding16)
-      com.google.protobuf.GeneratedMessage.
-          ExtendableMessageOrBuilder<RunLengthEncoding16> {
-
-    /**
-     * <code>repeated sint32 runLengths = 1 [packed = true];</code>
-     */
-    java.util.List<java.lang.Integer> getRunLengthsList();
-    /**
-     * <code>repeated sint32 runLengths = 1 [packed = true];</code>
-     */
-    int getRunLengthsCount();
-    /**
-     * <code>repeated sint32 runLengths = 1 [packed = true];</code>
-     */
-    int getRunLengths(int index);
-
-    /**
-     * <code>repeated sint32 values = 2 [packed = true];</code>
-     */
-    java.util.List<java.lang.Integer> getValuesList();
-    /**
-     * <code>repeated sint32 values = 2 [packed = true];</code>
-     */
-    int getValuesCount();
-    /**
-     * <code>repeated sint32 values = 2 [packed = true];</code>
-     */
-    int getValues(int index);
-  }
-  /**
-   * Protobuf type {@code RunLengthEncoding16}
-   */
-  public static final class RunLengthEncoding16 extends
-      com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        RunLengthEncoding16> implements
-      // @@protoc_insertion_point(message_implements:RunLengthEncoding16)
-      RunLengthEncoding16OrBuilder {
-    // Use RunLengthEncoding16.newBuilder() to construct.
-    private RunLengthEncoding16(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.EntityData.RunLengthEncoding16, ?> builder) {
-      super(builder);
+      private org.terasology.protobuf.EntityData.PaletteEncoding16 blockPalette_ = org.terasology.protobuf.EntityData.PaletteEncoding16.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.terasology.protobuf.EntityData.PaletteEncoding16, org.terasology.protobuf.EntityData.PaletteEncoding16.Builder, org.terasology.protobuf.EntityData.PaletteEncoding16OrBuilder> blockPaletteBuilder_;
+      /**
+       * <code>optional .PaletteEncoding16 block_palette = 14;</code>
+       */
+      public boolean hasBlockPalette() {
+        return ((bitField0_ & 0x00002000) == 0x00002000);
+      }
+      /**
+       * <code>optional .PaletteEncoding16 block_palette = 14;</code>
+       */
+      public org.terasology.protobuf.EntityData.PaletteEncoding16 getBlockPalette() {
+        if (blockPaletteBuilder_ == null) {
+          return blockPalette_;
+        } else {
+          return blockPaletteBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .PaletteEncoding16 block_palette = 14;</code>
+       */
+      public Builder setBlockPalette(org.terasology.protobuf.EntityData.PaletteEncoding16 value) {
+        if (blockPaletteBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          blockPalette_ = value;
+          onChanged();
+        } else {
+          blockPaletteBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00002000;
+        return this;
+      }
+      /**
+       * <code>optional .PaletteEncoding16 block_palette = 14;</code>
+       */
+      public Builder setBlockPalette(
+          org.terasology.protobuf.EntityData.PaletteEncoding16.Builder builderForValue) {
+        if (blockPaletteBuilder_ == null) {
+          blockPalette_ = builderForValue.build();
+          onChanged();
+        } else {
+          blockPaletteBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00002000;
+        return this;
+      }
+      /**
+       * <code>optional .PaletteEncoding16 block_palette = 14;</code>
+       */
+      public Builder mergeBlockPalette(org.terasology.protobuf.EntityData.PaletteEncoding16 value) {
+        if (blockPaletteBuilder_ == null) {
+          if (((bitField0_ & 0x00002000) == 0x00002000) &&
+              blockPalette_ != org.terasology.protobuf.EntityData.PaletteEncoding16.getDefaultInstance()) {
+            blockPalette_ =
+              org.terasology.protobuf.EntityData.PaletteEncoding16.newBuilder(blockPalette_).mergeFrom(value).buildPartial();
+          } else {
+            blockPalette_ = value;
+          }
+          onChanged();
+        } else {
+          blockPaletteBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00002000;
+        return this;
+      }
+      /**
+       * <code>optional .PaletteEncoding16 block_palette = 14;</code>
+       */
+      public Builder clearBlockPalette() {
+        if (blockPaletteBuilder_ == null) {
+          blockPalette_ = org.terasology.protobuf.EntityData.PaletteEncoding16.getDefaultInstance();
+          onChanged();
+        } else {
+          blockPaletteBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00002000);
+        return this;
+      }
+      /**
+       * <code>optional .PaletteEncoding16 block_palette = 14;</code>
+       */
+      public org.terasology.protobuf.EntityData.PaletteEncoding16.Builder getBlockPaletteBuilder() {
+        bitField0_ |= 0x00002000;
+        onChanged();
+        return getBlockPaletteFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .PaletteEncoding16 block_palette = 14;</code>
+       */
+      public org.terasology.protobuf.EntityData.PaletteEncoding16OrBuilder getBlockPaletteOrBuilder() {
+        if (blockPaletteBuilder_ != null) {
+          return blockPaletteBuilder_.getMessageOrBuilder();
+        } else {
+          return blockPalette_;
+        }
+      }
+      /**
+       * <code>optional .PaletteEncoding16 block_palette = 14;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.terasology.protobuf.EntityData.PaletteEncoding16, org.terasology.protobuf.EntityData.PaletteEncoding16.Builder, org.terasology.protobuf.EntityData.PaletteEncoding16OrBuilder> 
+          getBlockPaletteFieldBuilder() {
+        if (blockPaletteBuilder_ == null) {
+          blockPaletteBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.terasology.protobuf.EntityData.PaletteEncoding16, org.terasology.protobuf.EntityData.PaletteEncoding16.Builder, org.terasology.protobuf.EntityData.PaletteEncoding16OrBuilder>(
+                  getBlockPalette(),
+                  getParentForChildren(),
+                  isClean());
+          blockPalette_ = null;
+        }
+        return blockPaletteBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ChunkStore)
+    }
+
+    static {
+      defaultInstance = new ChunkStore(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:ChunkStore)
+  }
+
+  public interface RunLengthEncoding16OrBuilder extends
+      // @@protoc_insertion_point(interface_extends:RunLengthEncoding16)
+      com.google.protobuf.GeneratedMessage.
+          ExtendableMessageOrBuilder<RunLengthEncoding16> {
+
+    /**
+     * <code>repeated sint32 runLengths = 1 [packed = true];</code>
+     */
+    java.util.List<java.lang.Integer> getRunLengthsList();
+    /**
+     * <code>repeated sint32 runLengths = 1 [packed = true];</code>
+     */
+    int getRunLengthsCount();
+    /**
+     * <code>repeated sint32 runLengths = 1 [packed = true];</code>
+     */
+    int getRunLengths(int index);
+
+    /**
+     * <code>repeated sint32 values = 2 [packed = true];</code>
+     */
+    java.util.List<java.lang.Integer> getValuesList();
+    /**
+     * <code>repeated sint32 values = 2 [packed = true];</code>
+     */
+    int getValuesCount();
+    /**
+     * <code>repeated sint32 values = 2 [packed = true];</code>
+     */
+    int getValues(int index);
+  }
+  /**
+   * Protobuf type {@code RunLengthEncoding16}
+   */
+  public static final class RunLengthEncoding16 extends
+      com.google.protobuf.GeneratedMessage.ExtendableMessage<
+        RunLengthEncoding16> implements
+      // @@protoc_insertion_point(message_implements:RunLengthEncoding16)
+      RunLengthEncoding16OrBuilder {
+    // Use RunLengthEncoding16.newBuilder() to construct.
+    private RunLengthEncoding16(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.EntityData.RunLengthEncoding16, ?> builder) {
+      super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
     private RunLengthEncoding16(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
@@ -14160,22 +14361,683 @@ private RunLengthEncoding16(
                 values_ = new java.util.ArrayList<java.lang.Integer>();
                 mutable_bitField0_ |= 0x00000002;
               }
-              values_.add(input.readSInt32());
+              values_.add(input.readSInt32());
+              break;
+            }
+            case 18: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002) && input.getBytesUntilLimit() > 0) {
+                values_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                values_.add(input.readSInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          runLengths_ = java.util.Collections.unmodifiableList(runLengths_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          values_ = java.util.Collections.unmodifiableList(values_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.terasology.protobuf.EntityData.internal_static_RunLengthEncoding16_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.terasology.protobuf.EntityData.internal_static_RunLengthEncoding16_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.terasology.protobuf.EntityData.RunLengthEncoding16.class, org.terasology.protobuf.EntityData.RunLengthEncoding16.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<RunLengthEncoding16> PARSER =
+        new com.google.protobuf.AbstractParser<RunLengthEncoding16>() {
+      public RunLengthEncoding16 parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RunLengthEncoding16(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RunLengthEncoding16> getParserForType() {
+      return PARSER;
+    }
+
+    public static final int RUNLENGTHS_FIELD_NUMBER = 1;
+    private java.util.List<java.lang.Integer> runLengths_;
+    /**
+     * <code>repeated sint32 runLengths = 1 [packed = true];</code>
+     */
+    public java.util.List<java.lang.Integer>
+        getRunLengthsList() {
+      return runLengths_;
+    }
+    /**
+     * <code>repeated sint32 runLengths = 1 [packed = true];</code>
+     */
+    public int getRunLengthsCount() {
+      return runLengths_.size();
+    }
+    /**
+     * <code>repeated sint32 runLengths = 1 [packed = true];</code>
+     */
+    public int getRunLengths(int index) {
+      return runLengths_.get(index);
+    }
+    private int runLengthsMemoizedSerializedSize = -1;
+
+    public static final int VALUES_FIELD_NUMBER = 2;
+    private java.util.List<java.lang.Integer> values_;
+    /**
+     * <code>repeated sint32 values = 2 [packed = true];</code>
+     */
+    public java.util.List<java.lang.Integer>
+        getValuesList() {
+      return values_;
+    }
+    /**
+     * <code>repeated sint32 values = 2 [packed = true];</code>
+     */
+    public int getValuesCount() {
+      return values_.size();
+    }
+    /**
+     * <code>repeated sint32 values = 2 [packed = true];</code>
+     */
+    public int getValues(int index) {
+      return values_.get(index);
+    }
+    private int valuesMemoizedSerializedSize = -1;
+
+    private void initFields() {
+      runLengths_ = java.util.Collections.emptyList();
+      values_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!extensionsAreInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      com.google.protobuf.GeneratedMessage
+        .ExtendableMessage<org.terasology.protobuf.EntityData.RunLengthEncoding16>.ExtensionWriter extensionWriter =
+          newExtensionWriter();
+      if (getRunLengthsList().size() > 0) {
+        output.writeRawVarint32(10);
+        output.writeRawVarint32(runLengthsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < runLengths_.size(); i++) {
+        output.writeSInt32NoTag(runLengths_.get(i));
+      }
+      if (getValuesList().size() > 0) {
+        output.writeRawVarint32(18);
+        output.writeRawVarint32(valuesMemoizedSerializedSize);
+      }
+      for (int i = 0; i < values_.size(); i++) {
+        output.writeSInt32NoTag(values_.get(i));
+      }
+      extensionWriter.writeUntil(536870912, output);
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < runLengths_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeSInt32SizeNoTag(runLengths_.get(i));
+        }
+        size += dataSize;
+        if (!getRunLengthsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        runLengthsMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < values_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeSInt32SizeNoTag(values_.get(i));
+        }
+        size += dataSize;
+        if (!getValuesList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        valuesMemoizedSerializedSize = dataSize;
+      }
+      size += extensionsSerializedSize();
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.terasology.protobuf.EntityData.RunLengthEncoding16 parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.terasology.protobuf.EntityData.RunLengthEncoding16 parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.terasology.protobuf.EntityData.RunLengthEncoding16 parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.terasology.protobuf.EntityData.RunLengthEncoding16 parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.terasology.protobuf.EntityData.RunLengthEncoding16 parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.terasology.protobuf.EntityData.RunLengthEncoding16 parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.terasology.protobuf.EntityData.RunLengthEncoding16 parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.terasology.protobuf.EntityData.RunLengthEncoding16 parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.terasology.protobuf.EntityData.RunLengthEncoding16 parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.terasology.protobuf.EntityData.RunLengthEncoding16 parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.terasology.protobuf.EntityData.RunLengthEncoding16 prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code RunLengthEncoding16}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.ExtendableBuilder<
+          org.terasology.protobuf.EntityData.RunLengthEncoding16, Builder> implements
+        // @@protoc_insertion_point(builder_implements:RunLengthEncoding16)
+        org.terasology.protobuf.EntityData.RunLengthEncoding16OrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.terasology.protobuf.EntityData.internal_static_RunLengthEncoding16_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.terasology.protobuf.EntityData.internal_static_RunLengthEncoding16_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.terasology.protobuf.EntityData.RunLengthEncoding16.class, org.terasology.protobuf.EntityData.RunLengthEncoding16.Builder.class);
+      }
+
+      // Construct using org.terasology.protobuf.EntityData.RunLengthEncoding16.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        runLengths_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        values_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.terasology.protobuf.EntityData.internal_static_RunLengthEncoding16_descriptor;
+      }
+
+      public org.terasology.protobuf.EntityData.RunLengthEncoding16 getDefaultInstanceForType() {
+        return org.terasology.protobuf.EntityData.RunLengthEncoding16.getDefaultInstance();
+      }
+
+      public org.terasology.protobuf.EntityData.RunLengthEncoding16 build() {
+        org.terasology.protobuf.EntityData.RunLengthEncoding16 result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.terasology.protobuf.EntityData.RunLengthEncoding16 buildPartial() {
+        org.terasology.protobuf.EntityData.RunLengthEncoding16 result = new org.terasology.protobuf.EntityData.RunLengthEncoding16(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          runLengths_ = java.util.Collections.unmodifiableList(runLengths_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.runLengths_ = runLengths_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          values_ = java.util.Collections.unmodifiableList(values_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.values_ = values_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.terasology.protobuf.EntityData.RunLengthEncoding16) {
+          return mergeFrom((org.terasology.protobuf.EntityData.RunLengthEncoding16)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.terasology.protobuf.EntityData.RunLengthEncoding16 other) {
+        if (other == org.terasology.protobuf.EntityData.RunLengthEncoding16.getDefaultInstance()) return this;
+        if (!other.runLengths_.isEmpty()) {
+          if (runLengths_.isEmpty()) {
+            runLengths_ = other.runLengths_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureRunLengthsIsMutable();
+            runLengths_.addAll(other.runLengths_);
+          }
+          onChanged();
+        }
+        if (!other.values_.isEmpty()) {
+          if (values_.isEmpty()) {
+            values_ = other.values_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureValuesIsMutable();
+            values_.addAll(other.values_);
+          }
+          onChanged();
+        }
+        this.mergeExtensionFields(other);
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!extensionsAreInitialized()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.terasology.protobuf.EntityData.RunLengthEncoding16 parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.terasology.protobuf.EntityData.RunLengthEncoding16) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<java.lang.Integer> runLengths_ = java.util.Collections.emptyList();
+      private void ensureRunLengthsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          runLengths_ = new java.util.ArrayList<java.lang.Integer>(runLengths_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated sint32 runLengths = 1 [packed = true];</code>
+       */
+      public java.util.List<java.lang.Integer>
+          getRunLengthsList() {
+        return java.util.Collections.unmodifiableList(runLengths_);
+      }
+      /**
+       * <code>repeated sint32 runLengths = 1 [packed = true];</code>
+       */
+      public int getRunLengthsCount() {
+        return runLengths_.size();
+      }
+      /**
+       * <code>repeated sint32 runLengths = 1 [packed = true];</code>
+       */
+      public int getRunLengths(int index) {
+        return runLengths_.get(index);
+      }
+      /**
+       * <code>repeated sint32 runLengths = 1 [packed = true];</code>
+       */
+      public Builder setRunLengths(
+          int index, int value) {
+        ensureRunLengthsIsMutable();
+        runLengths_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint32 runLengths = 1 [packed = true];</code>
+       */
+      public Builder addRunLengths(int value) {
+        ensureRunLengthsIsMutable();
+        runLengths_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint32 runLengths = 1 [packed = true];</code>
+       */
+      public Builder addAllRunLengths(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureRunLengthsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, runLengths_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint32 runLengths = 1 [packed = true];</code>
+       */
+      public Builder clearRunLengths() {
+        runLengths_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<java.lang.Integer> values_ = java.util.Collections.emptyList();
+      private void ensureValuesIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          values_ = new java.util.ArrayList<java.lang.Integer>(values_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated sint32 values = 2 [packed = true];</code>
+       */
+      public java.util.List<java.lang.Integer>
+          getValuesList() {
+        return java.util.Collections.unmodifiableList(values_);
+      }
+      /**
+       * <code>repeated sint32 values = 2 [packed = true];</code>
+       */
+      public int getValuesCount() {
+        return values_.size();
+      }
+      /**
+       * <code>repeated sint32 values = 2 [packed = true];</code>
+       */
+      public int getValues(int index) {
+        return values_.get(index);
+      }
+      /**
+       * <code>repeated sint32 values = 2 [packed = true];</code>
+       */
+      public Builder setValues(
+          int index, int value) {
+        ensureValuesIsMutable();
+        values_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint32 values = 2 [packed = true];</code>
+       */
+      public Builder addValues(int value) {
+        ensureValuesIsMutable();
+        values_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint32 values = 2 [packed = true];</code>
+       */
+      public Builder addAllValues(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureValuesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, values_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint32 values = 2 [packed = true];</code>
+       */
+      public Builder clearValues() {
+        values_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:RunLengthEncoding16)
+    }
+
+    static {
+      defaultInstance = new RunLengthEncoding16(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:RunLengthEncoding16)
+  }
+
+  public interface PaletteEncoding16OrBuilder extends
+      // @@protoc_insertion_point(interface_extends:PaletteEncoding16)
+      com.google.protobuf.GeneratedMessage.
+          ExtendableMessageOrBuilder<PaletteEncoding16> {
+
+    /**
+     * <code>repeated sint32 palette = 1 [packed = true];</code>
+     */
+    java.util.List<java.lang.Integer> getPaletteList();
+    /**
+     * <code>repeated sint32 palette = 1 [packed = true];</code>
+     */
+    int getPaletteCount();
+    /**
+     * <code>repeated sint32 palette = 1 [packed = true];</code>
+     */
+    int getPalette(int index);
+
+    /**
+     * <code>optional int32 bits_per_entry = 2;</code>
+     */
+    boolean hasBitsPerEntry();
+    /**
+     * <code>optional int32 bits_per_entry = 2;</code>
+     */
+    int getBitsPerEntry();
+
+    /**
+     * <code>optional bytes packed_indices = 3;</code>
+     */
+    boolean hasPackedIndices();
+    /**
+     * <code>optional bytes packed_indices = 3;</code>
+     */
+    com.google.protobuf.ByteString getPackedIndices();
+  }
+  /**
+   * Protobuf type {@code PaletteEncoding16}
+   *
+   * <pre>
+   * The palette and little endian packed indices of a TeraPaletteArray
+   * </pre>
+   */
+  public static final class PaletteEncoding16 extends
+      com.google.protobuf.GeneratedMessage.ExtendableMessage<
+        PaletteEncoding16> implements
+      // @@protoc_insertion_point(message_implements:PaletteEncoding16)
+      PaletteEncoding16OrBuilder {
+    // Use PaletteEncoding16.newBuilder() to construct.
+    private PaletteEncoding16(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.EntityData.PaletteEncoding16, ?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private PaletteEncoding16(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final PaletteEncoding16 defaultInstance;
+    public static PaletteEncoding16 getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public PaletteEncoding16 getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private PaletteEncoding16(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                palette_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              palette_.add(input.readSInt32());
               break;
             }
-            case 18: {
+            case 10: {
               int length = input.readRawVarint32();
               int limit = input.pushLimit(length);
-              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002) && input.getBytesUntilLimit() > 0) {
-                values_ = new java.util.ArrayList<java.lang.Integer>();
-                mutable_bitField0_ |= 0x00000002;
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001) && input.getBytesUntilLimit() > 0) {
+                palette_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000001;
               }
               while (input.getBytesUntilLimit() > 0) {
-                values_.add(input.readSInt32());
+                palette_.add(input.readSInt32());
               }
               input.popLimit(limit);
               break;
             }
+            case 16: {
+              bitField0_ |= 0x00000001;
+              bitsPerEntry_ = input.readInt32();
+              break;
+            }
+            case 26: {
+              bitField0_ |= 0x00000002;
+              packedIndices_ = input.readBytes();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -14185,10 +15047,7 @@ private RunLengthEncoding16(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
         if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-          runLengths_ = java.util.Collections.unmodifiableList(runLengths_);
-        }
-        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-          values_ = java.util.Collections.unmodifiableList(values_);
+          palette_ = java.util.Collections.unmodifiableList(palette_);
         }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
@@ -14196,80 +15055,89 @@ private RunLengthEncoding16(
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.terasology.protobuf.EntityData.internal_static_RunLengthEncoding16_descriptor;
+      return org.terasology.protobuf.EntityData.internal_static_PaletteEncoding16_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.terasology.protobuf.EntityData.internal_static_RunLengthEncoding16_fieldAccessorTable
+      return org.terasology.protobuf.EntityData.internal_static_PaletteEncoding16_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.terasology.protobuf.EntityData.RunLengthEncoding16.class, org.terasology.protobuf.EntityData.RunLengthEncoding16.Builder.class);
+              org.terasology.protobuf.EntityData.PaletteEncoding16.class, org.terasology.protobuf.EntityData.PaletteEncoding16.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<RunLengthEncoding16> PARSER =
-        new com.google.protobuf.AbstractParser<RunLengthEncoding16>() {
-      public RunLengthEncoding16 parsePartialFrom(
+    public static com.google.protobuf.Parser<PaletteEncoding16> PARSER =
+        new com.google.protobuf.AbstractParser<PaletteEncoding16>() {
+      public PaletteEncoding16 parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new RunLengthEncoding16(input, extensionRegistry);
+        return new PaletteEncoding16(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<RunLengthEncoding16> getParserForType() {
+    public com.google.protobuf.Parser<PaletteEncoding16> getParserForType() {
       return PARSER;
     }
 
-    public static final int RUNLENGTHS_FIELD_NUMBER = 1;
-    private java.util.List<java.lang.Integer> runLengths_;
+    private int bitField0_;
+    public static final int PALETTE_FIELD_NUMBER = 1;
+    private java.util.List<java.lang.Integer> palette_;
     /**
-     * <code>repeated sint32 runLengths = 1 [packed = true];</code>
+     * <code>repeated sint32 palette = 1 [packed = true];</code>
      */
     public java.util.List<java.lang.Integer>
-        getRunLengthsList() {
-      return runLengths_;
+        getPaletteList() {
+      return palette_;
     }
     /**
-     * <code>repeated sint32 runLengths = 1 [packed = true];</code>
+     * <code>repeated sint32 palette = 1 [packed = true];</code>
      */
-    public int getRunLengthsCount() {
-      return runLengths_.size();
+    public int getPaletteCount() {
+      return palette_.size();
     }
     /**
-     * <code>repeated sint32 runLengths = 1 [packed = true];</code>
+     * <code>repeated sint32 palette = 1 [packed = true];</code>
      */
-    public int getRunLengths(int index) {
-      return runLengths_.get(index);
+    public int getPalette(int index) {
+      return palette_.get(index);
     }
-    private int runLengthsMemoizedSerializedSize = -1;
+    private int paletteMemoizedSerializedSize = -1;
 
-    public static final int VALUES_FIELD_NUMBER = 2;
-    private java.util.List<java.lang.Integer> values_;
+    public static final int BITS_PER_ENTRY_FIELD_NUMBER = 2;
+    private int bitsPerEntry_;
     /**
-     * <code>repeated sint32 values = 2 [packed = true];</code>
+     * <code>optional int32 bits_per_entry = 2;</code>
      */
-    public java.util.List<java.lang.Integer>
-        getValuesList() {
-      return values_;
+    public boolean hasBitsPerEntry() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>repeated sint32 values = 2 [packed = true];</code>
+     * <code>optional int32 bits_per_entry = 2;</code>
      */
-    public int getValuesCount() {
-      return values_.size();
+    public int getBitsPerEntry() {
+      return bitsPerEntry_;
     }
+
+    public static final int PACKED_INDICES_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString packedIndices_;
     /**
-     * <code>repeated sint32 values = 2 [packed = true];</code>
+     * <code>optional bytes packed_indices = 3;</code>
      */
-    public int getValues(int index) {
-      return values_.get(index);
+    public boolean hasPackedIndices() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional bytes packed_indices = 3;</code>
+     */
+    public com.google.protobuf.ByteString getPackedIndices() {
+      return packedIndices_;
     }
-    private int valuesMemoizedSerializedSize = -1;
 
     private void initFields() {
-      runLengths_ = java.util.Collections.emptyList();
-      values_ = java.util.Collections.emptyList();
+      palette_ = java.util.Collections.emptyList();
+      bitsPerEntry_ = 0;
+      packedIndices_ = com.google.protobuf.ByteString.EMPTY;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -14289,21 +15157,20 @@ public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
       com.google.protobuf.GeneratedMessage
-        .ExtendableMessage<org.terasology.protobuf.EntityData.RunLengthEncoding16>.ExtensionWriter extensionWriter =
+        .ExtendableMessage<org.terasology.protobuf.EntityData.PaletteEncoding16>.ExtensionWriter extensionWriter =
           newExtensionWriter();
-      if (getRunLengthsList().size() > 0) {
+      if (getPaletteList().size() > 0) {
         output.writeRawVarint32(10);
-        output.writeRawVarint32(runLengthsMemoizedSerializedSize);
+        output.writeRawVarint32(paletteMemoizedSerializedSize);
       }
-      for (int i = 0; i < runLengths_.size(); i++) {
-        output.writeSInt32NoTag(runLengths_.get(i));
+      for (int i = 0; i < palette_.size(); i++) {
+        output.writeSInt32NoTag(palette_.get(i));
       }
-      if (getValuesList().size() > 0) {
-        output.writeRawVarint32(18);
-        output.writeRawVarint32(valuesMemoizedSerializedSize);
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt32(2, bitsPerEntry_);
       }
-      for (int i = 0; i < values_.size(); i++) {
-        output.writeSInt32NoTag(values_.get(i));
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(3, packedIndices_);
       }
       extensionWriter.writeUntil(536870912, output);
       getUnknownFields().writeTo(output);
@@ -14317,31 +15184,25 @@ public int getSerializedSize() {
       size = 0;
       {
         int dataSize = 0;
-        for (int i = 0; i < runLengths_.size(); i++) {
+        for (int i = 0; i < palette_.size(); i++) {
           dataSize += com.google.protobuf.CodedOutputStream
-            .computeSInt32SizeNoTag(runLengths_.get(i));
+            .computeSInt32SizeNoTag(palette_.get(i));
         }
         size += dataSize;
-        if (!getRunLengthsList().isEmpty()) {
+        if (!getPaletteList().isEmpty()) {
           size += 1;
           size += com.google.protobuf.CodedOutputStream
               .computeInt32SizeNoTag(dataSize);
         }
-        runLengthsMemoizedSerializedSize = dataSize;
+        paletteMemoizedSerializedSize = dataSize;
       }
-      {
-        int dataSize = 0;
-        for (int i = 0; i < values_.size(); i++) {
-          dataSize += com.google.protobuf.CodedOutputStream
-            .computeSInt32SizeNoTag(values_.get(i));
-        }
-        size += dataSize;
-        if (!getValuesList().isEmpty()) {
-          size += 1;
-          size += com.google.protobuf.CodedOutputStream
-              .computeInt32SizeNoTag(dataSize);
-        }
-        valuesMemoizedSerializedSize = dataSize;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, bitsPerEntry_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, packedIndices_);
       }
       size += extensionsSerializedSize();
       size += getUnknownFields().getSerializedSize();
@@ -14356,53 +15217,53 @@ protected java.lang.Object writeReplace()
       return super.writeReplace();
     }
 
-    public static org.terasology.protobuf.EntityData.RunLengthEncoding16 parseFrom(
+    public static org.terasology.protobuf.EntityData.PaletteEncoding16 parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.terasology.protobuf.EntityData.RunLengthEncoding16 parseFrom(
+    public static org.terasology.protobuf.EntityData.PaletteEncoding16 parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.terasology.protobuf.EntityData.RunLengthEncoding16 parseFrom(byte[] data)
+    public static org.terasology.protobuf.EntityData.PaletteEncoding16 parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.terasology.protobuf.EntityData.RunLengthEncoding16 parseFrom(
+    public static org.terasology.protobuf.EntityData.PaletteEncoding16 parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.terasology.protobuf.EntityData.RunLengthEncoding16 parseFrom(java.io.InputStream input)
+    public static org.terasology.protobuf.EntityData.PaletteEncoding16 parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.terasology.protobuf.EntityData.RunLengthEncoding16 parseFrom(
+    public static org.terasology.protobuf.EntityData.PaletteEncoding16 parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.terasology.protobuf.EntityData.RunLengthEncoding16 parseDelimitedFrom(java.io.InputStream input)
+    public static org.terasology.protobuf.EntityData.PaletteEncoding16 parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.terasology.protobuf.EntityData.RunLengthEncoding16 parseDelimitedFrom(
+    public static org.terasology.protobuf.EntityData.PaletteEncoding16 parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.terasology.protobuf.EntityData.RunLengthEncoding16 parseFrom(
+    public static org.terasology.protobuf.EntityData.PaletteEncoding16 parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.terasology.protobuf.EntityData.RunLengthEncoding16 parseFrom(
+    public static org.terasology.protobuf.EntityData.PaletteEncoding16 parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -14411,7 +15272,7 @@ public static org.terasology.protobuf.EntityData.RunLengthEncoding16 parseFrom(
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.terasology.protobuf.EntityData.RunLengthEncoding16 prototype) {
+    public static Builder newBuilder(org.terasology.protobuf.EntityData.PaletteEncoding16 prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -14423,26 +15284,30 @@ protected Builder newBuilderForType(
       return builder;
     }
     /**
-     * Protobuf type {@code RunLengthEncoding16}
+     * Protobuf type {@code PaletteEncoding16}
+     *
+     * <pre>
+     * The palette and little endian packed indices of a TeraPaletteArray
+     * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.EntityData.RunLengthEncoding16, Builder> implements
-        // @@protoc_insertion_point(builder_implements:RunLengthEncoding16)
-        org.terasology.protobuf.EntityData.RunLengthEncoding16OrBuilder {
+          org.terasology.protobuf.EntityData.PaletteEncoding16, Builder> implements
+        // @@protoc_insertion_point(builder_implements:PaletteEncoding16)
+        org.terasology.protobuf.EntityData.PaletteEncoding16OrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.terasology.protobuf.EntityData.internal_static_RunLengthEncoding16_descriptor;
+        return org.terasology.protobuf.EntityData.internal_static_PaletteEncoding16_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.terasology.protobuf.EntityData.internal_static_RunLengthEncoding16_fieldAccessorTable
+        return org.terasology.protobuf.EntityData.internal_static_PaletteEncoding16_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.terasology.protobuf.EntityData.RunLengthEncoding16.class, org.terasology.protobuf.EntityData.RunLengthEncoding16.Builder.class);
+                org.terasology.protobuf.EntityData.PaletteEncoding16.class, org.terasology.protobuf.EntityData.PaletteEncoding16.Builder.class);
       }
 
-      // Construct using org.terasology.protobuf.EntityData.RunLengthEncoding16.newBuilder()
+      // Construct using org.terasology.protobuf.EntityData.PaletteEncoding16.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -14462,10 +15327,12 @@ private static Builder create() {
 
       public Builder clear() {
         super.clear();
-        runLengths_ = java.util.Collections.emptyList();
+        palette_ = java.util.Collections.emptyList();
         bitField0_ = (bitField0_ & ~0x00000001);
-        values_ = java.util.Collections.emptyList();
+        bitsPerEntry_ = 0;
         bitField0_ = (bitField0_ & ~0x00000002);
+        packedIndices_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -14475,68 +15342,69 @@ public Builder clone() {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.terasology.protobuf.EntityData.internal_static_RunLengthEncoding16_descriptor;
+        return org.terasology.protobuf.EntityData.internal_static_PaletteEncoding16_descriptor;
       }
 
-      public org.terasology.protobuf.EntityData.RunLengthEncoding16 getDefaultInstanceForType() {
-        return org.terasology.protobuf.EntityData.RunLengthEncoding16.getDefaultInstance();
+      public org.terasology.protobuf.EntityData.PaletteEncoding16 getDefaultInstanceForType() {
+        return org.terasology.protobuf.EntityData.PaletteEncoding16.getDefaultInstance();
       }
 
-      public org.terasology.protobuf.EntityData.RunLengthEncoding16 build() {
-        org.terasology.protobuf.EntityData.RunLengthEncoding16 result = buildPartial();
+      public org.terasology.protobuf.EntityData.PaletteEncoding16 build() {
+        org.terasology.protobuf.EntityData.PaletteEncoding16 result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.terasology.protobuf.EntityData.RunLengthEncoding16 buildPartial() {
-        org.terasology.protobuf.EntityData.RunLengthEncoding16 result = new org.terasology.protobuf.EntityData.RunLengthEncoding16(this);
+      public org.terasology.protobuf.EntityData.PaletteEncoding16 buildPartial() {
+        org.terasology.protobuf.EntityData.PaletteEncoding16 result = new org.terasology.protobuf.EntityData.PaletteEncoding16(this);
         int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
         if (((bitField0_ & 0x00000001) == 0x00000001)) {
-          runLengths_ = java.util.Collections.unmodifiableList(runLengths_);
+          palette_ = java.util.Collections.unmodifiableList(palette_);
           bitField0_ = (bitField0_ & ~0x00000001);
         }
-        result.runLengths_ = runLengths_;
-        if (((bitField0_ & 0x00000002) == 0x00000002)) {
-          values_ = java.util.Collections.unmodifiableList(values_);
-          bitField0_ = (bitField0_ & ~0x00000002);
+        result.palette_ = palette_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000001;
         }
-        result.values_ = values_;
+        result.bitsPerEntry_ = bitsPerEntry_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.packedIndices_ = packedIndices_;
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.terasology.protobuf.EntityData.RunLengthEncoding16) {
-          return mergeFrom((org.terasology.protobuf.EntityData.RunLengthEncoding16)other);
+        if (other instanceof org.terasology.protobuf.EntityData.PaletteEncoding16) {
+          return mergeFrom((org.terasology.protobuf.EntityData.PaletteEncoding16)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.terasology.protobuf.EntityData.RunLengthEncoding16 other) {
-        if (other == org.terasology.protobuf.EntityData.RunLengthEncoding16.getDefaultInstance()) return this;
-        if (!other.runLengths_.isEmpty()) {
-          if (runLengths_.isEmpty()) {
-            runLengths_ = other.runLengths_;
+      public Builder mergeFrom(org.terasology.protobuf.EntityData.PaletteEncoding16 other) {
+        if (other == org.terasology.protobuf.EntityData.PaletteEncoding16.getDefaultInstance()) return this;
+        if (!other.palette_.isEmpty()) {
+          if (palette_.isEmpty()) {
+            palette_ = other.palette_;
             bitField0_ = (bitField0_ & ~0x00000001);
           } else {
-            ensureRunLengthsIsMutable();
-            runLengths_.addAll(other.runLengths_);
+            ensurePaletteIsMutable();
+            palette_.addAll(other.palette_);
           }
           onChanged();
         }
-        if (!other.values_.isEmpty()) {
-          if (values_.isEmpty()) {
-            values_ = other.values_;
-            bitField0_ = (bitField0_ & ~0x00000002);
-          } else {
-            ensureValuesIsMutable();
-            values_.addAll(other.values_);
-          }
-          onChanged();
+        if (other.hasBitsPerEntry()) {
+          setBitsPerEntry(other.getBitsPerEntry());
+        }
+        if (other.hasPackedIndices()) {
+          setPackedIndices(other.getPackedIndices());
         }
         this.mergeExtensionFields(other);
         this.mergeUnknownFields(other.getUnknownFields());
@@ -14555,11 +15423,11 @@ public Builder mergeFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.terasology.protobuf.EntityData.RunLengthEncoding16 parsedMessage = null;
+        org.terasology.protobuf.EntityData.PaletteEncoding16 parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.terasology.protobuf.EntityData.RunLengthEncoding16) e.getUnfinishedMessage();
+          parsedMessage = (org.terasology.protobuf.EntityData.PaletteEncoding16) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -14570,147 +15438,148 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      private java.util.List<java.lang.Integer> runLengths_ = java.util.Collections.emptyList();
-      private void ensureRunLengthsIsMutable() {
+      private java.util.List<java.lang.Integer> palette_ = java.util.Collections.emptyList();
+      private void ensurePaletteIsMutable() {
         if (!((bitField0_ & 0x00000001) == 0x00000001)) {
-          runLengths_ = new java.util.ArrayList<java.lang.Integer>(runLengths_);
+          palette_ = new java.util.ArrayList<java.lang.Integer>(palette_);
           bitField0_ |= 0x00000001;
          }
       }
       /**
-       * <code>repeated sint32 runLengths = 1 [packed = true];</code>
+       * <code>repeated sint32 palette = 1 [packed = true];</code>
        */
       public java.util.List<java.lang.Integer>
-          getRunLengthsList() {
-        return java.util.Collections.unmodifiableList(runLengths_);
+          getPaletteList() {
+        return java.util.Collections.unmodifiableList(palette_);
       }
       /**
-       * <code>repeated sint32 runLengths = 1 [packed = true];</code>
+       * <code>repeated sint32 palette = 1 [packed = true];</code>
        */
-      public int getRunLengthsCount() {
-        return runLengths_.size();
+      public int getPaletteCount() {
+        return palette_.size();
       }
       /**
-       * <code>repeated sint32 runLengths = 1 [packed = true];</code>
+       * <code>repeated sint32 palette = 1 [packed = true];</code>
        */
-      public int getRunLengths(int index) {
-        return runLengths_.get(index);
+      public int getPalette(int index) {
+        return palette_.get(index);
       }
       /**
-       * <code>repeated sint32 runLengths = 1 [packed = true];</code>
+       * <code>repeated sint32 palette = 1 [packed = true];</code>
        */
-      public Builder setRunLengths(
+      public Builder setPalette(
           int index, int value) {
-        ensureRunLengthsIsMutable();
-        runLengths_.set(index, value);
+        ensurePaletteIsMutable();
+        palette_.set(index, value);
         onChanged();
         return this;
       }
       /**
-       * <code>repeated sint32 runLengths = 1 [packed = true];</code>
+       * <code>repeated sint32 palette = 1 [packed = true];</code>
        */
-      public Builder addRunLengths(int value) {
-        ensureRunLengthsIsMutable();
-        runLengths_.add(value);
+      public Builder addPalette(int value) {
+        ensurePaletteIsMutable();
+        palette_.add(value);
         onChanged();
         return this;
       }
       /**
-       * <code>repeated sint32 runLengths = 1 [packed = true];</code>
+       * <code>repeated sint32 palette = 1 [packed = true];</code>
        */
-      public Builder addAllRunLengths(
+      public Builder addAllPalette(
           java.lang.Iterable<? extends java.lang.Integer> values) {
-        ensureRunLengthsIsMutable();
+        ensurePaletteIsMutable();
         com.google.protobuf.AbstractMessageLite.Builder.addAll(
-            values, runLengths_);
+            values, palette_);
         onChanged();
         return this;
       }
       /**
-       * <code>repeated sint32 runLengths = 1 [packed = true];</code>
+       * <code>repeated sint32 palette = 1 [packed = true];</code>
        */
-      public Builder clearRunLengths() {
-        runLengths_ = java.util.Collections.emptyList();
+      public Builder clearPalette() {
+        palette_ = java.util.Collections.emptyList();
         bitField0_ = (bitField0_ & ~0x00000001);
         onChanged();
         return this;
       }
 
-      private java.util.List<java.lang.Integer> values_ = java.util.Collections.emptyList();
-      private void ensureValuesIsMutable() {
-        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
-          values_ = new java.util.ArrayList<java.lang.Integer>(values_);
-          bitField0_ |= 0x00000002;
-         }
-      }
+      private int bitsPerEntry_ ;
       /**
-       * <code>repeated sint32 values = 2 [packed = true];</code>
+       * <code>optional int32 bits_per_entry = 2;</code>
        */
-      public java.util.List<java.lang.Integer>
-          getValuesList() {
-        return java.util.Collections.unmodifiableList(values_);
+      public boolean hasBitsPerEntry() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>repeated sint32 values = 2 [packed = true];</code>
+       * <code>optional int32 bits_per_entry = 2;</code>
        */
-      public int getValuesCount() {
-        return values_.size();
+      public int getBitsPerEntry() {
+        return bitsPerEntry_;
       }
       /**
-       * <code>repeated sint32 values = 2 [packed = true];</code>
+       * <code>optional int32 bits_per_entry = 2;</code>
        */
-      public int getValues(int index) {
-        return values_.get(index);
+      public Builder setBitsPerEntry(int value) {
+        bitField0_ |= 0x00000002;
+        bitsPerEntry_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated sint32 values = 2 [packed = true];</code>
+       * <code>optional int32 bits_per_entry = 2;</code>
        */
-      public Builder setValues(
-          int index, int value) {
-        ensureValuesIsMutable();
-        values_.set(index, value);
+      public Builder clearBitsPerEntry() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        bitsPerEntry_ = 0;
         onChanged();
         return this;
       }
+
+      private com.google.protobuf.ByteString packedIndices_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>repeated sint32 values = 2 [packed = true];</code>
+       * <code>optional bytes packed_indices = 3;</code>
        */
-      public Builder addValues(int value) {
-        ensureValuesIsMutable();
-        values_.add(value);
-        onChanged();
-        return this;
+      public boolean hasPackedIndices() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>repeated sint32 values = 2 [packed = true];</code>
+       * <code>optional bytes packed_indices = 3;</code>
        */
-      public Builder addAllValues(
-          java.lang.Iterable<? extends java.lang.Integer> values) {
-        ensureValuesIsMutable();
-        com.google.protobuf.AbstractMessageLite.Builder.addAll(
-            values, values_);
+      public com.google.protobuf.ByteString getPackedIndices() {
+        return packedIndices_;
+      }
+      /**
+       * <code>optional bytes packed_indices = 3;</code>
+       */
+      public Builder setPackedIndices(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        packedIndices_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>repeated sint32 values = 2 [packed = true];</code>
+       * <code>optional bytes packed_indices = 3;</code>
        */
-      public Builder clearValues() {
-        values_ = java.util.Collections.emptyList();
-        bitField0_ = (bitField0_ & ~0x00000002);
+      public Builder clearPackedIndices() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        packedIndices_ = getDefaultInstance().getPackedIndices();
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:RunLengthEncoding16)
+      // @@protoc_insertion_point(builder_scope:PaletteEncoding16)
     }
 
     static {
-      defaultInstance = new RunLengthEncoding16(true);
+      defaultInstance = new PaletteEncoding16(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:RunLengthEncoding16)
+    // @@protoc_insertion_point(class_scope:PaletteEncoding16)
   }
 
   public interface RunLengthEncoding8OrBuilder extends
@@ -17107,6 +17976,11 @@ public Builder addPrefabNameBytes(
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_RunLengthEncoding16_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PaletteEncoding16_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_PaletteEncoding16_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_RunLengthEncoding8_descriptor;
   private static
@@ -17161,28 +18035,32 @@ public Builder addPrefabNameBytes(
       "\210\'\020\200\200\200\200\002\"\220\001\n\013PlayerStore\022\033\n\005store\030\001 \001(\0132" +
       "\014.EntityStore\022\025\n\rcharacterPosX\030\017 \001(\002\022\025\n\r" +
       "characterPosY\030\020 \001(\002\022\025\n\rcharacterPosZ\030\021 \001" +
-      "(\002\022\024\n\014hasCharacter\030\022 \001(\010*\t\010\210\'\020\200\200\200\200\002\"\212\003\n\n" +
+      "(\002\022\024\n\014hasCharacter\030\022 \001(\010*\t\010\210\'\020\200\200\200\200\002\"\274\003\n\n" +
       "ChunkStore\022\033\n\005store\030\001 \001(\0132\014.EntityStore\022" +
       "\t\n\001x\030\002 \001(\021\022\t\n\001y\030\003 \001(\021\022\t\n\001z\030\004 \001(\021\022\031\n\021depr" +
       "ecated_data_3\030\005 \001(\005\022\031\n\021deprecated_data_4" +
       "\030\006 \001(\014\022\031\n\021deprecated_data_1\030\007 \001(\014\022\031\n\021dep",
       "recated_data_2\030\010 \001(\014\022\031\n\021deprecated_data_" +
       "5\030\t \001(\014\022.\n\021deprecated_data_6\030\013 \001(\0132\023.Run" +
-      "LengthEncoding8\022(\n\nblock_data\030\n \001(\0132\024.Ru" +
-      "nLengthEncoding16\022(\n\nbiome_data\030\014 \001(\0132\024." +
-      "RunLengthEncoding16\022(\n\nextra_data\030\r \003(\0132" +
-      "\024.RunLengthEncoding16*\t\010\210\'\020\200\200\200\200\002\"L\n\023RunL" +
-      "engthEncoding16\022\026\n\nrunLengths\030\001 \003(\021B\002\020\001\022" +
-      "\022\n\006values\030\002 \003(\021B\002\020\001*\t\010\210\'\020\200\200\200\200\002\"G\n\022RunLen" +
-      "gthEncoding8\022\026\n\nrunLengths\030\001 \003(\021B\002\020\001\022\016\n\006" +
-      "values\030\002 \001(\014*\t\010\210\'\020\200\200\200\200\002\"\260\001\n\013GlobalStore\022",
-      "\027\n\006entity\030\001 \003(\0132\007.Entity\022\027\n\006prefab\030\002 \003(\013" +
-      "2\007.Prefab\022\027\n\017component_class\030\003 \003(\t\022\026\n\016ne" +
-      "xt_entity_id\030\020 \001(\003\022\036\n\022deprecated_data_17" +
-      "\030\021 \003(\003B\002\020\001\022\023\n\013prefab_name\030\022 \003(\t*\t\010\210\'\020\200\200\200" +
-      "\200\002*4\n\tStoreType\022\023\n\017PlayerStoreType\020\001\022\022\n\016" +
-      "ChunkStoreType\020\002B\'\n\027org.terasology.proto" +
-      "bufB\nEntityDataH\001"
+      "LengthEncoding8\022/\n\021deprecated_data_7\030\014 \001" +
+      "(\0132\024.RunLengthEncoding16\022(\n\nblock_data\030\n" +
+      " \001(\0132\024.RunLengthEncoding16\022(\n\nextra_data" +
+      "\030\r \003(\0132\024.RunLengthEncoding16\022)\n\rblock_pa" +
+      "lette\030\016 \001(\0132\022.PaletteEncoding16*\t\010\210\'\020\200\200\200" +
+      "\200\002\"L\n\023RunLengthEncoding16\022\026\n\nrunLengths\030" +
+      "\001 \003(\021B\002\020\001\022\022\n\006values\030\002 \003(\021B\002\020\001*\t\010\210\'\020\200\200\200\200\002" +
+      "\"c\n\021PaletteEncoding16\022\023\n\007palette\030\001 \003(\021B\002",
+      "\020\001\022\026\n\016bits_per_entry\030\002 \001(\005\022\026\n\016packed_ind" +
+      "ices\030\003 \001(\014*\t\010\210\'\020\200\200\200\200\002\"G\n\022RunLengthEncodi" +
+      "ng8\022\026\n\nrunLengths\030\001 \003(\021B\002\020\001\022\016\n\006values\030\002 " +
+      "\001(\014*\t\010\210\'\020\200\200\200\200\002\"\260\001\n\013GlobalStore\022\027\n\006entity" +
+      "\030\001 \003(\0132\007.Entity\022\027\n\006prefab\030\002 \003(\0132\007.Prefab" +
+      "\022\027\n\017component_class\030\003 \003(\t\022\026\n\016next_entity" +
+      "_id\030\020 \001(\003\022\036\n\022deprecated_data_17\030\021 \003(\003B\002\020" +
+      "\001\022\023\n\013prefab_name\030\022 \003(\t*\t\010\210\'\020\200\200\200\200\002*4\n\tSto" +
+      "reType\022\023\n\017PlayerStoreType\020\001\022\022\n\016ChunkStor" +
+      "eType\020\002B\'\n\027org.terasology.protobufB\nEnti",
+      "tyDataH\001"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -17255,21 +18133,27 @@ public com.google.protobuf.ExtensionRegistry assignDescriptors(
     internal_static_ChunkStore_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_ChunkStore_descriptor,
-        new java.lang.String[] { "Store", "X", "Y", "Z", "DeprecatedData3", "DeprecatedData4", "DeprecatedData1", "DeprecatedData2", "DeprecatedData5", "DeprecatedData6", "BlockData", "BiomeData", "ExtraData", });
+        new java.lang.String[] { "Store", "X", "Y", "Z", "DeprecatedData3", "DeprecatedData4", "DeprecatedData1", "DeprecatedData2", "DeprecatedData5", "DeprecatedData6", "DeprecatedData7", "BlockData", "ExtraData", "BlockPalette", });
     internal_static_RunLengthEncoding16_descriptor =
       getDescriptor().getMessageTypes().get(10);
     internal_static_RunLengthEncoding16_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_RunLengthEncoding16_descriptor,
         new java.lang.String[] { "RunLengths", "Values", });
-    internal_static_RunLengthEncoding8_descriptor =
+    internal_static_PaletteEncoding16_descriptor =
       getDescriptor().getMessageTypes().get(11);
+    internal_static_PaletteEncoding16_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_PaletteEncoding16_descriptor,
+        new java.lang.String[] { "Palette", "BitsPerEntry", "PackedIndices", });
+    internal_static_RunLengthEncoding8_descriptor =
+      getDescriptor().getMessageTypes().get(12);
     internal_static_RunLengthEncoding8_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_RunLengthEncoding8_descriptor,
         new java.lang.String[] { "RunLengths", "Values", });
     internal_static_GlobalStore_descriptor =
-      getDescriptor().getMessageTypes().get(12);
+      getDescriptor().getMessageTypes().get(13);
     internal_static_GlobalStore_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_GlobalStore_descriptor,
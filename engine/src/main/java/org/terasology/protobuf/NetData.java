@@ -9,10 +9,10 @@ public static void registerAllExtensions(
       com.google.protobuf.ExtensionRegistry registry) {
   }
   public interface NetMessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:NetMessage)
       com.google.protobuf.GeneratedMessage.
           ExtendableMessageOrBuilder<NetMessage> {
 
-    // repeated .ChunkStore chunkInfo = 2;
     /**
      * <code>repeated .ChunkStore chunkInfo = 2;</code>
      */
@@ -37,7 +37,6 @@ public interface NetMessageOrBuilder extends
     org.terasology.protobuf.EntityData.ChunkStoreOrBuilder getChunkInfoOrBuilder(
         int index);
 
-    // repeated .InvalidateChunkMessage invalidateChunk = 3;
     /**
      * <code>repeated .InvalidateChunkMessage invalidateChunk = 3;</code>
      */
@@ -62,7 +61,6 @@ org.terasology.protobuf.EntityData.ChunkStoreOrBuilder getChunkInfoOrBuilder(
     org.terasology.protobuf.NetData.InvalidateChunkMessageOrBuilder getInvalidateChunkOrBuilder(
         int index);
 
-    // repeated .BlockChangeMessage blockChange = 4;
     /**
      * <code>repeated .BlockChangeMessage blockChange = 4;</code>
      */
@@ -87,7 +85,6 @@ org.terasology.protobuf.NetData.InvalidateChunkMessageOrBuilder getInvalidateChu
     org.terasology.protobuf.NetData.BlockChangeMessageOrBuilder getBlockChangeOrBuilder(
         int index);
 
-    // repeated .CreateEntityMessage createEntity = 5;
     /**
      * <code>repeated .CreateEntityMessage createEntity = 5;</code>
      */
@@ -112,7 +109,6 @@ org.terasology.protobuf.NetData.BlockChangeMessageOrBuilder getBlockChangeOrBuil
     org.terasology.protobuf.NetData.CreateEntityMessageOrBuilder getCreateEntityOrBuilder(
         int index);
 
-    // repeated .RemoveEntityMessage removeEntity = 6;
     /**
      * <code>repeated .RemoveEntityMessage removeEntity = 6;</code>
      */
@@ -137,7 +133,6 @@ org.terasology.protobuf.NetData.CreateEntityMessageOrBuilder getCreateEntityOrBu
     org.terasology.protobuf.NetData.RemoveEntityMessageOrBuilder getRemoveEntityOrBuilder(
         int index);
 
-    // repeated .UpdateEntityMessage updateEntity = 7;
     /**
      * <code>repeated .UpdateEntityMessage updateEntity = 7;</code>
      */
@@ -162,7 +157,6 @@ org.terasology.protobuf.NetData.RemoveEntityMessageOrBuilder getRemoveEntityOrBu
     org.terasology.protobuf.NetData.UpdateEntityMessageOrBuilder getUpdateEntityOrBuilder(
         int index);
 
-    // repeated .EventMessage event = 8;
     /**
      * <code>repeated .EventMessage event = 8;</code>
      */
@@ -187,7 +181,6 @@ org.terasology.protobuf.NetData.UpdateEntityMessageOrBuilder getUpdateEntityOrBu
     org.terasology.protobuf.NetData.EventMessageOrBuilder getEventOrBuilder(
         int index);
 
-    // optional int64 time = 9;
     /**
      * <code>optional int64 time = 9;</code>
      */
@@ -197,32 +190,6 @@ org.terasology.protobuf.NetData.EventMessageOrBuilder getEventOrBuilder(
      */
     long getTime();
 
-    // repeated .BiomeChangeMessage biomeChange = 10;
-    /**
-     * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-     */
-    java.util.List<org.terasology.protobuf.NetData.BiomeChangeMessage> 
-        getBiomeChangeList();
-    /**
-     * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-     */
-    org.terasology.protobuf.NetData.BiomeChangeMessage getBiomeChange(int index);
-    /**
-     * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-     */
-    int getBiomeChangeCount();
-    /**
-     * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-     */
-    java.util.List<? extends org.terasology.protobuf.NetData.BiomeChangeMessageOrBuilder> 
-        getBiomeChangeOrBuilderList();
-    /**
-     * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-     */
-    org.terasology.protobuf.NetData.BiomeChangeMessageOrBuilder getBiomeChangeOrBuilder(
-        int index);
-
-    // repeated .ExtraDataChangeMessage extraDataChange = 11;
     /**
      * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
      */
@@ -247,7 +214,30 @@ org.terasology.protobuf.NetData.BiomeChangeMessageOrBuilder getBiomeChangeOrBuil
     org.terasology.protobuf.NetData.ExtraDataChangeMessageOrBuilder getExtraDataChangeOrBuilder(
         int index);
 
-    // optional .ServerInfoRequest serverInfoRequest = 15;
+    /**
+     * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+     */
+    java.util.List<org.terasology.protobuf.NetData.ChunkBlockDeltaMessage> 
+        getChunkBlockDeltaList();
+    /**
+     * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+     */
+    org.terasology.protobuf.NetData.ChunkBlockDeltaMessage getChunkBlockDelta(int index);
+    /**
+     * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+     */
+    int getChunkBlockDeltaCount();
+    /**
+     * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+     */
+    java.util.List<? extends org.terasology.protobuf.NetData.ChunkBlockDeltaMessageOrBuilder> 
+        getChunkBlockDeltaOrBuilderList();
+    /**
+     * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+     */
+    org.terasology.protobuf.NetData.ChunkBlockDeltaMessageOrBuilder getChunkBlockDeltaOrBuilder(
+        int index);
+
     /**
      * <code>optional .ServerInfoRequest serverInfoRequest = 15;</code>
      */
@@ -261,7 +251,6 @@ org.terasology.protobuf.NetData.ExtraDataChangeMessageOrBuilder getExtraDataChan
      */
     org.terasology.protobuf.NetData.ServerInfoRequestOrBuilder getServerInfoRequestOrBuilder();
 
-    // optional .ServerInfoMessage serverInfo = 16;
     /**
      * <code>optional .ServerInfoMessage serverInfo = 16;</code>
      */
@@ -275,7 +264,6 @@ org.terasology.protobuf.NetData.ExtraDataChangeMessageOrBuilder getExtraDataChan
      */
     org.terasology.protobuf.NetData.ServerInfoMessageOrBuilder getServerInfoOrBuilder();
 
-    // repeated .BlockFamilyRegisteredMessage blockFamilyRegistered = 17;
     /**
      * <code>repeated .BlockFamilyRegisteredMessage blockFamilyRegistered = 17;</code>
      */
@@ -300,7 +288,6 @@ org.terasology.protobuf.NetData.ExtraDataChangeMessageOrBuilder getExtraDataChan
     org.terasology.protobuf.NetData.BlockFamilyRegisteredMessageOrBuilder getBlockFamilyRegisteredOrBuilder(
         int index);
 
-    // optional .JoinMessage join = 18;
     /**
      * <code>optional .JoinMessage join = 18;</code>
      */
@@ -314,7 +301,6 @@ org.terasology.protobuf.NetData.BlockFamilyRegisteredMessageOrBuilder getBlockFa
      */
     org.terasology.protobuf.NetData.JoinMessageOrBuilder getJoinOrBuilder();
 
-    // repeated .ModuleRequest moduleRequest = 19;
     /**
      * <code>repeated .ModuleRequest moduleRequest = 19;</code>
      */
@@ -339,7 +325,6 @@ org.terasology.protobuf.NetData.BlockFamilyRegisteredMessageOrBuilder getBlockFa
     org.terasology.protobuf.NetData.ModuleRequestOrBuilder getModuleRequestOrBuilder(
         int index);
 
-    // optional .ModuleDataHeader moduleDataHeader = 20;
     /**
      * <code>optional .ModuleDataHeader moduleDataHeader = 20;</code>
      */
@@ -353,7 +338,6 @@ org.terasology.protobuf.NetData.ModuleRequestOrBuilder getModuleRequestOrBuilder
      */
     org.terasology.protobuf.NetData.ModuleDataHeaderOrBuilder getModuleDataHeaderOrBuilder();
 
-    // optional .ModuleData moduleData = 21;
     /**
      * <code>optional .ModuleData moduleData = 21;</code>
      */
@@ -367,7 +351,6 @@ org.terasology.protobuf.NetData.ModuleRequestOrBuilder getModuleRequestOrBuilder
      */
     org.terasology.protobuf.NetData.ModuleDataOrBuilder getModuleDataOrBuilder();
 
-    // optional .JoinCompleteMessage joinComplete = 22;
     /**
      * <code>optional .JoinCompleteMessage joinComplete = 22;</code>
      */
@@ -381,7 +364,6 @@ org.terasology.protobuf.NetData.ModuleRequestOrBuilder getModuleRequestOrBuilder
      */
     org.terasology.protobuf.NetData.JoinCompleteMessageOrBuilder getJoinCompleteOrBuilder();
 
-    // optional .HandshakeHello handshakeHello = 100;
     /**
      * <code>optional .HandshakeHello handshakeHello = 100;</code>
      *
@@ -407,7 +389,6 @@ org.terasology.protobuf.NetData.ModuleRequestOrBuilder getModuleRequestOrBuilder
      */
     org.terasology.protobuf.NetData.HandshakeHelloOrBuilder getHandshakeHelloOrBuilder();
 
-    // optional .NewIdentityRequest newIdentityRequest = 101;
     /**
      * <code>optional .NewIdentityRequest newIdentityRequest = 101;</code>
      */
@@ -421,7 +402,6 @@ org.terasology.protobuf.NetData.ModuleRequestOrBuilder getModuleRequestOrBuilder
      */
     org.terasology.protobuf.NetData.NewIdentityRequestOrBuilder getNewIdentityRequestOrBuilder();
 
-    // optional .ProvisionIdentity provisionIdentity = 102;
     /**
      * <code>optional .ProvisionIdentity provisionIdentity = 102;</code>
      */
@@ -435,7 +415,6 @@ org.terasology.protobuf.NetData.ModuleRequestOrBuilder getModuleRequestOrBuilder
      */
     org.terasology.protobuf.NetData.ProvisionIdentityOrBuilder getProvisionIdentityOrBuilder();
 
-    // optional .HandshakeVerification handshakeVerification = 103;
     /**
      * <code>optional .HandshakeVerification handshakeVerification = 103;</code>
      */
@@ -454,7 +433,9 @@ org.terasology.protobuf.NetData.ModuleRequestOrBuilder getModuleRequestOrBuilder
    */
   public static final class NetMessage extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        NetMessage> implements NetMessageOrBuilder {
+        NetMessage> implements
+      // @@protoc_insertion_point(message_implements:NetMessage)
+      NetMessageOrBuilder {
     // Use NetMessage.newBuilder() to construct.
     private NetMessage(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.NetMessage, ?> builder) {
       super(builder);
@@ -561,20 +542,20 @@ private NetMessage(
               time_ = input.readInt64();
               break;
             }
-            case 82: {
+            case 90: {
               if (!((mutable_bitField0_ & 0x00000100) == 0x00000100)) {
-                biomeChange_ = new java.util.ArrayList<org.terasology.protobuf.NetData.BiomeChangeMessage>();
+                extraDataChange_ = new java.util.ArrayList<org.terasology.protobuf.NetData.ExtraDataChangeMessage>();
                 mutable_bitField0_ |= 0x00000100;
               }
-              biomeChange_.add(input.readMessage(org.terasology.protobuf.NetData.BiomeChangeMessage.PARSER, extensionRegistry));
+              extraDataChange_.add(input.readMessage(org.terasology.protobuf.NetData.ExtraDataChangeMessage.PARSER, extensionRegistry));
               break;
             }
-            case 90: {
+            case 98: {
               if (!((mutable_bitField0_ & 0x00000200) == 0x00000200)) {
-                extraDataChange_ = new java.util.ArrayList<org.terasology.protobuf.NetData.ExtraDataChangeMessage>();
+                chunkBlockDelta_ = new java.util.ArrayList<org.terasology.protobuf.NetData.ChunkBlockDeltaMessage>();
                 mutable_bitField0_ |= 0x00000200;
               }
-              extraDataChange_.add(input.readMessage(org.terasology.protobuf.NetData.ExtraDataChangeMessage.PARSER, extensionRegistry));
+              chunkBlockDelta_.add(input.readMessage(org.terasology.protobuf.NetData.ChunkBlockDeltaMessage.PARSER, extensionRegistry));
               break;
             }
             case 122: {
@@ -753,10 +734,10 @@ private NetMessage(
           event_ = java.util.Collections.unmodifiableList(event_);
         }
         if (((mutable_bitField0_ & 0x00000100) == 0x00000100)) {
-          biomeChange_ = java.util.Collections.unmodifiableList(biomeChange_);
+          extraDataChange_ = java.util.Collections.unmodifiableList(extraDataChange_);
         }
         if (((mutable_bitField0_ & 0x00000200) == 0x00000200)) {
-          extraDataChange_ = java.util.Collections.unmodifiableList(extraDataChange_);
+          chunkBlockDelta_ = java.util.Collections.unmodifiableList(chunkBlockDelta_);
         }
         if (((mutable_bitField0_ & 0x00001000) == 0x00001000)) {
           blockFamilyRegistered_ = java.util.Collections.unmodifiableList(blockFamilyRegistered_);
@@ -796,7 +777,6 @@ public com.google.protobuf.Parser<NetMessage> getParserForType() {
     }
 
     private int bitField0_;
-    // repeated .ChunkStore chunkInfo = 2;
     public static final int CHUNKINFO_FIELD_NUMBER = 2;
     private java.util.List<org.terasology.protobuf.EntityData.ChunkStore> chunkInfo_;
     /**
@@ -832,7 +812,6 @@ public org.terasology.protobuf.EntityData.ChunkStoreOrBuilder getChunkInfoOrBuil
       return chunkInfo_.get(index);
     }
 
-    // repeated .InvalidateChunkMessage invalidateChunk = 3;
     public static final int INVALIDATECHUNK_FIELD_NUMBER = 3;
     private java.util.List<org.terasology.protobuf.NetData.InvalidateChunkMessage> invalidateChunk_;
     /**
@@ -868,7 +847,6 @@ public org.terasology.protobuf.NetData.InvalidateChunkMessageOrBuilder getInvali
       return invalidateChunk_.get(index);
     }
 
-    // repeated .BlockChangeMessage blockChange = 4;
     public static final int BLOCKCHANGE_FIELD_NUMBER = 4;
     private java.util.List<org.terasology.protobuf.NetData.BlockChangeMessage> blockChange_;
     /**
@@ -904,7 +882,6 @@ public org.terasology.protobuf.NetData.BlockChangeMessageOrBuilder getBlockChang
       return blockChange_.get(index);
     }
 
-    // repeated .CreateEntityMessage createEntity = 5;
     public static final int CREATEENTITY_FIELD_NUMBER = 5;
     private java.util.List<org.terasology.protobuf.NetData.CreateEntityMessage> createEntity_;
     /**
@@ -940,7 +917,6 @@ public org.terasology.protobuf.NetData.CreateEntityMessageOrBuilder getCreateEnt
       return createEntity_.get(index);
     }
 
-    // repeated .RemoveEntityMessage removeEntity = 6;
     public static final int REMOVEENTITY_FIELD_NUMBER = 6;
     private java.util.List<org.terasology.protobuf.NetData.RemoveEntityMessage> removeEntity_;
     /**
@@ -976,7 +952,6 @@ public org.terasology.protobuf.NetData.RemoveEntityMessageOrBuilder getRemoveEnt
       return removeEntity_.get(index);
     }
 
-    // repeated .UpdateEntityMessage updateEntity = 7;
     public static final int UPDATEENTITY_FIELD_NUMBER = 7;
     private java.util.List<org.terasology.protobuf.NetData.UpdateEntityMessage> updateEntity_;
     /**
@@ -1012,7 +987,6 @@ public org.terasology.protobuf.NetData.UpdateEntityMessageOrBuilder getUpdateEnt
       return updateEntity_.get(index);
     }
 
-    // repeated .EventMessage event = 8;
     public static final int EVENT_FIELD_NUMBER = 8;
     private java.util.List<org.terasology.protobuf.NetData.EventMessage> event_;
     /**
@@ -1048,7 +1022,6 @@ public org.terasology.protobuf.NetData.EventMessageOrBuilder getEventOrBuilder(
       return event_.get(index);
     }
 
-    // optional int64 time = 9;
     public static final int TIME_FIELD_NUMBER = 9;
     private long time_;
     /**
@@ -1064,43 +1037,6 @@ public long getTime() {
       return time_;
     }
 
-    // repeated .BiomeChangeMessage biomeChange = 10;
-    public static final int BIOMECHANGE_FIELD_NUMBER = 10;
-    private java.util.List<org.terasology.protobuf.NetData.BiomeChangeMessage> biomeChange_;
-    /**
-     * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-     */
-    public java.util.List<org.terasology.protobuf.NetData.BiomeChangeMessage> getBiomeChangeList() {
-      return biomeChange_;
-    }
-    /**
-     * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-     */
-    public java.util.List<? extends org.terasology.protobuf.NetData.BiomeChangeMessageOrBuilder> 
-        getBiomeChangeOrBuilderList() {
-      return biomeChange_;
-    }
-    /**
-     * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-     */
-    public int getBiomeChangeCount() {
-      return biomeChange_.size();
-    }
-    /**
-     * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-     */
-    public org.terasology.protobuf.NetData.BiomeChangeMessage getBiomeChange(int index) {
-      return biomeChange_.get(index);
-    }
-    /**
-     * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-     */
-    public org.terasology.protobuf.NetData.BiomeChangeMessageOrBuilder getBiomeChangeOrBuilder(
-        int index) {
-      return biomeChange_.get(index);
-    }
-
-    // repeated .ExtraDataChangeMessage extraDataChange = 11;
     public static final int EXTRADATACHANGE_FIELD_NUMBER = 11;
     private java.util.List<org.terasology.protobuf.NetData.ExtraDataChangeMessage> extraDataChange_;
     /**
@@ -1136,7 +1072,41 @@ public org.terasology.protobuf.NetData.ExtraDataChangeMessageOrBuilder getExtraD
       return extraDataChange_.get(index);
     }
 
-    // optional .ServerInfoRequest serverInfoRequest = 15;
+    public static final int CHUNKBLOCKDELTA_FIELD_NUMBER = 12;
+    private java.util.List<org.terasology.protobuf.NetData.ChunkBlockDeltaMessage> chunkBlockDelta_;
+    /**
+     * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+     */
+    public java.util.List<org.terasology.protobuf.NetData.ChunkBlockDeltaMessage> getChunkBlockDeltaList() {
+      return chunkBlockDelta_;
+    }
+    /**
+     * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+     */
+    public java.util.List<? extends org.terasology.protobuf.NetData.ChunkBlockDeltaMessageOrBuilder> 
+        getChunkBlockDeltaOrBuilderList() {
+      return chunkBlockDelta_;
+    }
+    /**
+     * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+     */
+    public int getChunkBlockDeltaCount() {
+      return chunkBlockDelta_.size();
+    }
+    /**
+     * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+     */
+    public org.terasology.protobuf.NetData.ChunkBlockDeltaMessage getChunkBlockDelta(int index) {
+      return chunkBlockDelta_.get(index);
+    }
+    /**
+     * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+     */
+    public org.terasology.protobuf.NetData.ChunkBlockDeltaMessageOrBuilder getChunkBlockDeltaOrBuilder(
+        int index) {
+      return chunkBlockDelta_.get(index);
+    }
+
     public static final int SERVERINFOREQUEST_FIELD_NUMBER = 15;
     private org.terasology.protobuf.NetData.ServerInfoRequest serverInfoRequest_;
     /**
@@ -1158,7 +1128,6 @@ public org.terasology.protobuf.NetData.ServerInfoRequestOrBuilder getServerInfoR
       return serverInfoRequest_;
     }
 
-    // optional .ServerInfoMessage serverInfo = 16;
     public static final int SERVERINFO_FIELD_NUMBER = 16;
     private org.terasology.protobuf.NetData.ServerInfoMessage serverInfo_;
     /**
@@ -1180,7 +1149,6 @@ public org.terasology.protobuf.NetData.ServerInfoMessageOrBuilder getServerInfoO
       return serverInfo_;
     }
 
-    // repeated .BlockFamilyRegisteredMessage blockFamilyRegistered = 17;
     public static final int BLOCKFAMILYREGISTERED_FIELD_NUMBER = 17;
     private java.util.List<org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage> blockFamilyRegistered_;
     /**
@@ -1216,7 +1184,6 @@ public org.terasology.protobuf.NetData.BlockFamilyRegisteredMessageOrBuilder get
       return blockFamilyRegistered_.get(index);
     }
 
-    // optional .JoinMessage join = 18;
     public static final int JOIN_FIELD_NUMBER = 18;
     private org.terasology.protobuf.NetData.JoinMessage join_;
     /**
@@ -1238,7 +1205,6 @@ public org.terasology.protobuf.NetData.JoinMessageOrBuilder getJoinOrBuilder() {
       return join_;
     }
 
-    // repeated .ModuleRequest moduleRequest = 19;
     public static final int MODULEREQUEST_FIELD_NUMBER = 19;
     private java.util.List<org.terasology.protobuf.NetData.ModuleRequest> moduleRequest_;
     /**
@@ -1274,7 +1240,6 @@ public org.terasology.protobuf.NetData.ModuleRequestOrBuilder getModuleRequestOr
       return moduleRequest_.get(index);
     }
 
-    // optional .ModuleDataHeader moduleDataHeader = 20;
     public static final int MODULEDATAHEADER_FIELD_NUMBER = 20;
     private org.terasology.protobuf.NetData.ModuleDataHeader moduleDataHeader_;
     /**
@@ -1296,7 +1261,6 @@ public org.terasology.protobuf.NetData.ModuleDataHeaderOrBuilder getModuleDataHe
       return moduleDataHeader_;
     }
 
-    // optional .ModuleData moduleData = 21;
     public static final int MODULEDATA_FIELD_NUMBER = 21;
     private org.terasology.protobuf.NetData.ModuleData moduleData_;
     /**
@@ -1318,7 +1282,6 @@ public org.terasology.protobuf.NetData.ModuleDataOrBuilder getModuleDataOrBuilde
       return moduleData_;
     }
 
-    // optional .JoinCompleteMessage joinComplete = 22;
     public static final int JOINCOMPLETE_FIELD_NUMBER = 22;
     private org.terasology.protobuf.NetData.JoinCompleteMessage joinComplete_;
     /**
@@ -1340,7 +1303,6 @@ public org.terasology.protobuf.NetData.JoinCompleteMessageOrBuilder getJoinCompl
       return joinComplete_;
     }
 
-    // optional .HandshakeHello handshakeHello = 100;
     public static final int HANDSHAKEHELLO_FIELD_NUMBER = 100;
     private org.terasology.protobuf.NetData.HandshakeHello handshakeHello_;
     /**
@@ -1374,7 +1336,6 @@ public org.terasology.protobuf.NetData.HandshakeHelloOrBuilder getHandshakeHello
       return handshakeHello_;
     }
 
-    // optional .NewIdentityRequest newIdentityRequest = 101;
     public static final int NEWIDENTITYREQUEST_FIELD_NUMBER = 101;
     private org.terasology.protobuf.NetData.NewIdentityRequest newIdentityRequest_;
     /**
@@ -1396,7 +1357,6 @@ public org.terasology.protobuf.NetData.NewIdentityRequestOrBuilder getNewIdentit
       return newIdentityRequest_;
     }
 
-    // optional .ProvisionIdentity provisionIdentity = 102;
     public static final int PROVISIONIDENTITY_FIELD_NUMBER = 102;
     private org.terasology.protobuf.NetData.ProvisionIdentity provisionIdentity_;
     /**
@@ -1418,7 +1378,6 @@ public org.terasology.protobuf.NetData.ProvisionIdentityOrBuilder getProvisionId
       return provisionIdentity_;
     }
 
-    // optional .HandshakeVerification handshakeVerification = 103;
     public static final int HANDSHAKEVERIFICATION_FIELD_NUMBER = 103;
     private org.terasology.protobuf.NetData.HandshakeVerification handshakeVerification_;
     /**
@@ -1449,8 +1408,8 @@ private void initFields() {
       updateEntity_ = java.util.Collections.emptyList();
       event_ = java.util.Collections.emptyList();
       time_ = 0L;
-      biomeChange_ = java.util.Collections.emptyList();
       extraDataChange_ = java.util.Collections.emptyList();
+      chunkBlockDelta_ = java.util.Collections.emptyList();
       serverInfoRequest_ = org.terasology.protobuf.NetData.ServerInfoRequest.getDefaultInstance();
       serverInfo_ = org.terasology.protobuf.NetData.ServerInfoMessage.getDefaultInstance();
       blockFamilyRegistered_ = java.util.Collections.emptyList();
@@ -1467,7 +1426,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       for (int i = 0; i < getChunkInfoCount(); i++) {
         if (!getChunkInfo(i).isInitialized()) {
@@ -1511,14 +1471,14 @@ public final boolean isInitialized() {
           return false;
         }
       }
-      for (int i = 0; i < getBiomeChangeCount(); i++) {
-        if (!getBiomeChange(i).isInitialized()) {
+      for (int i = 0; i < getExtraDataChangeCount(); i++) {
+        if (!getExtraDataChange(i).isInitialized()) {
           memoizedIsInitialized = 0;
           return false;
         }
       }
-      for (int i = 0; i < getExtraDataChangeCount(); i++) {
-        if (!getExtraDataChange(i).isInitialized()) {
+      for (int i = 0; i < getChunkBlockDeltaCount(); i++) {
+        if (!getChunkBlockDelta(i).isInitialized()) {
           memoizedIsInitialized = 0;
           return false;
         }
@@ -1633,12 +1593,12 @@ public void writeTo(com.google.protobuf.CodedOutputStream output)
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         output.writeInt64(9, time_);
       }
-      for (int i = 0; i < biomeChange_.size(); i++) {
-        output.writeMessage(10, biomeChange_.get(i));
-      }
       for (int i = 0; i < extraDataChange_.size(); i++) {
         output.writeMessage(11, extraDataChange_.get(i));
       }
+      for (int i = 0; i < chunkBlockDelta_.size(); i++) {
+        output.writeMessage(12, chunkBlockDelta_.get(i));
+      }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         output.writeMessage(15, serverInfoRequest_);
       }
@@ -1717,14 +1677,14 @@ public int getSerializedSize() {
         size += com.google.protobuf.CodedOutputStream
           .computeInt64Size(9, time_);
       }
-      for (int i = 0; i < biomeChange_.size(); i++) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(10, biomeChange_.get(i));
-      }
       for (int i = 0; i < extraDataChange_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(11, extraDataChange_.get(i));
       }
+      for (int i = 0; i < chunkBlockDelta_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(12, chunkBlockDelta_.get(i));
+      }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(15, serverInfoRequest_);
@@ -1857,7 +1817,9 @@ protected Builder newBuilderForType(
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.NetMessage, Builder> implements org.terasology.protobuf.NetData.NetMessageOrBuilder {
+          org.terasology.protobuf.NetData.NetMessage, Builder> implements
+        // @@protoc_insertion_point(builder_implements:NetMessage)
+        org.terasology.protobuf.NetData.NetMessageOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_NetMessage_descriptor;
@@ -1889,8 +1851,8 @@ private void maybeForceBuilderInitialization() {
           getRemoveEntityFieldBuilder();
           getUpdateEntityFieldBuilder();
           getEventFieldBuilder();
-          getBiomeChangeFieldBuilder();
           getExtraDataChangeFieldBuilder();
+          getChunkBlockDeltaFieldBuilder();
           getServerInfoRequestFieldBuilder();
           getServerInfoFieldBuilder();
           getBlockFamilyRegisteredFieldBuilder();
@@ -1955,17 +1917,17 @@ public Builder clear() {
         }
         time_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000080);
-        if (biomeChangeBuilder_ == null) {
-          biomeChange_ = java.util.Collections.emptyList();
+        if (extraDataChangeBuilder_ == null) {
+          extraDataChange_ = java.util.Collections.emptyList();
           bitField0_ = (bitField0_ & ~0x00000100);
         } else {
-          biomeChangeBuilder_.clear();
+          extraDataChangeBuilder_.clear();
         }
-        if (extraDataChangeBuilder_ == null) {
-          extraDataChange_ = java.util.Collections.emptyList();
+        if (chunkBlockDeltaBuilder_ == null) {
+          chunkBlockDelta_ = java.util.Collections.emptyList();
           bitField0_ = (bitField0_ & ~0x00000200);
         } else {
-          extraDataChangeBuilder_.clear();
+          chunkBlockDeltaBuilder_.clear();
         }
         if (serverInfoRequestBuilder_ == null) {
           serverInfoRequest_ = org.terasology.protobuf.NetData.ServerInfoRequest.getDefaultInstance();
@@ -2134,23 +2096,23 @@ public org.terasology.protobuf.NetData.NetMessage buildPartial() {
           to_bitField0_ |= 0x00000001;
         }
         result.time_ = time_;
-        if (biomeChangeBuilder_ == null) {
+        if (extraDataChangeBuilder_ == null) {
           if (((bitField0_ & 0x00000100) == 0x00000100)) {
-            biomeChange_ = java.util.Collections.unmodifiableList(biomeChange_);
+            extraDataChange_ = java.util.Collections.unmodifiableList(extraDataChange_);
             bitField0_ = (bitField0_ & ~0x00000100);
           }
-          result.biomeChange_ = biomeChange_;
+          result.extraDataChange_ = extraDataChange_;
         } else {
-          result.biomeChange_ = biomeChangeBuilder_.build();
+          result.extraDataChange_ = extraDataChangeBuilder_.build();
         }
-        if (extraDataChangeBuilder_ == null) {
+        if (chunkBlockDeltaBuilder_ == null) {
           if (((bitField0_ & 0x00000200) == 0x00000200)) {
-            extraDataChange_ = java.util.Collections.unmodifiableList(extraDataChange_);
+            chunkBlockDelta_ = java.util.Collections.unmodifiableList(chunkBlockDelta_);
             bitField0_ = (bitField0_ & ~0x00000200);
           }
-          result.extraDataChange_ = extraDataChange_;
+          result.chunkBlockDelta_ = chunkBlockDelta_;
         } else {
-          result.extraDataChange_ = extraDataChangeBuilder_.build();
+          result.chunkBlockDelta_ = chunkBlockDeltaBuilder_.build();
         }
         if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
           to_bitField0_ |= 0x00000002;
@@ -2451,37 +2413,11 @@ public Builder mergeFrom(org.terasology.protobuf.NetData.NetMessage other) {
         if (other.hasTime()) {
           setTime(other.getTime());
         }
-        if (biomeChangeBuilder_ == null) {
-          if (!other.biomeChange_.isEmpty()) {
-            if (biomeChange_.isEmpty()) {
-              biomeChange_ = other.biomeChange_;
-              bitField0_ = (bitField0_ & ~0x00000100);
-            } else {
-              ensureBiomeChangeIsMutable();
-              biomeChange_.addAll(other.biomeChange_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.biomeChange_.isEmpty()) {
-            if (biomeChangeBuilder_.isEmpty()) {
-              biomeChangeBuilder_.dispose();
-              biomeChangeBuilder_ = null;
-              biomeChange_ = other.biomeChange_;
-              bitField0_ = (bitField0_ & ~0x00000100);
-              biomeChangeBuilder_ = 
-                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
-                   getBiomeChangeFieldBuilder() : null;
-            } else {
-              biomeChangeBuilder_.addAllMessages(other.biomeChange_);
-            }
-          }
-        }
         if (extraDataChangeBuilder_ == null) {
           if (!other.extraDataChange_.isEmpty()) {
             if (extraDataChange_.isEmpty()) {
               extraDataChange_ = other.extraDataChange_;
-              bitField0_ = (bitField0_ & ~0x00000200);
+              bitField0_ = (bitField0_ & ~0x00000100);
             } else {
               ensureExtraDataChangeIsMutable();
               extraDataChange_.addAll(other.extraDataChange_);
@@ -2494,7 +2430,7 @@ public Builder mergeFrom(org.terasology.protobuf.NetData.NetMessage other) {
               extraDataChangeBuilder_.dispose();
               extraDataChangeBuilder_ = null;
               extraDataChange_ = other.extraDataChange_;
-              bitField0_ = (bitField0_ & ~0x00000200);
+              bitField0_ = (bitField0_ & ~0x00000100);
               extraDataChangeBuilder_ = 
                 com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
                    getExtraDataChangeFieldBuilder() : null;
@@ -2503,6 +2439,32 @@ public Builder mergeFrom(org.terasology.protobuf.NetData.NetMessage other) {
             }
           }
         }
+        if (chunkBlockDeltaBuilder_ == null) {
+          if (!other.chunkBlockDelta_.isEmpty()) {
+            if (chunkBlockDelta_.isEmpty()) {
+              chunkBlockDelta_ = other.chunkBlockDelta_;
+              bitField0_ = (bitField0_ & ~0x00000200);
+            } else {
+              ensureChunkBlockDeltaIsMutable();
+              chunkBlockDelta_.addAll(other.chunkBlockDelta_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.chunkBlockDelta_.isEmpty()) {
+            if (chunkBlockDeltaBuilder_.isEmpty()) {
+              chunkBlockDeltaBuilder_.dispose();
+              chunkBlockDeltaBuilder_ = null;
+              chunkBlockDelta_ = other.chunkBlockDelta_;
+              bitField0_ = (bitField0_ & ~0x00000200);
+              chunkBlockDeltaBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getChunkBlockDeltaFieldBuilder() : null;
+            } else {
+              chunkBlockDeltaBuilder_.addAllMessages(other.chunkBlockDelta_);
+            }
+          }
+        }
         if (other.hasServerInfoRequest()) {
           mergeServerInfoRequest(other.getServerInfoRequest());
         }
@@ -2633,14 +2595,14 @@ public final boolean isInitialized() {
             return false;
           }
         }
-        for (int i = 0; i < getBiomeChangeCount(); i++) {
-          if (!getBiomeChange(i).isInitialized()) {
+        for (int i = 0; i < getExtraDataChangeCount(); i++) {
+          if (!getExtraDataChange(i).isInitialized()) {
             
             return false;
           }
         }
-        for (int i = 0; i < getExtraDataChangeCount(); i++) {
-          if (!getExtraDataChange(i).isInitialized()) {
+        for (int i = 0; i < getChunkBlockDeltaCount(); i++) {
+          if (!getChunkBlockDelta(i).isInitialized()) {
             
             return false;
           }
@@ -2743,7 +2705,6 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // repeated .ChunkStore chunkInfo = 2;
       private java.util.List<org.terasology.protobuf.EntityData.ChunkStore> chunkInfo_ =
         java.util.Collections.emptyList();
       private void ensureChunkInfoIsMutable() {
@@ -2885,7 +2846,8 @@ public Builder addAllChunkInfo(
           java.lang.Iterable<? extends org.terasology.protobuf.EntityData.ChunkStore> values) {
         if (chunkInfoBuilder_ == null) {
           ensureChunkInfoIsMutable();
-          super.addAll(values, chunkInfo_);
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, chunkInfo_);
           onChanged();
         } else {
           chunkInfoBuilder_.addAllMessages(values);
@@ -2983,7 +2945,6 @@ public org.terasology.protobuf.EntityData.ChunkStore.Builder addChunkInfoBuilder
         return chunkInfoBuilder_;
       }
 
-      // repeated .InvalidateChunkMessage invalidateChunk = 3;
       private java.util.List<org.terasology.protobuf.NetData.InvalidateChunkMessage> invalidateChunk_ =
         java.util.Collections.emptyList();
       private void ensureInvalidateChunkIsMutable() {
@@ -3125,7 +3086,8 @@ public Builder addAllInvalidateChunk(
           java.lang.Iterable<? extends org.terasology.protobuf.NetData.InvalidateChunkMessage> values) {
         if (invalidateChunkBuilder_ == null) {
           ensureInvalidateChunkIsMutable();
-          super.addAll(values, invalidateChunk_);
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, invalidateChunk_);
           onChanged();
         } else {
           invalidateChunkBuilder_.addAllMessages(values);
@@ -3223,7 +3185,6 @@ public org.terasology.protobuf.NetData.InvalidateChunkMessage.Builder addInvalid
         return invalidateChunkBuilder_;
       }
 
-      // repeated .BlockChangeMessage blockChange = 4;
       private java.util.List<org.terasology.protobuf.NetData.BlockChangeMessage> blockChange_ =
         java.util.Collections.emptyList();
       private void ensureBlockChangeIsMutable() {
@@ -3365,7 +3326,8 @@ public Builder addAllBlockChange(
           java.lang.Iterable<? extends org.terasology.protobuf.NetData.BlockChangeMessage> values) {
         if (blockChangeBuilder_ == null) {
           ensureBlockChangeIsMutable();
-          super.addAll(values, blockChange_);
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, blockChange_);
           onChanged();
         } else {
           blockChangeBuilder_.addAllMessages(values);
@@ -3463,7 +3425,6 @@ public org.terasology.protobuf.NetData.BlockChangeMessage.Builder addBlockChange
         return blockChangeBuilder_;
       }
 
-      // repeated .CreateEntityMessage createEntity = 5;
       private java.util.List<org.terasology.protobuf.NetData.CreateEntityMessage> createEntity_ =
         java.util.Collections.emptyList();
       private void ensureCreateEntityIsMutable() {
@@ -3605,7 +3566,8 @@ public Builder addAllCreateEntity(
           java.lang.Iterable<? extends org.terasology.protobuf.NetData.CreateEntityMessage> values) {
         if (createEntityBuilder_ == null) {
           ensureCreateEntityIsMutable();
-          super.addAll(values, createEntity_);
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, createEntity_);
           onChanged();
         } else {
           createEntityBuilder_.addAllMessages(values);
@@ -3703,7 +3665,6 @@ public org.terasology.protobuf.NetData.CreateEntityMessage.Builder addCreateEnti
         return createEntityBuilder_;
       }
 
-      // repeated .RemoveEntityMessage removeEntity = 6;
       private java.util.List<org.terasology.protobuf.NetData.RemoveEntityMessage> removeEntity_ =
         java.util.Collections.emptyList();
       private void ensureRemoveEntityIsMutable() {
@@ -3845,7 +3806,8 @@ public Builder addAllRemoveEntity(
           java.lang.Iterable<? extends org.terasology.protobuf.NetData.RemoveEntityMessage> values) {
         if (removeEntityBuilder_ == null) {
           ensureRemoveEntityIsMutable();
-          super.addAll(values, removeEntity_);
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, removeEntity_);
           onChanged();
         } else {
           removeEntityBuilder_.addAllMessages(values);
@@ -3943,7 +3905,6 @@ public org.terasology.protobuf.NetData.RemoveEntityMessage.Builder addRemoveEnti
         return removeEntityBuilder_;
       }
 
-      // repeated .UpdateEntityMessage updateEntity = 7;
       private java.util.List<org.terasology.protobuf.NetData.UpdateEntityMessage> updateEntity_ =
         java.util.Collections.emptyList();
       private void ensureUpdateEntityIsMutable() {
@@ -4085,7 +4046,8 @@ public Builder addAllUpdateEntity(
           java.lang.Iterable<? extends org.terasology.protobuf.NetData.UpdateEntityMessage> values) {
         if (updateEntityBuilder_ == null) {
           ensureUpdateEntityIsMutable();
-          super.addAll(values, updateEntity_);
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, updateEntity_);
           onChanged();
         } else {
           updateEntityBuilder_.addAllMessages(values);
@@ -4183,7 +4145,6 @@ public org.terasology.protobuf.NetData.UpdateEntityMessage.Builder addUpdateEnti
         return updateEntityBuilder_;
       }
 
-      // repeated .EventMessage event = 8;
       private java.util.List<org.terasology.protobuf.NetData.EventMessage> event_ =
         java.util.Collections.emptyList();
       private void ensureEventIsMutable() {
@@ -4325,7 +4286,8 @@ public Builder addAllEvent(
           java.lang.Iterable<? extends org.terasology.protobuf.NetData.EventMessage> values) {
         if (eventBuilder_ == null) {
           ensureEventIsMutable();
-          super.addAll(values, event_);
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, event_);
           onChanged();
         } else {
           eventBuilder_.addAllMessages(values);
@@ -4423,7 +4385,6 @@ public org.terasology.protobuf.NetData.EventMessage.Builder addEventBuilder(
         return eventBuilder_;
       }
 
-      // optional int64 time = 9;
       private long time_ ;
       /**
        * <code>optional int64 time = 9;</code>
@@ -4456,253 +4417,12 @@ public Builder clearTime() {
         return this;
       }
 
-      // repeated .BiomeChangeMessage biomeChange = 10;
-      private java.util.List<org.terasology.protobuf.NetData.BiomeChangeMessage> biomeChange_ =
-        java.util.Collections.emptyList();
-      private void ensureBiomeChangeIsMutable() {
-        if (!((bitField0_ & 0x00000100) == 0x00000100)) {
-          biomeChange_ = new java.util.ArrayList<org.terasology.protobuf.NetData.BiomeChangeMessage>(biomeChange_);
-          bitField0_ |= 0x00000100;
-         }
-      }
-
-      private com.google.protobuf.RepeatedFieldBuilder<
-          org.terasology.protobuf.NetData.BiomeChangeMessage, org.terasology.protobuf.NetData.BiomeChangeMessage.Builder, org.terasology.protobuf.NetData.BiomeChangeMessageOrBuilder> biomeChangeBuilder_;
-
-      /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-       */
-      public java.util.List<org.terasology.protobuf.NetData.BiomeChangeMessage> getBiomeChangeList() {
-        if (biomeChangeBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(biomeChange_);
-        } else {
-          return biomeChangeBuilder_.getMessageList();
-        }
-      }
-      /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-       */
-      public int getBiomeChangeCount() {
-        if (biomeChangeBuilder_ == null) {
-          return biomeChange_.size();
-        } else {
-          return biomeChangeBuilder_.getCount();
-        }
-      }
-      /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-       */
-      public org.terasology.protobuf.NetData.BiomeChangeMessage getBiomeChange(int index) {
-        if (biomeChangeBuilder_ == null) {
-          return biomeChange_.get(index);
-        } else {
-          return biomeChangeBuilder_.getMessage(index);
-        }
-      }
-      /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-       */
-      public Builder setBiomeChange(
-          int index, org.terasology.protobuf.NetData.BiomeChangeMessage value) {
-        if (biomeChangeBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureBiomeChangeIsMutable();
-          biomeChange_.set(index, value);
-          onChanged();
-        } else {
-          biomeChangeBuilder_.setMessage(index, value);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-       */
-      public Builder setBiomeChange(
-          int index, org.terasology.protobuf.NetData.BiomeChangeMessage.Builder builderForValue) {
-        if (biomeChangeBuilder_ == null) {
-          ensureBiomeChangeIsMutable();
-          biomeChange_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          biomeChangeBuilder_.setMessage(index, builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-       */
-      public Builder addBiomeChange(org.terasology.protobuf.NetData.BiomeChangeMessage value) {
-        if (biomeChangeBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureBiomeChangeIsMutable();
-          biomeChange_.add(value);
-          onChanged();
-        } else {
-          biomeChangeBuilder_.addMessage(value);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-       */
-      public Builder addBiomeChange(
-          int index, org.terasology.protobuf.NetData.BiomeChangeMessage value) {
-        if (biomeChangeBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureBiomeChangeIsMutable();
-          biomeChange_.add(index, value);
-          onChanged();
-        } else {
-          biomeChangeBuilder_.addMessage(index, value);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-       */
-      public Builder addBiomeChange(
-          org.terasology.protobuf.NetData.BiomeChangeMessage.Builder builderForValue) {
-        if (biomeChangeBuilder_ == null) {
-          ensureBiomeChangeIsMutable();
-          biomeChange_.add(builderForValue.build());
-          onChanged();
-        } else {
-          biomeChangeBuilder_.addMessage(builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-       */
-      public Builder addBiomeChange(
-          int index, org.terasology.protobuf.NetData.BiomeChangeMessage.Builder builderForValue) {
-        if (biomeChangeBuilder_ == null) {
-          ensureBiomeChangeIsMutable();
-          biomeChange_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          biomeChangeBuilder_.addMessage(index, builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-       */
-      public Builder addAllBiomeChange(
-          java.lang.Iterable<? extends org.terasology.protobuf.NetData.BiomeChangeMessage> values) {
-        if (biomeChangeBuilder_ == null) {
-          ensureBiomeChangeIsMutable();
-          super.addAll(values, biomeChange_);
-          onChanged();
-        } else {
-          biomeChangeBuilder_.addAllMessages(values);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-       */
-      public Builder clearBiomeChange() {
-        if (biomeChangeBuilder_ == null) {
-          biomeChange_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000100);
-          onChanged();
-        } else {
-          biomeChangeBuilder_.clear();
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-       */
-      public Builder removeBiomeChange(int index) {
-        if (biomeChangeBuilder_ == null) {
-          ensureBiomeChangeIsMutable();
-          biomeChange_.remove(index);
-          onChanged();
-        } else {
-          biomeChangeBuilder_.remove(index);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-       */
-      public org.terasology.protobuf.NetData.BiomeChangeMessage.Builder getBiomeChangeBuilder(
-          int index) {
-        return getBiomeChangeFieldBuilder().getBuilder(index);
-      }
-      /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-       */
-      public org.terasology.protobuf.NetData.BiomeChangeMessageOrBuilder getBiomeChangeOrBuilder(
-          int index) {
-        if (biomeChangeBuilder_ == null) {
-          return biomeChange_.get(index);  } else {
-          return biomeChangeBuilder_.getMessageOrBuilder(index);
-        }
-      }
-      /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-       */
-      public java.util.List<? extends org.terasology.protobuf.NetData.BiomeChangeMessageOrBuilder> 
-           getBiomeChangeOrBuilderList() {
-        if (biomeChangeBuilder_ != null) {
-          return biomeChangeBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(biomeChange_);
-        }
-      }
-      /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-       */
-      public org.terasology.protobuf.NetData.BiomeChangeMessage.Builder addBiomeChangeBuilder() {
-        return getBiomeChangeFieldBuilder().addBuilder(
-            org.terasology.protobuf.NetData.BiomeChangeMessage.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-       */
-      public org.terasology.protobuf.NetData.BiomeChangeMessage.Builder addBiomeChangeBuilder(
-          int index) {
-        return getBiomeChangeFieldBuilder().addBuilder(
-            index, org.terasology.protobuf.NetData.BiomeChangeMessage.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-       */
-      public java.util.List<org.terasology.protobuf.NetData.BiomeChangeMessage.Builder> 
-           getBiomeChangeBuilderList() {
-        return getBiomeChangeFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilder<
-          org.terasology.protobuf.NetData.BiomeChangeMessage, org.terasology.protobuf.NetData.BiomeChangeMessage.Builder, org.terasology.protobuf.NetData.BiomeChangeMessageOrBuilder> 
-          getBiomeChangeFieldBuilder() {
-        if (biomeChangeBuilder_ == null) {
-          biomeChangeBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
-              org.terasology.protobuf.NetData.BiomeChangeMessage, org.terasology.protobuf.NetData.BiomeChangeMessage.Builder, org.terasology.protobuf.NetData.BiomeChangeMessageOrBuilder>(
-                  biomeChange_,
-                  ((bitField0_ & 0x00000100) == 0x00000100),
-                  getParentForChildren(),
-                  isClean());
-          biomeChange_ = null;
-        }
-        return biomeChangeBuilder_;
-      }
-
-      // repeated .ExtraDataChangeMessage extraDataChange = 11;
       private java.util.List<org.terasology.protobuf.NetData.ExtraDataChangeMessage> extraDataChange_ =
         java.util.Collections.emptyList();
       private void ensureExtraDataChangeIsMutable() {
-        if (!((bitField0_ & 0x00000200) == 0x00000200)) {
+        if (!((bitField0_ & 0x00000100) == 0x00000100)) {
           extraDataChange_ = new java.util.ArrayList<org.terasology.protobuf.NetData.ExtraDataChangeMessage>(extraDataChange_);
-          bitField0_ |= 0x00000200;
+          bitField0_ |= 0x00000100;
          }
       }
 
@@ -4838,7 +4558,8 @@ public Builder addAllExtraDataChange(
           java.lang.Iterable<? extends org.terasology.protobuf.NetData.ExtraDataChangeMessage> values) {
         if (extraDataChangeBuilder_ == null) {
           ensureExtraDataChangeIsMutable();
-          super.addAll(values, extraDataChange_);
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, extraDataChange_);
           onChanged();
         } else {
           extraDataChangeBuilder_.addAllMessages(values);
@@ -4851,7 +4572,7 @@ public Builder addAllExtraDataChange(
       public Builder clearExtraDataChange() {
         if (extraDataChangeBuilder_ == null) {
           extraDataChange_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000200);
+          bitField0_ = (bitField0_ & ~0x00000100);
           onChanged();
         } else {
           extraDataChangeBuilder_.clear();
@@ -4928,7 +4649,7 @@ public org.terasology.protobuf.NetData.ExtraDataChangeMessage.Builder addExtraDa
           extraDataChangeBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
               org.terasology.protobuf.NetData.ExtraDataChangeMessage, org.terasology.protobuf.NetData.ExtraDataChangeMessage.Builder, org.terasology.protobuf.NetData.ExtraDataChangeMessageOrBuilder>(
                   extraDataChange_,
-                  ((bitField0_ & 0x00000200) == 0x00000200),
+                  ((bitField0_ & 0x00000100) == 0x00000100),
                   getParentForChildren(),
                   isClean());
           extraDataChange_ = null;
@@ -4936,7 +4657,246 @@ public org.terasology.protobuf.NetData.ExtraDataChangeMessage.Builder addExtraDa
         return extraDataChangeBuilder_;
       }
 
-      // optional .ServerInfoRequest serverInfoRequest = 15;
+      private java.util.List<org.terasology.protobuf.NetData.ChunkBlockDeltaMessage> chunkBlockDelta_ =
+        java.util.Collections.emptyList();
+      private void ensureChunkBlockDeltaIsMutable() {
+        if (!((bitField0_ & 0x00000200) == 0x00000200)) {
+          chunkBlockDelta_ = new java.util.ArrayList<org.terasology.protobuf.NetData.ChunkBlockDeltaMessage>(chunkBlockDelta_);
+          bitField0_ |= 0x00000200;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.terasology.protobuf.NetData.ChunkBlockDeltaMessage, org.terasology.protobuf.NetData.ChunkBlockDeltaMessage.Builder, org.terasology.protobuf.NetData.ChunkBlockDeltaMessageOrBuilder> chunkBlockDeltaBuilder_;
+
+      /**
+       * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+       */
+      public java.util.List<org.terasology.protobuf.NetData.ChunkBlockDeltaMessage> getChunkBlockDeltaList() {
+        if (chunkBlockDeltaBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(chunkBlockDelta_);
+        } else {
+          return chunkBlockDeltaBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+       */
+      public int getChunkBlockDeltaCount() {
+        if (chunkBlockDeltaBuilder_ == null) {
+          return chunkBlockDelta_.size();
+        } else {
+          return chunkBlockDeltaBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+       */
+      public org.terasology.protobuf.NetData.ChunkBlockDeltaMessage getChunkBlockDelta(int index) {
+        if (chunkBlockDeltaBuilder_ == null) {
+          return chunkBlockDelta_.get(index);
+        } else {
+          return chunkBlockDeltaBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+       */
+      public Builder setChunkBlockDelta(
+          int index, org.terasology.protobuf.NetData.ChunkBlockDeltaMessage value) {
+        if (chunkBlockDeltaBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChunkBlockDeltaIsMutable();
+          chunkBlockDelta_.set(index, value);
+          onChanged();
+        } else {
+          chunkBlockDeltaBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+       */
+      public Builder setChunkBlockDelta(
+          int index, org.terasology.protobuf.NetData.ChunkBlockDeltaMessage.Builder builderForValue) {
+        if (chunkBlockDeltaBuilder_ == null) {
+          ensureChunkBlockDeltaIsMutable();
+          chunkBlockDelta_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          chunkBlockDeltaBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+       */
+      public Builder addChunkBlockDelta(org.terasology.protobuf.NetData.ChunkBlockDeltaMessage value) {
+        if (chunkBlockDeltaBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChunkBlockDeltaIsMutable();
+          chunkBlockDelta_.add(value);
+          onChanged();
+        } else {
+          chunkBlockDeltaBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+       */
+      public Builder addChunkBlockDelta(
+          int index, org.terasology.protobuf.NetData.ChunkBlockDeltaMessage value) {
+        if (chunkBlockDeltaBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChunkBlockDeltaIsMutable();
+          chunkBlockDelta_.add(index, value);
+          onChanged();
+        } else {
+          chunkBlockDeltaBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+       */
+      public Builder addChunkBlockDelta(
+          org.terasology.protobuf.NetData.ChunkBlockDeltaMessage.Builder builderForValue) {
+        if (chunkBlockDeltaBuilder_ == null) {
+          ensureChunkBlockDeltaIsMutable();
+          chunkBlockDelta_.add(builderForValue.build());
+          onChanged();
+        } else {
+          chunkBlockDeltaBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+       */
+      public Builder addChunkBlockDelta(
+          int index, org.terasology.protobuf.NetData.ChunkBlockDeltaMessage.Builder builderForValue) {
+        if (chunkBlockDeltaBuilder_ == null) {
+          ensureChunkBlockDeltaIsMutable();
+          chunkBlockDelta_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          chunkBlockDeltaBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+       */
+      public Builder addAllChunkBlockDelta(
+          java.lang.Iterable<? extends org.terasology.protobuf.NetData.ChunkBlockDeltaMessage> values) {
+        if (chunkBlockDeltaBuilder_ == null) {
+          ensureChunkBlockDeltaIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, chunkBlockDelta_);
+          onChanged();
+        } else {
+          chunkBlockDeltaBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+       */
+      public Builder clearChunkBlockDelta() {
+        if (chunkBlockDeltaBuilder_ == null) {
+          chunkBlockDelta_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000200);
+          onChanged();
+        } else {
+          chunkBlockDeltaBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+       */
+      public Builder removeChunkBlockDelta(int index) {
+        if (chunkBlockDeltaBuilder_ == null) {
+          ensureChunkBlockDeltaIsMutable();
+          chunkBlockDelta_.remove(index);
+          onChanged();
+        } else {
+          chunkBlockDeltaBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+       */
+      public org.terasology.protobuf.NetData.ChunkBlockDeltaMessage.Builder getChunkBlockDeltaBuilder(
+          int index) {
+        return getChunkBlockDeltaFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+       */
+      public org.terasology.protobuf.NetData.ChunkBlockDeltaMessageOrBuilder getChunkBlockDeltaOrBuilder(
+          int index) {
+        if (chunkBlockDeltaBuilder_ == null) {
+          return chunkBlockDelta_.get(index);  } else {
+          return chunkBlockDeltaBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+       */
+      public java.util.List<? extends org.terasology.protobuf.NetData.ChunkBlockDeltaMessageOrBuilder> 
+           getChunkBlockDeltaOrBuilderList() {
+        if (chunkBlockDeltaBuilder_ != null) {
+          return chunkBlockDeltaBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(chunkBlockDelta_);
+        }
+      }
+      /**
+       * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+       */
+      public org.terasology.protobuf.NetData.ChunkBlockDeltaMessage.Builder addChunkBlockDeltaBuilder() {
+        return getChunkBlockDeltaFieldBuilder().addBuilder(
+            org.terasology.protobuf.NetData.ChunkBlockDeltaMessage.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+       */
+      public org.terasology.protobuf.NetData.ChunkBlockDeltaMessage.Builder addChunkBlockDeltaBuilder(
+          int index) {
+        return getChunkBlockDeltaFieldBuilder().addBuilder(
+            index, org.terasology.protobuf.NetData.ChunkBlockDeltaMessage.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ChunkBlockDeltaMessage chunkBlockDelta = 12;</code>
+       */
+      public java.util.List<org.terasology.protobuf.NetData.ChunkBlockDeltaMessage.Builder> 
+           getChunkBlockDeltaBuilderList() {
+        return getChunkBlockDeltaFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.terasology.protobuf.NetData.ChunkBlockDeltaMessage, org.terasology.protobuf.NetData.ChunkBlockDeltaMessage.Builder, org.terasology.protobuf.NetData.ChunkBlockDeltaMessageOrBuilder> 
+          getChunkBlockDeltaFieldBuilder() {
+        if (chunkBlockDeltaBuilder_ == null) {
+          chunkBlockDeltaBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.terasology.protobuf.NetData.ChunkBlockDeltaMessage, org.terasology.protobuf.NetData.ChunkBlockDeltaMessage.Builder, org.terasology.protobuf.NetData.ChunkBlockDeltaMessageOrBuilder>(
+                  chunkBlockDelta_,
+                  ((bitField0_ & 0x00000200) == 0x00000200),
+                  getParentForChildren(),
+                  isClean());
+          chunkBlockDelta_ = null;
+        }
+        return chunkBlockDeltaBuilder_;
+      }
+
       private org.terasology.protobuf.NetData.ServerInfoRequest serverInfoRequest_ = org.terasology.protobuf.NetData.ServerInfoRequest.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
           org.terasology.protobuf.NetData.ServerInfoRequest, org.terasology.protobuf.NetData.ServerInfoRequest.Builder, org.terasology.protobuf.NetData.ServerInfoRequestOrBuilder> serverInfoRequestBuilder_;
@@ -5045,7 +5005,7 @@ public org.terasology.protobuf.NetData.ServerInfoRequestOrBuilder getServerInfoR
         if (serverInfoRequestBuilder_ == null) {
           serverInfoRequestBuilder_ = new com.google.protobuf.SingleFieldBuilder<
               org.terasology.protobuf.NetData.ServerInfoRequest, org.terasology.protobuf.NetData.ServerInfoRequest.Builder, org.terasology.protobuf.NetData.ServerInfoRequestOrBuilder>(
-                  serverInfoRequest_,
+                  getServerInfoRequest(),
                   getParentForChildren(),
                   isClean());
           serverInfoRequest_ = null;
@@ -5053,7 +5013,6 @@ public org.terasology.protobuf.NetData.ServerInfoRequestOrBuilder getServerInfoR
         return serverInfoRequestBuilder_;
       }
 
-      // optional .ServerInfoMessage serverInfo = 16;
       private org.terasology.protobuf.NetData.ServerInfoMessage serverInfo_ = org.terasology.protobuf.NetData.ServerInfoMessage.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
           org.terasology.protobuf.NetData.ServerInfoMessage, org.terasology.protobuf.NetData.ServerInfoMessage.Builder, org.terasology.protobuf.NetData.ServerInfoMessageOrBuilder> serverInfoBuilder_;
@@ -5162,7 +5121,7 @@ public org.terasology.protobuf.NetData.ServerInfoMessageOrBuilder getServerInfoO
         if (serverInfoBuilder_ == null) {
           serverInfoBuilder_ = new com.google.protobuf.SingleFieldBuilder<
               org.terasology.protobuf.NetData.ServerInfoMessage, org.terasology.protobuf.NetData.ServerInfoMessage.Builder, org.terasology.protobuf.NetData.ServerInfoMessageOrBuilder>(
-                  serverInfo_,
+                  getServerInfo(),
                   getParentForChildren(),
                   isClean());
           serverInfo_ = null;
@@ -5170,7 +5129,6 @@ public org.terasology.protobuf.NetData.ServerInfoMessageOrBuilder getServerInfoO
         return serverInfoBuilder_;
       }
 
-      // repeated .BlockFamilyRegisteredMessage blockFamilyRegistered = 17;
       private java.util.List<org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage> blockFamilyRegistered_ =
         java.util.Collections.emptyList();
       private void ensureBlockFamilyRegisteredIsMutable() {
@@ -5312,7 +5270,8 @@ public Builder addAllBlockFamilyRegistered(
           java.lang.Iterable<? extends org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage> values) {
         if (blockFamilyRegisteredBuilder_ == null) {
           ensureBlockFamilyRegisteredIsMutable();
-          super.addAll(values, blockFamilyRegistered_);
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, blockFamilyRegistered_);
           onChanged();
         } else {
           blockFamilyRegisteredBuilder_.addAllMessages(values);
@@ -5410,7 +5369,6 @@ public org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage.Builder addB
         return blockFamilyRegisteredBuilder_;
       }
 
-      // optional .JoinMessage join = 18;
       private org.terasology.protobuf.NetData.JoinMessage join_ = org.terasology.protobuf.NetData.JoinMessage.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
           org.terasology.protobuf.NetData.JoinMessage, org.terasology.protobuf.NetData.JoinMessage.Builder, org.terasology.protobuf.NetData.JoinMessageOrBuilder> joinBuilder_;
@@ -5519,7 +5477,7 @@ public org.terasology.protobuf.NetData.JoinMessageOrBuilder getJoinOrBuilder() {
         if (joinBuilder_ == null) {
           joinBuilder_ = new com.google.protobuf.SingleFieldBuilder<
               org.terasology.protobuf.NetData.JoinMessage, org.terasology.protobuf.NetData.JoinMessage.Builder, org.terasology.protobuf.NetData.JoinMessageOrBuilder>(
-                  join_,
+                  getJoin(),
                   getParentForChildren(),
                   isClean());
           join_ = null;
@@ -5527,7 +5485,6 @@ public org.terasology.protobuf.NetData.JoinMessageOrBuilder getJoinOrBuilder() {
         return joinBuilder_;
       }
 
-      // repeated .ModuleRequest moduleRequest = 19;
       private java.util.List<org.terasology.protobuf.NetData.ModuleRequest> moduleRequest_ =
         java.util.Collections.emptyList();
       private void ensureModuleRequestIsMutable() {
@@ -5669,7 +5626,8 @@ public Builder addAllModuleRequest(
           java.lang.Iterable<? extends org.terasology.protobuf.NetData.ModuleRequest> values) {
         if (moduleRequestBuilder_ == null) {
           ensureModuleRequestIsMutable();
-          super.addAll(values, moduleRequest_);
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, moduleRequest_);
           onChanged();
         } else {
           moduleRequestBuilder_.addAllMessages(values);
@@ -5767,7 +5725,6 @@ public org.terasology.protobuf.NetData.ModuleRequest.Builder addModuleRequestBui
         return moduleRequestBuilder_;
       }
 
-      // optional .ModuleDataHeader moduleDataHeader = 20;
       private org.terasology.protobuf.NetData.ModuleDataHeader moduleDataHeader_ = org.terasology.protobuf.NetData.ModuleDataHeader.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
           org.terasology.protobuf.NetData.ModuleDataHeader, org.terasology.protobuf.NetData.ModuleDataHeader.Builder, org.terasology.protobuf.NetData.ModuleDataHeaderOrBuilder> moduleDataHeaderBuilder_;
@@ -5876,7 +5833,7 @@ public org.terasology.protobuf.NetData.ModuleDataHeaderOrBuilder getModuleDataHe
         if (moduleDataHeaderBuilder_ == null) {
           moduleDataHeaderBuilder_ = new com.google.protobuf.SingleFieldBuilder<
               org.terasology.protobuf.NetData.ModuleDataHeader, org.terasology.protobuf.NetData.ModuleDataHeader.Builder, org.terasology.protobuf.NetData.ModuleDataHeaderOrBuilder>(
-                  moduleDataHeader_,
+                  getModuleDataHeader(),
                   getParentForChildren(),
                   isClean());
           moduleDataHeader_ = null;
@@ -5884,7 +5841,6 @@ public org.terasology.protobuf.NetData.ModuleDataHeaderOrBuilder getModuleDataHe
         return moduleDataHeaderBuilder_;
       }
 
-      // optional .ModuleData moduleData = 21;
       private org.terasology.protobuf.NetData.ModuleData moduleData_ = org.terasology.protobuf.NetData.ModuleData.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
           org.terasology.protobuf.NetData.ModuleData, org.terasology.protobuf.NetData.ModuleData.Builder, org.terasology.protobuf.NetData.ModuleDataOrBuilder> moduleDataBuilder_;
@@ -5993,7 +5949,7 @@ public org.terasology.protobuf.NetData.ModuleDataOrBuilder getModuleDataOrBuilde
         if (moduleDataBuilder_ == null) {
           moduleDataBuilder_ = new com.google.protobuf.SingleFieldBuilder<
               org.terasology.protobuf.NetData.ModuleData, org.terasology.protobuf.NetData.ModuleData.Builder, org.terasology.protobuf.NetData.ModuleDataOrBuilder>(
-                  moduleData_,
+                  getModuleData(),
                   getParentForChildren(),
                   isClean());
           moduleData_ = null;
@@ -6001,7 +5957,6 @@ public org.terasology.protobuf.NetData.ModuleDataOrBuilder getModuleDataOrBuilde
         return moduleDataBuilder_;
       }
 
-      // optional .JoinCompleteMessage joinComplete = 22;
       private org.terasology.protobuf.NetData.JoinCompleteMessage joinComplete_ = org.terasology.protobuf.NetData.JoinCompleteMessage.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
           org.terasology.protobuf.NetData.JoinCompleteMessage, org.terasology.protobuf.NetData.JoinCompleteMessage.Builder, org.terasology.protobuf.NetData.JoinCompleteMessageOrBuilder> joinCompleteBuilder_;
@@ -6110,7 +6065,7 @@ public org.terasology.protobuf.NetData.JoinCompleteMessageOrBuilder getJoinCompl
         if (joinCompleteBuilder_ == null) {
           joinCompleteBuilder_ = new com.google.protobuf.SingleFieldBuilder<
               org.terasology.protobuf.NetData.JoinCompleteMessage, org.terasology.protobuf.NetData.JoinCompleteMessage.Builder, org.terasology.protobuf.NetData.JoinCompleteMessageOrBuilder>(
-                  joinComplete_,
+                  getJoinComplete(),
                   getParentForChildren(),
                   isClean());
           joinComplete_ = null;
@@ -6118,7 +6073,6 @@ public org.terasology.protobuf.NetData.JoinCompleteMessageOrBuilder getJoinCompl
         return joinCompleteBuilder_;
       }
 
-      // optional .HandshakeHello handshakeHello = 100;
       private org.terasology.protobuf.NetData.HandshakeHello handshakeHello_ = org.terasology.protobuf.NetData.HandshakeHello.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
           org.terasology.protobuf.NetData.HandshakeHello, org.terasology.protobuf.NetData.HandshakeHello.Builder, org.terasology.protobuf.NetData.HandshakeHelloOrBuilder> handshakeHelloBuilder_;
@@ -6263,7 +6217,7 @@ public org.terasology.protobuf.NetData.HandshakeHelloOrBuilder getHandshakeHello
         if (handshakeHelloBuilder_ == null) {
           handshakeHelloBuilder_ = new com.google.protobuf.SingleFieldBuilder<
               org.terasology.protobuf.NetData.HandshakeHello, org.terasology.protobuf.NetData.HandshakeHello.Builder, org.terasology.protobuf.NetData.HandshakeHelloOrBuilder>(
-                  handshakeHello_,
+                  getHandshakeHello(),
                   getParentForChildren(),
                   isClean());
           handshakeHello_ = null;
@@ -6271,7 +6225,6 @@ public org.terasology.protobuf.NetData.HandshakeHelloOrBuilder getHandshakeHello
         return handshakeHelloBuilder_;
       }
 
-      // optional .NewIdentityRequest newIdentityRequest = 101;
       private org.terasology.protobuf.NetData.NewIdentityRequest newIdentityRequest_ = org.terasology.protobuf.NetData.NewIdentityRequest.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
           org.terasology.protobuf.NetData.NewIdentityRequest, org.terasology.protobuf.NetData.NewIdentityRequest.Builder, org.terasology.protobuf.NetData.NewIdentityRequestOrBuilder> newIdentityRequestBuilder_;
@@ -6380,7 +6333,7 @@ public org.terasology.protobuf.NetData.NewIdentityRequestOrBuilder getNewIdentit
         if (newIdentityRequestBuilder_ == null) {
           newIdentityRequestBuilder_ = new com.google.protobuf.SingleFieldBuilder<
               org.terasology.protobuf.NetData.NewIdentityRequest, org.terasology.protobuf.NetData.NewIdentityRequest.Builder, org.terasology.protobuf.NetData.NewIdentityRequestOrBuilder>(
-                  newIdentityRequest_,
+                  getNewIdentityRequest(),
                   getParentForChildren(),
                   isClean());
           newIdentityRequest_ = null;
@@ -6388,7 +6341,6 @@ public org.terasology.protobuf.NetData.NewIdentityRequestOrBuilder getNewIdentit
         return newIdentityRequestBuilder_;
       }
 
-      // optional .ProvisionIdentity provisionIdentity = 102;
       private org.terasology.protobuf.NetData.ProvisionIdentity provisionIdentity_ = org.terasology.protobuf.NetData.ProvisionIdentity.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
           org.terasology.protobuf.NetData.ProvisionIdentity, org.terasology.protobuf.NetData.ProvisionIdentity.Builder, org.terasology.protobuf.NetData.ProvisionIdentityOrBuilder> provisionIdentityBuilder_;
@@ -6497,7 +6449,7 @@ public org.terasology.protobuf.NetData.ProvisionIdentityOrBuilder getProvisionId
         if (provisionIdentityBuilder_ == null) {
           provisionIdentityBuilder_ = new com.google.protobuf.SingleFieldBuilder<
               org.terasology.protobuf.NetData.ProvisionIdentity, org.terasology.protobuf.NetData.ProvisionIdentity.Builder, org.terasology.protobuf.NetData.ProvisionIdentityOrBuilder>(
-                  provisionIdentity_,
+                  getProvisionIdentity(),
                   getParentForChildren(),
                   isClean());
           provisionIdentity_ = null;
@@ -6505,7 +6457,6 @@ public org.terasology.protobuf.NetData.ProvisionIdentityOrBuilder getProvisionId
         return provisionIdentityBuilder_;
       }
 
-      // optional .HandshakeVerification handshakeVerification = 103;
       private org.terasology.protobuf.NetData.HandshakeVerification handshakeVerification_ = org.terasology.protobuf.NetData.HandshakeVerification.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
           org.terasology.protobuf.NetData.HandshakeVerification, org.terasology.protobuf.NetData.HandshakeVerification.Builder, org.terasology.protobuf.NetData.HandshakeVerificationOrBuilder> handshakeVerificationBuilder_;
@@ -6614,7 +6565,7 @@ public org.terasology.protobuf.NetData.HandshakeVerificationOrBuilder getHandsha
         if (handshakeVerificationBuilder_ == null) {
           handshakeVerificationBuilder_ = new com.google.protobuf.SingleFieldBuilder<
               org.terasology.protobuf.NetData.HandshakeVerification, org.terasology.protobuf.NetData.HandshakeVerification.Builder, org.terasology.protobuf.NetData.HandshakeVerificationOrBuilder>(
-                  handshakeVerification_,
+                  getHandshakeVerification(),
                   getParentForChildren(),
                   isClean());
           handshakeVerification_ = null;
@@ -6634,10 +6585,10 @@ public org.terasology.protobuf.NetData.HandshakeVerificationOrBuilder getHandsha
   }
 
   public interface HandshakeHelloOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:HandshakeHello)
       com.google.protobuf.GeneratedMessage.
           ExtendableMessageOrBuilder<HandshakeHello> {
 
-    // optional bytes random = 1;
     /**
      * <code>optional bytes random = 1;</code>
      */
@@ -6647,7 +6598,6 @@ public interface HandshakeHelloOrBuilder extends
      */
     com.google.protobuf.ByteString getRandom();
 
-    // optional .Certificate certificate = 2;
     /**
      * <code>optional .Certificate certificate = 2;</code>
      */
@@ -6661,7 +6611,6 @@ public interface HandshakeHelloOrBuilder extends
      */
     org.terasology.protobuf.NetData.CertificateOrBuilder getCertificateOrBuilder();
 
-    // optional sint64 timestamp = 3;
     /**
      * <code>optional sint64 timestamp = 3;</code>
      */
@@ -6676,7 +6625,9 @@ public interface HandshakeHelloOrBuilder extends
    */
   public static final class HandshakeHello extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        HandshakeHello> implements HandshakeHelloOrBuilder {
+        HandshakeHello> implements
+      // @@protoc_insertion_point(message_implements:HandshakeHello)
+      HandshakeHelloOrBuilder {
     // Use HandshakeHello.newBuilder() to construct.
     private HandshakeHello(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.HandshakeHello, ?> builder) {
       super(builder);
@@ -6785,7 +6736,6 @@ public com.google.protobuf.Parser<HandshakeHello> getParserForType() {
     }
 
     private int bitField0_;
-    // optional bytes random = 1;
     public static final int RANDOM_FIELD_NUMBER = 1;
     private com.google.protobuf.ByteString random_;
     /**
@@ -6801,7 +6751,6 @@ public com.google.protobuf.ByteString getRandom() {
       return random_;
     }
 
-    // optional .Certificate certificate = 2;
     public static final int CERTIFICATE_FIELD_NUMBER = 2;
     private org.terasology.protobuf.NetData.Certificate certificate_;
     /**
@@ -6823,7 +6772,6 @@ public org.terasology.protobuf.NetData.CertificateOrBuilder getCertificateOrBuil
       return certificate_;
     }
 
-    // optional sint64 timestamp = 3;
     public static final int TIMESTAMP_FIELD_NUMBER = 3;
     private long timestamp_;
     /**
@@ -6847,7 +6795,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       if (hasCertificate()) {
         if (!getCertificate().isInitialized()) {
@@ -6984,7 +6933,9 @@ protected Builder newBuilderForType(
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.HandshakeHello, Builder> implements org.terasology.protobuf.NetData.HandshakeHelloOrBuilder {
+          org.terasology.protobuf.NetData.HandshakeHello, Builder> implements
+        // @@protoc_insertion_point(builder_implements:HandshakeHello)
+        org.terasology.protobuf.NetData.HandshakeHelloOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_HandshakeHello_descriptor;
@@ -7135,7 +7086,6 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // optional bytes random = 1;
       private com.google.protobuf.ByteString random_ = com.google.protobuf.ByteString.EMPTY;
       /**
        * <code>optional bytes random = 1;</code>
@@ -7171,7 +7121,6 @@ public Builder clearRandom() {
         return this;
       }
 
-      // optional .Certificate certificate = 2;
       private org.terasology.protobuf.NetData.Certificate certificate_ = org.terasology.protobuf.NetData.Certificate.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
           org.terasology.protobuf.NetData.Certificate, org.terasology.protobuf.NetData.Certificate.Builder, org.terasology.protobuf.NetData.CertificateOrBuilder> certificateBuilder_;
@@ -7280,7 +7229,7 @@ public org.terasology.protobuf.NetData.CertificateOrBuilder getCertificateOrBuil
         if (certificateBuilder_ == null) {
           certificateBuilder_ = new com.google.protobuf.SingleFieldBuilder<
               org.terasology.protobuf.NetData.Certificate, org.terasology.protobuf.NetData.Certificate.Builder, org.terasology.protobuf.NetData.CertificateOrBuilder>(
-                  certificate_,
+                  getCertificate(),
                   getParentForChildren(),
                   isClean());
           certificate_ = null;
@@ -7288,7 +7237,6 @@ public org.terasology.protobuf.NetData.CertificateOrBuilder getCertificateOrBuil
         return certificateBuilder_;
       }
 
-      // optional sint64 timestamp = 3;
       private long timestamp_ ;
       /**
        * <code>optional sint64 timestamp = 3;</code>
@@ -7333,10 +7281,10 @@ public Builder clearTimestamp() {
   }
 
   public interface NewIdentityRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:NewIdentityRequest)
       com.google.protobuf.GeneratedMessage.
           ExtendableMessageOrBuilder<NewIdentityRequest> {
 
-    // optional bytes preMasterSecret = 1;
     /**
      * <code>optional bytes preMasterSecret = 1;</code>
      */
@@ -7346,7 +7294,6 @@ public interface NewIdentityRequestOrBuilder extends
      */
     com.google.protobuf.ByteString getPreMasterSecret();
 
-    // optional bytes random = 2;
     /**
      * <code>optional bytes random = 2;</code>
      */
@@ -7361,7 +7308,9 @@ public interface NewIdentityRequestOrBuilder extends
    */
   public static final class NewIdentityRequest extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        NewIdentityRequest> implements NewIdentityRequestOrBuilder {
+        NewIdentityRequest> implements
+      // @@protoc_insertion_point(message_implements:NewIdentityRequest)
+      NewIdentityRequestOrBuilder {
     // Use NewIdentityRequest.newBuilder() to construct.
     private NewIdentityRequest(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.NewIdentityRequest, ?> builder) {
       super(builder);
@@ -7457,7 +7406,6 @@ public com.google.protobuf.Parser<NewIdentityRequest> getParserForType() {
     }
 
     private int bitField0_;
-    // optional bytes preMasterSecret = 1;
     public static final int PREMASTERSECRET_FIELD_NUMBER = 1;
     private com.google.protobuf.ByteString preMasterSecret_;
     /**
@@ -7473,7 +7421,6 @@ public com.google.protobuf.ByteString getPreMasterSecret() {
       return preMasterSecret_;
     }
 
-    // optional bytes random = 2;
     public static final int RANDOM_FIELD_NUMBER = 2;
     private com.google.protobuf.ByteString random_;
     /**
@@ -7496,7 +7443,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       if (!extensionsAreInitialized()) {
         memoizedIsInitialized = 0;
@@ -7620,7 +7568,9 @@ protected Builder newBuilderForType(
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.NewIdentityRequest, Builder> implements org.terasology.protobuf.NetData.NewIdentityRequestOrBuilder {
+          org.terasology.protobuf.NetData.NewIdentityRequest, Builder> implements
+        // @@protoc_insertion_point(builder_implements:NewIdentityRequest)
+        org.terasology.protobuf.NetData.NewIdentityRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_NewIdentityRequest_descriptor;
@@ -7747,7 +7697,6 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // optional bytes preMasterSecret = 1;
       private com.google.protobuf.ByteString preMasterSecret_ = com.google.protobuf.ByteString.EMPTY;
       /**
        * <code>optional bytes preMasterSecret = 1;</code>
@@ -7783,7 +7732,6 @@ public Builder clearPreMasterSecret() {
         return this;
       }
 
-      // optional bytes random = 2;
       private com.google.protobuf.ByteString random_ = com.google.protobuf.ByteString.EMPTY;
       /**
        * <code>optional bytes random = 2;</code>
@@ -7831,10 +7779,10 @@ public Builder clearRandom() {
   }
 
   public interface ProvisionIdentityOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ProvisionIdentity)
       com.google.protobuf.GeneratedMessage.
           ExtendableMessageOrBuilder<ProvisionIdentity> {
 
-    // optional bytes encryptedCertificates = 1;
     /**
      * <code>optional bytes encryptedCertificates = 1;</code>
      */
@@ -7849,7 +7797,9 @@ public interface ProvisionIdentityOrBuilder extends
    */
   public static final class ProvisionIdentity extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        ProvisionIdentity> implements ProvisionIdentityOrBuilder {
+        ProvisionIdentity> implements
+      // @@protoc_insertion_point(message_implements:ProvisionIdentity)
+      ProvisionIdentityOrBuilder {
     // Use ProvisionIdentity.newBuilder() to construct.
     private ProvisionIdentity(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.ProvisionIdentity, ?> builder) {
       super(builder);
@@ -7940,7 +7890,6 @@ public com.google.protobuf.Parser<ProvisionIdentity> getParserForType() {
     }
 
     private int bitField0_;
-    // optional bytes encryptedCertificates = 1;
     public static final int ENCRYPTEDCERTIFICATES_FIELD_NUMBER = 1;
     private com.google.protobuf.ByteString encryptedCertificates_;
     /**
@@ -7962,7 +7911,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       if (!extensionsAreInitialized()) {
         memoizedIsInitialized = 0;
@@ -8079,7 +8029,9 @@ protected Builder newBuilderForType(
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.ProvisionIdentity, Builder> implements org.terasology.protobuf.NetData.ProvisionIdentityOrBuilder {
+          org.terasology.protobuf.NetData.ProvisionIdentity, Builder> implements
+        // @@protoc_insertion_point(builder_implements:ProvisionIdentity)
+        org.terasology.protobuf.NetData.ProvisionIdentityOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_ProvisionIdentity_descriptor;
@@ -8197,7 +8149,6 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // optional bytes encryptedCertificates = 1;
       private com.google.protobuf.ByteString encryptedCertificates_ = com.google.protobuf.ByteString.EMPTY;
       /**
        * <code>optional bytes encryptedCertificates = 1;</code>
@@ -8245,10 +8196,10 @@ public Builder clearEncryptedCertificates() {
   }
 
   public interface CertificateSetOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CertificateSet)
       com.google.protobuf.GeneratedMessage.
           ExtendableMessageOrBuilder<CertificateSet> {
 
-    // optional .Certificate publicCertificate = 1;
     /**
      * <code>optional .Certificate publicCertificate = 1;</code>
      */
@@ -8262,7 +8213,6 @@ public interface CertificateSetOrBuilder extends
      */
     org.terasology.protobuf.NetData.CertificateOrBuilder getPublicCertificateOrBuilder();
 
-    // optional bytes privateExponent = 2;
     /**
      * <code>optional bytes privateExponent = 2;</code>
      */
@@ -8277,7 +8227,9 @@ public interface CertificateSetOrBuilder extends
    */
   public static final class CertificateSet extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        CertificateSet> implements CertificateSetOrBuilder {
+        CertificateSet> implements
+      // @@protoc_insertion_point(message_implements:CertificateSet)
+      CertificateSetOrBuilder {
     // Use CertificateSet.newBuilder() to construct.
     private CertificateSet(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.CertificateSet, ?> builder) {
       super(builder);
@@ -8381,7 +8333,6 @@ public com.google.protobuf.Parser<CertificateSet> getParserForType() {
     }
 
     private int bitField0_;
-    // optional .Certificate publicCertificate = 1;
     public static final int PUBLICCERTIFICATE_FIELD_NUMBER = 1;
     private org.terasology.protobuf.NetData.Certificate publicCertificate_;
     /**
@@ -8403,7 +8354,6 @@ public org.terasology.protobuf.NetData.CertificateOrBuilder getPublicCertificate
       return publicCertificate_;
     }
 
-    // optional bytes privateExponent = 2;
     public static final int PRIVATEEXPONENT_FIELD_NUMBER = 2;
     private com.google.protobuf.ByteString privateExponent_;
     /**
@@ -8426,7 +8376,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       if (hasPublicCertificate()) {
         if (!getPublicCertificate().isInitialized()) {
@@ -8556,7 +8507,9 @@ protected Builder newBuilderForType(
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.CertificateSet, Builder> implements org.terasology.protobuf.NetData.CertificateSetOrBuilder {
+          org.terasology.protobuf.NetData.CertificateSet, Builder> implements
+        // @@protoc_insertion_point(builder_implements:CertificateSet)
+        org.terasology.protobuf.NetData.CertificateSetOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_CertificateSet_descriptor;
@@ -8698,7 +8651,6 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // optional .Certificate publicCertificate = 1;
       private org.terasology.protobuf.NetData.Certificate publicCertificate_ = org.terasology.protobuf.NetData.Certificate.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
           org.terasology.protobuf.NetData.Certificate, org.terasology.protobuf.NetData.Certificate.Builder, org.terasology.protobuf.NetData.CertificateOrBuilder> publicCertificateBuilder_;
@@ -8807,7 +8759,7 @@ public org.terasology.protobuf.NetData.CertificateOrBuilder getPublicCertificate
         if (publicCertificateBuilder_ == null) {
           publicCertificateBuilder_ = new com.google.protobuf.SingleFieldBuilder<
               org.terasology.protobuf.NetData.Certificate, org.terasology.protobuf.NetData.Certificate.Builder, org.terasology.protobuf.NetData.CertificateOrBuilder>(
-                  publicCertificate_,
+                  getPublicCertificate(),
                   getParentForChildren(),
                   isClean());
           publicCertificate_ = null;
@@ -8815,7 +8767,6 @@ public org.terasology.protobuf.NetData.CertificateOrBuilder getPublicCertificate
         return publicCertificateBuilder_;
       }
 
-      // optional bytes privateExponent = 2;
       private com.google.protobuf.ByteString privateExponent_ = com.google.protobuf.ByteString.EMPTY;
       /**
        * <code>optional bytes privateExponent = 2;</code>
@@ -8863,10 +8814,10 @@ public Builder clearPrivateExponent() {
   }
 
   public interface HandshakeVerificationOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:HandshakeVerification)
       com.google.protobuf.GeneratedMessage.
           ExtendableMessageOrBuilder<HandshakeVerification> {
 
-    // optional bytes signature = 1;
     /**
      * <code>optional bytes signature = 1;</code>
      */
@@ -8881,7 +8832,9 @@ public interface HandshakeVerificationOrBuilder extends
    */
   public static final class HandshakeVerification extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        HandshakeVerification> implements HandshakeVerificationOrBuilder {
+        HandshakeVerification> implements
+      // @@protoc_insertion_point(message_implements:HandshakeVerification)
+      HandshakeVerificationOrBuilder {
     // Use HandshakeVerification.newBuilder() to construct.
     private HandshakeVerification(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.HandshakeVerification, ?> builder) {
       super(builder);
@@ -8972,7 +8925,6 @@ public com.google.protobuf.Parser<HandshakeVerification> getParserForType() {
     }
 
     private int bitField0_;
-    // optional bytes signature = 1;
     public static final int SIGNATURE_FIELD_NUMBER = 1;
     private com.google.protobuf.ByteString signature_;
     /**
@@ -8994,7 +8946,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       if (!extensionsAreInitialized()) {
         memoizedIsInitialized = 0;
@@ -9111,7 +9064,9 @@ protected Builder newBuilderForType(
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.HandshakeVerification, Builder> implements org.terasology.protobuf.NetData.HandshakeVerificationOrBuilder {
+          org.terasology.protobuf.NetData.HandshakeVerification, Builder> implements
+        // @@protoc_insertion_point(builder_implements:HandshakeVerification)
+        org.terasology.protobuf.NetData.HandshakeVerificationOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_HandshakeVerification_descriptor;
@@ -9229,7 +9184,6 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // optional bytes signature = 1;
       private com.google.protobuf.ByteString signature_ = com.google.protobuf.ByteString.EMPTY;
       /**
        * <code>optional bytes signature = 1;</code>
@@ -9277,10 +9231,10 @@ public Builder clearSignature() {
   }
 
   public interface CertificateOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Certificate)
       com.google.protobuf.GeneratedMessage.
           ExtendableMessageOrBuilder<Certificate> {
 
-    // optional string id = 1;
     /**
      * <code>optional string id = 1;</code>
      */
@@ -9295,7 +9249,6 @@ public interface CertificateOrBuilder extends
     com.google.protobuf.ByteString
         getIdBytes();
 
-    // optional bytes modulus = 2;
     /**
      * <code>optional bytes modulus = 2;</code>
      */
@@ -9305,7 +9258,6 @@ public interface CertificateOrBuilder extends
      */
     com.google.protobuf.ByteString getModulus();
 
-    // optional bytes exponent = 3;
     /**
      * <code>optional bytes exponent = 3;</code>
      */
@@ -9315,7 +9267,6 @@ public interface CertificateOrBuilder extends
      */
     com.google.protobuf.ByteString getExponent();
 
-    // optional bytes signature = 4;
     /**
      * <code>optional bytes signature = 4;</code>
      */
@@ -9330,7 +9281,9 @@ public interface CertificateOrBuilder extends
    */
   public static final class Certificate extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        Certificate> implements CertificateOrBuilder {
+        Certificate> implements
+      // @@protoc_insertion_point(message_implements:Certificate)
+      CertificateOrBuilder {
     // Use Certificate.newBuilder() to construct.
     private Certificate(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.Certificate, ?> builder) {
       super(builder);
@@ -9377,8 +9330,9 @@ private Certificate(
               break;
             }
             case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000001;
-              id_ = input.readBytes();
+              id_ = bs;
               break;
             }
             case 18: {
@@ -9436,7 +9390,6 @@ public com.google.protobuf.Parser<Certificate> getParserForType() {
     }
 
     private int bitField0_;
-    // optional string id = 1;
     public static final int ID_FIELD_NUMBER = 1;
     private java.lang.Object id_;
     /**
@@ -9479,7 +9432,6 @@ public java.lang.String getId() {
       }
     }
 
-    // optional bytes modulus = 2;
     public static final int MODULUS_FIELD_NUMBER = 2;
     private com.google.protobuf.ByteString modulus_;
     /**
@@ -9495,7 +9447,6 @@ public com.google.protobuf.ByteString getModulus() {
       return modulus_;
     }
 
-    // optional bytes exponent = 3;
     public static final int EXPONENT_FIELD_NUMBER = 3;
     private com.google.protobuf.ByteString exponent_;
     /**
@@ -9511,7 +9462,6 @@ public com.google.protobuf.ByteString getExponent() {
       return exponent_;
     }
 
-    // optional bytes signature = 4;
     public static final int SIGNATURE_FIELD_NUMBER = 4;
     private com.google.protobuf.ByteString signature_;
     /**
@@ -9536,7 +9486,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       if (!extensionsAreInitialized()) {
         memoizedIsInitialized = 0;
@@ -9674,7 +9625,9 @@ protected Builder newBuilderForType(
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.Certificate, Builder> implements org.terasology.protobuf.NetData.CertificateOrBuilder {
+          org.terasology.protobuf.NetData.Certificate, Builder> implements
+        // @@protoc_insertion_point(builder_implements:Certificate)
+        org.terasology.protobuf.NetData.CertificateOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_Certificate_descriptor;
@@ -9821,7 +9774,6 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // optional string id = 1;
       private java.lang.Object id_ = "";
       /**
        * <code>optional string id = 1;</code>
@@ -9835,9 +9787,12 @@ public boolean hasId() {
       public java.lang.String getId() {
         java.lang.Object ref = id_;
         if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          id_ = s;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            id_ = s;
+          }
           return s;
         } else {
           return (java.lang.String) ref;
@@ -9895,7 +9850,6 @@ public Builder setIdBytes(
         return this;
       }
 
-      // optional bytes modulus = 2;
       private com.google.protobuf.ByteString modulus_ = com.google.protobuf.ByteString.EMPTY;
       /**
        * <code>optional bytes modulus = 2;</code>
@@ -9931,7 +9885,6 @@ public Builder clearModulus() {
         return this;
       }
 
-      // optional bytes exponent = 3;
       private com.google.protobuf.ByteString exponent_ = com.google.protobuf.ByteString.EMPTY;
       /**
        * <code>optional bytes exponent = 3;</code>
@@ -9967,7 +9920,6 @@ public Builder clearExponent() {
         return this;
       }
 
-      // optional bytes signature = 4;
       private com.google.protobuf.ByteString signature_ = com.google.protobuf.ByteString.EMPTY;
       /**
        * <code>optional bytes signature = 4;</code>
@@ -10015,15 +9967,15 @@ public Builder clearSignature() {
   }
 
   public interface BlockFamilyRegisteredMessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:BlockFamilyRegisteredMessage)
       com.google.protobuf.GeneratedMessage.
           ExtendableMessageOrBuilder<BlockFamilyRegisteredMessage> {
 
-    // repeated string blockUri = 1;
     /**
      * <code>repeated string blockUri = 1;</code>
      */
-    java.util.List<java.lang.String>
-    getBlockUriList();
+    com.google.protobuf.ProtocolStringList
+        getBlockUriList();
     /**
      * <code>repeated string blockUri = 1;</code>
      */
@@ -10038,7 +9990,6 @@ public interface BlockFamilyRegisteredMessageOrBuilder extends
     com.google.protobuf.ByteString
         getBlockUriBytes(int index);
 
-    // repeated int32 blockId = 2;
     /**
      * <code>repeated int32 blockId = 2;</code>
      */
@@ -10057,7 +10008,9 @@ public interface BlockFamilyRegisteredMessageOrBuilder extends
    */
   public static final class BlockFamilyRegisteredMessage extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        BlockFamilyRegisteredMessage> implements BlockFamilyRegisteredMessageOrBuilder {
+        BlockFamilyRegisteredMessage> implements
+      // @@protoc_insertion_point(message_implements:BlockFamilyRegisteredMessage)
+      BlockFamilyRegisteredMessageOrBuilder {
     // Use BlockFamilyRegisteredMessage.newBuilder() to construct.
     private BlockFamilyRegisteredMessage(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage, ?> builder) {
       super(builder);
@@ -10104,11 +10057,12 @@ private BlockFamilyRegisteredMessage(
               break;
             }
             case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
                 blockUri_ = new com.google.protobuf.LazyStringArrayList();
                 mutable_bitField0_ |= 0x00000001;
               }
-              blockUri_.add(input.readBytes());
+              blockUri_.add(bs);
               break;
             }
             case 16: {
@@ -10141,7 +10095,7 @@ private BlockFamilyRegisteredMessage(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
         if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-          blockUri_ = new com.google.protobuf.UnmodifiableLazyStringList(blockUri_);
+          blockUri_ = blockUri_.getUnmodifiableView();
         }
         if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
           blockId_ = java.util.Collections.unmodifiableList(blockId_);
@@ -10177,13 +10131,12 @@ public com.google.protobuf.Parser<BlockFamilyRegisteredMessage> getParserForType
       return PARSER;
     }
 
-    // repeated string blockUri = 1;
     public static final int BLOCKURI_FIELD_NUMBER = 1;
     private com.google.protobuf.LazyStringList blockUri_;
     /**
      * <code>repeated string blockUri = 1;</code>
      */
-    public java.util.List<java.lang.String>
+    public com.google.protobuf.ProtocolStringList
         getBlockUriList() {
       return blockUri_;
     }
@@ -10207,7 +10160,6 @@ public java.lang.String getBlockUri(int index) {
       return blockUri_.getByteString(index);
     }
 
-    // repeated int32 blockId = 2;
     public static final int BLOCKID_FIELD_NUMBER = 2;
     private java.util.List<java.lang.Integer> blockId_;
     /**
@@ -10237,7 +10189,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       if (!extensionsAreInitialized()) {
         memoizedIsInitialized = 0;
@@ -10371,7 +10324,9 @@ protected Builder newBuilderForType(
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage, Builder> implements org.terasology.protobuf.NetData.BlockFamilyRegisteredMessageOrBuilder {
+          org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage, Builder> implements
+        // @@protoc_insertion_point(builder_implements:BlockFamilyRegisteredMessage)
+        org.terasology.protobuf.NetData.BlockFamilyRegisteredMessageOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_BlockFamilyRegisteredMessage_descriptor;
@@ -10436,8 +10391,7 @@ public org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage buildPartial
         org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage result = new org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage(this);
         int from_bitField0_ = bitField0_;
         if (((bitField0_ & 0x00000001) == 0x00000001)) {
-          blockUri_ = new com.google.protobuf.UnmodifiableLazyStringList(
-              blockUri_);
+          blockUri_ = blockUri_.getUnmodifiableView();
           bitField0_ = (bitField0_ & ~0x00000001);
         }
         result.blockUri_ = blockUri_;
@@ -10513,7 +10467,6 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // repeated string blockUri = 1;
       private com.google.protobuf.LazyStringList blockUri_ = com.google.protobuf.LazyStringArrayList.EMPTY;
       private void ensureBlockUriIsMutable() {
         if (!((bitField0_ & 0x00000001) == 0x00000001)) {
@@ -10524,9 +10477,9 @@ private void ensureBlockUriIsMutable() {
       /**
        * <code>repeated string blockUri = 1;</code>
        */
-      public java.util.List<java.lang.String>
+      public com.google.protobuf.ProtocolStringList
           getBlockUriList() {
-        return java.util.Collections.unmodifiableList(blockUri_);
+        return blockUri_.getUnmodifiableView();
       }
       /**
        * <code>repeated string blockUri = 1;</code>
@@ -10579,7 +10532,8 @@ public Builder addBlockUri(
       public Builder addAllBlockUri(
           java.lang.Iterable<java.lang.String> values) {
         ensureBlockUriIsMutable();
-        super.addAll(values, blockUri_);
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, blockUri_);
         onChanged();
         return this;
       }
@@ -10606,7 +10560,6 @@ public Builder addBlockUriBytes(
         return this;
       }
 
-      // repeated int32 blockId = 2;
       private java.util.List<java.lang.Integer> blockId_ = java.util.Collections.emptyList();
       private void ensureBlockIdIsMutable() {
         if (!((bitField0_ & 0x00000002) == 0x00000002)) {
@@ -10658,7 +10611,8 @@ public Builder addBlockId(int value) {
       public Builder addAllBlockId(
           java.lang.Iterable<? extends java.lang.Integer> values) {
         ensureBlockIdIsMutable();
-        super.addAll(values, blockId_);
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, blockId_);
         onChanged();
         return this;
       }
@@ -10684,10 +10638,10 @@ public Builder clearBlockId() {
   }
 
   public interface InvalidateChunkMessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:InvalidateChunkMessage)
       com.google.protobuf.GeneratedMessage.
           ExtendableMessageOrBuilder<InvalidateChunkMessage> {
 
-    // optional .Vector3iData pos = 1;
     /**
      * <code>optional .Vector3iData pos = 1;</code>
      */
@@ -10706,7 +10660,9 @@ public interface InvalidateChunkMessageOrBuilder extends
    */
   public static final class InvalidateChunkMessage extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        InvalidateChunkMessage> implements InvalidateChunkMessageOrBuilder {
+        InvalidateChunkMessage> implements
+      // @@protoc_insertion_point(message_implements:InvalidateChunkMessage)
+      InvalidateChunkMessageOrBuilder {
     // Use InvalidateChunkMessage.newBuilder() to construct.
     private InvalidateChunkMessage(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.InvalidateChunkMessage, ?> builder) {
       super(builder);
@@ -10805,7 +10761,6 @@ public com.google.protobuf.Parser<InvalidateChunkMessage> getParserForType() {
     }
 
     private int bitField0_;
-    // optional .Vector3iData pos = 1;
     public static final int POS_FIELD_NUMBER = 1;
     private org.terasology.protobuf.NetData.Vector3iData pos_;
     /**
@@ -10833,7 +10788,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       if (!extensionsAreInitialized()) {
         memoizedIsInitialized = 0;
@@ -10950,7 +10906,9 @@ protected Builder newBuilderForType(
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.InvalidateChunkMessage, Builder> implements org.terasology.protobuf.NetData.InvalidateChunkMessageOrBuilder {
+          org.terasology.protobuf.NetData.InvalidateChunkMessage, Builder> implements
+        // @@protoc_insertion_point(builder_implements:InvalidateChunkMessage)
+        org.terasology.protobuf.NetData.InvalidateChunkMessageOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_InvalidateChunkMessage_descriptor;
@@ -11077,7 +11035,6 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // optional .Vector3iData pos = 1;
       private org.terasology.protobuf.NetData.Vector3iData pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
           org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder> posBuilder_;
@@ -11186,7 +11143,7 @@ public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder() {
         if (posBuilder_ == null) {
           posBuilder_ = new com.google.protobuf.SingleFieldBuilder<
               org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder>(
-                  pos_,
+                  getPos(),
                   getParentForChildren(),
                   isClean());
           pos_ = null;
@@ -11206,10 +11163,10 @@ public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder() {
   }
 
   public interface BlockChangeMessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:BlockChangeMessage)
       com.google.protobuf.GeneratedMessage.
           ExtendableMessageOrBuilder<BlockChangeMessage> {
 
-    // optional .Vector3iData pos = 1;
     /**
      * <code>optional .Vector3iData pos = 1;</code>
      */
@@ -11223,7 +11180,6 @@ public interface BlockChangeMessageOrBuilder extends
      */
     org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder();
 
-    // optional int32 newBlock = 2;
     /**
      * <code>optional int32 newBlock = 2;</code>
      */
@@ -11238,7 +11194,9 @@ public interface BlockChangeMessageOrBuilder extends
    */
   public static final class BlockChangeMessage extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        BlockChangeMessage> implements BlockChangeMessageOrBuilder {
+        BlockChangeMessage> implements
+      // @@protoc_insertion_point(message_implements:BlockChangeMessage)
+      BlockChangeMessageOrBuilder {
     // Use BlockChangeMessage.newBuilder() to construct.
     private BlockChangeMessage(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.BlockChangeMessage, ?> builder) {
       super(builder);
@@ -11342,7 +11300,6 @@ public com.google.protobuf.Parser<BlockChangeMessage> getParserForType() {
     }
 
     private int bitField0_;
-    // optional .Vector3iData pos = 1;
     public static final int POS_FIELD_NUMBER = 1;
     private org.terasology.protobuf.NetData.Vector3iData pos_;
     /**
@@ -11364,7 +11321,6 @@ public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder() {
       return pos_;
     }
 
-    // optional int32 newBlock = 2;
     public static final int NEWBLOCK_FIELD_NUMBER = 2;
     private int newBlock_;
     /**
@@ -11387,7 +11343,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       if (!extensionsAreInitialized()) {
         memoizedIsInitialized = 0;
@@ -11511,7 +11468,9 @@ protected Builder newBuilderForType(
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.BlockChangeMessage, Builder> implements org.terasology.protobuf.NetData.BlockChangeMessageOrBuilder {
+          org.terasology.protobuf.NetData.BlockChangeMessage, Builder> implements
+        // @@protoc_insertion_point(builder_implements:BlockChangeMessage)
+        org.terasology.protobuf.NetData.BlockChangeMessageOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_BlockChangeMessage_descriptor;
@@ -11647,7 +11606,6 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // optional .Vector3iData pos = 1;
       private org.terasology.protobuf.NetData.Vector3iData pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
           org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder> posBuilder_;
@@ -11756,7 +11714,7 @@ public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder() {
         if (posBuilder_ == null) {
           posBuilder_ = new com.google.protobuf.SingleFieldBuilder<
               org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder>(
-                  pos_,
+                  getPos(),
                   getParentForChildren(),
                   isClean());
           pos_ = null;
@@ -11764,7 +11722,6 @@ public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder() {
         return posBuilder_;
       }
 
-      // optional int32 newBlock = 2;
       private int newBlock_ ;
       /**
        * <code>optional int32 newBlock = 2;</code>
@@ -11808,53 +11765,101 @@ public Builder clearNewBlock() {
     // @@protoc_insertion_point(class_scope:BlockChangeMessage)
   }
 
-  public interface BiomeChangeMessageOrBuilder extends
+  public interface ChunkBlockDeltaMessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ChunkBlockDeltaMessage)
       com.google.protobuf.GeneratedMessage.
-          ExtendableMessageOrBuilder<BiomeChangeMessage> {
+          ExtendableMessageOrBuilder<ChunkBlockDeltaMessage> {
 
-    // optional .Vector3iData pos = 1;
     /**
-     * <code>optional .Vector3iData pos = 1;</code>
+     * <code>optional .Vector3iData chunkPos = 1;</code>
      */
-    boolean hasPos();
+    boolean hasChunkPos();
     /**
-     * <code>optional .Vector3iData pos = 1;</code>
+     * <code>optional .Vector3iData chunkPos = 1;</code>
      */
-    org.terasology.protobuf.NetData.Vector3iData getPos();
+    org.terasology.protobuf.NetData.Vector3iData getChunkPos();
     /**
-     * <code>optional .Vector3iData pos = 1;</code>
+     * <code>optional .Vector3iData chunkPos = 1;</code>
      */
-    org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder();
+    org.terasology.protobuf.NetData.Vector3iDataOrBuilder getChunkPosOrBuilder();
 
-    // optional int32 newBiome = 2;
     /**
-     * <code>optional int32 newBiome = 2;</code>
+     * <code>repeated sint32 palette = 2 [packed = true];</code>
+     *
+     * <pre>
+     * The ids of the new blocks
+     * </pre>
+     */
+    java.util.List<java.lang.Integer> getPaletteList();
+    /**
+     * <code>repeated sint32 palette = 2 [packed = true];</code>
+     *
+     * <pre>
+     * The ids of the new blocks
+     * </pre>
+     */
+    int getPaletteCount();
+    /**
+     * <code>repeated sint32 palette = 2 [packed = true];</code>
+     *
+     * <pre>
+     * The ids of the new blocks
+     * </pre>
      */
-    boolean hasNewBiome();
+    int getPalette(int index);
+
     /**
-     * <code>optional int32 newBiome = 2;</code>
+     * <code>repeated int32 runs = 3 [packed = true];</code>
+     *
+     * <pre>
+     * Triples of: distance of the run start to the end of the previous run, run length, palette index
+     * </pre>
      */
-    int getNewBiome();
+    java.util.List<java.lang.Integer> getRunsList();
+    /**
+     * <code>repeated int32 runs = 3 [packed = true];</code>
+     *
+     * <pre>
+     * Triples of: distance of the run start to the end of the previous run, run length, palette index
+     * </pre>
+     */
+    int getRunsCount();
+    /**
+     * <code>repeated int32 runs = 3 [packed = true];</code>
+     *
+     * <pre>
+     * Triples of: distance of the run start to the end of the previous run, run length, palette index
+     * </pre>
+     */
+    int getRuns(int index);
   }
   /**
-   * Protobuf type {@code BiomeChangeMessage}
+   * Protobuf type {@code ChunkBlockDeltaMessage}
+   *
+   * <pre>
+   * The block changes of a single chunk, sent instead of many BlockChangeMessages when a lot of blocks of the chunk change
+   * in the same tick. The changed positions are run length encoded over the block indices of the chunk
+   * (x + SIZE_X * (z + SIZE_Z * y)), every run referring to an entry of the palette of new blocks.
+   * </pre>
    */
-  public static final class BiomeChangeMessage extends
+  public static final class ChunkBlockDeltaMessage extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        BiomeChangeMessage> implements BiomeChangeMessageOrBuilder {
-    // Use BiomeChangeMessage.newBuilder() to construct.
-    private BiomeChangeMessage(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.BiomeChangeMessage, ?> builder) {
+        ChunkBlockDeltaMessage> implements
+      // @@protoc_insertion_point(message_implements:ChunkBlockDeltaMessage)
+      ChunkBlockDeltaMessageOrBuilder {
+    // Use ChunkBlockDeltaMessage.newBuilder() to construct.
+    private ChunkBlockDeltaMessage(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.ChunkBlockDeltaMessage, ?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private BiomeChangeMessage(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private ChunkBlockDeltaMessage(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final BiomeChangeMessage defaultInstance;
-    public static BiomeChangeMessage getDefaultInstance() {
+    private static final ChunkBlockDeltaMessage defaultInstance;
+    public static ChunkBlockDeltaMessage getDefaultInstance() {
       return defaultInstance;
     }
 
-    public BiomeChangeMessage getDefaultInstanceForType() {
+    public ChunkBlockDeltaMessage getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -11864,7 +11869,7 @@ public BiomeChangeMessage getDefaultInstanceForType() {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private BiomeChangeMessage(
+    private ChunkBlockDeltaMessage(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -11890,19 +11895,56 @@ private BiomeChangeMessage(
             case 10: {
               org.terasology.protobuf.NetData.Vector3iData.Builder subBuilder = null;
               if (((bitField0_ & 0x00000001) == 0x00000001)) {
-                subBuilder = pos_.toBuilder();
+                subBuilder = chunkPos_.toBuilder();
               }
-              pos_ = input.readMessage(org.terasology.protobuf.NetData.Vector3iData.PARSER, extensionRegistry);
+              chunkPos_ = input.readMessage(org.terasology.protobuf.NetData.Vector3iData.PARSER, extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(pos_);
-                pos_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom(chunkPos_);
+                chunkPos_ = subBuilder.buildPartial();
               }
               bitField0_ |= 0x00000001;
               break;
             }
             case 16: {
-              bitField0_ |= 0x00000002;
-              newBiome_ = input.readInt32();
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                palette_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              palette_.add(input.readSInt32());
+              break;
+            }
+            case 18: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002) && input.getBytesUntilLimit() > 0) {
+                palette_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                palette_.add(input.readSInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 24: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                runs_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              runs_.add(input.readInt32());
+              break;
+            }
+            case 26: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004) && input.getBytesUntilLimit() > 0) {
+                runs_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                runs_.add(input.readInt32());
+              }
+              input.popLimit(limit);
               break;
             }
           }
@@ -11913,84 +11955,145 @@ private BiomeChangeMessage(
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          palette_ = java.util.Collections.unmodifiableList(palette_);
+        }
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          runs_ = java.util.Collections.unmodifiableList(runs_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.terasology.protobuf.NetData.internal_static_BiomeChangeMessage_descriptor;
+      return org.terasology.protobuf.NetData.internal_static_ChunkBlockDeltaMessage_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.terasology.protobuf.NetData.internal_static_BiomeChangeMessage_fieldAccessorTable
+      return org.terasology.protobuf.NetData.internal_static_ChunkBlockDeltaMessage_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.terasology.protobuf.NetData.BiomeChangeMessage.class, org.terasology.protobuf.NetData.BiomeChangeMessage.Builder.class);
+              org.terasology.protobuf.NetData.ChunkBlockDeltaMessage.class, org.terasology.protobuf.NetData.ChunkBlockDeltaMessage.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<BiomeChangeMessage> PARSER =
-        new com.google.protobuf.AbstractParser<BiomeChangeMessage>() {
-      public BiomeChangeMessage parsePartialFrom(
+    public static com.google.protobuf.Parser<ChunkBlockDeltaMessage> PARSER =
+        new com.google.protobuf.AbstractParser<ChunkBlockDeltaMessage>() {
+      public ChunkBlockDeltaMessage parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new BiomeChangeMessage(input, extensionRegistry);
+        return new ChunkBlockDeltaMessage(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<BiomeChangeMessage> getParserForType() {
+    public com.google.protobuf.Parser<ChunkBlockDeltaMessage> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    // optional .Vector3iData pos = 1;
-    public static final int POS_FIELD_NUMBER = 1;
-    private org.terasology.protobuf.NetData.Vector3iData pos_;
+    public static final int CHUNKPOS_FIELD_NUMBER = 1;
+    private org.terasology.protobuf.NetData.Vector3iData chunkPos_;
     /**
-     * <code>optional .Vector3iData pos = 1;</code>
+     * <code>optional .Vector3iData chunkPos = 1;</code>
      */
-    public boolean hasPos() {
+    public boolean hasChunkPos() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>optional .Vector3iData pos = 1;</code>
+     * <code>optional .Vector3iData chunkPos = 1;</code>
      */
-    public org.terasology.protobuf.NetData.Vector3iData getPos() {
-      return pos_;
+    public org.terasology.protobuf.NetData.Vector3iData getChunkPos() {
+      return chunkPos_;
     }
     /**
-     * <code>optional .Vector3iData pos = 1;</code>
+     * <code>optional .Vector3iData chunkPos = 1;</code>
      */
-    public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder() {
-      return pos_;
+    public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getChunkPosOrBuilder() {
+      return chunkPos_;
     }
 
-    // optional int32 newBiome = 2;
-    public static final int NEWBIOME_FIELD_NUMBER = 2;
-    private int newBiome_;
+    public static final int PALETTE_FIELD_NUMBER = 2;
+    private java.util.List<java.lang.Integer> palette_;
     /**
-     * <code>optional int32 newBiome = 2;</code>
+     * <code>repeated sint32 palette = 2 [packed = true];</code>
+     *
+     * <pre>
+     * The ids of the new blocks
+     * </pre>
      */
-    public boolean hasNewBiome() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+    public java.util.List<java.lang.Integer>
+        getPaletteList() {
+      return palette_;
+    }
+    /**
+     * <code>repeated sint32 palette = 2 [packed = true];</code>
+     *
+     * <pre>
+     * The ids of the new blocks
+     * </pre>
+     */
+    public int getPaletteCount() {
+      return palette_.size();
     }
     /**
-     * <code>optional int32 newBiome = 2;</code>
+     * <code>repeated sint32 palette = 2 [packed = true];</code>
+     *
+     * <pre>
+     * The ids of the new blocks
+     * </pre>
      */
-    public int getNewBiome() {
-      return newBiome_;
+    public int getPalette(int index) {
+      return palette_.get(index);
     }
+    private int paletteMemoizedSerializedSize = -1;
+
+    public static final int RUNS_FIELD_NUMBER = 3;
+    private java.util.List<java.lang.Integer> runs_;
+    /**
+     * <code>repeated int32 runs = 3 [packed = true];</code>
+     *
+     * <pre>
+     * Triples of: distance of the run start to the end of the previous run, run length, palette index
+     * </pre>
+     */
+    public java.util.List<java.lang.Integer>
+        getRunsList() {
+      return runs_;
+    }
+    /**
+     * <code>repeated int32 runs = 3 [packed = true];</code>
+     *
+     * <pre>
+     * Triples of: distance of the run start to the end of the previous run, run length, palette index
+     * </pre>
+     */
+    public int getRunsCount() {
+      return runs_.size();
+    }
+    /**
+     * <code>repeated int32 runs = 3 [packed = true];</code>
+     *
+     * <pre>
+     * Triples of: distance of the run start to the end of the previous run, run length, palette index
+     * </pre>
+     */
+    public int getRuns(int index) {
+      return runs_.get(index);
+    }
+    private int runsMemoizedSerializedSize = -1;
 
     private void initFields() {
-      pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
-      newBiome_ = 0;
+      chunkPos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
+      palette_ = java.util.Collections.emptyList();
+      runs_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       if (!extensionsAreInitialized()) {
         memoizedIsInitialized = 0;
@@ -12004,13 +12107,24 @@ public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
       com.google.protobuf.GeneratedMessage
-        .ExtendableMessage<org.terasology.protobuf.NetData.BiomeChangeMessage>.ExtensionWriter extensionWriter =
+        .ExtendableMessage<org.terasology.protobuf.NetData.ChunkBlockDeltaMessage>.ExtensionWriter extensionWriter =
           newExtensionWriter();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeMessage(1, pos_);
+        output.writeMessage(1, chunkPos_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeInt32(2, newBiome_);
+      if (getPaletteList().size() > 0) {
+        output.writeRawVarint32(18);
+        output.writeRawVarint32(paletteMemoizedSerializedSize);
+      }
+      for (int i = 0; i < palette_.size(); i++) {
+        output.writeSInt32NoTag(palette_.get(i));
+      }
+      if (getRunsList().size() > 0) {
+        output.writeRawVarint32(26);
+        output.writeRawVarint32(runsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < runs_.size(); i++) {
+        output.writeInt32NoTag(runs_.get(i));
       }
       extensionWriter.writeUntil(536870912, output);
       getUnknownFields().writeTo(output);
@@ -12024,11 +12138,35 @@ public int getSerializedSize() {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, pos_);
+          .computeMessageSize(1, chunkPos_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(2, newBiome_);
+      {
+        int dataSize = 0;
+        for (int i = 0; i < palette_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeSInt32SizeNoTag(palette_.get(i));
+        }
+        size += dataSize;
+        if (!getPaletteList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        paletteMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < runs_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(runs_.get(i));
+        }
+        size += dataSize;
+        if (!getRunsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        runsMemoizedSerializedSize = dataSize;
       }
       size += extensionsSerializedSize();
       size += getUnknownFields().getSerializedSize();
@@ -12043,53 +12181,53 @@ protected java.lang.Object writeReplace()
       return super.writeReplace();
     }
 
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(
+    public static org.terasology.protobuf.NetData.ChunkBlockDeltaMessage parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(
+    public static org.terasology.protobuf.NetData.ChunkBlockDeltaMessage parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(byte[] data)
+    public static org.terasology.protobuf.NetData.ChunkBlockDeltaMessage parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(
+    public static org.terasology.protobuf.NetData.ChunkBlockDeltaMessage parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(java.io.InputStream input)
+    public static org.terasology.protobuf.NetData.ChunkBlockDeltaMessage parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(
+    public static org.terasology.protobuf.NetData.ChunkBlockDeltaMessage parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseDelimitedFrom(java.io.InputStream input)
+    public static org.terasology.protobuf.NetData.ChunkBlockDeltaMessage parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseDelimitedFrom(
+    public static org.terasology.protobuf.NetData.ChunkBlockDeltaMessage parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(
+    public static org.terasology.protobuf.NetData.ChunkBlockDeltaMessage parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(
+    public static org.terasology.protobuf.NetData.ChunkBlockDeltaMessage parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -12098,7 +12236,7 @@ public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.terasology.protobuf.NetData.BiomeChangeMessage prototype) {
+    public static Builder newBuilder(org.terasology.protobuf.NetData.ChunkBlockDeltaMessage prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -12110,24 +12248,32 @@ protected Builder newBuilderForType(
       return builder;
     }
     /**
-     * Protobuf type {@code BiomeChangeMessage}
+     * Protobuf type {@code ChunkBlockDeltaMessage}
+     *
+     * <pre>
+     * The block changes of a single chunk, sent instead of many BlockChangeMessages when a lot of blocks of the chunk change
+     * in the same tick. The changed positions are run length encoded over the block indices of the chunk
+     * (x + SIZE_X * (z + SIZE_Z * y)), every run referring to an entry of the palette of new blocks.
+     * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.BiomeChangeMessage, Builder> implements org.terasology.protobuf.NetData.BiomeChangeMessageOrBuilder {
+          org.terasology.protobuf.NetData.ChunkBlockDeltaMessage, Builder> implements
+        // @@protoc_insertion_point(builder_implements:ChunkBlockDeltaMessage)
+        org.terasology.protobuf.NetData.ChunkBlockDeltaMessageOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.terasology.protobuf.NetData.internal_static_BiomeChangeMessage_descriptor;
+        return org.terasology.protobuf.NetData.internal_static_ChunkBlockDeltaMessage_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.terasology.protobuf.NetData.internal_static_BiomeChangeMessage_fieldAccessorTable
+        return org.terasology.protobuf.NetData.internal_static_ChunkBlockDeltaMessage_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.terasology.protobuf.NetData.BiomeChangeMessage.class, org.terasology.protobuf.NetData.BiomeChangeMessage.Builder.class);
+                org.terasology.protobuf.NetData.ChunkBlockDeltaMessage.class, org.terasology.protobuf.NetData.ChunkBlockDeltaMessage.Builder.class);
       }
 
-      // Construct using org.terasology.protobuf.NetData.BiomeChangeMessage.newBuilder()
+      // Construct using org.terasology.protobuf.NetData.ChunkBlockDeltaMessage.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -12139,7 +12285,7 @@ private Builder(
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getPosFieldBuilder();
+          getChunkPosFieldBuilder();
         }
       }
       private static Builder create() {
@@ -12148,14 +12294,16 @@ private static Builder create() {
 
       public Builder clear() {
         super.clear();
-        if (posBuilder_ == null) {
-          pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
+        if (chunkPosBuilder_ == null) {
+          chunkPos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
         } else {
-          posBuilder_.clear();
+          chunkPosBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000001);
-        newBiome_ = 0;
+        palette_ = java.util.Collections.emptyList();
         bitField0_ = (bitField0_ & ~0x00000002);
+        runs_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -12165,58 +12313,81 @@ public Builder clone() {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.terasology.protobuf.NetData.internal_static_BiomeChangeMessage_descriptor;
+        return org.terasology.protobuf.NetData.internal_static_ChunkBlockDeltaMessage_descriptor;
       }
 
-      public org.terasology.protobuf.NetData.BiomeChangeMessage getDefaultInstanceForType() {
-        return org.terasology.protobuf.NetData.BiomeChangeMessage.getDefaultInstance();
+      public org.terasology.protobuf.NetData.ChunkBlockDeltaMessage getDefaultInstanceForType() {
+        return org.terasology.protobuf.NetData.ChunkBlockDeltaMessage.getDefaultInstance();
       }
 
-      public org.terasology.protobuf.NetData.BiomeChangeMessage build() {
-        org.terasology.protobuf.NetData.BiomeChangeMessage result = buildPartial();
+      public org.terasology.protobuf.NetData.ChunkBlockDeltaMessage build() {
+        org.terasology.protobuf.NetData.ChunkBlockDeltaMessage result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.terasology.protobuf.NetData.BiomeChangeMessage buildPartial() {
-        org.terasology.protobuf.NetData.BiomeChangeMessage result = new org.terasology.protobuf.NetData.BiomeChangeMessage(this);
+      public org.terasology.protobuf.NetData.ChunkBlockDeltaMessage buildPartial() {
+        org.terasology.protobuf.NetData.ChunkBlockDeltaMessage result = new org.terasology.protobuf.NetData.ChunkBlockDeltaMessage(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        if (posBuilder_ == null) {
-          result.pos_ = pos_;
+        if (chunkPosBuilder_ == null) {
+          result.chunkPos_ = chunkPos_;
         } else {
-          result.pos_ = posBuilder_.build();
+          result.chunkPos_ = chunkPosBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          palette_ = java.util.Collections.unmodifiableList(palette_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.palette_ = palette_;
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          runs_ = java.util.Collections.unmodifiableList(runs_);
+          bitField0_ = (bitField0_ & ~0x00000004);
         }
-        result.newBiome_ = newBiome_;
+        result.runs_ = runs_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.terasology.protobuf.NetData.BiomeChangeMessage) {
-          return mergeFrom((org.terasology.protobuf.NetData.BiomeChangeMessage)other);
+        if (other instanceof org.terasology.protobuf.NetData.ChunkBlockDeltaMessage) {
+          return mergeFrom((org.terasology.protobuf.NetData.ChunkBlockDeltaMessage)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.terasology.protobuf.NetData.BiomeChangeMessage other) {
-        if (other == org.terasology.protobuf.NetData.BiomeChangeMessage.getDefaultInstance()) return this;
-        if (other.hasPos()) {
-          mergePos(other.getPos());
+      public Builder mergeFrom(org.terasology.protobuf.NetData.ChunkBlockDeltaMessage other) {
+        if (other == org.terasology.protobuf.NetData.ChunkBlockDeltaMessage.getDefaultInstance()) return this;
+        if (other.hasChunkPos()) {
+          mergeChunkPos(other.getChunkPos());
         }
-        if (other.hasNewBiome()) {
-          setNewBiome(other.getNewBiome());
+        if (!other.palette_.isEmpty()) {
+          if (palette_.isEmpty()) {
+            palette_ = other.palette_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensurePaletteIsMutable();
+            palette_.addAll(other.palette_);
+          }
+          onChanged();
+        }
+        if (!other.runs_.isEmpty()) {
+          if (runs_.isEmpty()) {
+            runs_ = other.runs_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureRunsIsMutable();
+            runs_.addAll(other.runs_);
+          }
+          onChanged();
         }
         this.mergeExtensionFields(other);
         this.mergeUnknownFields(other.getUnknownFields());
@@ -12235,11 +12406,11 @@ public Builder mergeFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.terasology.protobuf.NetData.BiomeChangeMessage parsedMessage = null;
+        org.terasology.protobuf.NetData.ChunkBlockDeltaMessage parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.terasology.protobuf.NetData.BiomeChangeMessage) e.getUnfinishedMessage();
+          parsedMessage = (org.terasology.protobuf.NetData.ChunkBlockDeltaMessage) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -12250,172 +12421,326 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // optional .Vector3iData pos = 1;
-      private org.terasology.protobuf.NetData.Vector3iData pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
+      private org.terasology.protobuf.NetData.Vector3iData chunkPos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
-          org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder> posBuilder_;
+          org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder> chunkPosBuilder_;
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional .Vector3iData chunkPos = 1;</code>
        */
-      public boolean hasPos() {
+      public boolean hasChunkPos() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional .Vector3iData chunkPos = 1;</code>
        */
-      public org.terasology.protobuf.NetData.Vector3iData getPos() {
-        if (posBuilder_ == null) {
-          return pos_;
+      public org.terasology.protobuf.NetData.Vector3iData getChunkPos() {
+        if (chunkPosBuilder_ == null) {
+          return chunkPos_;
         } else {
-          return posBuilder_.getMessage();
+          return chunkPosBuilder_.getMessage();
         }
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional .Vector3iData chunkPos = 1;</code>
        */
-      public Builder setPos(org.terasology.protobuf.NetData.Vector3iData value) {
-        if (posBuilder_ == null) {
+      public Builder setChunkPos(org.terasology.protobuf.NetData.Vector3iData value) {
+        if (chunkPosBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          pos_ = value;
+          chunkPos_ = value;
           onChanged();
         } else {
-          posBuilder_.setMessage(value);
+          chunkPosBuilder_.setMessage(value);
         }
         bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional .Vector3iData chunkPos = 1;</code>
        */
-      public Builder setPos(
+      public Builder setChunkPos(
           org.terasology.protobuf.NetData.Vector3iData.Builder builderForValue) {
-        if (posBuilder_ == null) {
-          pos_ = builderForValue.build();
+        if (chunkPosBuilder_ == null) {
+          chunkPos_ = builderForValue.build();
           onChanged();
         } else {
-          posBuilder_.setMessage(builderForValue.build());
+          chunkPosBuilder_.setMessage(builderForValue.build());
         }
         bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional .Vector3iData chunkPos = 1;</code>
        */
-      public Builder mergePos(org.terasology.protobuf.NetData.Vector3iData value) {
-        if (posBuilder_ == null) {
+      public Builder mergeChunkPos(org.terasology.protobuf.NetData.Vector3iData value) {
+        if (chunkPosBuilder_ == null) {
           if (((bitField0_ & 0x00000001) == 0x00000001) &&
-              pos_ != org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance()) {
-            pos_ =
-              org.terasology.protobuf.NetData.Vector3iData.newBuilder(pos_).mergeFrom(value).buildPartial();
+              chunkPos_ != org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance()) {
+            chunkPos_ =
+              org.terasology.protobuf.NetData.Vector3iData.newBuilder(chunkPos_).mergeFrom(value).buildPartial();
           } else {
-            pos_ = value;
+            chunkPos_ = value;
           }
           onChanged();
         } else {
-          posBuilder_.mergeFrom(value);
+          chunkPosBuilder_.mergeFrom(value);
         }
         bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional .Vector3iData chunkPos = 1;</code>
        */
-      public Builder clearPos() {
-        if (posBuilder_ == null) {
-          pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
+      public Builder clearChunkPos() {
+        if (chunkPosBuilder_ == null) {
+          chunkPos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
           onChanged();
         } else {
-          posBuilder_.clear();
+          chunkPosBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional .Vector3iData chunkPos = 1;</code>
        */
-      public org.terasology.protobuf.NetData.Vector3iData.Builder getPosBuilder() {
+      public org.terasology.protobuf.NetData.Vector3iData.Builder getChunkPosBuilder() {
         bitField0_ |= 0x00000001;
         onChanged();
-        return getPosFieldBuilder().getBuilder();
+        return getChunkPosFieldBuilder().getBuilder();
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional .Vector3iData chunkPos = 1;</code>
        */
-      public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder() {
-        if (posBuilder_ != null) {
-          return posBuilder_.getMessageOrBuilder();
+      public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getChunkPosOrBuilder() {
+        if (chunkPosBuilder_ != null) {
+          return chunkPosBuilder_.getMessageOrBuilder();
         } else {
-          return pos_;
+          return chunkPos_;
         }
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional .Vector3iData chunkPos = 1;</code>
        */
       private com.google.protobuf.SingleFieldBuilder<
           org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder> 
-          getPosFieldBuilder() {
-        if (posBuilder_ == null) {
-          posBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+          getChunkPosFieldBuilder() {
+        if (chunkPosBuilder_ == null) {
+          chunkPosBuilder_ = new com.google.protobuf.SingleFieldBuilder<
               org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder>(
-                  pos_,
+                  getChunkPos(),
                   getParentForChildren(),
                   isClean());
-          pos_ = null;
+          chunkPos_ = null;
         }
-        return posBuilder_;
+        return chunkPosBuilder_;
       }
 
-      // optional int32 newBiome = 2;
-      private int newBiome_ ;
+      private java.util.List<java.lang.Integer> palette_ = java.util.Collections.emptyList();
+      private void ensurePaletteIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          palette_ = new java.util.ArrayList<java.lang.Integer>(palette_);
+          bitField0_ |= 0x00000002;
+         }
+      }
       /**
-       * <code>optional int32 newBiome = 2;</code>
+       * <code>repeated sint32 palette = 2 [packed = true];</code>
+       *
+       * <pre>
+       * The ids of the new blocks
+       * </pre>
        */
-      public boolean hasNewBiome() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public java.util.List<java.lang.Integer>
+          getPaletteList() {
+        return java.util.Collections.unmodifiableList(palette_);
       }
       /**
-       * <code>optional int32 newBiome = 2;</code>
+       * <code>repeated sint32 palette = 2 [packed = true];</code>
+       *
+       * <pre>
+       * The ids of the new blocks
+       * </pre>
        */
-      public int getNewBiome() {
-        return newBiome_;
+      public int getPaletteCount() {
+        return palette_.size();
       }
       /**
-       * <code>optional int32 newBiome = 2;</code>
+       * <code>repeated sint32 palette = 2 [packed = true];</code>
+       *
+       * <pre>
+       * The ids of the new blocks
+       * </pre>
        */
-      public Builder setNewBiome(int value) {
-        bitField0_ |= 0x00000002;
-        newBiome_ = value;
+      public int getPalette(int index) {
+        return palette_.get(index);
+      }
+      /**
+       * <code>repeated sint32 palette = 2 [packed = true];</code>
+       *
+       * <pre>
+       * The ids of the new blocks
+       * </pre>
+       */
+      public Builder setPalette(
+          int index, int value) {
+        ensurePaletteIsMutable();
+        palette_.set(index, value);
         onChanged();
         return this;
       }
       /**
-       * <code>optional int32 newBiome = 2;</code>
+       * <code>repeated sint32 palette = 2 [packed = true];</code>
+       *
+       * <pre>
+       * The ids of the new blocks
+       * </pre>
+       */
+      public Builder addPalette(int value) {
+        ensurePaletteIsMutable();
+        palette_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint32 palette = 2 [packed = true];</code>
+       *
+       * <pre>
+       * The ids of the new blocks
+       * </pre>
        */
-      public Builder clearNewBiome() {
+      public Builder addAllPalette(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensurePaletteIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, palette_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint32 palette = 2 [packed = true];</code>
+       *
+       * <pre>
+       * The ids of the new blocks
+       * </pre>
+       */
+      public Builder clearPalette() {
+        palette_ = java.util.Collections.emptyList();
         bitField0_ = (bitField0_ & ~0x00000002);
-        newBiome_ = 0;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:BiomeChangeMessage)
+      private java.util.List<java.lang.Integer> runs_ = java.util.Collections.emptyList();
+      private void ensureRunsIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          runs_ = new java.util.ArrayList<java.lang.Integer>(runs_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+      /**
+       * <code>repeated int32 runs = 3 [packed = true];</code>
+       *
+       * <pre>
+       * Triples of: distance of the run start to the end of the previous run, run length, palette index
+       * </pre>
+       */
+      public java.util.List<java.lang.Integer>
+          getRunsList() {
+        return java.util.Collections.unmodifiableList(runs_);
+      }
+      /**
+       * <code>repeated int32 runs = 3 [packed = true];</code>
+       *
+       * <pre>
+       * Triples of: distance of the run start to the end of the previous run, run length, palette index
+       * </pre>
+       */
+      public int getRunsCount() {
+        return runs_.size();
+      }
+      /**
+       * <code>repeated int32 runs = 3 [packed = true];</code>
+       *
+       * <pre>
+       * Triples of: distance of the run start to the end of the previous run, run length, palette index
+       * </pre>
+       */
+      public int getRuns(int index) {
+        return runs_.get(index);
+      }
+      /**
+       * <code>repeated int32 runs = 3 [packed = true];</code>
+       *
+       * <pre>
+       * Triples of: distance of the run start to the end of the previous run, run length, palette index
+       * </pre>
+       */
+      public Builder setRuns(
+          int index, int value) {
+        ensureRunsIsMutable();
+        runs_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 runs = 3 [packed = true];</code>
+       *
+       * <pre>
+       * Triples of: distance of the run start to the end of the previous run, run length, palette index
+       * </pre>
+       */
+      public Builder addRuns(int value) {
+        ensureRunsIsMutable();
+        runs_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 runs = 3 [packed = true];</code>
+       *
+       * <pre>
+       * Triples of: distance of the run start to the end of the previous run, run length, palette index
+       * </pre>
+       */
+      public Builder addAllRuns(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureRunsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, runs_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 runs = 3 [packed = true];</code>
+       *
+       * <pre>
+       * Triples of: distance of the run start to the end of the previous run, run length, palette index
+       * </pre>
+       */
+      public Builder clearRuns() {
+        runs_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ChunkBlockDeltaMessage)
     }
 
     static {
-      defaultInstance = new BiomeChangeMessage(true);
+      defaultInstance = new ChunkBlockDeltaMessage(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:BiomeChangeMessage)
+    // @@protoc_insertion_point(class_scope:ChunkBlockDeltaMessage)
   }
 
   public interface ExtraDataChangeMessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ExtraDataChangeMessage)
       com.google.protobuf.GeneratedMessage.
           ExtendableMessageOrBuilder<ExtraDataChangeMessage> {
 
-    // optional int32 index = 1;
     /**
      * <code>optional int32 index = 1;</code>
      */
@@ -12425,7 +12750,6 @@ public interface ExtraDataChangeMessageOrBuilder extends
      */
     int getIndex();
 
-    // optional .Vector3iData pos = 2;
     /**
      * <code>optional .Vector3iData pos = 2;</code>
      */
@@ -12439,7 +12763,6 @@ public interface ExtraDataChangeMessageOrBuilder extends
      */
     org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder();
 
-    // optional int32 newData = 3;
     /**
      * <code>optional int32 newData = 3;</code>
      */
@@ -12454,7 +12777,9 @@ public interface ExtraDataChangeMessageOrBuilder extends
    */
   public static final class ExtraDataChangeMessage extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        ExtraDataChangeMessage> implements ExtraDataChangeMessageOrBuilder {
+        ExtraDataChangeMessage> implements
+      // @@protoc_insertion_point(message_implements:ExtraDataChangeMessage)
+      ExtraDataChangeMessageOrBuilder {
     // Use ExtraDataChangeMessage.newBuilder() to construct.
     private ExtraDataChangeMessage(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.ExtraDataChangeMessage, ?> builder) {
       super(builder);
@@ -12563,7 +12888,6 @@ public com.google.protobuf.Parser<ExtraDataChangeMessage> getParserForType() {
     }
 
     private int bitField0_;
-    // optional int32 index = 1;
     public static final int INDEX_FIELD_NUMBER = 1;
     private int index_;
     /**
@@ -12579,7 +12903,6 @@ public int getIndex() {
       return index_;
     }
 
-    // optional .Vector3iData pos = 2;
     public static final int POS_FIELD_NUMBER = 2;
     private org.terasology.protobuf.NetData.Vector3iData pos_;
     /**
@@ -12601,7 +12924,6 @@ public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder() {
       return pos_;
     }
 
-    // optional int32 newData = 3;
     public static final int NEWDATA_FIELD_NUMBER = 3;
     private int newData_;
     /**
@@ -12625,7 +12947,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       if (!extensionsAreInitialized()) {
         memoizedIsInitialized = 0;
@@ -12756,7 +13079,9 @@ protected Builder newBuilderForType(
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.ExtraDataChangeMessage, Builder> implements org.terasology.protobuf.NetData.ExtraDataChangeMessageOrBuilder {
+          org.terasology.protobuf.NetData.ExtraDataChangeMessage, Builder> implements
+        // @@protoc_insertion_point(builder_implements:ExtraDataChangeMessage)
+        org.terasology.protobuf.NetData.ExtraDataChangeMessageOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_ExtraDataChangeMessage_descriptor;
@@ -12901,7 +13226,6 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // optional int32 index = 1;
       private int index_ ;
       /**
        * <code>optional int32 index = 1;</code>
@@ -12934,7 +13258,6 @@ public Builder clearIndex() {
         return this;
       }
 
-      // optional .Vector3iData pos = 2;
       private org.terasology.protobuf.NetData.Vector3iData pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
           org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder> posBuilder_;
@@ -13043,7 +13366,7 @@ public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder() {
         if (posBuilder_ == null) {
           posBuilder_ = new com.google.protobuf.SingleFieldBuilder<
               org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder>(
-                  pos_,
+                  getPos(),
                   getParentForChildren(),
                   isClean());
           pos_ = null;
@@ -13051,7 +13374,6 @@ public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder() {
         return posBuilder_;
       }
 
-      // optional int32 newData = 3;
       private int newData_ ;
       /**
        * <code>optional int32 newData = 3;</code>
@@ -13095,10 +13417,10 @@ public Builder clearNewData() {
     // @@protoc_insertion_point(class_scope:ExtraDataChangeMessage)
   }
 
-  public interface Vector3iDataOrBuilder
-      extends com.google.protobuf.MessageOrBuilder {
+  public interface Vector3iDataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Vector3iData)
+      com.google.protobuf.MessageOrBuilder {
 
-    // optional int32 x = 1;
     /**
      * <code>optional int32 x = 1;</code>
      */
@@ -13108,7 +13430,6 @@ public Builder clearNewData() {
      */
     int getX();
 
-    // optional int32 y = 2;
     /**
      * <code>optional int32 y = 2;</code>
      */
@@ -13118,7 +13439,6 @@ public Builder clearNewData() {
      */
     int getY();
 
-    // optional int32 z = 3;
     /**
      * <code>optional int32 z = 3;</code>
      */
@@ -13132,8 +13452,9 @@ public Builder clearNewData() {
    * Protobuf type {@code Vector3iData}
    */
   public static final class Vector3iData extends
-      com.google.protobuf.GeneratedMessage
-      implements Vector3iDataOrBuilder {
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:Vector3iData)
+      Vector3iDataOrBuilder {
     // Use Vector3iData.newBuilder() to construct.
     private Vector3iData(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
@@ -13234,7 +13555,6 @@ public com.google.protobuf.Parser<Vector3iData> getParserForType() {
     }
 
     private int bitField0_;
-    // optional int32 x = 1;
     public static final int X_FIELD_NUMBER = 1;
     private int x_;
     /**
@@ -13250,7 +13570,6 @@ public int getX() {
       return x_;
     }
 
-    // optional int32 y = 2;
     public static final int Y_FIELD_NUMBER = 2;
     private int y_;
     /**
@@ -13266,7 +13585,6 @@ public int getY() {
       return y_;
     }
 
-    // optional int32 z = 3;
     public static final int Z_FIELD_NUMBER = 3;
     private int z_;
     /**
@@ -13290,7 +13608,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       memoizedIsInitialized = 1;
       return true;
@@ -13411,8 +13730,9 @@ protected Builder newBuilderForType(
      * Protobuf type {@code Vector3iData}
      */
     public static final class Builder extends
-        com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements org.terasology.protobuf.NetData.Vector3iDataOrBuilder {
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Vector3iData)
+        org.terasology.protobuf.NetData.Vector3iDataOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_Vector3iData_descriptor;
@@ -13543,7 +13863,6 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // optional int32 x = 1;
       private int x_ ;
       /**
        * <code>optional int32 x = 1;</code>
@@ -13576,7 +13895,6 @@ public Builder clearX() {
         return this;
       }
 
-      // optional int32 y = 2;
       private int y_ ;
       /**
        * <code>optional int32 y = 2;</code>
@@ -13609,7 +13927,6 @@ public Builder clearY() {
         return this;
       }
 
-      // optional int32 z = 3;
       private int z_ ;
       /**
        * <code>optional int32 z = 3;</code>
@@ -13654,6 +13971,7 @@ public Builder clearZ() {
   }
 
   public interface ServerInfoRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ServerInfoRequest)
       com.google.protobuf.GeneratedMessage.
           ExtendableMessageOrBuilder<ServerInfoRequest> {
   }
@@ -13662,7 +13980,9 @@ public interface ServerInfoRequestOrBuilder extends
    */
   public static final class ServerInfoRequest extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        ServerInfoRequest> implements ServerInfoRequestOrBuilder {
+        ServerInfoRequest> implements
+      // @@protoc_insertion_point(message_implements:ServerInfoRequest)
+      ServerInfoRequestOrBuilder {
     // Use ServerInfoRequest.newBuilder() to construct.
     private ServerInfoRequest(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.ServerInfoRequest, ?> builder) {
       super(builder);
@@ -13751,7 +14071,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       if (!extensionsAreInitialized()) {
         memoizedIsInitialized = 0;
@@ -13861,7 +14182,9 @@ protected Builder newBuilderForType(
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.ServerInfoRequest, Builder> implements org.terasology.protobuf.NetData.ServerInfoRequestOrBuilder {
+          org.terasology.protobuf.NetData.ServerInfoRequest, Builder> implements
+        // @@protoc_insertion_point(builder_implements:ServerInfoRequest)
+        org.terasology.protobuf.NetData.ServerInfoRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_ServerInfoRequest_descriptor;
@@ -13978,10 +14301,10 @@ public Builder mergeFrom(
   }
 
   public interface JoinMessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:JoinMessage)
       com.google.protobuf.GeneratedMessage.
           ExtendableMessageOrBuilder<JoinMessage> {
 
-    // optional string name = 1;
     /**
      * <code>optional string name = 1;</code>
      */
@@ -13996,7 +14319,6 @@ public interface JoinMessageOrBuilder extends
     com.google.protobuf.ByteString
         getNameBytes();
 
-    // optional string version = 2;
     /**
      * <code>optional string version = 2;</code>
      */
@@ -14011,7 +14333,6 @@ public interface JoinMessageOrBuilder extends
     com.google.protobuf.ByteString
         getVersionBytes();
 
-    // optional sint32 viewDistanceLevel = 3;
     /**
      * <code>optional sint32 viewDistanceLevel = 3;</code>
      */
@@ -14021,7 +14342,6 @@ public interface JoinMessageOrBuilder extends
      */
     int getViewDistanceLevel();
 
-    // optional .Color color = 4;
     /**
      * <code>optional .Color color = 4;</code>
      */
@@ -14040,7 +14360,9 @@ public interface JoinMessageOrBuilder extends
    */
   public static final class JoinMessage extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        JoinMessage> implements JoinMessageOrBuilder {
+        JoinMessage> implements
+      // @@protoc_insertion_point(message_implements:JoinMessage)
+      JoinMessageOrBuilder {
     // Use JoinMessage.newBuilder() to construct.
     private JoinMessage(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.JoinMessage, ?> builder) {
       super(builder);
@@ -14087,13 +14409,15 @@ private JoinMessage(
               break;
             }
             case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000001;
-              name_ = input.readBytes();
+              name_ = bs;
               break;
             }
             case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000002;
-              version_ = input.readBytes();
+              version_ = bs;
               break;
             }
             case 24: {
@@ -14154,7 +14478,6 @@ public com.google.protobuf.Parser<JoinMessage> getParserForType() {
     }
 
     private int bitField0_;
-    // optional string name = 1;
     public static final int NAME_FIELD_NUMBER = 1;
     private java.lang.Object name_;
     /**
@@ -14197,7 +14520,6 @@ public java.lang.String getName() {
       }
     }
 
-    // optional string version = 2;
     public static final int VERSION_FIELD_NUMBER = 2;
     private java.lang.Object version_;
     /**
@@ -14240,7 +14562,6 @@ public java.lang.String getVersion() {
       }
     }
 
-    // optional sint32 viewDistanceLevel = 3;
     public static final int VIEWDISTANCELEVEL_FIELD_NUMBER = 3;
     private int viewDistanceLevel_;
     /**
@@ -14256,7 +14577,6 @@ public int getViewDistanceLevel() {
       return viewDistanceLevel_;
     }
 
-    // optional .Color color = 4;
     public static final int COLOR_FIELD_NUMBER = 4;
     private org.terasology.protobuf.NetData.Color color_;
     /**
@@ -14287,7 +14607,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       if (!extensionsAreInitialized()) {
         memoizedIsInitialized = 0;
@@ -14425,7 +14746,9 @@ protected Builder newBuilderForType(
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.JoinMessage, Builder> implements org.terasology.protobuf.NetData.JoinMessageOrBuilder {
+          org.terasology.protobuf.NetData.JoinMessage, Builder> implements
+        // @@protoc_insertion_point(builder_implements:JoinMessage)
+        org.terasology.protobuf.NetData.JoinMessageOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_JoinMessage_descriptor;
@@ -14583,7 +14906,6 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // optional string name = 1;
       private java.lang.Object name_ = "";
       /**
        * <code>optional string name = 1;</code>
@@ -14597,9 +14919,12 @@ public boolean hasName() {
       public java.lang.String getName() {
         java.lang.Object ref = name_;
         if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          name_ = s;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
           return s;
         } else {
           return (java.lang.String) ref;
@@ -14657,7 +14982,6 @@ public Builder setNameBytes(
         return this;
       }
 
-      // optional string version = 2;
       private java.lang.Object version_ = "";
       /**
        * <code>optional string version = 2;</code>
@@ -14671,9 +14995,12 @@ public boolean hasVersion() {
       public java.lang.String getVersion() {
         java.lang.Object ref = version_;
         if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          version_ = s;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            version_ = s;
+          }
           return s;
         } else {
           return (java.lang.String) ref;
@@ -14731,7 +15058,6 @@ public Builder setVersionBytes(
         return this;
       }
 
-      // optional sint32 viewDistanceLevel = 3;
       private int viewDistanceLevel_ ;
       /**
        * <code>optional sint32 viewDistanceLevel = 3;</code>
@@ -14764,7 +15090,6 @@ public Builder clearViewDistanceLevel() {
         return this;
       }
 
-      // optional .Color color = 4;
       private org.terasology.protobuf.NetData.Color color_ = org.terasology.protobuf.NetData.Color.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
           org.terasology.protobuf.NetData.Color, org.terasology.protobuf.NetData.Color.Builder, org.terasology.protobuf.NetData.ColorOrBuilder> colorBuilder_;
@@ -14873,7 +15198,7 @@ public org.terasology.protobuf.NetData.ColorOrBuilder getColorOrBuilder() {
         if (colorBuilder_ == null) {
           colorBuilder_ = new com.google.protobuf.SingleFieldBuilder<
               org.terasology.protobuf.NetData.Color, org.terasology.protobuf.NetData.Color.Builder, org.terasology.protobuf.NetData.ColorOrBuilder>(
-                  color_,
+                  getColor(),
                   getParentForChildren(),
                   isClean());
           color_ = null;
@@ -14892,10 +15217,10 @@ public org.terasology.protobuf.NetData.ColorOrBuilder getColorOrBuilder() {
     // @@protoc_insertion_point(class_scope:JoinMessage)
   }
 
-  public interface ColorOrBuilder
-      extends com.google.protobuf.MessageOrBuilder {
+  public interface ColorOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Color)
+      com.google.protobuf.MessageOrBuilder {
 
-    // optional uint32 rgba = 1;
     /**
      * <code>optional uint32 rgba = 1;</code>
      */
@@ -14909,8 +15234,9 @@ public org.terasology.protobuf.NetData.ColorOrBuilder getColorOrBuilder() {
    * Protobuf type {@code Color}
    */
   public static final class Color extends
-      com.google.protobuf.GeneratedMessage
-      implements ColorOrBuilder {
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:Color)
+      ColorOrBuilder {
     // Use Color.newBuilder() to construct.
     private Color(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
@@ -15001,7 +15327,6 @@ public com.google.protobuf.Parser<Color> getParserForType() {
     }
 
     private int bitField0_;
-    // optional uint32 rgba = 1;
     public static final int RGBA_FIELD_NUMBER = 1;
     private int rgba_;
     /**
@@ -15023,7 +15348,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       memoizedIsInitialized = 1;
       return true;
@@ -15130,8 +15456,9 @@ protected Builder newBuilderForType(
      * Protobuf type {@code Color}
      */
     public static final class Builder extends
-        com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements org.terasology.protobuf.NetData.ColorOrBuilder {
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Color)
+        org.terasology.protobuf.NetData.ColorOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_Color_descriptor;
@@ -15244,7 +15571,6 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // optional uint32 rgba = 1;
       private int rgba_ ;
       /**
        * <code>optional uint32 rgba = 1;</code>
@@ -15289,10 +15615,10 @@ public Builder clearRgba() {
   }
 
   public interface JoinCompleteMessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:JoinCompleteMessage)
       com.google.protobuf.GeneratedMessage.
           ExtendableMessageOrBuilder<JoinCompleteMessage> {
 
-    // optional int32 clientId = 1;
     /**
      * <code>optional int32 clientId = 1;</code>
      */
@@ -15307,7 +15633,9 @@ public interface JoinCompleteMessageOrBuilder extends
    */
   public static final class JoinCompleteMessage extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        JoinCompleteMessage> implements JoinCompleteMessageOrBuilder {
+        JoinCompleteMessage> implements
+      // @@protoc_insertion_point(message_implements:JoinCompleteMessage)
+      JoinCompleteMessageOrBuilder {
     // Use JoinCompleteMessage.newBuilder() to construct.
     private JoinCompleteMessage(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.JoinCompleteMessage, ?> builder) {
       super(builder);
@@ -15398,7 +15726,6 @@ public com.google.protobuf.Parser<JoinCompleteMessage> getParserForType() {
     }
 
     private int bitField0_;
-    // optional int32 clientId = 1;
     public static final int CLIENTID_FIELD_NUMBER = 1;
     private int clientId_;
     /**
@@ -15420,7 +15747,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       if (!extensionsAreInitialized()) {
         memoizedIsInitialized = 0;
@@ -15537,7 +15865,9 @@ protected Builder newBuilderForType(
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.JoinCompleteMessage, Builder> implements org.terasology.protobuf.NetData.JoinCompleteMessageOrBuilder {
+          org.terasology.protobuf.NetData.JoinCompleteMessage, Builder> implements
+        // @@protoc_insertion_point(builder_implements:JoinCompleteMessage)
+        org.terasology.protobuf.NetData.JoinCompleteMessageOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_JoinCompleteMessage_descriptor;
@@ -15655,7 +15985,6 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // optional int32 clientId = 1;
       private int clientId_ ;
       /**
        * <code>optional int32 clientId = 1;</code>
@@ -15700,10 +16029,10 @@ public Builder clearClientId() {
   }
 
   public interface ServerInfoMessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ServerInfoMessage)
       com.google.protobuf.GeneratedMessage.
           ExtendableMessageOrBuilder<ServerInfoMessage> {
 
-    // repeated .ModuleInfo module = 1;
     /**
      * <code>repeated .ModuleInfo module = 1;</code>
      */
@@ -15728,7 +16057,6 @@ public interface ServerInfoMessageOrBuilder extends
     org.terasology.protobuf.NetData.ModuleInfoOrBuilder getModuleOrBuilder(
         int index);
 
-    // repeated sint32 blockId = 2 [packed = true];
     /**
      * <code>repeated sint32 blockId = 2 [packed = true];</code>
      */
@@ -15742,12 +16070,11 @@ org.terasology.protobuf.NetData.ModuleInfoOrBuilder getModuleOrBuilder(
      */
     int getBlockId(int index);
 
-    // repeated string blockName = 3;
     /**
      * <code>repeated string blockName = 3;</code>
      */
-    java.util.List<java.lang.String>
-    getBlockNameList();
+    com.google.protobuf.ProtocolStringList
+        getBlockNameList();
     /**
      * <code>repeated string blockName = 3;</code>
      */
@@ -15762,7 +16089,6 @@ org.terasology.protobuf.NetData.ModuleInfoOrBuilder getModuleOrBuilder(
     com.google.protobuf.ByteString
         getBlockNameBytes(int index);
 
-    // repeated .SerializationInfo component = 4;
     /**
      * <code>repeated .SerializationInfo component = 4;</code>
      */
@@ -15787,7 +16113,6 @@ org.terasology.protobuf.NetData.ModuleInfoOrBuilder getModuleOrBuilder(
     org.terasology.protobuf.NetData.SerializationInfoOrBuilder getComponentOrBuilder(
         int index);
 
-    // repeated .SerializationInfo event = 5;
     /**
      * <code>repeated .SerializationInfo event = 5;</code>
      */
@@ -15812,7 +16137,6 @@ org.terasology.protobuf.NetData.SerializationInfoOrBuilder getComponentOrBuilder
     org.terasology.protobuf.NetData.SerializationInfoOrBuilder getEventOrBuilder(
         int index);
 
-    // repeated int32 assetId = 6 [packed = true];
     /**
      * <code>repeated int32 assetId = 6 [packed = true];</code>
      */
@@ -15826,12 +16150,11 @@ org.terasology.protobuf.NetData.SerializationInfoOrBuilder getEventOrBuilder(
      */
     int getAssetId(int index);
 
-    // repeated string assetUri = 7;
     /**
      * <code>repeated string assetUri = 7;</code>
      */
-    java.util.List<java.lang.String>
-    getAssetUriList();
+    com.google.protobuf.ProtocolStringList
+        getAssetUriList();
     /**
      * <code>repeated string assetUri = 7;</code>
      */
@@ -15846,12 +16169,11 @@ org.terasology.protobuf.NetData.SerializationInfoOrBuilder getEventOrBuilder(
     com.google.protobuf.ByteString
         getAssetUriBytes(int index);
 
-    // repeated string registerBlockFamily = 8;
     /**
      * <code>repeated string registerBlockFamily = 8;</code>
      */
-    java.util.List<java.lang.String>
-    getRegisterBlockFamilyList();
+    com.google.protobuf.ProtocolStringList
+        getRegisterBlockFamilyList();
     /**
      * <code>repeated string registerBlockFamily = 8;</code>
      */
@@ -15866,7 +16188,6 @@ org.terasology.protobuf.NetData.SerializationInfoOrBuilder getEventOrBuilder(
     com.google.protobuf.ByteString
         getRegisterBlockFamilyBytes(int index);
 
-    // repeated .WorldInfo worldInfo = 9;
     /**
      * <code>repeated .WorldInfo worldInfo = 9;</code>
      */
@@ -15891,41 +16212,6 @@ org.terasology.protobuf.NetData.SerializationInfoOrBuilder getEventOrBuilder(
     org.terasology.protobuf.NetData.WorldInfoOrBuilder getWorldInfoOrBuilder(
         int index);
 
-    // repeated sint32 biomeShortId = 10 [packed = true];
-    /**
-     * <code>repeated sint32 biomeShortId = 10 [packed = true];</code>
-     */
-    java.util.List<java.lang.Integer> getBiomeShortIdList();
-    /**
-     * <code>repeated sint32 biomeShortId = 10 [packed = true];</code>
-     */
-    int getBiomeShortIdCount();
-    /**
-     * <code>repeated sint32 biomeShortId = 10 [packed = true];</code>
-     */
-    int getBiomeShortId(int index);
-
-    // repeated string biomeId = 11;
-    /**
-     * <code>repeated string biomeId = 11;</code>
-     */
-    java.util.List<java.lang.String>
-    getBiomeIdList();
-    /**
-     * <code>repeated string biomeId = 11;</code>
-     */
-    int getBiomeIdCount();
-    /**
-     * <code>repeated string biomeId = 11;</code>
-     */
-    java.lang.String getBiomeId(int index);
-    /**
-     * <code>repeated string biomeId = 11;</code>
-     */
-    com.google.protobuf.ByteString
-        getBiomeIdBytes(int index);
-
-    // optional string errorMessage = 12;
     /**
      * <code>optional string errorMessage = 12;</code>
      */
@@ -15940,7 +16226,6 @@ org.terasology.protobuf.NetData.WorldInfoOrBuilder getWorldInfoOrBuilder(
     com.google.protobuf.ByteString
         getErrorMessageBytes();
 
-    // optional string version = 15;
     /**
      * <code>optional string version = 15;</code>
      */
@@ -15955,7 +16240,6 @@ org.terasology.protobuf.NetData.WorldInfoOrBuilder getWorldInfoOrBuilder(
     com.google.protobuf.ByteString
         getVersionBytes();
 
-    // optional string gameName = 16;
     /**
      * <code>optional string gameName = 16;</code>
      */
@@ -15970,7 +16254,6 @@ org.terasology.protobuf.NetData.WorldInfoOrBuilder getWorldInfoOrBuilder(
     com.google.protobuf.ByteString
         getGameNameBytes();
 
-    // optional int64 time = 17;
     /**
      * <code>optional int64 time = 17;</code>
      */
@@ -15980,7 +16263,6 @@ org.terasology.protobuf.NetData.WorldInfoOrBuilder getWorldInfoOrBuilder(
      */
     long getTime();
 
-    // optional float reflectionHeight = 18;
     /**
      * <code>optional float reflectionHeight = 18;</code>
      */
@@ -15990,7 +16272,6 @@ org.terasology.protobuf.NetData.WorldInfoOrBuilder getWorldInfoOrBuilder(
      */
     float getReflectionHeight();
 
-    // optional string MOTD = 19;
     /**
      * <code>optional string MOTD = 19;</code>
      */
@@ -16005,7 +16286,6 @@ org.terasology.protobuf.NetData.WorldInfoOrBuilder getWorldInfoOrBuilder(
     com.google.protobuf.ByteString
         getMOTDBytes();
 
-    // optional int32 onlinePlayersAmount = 20;
     /**
      * <code>optional int32 onlinePlayersAmount = 20;</code>
      */
@@ -16020,7 +16300,9 @@ org.terasology.protobuf.NetData.WorldInfoOrBuilder getWorldInfoOrBuilder(
    */
   public static final class ServerInfoMessage extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        ServerInfoMessage> implements ServerInfoMessageOrBuilder {
+        ServerInfoMessage> implements
+      // @@protoc_insertion_point(message_implements:ServerInfoMessage)
+      ServerInfoMessageOrBuilder {
     // Use ServerInfoMessage.newBuilder() to construct.
     private ServerInfoMessage(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.ServerInfoMessage, ?> builder) {
       super(builder);
@@ -16096,11 +16378,12 @@ private ServerInfoMessage(
               break;
             }
             case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
                 blockName_ = new com.google.protobuf.LazyStringArrayList();
                 mutable_bitField0_ |= 0x00000004;
               }
-              blockName_.add(input.readBytes());
+              blockName_.add(bs);
               break;
             }
             case 34: {
@@ -16141,71 +16424,47 @@ private ServerInfoMessage(
               break;
             }
             case 58: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               if (!((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
                 assetUri_ = new com.google.protobuf.LazyStringArrayList();
                 mutable_bitField0_ |= 0x00000040;
               }
-              assetUri_.add(input.readBytes());
+              assetUri_.add(bs);
               break;
             }
             case 66: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               if (!((mutable_bitField0_ & 0x00000080) == 0x00000080)) {
                 registerBlockFamily_ = new com.google.protobuf.LazyStringArrayList();
                 mutable_bitField0_ |= 0x00000080;
               }
-              registerBlockFamily_.add(input.readBytes());
-              break;
-            }
-            case 74: {
-              if (!((mutable_bitField0_ & 0x00000100) == 0x00000100)) {
-                worldInfo_ = new java.util.ArrayList<org.terasology.protobuf.NetData.WorldInfo>();
-                mutable_bitField0_ |= 0x00000100;
-              }
-              worldInfo_.add(input.readMessage(org.terasology.protobuf.NetData.WorldInfo.PARSER, extensionRegistry));
+              registerBlockFamily_.add(bs);
               break;
             }
-            case 80: {
-              if (!((mutable_bitField0_ & 0x00000200) == 0x00000200)) {
-                biomeShortId_ = new java.util.ArrayList<java.lang.Integer>();
-                mutable_bitField0_ |= 0x00000200;
-              }
-              biomeShortId_.add(input.readSInt32());
-              break;
-            }
-            case 82: {
-              int length = input.readRawVarint32();
-              int limit = input.pushLimit(length);
-              if (!((mutable_bitField0_ & 0x00000200) == 0x00000200) && input.getBytesUntilLimit() > 0) {
-                biomeShortId_ = new java.util.ArrayList<java.lang.Integer>();
-                mutable_bitField0_ |= 0x00000200;
-              }
-              while (input.getBytesUntilLimit() > 0) {
-                biomeShortId_.add(input.readSInt32());
-              }
-              input.popLimit(limit);
-              break;
-            }
-            case 90: {
-              if (!((mutable_bitField0_ & 0x00000400) == 0x00000400)) {
-                biomeId_ = new com.google.protobuf.LazyStringArrayList();
-                mutable_bitField0_ |= 0x00000400;
+            case 74: {
+              if (!((mutable_bitField0_ & 0x00000100) == 0x00000100)) {
+                worldInfo_ = new java.util.ArrayList<org.terasology.protobuf.NetData.WorldInfo>();
+                mutable_bitField0_ |= 0x00000100;
               }
-              biomeId_.add(input.readBytes());
+              worldInfo_.add(input.readMessage(org.terasology.protobuf.NetData.WorldInfo.PARSER, extensionRegistry));
               break;
             }
             case 98: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000001;
-              errorMessage_ = input.readBytes();
+              errorMessage_ = bs;
               break;
             }
             case 122: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000002;
-              version_ = input.readBytes();
+              version_ = bs;
               break;
             }
             case 130: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000004;
-              gameName_ = input.readBytes();
+              gameName_ = bs;
               break;
             }
             case 136: {
@@ -16219,8 +16478,9 @@ private ServerInfoMessage(
               break;
             }
             case 154: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000020;
-              mOTD_ = input.readBytes();
+              mOTD_ = bs;
               break;
             }
             case 160: {
@@ -16243,7 +16503,7 @@ private ServerInfoMessage(
           blockId_ = java.util.Collections.unmodifiableList(blockId_);
         }
         if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
-          blockName_ = new com.google.protobuf.UnmodifiableLazyStringList(blockName_);
+          blockName_ = blockName_.getUnmodifiableView();
         }
         if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
           component_ = java.util.Collections.unmodifiableList(component_);
@@ -16255,20 +16515,14 @@ private ServerInfoMessage(
           assetId_ = java.util.Collections.unmodifiableList(assetId_);
         }
         if (((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
-          assetUri_ = new com.google.protobuf.UnmodifiableLazyStringList(assetUri_);
+          assetUri_ = assetUri_.getUnmodifiableView();
         }
         if (((mutable_bitField0_ & 0x00000080) == 0x00000080)) {
-          registerBlockFamily_ = new com.google.protobuf.UnmodifiableLazyStringList(registerBlockFamily_);
+          registerBlockFamily_ = registerBlockFamily_.getUnmodifiableView();
         }
         if (((mutable_bitField0_ & 0x00000100) == 0x00000100)) {
           worldInfo_ = java.util.Collections.unmodifiableList(worldInfo_);
         }
-        if (((mutable_bitField0_ & 0x00000200) == 0x00000200)) {
-          biomeShortId_ = java.util.Collections.unmodifiableList(biomeShortId_);
-        }
-        if (((mutable_bitField0_ & 0x00000400) == 0x00000400)) {
-          biomeId_ = new com.google.protobuf.UnmodifiableLazyStringList(biomeId_);
-        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -16301,7 +16555,6 @@ public com.google.protobuf.Parser<ServerInfoMessage> getParserForType() {
     }
 
     private int bitField0_;
-    // repeated .ModuleInfo module = 1;
     public static final int MODULE_FIELD_NUMBER = 1;
     private java.util.List<org.terasology.protobuf.NetData.ModuleInfo> module_;
     /**
@@ -16337,7 +16590,6 @@ public org.terasology.protobuf.NetData.ModuleInfoOrBuilder getModuleOrBuilder(
       return module_.get(index);
     }
 
-    // repeated sint32 blockId = 2 [packed = true];
     public static final int BLOCKID_FIELD_NUMBER = 2;
     private java.util.List<java.lang.Integer> blockId_;
     /**
@@ -16361,13 +16613,12 @@ public int getBlockId(int index) {
     }
     private int blockIdMemoizedSerializedSize = -1;
 
-    // repeated string blockName = 3;
     public static final int BLOCKNAME_FIELD_NUMBER = 3;
     private com.google.protobuf.LazyStringList blockName_;
     /**
      * <code>repeated string blockName = 3;</code>
      */
-    public java.util.List<java.lang.String>
+    public com.google.protobuf.ProtocolStringList
         getBlockNameList() {
       return blockName_;
     }
@@ -16391,7 +16642,6 @@ public java.lang.String getBlockName(int index) {
       return blockName_.getByteString(index);
     }
 
-    // repeated .SerializationInfo component = 4;
     public static final int COMPONENT_FIELD_NUMBER = 4;
     private java.util.List<org.terasology.protobuf.NetData.SerializationInfo> component_;
     /**
@@ -16427,7 +16677,6 @@ public org.terasology.protobuf.NetData.SerializationInfoOrBuilder getComponentOr
       return component_.get(index);
     }
 
-    // repeated .SerializationInfo event = 5;
     public static final int EVENT_FIELD_NUMBER = 5;
     private java.util.List<org.terasology.protobuf.NetData.SerializationInfo> event_;
     /**
@@ -16463,7 +16712,6 @@ public org.terasology.protobuf.NetData.SerializationInfoOrBuilder getEventOrBuil
       return event_.get(index);
     }
 
-    // repeated int32 assetId = 6 [packed = true];
     public static final int ASSETID_FIELD_NUMBER = 6;
     private java.util.List<java.lang.Integer> assetId_;
     /**
@@ -16487,13 +16735,12 @@ public int getAssetId(int index) {
     }
     private int assetIdMemoizedSerializedSize = -1;
 
-    // repeated string assetUri = 7;
     public static final int ASSETURI_FIELD_NUMBER = 7;
     private com.google.protobuf.LazyStringList assetUri_;
     /**
      * <code>repeated string assetUri = 7;</code>
      */
-    public java.util.List<java.lang.String>
+    public com.google.protobuf.ProtocolStringList
         getAssetUriList() {
       return assetUri_;
     }
@@ -16517,13 +16764,12 @@ public java.lang.String getAssetUri(int index) {
       return assetUri_.getByteString(index);
     }
 
-    // repeated string registerBlockFamily = 8;
     public static final int REGISTERBLOCKFAMILY_FIELD_NUMBER = 8;
     private com.google.protobuf.LazyStringList registerBlockFamily_;
     /**
      * <code>repeated string registerBlockFamily = 8;</code>
      */
-    public java.util.List<java.lang.String>
+    public com.google.protobuf.ProtocolStringList
         getRegisterBlockFamilyList() {
       return registerBlockFamily_;
     }
@@ -16547,7 +16793,6 @@ public java.lang.String getRegisterBlockFamily(int index) {
       return registerBlockFamily_.getByteString(index);
     }
 
-    // repeated .WorldInfo worldInfo = 9;
     public static final int WORLDINFO_FIELD_NUMBER = 9;
     private java.util.List<org.terasology.protobuf.NetData.WorldInfo> worldInfo_;
     /**
@@ -16583,61 +16828,6 @@ public org.terasology.protobuf.NetData.WorldInfoOrBuilder getWorldInfoOrBuilder(
       return worldInfo_.get(index);
     }
 
-    // repeated sint32 biomeShortId = 10 [packed = true];
-    public static final int BIOMESHORTID_FIELD_NUMBER = 10;
-    private java.util.List<java.lang.Integer> biomeShortId_;
-    /**
-     * <code>repeated sint32 biomeShortId = 10 [packed = true];</code>
-     */
-    public java.util.List<java.lang.Integer>
-        getBiomeShortIdList() {
-      return biomeShortId_;
-    }
-    /**
-     * <code>repeated sint32 biomeShortId = 10 [packed = true];</code>
-     */
-    public int getBiomeShortIdCount() {
-      return biomeShortId_.size();
-    }
-    /**
-     * <code>repeated sint32 biomeShortId = 10 [packed = true];</code>
-     */
-    public int getBiomeShortId(int index) {
-      return biomeShortId_.get(index);
-    }
-    private int biomeShortIdMemoizedSerializedSize = -1;
-
-    // repeated string biomeId = 11;
-    public static final int BIOMEID_FIELD_NUMBER = 11;
-    private com.google.protobuf.LazyStringList biomeId_;
-    /**
-     * <code>repeated string biomeId = 11;</code>
-     */
-    public java.util.List<java.lang.String>
-        getBiomeIdList() {
-      return biomeId_;
-    }
-    /**
-     * <code>repeated string biomeId = 11;</code>
-     */
-    public int getBiomeIdCount() {
-      return biomeId_.size();
-    }
-    /**
-     * <code>repeated string biomeId = 11;</code>
-     */
-    public java.lang.String getBiomeId(int index) {
-      return biomeId_.get(index);
-    }
-    /**
-     * <code>repeated string biomeId = 11;</code>
-     */
-    public com.google.protobuf.ByteString
-        getBiomeIdBytes(int index) {
-      return biomeId_.getByteString(index);
-    }
-
-    // optional string errorMessage = 12;
     public static final int ERRORMESSAGE_FIELD_NUMBER = 12;
     private java.lang.Object errorMessage_;
     /**
@@ -16680,7 +16870,6 @@ public java.lang.String getErrorMessage() {
       }
     }
 
-    // optional string version = 15;
     public static final int VERSION_FIELD_NUMBER = 15;
     private java.lang.Object version_;
     /**
@@ -16723,7 +16912,6 @@ public java.lang.String getVersion() {
       }
     }
 
-    // optional string gameName = 16;
     public static final int GAMENAME_FIELD_NUMBER = 16;
     private java.lang.Object gameName_;
     /**
@@ -16766,7 +16954,6 @@ public java.lang.String getGameName() {
       }
     }
 
-    // optional int64 time = 17;
     public static final int TIME_FIELD_NUMBER = 17;
     private long time_;
     /**
@@ -16782,7 +16969,6 @@ public long getTime() {
       return time_;
     }
 
-    // optional float reflectionHeight = 18;
     public static final int REFLECTIONHEIGHT_FIELD_NUMBER = 18;
     private float reflectionHeight_;
     /**
@@ -16798,7 +16984,6 @@ public float getReflectionHeight() {
       return reflectionHeight_;
     }
 
-    // optional string MOTD = 19;
     public static final int MOTD_FIELD_NUMBER = 19;
     private java.lang.Object mOTD_;
     /**
@@ -16841,7 +17026,6 @@ public java.lang.String getMOTD() {
       }
     }
 
-    // optional int32 onlinePlayersAmount = 20;
     public static final int ONLINEPLAYERSAMOUNT_FIELD_NUMBER = 20;
     private int onlinePlayersAmount_;
     /**
@@ -16867,8 +17051,6 @@ private void initFields() {
       assetUri_ = com.google.protobuf.LazyStringArrayList.EMPTY;
       registerBlockFamily_ = com.google.protobuf.LazyStringArrayList.EMPTY;
       worldInfo_ = java.util.Collections.emptyList();
-      biomeShortId_ = java.util.Collections.emptyList();
-      biomeId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
       errorMessage_ = "";
       version_ = "";
       gameName_ = "";
@@ -16880,7 +17062,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       for (int i = 0; i < getModuleCount(); i++) {
         if (!getModule(i).isInitialized()) {
@@ -16955,16 +17138,6 @@ public void writeTo(com.google.protobuf.CodedOutputStream output)
       for (int i = 0; i < worldInfo_.size(); i++) {
         output.writeMessage(9, worldInfo_.get(i));
       }
-      if (getBiomeShortIdList().size() > 0) {
-        output.writeRawVarint32(82);
-        output.writeRawVarint32(biomeShortIdMemoizedSerializedSize);
-      }
-      for (int i = 0; i < biomeShortId_.size(); i++) {
-        output.writeSInt32NoTag(biomeShortId_.get(i));
-      }
-      for (int i = 0; i < biomeId_.size(); i++) {
-        output.writeBytes(11, biomeId_.getByteString(i));
-      }
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         output.writeBytes(12, getErrorMessageBytes());
       }
@@ -17067,29 +17240,6 @@ public int getSerializedSize() {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(9, worldInfo_.get(i));
       }
-      {
-        int dataSize = 0;
-        for (int i = 0; i < biomeShortId_.size(); i++) {
-          dataSize += com.google.protobuf.CodedOutputStream
-            .computeSInt32SizeNoTag(biomeShortId_.get(i));
-        }
-        size += dataSize;
-        if (!getBiomeShortIdList().isEmpty()) {
-          size += 1;
-          size += com.google.protobuf.CodedOutputStream
-              .computeInt32SizeNoTag(dataSize);
-        }
-        biomeShortIdMemoizedSerializedSize = dataSize;
-      }
-      {
-        int dataSize = 0;
-        for (int i = 0; i < biomeId_.size(); i++) {
-          dataSize += com.google.protobuf.CodedOutputStream
-            .computeBytesSizeNoTag(biomeId_.getByteString(i));
-        }
-        size += dataSize;
-        size += 1 * getBiomeIdList().size();
-      }
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(12, getErrorMessageBytes());
@@ -17202,7 +17352,9 @@ protected Builder newBuilderForType(
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.ServerInfoMessage, Builder> implements org.terasology.protobuf.NetData.ServerInfoMessageOrBuilder {
+          org.terasology.protobuf.NetData.ServerInfoMessage, Builder> implements
+        // @@protoc_insertion_point(builder_implements:ServerInfoMessage)
+        org.terasology.protobuf.NetData.ServerInfoMessageOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_ServerInfoMessage_descriptor;
@@ -17273,24 +17425,20 @@ public Builder clear() {
         } else {
           worldInfoBuilder_.clear();
         }
-        biomeShortId_ = java.util.Collections.emptyList();
-        bitField0_ = (bitField0_ & ~0x00000200);
-        biomeId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000400);
         errorMessage_ = "";
-        bitField0_ = (bitField0_ & ~0x00000800);
+        bitField0_ = (bitField0_ & ~0x00000200);
         version_ = "";
-        bitField0_ = (bitField0_ & ~0x00001000);
+        bitField0_ = (bitField0_ & ~0x00000400);
         gameName_ = "";
-        bitField0_ = (bitField0_ & ~0x00002000);
+        bitField0_ = (bitField0_ & ~0x00000800);
         time_ = 0L;
-        bitField0_ = (bitField0_ & ~0x00004000);
+        bitField0_ = (bitField0_ & ~0x00001000);
         reflectionHeight_ = 0F;
-        bitField0_ = (bitField0_ & ~0x00008000);
+        bitField0_ = (bitField0_ & ~0x00002000);
         mOTD_ = "";
-        bitField0_ = (bitField0_ & ~0x00010000);
+        bitField0_ = (bitField0_ & ~0x00004000);
         onlinePlayersAmount_ = 0;
-        bitField0_ = (bitField0_ & ~0x00020000);
+        bitField0_ = (bitField0_ & ~0x00008000);
         return this;
       }
 
@@ -17334,8 +17482,7 @@ public org.terasology.protobuf.NetData.ServerInfoMessage buildPartial() {
         }
         result.blockId_ = blockId_;
         if (((bitField0_ & 0x00000004) == 0x00000004)) {
-          blockName_ = new com.google.protobuf.UnmodifiableLazyStringList(
-              blockName_);
+          blockName_ = blockName_.getUnmodifiableView();
           bitField0_ = (bitField0_ & ~0x00000004);
         }
         result.blockName_ = blockName_;
@@ -17363,14 +17510,12 @@ public org.terasology.protobuf.NetData.ServerInfoMessage buildPartial() {
         }
         result.assetId_ = assetId_;
         if (((bitField0_ & 0x00000040) == 0x00000040)) {
-          assetUri_ = new com.google.protobuf.UnmodifiableLazyStringList(
-              assetUri_);
+          assetUri_ = assetUri_.getUnmodifiableView();
           bitField0_ = (bitField0_ & ~0x00000040);
         }
         result.assetUri_ = assetUri_;
         if (((bitField0_ & 0x00000080) == 0x00000080)) {
-          registerBlockFamily_ = new com.google.protobuf.UnmodifiableLazyStringList(
-              registerBlockFamily_);
+          registerBlockFamily_ = registerBlockFamily_.getUnmodifiableView();
           bitField0_ = (bitField0_ & ~0x00000080);
         }
         result.registerBlockFamily_ = registerBlockFamily_;
@@ -17383,42 +17528,31 @@ public org.terasology.protobuf.NetData.ServerInfoMessage buildPartial() {
         } else {
           result.worldInfo_ = worldInfoBuilder_.build();
         }
-        if (((bitField0_ & 0x00000200) == 0x00000200)) {
-          biomeShortId_ = java.util.Collections.unmodifiableList(biomeShortId_);
-          bitField0_ = (bitField0_ & ~0x00000200);
-        }
-        result.biomeShortId_ = biomeShortId_;
-        if (((bitField0_ & 0x00000400) == 0x00000400)) {
-          biomeId_ = new com.google.protobuf.UnmodifiableLazyStringList(
-              biomeId_);
-          bitField0_ = (bitField0_ & ~0x00000400);
-        }
-        result.biomeId_ = biomeId_;
-        if (((from_bitField0_ & 0x00000800) == 0x00000800)) {
+        if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
           to_bitField0_ |= 0x00000001;
         }
         result.errorMessage_ = errorMessage_;
-        if (((from_bitField0_ & 0x00001000) == 0x00001000)) {
+        if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
           to_bitField0_ |= 0x00000002;
         }
         result.version_ = version_;
-        if (((from_bitField0_ & 0x00002000) == 0x00002000)) {
+        if (((from_bitField0_ & 0x00000800) == 0x00000800)) {
           to_bitField0_ |= 0x00000004;
         }
         result.gameName_ = gameName_;
-        if (((from_bitField0_ & 0x00004000) == 0x00004000)) {
+        if (((from_bitField0_ & 0x00001000) == 0x00001000)) {
           to_bitField0_ |= 0x00000008;
         }
         result.time_ = time_;
-        if (((from_bitField0_ & 0x00008000) == 0x00008000)) {
+        if (((from_bitField0_ & 0x00002000) == 0x00002000)) {
           to_bitField0_ |= 0x00000010;
         }
         result.reflectionHeight_ = reflectionHeight_;
-        if (((from_bitField0_ & 0x00010000) == 0x00010000)) {
+        if (((from_bitField0_ & 0x00004000) == 0x00004000)) {
           to_bitField0_ |= 0x00000020;
         }
         result.mOTD_ = mOTD_;
-        if (((from_bitField0_ & 0x00020000) == 0x00020000)) {
+        if (((from_bitField0_ & 0x00008000) == 0x00008000)) {
           to_bitField0_ |= 0x00000040;
         }
         result.onlinePlayersAmount_ = onlinePlayersAmount_;
@@ -17592,38 +17726,18 @@ public Builder mergeFrom(org.terasology.protobuf.NetData.ServerInfoMessage other
             }
           }
         }
-        if (!other.biomeShortId_.isEmpty()) {
-          if (biomeShortId_.isEmpty()) {
-            biomeShortId_ = other.biomeShortId_;
-            bitField0_ = (bitField0_ & ~0x00000200);
-          } else {
-            ensureBiomeShortIdIsMutable();
-            biomeShortId_.addAll(other.biomeShortId_);
-          }
-          onChanged();
-        }
-        if (!other.biomeId_.isEmpty()) {
-          if (biomeId_.isEmpty()) {
-            biomeId_ = other.biomeId_;
-            bitField0_ = (bitField0_ & ~0x00000400);
-          } else {
-            ensureBiomeIdIsMutable();
-            biomeId_.addAll(other.biomeId_);
-          }
-          onChanged();
-        }
         if (other.hasErrorMessage()) {
-          bitField0_ |= 0x00000800;
+          bitField0_ |= 0x00000200;
           errorMessage_ = other.errorMessage_;
           onChanged();
         }
         if (other.hasVersion()) {
-          bitField0_ |= 0x00001000;
+          bitField0_ |= 0x00000400;
           version_ = other.version_;
           onChanged();
         }
         if (other.hasGameName()) {
-          bitField0_ |= 0x00002000;
+          bitField0_ |= 0x00000800;
           gameName_ = other.gameName_;
           onChanged();
         }
@@ -17634,7 +17748,7 @@ public Builder mergeFrom(org.terasology.protobuf.NetData.ServerInfoMessage other
           setReflectionHeight(other.getReflectionHeight());
         }
         if (other.hasMOTD()) {
-          bitField0_ |= 0x00010000;
+          bitField0_ |= 0x00004000;
           mOTD_ = other.mOTD_;
           onChanged();
         }
@@ -17697,7 +17811,6 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // repeated .ModuleInfo module = 1;
       private java.util.List<org.terasology.protobuf.NetData.ModuleInfo> module_ =
         java.util.Collections.emptyList();
       private void ensureModuleIsMutable() {
@@ -17839,7 +17952,8 @@ public Builder addAllModule(
           java.lang.Iterable<? extends org.terasology.protobuf.NetData.ModuleInfo> values) {
         if (moduleBuilder_ == null) {
           ensureModuleIsMutable();
-          super.addAll(values, module_);
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, module_);
           onChanged();
         } else {
           moduleBuilder_.addAllMessages(values);
@@ -17937,7 +18051,6 @@ public org.terasology.protobuf.NetData.ModuleInfo.Builder addModuleBuilder(
         return moduleBuilder_;
       }
 
-      // repeated sint32 blockId = 2 [packed = true];
       private java.util.List<java.lang.Integer> blockId_ = java.util.Collections.emptyList();
       private void ensureBlockIdIsMutable() {
         if (!((bitField0_ & 0x00000002) == 0x00000002)) {
@@ -17989,7 +18102,8 @@ public Builder addBlockId(int value) {
       public Builder addAllBlockId(
           java.lang.Iterable<? extends java.lang.Integer> values) {
         ensureBlockIdIsMutable();
-        super.addAll(values, blockId_);
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, blockId_);
         onChanged();
         return this;
       }
@@ -18003,7 +18117,6 @@ public Builder clearBlockId() {
         return this;
       }
 
-      // repeated string blockName = 3;
       private com.google.protobuf.LazyStringList blockName_ = com.google.protobuf.LazyStringArrayList.EMPTY;
       private void ensureBlockNameIsMutable() {
         if (!((bitField0_ & 0x00000004) == 0x00000004)) {
@@ -18014,9 +18127,9 @@ private void ensureBlockNameIsMutable() {
       /**
        * <code>repeated string blockName = 3;</code>
        */
-      public java.util.List<java.lang.String>
+      public com.google.protobuf.ProtocolStringList
           getBlockNameList() {
-        return java.util.Collections.unmodifiableList(blockName_);
+        return blockName_.getUnmodifiableView();
       }
       /**
        * <code>repeated string blockName = 3;</code>
@@ -18069,7 +18182,8 @@ public Builder addBlockName(
       public Builder addAllBlockName(
           java.lang.Iterable<java.lang.String> values) {
         ensureBlockNameIsMutable();
-        super.addAll(values, blockName_);
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, blockName_);
         onChanged();
         return this;
       }
@@ -18096,7 +18210,6 @@ public Builder addBlockNameBytes(
         return this;
       }
 
-      // repeated .SerializationInfo component = 4;
       private java.util.List<org.terasology.protobuf.NetData.SerializationInfo> component_ =
         java.util.Collections.emptyList();
       private void ensureComponentIsMutable() {
@@ -18238,7 +18351,8 @@ public Builder addAllComponent(
           java.lang.Iterable<? extends org.terasology.protobuf.NetData.SerializationInfo> values) {
         if (componentBuilder_ == null) {
           ensureComponentIsMutable();
-          super.addAll(values, component_);
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, component_);
           onChanged();
         } else {
           componentBuilder_.addAllMessages(values);
@@ -18336,7 +18450,6 @@ public org.terasology.protobuf.NetData.SerializationInfo.Builder addComponentBui
         return componentBuilder_;
       }
 
-      // repeated .SerializationInfo event = 5;
       private java.util.List<org.terasology.protobuf.NetData.SerializationInfo> event_ =
         java.util.Collections.emptyList();
       private void ensureEventIsMutable() {
@@ -18478,7 +18591,8 @@ public Builder addAllEvent(
           java.lang.Iterable<? extends org.terasology.protobuf.NetData.SerializationInfo> values) {
         if (eventBuilder_ == null) {
           ensureEventIsMutable();
-          super.addAll(values, event_);
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, event_);
           onChanged();
         } else {
           eventBuilder_.addAllMessages(values);
@@ -18576,7 +18690,6 @@ public org.terasology.protobuf.NetData.SerializationInfo.Builder addEventBuilder
         return eventBuilder_;
       }
 
-      // repeated int32 assetId = 6 [packed = true];
       private java.util.List<java.lang.Integer> assetId_ = java.util.Collections.emptyList();
       private void ensureAssetIdIsMutable() {
         if (!((bitField0_ & 0x00000020) == 0x00000020)) {
@@ -18628,7 +18741,8 @@ public Builder addAssetId(int value) {
       public Builder addAllAssetId(
           java.lang.Iterable<? extends java.lang.Integer> values) {
         ensureAssetIdIsMutable();
-        super.addAll(values, assetId_);
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, assetId_);
         onChanged();
         return this;
       }
@@ -18642,7 +18756,6 @@ public Builder clearAssetId() {
         return this;
       }
 
-      // repeated string assetUri = 7;
       private com.google.protobuf.LazyStringList assetUri_ = com.google.protobuf.LazyStringArrayList.EMPTY;
       private void ensureAssetUriIsMutable() {
         if (!((bitField0_ & 0x00000040) == 0x00000040)) {
@@ -18653,9 +18766,9 @@ private void ensureAssetUriIsMutable() {
       /**
        * <code>repeated string assetUri = 7;</code>
        */
-      public java.util.List<java.lang.String>
+      public com.google.protobuf.ProtocolStringList
           getAssetUriList() {
-        return java.util.Collections.unmodifiableList(assetUri_);
+        return assetUri_.getUnmodifiableView();
       }
       /**
        * <code>repeated string assetUri = 7;</code>
@@ -18708,7 +18821,8 @@ public Builder addAssetUri(
       public Builder addAllAssetUri(
           java.lang.Iterable<java.lang.String> values) {
         ensureAssetUriIsMutable();
-        super.addAll(values, assetUri_);
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, assetUri_);
         onChanged();
         return this;
       }
@@ -18735,7 +18849,6 @@ public Builder addAssetUriBytes(
         return this;
       }
 
-      // repeated string registerBlockFamily = 8;
       private com.google.protobuf.LazyStringList registerBlockFamily_ = com.google.protobuf.LazyStringArrayList.EMPTY;
       private void ensureRegisterBlockFamilyIsMutable() {
         if (!((bitField0_ & 0x00000080) == 0x00000080)) {
@@ -18746,9 +18859,9 @@ private void ensureRegisterBlockFamilyIsMutable() {
       /**
        * <code>repeated string registerBlockFamily = 8;</code>
        */
-      public java.util.List<java.lang.String>
+      public com.google.protobuf.ProtocolStringList
           getRegisterBlockFamilyList() {
-        return java.util.Collections.unmodifiableList(registerBlockFamily_);
+        return registerBlockFamily_.getUnmodifiableView();
       }
       /**
        * <code>repeated string registerBlockFamily = 8;</code>
@@ -18801,7 +18914,8 @@ public Builder addRegisterBlockFamily(
       public Builder addAllRegisterBlockFamily(
           java.lang.Iterable<java.lang.String> values) {
         ensureRegisterBlockFamilyIsMutable();
-        super.addAll(values, registerBlockFamily_);
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, registerBlockFamily_);
         onChanged();
         return this;
       }
@@ -18828,7 +18942,6 @@ public Builder addRegisterBlockFamilyBytes(
         return this;
       }
 
-      // repeated .WorldInfo worldInfo = 9;
       private java.util.List<org.terasology.protobuf.NetData.WorldInfo> worldInfo_ =
         java.util.Collections.emptyList();
       private void ensureWorldInfoIsMutable() {
@@ -18970,7 +19083,8 @@ public Builder addAllWorldInfo(
           java.lang.Iterable<? extends org.terasology.protobuf.NetData.WorldInfo> values) {
         if (worldInfoBuilder_ == null) {
           ensureWorldInfoIsMutable();
-          super.addAll(values, worldInfo_);
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, worldInfo_);
           onChanged();
         } else {
           worldInfoBuilder_.addAllMessages(values);
@@ -19068,172 +19182,12 @@ public org.terasology.protobuf.NetData.WorldInfo.Builder addWorldInfoBuilder(
         return worldInfoBuilder_;
       }
 
-      // repeated sint32 biomeShortId = 10 [packed = true];
-      private java.util.List<java.lang.Integer> biomeShortId_ = java.util.Collections.emptyList();
-      private void ensureBiomeShortIdIsMutable() {
-        if (!((bitField0_ & 0x00000200) == 0x00000200)) {
-          biomeShortId_ = new java.util.ArrayList<java.lang.Integer>(biomeShortId_);
-          bitField0_ |= 0x00000200;
-         }
-      }
-      /**
-       * <code>repeated sint32 biomeShortId = 10 [packed = true];</code>
-       */
-      public java.util.List<java.lang.Integer>
-          getBiomeShortIdList() {
-        return java.util.Collections.unmodifiableList(biomeShortId_);
-      }
-      /**
-       * <code>repeated sint32 biomeShortId = 10 [packed = true];</code>
-       */
-      public int getBiomeShortIdCount() {
-        return biomeShortId_.size();
-      }
-      /**
-       * <code>repeated sint32 biomeShortId = 10 [packed = true];</code>
-       */
-      public int getBiomeShortId(int index) {
-        return biomeShortId_.get(index);
-      }
-      /**
-       * <code>repeated sint32 biomeShortId = 10 [packed = true];</code>
-       */
-      public Builder setBiomeShortId(
-          int index, int value) {
-        ensureBiomeShortIdIsMutable();
-        biomeShortId_.set(index, value);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>repeated sint32 biomeShortId = 10 [packed = true];</code>
-       */
-      public Builder addBiomeShortId(int value) {
-        ensureBiomeShortIdIsMutable();
-        biomeShortId_.add(value);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>repeated sint32 biomeShortId = 10 [packed = true];</code>
-       */
-      public Builder addAllBiomeShortId(
-          java.lang.Iterable<? extends java.lang.Integer> values) {
-        ensureBiomeShortIdIsMutable();
-        super.addAll(values, biomeShortId_);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>repeated sint32 biomeShortId = 10 [packed = true];</code>
-       */
-      public Builder clearBiomeShortId() {
-        biomeShortId_ = java.util.Collections.emptyList();
-        bitField0_ = (bitField0_ & ~0x00000200);
-        onChanged();
-        return this;
-      }
-
-      // repeated string biomeId = 11;
-      private com.google.protobuf.LazyStringList biomeId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-      private void ensureBiomeIdIsMutable() {
-        if (!((bitField0_ & 0x00000400) == 0x00000400)) {
-          biomeId_ = new com.google.protobuf.LazyStringArrayList(biomeId_);
-          bitField0_ |= 0x00000400;
-         }
-      }
-      /**
-       * <code>repeated string biomeId = 11;</code>
-       */
-      public java.util.List<java.lang.String>
-          getBiomeIdList() {
-        return java.util.Collections.unmodifiableList(biomeId_);
-      }
-      /**
-       * <code>repeated string biomeId = 11;</code>
-       */
-      public int getBiomeIdCount() {
-        return biomeId_.size();
-      }
-      /**
-       * <code>repeated string biomeId = 11;</code>
-       */
-      public java.lang.String getBiomeId(int index) {
-        return biomeId_.get(index);
-      }
-      /**
-       * <code>repeated string biomeId = 11;</code>
-       */
-      public com.google.protobuf.ByteString
-          getBiomeIdBytes(int index) {
-        return biomeId_.getByteString(index);
-      }
-      /**
-       * <code>repeated string biomeId = 11;</code>
-       */
-      public Builder setBiomeId(
-          int index, java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureBiomeIdIsMutable();
-        biomeId_.set(index, value);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>repeated string biomeId = 11;</code>
-       */
-      public Builder addBiomeId(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureBiomeIdIsMutable();
-        biomeId_.add(value);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>repeated string biomeId = 11;</code>
-       */
-      public Builder addAllBiomeId(
-          java.lang.Iterable<java.lang.String> values) {
-        ensureBiomeIdIsMutable();
-        super.addAll(values, biomeId_);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>repeated string biomeId = 11;</code>
-       */
-      public Builder clearBiomeId() {
-        biomeId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000400);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>repeated string biomeId = 11;</code>
-       */
-      public Builder addBiomeIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureBiomeIdIsMutable();
-        biomeId_.add(value);
-        onChanged();
-        return this;
-      }
-
-      // optional string errorMessage = 12;
       private java.lang.Object errorMessage_ = "";
       /**
        * <code>optional string errorMessage = 12;</code>
        */
       public boolean hasErrorMessage() {
-        return ((bitField0_ & 0x00000800) == 0x00000800);
+        return ((bitField0_ & 0x00000200) == 0x00000200);
       }
       /**
        * <code>optional string errorMessage = 12;</code>
@@ -19241,9 +19195,12 @@ public boolean hasErrorMessage() {
       public java.lang.String getErrorMessage() {
         java.lang.Object ref = errorMessage_;
         if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          errorMessage_ = s;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            errorMessage_ = s;
+          }
           return s;
         } else {
           return (java.lang.String) ref;
@@ -19273,7 +19230,7 @@ public Builder setErrorMessage(
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000800;
+  bitField0_ |= 0x00000200;
         errorMessage_ = value;
         onChanged();
         return this;
@@ -19282,7 +19239,7 @@ public Builder setErrorMessage(
        * <code>optional string errorMessage = 12;</code>
        */
       public Builder clearErrorMessage() {
-        bitField0_ = (bitField0_ & ~0x00000800);
+        bitField0_ = (bitField0_ & ~0x00000200);
         errorMessage_ = getDefaultInstance().getErrorMessage();
         onChanged();
         return this;
@@ -19295,19 +19252,18 @@ public Builder setErrorMessageBytes(
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000800;
+  bitField0_ |= 0x00000200;
         errorMessage_ = value;
         onChanged();
         return this;
       }
 
-      // optional string version = 15;
       private java.lang.Object version_ = "";
       /**
        * <code>optional string version = 15;</code>
        */
       public boolean hasVersion() {
-        return ((bitField0_ & 0x00001000) == 0x00001000);
+        return ((bitField0_ & 0x00000400) == 0x00000400);
       }
       /**
        * <code>optional string version = 15;</code>
@@ -19315,9 +19271,12 @@ public boolean hasVersion() {
       public java.lang.String getVersion() {
         java.lang.Object ref = version_;
         if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          version_ = s;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            version_ = s;
+          }
           return s;
         } else {
           return (java.lang.String) ref;
@@ -19347,7 +19306,7 @@ public Builder setVersion(
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00001000;
+  bitField0_ |= 0x00000400;
         version_ = value;
         onChanged();
         return this;
@@ -19356,7 +19315,7 @@ public Builder setVersion(
        * <code>optional string version = 15;</code>
        */
       public Builder clearVersion() {
-        bitField0_ = (bitField0_ & ~0x00001000);
+        bitField0_ = (bitField0_ & ~0x00000400);
         version_ = getDefaultInstance().getVersion();
         onChanged();
         return this;
@@ -19369,19 +19328,18 @@ public Builder setVersionBytes(
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00001000;
+  bitField0_ |= 0x00000400;
         version_ = value;
         onChanged();
         return this;
       }
 
-      // optional string gameName = 16;
       private java.lang.Object gameName_ = "";
       /**
        * <code>optional string gameName = 16;</code>
        */
       public boolean hasGameName() {
-        return ((bitField0_ & 0x00002000) == 0x00002000);
+        return ((bitField0_ & 0x00000800) == 0x00000800);
       }
       /**
        * <code>optional string gameName = 16;</code>
@@ -19389,9 +19347,12 @@ public boolean hasGameName() {
       public java.lang.String getGameName() {
         java.lang.Object ref = gameName_;
         if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          gameName_ = s;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            gameName_ = s;
+          }
           return s;
         } else {
           return (java.lang.String) ref;
@@ -19421,7 +19382,7 @@ public Builder setGameName(
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00002000;
+  bitField0_ |= 0x00000800;
         gameName_ = value;
         onChanged();
         return this;
@@ -19430,7 +19391,7 @@ public Builder setGameName(
        * <code>optional string gameName = 16;</code>
        */
       public Builder clearGameName() {
-        bitField0_ = (bitField0_ & ~0x00002000);
+        bitField0_ = (bitField0_ & ~0x00000800);
         gameName_ = getDefaultInstance().getGameName();
         onChanged();
         return this;
@@ -19443,19 +19404,18 @@ public Builder setGameNameBytes(
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00002000;
+  bitField0_ |= 0x00000800;
         gameName_ = value;
         onChanged();
         return this;
       }
 
-      // optional int64 time = 17;
       private long time_ ;
       /**
        * <code>optional int64 time = 17;</code>
        */
       public boolean hasTime() {
-        return ((bitField0_ & 0x00004000) == 0x00004000);
+        return ((bitField0_ & 0x00001000) == 0x00001000);
       }
       /**
        * <code>optional int64 time = 17;</code>
@@ -19467,7 +19427,7 @@ public long getTime() {
        * <code>optional int64 time = 17;</code>
        */
       public Builder setTime(long value) {
-        bitField0_ |= 0x00004000;
+        bitField0_ |= 0x00001000;
         time_ = value;
         onChanged();
         return this;
@@ -19476,19 +19436,18 @@ public Builder setTime(long value) {
        * <code>optional int64 time = 17;</code>
        */
       public Builder clearTime() {
-        bitField0_ = (bitField0_ & ~0x00004000);
+        bitField0_ = (bitField0_ & ~0x00001000);
         time_ = 0L;
         onChanged();
         return this;
       }
 
-      // optional float reflectionHeight = 18;
       private float reflectionHeight_ ;
       /**
        * <code>optional float reflectionHeight = 18;</code>
        */
       public boolean hasReflectionHeight() {
-        return ((bitField0_ & 0x00008000) == 0x00008000);
+        return ((bitField0_ & 0x00002000) == 0x00002000);
       }
       /**
        * <code>optional float reflectionHeight = 18;</code>
@@ -19500,7 +19459,7 @@ public float getReflectionHeight() {
        * <code>optional float reflectionHeight = 18;</code>
        */
       public Builder setReflectionHeight(float value) {
-        bitField0_ |= 0x00008000;
+        bitField0_ |= 0x00002000;
         reflectionHeight_ = value;
         onChanged();
         return this;
@@ -19509,19 +19468,18 @@ public Builder setReflectionHeight(float value) {
        * <code>optional float reflectionHeight = 18;</code>
        */
       public Builder clearReflectionHeight() {
-        bitField0_ = (bitField0_ & ~0x00008000);
+        bitField0_ = (bitField0_ & ~0x00002000);
         reflectionHeight_ = 0F;
         onChanged();
         return this;
       }
 
-      // optional string MOTD = 19;
       private java.lang.Object mOTD_ = "";
       /**
        * <code>optional string MOTD = 19;</code>
        */
       public boolean hasMOTD() {
-        return ((bitField0_ & 0x00010000) == 0x00010000);
+        return ((bitField0_ & 0x00004000) == 0x00004000);
       }
       /**
        * <code>optional string MOTD = 19;</code>
@@ -19529,9 +19487,12 @@ public boolean hasMOTD() {
       public java.lang.String getMOTD() {
         java.lang.Object ref = mOTD_;
         if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          mOTD_ = s;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            mOTD_ = s;
+          }
           return s;
         } else {
           return (java.lang.String) ref;
@@ -19561,7 +19522,7 @@ public Builder setMOTD(
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00010000;
+  bitField0_ |= 0x00004000;
         mOTD_ = value;
         onChanged();
         return this;
@@ -19570,7 +19531,7 @@ public Builder setMOTD(
        * <code>optional string MOTD = 19;</code>
        */
       public Builder clearMOTD() {
-        bitField0_ = (bitField0_ & ~0x00010000);
+        bitField0_ = (bitField0_ & ~0x00004000);
         mOTD_ = getDefaultInstance().getMOTD();
         onChanged();
         return this;
@@ -19583,19 +19544,18 @@ public Builder setMOTDBytes(
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00010000;
+  bitField0_ |= 0x00004000;
         mOTD_ = value;
         onChanged();
         return this;
       }
 
-      // optional int32 onlinePlayersAmount = 20;
       private int onlinePlayersAmount_ ;
       /**
        * <code>optional int32 onlinePlayersAmount = 20;</code>
        */
       public boolean hasOnlinePlayersAmount() {
-        return ((bitField0_ & 0x00020000) == 0x00020000);
+        return ((bitField0_ & 0x00008000) == 0x00008000);
       }
       /**
        * <code>optional int32 onlinePlayersAmount = 20;</code>
@@ -19607,7 +19567,7 @@ public int getOnlinePlayersAmount() {
        * <code>optional int32 onlinePlayersAmount = 20;</code>
        */
       public Builder setOnlinePlayersAmount(int value) {
-        bitField0_ |= 0x00020000;
+        bitField0_ |= 0x00008000;
         onlinePlayersAmount_ = value;
         onChanged();
         return this;
@@ -19616,7 +19576,7 @@ public Builder setOnlinePlayersAmount(int value) {
        * <code>optional int32 onlinePlayersAmount = 20;</code>
        */
       public Builder clearOnlinePlayersAmount() {
-        bitField0_ = (bitField0_ & ~0x00020000);
+        bitField0_ = (bitField0_ & ~0x00008000);
         onlinePlayersAmount_ = 0;
         onChanged();
         return this;
@@ -19634,10 +19594,10 @@ public Builder clearOnlinePlayersAmount() {
   }
 
   public interface WorldInfoOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:WorldInfo)
       com.google.protobuf.GeneratedMessage.
           ExtendableMessageOrBuilder<WorldInfo> {
 
-    // optional string title = 1;
     /**
      * <code>optional string title = 1;</code>
      */
@@ -19652,7 +19612,6 @@ public interface WorldInfoOrBuilder extends
     com.google.protobuf.ByteString
         getTitleBytes();
 
-    // optional int64 time = 2;
     /**
      * <code>optional int64 time = 2;</code>
      */
@@ -19667,7 +19626,9 @@ public interface WorldInfoOrBuilder extends
    */
   public static final class WorldInfo extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        WorldInfo> implements WorldInfoOrBuilder {
+        WorldInfo> implements
+      // @@protoc_insertion_point(message_implements:WorldInfo)
+      WorldInfoOrBuilder {
     // Use WorldInfo.newBuilder() to construct.
     private WorldInfo(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.WorldInfo, ?> builder) {
       super(builder);
@@ -19714,8 +19675,9 @@ private WorldInfo(
               break;
             }
             case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000001;
-              title_ = input.readBytes();
+              title_ = bs;
               break;
             }
             case 16: {
@@ -19763,7 +19725,6 @@ public com.google.protobuf.Parser<WorldInfo> getParserForType() {
     }
 
     private int bitField0_;
-    // optional string title = 1;
     public static final int TITLE_FIELD_NUMBER = 1;
     private java.lang.Object title_;
     /**
@@ -19806,7 +19767,6 @@ public java.lang.String getTitle() {
       }
     }
 
-    // optional int64 time = 2;
     public static final int TIME_FIELD_NUMBER = 2;
     private long time_;
     /**
@@ -19829,7 +19789,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       if (!extensionsAreInitialized()) {
         memoizedIsInitialized = 0;
@@ -19953,7 +19914,9 @@ protected Builder newBuilderForType(
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.WorldInfo, Builder> implements org.terasology.protobuf.NetData.WorldInfoOrBuilder {
+          org.terasology.protobuf.NetData.WorldInfo, Builder> implements
+        // @@protoc_insertion_point(builder_implements:WorldInfo)
+        org.terasology.protobuf.NetData.WorldInfoOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_WorldInfo_descriptor;
@@ -20082,7 +20045,6 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // optional string title = 1;
       private java.lang.Object title_ = "";
       /**
        * <code>optional string title = 1;</code>
@@ -20096,9 +20058,12 @@ public boolean hasTitle() {
       public java.lang.String getTitle() {
         java.lang.Object ref = title_;
         if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          title_ = s;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            title_ = s;
+          }
           return s;
         } else {
           return (java.lang.String) ref;
@@ -20156,7 +20121,6 @@ public Builder setTitleBytes(
         return this;
       }
 
-      // optional int64 time = 2;
       private long time_ ;
       /**
        * <code>optional int64 time = 2;</code>
@@ -20201,10 +20165,10 @@ public Builder clearTime() {
   }
 
   public interface SerializationInfoOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:SerializationInfo)
       com.google.protobuf.GeneratedMessage.
           ExtendableMessageOrBuilder<SerializationInfo> {
 
-    // optional string name = 1;
     /**
      * <code>optional string name = 1;</code>
      */
@@ -20219,7 +20183,6 @@ public interface SerializationInfoOrBuilder extends
     com.google.protobuf.ByteString
         getNameBytes();
 
-    // optional int32 id = 2;
     /**
      * <code>optional int32 id = 2;</code>
      */
@@ -20229,12 +20192,11 @@ public interface SerializationInfoOrBuilder extends
      */
     int getId();
 
-    // repeated string fieldName = 3;
     /**
      * <code>repeated string fieldName = 3;</code>
      */
-    java.util.List<java.lang.String>
-    getFieldNameList();
+    com.google.protobuf.ProtocolStringList
+        getFieldNameList();
     /**
      * <code>repeated string fieldName = 3;</code>
      */
@@ -20249,7 +20211,6 @@ public interface SerializationInfoOrBuilder extends
     com.google.protobuf.ByteString
         getFieldNameBytes(int index);
 
-    // optional bytes fieldIds = 4;
     /**
      * <code>optional bytes fieldIds = 4;</code>
      */
@@ -20264,7 +20225,9 @@ public interface SerializationInfoOrBuilder extends
    */
   public static final class SerializationInfo extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        SerializationInfo> implements SerializationInfoOrBuilder {
+        SerializationInfo> implements
+      // @@protoc_insertion_point(message_implements:SerializationInfo)
+      SerializationInfoOrBuilder {
     // Use SerializationInfo.newBuilder() to construct.
     private SerializationInfo(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.SerializationInfo, ?> builder) {
       super(builder);
@@ -20311,8 +20274,9 @@ private SerializationInfo(
               break;
             }
             case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000001;
-              name_ = input.readBytes();
+              name_ = bs;
               break;
             }
             case 16: {
@@ -20321,11 +20285,12 @@ private SerializationInfo(
               break;
             }
             case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
                 fieldName_ = new com.google.protobuf.LazyStringArrayList();
                 mutable_bitField0_ |= 0x00000004;
               }
-              fieldName_.add(input.readBytes());
+              fieldName_.add(bs);
               break;
             }
             case 34: {
@@ -20342,7 +20307,7 @@ private SerializationInfo(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
         if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
-          fieldName_ = new com.google.protobuf.UnmodifiableLazyStringList(fieldName_);
+          fieldName_ = fieldName_.getUnmodifiableView();
         }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
@@ -20376,7 +20341,6 @@ public com.google.protobuf.Parser<SerializationInfo> getParserForType() {
     }
 
     private int bitField0_;
-    // optional string name = 1;
     public static final int NAME_FIELD_NUMBER = 1;
     private java.lang.Object name_;
     /**
@@ -20419,7 +20383,6 @@ public java.lang.String getName() {
       }
     }
 
-    // optional int32 id = 2;
     public static final int ID_FIELD_NUMBER = 2;
     private int id_;
     /**
@@ -20435,13 +20398,12 @@ public int getId() {
       return id_;
     }
 
-    // repeated string fieldName = 3;
     public static final int FIELDNAME_FIELD_NUMBER = 3;
     private com.google.protobuf.LazyStringList fieldName_;
     /**
      * <code>repeated string fieldName = 3;</code>
      */
-    public java.util.List<java.lang.String>
+    public com.google.protobuf.ProtocolStringList
         getFieldNameList() {
       return fieldName_;
     }
@@ -20465,7 +20427,6 @@ public java.lang.String getFieldName(int index) {
       return fieldName_.getByteString(index);
     }
 
-    // optional bytes fieldIds = 4;
     public static final int FIELDIDS_FIELD_NUMBER = 4;
     private com.google.protobuf.ByteString fieldIds_;
     /**
@@ -20490,7 +20451,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       if (!extensionsAreInitialized()) {
         memoizedIsInitialized = 0;
@@ -20633,7 +20595,9 @@ protected Builder newBuilderForType(
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.SerializationInfo, Builder> implements org.terasology.protobuf.NetData.SerializationInfoOrBuilder {
+          org.terasology.protobuf.NetData.SerializationInfo, Builder> implements
+        // @@protoc_insertion_point(builder_implements:SerializationInfo)
+        org.terasology.protobuf.NetData.SerializationInfoOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_SerializationInfo_descriptor;
@@ -20711,8 +20675,7 @@ public org.terasology.protobuf.NetData.SerializationInfo buildPartial() {
         }
         result.id_ = id_;
         if (((bitField0_ & 0x00000004) == 0x00000004)) {
-          fieldName_ = new com.google.protobuf.UnmodifiableLazyStringList(
-              fieldName_);
+          fieldName_ = fieldName_.getUnmodifiableView();
           bitField0_ = (bitField0_ & ~0x00000004);
         }
         result.fieldName_ = fieldName_;
@@ -20789,7 +20752,6 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // optional string name = 1;
       private java.lang.Object name_ = "";
       /**
        * <code>optional string name = 1;</code>
@@ -20803,9 +20765,12 @@ public boolean hasName() {
       public java.lang.String getName() {
         java.lang.Object ref = name_;
         if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          name_ = s;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
           return s;
         } else {
           return (java.lang.String) ref;
@@ -20863,7 +20828,6 @@ public Builder setNameBytes(
         return this;
       }
 
-      // optional int32 id = 2;
       private int id_ ;
       /**
        * <code>optional int32 id = 2;</code>
@@ -20896,7 +20860,6 @@ public Builder clearId() {
         return this;
       }
 
-      // repeated string fieldName = 3;
       private com.google.protobuf.LazyStringList fieldName_ = com.google.protobuf.LazyStringArrayList.EMPTY;
       private void ensureFieldNameIsMutable() {
         if (!((bitField0_ & 0x00000004) == 0x00000004)) {
@@ -20907,9 +20870,9 @@ private void ensureFieldNameIsMutable() {
       /**
        * <code>repeated string fieldName = 3;</code>
        */
-      public java.util.List<java.lang.String>
+      public com.google.protobuf.ProtocolStringList
           getFieldNameList() {
-        return java.util.Collections.unmodifiableList(fieldName_);
+        return fieldName_.getUnmodifiableView();
       }
       /**
        * <code>repeated string fieldName = 3;</code>
@@ -20962,7 +20925,8 @@ public Builder addFieldName(
       public Builder addAllFieldName(
           java.lang.Iterable<java.lang.String> values) {
         ensureFieldNameIsMutable();
-        super.addAll(values, fieldName_);
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, fieldName_);
         onChanged();
         return this;
       }
@@ -20989,7 +20953,6 @@ public Builder addFieldNameBytes(
         return this;
       }
 
-      // optional bytes fieldIds = 4;
       private com.google.protobuf.ByteString fieldIds_ = com.google.protobuf.ByteString.EMPTY;
       /**
        * <code>optional bytes fieldIds = 4;</code>
@@ -21037,10 +21000,10 @@ public Builder clearFieldIds() {
   }
 
   public interface ModuleInfoOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ModuleInfo)
       com.google.protobuf.GeneratedMessage.
           ExtendableMessageOrBuilder<ModuleInfo> {
 
-    // optional string moduleId = 1;
     /**
      * <code>optional string moduleId = 1;</code>
      */
@@ -21055,7 +21018,6 @@ public interface ModuleInfoOrBuilder extends
     com.google.protobuf.ByteString
         getModuleIdBytes();
 
-    // optional string moduleVersion = 2;
     /**
      * <code>optional string moduleVersion = 2;</code>
      */
@@ -21075,7 +21037,9 @@ public interface ModuleInfoOrBuilder extends
    */
   public static final class ModuleInfo extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        ModuleInfo> implements ModuleInfoOrBuilder {
+        ModuleInfo> implements
+      // @@protoc_insertion_point(message_implements:ModuleInfo)
+      ModuleInfoOrBuilder {
     // Use ModuleInfo.newBuilder() to construct.
     private ModuleInfo(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.ModuleInfo, ?> builder) {
       super(builder);
@@ -21122,13 +21086,15 @@ private ModuleInfo(
               break;
             }
             case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000001;
-              moduleId_ = input.readBytes();
+              moduleId_ = bs;
               break;
             }
             case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000002;
-              moduleVersion_ = input.readBytes();
+              moduleVersion_ = bs;
               break;
             }
           }
@@ -21171,7 +21137,6 @@ public com.google.protobuf.Parser<ModuleInfo> getParserForType() {
     }
 
     private int bitField0_;
-    // optional string moduleId = 1;
     public static final int MODULEID_FIELD_NUMBER = 1;
     private java.lang.Object moduleId_;
     /**
@@ -21214,7 +21179,6 @@ public java.lang.String getModuleId() {
       }
     }
 
-    // optional string moduleVersion = 2;
     public static final int MODULEVERSION_FIELD_NUMBER = 2;
     private java.lang.Object moduleVersion_;
     /**
@@ -21264,7 +21228,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       if (!extensionsAreInitialized()) {
         memoizedIsInitialized = 0;
@@ -21388,7 +21353,9 @@ protected Builder newBuilderForType(
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.ModuleInfo, Builder> implements org.terasology.protobuf.NetData.ModuleInfoOrBuilder {
+          org.terasology.protobuf.NetData.ModuleInfo, Builder> implements
+        // @@protoc_insertion_point(builder_implements:ModuleInfo)
+        org.terasology.protobuf.NetData.ModuleInfoOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_ModuleInfo_descriptor;
@@ -21519,7 +21486,6 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // optional string moduleId = 1;
       private java.lang.Object moduleId_ = "";
       /**
        * <code>optional string moduleId = 1;</code>
@@ -21533,9 +21499,12 @@ public boolean hasModuleId() {
       public java.lang.String getModuleId() {
         java.lang.Object ref = moduleId_;
         if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          moduleId_ = s;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            moduleId_ = s;
+          }
           return s;
         } else {
           return (java.lang.String) ref;
@@ -21593,7 +21562,6 @@ public Builder setModuleIdBytes(
         return this;
       }
 
-      // optional string moduleVersion = 2;
       private java.lang.Object moduleVersion_ = "";
       /**
        * <code>optional string moduleVersion = 2;</code>
@@ -21607,9 +21575,12 @@ public boolean hasModuleVersion() {
       public java.lang.String getModuleVersion() {
         java.lang.Object ref = moduleVersion_;
         if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          moduleVersion_ = s;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            moduleVersion_ = s;
+          }
           return s;
         } else {
           return (java.lang.String) ref;
@@ -21679,10 +21650,10 @@ public Builder setModuleVersionBytes(
   }
 
   public interface ModuleRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ModuleRequest)
       com.google.protobuf.GeneratedMessage.
           ExtendableMessageOrBuilder<ModuleRequest> {
 
-    // optional string moduleId = 1;
     /**
      * <code>optional string moduleId = 1;</code>
      */
@@ -21702,7 +21673,9 @@ public interface ModuleRequestOrBuilder extends
    */
   public static final class ModuleRequest extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        ModuleRequest> implements ModuleRequestOrBuilder {
+        ModuleRequest> implements
+      // @@protoc_insertion_point(message_implements:ModuleRequest)
+      ModuleRequestOrBuilder {
     // Use ModuleRequest.newBuilder() to construct.
     private ModuleRequest(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.ModuleRequest, ?> builder) {
       super(builder);
@@ -21749,8 +21722,9 @@ private ModuleRequest(
               break;
             }
             case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000001;
-              moduleId_ = input.readBytes();
+              moduleId_ = bs;
               break;
             }
           }
@@ -21793,7 +21767,6 @@ public com.google.protobuf.Parser<ModuleRequest> getParserForType() {
     }
 
     private int bitField0_;
-    // optional string moduleId = 1;
     public static final int MODULEID_FIELD_NUMBER = 1;
     private java.lang.Object moduleId_;
     /**
@@ -21842,7 +21815,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       if (!extensionsAreInitialized()) {
         memoizedIsInitialized = 0;
@@ -21959,7 +21933,9 @@ protected Builder newBuilderForType(
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.ModuleRequest, Builder> implements org.terasology.protobuf.NetData.ModuleRequestOrBuilder {
+          org.terasology.protobuf.NetData.ModuleRequest, Builder> implements
+        // @@protoc_insertion_point(builder_implements:ModuleRequest)
+        org.terasology.protobuf.NetData.ModuleRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_ModuleRequest_descriptor;
@@ -22079,7 +22055,6 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // optional string moduleId = 1;
       private java.lang.Object moduleId_ = "";
       /**
        * <code>optional string moduleId = 1;</code>
@@ -22093,9 +22068,12 @@ public boolean hasModuleId() {
       public java.lang.String getModuleId() {
         java.lang.Object ref = moduleId_;
         if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          moduleId_ = s;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            moduleId_ = s;
+          }
           return s;
         } else {
           return (java.lang.String) ref;
@@ -22165,10 +22143,10 @@ public Builder setModuleIdBytes(
   }
 
   public interface ModuleDataHeaderOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ModuleDataHeader)
       com.google.protobuf.GeneratedMessage.
           ExtendableMessageOrBuilder<ModuleDataHeader> {
 
-    // optional string id = 1;
     /**
      * <code>optional string id = 1;</code>
      */
@@ -22183,7 +22161,6 @@ public interface ModuleDataHeaderOrBuilder extends
     com.google.protobuf.ByteString
         getIdBytes();
 
-    // optional string version = 2;
     /**
      * <code>optional string version = 2;</code>
      */
@@ -22198,7 +22175,6 @@ public interface ModuleDataHeaderOrBuilder extends
     com.google.protobuf.ByteString
         getVersionBytes();
 
-    // optional int64 size = 3;
     /**
      * <code>optional int64 size = 3;</code>
      */
@@ -22208,7 +22184,6 @@ public interface ModuleDataHeaderOrBuilder extends
      */
     long getSize();
 
-    // optional string error = 15;
     /**
      * <code>optional string error = 15;</code>
      */
@@ -22228,7 +22203,9 @@ public interface ModuleDataHeaderOrBuilder extends
    */
   public static final class ModuleDataHeader extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        ModuleDataHeader> implements ModuleDataHeaderOrBuilder {
+        ModuleDataHeader> implements
+      // @@protoc_insertion_point(message_implements:ModuleDataHeader)
+      ModuleDataHeaderOrBuilder {
     // Use ModuleDataHeader.newBuilder() to construct.
     private ModuleDataHeader(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.ModuleDataHeader, ?> builder) {
       super(builder);
@@ -22275,13 +22252,15 @@ private ModuleDataHeader(
               break;
             }
             case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000001;
-              id_ = input.readBytes();
+              id_ = bs;
               break;
             }
             case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000002;
-              version_ = input.readBytes();
+              version_ = bs;
               break;
             }
             case 24: {
@@ -22290,8 +22269,9 @@ private ModuleDataHeader(
               break;
             }
             case 122: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000008;
-              error_ = input.readBytes();
+              error_ = bs;
               break;
             }
           }
@@ -22334,7 +22314,6 @@ public com.google.protobuf.Parser<ModuleDataHeader> getParserForType() {
     }
 
     private int bitField0_;
-    // optional string id = 1;
     public static final int ID_FIELD_NUMBER = 1;
     private java.lang.Object id_;
     /**
@@ -22377,7 +22356,6 @@ public java.lang.String getId() {
       }
     }
 
-    // optional string version = 2;
     public static final int VERSION_FIELD_NUMBER = 2;
     private java.lang.Object version_;
     /**
@@ -22420,7 +22398,6 @@ public java.lang.String getVersion() {
       }
     }
 
-    // optional int64 size = 3;
     public static final int SIZE_FIELD_NUMBER = 3;
     private long size_;
     /**
@@ -22436,7 +22413,6 @@ public long getSize() {
       return size_;
     }
 
-    // optional string error = 15;
     public static final int ERROR_FIELD_NUMBER = 15;
     private java.lang.Object error_;
     /**
@@ -22488,7 +22464,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       if (!extensionsAreInitialized()) {
         memoizedIsInitialized = 0;
@@ -22626,7 +22603,9 @@ protected Builder newBuilderForType(
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.ModuleDataHeader, Builder> implements org.terasology.protobuf.NetData.ModuleDataHeaderOrBuilder {
+          org.terasology.protobuf.NetData.ModuleDataHeader, Builder> implements
+        // @@protoc_insertion_point(builder_implements:ModuleDataHeader)
+        org.terasology.protobuf.NetData.ModuleDataHeaderOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_ModuleDataHeader_descriptor;
@@ -22777,7 +22756,6 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // optional string id = 1;
       private java.lang.Object id_ = "";
       /**
        * <code>optional string id = 1;</code>
@@ -22791,9 +22769,12 @@ public boolean hasId() {
       public java.lang.String getId() {
         java.lang.Object ref = id_;
         if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          id_ = s;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            id_ = s;
+          }
           return s;
         } else {
           return (java.lang.String) ref;
@@ -22851,7 +22832,6 @@ public Builder setIdBytes(
         return this;
       }
 
-      // optional string version = 2;
       private java.lang.Object version_ = "";
       /**
        * <code>optional string version = 2;</code>
@@ -22865,9 +22845,12 @@ public boolean hasVersion() {
       public java.lang.String getVersion() {
         java.lang.Object ref = version_;
         if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          version_ = s;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            version_ = s;
+          }
           return s;
         } else {
           return (java.lang.String) ref;
@@ -22925,7 +22908,6 @@ public Builder setVersionBytes(
         return this;
       }
 
-      // optional int64 size = 3;
       private long size_ ;
       /**
        * <code>optional int64 size = 3;</code>
@@ -22958,7 +22940,6 @@ public Builder clearSize() {
         return this;
       }
 
-      // optional string error = 15;
       private java.lang.Object error_ = "";
       /**
        * <code>optional string error = 15;</code>
@@ -22972,9 +22953,12 @@ public boolean hasError() {
       public java.lang.String getError() {
         java.lang.Object ref = error_;
         if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          error_ = s;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            error_ = s;
+          }
           return s;
         } else {
           return (java.lang.String) ref;
@@ -23044,10 +23028,10 @@ public Builder setErrorBytes(
   }
 
   public interface ModuleDataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ModuleData)
       com.google.protobuf.GeneratedMessage.
           ExtendableMessageOrBuilder<ModuleData> {
 
-    // optional bytes module = 1;
     /**
      * <code>optional bytes module = 1;</code>
      */
@@ -23062,7 +23046,9 @@ public interface ModuleDataOrBuilder extends
    */
   public static final class ModuleData extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        ModuleData> implements ModuleDataOrBuilder {
+        ModuleData> implements
+      // @@protoc_insertion_point(message_implements:ModuleData)
+      ModuleDataOrBuilder {
     // Use ModuleData.newBuilder() to construct.
     private ModuleData(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.ModuleData, ?> builder) {
       super(builder);
@@ -23153,7 +23139,6 @@ public com.google.protobuf.Parser<ModuleData> getParserForType() {
     }
 
     private int bitField0_;
-    // optional bytes module = 1;
     public static final int MODULE_FIELD_NUMBER = 1;
     private com.google.protobuf.ByteString module_;
     /**
@@ -23175,7 +23160,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       if (!extensionsAreInitialized()) {
         memoizedIsInitialized = 0;
@@ -23292,7 +23278,9 @@ protected Builder newBuilderForType(
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.ModuleData, Builder> implements org.terasology.protobuf.NetData.ModuleDataOrBuilder {
+          org.terasology.protobuf.NetData.ModuleData, Builder> implements
+        // @@protoc_insertion_point(builder_implements:ModuleData)
+        org.terasology.protobuf.NetData.ModuleDataOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_ModuleData_descriptor;
@@ -23410,7 +23398,6 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // optional bytes module = 1;
       private com.google.protobuf.ByteString module_ = com.google.protobuf.ByteString.EMPTY;
       /**
        * <code>optional bytes module = 1;</code>
@@ -23458,10 +23445,10 @@ public Builder clearModule() {
   }
 
   public interface ModuleSendErrorOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ModuleSendError)
       com.google.protobuf.GeneratedMessage.
           ExtendableMessageOrBuilder<ModuleSendError> {
 
-    // optional string message = 1;
     /**
      * <code>optional string message = 1;</code>
      */
@@ -23481,7 +23468,9 @@ public interface ModuleSendErrorOrBuilder extends
    */
   public static final class ModuleSendError extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        ModuleSendError> implements ModuleSendErrorOrBuilder {
+        ModuleSendError> implements
+      // @@protoc_insertion_point(message_implements:ModuleSendError)
+      ModuleSendErrorOrBuilder {
     // Use ModuleSendError.newBuilder() to construct.
     private ModuleSendError(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.ModuleSendError, ?> builder) {
       super(builder);
@@ -23528,8 +23517,9 @@ private ModuleSendError(
               break;
             }
             case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000001;
-              message_ = input.readBytes();
+              message_ = bs;
               break;
             }
           }
@@ -23572,7 +23562,6 @@ public com.google.protobuf.Parser<ModuleSendError> getParserForType() {
     }
 
     private int bitField0_;
-    // optional string message = 1;
     public static final int MESSAGE_FIELD_NUMBER = 1;
     private java.lang.Object message_;
     /**
@@ -23621,7 +23610,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       if (!extensionsAreInitialized()) {
         memoizedIsInitialized = 0;
@@ -23738,7 +23728,9 @@ protected Builder newBuilderForType(
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.ModuleSendError, Builder> implements org.terasology.protobuf.NetData.ModuleSendErrorOrBuilder {
+          org.terasology.protobuf.NetData.ModuleSendError, Builder> implements
+        // @@protoc_insertion_point(builder_implements:ModuleSendError)
+        org.terasology.protobuf.NetData.ModuleSendErrorOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_ModuleSendError_descriptor;
@@ -23858,7 +23850,6 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // optional string message = 1;
       private java.lang.Object message_ = "";
       /**
        * <code>optional string message = 1;</code>
@@ -23872,9 +23863,12 @@ public boolean hasMessage() {
       public java.lang.String getMessage() {
         java.lang.Object ref = message_;
         if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          message_ = s;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            message_ = s;
+          }
           return s;
         } else {
           return (java.lang.String) ref;
@@ -23944,10 +23938,10 @@ public Builder setMessageBytes(
   }
 
   public interface CreateEntityMessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CreateEntityMessage)
       com.google.protobuf.GeneratedMessage.
           ExtendableMessageOrBuilder<CreateEntityMessage> {
 
-    // optional .PackedEntity entity = 1;
     /**
      * <code>optional .PackedEntity entity = 1;</code>
      */
@@ -23961,7 +23955,6 @@ public interface CreateEntityMessageOrBuilder extends
      */
     org.terasology.protobuf.EntityData.PackedEntityOrBuilder getEntityOrBuilder();
 
-    // optional .Vector3iData blockPos = 2;
     /**
      * <code>optional .Vector3iData blockPos = 2;</code>
      */
@@ -23980,7 +23973,9 @@ public interface CreateEntityMessageOrBuilder extends
    */
   public static final class CreateEntityMessage extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        CreateEntityMessage> implements CreateEntityMessageOrBuilder {
+        CreateEntityMessage> implements
+      // @@protoc_insertion_point(message_implements:CreateEntityMessage)
+      CreateEntityMessageOrBuilder {
     // Use CreateEntityMessage.newBuilder() to construct.
     private CreateEntityMessage(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.CreateEntityMessage, ?> builder) {
       super(builder);
@@ -24092,7 +24087,6 @@ public com.google.protobuf.Parser<CreateEntityMessage> getParserForType() {
     }
 
     private int bitField0_;
-    // optional .PackedEntity entity = 1;
     public static final int ENTITY_FIELD_NUMBER = 1;
     private org.terasology.protobuf.EntityData.PackedEntity entity_;
     /**
@@ -24114,7 +24108,6 @@ public org.terasology.protobuf.EntityData.PackedEntityOrBuilder getEntityOrBuild
       return entity_;
     }
 
-    // optional .Vector3iData blockPos = 2;
     public static final int BLOCKPOS_FIELD_NUMBER = 2;
     private org.terasology.protobuf.NetData.Vector3iData blockPos_;
     /**
@@ -24143,7 +24136,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       if (hasEntity()) {
         if (!getEntity().isInitialized()) {
@@ -24273,7 +24267,9 @@ protected Builder newBuilderForType(
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.CreateEntityMessage, Builder> implements org.terasology.protobuf.NetData.CreateEntityMessageOrBuilder {
+          org.terasology.protobuf.NetData.CreateEntityMessage, Builder> implements
+        // @@protoc_insertion_point(builder_implements:CreateEntityMessage)
+        org.terasology.protobuf.NetData.CreateEntityMessageOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_CreateEntityMessage_descriptor;
@@ -24424,7 +24420,6 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // optional .PackedEntity entity = 1;
       private org.terasology.protobuf.EntityData.PackedEntity entity_ = org.terasology.protobuf.EntityData.PackedEntity.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
           org.terasology.protobuf.EntityData.PackedEntity, org.terasology.protobuf.EntityData.PackedEntity.Builder, org.terasology.protobuf.EntityData.PackedEntityOrBuilder> entityBuilder_;
@@ -24533,7 +24528,7 @@ public org.terasology.protobuf.EntityData.PackedEntityOrBuilder getEntityOrBuild
         if (entityBuilder_ == null) {
           entityBuilder_ = new com.google.protobuf.SingleFieldBuilder<
               org.terasology.protobuf.EntityData.PackedEntity, org.terasology.protobuf.EntityData.PackedEntity.Builder, org.terasology.protobuf.EntityData.PackedEntityOrBuilder>(
-                  entity_,
+                  getEntity(),
                   getParentForChildren(),
                   isClean());
           entity_ = null;
@@ -24541,7 +24536,6 @@ public org.terasology.protobuf.EntityData.PackedEntityOrBuilder getEntityOrBuild
         return entityBuilder_;
       }
 
-      // optional .Vector3iData blockPos = 2;
       private org.terasology.protobuf.NetData.Vector3iData blockPos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
           org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder> blockPosBuilder_;
@@ -24650,7 +24644,7 @@ public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getBlockPosOrBuilde
         if (blockPosBuilder_ == null) {
           blockPosBuilder_ = new com.google.protobuf.SingleFieldBuilder<
               org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder>(
-                  blockPos_,
+                  getBlockPos(),
                   getParentForChildren(),
                   isClean());
           blockPos_ = null;
@@ -24670,10 +24664,10 @@ public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getBlockPosOrBuilde
   }
 
   public interface UpdateEntityMessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:UpdateEntityMessage)
       com.google.protobuf.GeneratedMessage.
           ExtendableMessageOrBuilder<UpdateEntityMessage> {
 
-    // optional .PackedEntity entity = 1;
     /**
      * <code>optional .PackedEntity entity = 1;</code>
      */
@@ -24687,7 +24681,6 @@ public interface UpdateEntityMessageOrBuilder extends
      */
     org.terasology.protobuf.EntityData.PackedEntityOrBuilder getEntityOrBuilder();
 
-    // optional int32 netId = 2;
     /**
      * <code>optional int32 netId = 2;</code>
      */
@@ -24702,7 +24695,9 @@ public interface UpdateEntityMessageOrBuilder extends
    */
   public static final class UpdateEntityMessage extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        UpdateEntityMessage> implements UpdateEntityMessageOrBuilder {
+        UpdateEntityMessage> implements
+      // @@protoc_insertion_point(message_implements:UpdateEntityMessage)
+      UpdateEntityMessageOrBuilder {
     // Use UpdateEntityMessage.newBuilder() to construct.
     private UpdateEntityMessage(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.UpdateEntityMessage, ?> builder) {
       super(builder);
@@ -24806,7 +24801,6 @@ public com.google.protobuf.Parser<UpdateEntityMessage> getParserForType() {
     }
 
     private int bitField0_;
-    // optional .PackedEntity entity = 1;
     public static final int ENTITY_FIELD_NUMBER = 1;
     private org.terasology.protobuf.EntityData.PackedEntity entity_;
     /**
@@ -24828,7 +24822,6 @@ public org.terasology.protobuf.EntityData.PackedEntityOrBuilder getEntityOrBuild
       return entity_;
     }
 
-    // optional int32 netId = 2;
     public static final int NETID_FIELD_NUMBER = 2;
     private int netId_;
     /**
@@ -24851,7 +24844,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       if (hasEntity()) {
         if (!getEntity().isInitialized()) {
@@ -24981,7 +24975,9 @@ protected Builder newBuilderForType(
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.UpdateEntityMessage, Builder> implements org.terasology.protobuf.NetData.UpdateEntityMessageOrBuilder {
+          org.terasology.protobuf.NetData.UpdateEntityMessage, Builder> implements
+        // @@protoc_insertion_point(builder_implements:UpdateEntityMessage)
+        org.terasology.protobuf.NetData.UpdateEntityMessageOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_UpdateEntityMessage_descriptor;
@@ -25123,7 +25119,6 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // optional .PackedEntity entity = 1;
       private org.terasology.protobuf.EntityData.PackedEntity entity_ = org.terasology.protobuf.EntityData.PackedEntity.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
           org.terasology.protobuf.EntityData.PackedEntity, org.terasology.protobuf.EntityData.PackedEntity.Builder, org.terasology.protobuf.EntityData.PackedEntityOrBuilder> entityBuilder_;
@@ -25232,7 +25227,7 @@ public org.terasology.protobuf.EntityData.PackedEntityOrBuilder getEntityOrBuild
         if (entityBuilder_ == null) {
           entityBuilder_ = new com.google.protobuf.SingleFieldBuilder<
               org.terasology.protobuf.EntityData.PackedEntity, org.terasology.protobuf.EntityData.PackedEntity.Builder, org.terasology.protobuf.EntityData.PackedEntityOrBuilder>(
-                  entity_,
+                  getEntity(),
                   getParentForChildren(),
                   isClean());
           entity_ = null;
@@ -25240,7 +25235,6 @@ public org.terasology.protobuf.EntityData.PackedEntityOrBuilder getEntityOrBuild
         return entityBuilder_;
       }
 
-      // optional int32 netId = 2;
       private int netId_ ;
       /**
        * <code>optional int32 netId = 2;</code>
@@ -25285,10 +25279,10 @@ public Builder clearNetId() {
   }
 
   public interface RemoveEntityMessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:RemoveEntityMessage)
       com.google.protobuf.GeneratedMessage.
           ExtendableMessageOrBuilder<RemoveEntityMessage> {
 
-    // optional int32 netId = 1;
     /**
      * <code>optional int32 netId = 1;</code>
      */
@@ -25303,7 +25297,9 @@ public interface RemoveEntityMessageOrBuilder extends
    */
   public static final class RemoveEntityMessage extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        RemoveEntityMessage> implements RemoveEntityMessageOrBuilder {
+        RemoveEntityMessage> implements
+      // @@protoc_insertion_point(message_implements:RemoveEntityMessage)
+      RemoveEntityMessageOrBuilder {
     // Use RemoveEntityMessage.newBuilder() to construct.
     private RemoveEntityMessage(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.RemoveEntityMessage, ?> builder) {
       super(builder);
@@ -25394,7 +25390,6 @@ public com.google.protobuf.Parser<RemoveEntityMessage> getParserForType() {
     }
 
     private int bitField0_;
-    // optional int32 netId = 1;
     public static final int NETID_FIELD_NUMBER = 1;
     private int netId_;
     /**
@@ -25416,7 +25411,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       if (!extensionsAreInitialized()) {
         memoizedIsInitialized = 0;
@@ -25533,7 +25529,9 @@ protected Builder newBuilderForType(
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.RemoveEntityMessage, Builder> implements org.terasology.protobuf.NetData.RemoveEntityMessageOrBuilder {
+          org.terasology.protobuf.NetData.RemoveEntityMessage, Builder> implements
+        // @@protoc_insertion_point(builder_implements:RemoveEntityMessage)
+        org.terasology.protobuf.NetData.RemoveEntityMessageOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_RemoveEntityMessage_descriptor;
@@ -25651,7 +25649,6 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // optional int32 netId = 1;
       private int netId_ ;
       /**
        * <code>optional int32 netId = 1;</code>
@@ -25696,10 +25693,10 @@ public Builder clearNetId() {
   }
 
   public interface EventMessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:EventMessage)
       com.google.protobuf.GeneratedMessage.
           ExtendableMessageOrBuilder<EventMessage> {
 
-    // optional int32 targetId = 1;
     /**
      * <code>optional int32 targetId = 1;</code>
      */
@@ -25709,7 +25706,6 @@ public interface EventMessageOrBuilder extends
      */
     int getTargetId();
 
-    // optional .Event event = 2;
     /**
      * <code>optional .Event event = 2;</code>
      */
@@ -25723,7 +25719,6 @@ public interface EventMessageOrBuilder extends
      */
     org.terasology.protobuf.EntityData.EventOrBuilder getEventOrBuilder();
 
-    // optional .Vector3iData targetBlockPos = 3;
     /**
      * <code>optional .Vector3iData targetBlockPos = 3;</code>
      */
@@ -25742,7 +25737,9 @@ public interface EventMessageOrBuilder extends
    */
   public static final class EventMessage extends
       com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        EventMessage> implements EventMessageOrBuilder {
+        EventMessage> implements
+      // @@protoc_insertion_point(message_implements:EventMessage)
+      EventMessageOrBuilder {
     // Use EventMessage.newBuilder() to construct.
     private EventMessage(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.EventMessage, ?> builder) {
       super(builder);
@@ -25859,7 +25856,6 @@ public com.google.protobuf.Parser<EventMessage> getParserForType() {
     }
 
     private int bitField0_;
-    // optional int32 targetId = 1;
     public static final int TARGETID_FIELD_NUMBER = 1;
     private int targetId_;
     /**
@@ -25875,7 +25871,6 @@ public int getTargetId() {
       return targetId_;
     }
 
-    // optional .Event event = 2;
     public static final int EVENT_FIELD_NUMBER = 2;
     private org.terasology.protobuf.EntityData.Event event_;
     /**
@@ -25897,7 +25892,6 @@ public org.terasology.protobuf.EntityData.EventOrBuilder getEventOrBuilder() {
       return event_;
     }
 
-    // optional .Vector3iData targetBlockPos = 3;
     public static final int TARGETBLOCKPOS_FIELD_NUMBER = 3;
     private org.terasology.protobuf.NetData.Vector3iData targetBlockPos_;
     /**
@@ -25927,7 +25921,8 @@ private void initFields() {
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       if (hasEvent()) {
         if (!getEvent().isInitialized()) {
@@ -26064,7 +26059,9 @@ protected Builder newBuilderForType(
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.EventMessage, Builder> implements org.terasology.protobuf.NetData.EventMessageOrBuilder {
+          org.terasology.protobuf.NetData.EventMessage, Builder> implements
+        // @@protoc_insertion_point(builder_implements:EventMessage)
+        org.terasology.protobuf.NetData.EventMessageOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
         return org.terasology.protobuf.NetData.internal_static_EventMessage_descriptor;
@@ -26224,7 +26221,6 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // optional int32 targetId = 1;
       private int targetId_ ;
       /**
        * <code>optional int32 targetId = 1;</code>
@@ -26257,7 +26253,6 @@ public Builder clearTargetId() {
         return this;
       }
 
-      // optional .Event event = 2;
       private org.terasology.protobuf.EntityData.Event event_ = org.terasology.protobuf.EntityData.Event.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
           org.terasology.protobuf.EntityData.Event, org.terasology.protobuf.EntityData.Event.Builder, org.terasology.protobuf.EntityData.EventOrBuilder> eventBuilder_;
@@ -26366,7 +26361,7 @@ public org.terasology.protobuf.EntityData.EventOrBuilder getEventOrBuilder() {
         if (eventBuilder_ == null) {
           eventBuilder_ = new com.google.protobuf.SingleFieldBuilder<
               org.terasology.protobuf.EntityData.Event, org.terasology.protobuf.EntityData.Event.Builder, org.terasology.protobuf.EntityData.EventOrBuilder>(
-                  event_,
+                  getEvent(),
                   getParentForChildren(),
                   isClean());
           event_ = null;
@@ -26374,7 +26369,6 @@ public org.terasology.protobuf.EntityData.EventOrBuilder getEventOrBuilder() {
         return eventBuilder_;
       }
 
-      // optional .Vector3iData targetBlockPos = 3;
       private org.terasology.protobuf.NetData.Vector3iData targetBlockPos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
           org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder> targetBlockPosBuilder_;
@@ -26483,7 +26477,7 @@ public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getTargetBlockPosOr
         if (targetBlockPosBuilder_ == null) {
           targetBlockPosBuilder_ = new com.google.protobuf.SingleFieldBuilder<
               org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder>(
-                  targetBlockPos_,
+                  getTargetBlockPos(),
                   getParentForChildren(),
                   isClean());
           targetBlockPos_ = null;
@@ -26502,147 +26496,147 @@ public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getTargetBlockPosOr
     // @@protoc_insertion_point(class_scope:EventMessage)
   }
 
-  private static com.google.protobuf.Descriptors.Descriptor
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_NetMessage_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_NetMessage_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_HandshakeHello_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_HandshakeHello_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_NewIdentityRequest_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_NewIdentityRequest_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_ProvisionIdentity_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_ProvisionIdentity_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_CertificateSet_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_CertificateSet_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_HandshakeVerification_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_HandshakeVerification_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_Certificate_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_Certificate_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_BlockFamilyRegisteredMessage_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_BlockFamilyRegisteredMessage_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_InvalidateChunkMessage_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_InvalidateChunkMessage_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_BlockChangeMessage_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_BlockChangeMessage_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
-    internal_static_BiomeChangeMessage_descriptor;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ChunkBlockDeltaMessage_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_BiomeChangeMessage_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+      internal_static_ChunkBlockDeltaMessage_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_ExtraDataChangeMessage_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_ExtraDataChangeMessage_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_Vector3iData_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_Vector3iData_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_ServerInfoRequest_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_ServerInfoRequest_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_JoinMessage_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_JoinMessage_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_Color_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_Color_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_JoinCompleteMessage_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_JoinCompleteMessage_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_ServerInfoMessage_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_ServerInfoMessage_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_WorldInfo_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_WorldInfo_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_SerializationInfo_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_SerializationInfo_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_ModuleInfo_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_ModuleInfo_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_ModuleRequest_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_ModuleRequest_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_ModuleDataHeader_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_ModuleDataHeader_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_ModuleData_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_ModuleData_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_ModuleSendError_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_ModuleSendError_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_CreateEntityMessage_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_CreateEntityMessage_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_UpdateEntityMessage_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_UpdateEntityMessage_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_RemoveEntityMessage_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_RemoveEntityMessage_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
+  private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_EventMessage_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
@@ -26656,7 +26650,7 @@ public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getTargetBlockPosOr
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\020NetMessage.proto\032\020EntityData.proto\"\261\007\n" +
+      "\n\020NetMessage.proto\032\020EntityData.proto\"\271\007\n" +
       "\nNetMessage\022\036\n\tchunkInfo\030\002 \003(\0132\013.ChunkSt" +
       "ore\0220\n\017invalidateChunk\030\003 \003(\0132\027.Invalidat" +
       "eChunkMessage\022(\n\013blockChange\030\004 \003(\0132\023.Blo" +
@@ -26664,271 +26658,272 @@ public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getTargetBlockPosOr
       "CreateEntityMessage\022*\n\014removeEntity\030\006 \003(" +
       "\0132\024.RemoveEntityMessage\022*\n\014updateEntity\030" +
       "\007 \003(\0132\024.UpdateEntityMessage\022\034\n\005event\030\010 \003" +
-      "(\0132\r.EventMessage\022\014\n\004time\030\t \001(\003\022(\n\013biome" +
-      "Change\030\n \003(\0132\023.BiomeChangeMessage\0220\n\017ext",
-      "raDataChange\030\013 \003(\0132\027.ExtraDataChangeMess" +
-      "age\022-\n\021serverInfoRequest\030\017 \001(\0132\022.ServerI" +
-      "nfoRequest\022&\n\nserverInfo\030\020 \001(\0132\022.ServerI" +
-      "nfoMessage\022<\n\025blockFamilyRegistered\030\021 \003(" +
-      "\0132\035.BlockFamilyRegisteredMessage\022\032\n\004join" +
-      "\030\022 \001(\0132\014.JoinMessage\022%\n\rmoduleRequest\030\023 " +
-      "\003(\0132\016.ModuleRequest\022+\n\020moduleDataHeader\030" +
-      "\024 \001(\0132\021.ModuleDataHeader\022\037\n\nmoduleData\030\025" +
-      " \001(\0132\013.ModuleData\022*\n\014joinComplete\030\026 \001(\0132" +
-      "\024.JoinCompleteMessage\022\'\n\016handshakeHello\030",
-      "d \001(\0132\017.HandshakeHello\022/\n\022newIdentityReq" +
-      "uest\030e \001(\0132\023.NewIdentityRequest\022-\n\021provi" +
-      "sionIdentity\030f \001(\0132\022.ProvisionIdentity\0225" +
-      "\n\025handshakeVerification\030g \001(\0132\026.Handshak" +
-      "eVerification*\t\010\210\'\020\200\200\200\200\002\"a\n\016HandshakeHel" +
-      "lo\022\016\n\006random\030\001 \001(\014\022!\n\013certificate\030\002 \001(\0132" +
-      "\014.Certificate\022\021\n\ttimestamp\030\003 \001(\022*\t\010\210\'\020\200\200" +
-      "\200\200\002\"H\n\022NewIdentityRequest\022\027\n\017preMasterSe" +
-      "cret\030\001 \001(\014\022\016\n\006random\030\002 \001(\014*\t\010\210\'\020\200\200\200\200\002\"=\n" +
-      "\021ProvisionIdentity\022\035\n\025encryptedCertifica",
-      "tes\030\001 \001(\014*\t\010\210\'\020\200\200\200\200\002\"]\n\016CertificateSet\022\'" +
-      "\n\021publicCertificate\030\001 \001(\0132\014.Certificate\022" +
-      "\027\n\017privateExponent\030\002 \001(\014*\t\010\210\'\020\200\200\200\200\002\"5\n\025H" +
-      "andshakeVerification\022\021\n\tsignature\030\001 \001(\014*" +
-      "\t\010\210\'\020\200\200\200\200\002\"Z\n\013Certificate\022\n\n\002id\030\001 \001(\t\022\017\n" +
-      "\007modulus\030\002 \001(\014\022\020\n\010exponent\030\003 \001(\014\022\021\n\tsign" +
-      "ature\030\004 \001(\014*\t\010\210\'\020\200\200\200\200\002\"L\n\034BlockFamilyReg" +
-      "isteredMessage\022\020\n\010blockUri\030\001 \003(\t\022\017\n\007bloc" +
-      "kId\030\002 \003(\005*\t\010\210\'\020\200\200\200\200\002\"?\n\026InvalidateChunkM" +
-      "essage\022\032\n\003pos\030\001 \001(\0132\r.Vector3iData*\t\010\210\'\020",
-      "\200\200\200\200\002\"M\n\022BlockChangeMessage\022\032\n\003pos\030\001 \001(\013" +
-      "2\r.Vector3iData\022\020\n\010newBlock\030\002 \001(\005*\t\010\210\'\020\200" +
-      "\200\200\200\002\"M\n\022BiomeChangeMessage\022\032\n\003pos\030\001 \001(\0132" +
-      "\r.Vector3iData\022\020\n\010newBiome\030\002 \001(\005*\t\010\210\'\020\200\200" +
-      "\200\200\002\"_\n\026ExtraDataChangeMessage\022\r\n\005index\030\001" +
-      " \001(\005\022\032\n\003pos\030\002 \001(\0132\r.Vector3iData\022\017\n\007newD" +
-      "ata\030\003 \001(\005*\t\010\210\'\020\200\200\200\200\002\"/\n\014Vector3iData\022\t\n\001" +
-      "x\030\001 \001(\005\022\t\n\001y\030\002 \001(\005\022\t\n\001z\030\003 \001(\005\"\036\n\021ServerI" +
-      "nfoRequest*\t\010\210\'\020\200\200\200\200\002\"i\n\013JoinMessage\022\014\n\004" +
-      "name\030\001 \001(\t\022\017\n\007version\030\002 \001(\t\022\031\n\021viewDista",
-      "nceLevel\030\003 \001(\021\022\025\n\005color\030\004 \001(\0132\006.Color*\t\010" +
-      "\210\'\020\200\200\200\200\002\"\025\n\005Color\022\014\n\004rgba\030\001 \001(\r\"2\n\023JoinC" +
-      "ompleteMessage\022\020\n\010clientId\030\001 \001(\005*\t\010\210\'\020\200\200" +
-      "\200\200\002\"\307\003\n\021ServerInfoMessage\022\033\n\006module\030\001 \003(" +
-      "\0132\013.ModuleInfo\022\023\n\007blockId\030\002 \003(\021B\002\020\001\022\021\n\tb" +
-      "lockName\030\003 \003(\t\022%\n\tcomponent\030\004 \003(\0132\022.Seri" +
-      "alizationInfo\022!\n\005event\030\005 \003(\0132\022.Serializa" +
-      "tionInfo\022\023\n\007assetId\030\006 \003(\005B\002\020\001\022\020\n\010assetUr" +
-      "i\030\007 \003(\t\022\033\n\023registerBlockFamily\030\010 \003(\t\022\035\n\t" +
-      "worldInfo\030\t \003(\0132\n.WorldInfo\022\030\n\014biomeShor",
-      "tId\030\n \003(\021B\002\020\001\022\017\n\007biomeId\030\013 \003(\t\022\024\n\014errorM" +
-      "essage\030\014 \001(\t\022\017\n\007version\030\017 \001(\t\022\020\n\010gameNam" +
-      "e\030\020 \001(\t\022\014\n\004time\030\021 \001(\003\022\030\n\020reflectionHeigh" +
-      "t\030\022 \001(\002\022\014\n\004MOTD\030\023 \001(\t\022\033\n\023onlinePlayersAm" +
-      "ount\030\024 \001(\005*\t\010\210\'\020\200\200\200\200\002\"3\n\tWorldInfo\022\r\n\005ti" +
-      "tle\030\001 \001(\t\022\014\n\004time\030\002 \001(\003*\t\010\210\'\020\200\200\200\200\002\"]\n\021Se" +
-      "rializationInfo\022\014\n\004name\030\001 \001(\t\022\n\n\002id\030\002 \001(" +
-      "\005\022\021\n\tfieldName\030\003 \003(\t\022\020\n\010fieldIds\030\004 \001(\014*\t" +
-      "\010\210\'\020\200\200\200\200\002\"@\n\nModuleInfo\022\020\n\010moduleId\030\001 \001(" +
-      "\t\022\025\n\rmoduleVersion\030\002 \001(\t*\t\010\210\'\020\200\200\200\200\002\",\n\rM",
-      "oduleRequest\022\020\n\010moduleId\030\001 \001(\t*\t\010\210\'\020\200\200\200\200" +
-      "\002\"W\n\020ModuleDataHeader\022\n\n\002id\030\001 \001(\t\022\017\n\007ver" +
-      "sion\030\002 \001(\t\022\014\n\004size\030\003 \001(\003\022\r\n\005error\030\017 \001(\t*" +
-      "\t\010\210\'\020\200\200\200\200\002\"\'\n\nModuleData\022\016\n\006module\030\001 \001(\014" +
-      "*\t\010\210\'\020\200\200\200\200\002\"-\n\017ModuleSendError\022\017\n\007messag" +
-      "e\030\001 \001(\t*\t\010\210\'\020\200\200\200\200\002\"`\n\023CreateEntityMessag" +
-      "e\022\035\n\006entity\030\001 \001(\0132\r.PackedEntity\022\037\n\010bloc" +
-      "kPos\030\002 \001(\0132\r.Vector3iData*\t\010\210\'\020\200\200\200\200\002\"N\n\023" +
-      "UpdateEntityMessage\022\035\n\006entity\030\001 \001(\0132\r.Pa" +
-      "ckedEntity\022\r\n\005netId\030\002 \001(\005*\t\010\210\'\020\200\200\200\200\002\"/\n\023",
-      "RemoveEntityMessage\022\r\n\005netId\030\001 \001(\005*\t\010\210\'\020" +
-      "\200\200\200\200\002\"i\n\014EventMessage\022\020\n\010targetId\030\001 \001(\005\022" +
-      "\025\n\005event\030\002 \001(\0132\006.Event\022%\n\016targetBlockPos" +
-      "\030\003 \001(\0132\r.Vector3iData*\t\010\210\'\020\200\200\200\200\002B$\n\027org." +
-      "terasology.protobufB\007NetDataH\001"
+      "(\0132\r.EventMessage\022\014\n\004time\030\t \001(\003\0220\n\017extra" +
+      "DataChange\030\013 \003(\0132\027.ExtraDataChangeMessag",
+      "e\0220\n\017chunkBlockDelta\030\014 \003(\0132\027.ChunkBlockD" +
+      "eltaMessage\022-\n\021serverInfoRequest\030\017 \001(\0132\022" +
+      ".ServerInfoRequest\022&\n\nserverInfo\030\020 \001(\0132\022" +
+      ".ServerInfoMessage\022<\n\025blockFamilyRegiste" +
+      "red\030\021 \003(\0132\035.BlockFamilyRegisteredMessage" +
+      "\022\032\n\004join\030\022 \001(\0132\014.JoinMessage\022%\n\rmoduleRe" +
+      "quest\030\023 \003(\0132\016.ModuleRequest\022+\n\020moduleDat" +
+      "aHeader\030\024 \001(\0132\021.ModuleDataHeader\022\037\n\nmodu" +
+      "leData\030\025 \001(\0132\013.ModuleData\022*\n\014joinComplet" +
+      "e\030\026 \001(\0132\024.JoinCompleteMessage\022\'\n\016handsha",
+      "keHello\030d \001(\0132\017.HandshakeHello\022/\n\022newIde" +
+      "ntityRequest\030e \001(\0132\023.NewIdentityRequest\022" +
+      "-\n\021provisionIdentity\030f \001(\0132\022.ProvisionId" +
+      "entity\0225\n\025handshakeVerification\030g \001(\0132\026." +
+      "HandshakeVerification*\t\010\210\'\020\200\200\200\200\002\"a\n\016Hand" +
+      "shakeHello\022\016\n\006random\030\001 \001(\014\022!\n\013certificat" +
+      "e\030\002 \001(\0132\014.Certificate\022\021\n\ttimestamp\030\003 \001(\022" +
+      "*\t\010\210\'\020\200\200\200\200\002\"H\n\022NewIdentityRequest\022\027\n\017pre" +
+      "MasterSecret\030\001 \001(\014\022\016\n\006random\030\002 \001(\014*\t\010\210\'\020" +
+      "\200\200\200\200\002\"=\n\021ProvisionIdentity\022\035\n\025encryptedC",
+      "ertificates\030\001 \001(\014*\t\010\210\'\020\200\200\200\200\002\"]\n\016Certific" +
+      "ateSet\022\'\n\021publicCertificate\030\001 \001(\0132\014.Cert" +
+      "ificate\022\027\n\017privateExponent\030\002 \001(\014*\t\010\210\'\020\200\200" +
+      "\200\200\002\"5\n\025HandshakeVerification\022\021\n\tsignatur" +
+      "e\030\001 \001(\014*\t\010\210\'\020\200\200\200\200\002\"Z\n\013Certificate\022\n\n\002id\030" +
+      "\001 \001(\t\022\017\n\007modulus\030\002 \001(\014\022\020\n\010exponent\030\003 \001(\014" +
+      "\022\021\n\tsignature\030\004 \001(\014*\t\010\210\'\020\200\200\200\200\002\"L\n\034BlockF" +
+      "amilyRegisteredMessage\022\020\n\010blockUri\030\001 \003(\t" +
+      "\022\017\n\007blockId\030\002 \003(\005*\t\010\210\'\020\200\200\200\200\002\"?\n\026Invalida" +
+      "teChunkMessage\022\032\n\003pos\030\001 \001(\0132\r.Vector3iDa",
+      "ta*\t\010\210\'\020\200\200\200\200\002\"M\n\022BlockChangeMessage\022\032\n\003p" +
+      "os\030\001 \001(\0132\r.Vector3iData\022\020\n\010newBlock\030\002 \001(" +
+      "\005*\t\010\210\'\020\200\200\200\200\002\"k\n\026ChunkBlockDeltaMessage\022\037" +
+      "\n\010chunkPos\030\001 \001(\0132\r.Vector3iData\022\023\n\007palet" +
+      "te\030\002 \003(\021B\002\020\001\022\020\n\004runs\030\003 \003(\005B\002\020\001*\t\010\210\'\020\200\200\200\200" +
+      "\002\"_\n\026ExtraDataChangeMessage\022\r\n\005index\030\001 \001" +
+      "(\005\022\032\n\003pos\030\002 \001(\0132\r.Vector3iData\022\017\n\007newDat" +
+      "a\030\003 \001(\005*\t\010\210\'\020\200\200\200\200\002\"/\n\014Vector3iData\022\t\n\001x\030" +
+      "\001 \001(\005\022\t\n\001y\030\002 \001(\005\022\t\n\001z\030\003 \001(\005\"\036\n\021ServerInf" +
+      "oRequest*\t\010\210\'\020\200\200\200\200\002\"i\n\013JoinMessage\022\014\n\004na",
+      "me\030\001 \001(\t\022\017\n\007version\030\002 \001(\t\022\031\n\021viewDistanc" +
+      "eLevel\030\003 \001(\021\022\025\n\005color\030\004 \001(\0132\006.Color*\t\010\210\'" +
+      "\020\200\200\200\200\002\"\025\n\005Color\022\014\n\004rgba\030\001 \001(\r\"2\n\023JoinCom" +
+      "pleteMessage\022\020\n\010clientId\030\001 \001(\005*\t\010\210\'\020\200\200\200\200" +
+      "\002\"\234\003\n\021ServerInfoMessage\022\033\n\006module\030\001 \003(\0132" +
+      "\013.ModuleInfo\022\023\n\007blockId\030\002 \003(\021B\002\020\001\022\021\n\tblo" +
+      "ckName\030\003 \003(\t\022%\n\tcomponent\030\004 \003(\0132\022.Serial" +
+      "izationInfo\022!\n\005event\030\005 \003(\0132\022.Serializati" +
+      "onInfo\022\023\n\007assetId\030\006 \003(\005B\002\020\001\022\020\n\010assetUri\030" +
+      "\007 \003(\t\022\033\n\023registerBlockFamily\030\010 \003(\t\022\035\n\two",
+      "rldInfo\030\t \003(\0132\n.WorldInfo\022\024\n\014errorMessag" +
+      "e\030\014 \001(\t\022\017\n\007version\030\017 \001(\t\022\020\n\010gameName\030\020 \001" +
+      "(\t\022\014\n\004time\030\021 \001(\003\022\030\n\020reflectionHeight\030\022 \001" +
+      "(\002\022\014\n\004MOTD\030\023 \001(\t\022\033\n\023onlinePlayersAmount\030" +
+      "\024 \001(\005*\t\010\210\'\020\200\200\200\200\002\"3\n\tWorldInfo\022\r\n\005title\030\001" +
+      " \001(\t\022\014\n\004time\030\002 \001(\003*\t\010\210\'\020\200\200\200\200\002\"]\n\021Seriali" +
+      "zationInfo\022\014\n\004name\030\001 \001(\t\022\n\n\002id\030\002 \001(\005\022\021\n\t" +
+      "fieldName\030\003 \003(\t\022\020\n\010fieldIds\030\004 \001(\014*\t\010\210\'\020\200" +
+      "\200\200\200\002\"@\n\nModuleInfo\022\020\n\010moduleId\030\001 \001(\t\022\025\n\r" +
+      "moduleVersion\030\002 \001(\t*\t\010\210\'\020\200\200\200\200\002\",\n\rModule",
+      "Request\022\020\n\010moduleId\030\001 \001(\t*\t\010\210\'\020\200\200\200\200\002\"W\n\020" +
+      "ModuleDataHeader\022\n\n\002id\030\001 \001(\t\022\017\n\007version\030" +
+      "\002 \001(\t\022\014\n\004size\030\003 \001(\003\022\r\n\005error\030\017 \001(\t*\t\010\210\'\020" +
+      "\200\200\200\200\002\"\'\n\nModuleData\022\016\n\006module\030\001 \001(\014*\t\010\210\'" +
+      "\020\200\200\200\200\002\"-\n\017ModuleSendError\022\017\n\007message\030\001 \001" +
+      "(\t*\t\010\210\'\020\200\200\200\200\002\"`\n\023CreateEntityMessage\022\035\n\006" +
+      "entity\030\001 \001(\0132\r.PackedEntity\022\037\n\010blockPos\030" +
+      "\002 \001(\0132\r.Vector3iData*\t\010\210\'\020\200\200\200\200\002\"N\n\023Updat" +
+      "eEntityMessage\022\035\n\006entity\030\001 \001(\0132\r.PackedE" +
+      "ntity\022\r\n\005netId\030\002 \001(\005*\t\010\210\'\020\200\200\200\200\002\"/\n\023Remov",
+      "eEntityMessage\022\r\n\005netId\030\001 \001(\005*\t\010\210\'\020\200\200\200\200\002" +
+      "\"i\n\014EventMessage\022\020\n\010targetId\030\001 \001(\005\022\025\n\005ev" +
+      "ent\030\002 \001(\0132\006.Event\022%\n\016targetBlockPos\030\003 \001(" +
+      "\0132\r.Vector3iData*\t\010\210\'\020\200\200\200\200\002B$\n\027org.teras" +
+      "ology.protobufB\007NetDataH\001"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
-      new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
-        public com.google.protobuf.ExtensionRegistry assignDescriptors(
-            com.google.protobuf.Descriptors.FileDescriptor root) {
-          descriptor = root;
-          internal_static_NetMessage_descriptor =
-            getDescriptor().getMessageTypes().get(0);
-          internal_static_NetMessage_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_NetMessage_descriptor,
-              new java.lang.String[] { "ChunkInfo", "InvalidateChunk", "BlockChange", "CreateEntity", "RemoveEntity", "UpdateEntity", "Event", "Time", "BiomeChange", "ExtraDataChange", "ServerInfoRequest", "ServerInfo", "BlockFamilyRegistered", "Join", "ModuleRequest", "ModuleDataHeader", "ModuleData", "JoinComplete", "HandshakeHello", "NewIdentityRequest", "ProvisionIdentity", "HandshakeVerification", });
-          internal_static_HandshakeHello_descriptor =
-            getDescriptor().getMessageTypes().get(1);
-          internal_static_HandshakeHello_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_HandshakeHello_descriptor,
-              new java.lang.String[] { "Random", "Certificate", "Timestamp", });
-          internal_static_NewIdentityRequest_descriptor =
-            getDescriptor().getMessageTypes().get(2);
-          internal_static_NewIdentityRequest_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_NewIdentityRequest_descriptor,
-              new java.lang.String[] { "PreMasterSecret", "Random", });
-          internal_static_ProvisionIdentity_descriptor =
-            getDescriptor().getMessageTypes().get(3);
-          internal_static_ProvisionIdentity_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_ProvisionIdentity_descriptor,
-              new java.lang.String[] { "EncryptedCertificates", });
-          internal_static_CertificateSet_descriptor =
-            getDescriptor().getMessageTypes().get(4);
-          internal_static_CertificateSet_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_CertificateSet_descriptor,
-              new java.lang.String[] { "PublicCertificate", "PrivateExponent", });
-          internal_static_HandshakeVerification_descriptor =
-            getDescriptor().getMessageTypes().get(5);
-          internal_static_HandshakeVerification_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_HandshakeVerification_descriptor,
-              new java.lang.String[] { "Signature", });
-          internal_static_Certificate_descriptor =
-            getDescriptor().getMessageTypes().get(6);
-          internal_static_Certificate_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_Certificate_descriptor,
-              new java.lang.String[] { "Id", "Modulus", "Exponent", "Signature", });
-          internal_static_BlockFamilyRegisteredMessage_descriptor =
-            getDescriptor().getMessageTypes().get(7);
-          internal_static_BlockFamilyRegisteredMessage_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_BlockFamilyRegisteredMessage_descriptor,
-              new java.lang.String[] { "BlockUri", "BlockId", });
-          internal_static_InvalidateChunkMessage_descriptor =
-            getDescriptor().getMessageTypes().get(8);
-          internal_static_InvalidateChunkMessage_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_InvalidateChunkMessage_descriptor,
-              new java.lang.String[] { "Pos", });
-          internal_static_BlockChangeMessage_descriptor =
-            getDescriptor().getMessageTypes().get(9);
-          internal_static_BlockChangeMessage_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_BlockChangeMessage_descriptor,
-              new java.lang.String[] { "Pos", "NewBlock", });
-          internal_static_BiomeChangeMessage_descriptor =
-            getDescriptor().getMessageTypes().get(10);
-          internal_static_BiomeChangeMessage_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_BiomeChangeMessage_descriptor,
-              new java.lang.String[] { "Pos", "NewBiome", });
-          internal_static_ExtraDataChangeMessage_descriptor =
-            getDescriptor().getMessageTypes().get(11);
-          internal_static_ExtraDataChangeMessage_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_ExtraDataChangeMessage_descriptor,
-              new java.lang.String[] { "Index", "Pos", "NewData", });
-          internal_static_Vector3iData_descriptor =
-            getDescriptor().getMessageTypes().get(12);
-          internal_static_Vector3iData_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_Vector3iData_descriptor,
-              new java.lang.String[] { "X", "Y", "Z", });
-          internal_static_ServerInfoRequest_descriptor =
-            getDescriptor().getMessageTypes().get(13);
-          internal_static_ServerInfoRequest_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_ServerInfoRequest_descriptor,
-              new java.lang.String[] { });
-          internal_static_JoinMessage_descriptor =
-            getDescriptor().getMessageTypes().get(14);
-          internal_static_JoinMessage_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_JoinMessage_descriptor,
-              new java.lang.String[] { "Name", "Version", "ViewDistanceLevel", "Color", });
-          internal_static_Color_descriptor =
-            getDescriptor().getMessageTypes().get(15);
-          internal_static_Color_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_Color_descriptor,
-              new java.lang.String[] { "Rgba", });
-          internal_static_JoinCompleteMessage_descriptor =
-            getDescriptor().getMessageTypes().get(16);
-          internal_static_JoinCompleteMessage_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_JoinCompleteMessage_descriptor,
-              new java.lang.String[] { "ClientId", });
-          internal_static_ServerInfoMessage_descriptor =
-            getDescriptor().getMessageTypes().get(17);
-          internal_static_ServerInfoMessage_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_ServerInfoMessage_descriptor,
-              new java.lang.String[] { "Module", "BlockId", "BlockName", "Component", "Event", "AssetId", "AssetUri", "RegisterBlockFamily", "WorldInfo", "BiomeShortId", "BiomeId", "ErrorMessage", "Version", "GameName", "Time", "ReflectionHeight", "MOTD", "OnlinePlayersAmount", });
-          internal_static_WorldInfo_descriptor =
-            getDescriptor().getMessageTypes().get(18);
-          internal_static_WorldInfo_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_WorldInfo_descriptor,
-              new java.lang.String[] { "Title", "Time", });
-          internal_static_SerializationInfo_descriptor =
-            getDescriptor().getMessageTypes().get(19);
-          internal_static_SerializationInfo_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_SerializationInfo_descriptor,
-              new java.lang.String[] { "Name", "Id", "FieldName", "FieldIds", });
-          internal_static_ModuleInfo_descriptor =
-            getDescriptor().getMessageTypes().get(20);
-          internal_static_ModuleInfo_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_ModuleInfo_descriptor,
-              new java.lang.String[] { "ModuleId", "ModuleVersion", });
-          internal_static_ModuleRequest_descriptor =
-            getDescriptor().getMessageTypes().get(21);
-          internal_static_ModuleRequest_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_ModuleRequest_descriptor,
-              new java.lang.String[] { "ModuleId", });
-          internal_static_ModuleDataHeader_descriptor =
-            getDescriptor().getMessageTypes().get(22);
-          internal_static_ModuleDataHeader_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_ModuleDataHeader_descriptor,
-              new java.lang.String[] { "Id", "Version", "Size", "Error", });
-          internal_static_ModuleData_descriptor =
-            getDescriptor().getMessageTypes().get(23);
-          internal_static_ModuleData_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_ModuleData_descriptor,
-              new java.lang.String[] { "Module", });
-          internal_static_ModuleSendError_descriptor =
-            getDescriptor().getMessageTypes().get(24);
-          internal_static_ModuleSendError_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_ModuleSendError_descriptor,
-              new java.lang.String[] { "Message", });
-          internal_static_CreateEntityMessage_descriptor =
-            getDescriptor().getMessageTypes().get(25);
-          internal_static_CreateEntityMessage_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_CreateEntityMessage_descriptor,
-              new java.lang.String[] { "Entity", "BlockPos", });
-          internal_static_UpdateEntityMessage_descriptor =
-            getDescriptor().getMessageTypes().get(26);
-          internal_static_UpdateEntityMessage_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_UpdateEntityMessage_descriptor,
-              new java.lang.String[] { "Entity", "NetId", });
-          internal_static_RemoveEntityMessage_descriptor =
-            getDescriptor().getMessageTypes().get(27);
-          internal_static_RemoveEntityMessage_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_RemoveEntityMessage_descriptor,
-              new java.lang.String[] { "NetId", });
-          internal_static_EventMessage_descriptor =
-            getDescriptor().getMessageTypes().get(28);
-          internal_static_EventMessage_fieldAccessorTable = new
-            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_EventMessage_descriptor,
-              new java.lang.String[] { "TargetId", "Event", "TargetBlockPos", });
-          return null;
-        }
-      };
+        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
+          public com.google.protobuf.ExtensionRegistry assignDescriptors(
+              com.google.protobuf.Descriptors.FileDescriptor root) {
+            descriptor = root;
+            return null;
+          }
+        };
     com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
         new com.google.protobuf.Descriptors.FileDescriptor[] {
           org.terasology.protobuf.EntityData.getDescriptor(),
         }, assigner);
+    internal_static_NetMessage_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_NetMessage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_NetMessage_descriptor,
+        new java.lang.String[] { "ChunkInfo", "InvalidateChunk", "BlockChange", "CreateEntity", "RemoveEntity", "UpdateEntity", "Event", "Time", "ExtraDataChange", "ChunkBlockDelta", "ServerInfoRequest", "ServerInfo", "BlockFamilyRegistered", "Join", "ModuleRequest", "ModuleDataHeader", "ModuleData", "JoinComplete", "HandshakeHello", "NewIdentityRequest", "ProvisionIdentity", "HandshakeVerification", });
+    internal_static_HandshakeHello_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_HandshakeHello_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_HandshakeHello_descriptor,
+        new java.lang.String[] { "Random", "Certificate", "Timestamp", });
+    internal_static_NewIdentityRequest_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_NewIdentityRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_NewIdentityRequest_descriptor,
+        new java.lang.String[] { "PreMasterSecret", "Random", });
+    internal_static_ProvisionIdentity_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_ProvisionIdentity_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ProvisionIdentity_descriptor,
+        new java.lang.String[] { "EncryptedCertificates", });
+    internal_static_CertificateSet_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_CertificateSet_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CertificateSet_descriptor,
+        new java.lang.String[] { "PublicCertificate", "PrivateExponent", });
+    internal_static_HandshakeVerification_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_HandshakeVerification_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_HandshakeVerification_descriptor,
+        new java.lang.String[] { "Signature", });
+    internal_static_Certificate_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_Certificate_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_Certificate_descriptor,
+        new java.lang.String[] { "Id", "Modulus", "Exponent", "Signature", });
+    internal_static_BlockFamilyRegisteredMessage_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_BlockFamilyRegisteredMessage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_BlockFamilyRegisteredMessage_descriptor,
+        new java.lang.String[] { "BlockUri", "BlockId", });
+    internal_static_InvalidateChunkMessage_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_InvalidateChunkMessage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_InvalidateChunkMessage_descriptor,
+        new java.lang.String[] { "Pos", });
+    internal_static_BlockChangeMessage_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_BlockChangeMessage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_BlockChangeMessage_descriptor,
+        new java.lang.String[] { "Pos", "NewBlock", });
+    internal_static_ChunkBlockDeltaMessage_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_ChunkBlockDeltaMessage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ChunkBlockDeltaMessage_descriptor,
+        new java.lang.String[] { "ChunkPos", "Palette", "Runs", });
+    internal_static_ExtraDataChangeMessage_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_ExtraDataChangeMessage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ExtraDataChangeMessage_descriptor,
+        new java.lang.String[] { "Index", "Pos", "NewData", });
+    internal_static_Vector3iData_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_Vector3iData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_Vector3iData_descriptor,
+        new java.lang.String[] { "X", "Y", "Z", });
+    internal_static_ServerInfoRequest_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_ServerInfoRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ServerInfoRequest_descriptor,
+        new java.lang.String[] { });
+    internal_static_JoinMessage_descriptor =
+      getDescriptor().getMessageTypes().get(14);
+    internal_static_JoinMessage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_JoinMessage_descriptor,
+        new java.lang.String[] { "Name", "Version", "ViewDistanceLevel", "Color", });
+    internal_static_Color_descriptor =
+      getDescriptor().getMessageTypes().get(15);
+    internal_static_Color_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_Color_descriptor,
+        new java.lang.String[] { "Rgba", });
+    internal_static_JoinCompleteMessage_descriptor =
+      getDescriptor().getMessageTypes().get(16);
+    internal_static_JoinCompleteMessage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_JoinCompleteMessage_descriptor,
+        new java.lang.String[] { "ClientId", });
+    internal_static_ServerInfoMessage_descriptor =
+      getDescriptor().getMessageTypes().get(17);
+    internal_static_ServerInfoMessage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ServerInfoMessage_descriptor,
+        new java.lang.String[] { "Module", "BlockId", "BlockName", "Component", "Event", "AssetId", "AssetUri", "RegisterBlockFamily", "WorldInfo", "ErrorMessage", "Version", "GameName", "Time", "ReflectionHeight", "MOTD", "OnlinePlayersAmount", });
+    internal_static_WorldInfo_descriptor =
+      getDescriptor().getMessageTypes().get(18);
+    internal_static_WorldInfo_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_WorldInfo_descriptor,
+        new java.lang.String[] { "Title", "Time", });
+    internal_static_SerializationInfo_descriptor =
+      getDescriptor().getMessageTypes().get(19);
+    internal_static_SerializationInfo_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_SerializationInfo_descriptor,
+        new java.lang.String[] { "Name", "Id", "FieldName", "FieldIds", });
+    internal_static_ModuleInfo_descriptor =
+      getDescriptor().getMessageTypes().get(20);
+    internal_static_ModuleInfo_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ModuleInfo_descriptor,
+        new java.lang.String[] { "ModuleId", "ModuleVersion", });
+    internal_static_ModuleRequest_descriptor =
+      getDescriptor().getMessageTypes().get(21);
+    internal_static_ModuleRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ModuleRequest_descriptor,
+        new java.lang.String[] { "ModuleId", });
+    internal_static_ModuleDataHeader_descriptor =
+      getDescriptor().getMessageTypes().get(22);
+    internal_static_ModuleDataHeader_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ModuleDataHeader_descriptor,
+        new java.lang.String[] { "Id", "Version", "Size", "Error", });
+    internal_static_ModuleData_descriptor =
+      getDescriptor().getMessageTypes().get(23);
+    internal_static_ModuleData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ModuleData_descriptor,
+        new java.lang.String[] { "Module", });
+    internal_static_ModuleSendError_descriptor =
+      getDescriptor().getMessageTypes().get(24);
+    internal_static_ModuleSendError_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ModuleSendError_descriptor,
+        new java.lang.String[] { "Message", });
+    internal_static_CreateEntityMessage_descriptor =
+      getDescriptor().getMessageTypes().get(25);
+    internal_static_CreateEntityMessage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CreateEntityMessage_descriptor,
+        new java.lang.String[] { "Entity", "BlockPos", });
+    internal_static_UpdateEntityMessage_descriptor =
+      getDescriptor().getMessageTypes().get(26);
+    internal_static_UpdateEntityMessage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_UpdateEntityMessage_descriptor,
+        new java.lang.String[] { "Entity", "NetId", });
+    internal_static_RemoveEntityMessage_descriptor =
+      getDescriptor().getMessageTypes().get(27);
+    internal_static_RemoveEntityMessage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_RemoveEntityMessage_descriptor,
+        new java.lang.String[] { "NetId", });
+    internal_static_EventMessage_descriptor =
+      getDescriptor().getMessageTypes().get(28);
+    internal_static_EventMessage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_EventMessage_descriptor,
+        new java.lang.String[] { "TargetId", "Event", "TargetBlockPos", });
+    org.terasology.protobuf.EntityData.getDescriptor();
   }
 
   // @@protoc_insertion_point(outer_class_scope)
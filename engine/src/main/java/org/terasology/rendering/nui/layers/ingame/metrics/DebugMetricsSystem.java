@@ -51,6 +51,7 @@ public void initialise() {
         register(new RunningMeansMode());
         register(new SpikesMode());
         register(new AllocationsMode());
+        register(new RecordedValuesMode());
         register(new RunningThreadsMode());
         register(new WorldRendererMode());
         register(new RenderingExecTimeMeansMode("\n- Rendering - Execution Time: Running Means - Sorted Alphabetically -"));
@@ -51,6 +51,13 @@ public String getMetrics() {
             builder.append(String.format("In Bytes: %d%n", networkSystem.getIncomingBytesDelta()));
             builder.append(String.format("Out Msg: %d%n", networkSystem.getOutgoingMessagesDelta()));
             builder.append(String.format("Out Bytes: %d%n", networkSystem.getOutgoingBytesDelta()));
+            if (networkSystem.getMode().isServer()) {
+                int reused = networkSystem.getEntityUpdatesReusedDelta();
+                int serialized = networkSystem.getEntityUpdatesSerializedDelta();
+                int total = reused + serialized;
+                builder.append(String.format("Entity Updates: %d (%.0f%% reused)%n", total,
+                        total == 0 ? 0.0 : 100.0 * reused / total));
+            }
             if (lastTime != 0) {
                 // ignore the first update as it will not have useful data
                 lastMetric = builder.toString();
@@ -0,0 +1,31 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.rendering.nui.layers.ingame.metrics;
+
+import gnu.trove.map.TObjectDoubleMap;
+import org.terasology.monitoring.PerformanceMonitor;
+
+/**
+ * Shows the values recorded with {@link PerformanceMonitor#recordValue(String, double)}.
+ */
+final class RecordedValuesMode extends TimeMetricsMode {
+
+    RecordedValuesMode() {
+        super("\n- Recorded Values -", 20, "");
+    }
+
+    @Override
+    protected TObjectDoubleMap<String> gatherMetrics() {
+        return PerformanceMonitor.getRecordedValues();
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public boolean isPerformanceManagerMode() {
+        return true;
+    }
+}
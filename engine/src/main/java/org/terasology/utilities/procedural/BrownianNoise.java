@@ -16,6 +16,8 @@
 
 package org.terasology.utilities.procedural;
 
+import java.util.Arrays;
+
 /**
  * Computes Brownian noise based on some noise generator.
  * Originally, Brown integrates white noise, but using other noises can be sometimes useful, too.
@@ -107,6 +109,64 @@ public float noise(float x, float y, float z) {
         return result * scale;
     }
 
+    /**
+     * Returns Fractional Brownian Motion of a grid, evaluating the base noise for the whole grid at once per octave.
+     */
+    @Override
+    public void noise(float[] result, float[] xs, float[] ys) {
+        float[] workingXs = xs.clone();
+        float[] workingYs = ys.clone();
+        float[] octave = new float[xs.length * ys.length];
+        Arrays.fill(result, 0, octave.length, 0.0f);
+        for (int i = 0; i < getOctaves(); i++) {
+            other.noise(octave, workingXs, workingYs);
+            addOctave(result, octave, spectralWeights[i]);
+
+            applyLacunarity(workingXs);
+            applyLacunarity(workingYs);
+        }
+        applyScale(result, octave.length);
+    }
+
+    /**
+     * Returns Fractional Brownian Motion of a grid, evaluating the base noise for the whole grid at once per octave.
+     */
+    @Override
+    public void noise(float[] result, float[] xs, float[] ys, float[] zs) {
+        float[] workingXs = xs.clone();
+        float[] workingYs = ys.clone();
+        float[] workingZs = zs.clone();
+        float[] octave = new float[xs.length * ys.length * zs.length];
+        Arrays.fill(result, 0, octave.length, 0.0f);
+        for (int i = 0; i < getOctaves(); i++) {
+            other.noise(octave, workingXs, workingYs, workingZs);
+            addOctave(result, octave, spectralWeights[i]);
+
+            applyLacunarity(workingXs);
+            applyLacunarity(workingYs);
+            applyLacunarity(workingZs);
+        }
+        applyScale(result, octave.length);
+    }
+
+    private static void addOctave(float[] result, float[] octave, float weight) {
+        for (int i = 0; i < octave.length; i++) {
+            result[i] += octave[i] * weight;
+        }
+    }
+
+    private void applyLacunarity(float[] positions) {
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] *= (float) getLacunarity();
+        }
+    }
+
+    private void applyScale(float[] result, int length) {
+        for (int i = 0; i < length; i++) {
+            result[i] *= scale;
+        }
+    }
+
     private static float computeScale(float[] spectralWeights) {
         float sum = 0;
         for (float weight : spectralWeights) {
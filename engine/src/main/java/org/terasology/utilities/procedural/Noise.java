@@ -59,4 +59,70 @@ public interface Noise {
      * @return The noise value in the range [-1..1]
      */
     float noise(float x, float y, float z);
+
+    /**
+     * Fills an array with the noise values of a grid of positions. The positions are all combinations of the given
+     * coordinates, which lets implementations share the work that only depends on a single coordinate.
+     * <br><br>
+     * The values are identical to the ones of {@link #noise(float, float)}.
+     *
+     * @param result the array to fill, the value of (xs[x], ys[y]) is stored at index x + xs.length * y
+     * @param xs     the positions on the x-axis
+     * @param ys     the positions on the y-axis
+     */
+    default void noise(float[] result, float[] xs, float[] ys) {
+        int index = 0;
+        for (float y : ys) {
+            for (float x : xs) {
+                result[index++] = noise(x, y);
+            }
+        }
+    }
+
+    /**
+     * Fills an array with the noise values of a grid of positions. The positions are all combinations of the given
+     * coordinates, which lets implementations share the work that only depends on a single coordinate.
+     * <br><br>
+     * The values are identical to the ones of {@link #noise(float, float, float)}.
+     *
+     * @param result the array to fill, the value of (xs[x], ys[y], zs[z]) is stored at index
+     *               x + xs.length * (y + ys.length * z)
+     * @param xs     the positions on the x-axis
+     * @param ys     the positions on the y-axis
+     * @param zs     the positions on the z-axis
+     */
+    default void noise(float[] result, float[] xs, float[] ys, float[] zs) {
+        int index = 0;
+        for (float z : zs) {
+            for (float y : ys) {
+                for (float x : xs) {
+                    result[index++] = noise(x, y, z);
+                }
+            }
+        }
+    }
+
+    /**
+     * Fills an array with the noise values of a regular grid of positions, see {@link #noise(float[], float[], float[])}.
+     *
+     * @param result the array to fill, the value of the position (originX + x * stepX, originY + y * stepY) is stored
+     *               at index x + sizeX * y
+     */
+    default void noise(float[] result, float originX, float originY, float stepX, float stepY, int sizeX, int sizeY) {
+        noise(result, NoiseGrid.axis(originX, stepX, sizeX), NoiseGrid.axis(originY, stepY, sizeY));
+    }
+
+    /**
+     * Fills an array with the noise values of a regular grid of positions, see
+     * {@link #noise(float[], float[], float[], float[])}.
+     *
+     * @param result the array to fill, the value of the position
+     *               (originX + x * stepX, originY + y * stepY, originZ + z * stepZ) is stored at index
+     *               x + sizeX * (y + sizeY * z)
+     */
+    default void noise(float[] result, float originX, float originY, float originZ, float stepX, float stepY,
+                       float stepZ, int sizeX, int sizeY, int sizeZ) {
+        noise(result, NoiseGrid.axis(originX, stepX, sizeX), NoiseGrid.axis(originY, stepY, sizeY),
+                NoiseGrid.axis(originZ, stepZ, sizeZ));
+    }
 }
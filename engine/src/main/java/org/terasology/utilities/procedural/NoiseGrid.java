@@ -0,0 +1,23 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.utilities.procedural;
+
+/**
+ * Helpers for the grid methods of {@link Noise}.
+ */
+final class NoiseGrid {
+
+    private NoiseGrid() {
+    }
+
+    /**
+     * @return the positions origin + i * step for i in [0..size)
+     */
+    static float[] axis(float origin, float step, int size) {
+        float[] positions = new float[size];
+        for (int i = 0; i < size; i++) {
+            positions[i] = origin + i * step;
+        }
+        return positions;
+    }
+}
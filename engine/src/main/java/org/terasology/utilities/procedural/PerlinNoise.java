@@ -95,9 +95,54 @@ public float noise(float posX, float posY, float posZ) {
         float v = TeraMath.fadePerlin(y);
         float w = TeraMath.fadePerlin(z);
         int a = noisePermutations[xInt] + yInt;
+        int b = noisePermutations[(xInt + 1)] + yInt;
+        return interpolate(a, b, zInt, x, y, z, u, v, w);
+    }
+
+    /**
+     * Noise of a 2D grid, computed as in {@link #noise(float, float)} at z = 0.
+     */
+    @Override
+    public void noise(float[] result, float[] xs, float[] ys) {
+        noise(result, xs, ys, new float[]{0});
+    }
+
+    /**
+     * Noise of a 3D grid. The lattice cells, offsets and fade curves are computed once per coordinate, and the
+     * permutations of the x-cells once for all rows.
+     */
+    @Override
+    public void noise(float[] result, float[] xs, float[] ys, float[] zs) {
+        Lattice latticeX = new Lattice(xs);
+        Lattice latticeY = new Lattice(ys);
+        Lattice latticeZ = new Lattice(zs);
+        int[] permutationsA = new int[xs.length];
+        int[] permutationsB = new int[xs.length];
+        for (int i = 0; i < xs.length; i++) {
+            permutationsA[i] = noisePermutations[latticeX.cells[i]];
+            permutationsB[i] = noisePermutations[latticeX.cells[i] + 1];
+        }
+
+        int index = 0;
+        for (int k = 0; k < zs.length; k++) {
+            int zInt = latticeZ.cells[k];
+            float z = latticeZ.offsets[k];
+            float w = latticeZ.fades[k];
+            for (int j = 0; j < ys.length; j++) {
+                int yInt = latticeY.cells[j];
+                float y = latticeY.offsets[j];
+                float v = latticeY.fades[j];
+                for (int i = 0; i < xs.length; i++) {
+                    result[index++] = interpolate(permutationsA[i] + yInt, permutationsB[i] + yInt, zInt,
+                            latticeX.offsets[i], y, z, latticeX.fades[i], v, w);
+                }
+            }
+        }
+    }
+
+    private float interpolate(int a, int b, int zInt, float x, float y, float z, float u, float v, float w) {
         int aa = noisePermutations[a] + zInt;
         int ab = noisePermutations[(a + 1)] + zInt;
-        int b = noisePermutations[(xInt + 1)] + yInt;
         int ba = noisePermutations[b] + zInt;
         int bb = noisePermutations[(b + 1)] + zInt;
 
@@ -127,4 +172,24 @@ private static float grad(int hash, float x, float y, float z) {
         return ((h & 1) == 0 ? u : -u) + ((h & 2) == 0 ? v : -v);
     }
 
+    /**
+     * The lattice cells of a list of coordinates, along with the offsets within the cells and their fade curves.
+     */
+    private final class Lattice {
+        private final int[] cells;
+        private final float[] offsets;
+        private final float[] fades;
+
+        Lattice(float[] positions) {
+            cells = new int[positions.length];
+            offsets = new float[positions.length];
+            fades = new float[positions.length];
+            for (int i = 0; i < positions.length; i++) {
+                float position = positions[i];
+                cells[i] = Math.floorMod(TeraMath.floorToInt(position), permCount);
+                offsets[i] = position - TeraMath.fastFloor(position);
+                fades[i] = TeraMath.fadePerlin(offsets[i]);
+            }
+        }
+    }
 }
@@ -111,13 +111,8 @@ private float[] getKeyValues(Rect2i fullRegion) {
         int xDim = fullRegion.sizeX() / sampleRate + 1;
         int yDim = fullRegion.sizeY() / sampleRate + 1;
         float[] fullData = new float[xDim * yDim];
-        for (int y = 0; y < yDim; y++) {
-            for (int x = 0; x < xDim; x++) {
-                int actualX = x * sampleRate + fullRegion.minX();
-                int actualY = y * sampleRate + fullRegion.minY();
-                fullData[x + y * xDim] = source.noise(zoom.x * actualX, zoom.y * actualY);
-            }
-        }
+        source.noise(fullData, getSamplePositions(fullRegion.minX(), xDim, zoom.x),
+                getSamplePositions(fullRegion.minY(), yDim, zoom.y));
 
         return fullData;
     }
@@ -214,19 +209,23 @@ private float[] getKeyValues(Region3i fullRegion) {
         int yDim = fullRegion.sizeY() / sampleRate + 1;
         int zDim = fullRegion.sizeZ() / sampleRate + 1;
         float[] fullData = new float[xDim * yDim * zDim];
-        for (int z = 0; z < zDim; z++) {
-            for (int y = 0; y < yDim; y++) {
-                for (int x = 0; x < xDim; x++) {
-                    int actualX = x * sampleRate + fullRegion.minX();
-                    int actualY = y * sampleRate + fullRegion.minY();
-                    int actualZ = z * sampleRate + fullRegion.minZ();
-                    fullData[x + xDim * (y + yDim * z)] = source.noise(zoom.x * actualX, zoom.y * actualY, zoom.z * actualZ);
-                }
-            }
-        }
+        source.noise(fullData, getSamplePositions(fullRegion.minX(), xDim, zoom.x),
+                getSamplePositions(fullRegion.minY(), yDim, zoom.y), getSamplePositions(fullRegion.minZ(), zDim, zoom.z));
         return fullData;
     }
 
+    /**
+     * @return the zoomed positions of the samples along an axis, starting at the given position
+     */
+    private float[] getSamplePositions(int min, int count, float axisZoom) {
+        float[] positions = new float[count];
+        for (int i = 0; i < count; i++) {
+            int actual = i * sampleRate + min;
+            positions[i] = axisZoom * actual;
+        }
+        return positions;
+    }
+
     private Region3i determineRequiredRegion(Region3i region) {
         int newMinX = region.minX() - IntMath.mod(region.minX(), sampleRate);
         int newMinY = region.minY() - IntMath.mod(region.minY(), sampleRate);
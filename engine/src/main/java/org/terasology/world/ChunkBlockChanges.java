@@ -0,0 +1,84 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.world;
+
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.block.Block;
+
+import java.util.Arrays;
+
+/**
+ * The blocks of a single chunk that got changed by one bulk edit of the world, see
+ * {@link WorldChangeListener#onBlocksChanged(ChunkBlockChanges)}.
+ * <p>
+ * The changes are stored in flat arrays, so listeners can go through them by index without an object per change.
+ */
+public final class ChunkBlockChanges {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Vector3i chunkPos;
+    private int[] positions = new int[INITIAL_CAPACITY * 3];
+    private Block[] newBlocks = new Block[INITIAL_CAPACITY];
+    private Block[] originalBlocks = new Block[INITIAL_CAPACITY];
+    private int size;
+
+    public ChunkBlockChanges(Vector3i chunkPos) {
+        this.chunkPos = new Vector3i(chunkPos);
+    }
+
+    /**
+     * @param x             the x coordinate of the changed block in world coordinates
+     * @param y             the y coordinate of the changed block in world coordinates
+     * @param z             the z coordinate of the changed block in world coordinates
+     * @param newBlock      the block that is now at the position
+     * @param originalBlock the block that was at the position before the edit
+     */
+    public void add(int x, int y, int z, Block newBlock, Block originalBlock) {
+        if (size == newBlocks.length) {
+            positions = Arrays.copyOf(positions, size * 2 * 3);
+            newBlocks = Arrays.copyOf(newBlocks, size * 2);
+            originalBlocks = Arrays.copyOf(originalBlocks, size * 2);
+        }
+        positions[size * 3] = x;
+        positions[size * 3 + 1] = y;
+        positions[size * 3 + 2] = z;
+        newBlocks[size] = newBlock;
+        originalBlocks[size] = originalBlock;
+        size++;
+    }
+
+    public Vector3i getChunkPos() {
+        return chunkPos;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getX(int index) {
+        return positions[index * 3];
+    }
+
+    public int getY(int index) {
+        return positions[index * 3 + 1];
+    }
+
+    public int getZ(int index) {
+        return positions[index * 3 + 2];
+    }
+
+    /**
+     * @return a new vector holding the world position of the change with the given index
+     */
+    public Vector3i getPosition(int index) {
+        return new Vector3i(getX(index), getY(index), getZ(index));
+    }
+
+    public Block getNewBlock(int index) {
+        return newBlocks[index];
+    }
+
+    public Block getOriginalBlock(int index) {
+        return originalBlocks[index];
+    }
+}
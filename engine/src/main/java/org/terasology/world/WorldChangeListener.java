@@ -26,4 +26,17 @@ public interface WorldChangeListener {
     void onBlockChanged(Vector3i pos, Block newBlock, Block originalBlock);
     
     void onExtraDataChanged(int i, Vector3i pos, int newData, int oldData);
+
+    /**
+     * Called instead of {@link #onBlockChanged(Vector3i, Block, Block)} for the blocks of a chunk that got changed
+     * together by a bulk edit, like {@link org.terasology.world.internal.WorldProviderCore#setBlocks(java.util.Map)}.
+     * By default the changes are passed on one block at a time.
+     *
+     * @param changes the changed blocks of a single chunk
+     */
+    default void onBlocksChanged(ChunkBlockChanges changes) {
+        for (int i = 0; i < changes.size(); i++) {
+            onBlockChanged(changes.getPosition(i), changes.getNewBlock(i), changes.getOriginalBlock(i));
+        }
+    }
 }
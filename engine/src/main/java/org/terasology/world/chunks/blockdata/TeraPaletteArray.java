@@ -0,0 +1,460 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.world.chunks.blockdata;
+
+import com.google.common.base.Preconditions;
+import gnu.trove.map.TShortIntMap;
+import gnu.trove.map.hash.TShortIntHashMap;
+import org.terasology.world.chunks.deflate.TeraVisitingDeflator;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * TeraPaletteArray implements an array with elements of 16 bit size, like {@link TeraDenseArray16Bit}, which stores
+ * the distinct values of the array in a palette and the elements as bit packed palette indices.
+ * <br><br>
+ * The indices are 1, 2, 4 or 8 bits wide and get widened as soon as the palette outgrows them. An array that holds a
+ * single value needs no indices at all, while an array with more than 256 distinct values stores the values directly
+ * with 16 bits per element. As most chunks consist of a handful of different blocks, this takes a fraction of the
+ * memory of a dense array.
+ * <br><br>
+ * Reading is lock free and safe while another thread writes. Widened indices are published as a new layout, and a
+ * value added to the palette is published with a volatile write before any element refers to it. Writes are
+ * synchronized, as they may need to widen the indices.
+ */
+public class TeraPaletteArray extends TeraArray {
+    private static final int DIRECT_BITS = 16;
+    private static final int LINEAR_SEARCH_LIMIT = 16;
+
+    private volatile Layout layout;
+    private int paletteSize;
+    private TShortIntMap paletteIndices;
+
+    public TeraPaletteArray() {
+        super();
+    }
+
+    public TeraPaletteArray(int sizeX, int sizeY, int sizeZ) {
+        super(sizeX, sizeY, sizeZ, true);
+    }
+
+    /**
+     * Creates an array of the given palette and indices, as returned by {@link #getPalette()},
+     * {@link #getBitsPerEntry()} and {@link #getPackedIndices()}.
+     */
+    public TeraPaletteArray(int sizeX, int sizeY, int sizeZ, short[] palette, int bitsPerEntry, long[] packedIndices) {
+        super(sizeX, sizeY, sizeZ, false);
+        Preconditions.checkArgument(bitsPerEntry == 0 || bitsPerEntry == 1 || bitsPerEntry == 2
+                || bitsPerEntry == 4 || bitsPerEntry == 8 || bitsPerEntry == DIRECT_BITS,
+                "Unsupported number of bits per entry: " + bitsPerEntry);
+        Preconditions.checkArgument(bitsPerEntry == DIRECT_BITS
+                || palette.length > 0 && palette.length <= 1 << bitsPerEntry,
+                "Palette with " + palette.length + " entries does not fit " + bitsPerEntry + " bits per entry");
+        Preconditions.checkArgument(bitsPerEntry == 0 || packedIndices.length == wordCount(bitsPerEntry),
+                "The length of the parameter 'packedIndices' has to be " + wordCount(bitsPerEntry));
+        if (bitsPerEntry == DIRECT_BITS) {
+            this.layout = new Layout(DIRECT_BITS, null, packedIndices);
+        } else {
+            short[] paletteCopy = Arrays.copyOf(palette, 1 << bitsPerEntry);
+            this.layout = new Layout(bitsPerEntry, paletteCopy, bitsPerEntry == 0 ? null : packedIndices);
+            this.paletteSize = palette.length;
+            rebuildPaletteIndices();
+        }
+    }
+
+    /**
+     * Creates an array holding the given elements, in the same order as {@link TeraDenseArray16Bit} stores them.
+     */
+    public TeraPaletteArray(int sizeX, int sizeY, int sizeZ, short[] data) {
+        super(sizeX, sizeY, sizeZ, false);
+        Preconditions.checkArgument(data.length == getSizeXYZ(),
+                "The length of the parameter 'data' has to be " + getSizeXYZ() + " but is " + data.length);
+        TShortIntMap indices = new TShortIntHashMap();
+        for (short value : data) {
+            if (!indices.containsKey(value)) {
+                indices.put(value, indices.size());
+            }
+        }
+        int bits = bitsFor(indices.size());
+        long[] packed = bits == 0 ? null : new long[wordCount(bits)];
+        for (int pos = 0; pos < data.length && packed != null; pos++) {
+            write(packed, bits, pos, bits == DIRECT_BITS ? data[pos] & 0xFFFF : indices.get(data[pos]));
+        }
+        if (bits == DIRECT_BITS) {
+            this.layout = new Layout(DIRECT_BITS, null, packed);
+        } else {
+            short[] palette = new short[1 << bits];
+            indices.forEachEntry((value, index) -> {
+                palette[index] = value;
+                return true;
+            });
+            this.layout = new Layout(bits, palette, packed);
+            this.paletteSize = indices.size();
+            rebuildPaletteIndices();
+        }
+    }
+
+    /**
+     * Creates a palette array with the same content as the given array.
+     */
+    public static TeraPaletteArray copyOf(TeraArray array) {
+        TeraPaletteArray result = new TeraPaletteArray(array.getSizeX(), array.getSizeY(), array.getSizeZ());
+        for (int y = 0; y < array.getSizeY(); y++) {
+            for (int z = 0; z < array.getSizeZ(); z++) {
+                for (int x = 0; x < array.getSizeX(); x++) {
+                    result.set(x, y, z, array.get(x, y, z));
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    protected void initialize() {
+        layout = new Layout(0, new short[1], null);
+        paletteSize = 1;
+    }
+
+    @Override
+    public boolean isSparse() {
+        return false;
+    }
+
+    @Override
+    public synchronized TeraArray copy() {
+        Layout current = layout;
+        if (current.bits == DIRECT_BITS) {
+            return new TeraPaletteArray(getSizeX(), getSizeY(), getSizeZ(), null, DIRECT_BITS, current.data.clone());
+        }
+        return new TeraPaletteArray(getSizeX(), getSizeY(), getSizeZ(), getPalette(), current.bits,
+                current.data == null ? null : current.data.clone());
+    }
+
+    /**
+     * Drops palette entries that are no longer in use and narrows the indices accordingly.
+     *
+     * @return the compacted array or null if it can not be compacted any further
+     */
+    @Override
+    public synchronized TeraArray deflate(TeraVisitingDeflator deflator) {
+        Layout current = layout;
+        if (current.bits == 0) {
+            return null;
+        }
+        int[] usage = countUsage(current);
+        TShortIntMap newIndices = new TShortIntHashMap();
+        short[] usedValues = new short[usage.length];
+        int usedCount = 0;
+        for (int i = 0; i < usage.length; i++) {
+            if (usage[i] > 0) {
+                short value = valueOf(current, i);
+                usedValues[usedCount] = value;
+                newIndices.put(value, usedCount++);
+            }
+        }
+        int newBits = bitsFor(usedCount);
+        if (newBits == current.bits && (newBits == DIRECT_BITS || usedCount == paletteSize)) {
+            return null;
+        }
+
+        short[] newPalette = Arrays.copyOf(usedValues, usedCount);
+        long[] newData = newBits == 0 ? null : new long[wordCount(newBits)];
+        if (newData != null) {
+            for (int pos = 0; pos < getSizeXYZ(); pos++) {
+                short value = valueOf(current, read(current, pos));
+                write(newData, newBits, pos, newBits == DIRECT_BITS ? value & 0xFFFF : newIndices.get(value));
+            }
+        }
+        return new TeraPaletteArray(getSizeX(), getSizeY(), getSizeZ(), newPalette, newBits, newData);
+    }
+
+    @Override
+    public int getEstimatedMemoryConsumptionInBytes() {
+        Layout current = layout;
+        int size = 16;
+        if (current.palette != null) {
+            size += 16 + current.palette.length * 2;
+        }
+        if (current.data != null) {
+            size += 16 + current.data.length * 8;
+        }
+        return size;
+    }
+
+    @Override
+    public int getElementSizeInBits() {
+        return layout.bits;
+    }
+
+    /**
+     * @return the number of bits of each element: 0 if the array holds a single value, 1 to 8 for palette indices
+     *         and 16 if the elements are stored directly
+     */
+    public int getBitsPerEntry() {
+        return layout.bits;
+    }
+
+    /**
+     * @return a copy of the palette, empty if the elements are stored directly
+     */
+    public synchronized short[] getPalette() {
+        Layout current = layout;
+        if (current.palette == null) {
+            return new short[0];
+        }
+        return Arrays.copyOf(current.palette, paletteSize);
+    }
+
+    /**
+     * @return a copy of the packed indices, each long holding 64 / {@link #getBitsPerEntry()} elements starting at
+     *         its lowest bits. Empty if the array holds a single value.
+     */
+    public synchronized long[] getPackedIndices() {
+        Layout current = layout;
+        return current.data == null ? new long[0] : current.data.clone();
+    }
+
+    @Override
+    public int get(int x, int y, int z) {
+        Layout current = layout;
+        if (current.bits == 0) {
+            return current.palette[0];
+        }
+        int index = read(current, pos(x, y, z));
+        if (current.palette == null) {
+            return (short) index;
+        }
+        return current.palette[index];
+    }
+
+    @Override
+    public synchronized int set(int x, int y, int z, int value) {
+        int pos = pos(x, y, z);
+        Layout current = layout;
+        short oldValue = current.bits == 0 ? current.palette[0] : valueOf(current, read(current, pos));
+        if (oldValue != (short) value) {
+            store(pos, (short) value);
+        }
+        return oldValue;
+    }
+
+    @Override
+    public synchronized boolean set(int x, int y, int z, int value, int expected) {
+        int pos = pos(x, y, z);
+        Layout current = layout;
+        short oldValue = current.bits == 0 ? current.palette[0] : valueOf(current, read(current, pos));
+        if (oldValue != expected) {
+            return false;
+        }
+        if (oldValue != (short) value) {
+            store(pos, (short) value);
+        }
+        return true;
+    }
+
+    private void store(int pos, short value) {
+        Layout current = layout;
+        int index;
+        if (current.bits == DIRECT_BITS) {
+            index = value & 0xFFFF;
+        } else {
+            index = indexOf(current, value);
+            if (index < 0) {
+                current = addToPalette(current, value);
+                index = current.bits == DIRECT_BITS ? value & 0xFFFF : paletteSize - 1;
+            }
+        }
+        write(current.data, current.bits, pos, index);
+    }
+
+    private int indexOf(Layout current, short value) {
+        if (paletteIndices != null) {
+            return paletteIndices.containsKey(value) ? paletteIndices.get(value) : -1;
+        }
+        for (int i = 0; i < paletteSize; i++) {
+            if (current.palette[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the layout to write the new palette entry with
+     */
+    private Layout addToPalette(Layout current, short value) {
+        if (paletteSize < current.palette.length) {
+            current.palette[paletteSize++] = value;
+            // Publishes the new entry to the readers, before the element is written that refers to it
+            layout = current;
+            if (paletteIndices != null) {
+                paletteIndices.put(value, paletteSize - 1);
+            } else if (paletteSize > LINEAR_SEARCH_LIMIT) {
+                rebuildPaletteIndices();
+            }
+            return current;
+        }
+
+        int newBits = bitsFor(paletteSize + 1);
+        long[] newData = new long[wordCount(newBits)];
+        short[] newPalette = null;
+        if (current.bits != 0) {
+            for (int pos = 0; pos < getSizeXYZ(); pos++) {
+                int index = read(current, pos);
+                write(newData, newBits, pos, newBits == DIRECT_BITS ? current.palette[index] & 0xFFFF : index);
+            }
+        }
+        if (newBits == DIRECT_BITS) {
+            paletteSize = 0;
+            paletteIndices = null;
+        } else {
+            newPalette = Arrays.copyOf(current.palette, 1 << newBits);
+            newPalette[paletteSize++] = value;
+            if (paletteSize > LINEAR_SEARCH_LIMIT) {
+                rebuildPaletteIndices(newPalette);
+            }
+        }
+        Layout widened = new Layout(newBits, newPalette, newData);
+        layout = widened;
+        return widened;
+    }
+
+    private void rebuildPaletteIndices() {
+        Layout current = layout;
+        if (current.palette != null && paletteSize > LINEAR_SEARCH_LIMIT) {
+            rebuildPaletteIndices(current.palette);
+        }
+    }
+
+    private void rebuildPaletteIndices(short[] palette) {
+        paletteIndices = new TShortIntHashMap(paletteSize * 2);
+        for (int i = 0; i < paletteSize; i++) {
+            paletteIndices.put(palette[i], i);
+        }
+    }
+
+    private int[] countUsage(Layout current) {
+        int[] usage = new int[current.bits == DIRECT_BITS ? 1 << DIRECT_BITS : paletteSize];
+        for (int pos = 0; pos < getSizeXYZ(); pos++) {
+            usage[read(current, pos)]++;
+        }
+        return usage;
+    }
+
+    private static short valueOf(Layout current, int index) {
+        return current.palette == null ? (short) index : current.palette[index];
+    }
+
+    private static int read(Layout current, int pos) {
+        int bitIndex = pos * current.bits;
+        return (int) (current.data[bitIndex >>> 6] >>> (bitIndex & 63)) & ((1 << current.bits) - 1);
+    }
+
+    private static void write(long[] data, int bits, int pos, int index) {
+        if (bits == 0) {
+            return;
+        }
+        int bitIndex = pos * bits;
+        int word = bitIndex >>> 6;
+        int shift = bitIndex & 63;
+        long mask = ((1L << bits) - 1) << shift;
+        data[word] = (data[word] & ~mask) | ((long) index << shift);
+    }
+
+    private static int bitsFor(int paletteSize) {
+        if (paletteSize <= 1) {
+            return 0;
+        } else if (paletteSize <= 2) {
+            return 1;
+        } else if (paletteSize <= 4) {
+            return 2;
+        } else if (paletteSize <= 16) {
+            return 4;
+        } else if (paletteSize <= 256) {
+            return 8;
+        }
+        return DIRECT_BITS;
+    }
+
+    private int wordCount(int bits) {
+        return (getSizeXYZ() * bits + 63) / 64;
+    }
+
+    /**
+     * The palette and indices of the array, which get replaced as a whole when the indices are widened.
+     * The palette always has room for as many entries as the indices can address.
+     */
+    private static final class Layout {
+        private final int bits;
+        private final short[] palette;
+        private final long[] data;
+
+        private Layout(int bits, short[] palette, long[] data) {
+            this.bits = bits;
+            this.palette = palette;
+            this.data = data;
+        }
+    }
+
+    public static class SerializationHandler extends TeraArray.BasicSerializationHandler<TeraPaletteArray> {
+
+        @Override
+        public boolean canHandle(Class<?> clazz) {
+            return TeraPaletteArray.class.equals(clazz);
+        }
+
+        @Override
+        protected int internalComputeMinimumBufferSize(TeraPaletteArray array) {
+            return 12 + array.getPalette().length * 2 + array.getPackedIndices().length * 8;
+        }
+
+        @Override
+        protected void internalSerialize(TeraPaletteArray array, ByteBuffer buffer) {
+            short[] palette = array.getPalette();
+            long[] packedIndices = array.getPackedIndices();
+            buffer.putInt(array.getBitsPerEntry());
+            buffer.putInt(palette.length);
+            buffer.asShortBuffer().put(palette);
+            buffer.position(buffer.position() + palette.length * 2);
+            buffer.putInt(packedIndices.length);
+            buffer.asLongBuffer().put(packedIndices);
+            buffer.position(buffer.position() + packedIndices.length * 8);
+        }
+
+        @Override
+        protected TeraPaletteArray internalDeserialize(int sizeX, int sizeY, int sizeZ, ByteBuffer buffer) {
+            int bitsPerEntry = buffer.getInt();
+            short[] palette = new short[buffer.getInt()];
+            buffer.asShortBuffer().get(palette);
+            buffer.position(buffer.position() + palette.length * 2);
+            long[] packedIndices = new long[buffer.getInt()];
+            buffer.asLongBuffer().get(packedIndices);
+            buffer.position(buffer.position() + packedIndices.length * 8);
+            return new TeraPaletteArray(sizeX, sizeY, sizeZ, palette, bitsPerEntry, packedIndices);
+        }
+    }
+
+    public static class Factory implements TeraArray.Factory<TeraPaletteArray> {
+
+        @Override
+        public Class<TeraPaletteArray> getArrayClass() {
+            return TeraPaletteArray.class;
+        }
+
+        @Override
+        public SerializationHandler createSerializationHandler() {
+            return new SerializationHandler();
+        }
+
+        @Override
+        public TeraPaletteArray create() {
+            return new TeraPaletteArray();
+        }
+
+        @Override
+        public TeraPaletteArray create(int sizeX, int sizeY, int sizeZ) {
+            return new TeraPaletteArray(sizeX, sizeY, sizeZ);
+        }
+    }
+}
@@ -26,8 +26,12 @@
 import org.terasology.world.chunks.ChunkConstants;
 import org.terasology.world.chunks.blockdata.ExtraBlockDataManager;
 import org.terasology.world.chunks.blockdata.TeraArray;
-import org.terasology.world.chunks.blockdata.TeraDenseArray16Bit;
 import org.terasology.world.chunks.blockdata.TeraDenseArray8Bit;
+import org.terasology.world.chunks.blockdata.TeraPaletteArray;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
 
 /**
  */
@@ -39,7 +43,11 @@ private ChunkSerializer() {
     public static EntityData.ChunkStore.Builder encode(Vector3i pos, TeraArray blockData, TeraArray[] extraData) {
         final EntityData.ChunkStore.Builder b = EntityData.ChunkStore.newBuilder()
                 .setX(pos.x).setY(pos.y).setZ(pos.z);
-        b.setBlockData(runLengthEncode16(blockData));
+        if (blockData instanceof TeraPaletteArray) {
+            b.setBlockPalette(paletteEncode16((TeraPaletteArray) blockData));
+        } else {
+            b.setBlockData(runLengthEncode16(blockData));
+        }
         for (int i = 0; i < extraData.length; i++) {
             b.addExtraData(runLengthEncode16(extraData[i]));
         }
@@ -53,11 +61,14 @@ public static Chunk decode(EntityData.ChunkStore message, BlockManager blockMana
             throw new IllegalArgumentException("Ill-formed protobuf message. Missing chunk position.");
         }
         Vector3i pos = new Vector3i(message.getX(), message.getY(), message.getZ());
-        if (!message.hasBlockData()) {
+        final TeraArray blockData;
+        if (message.hasBlockPalette()) {
+            blockData = paletteDecode16(message.getBlockPalette());
+        } else if (message.hasBlockData()) {
+            blockData = runLengthDecode(message.getBlockData());
+        } else {
             throw new IllegalArgumentException("Ill-formed protobuf message. Missing block data.");
         }
-
-        final TeraArray blockData = runLengthDecode(message.getBlockData());
         final TeraArray[] extraData = extraDataManager.makeDataArrays(ChunkConstants.SIZE_X, ChunkConstants.SIZE_Y, ChunkConstants.SIZE_Z);
         for (int i = 0; i < extraData.length; i++) {
             runLengthDecode(message.getExtraData(i), extraData[i]);
@@ -130,7 +141,33 @@ private static TeraArray runLengthDecode(EntityData.RunLengthEncoding16 data) {
                 decodedData[index++] = value;
             }
         }
-        return new TeraDenseArray16Bit(ChunkConstants.SIZE_X, ChunkConstants.SIZE_Y, ChunkConstants.SIZE_Z, decodedData);
+        return new TeraPaletteArray(ChunkConstants.SIZE_X, ChunkConstants.SIZE_Y, ChunkConstants.SIZE_Z, decodedData);
+    }
+
+    private static EntityData.PaletteEncoding16 paletteEncode16(TeraPaletteArray array) {
+        EntityData.PaletteEncoding16.Builder builder = EntityData.PaletteEncoding16.newBuilder();
+        for (short value : array.getPalette()) {
+            builder.addPalette(value & 0xFFFF);
+        }
+        long[] packedIndices = array.getPackedIndices();
+        ByteBuffer buffer = ByteBuffer.allocate(packedIndices.length * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asLongBuffer().put(packedIndices);
+        builder.setBitsPerEntry(array.getBitsPerEntry());
+        builder.setPackedIndices(ByteString.copyFrom(buffer));
+        return builder.build();
+    }
+
+    private static TeraArray paletteDecode16(EntityData.PaletteEncoding16 data) {
+        short[] palette = new short[data.getPaletteCount()];
+        for (int i = 0; i < palette.length; i++) {
+            palette[i] = (short) data.getPalette(i);
+        }
+        LongBuffer indexSource = data.getPackedIndices().asReadOnlyByteBuffer()
+                .order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+        long[] packedIndices = new long[indexSource.remaining()];
+        indexSource.get(packedIndices);
+        return new TeraPaletteArray(ChunkConstants.SIZE_X, ChunkConstants.SIZE_Y, ChunkConstants.SIZE_Z,
+                palette, data.getBitsPerEntry(), packedIndices);
     }
 
     private static TeraArray runLengthDecode(EntityData.RunLengthEncoding8 data) {
@@ -15,6 +15,8 @@
  */
 package org.terasology.world.chunks.localChunkProvider;
 
+import gnu.trove.procedure.TLongProcedure;
+import org.terasology.math.ChunkMath;
 import org.terasology.math.geom.Vector3i;
 import org.terasology.world.chunks.Chunk;
 
@@ -27,10 +29,33 @@
 interface ChunkCache {
     Chunk get(Vector3i chunkPosition);
 
+    /**
+     * Looks up a chunk without requiring the caller to allocate a position vector.
+     */
+    default Chunk get(int x, int y, int z) {
+        return get(new Vector3i(x, y, z));
+    }
+
     void put(Vector3i chunkPosition, Chunk chunk);
 
     Iterator<Vector3i> iterateChunkPositions();
 
+    /**
+     * Passes the position of every cached chunk, packed with {@link ChunkMath#packChunkPos(int, int, int)}, to the given
+     * procedure until it returns false. The procedure must not modify the cache.
+     *
+     * @return false if the procedure stopped the iteration, true otherwise
+     */
+    default boolean forEachChunkPosition(TLongProcedure procedure) {
+        Iterator<Vector3i> iterator = iterateChunkPositions();
+        while (iterator.hasNext()) {
+            if (!procedure.execute(ChunkMath.packChunkPos(iterator.next()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     Collection<Chunk> getAllChunks();
 
     void clear();
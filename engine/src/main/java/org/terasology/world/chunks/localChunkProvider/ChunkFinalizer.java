@@ -18,8 +18,10 @@
 import org.terasology.world.chunks.Chunk;
 import org.terasology.world.chunks.internal.GeneratingChunkProvider;
 import org.terasology.world.chunks.internal.ReadyChunkInfo;
+import org.terasology.world.chunks.pipeline.ChunkTask;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Post-processor for loaded or generated chunks.
@@ -29,6 +31,16 @@ public interface ChunkFinalizer {
 
     void initialize(GeneratingChunkProvider generatingChunkProvider);
 
+    /**
+     * Initializes a finalizer of a chunk provider that runs a chunk generation pipeline, which the finalizer may hand
+     * its work to.
+     *
+     * @param pipelineExecutor submits tasks to the chunk generation pipeline
+     */
+    default void initialize(GeneratingChunkProvider generatingChunkProvider, Consumer<ChunkTask> pipelineExecutor) {
+        initialize(generatingChunkProvider);
+    }
+
     List<ReadyChunkInfo> completeFinalization();
 
     void beginFinalization(Chunk chunk, ReadyChunkInfo readyChunkInfo);
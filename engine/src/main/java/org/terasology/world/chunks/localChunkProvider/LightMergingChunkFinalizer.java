@@ -18,9 +18,11 @@
 import org.terasology.world.chunks.Chunk;
 import org.terasology.world.chunks.internal.GeneratingChunkProvider;
 import org.terasology.world.chunks.internal.ReadyChunkInfo;
+import org.terasology.world.chunks.pipeline.ChunkTask;
 import org.terasology.world.propagation.light.LightMerger;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 class LightMergingChunkFinalizer implements ChunkFinalizer {
 
@@ -31,6 +33,11 @@ public void initialize(final GeneratingChunkProvider generatingChunkProvider) {
         lightMerger = new LightMerger<>(generatingChunkProvider);
     }
 
+    @Override
+    public void initialize(GeneratingChunkProvider generatingChunkProvider, Consumer<ChunkTask> pipelineExecutor) {
+        lightMerger = new LightMerger<>(generatingChunkProvider, pipelineExecutor);
+    }
+
     @Override
     public List<ReadyChunkInfo> completeFinalization() {
         return lightMerger.completeMerge();
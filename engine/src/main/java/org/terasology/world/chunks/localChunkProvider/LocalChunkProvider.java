@@ -5,10 +5,13 @@
 import com.google.common.collect.Lists;
 import com.google.common.collect.Queues;
 import com.google.common.collect.Sets;
+import gnu.trove.iterator.TLongIterator;
 import gnu.trove.list.TIntList;
 import gnu.trove.list.array.TIntArrayList;
 import gnu.trove.map.TShortObjectMap;
 import gnu.trove.map.hash.TShortObjectHashMap;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.entitySystem.Component;
@@ -47,6 +50,7 @@
 import org.terasology.world.chunks.internal.ReadyChunkInfo;
 import org.terasology.world.chunks.pipeline.AbstractChunkTask;
 import org.terasology.world.chunks.pipeline.ChunkGenerationPipeline;
+import org.terasology.world.chunks.pipeline.ChunkTask;
 import org.terasology.world.generation.impl.EntityBufferImpl;
 import org.terasology.world.generator.WorldGenerator;
 import org.terasology.world.internal.ChunkViewCore;
@@ -75,6 +79,10 @@ public class LocalChunkProvider implements GeneratingChunkProvider {
     private final BlockingQueue<TShortObjectMap<TIntList>> deactivateBlocksQueue = Queues.newLinkedBlockingQueue();
     private final ChunkCache chunkCache;
     private final Supplier<ChunkFinalizer> chunkFinalizerSupplier;
+    /**
+     * Packed positions of loaded chunks which may have become irrelevant, see {@link #markChunkForUnloadCheck(int, int, int)}.
+     */
+    private final TLongSet unloadCandidates = new TLongHashSet();
     private StorageManager storageManager;
     private ChunkGenerationPipeline pipeline;
     private TaskMaster<ChunkUnloadRequest> unloadRequestTaskMaster;
@@ -98,7 +106,7 @@ public LocalChunkProvider(StorageManager storageManager, EntityManager entityMan
                 extraDataManager,
                 new LightMergingChunkFinalizer(),
                 LightMergingChunkFinalizer::new,
-                new ConcurrentMapChunkCache());
+                new PackedPositionChunkCache());
     }
 
     LocalChunkProvider(StorageManager storageManager, EntityManager entityManager, WorldGenerator generator,
@@ -113,7 +121,7 @@ public LocalChunkProvider(StorageManager storageManager, EntityManager entityMan
         this.unloadRequestTaskMaster = TaskMaster.createFIFOTaskMaster("Chunk-Unloader", 4);
         this.chunkFinalizer = chunkFinalizer;
         this.chunkCache = chunkCache;
-        chunkFinalizer.initialize(this);
+        chunkFinalizer.initialize(this, this::runOnPipeline);
         this.chunkFinalizerSupplier = chunkFinalizerSupplier;
         ChunkMonitor.fireChunkProviderInitialized(this);
     }
@@ -148,15 +156,18 @@ public ChunkViewCore getSubviewAroundChunk(Vector3i chunkPos) {
     }
 
     private ChunkViewCore createWorldView(Region3i region, Vector3i offset) {
-        Chunk[] chunks = new Chunk[region.sizeX() * region.sizeY() * region.sizeZ()];
-        for (Vector3i chunkPos : region) {
-            Chunk chunk = chunkCache.get(chunkPos);
-            if (chunk == null) {
-                return null;
+        Vector3i size = region.size();
+        Chunk[] chunks = new Chunk[size.x * size.y * size.z];
+        for (int z = 0; z < size.z; z++) {
+            for (int y = 0; y < size.y; y++) {
+                for (int x = 0; x < size.x; x++) {
+                    Chunk chunk = chunkCache.get(region.minX() + x, region.minY() + y, region.minZ() + z);
+                    if (chunk == null) {
+                        return null;
+                    }
+                    chunks[TeraMath.calculate3DArrayIndex(x, y, z, size)] = chunk;
+                }
             }
-            chunkPos.sub(region.minX(), region.minY(), region.minZ());
-            int index = TeraMath.calculate3DArrayIndex(chunkPos, region.size());
-            chunks[index] = chunk;
         }
         return new ChunkViewCoreImpl(chunks, region, offset, blockManager.getBlock(BlockManager.AIR_ID));
     }
@@ -254,8 +265,13 @@ private void makeChunksAvailable() {
         List<ReadyChunkInfo> newReadyChunks = Lists.newArrayListWithExpectedSize(readyChunks.size());
         readyChunks.drainTo(newReadyChunks);
         for (ReadyChunkInfo readyChunkInfo : newReadyChunks) {
-            chunkCache.put(readyChunkInfo.getPos(), readyChunkInfo.getChunk());
-            preparingChunks.remove(readyChunkInfo.getPos());
+            Vector3i pos = readyChunkInfo.getPos();
+            chunkCache.put(pos, readyChunkInfo.getChunk());
+            preparingChunks.remove(pos);
+            // The regions may have moved on while the chunk was being prepared
+            if (!relevanceSystem.isChunkInRegions(pos)) {
+                unloadCandidates.add(ChunkMath.packChunkPos(pos));
+            }
         }
 
         if (!newReadyChunks.isEmpty()) {
@@ -291,25 +307,38 @@ private void deactivateBlocks() {
     private void checkForUnload() {
         PerformanceMonitor.startActivity("Unloading irrelevant chunks");
         int unloaded = 0;
-        logger.debug("Compacting cache");
-        Iterator<Vector3i> iterator = chunkCache.iterateChunkPositions();
-        while (iterator.hasNext()) {
-            Vector3i pos = iterator.next();
-            boolean keep = relevanceSystem.isChunkInRegions(pos);
-            if (!keep) {
-                // TODO: need some way to not dispose chunks being edited or processed (or do so safely)
-                // Note: Above won't matter if all changes are on the main thread
-                if (unloadChunkInternal(pos)) {
-                    iterator.remove();
-                    if (++unloaded >= UNLOAD_PER_FRAME) {
-                        break;
-                    }
-                }
+        TLongIterator iterator = unloadCandidates.iterator();
+        while (iterator.hasNext() && unloaded < UNLOAD_PER_FRAME) {
+            long packedPos = iterator.next();
+            iterator.remove();
+            int x = ChunkMath.unpackChunkPosX(packedPos);
+            int y = ChunkMath.unpackChunkPosY(packedPos);
+            int z = ChunkMath.unpackChunkPosZ(packedPos);
+            // The chunk may have been unloaded already, or become relevant again since it was marked
+            if (chunkCache.get(x, y, z) == null || relevanceSystem.isChunkInRegions(x, y, z)) {
+                continue;
+            }
+            Vector3i pos = new Vector3i(x, y, z);
+            // TODO: need some way to not dispose chunks being edited or processed (or do so safely)
+            // Note: Above won't matter if all changes are on the main thread
+            if (unloadChunkInternal(pos)) {
+                chunkCache.removeChunkAt(pos);
+                unloaded++;
             }
         }
         PerformanceMonitor.endActivity();
     }
 
+    /**
+     * Marks the chunk at the given position, if it is loaded, to be checked for unloading. Only marked chunks are
+     * considered by the unloading, so this must be called whenever a chunk may have left all relevance regions.
+     */
+    void markChunkForUnloadCheck(int x, int y, int z) {
+        if (chunkCache.get(x, y, z) != null) {
+            unloadCandidates.add(ChunkMath.packChunkPos(x, y, z));
+        }
+    }
+
     private boolean unloadChunkInternal(Vector3i pos) {
         Chunk chunk = chunkCache.get(pos);
         if (!chunk.isReady()) {
@@ -364,9 +393,14 @@ private boolean makeChunkAvailable(final ReadyChunkInfo readyChunkInfo) {
         if (chunk == null) {
             return false;
         }
-        for (Vector3i pos : Region3i.createFromCenterExtents(readyChunkInfo.getPos(), 1)) {
-            if (chunkCache.get(pos) == null) {
-                return false;
+        Vector3i center = readyChunkInfo.getPos();
+        for (int z = center.z - 1; z <= center.z + 1; z++) {
+            for (int y = center.y - 1; y <= center.y + 1; y++) {
+                for (int x = center.x - 1; x <= center.x + 1; x++) {
+                    if (chunkCache.get(x, y, z) == null) {
+                        return false;
+                    }
+                }
             }
         }
         chunkFinalizer.beginFinalization(chunk, readyChunkInfo);
@@ -400,7 +434,11 @@ private TShortObjectMap<TIntList> createBatchBlockEventMappings(Chunk chunk) {
 
     @Override
     public Chunk getChunk(int x, int y, int z) {
-        return getChunk(new Vector3i(x, y, z));
+        Chunk chunk = chunkCache.get(x, y, z);
+        if (isChunkReady(chunk)) {
+            return chunk;
+        }
+        return null;
     }
 
     @Override
@@ -441,6 +479,7 @@ public void dispose() {
             chunk.dispose();
         }
         chunkCache.clear();
+        unloadCandidates.clear();
         /*
          * The chunk monitor needs to clear chunk references, so it's important
          * that no new chunk get created
@@ -476,6 +515,7 @@ public void purgeWorld() {
             chunk.dispose();
         });
         chunkCache.clear();
+        unloadCandidates.clear();
         readyChunks.clear();
         sortedReadyChunks.clear();
         storageManager.deleteWorld();
@@ -485,7 +525,7 @@ public void purgeWorld() {
         pipeline = new ChunkGenerationPipeline(relevanceSystem.createChunkTaskComporator());
         unloadRequestTaskMaster = TaskMaster.createFIFOTaskMaster("Chunk-Unloader", 8);
         chunkFinalizer = chunkFinalizerSupplier.get();
-        chunkFinalizer.initialize(this);
+        chunkFinalizer.initialize(this, this::runOnPipeline);
         chunkFinalizer.restart();
         ChunkMonitor.fireChunkProviderInitialized(this);
 
@@ -529,6 +569,10 @@ public void run() {
     }
 
 
+    private void runOnPipeline(ChunkTask task) {
+        pipeline.doTask(task);
+    }
+
     @Override
     public void onChunkIsReady(Chunk chunk) {
         readyChunks.offer(new ReadyChunkInfo(chunk, createBatchBlockEventMappings(chunk), Collections.emptyList()));
@@ -0,0 +1,350 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.world.chunks.localChunkProvider;
+
+import com.google.common.base.Preconditions;
+import gnu.trove.procedure.TLongProcedure;
+import org.terasology.math.ChunkMath;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.chunks.Chunk;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Chunk cache keyed by packed chunk positions (see {@link ChunkMath#packChunkPos(int, int, int)}).
+ * <p>
+ * Entries are kept in lock-striped, open addressing tables with linear probing, so lookups neither allocate nor
+ * box their key. Reads are optimistic and only fall back to taking the stripe's read lock if a write happened concurrently.
+ */
+class PackedPositionChunkCache implements ChunkCache {
+
+    private static final int STRIPE_BITS = 4;
+    private static final int INITIAL_STRIPE_CAPACITY = 64;
+    /**
+     * Packed positions never have the highest bit set, so this can be used to mark empty slots.
+     */
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final Stripe[] stripes = new Stripe[1 << STRIPE_BITS];
+
+    PackedPositionChunkCache() {
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    @Override
+    public Chunk get(Vector3i chunkPosition) {
+        return get(chunkPosition.x, chunkPosition.y, chunkPosition.z);
+    }
+
+    @Override
+    public Chunk get(int x, int y, int z) {
+        long key = ChunkMath.packChunkPos(x, y, z);
+        long hash = hash(key);
+        return stripeFor(hash).get(key, hash);
+    }
+
+    @Override
+    public void put(Vector3i chunkPosition, Chunk chunk) {
+        Preconditions.checkNotNull(chunk);
+        long key = ChunkMath.packChunkPos(chunkPosition);
+        long hash = hash(key);
+        stripeFor(hash).put(key, hash, chunk);
+    }
+
+    /**
+     * Returns a snapshot of the cached positions. Removing through the iterator removes the chunk from the cache.
+     */
+    @Override
+    public Iterator<Vector3i> iterateChunkPositions() {
+        List<Vector3i> positions = new ArrayList<>();
+        forEachChunkPosition(packedPos -> positions.add(ChunkMath.unpackChunkPos(packedPos)));
+        Iterator<Vector3i> snapshot = positions.iterator();
+        return new Iterator<Vector3i>() {
+            private Vector3i current;
+
+            @Override
+            public boolean hasNext() {
+                return snapshot.hasNext();
+            }
+
+            @Override
+            public Vector3i next() {
+                current = snapshot.next();
+                return current;
+            }
+
+            @Override
+            public void remove() {
+                if (current == null) {
+                    throw new IllegalStateException();
+                }
+                removeChunkAt(current);
+                current = null;
+            }
+        };
+    }
+
+    @Override
+    public boolean forEachChunkPosition(TLongProcedure procedure) {
+        for (Stripe stripe : stripes) {
+            if (!stripe.forEachKey(procedure)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a snapshot of the cached chunks.
+     */
+    @Override
+    public Collection<Chunk> getAllChunks() {
+        List<Chunk> chunks = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            stripe.collectValues(chunks);
+        }
+        return chunks;
+    }
+
+    @Override
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    @Override
+    public boolean containsChunkAt(Vector3i chunkPosition) {
+        return get(chunkPosition) != null;
+    }
+
+    @Override
+    public void removeChunkAt(Vector3i chunkPosition) {
+        long key = ChunkMath.packChunkPos(chunkPosition);
+        long hash = hash(key);
+        stripeFor(hash).remove(key, hash);
+    }
+
+    /**
+     * @return the number of cached chunks
+     */
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(long hash) {
+        return stripes[(int) (hash >>> (Long.SIZE - STRIPE_BITS))];
+    }
+
+    /**
+     * Spreads neighbouring positions over the whole table (Stafford's variant 13 of the MurmurHash3 finalizer).
+     */
+    private static long hash(long key) {
+        long h = key;
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        return h ^ (h >>> 31);
+    }
+
+    private static int slotOf(long hash, int mask) {
+        return (int) hash & mask;
+    }
+
+    /**
+     * The key and value arrays of a stripe. They are always replaced together so an optimistic reader never sees
+     * arrays of different sizes.
+     */
+    private static final class Table {
+        private final long[] keys;
+        private final Chunk[] values;
+
+        Table(int capacity) {
+            keys = new long[capacity];
+            values = new Chunk[capacity];
+            Arrays.fill(keys, EMPTY);
+        }
+    }
+
+    private static final class Stripe {
+        private final StampedLock lock = new StampedLock();
+        private volatile Table table = new Table(INITIAL_STRIPE_CAPACITY);
+        private int size;
+
+        Chunk get(long key, long hash) {
+            long stamp = lock.tryOptimisticRead();
+            Chunk result = find(table, key, hash);
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    result = find(table, key, hash);
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return result;
+        }
+
+        void put(long key, long hash, Chunk chunk) {
+            long stamp = lock.writeLock();
+            try {
+                if (insert(table, key, hash, chunk)) {
+                    size++;
+                    if (size * 2 > table.keys.length) {
+                        resize();
+                    }
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void remove(long key, long hash) {
+            long stamp = lock.writeLock();
+            try {
+                Table current = table;
+                int mask = current.keys.length - 1;
+                int slot = slotOf(hash, mask);
+                while (current.keys[slot] != key) {
+                    if (current.keys[slot] == EMPTY) {
+                        return;
+                    }
+                    slot = (slot + 1) & mask;
+                }
+                shiftBack(current, slot);
+                size--;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        boolean forEachKey(TLongProcedure procedure) {
+            long stamp = lock.readLock();
+            try {
+                for (long key : table.keys) {
+                    if (key != EMPTY && !procedure.execute(key)) {
+                        return false;
+                    }
+                }
+                return true;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        void collectValues(Collection<Chunk> target) {
+            long stamp = lock.readLock();
+            try {
+                for (Chunk chunk : table.values) {
+                    if (chunk != null) {
+                        target.add(chunk);
+                    }
+                }
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        void clear() {
+            long stamp = lock.writeLock();
+            try {
+                table = new Table(INITIAL_STRIPE_CAPACITY);
+                size = 0;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        int size() {
+            long stamp = lock.readLock();
+            try {
+                return size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private void resize() {
+            Table old = table;
+            Table resized = new Table(old.keys.length * 2);
+            for (int i = 0; i < old.keys.length; i++) {
+                if (old.keys[i] != EMPTY) {
+                    insert(resized, old.keys[i], hash(old.keys[i]), old.values[i]);
+                }
+            }
+            table = resized;
+        }
+
+        /**
+         * The probe is bounded by the table size, as an optimistic reader may observe the table mid-write.
+         */
+        private static Chunk find(Table current, long key, long hash) {
+            int mask = current.keys.length - 1;
+            int slot = slotOf(hash, mask);
+            for (int probes = 0; probes <= mask; probes++) {
+                long slotKey = current.keys[slot];
+                if (slotKey == key) {
+                    return current.values[slot];
+                }
+                if (slotKey == EMPTY) {
+                    return null;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return null;
+        }
+
+        /**
+         * @return true if a new entry was added, false if an existing one was replaced
+         */
+        private static boolean insert(Table current, long key, long hash, Chunk chunk) {
+            int mask = current.keys.length - 1;
+            int slot = slotOf(hash, mask);
+            while (current.keys[slot] != EMPTY) {
+                if (current.keys[slot] == key) {
+                    current.values[slot] = chunk;
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            current.values[slot] = chunk;
+            current.keys[slot] = key;
+            return true;
+        }
+
+        /**
+         * Empties the given slot, moving later entries of the same probe sequence back so no tombstones are needed.
+         */
+        private static void shiftBack(Table current, int removedSlot) {
+            int mask = current.keys.length - 1;
+            int hole = removedSlot;
+            int slot = removedSlot;
+            while (true) {
+                slot = (slot + 1) & mask;
+                long key = current.keys[slot];
+                if (key == EMPTY) {
+                    break;
+                }
+                int home = slotOf(hash(key), mask);
+                boolean reachableFromHole = hole <= slot ? (home <= hole || home > slot) : (home <= hole && home > slot);
+                if (reachableFromHole) {
+                    current.keys[hole] = key;
+                    current.values[hole] = current.values[slot];
+                    hole = slot;
+                }
+            }
+            current.keys[hole] = EMPTY;
+            current.values[hole] = null;
+        }
+    }
+}
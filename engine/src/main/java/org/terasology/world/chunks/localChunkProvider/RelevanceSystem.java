@@ -10,6 +10,7 @@
 import org.terasology.entitySystem.event.ReceiveEvent;
 import org.terasology.entitySystem.systems.UpdateSubscriberSystem;
 import org.terasology.logic.location.LocationComponent;
+import org.terasology.math.Region3i;
 import org.terasology.math.geom.Vector3i;
 import org.terasology.monitoring.Activity;
 import org.terasology.monitoring.PerformanceMonitor;
@@ -102,12 +103,18 @@ public void updateRelevanceEntityDistance(EntityRef entity, Vector3i distance) {
      * @param entity entity for remove.
      */
     public void removeRelevanceEntity(EntityRef entity) {
+        ChunkRelevanceRegion region;
         regionLock.writeLock().lock();
         try {
-            regions.remove(entity);
+            region = regions.remove(entity);
         } finally {
             regionLock.writeLock().unlock();
         }
+        if (region != null) {
+            // The region may have changed since the last update, which has not marked the chunks it left yet
+            markLeftChunksForUnloadCheck(region.getPreviousRegion(), region.getCurrentRegion());
+            markLeftChunksForUnloadCheck(region.getCurrentRegion(), Region3i.empty());
+        }
     }
 
     /**
@@ -126,12 +133,47 @@ private void updateRelevance() {
                             chunkProvider.createOrLoadChunk(pos);
                         }
                     }
+                    markLeftChunksForUnloadCheck(chunkRelevanceRegion.getPreviousRegion(),
+                            chunkRelevanceRegion.getCurrentRegion());
                     chunkRelevanceRegion.setUpToDate();
                 }
             }
         }
     }
 
+    /**
+     * Tells the chunk provider about every chunk that was kept by the previous region but is not kept by the current one.
+     * Only the columns which actually changed are walked, so a region moving by one chunk costs one slab of checks.
+     *
+     * @param previousRegion the region before the change.
+     * @param currentRegion the region after the change.
+     */
+    private void markLeftChunksForUnloadCheck(Region3i previousRegion, Region3i currentRegion) {
+        if (previousRegion.isEmpty()) {
+            return;
+        }
+        Region3i previous = previousRegion.expand(UNLOAD_LEEWAY);
+        // Expanding an empty region would make it cover the chunks around the origin
+        Region3i retained = currentRegion.isEmpty() ? currentRegion : currentRegion.expand(UNLOAD_LEEWAY);
+        for (int x = previous.minX(); x <= previous.maxX(); x++) {
+            boolean retainedX = x >= retained.minX() && x <= retained.maxX();
+            for (int y = previous.minY(); y <= previous.maxY(); y++) {
+                if (retainedX && y >= retained.minY() && y <= retained.maxY()) {
+                    for (int z = previous.minZ(); z <= Math.min(previous.maxZ(), retained.minZ() - 1); z++) {
+                        chunkProvider.markChunkForUnloadCheck(x, y, z);
+                    }
+                    for (int z = Math.max(previous.minZ(), retained.maxZ() + 1); z <= previous.maxZ(); z++) {
+                        chunkProvider.markChunkForUnloadCheck(x, y, z);
+                    }
+                } else {
+                    for (int z = previous.minZ(); z <= previous.maxZ(); z++) {
+                        chunkProvider.markChunkForUnloadCheck(x, y, z);
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Add entity to relevance system. create region for it.
      * Update distance if region exists already.
@@ -181,8 +223,22 @@ public void addRelevanceEntity(EntityRef entity, Vector3i distance, ChunkRegionL
      * @return {@code true} if chunk in regions, otherwise {@code false}
      */
     public boolean isChunkInRegions(Vector3i pos) {
+        return isChunkInRegions(pos.x, pos.y, pos.z);
+    }
+
+    /**
+     * Check that chunk contains in any regions, without creating expanded regions for the check.
+     * @param x chunk's x position
+     * @param y chunk's y position
+     * @param z chunk's z position
+     * @return {@code true} if chunk in regions, otherwise {@code false}
+     */
+    public boolean isChunkInRegions(int x, int y, int z) {
         for (ChunkRelevanceRegion region : regions.values()) {
-            if (region.getCurrentRegion().expand(UNLOAD_LEEWAY).encompasses(pos)) {
+            Region3i currentRegion = region.getCurrentRegion();
+            if (x >= currentRegion.minX() - UNLOAD_LEEWAY.x && x <= currentRegion.maxX() + UNLOAD_LEEWAY.x
+                    && y >= currentRegion.minY() - UNLOAD_LEEWAY.y && y <= currentRegion.maxY() + UNLOAD_LEEWAY.y
+                    && z >= currentRegion.minZ() - UNLOAD_LEEWAY.z && z <= currentRegion.maxZ() + UNLOAD_LEEWAY.z) {
                 return true;
             }
         }
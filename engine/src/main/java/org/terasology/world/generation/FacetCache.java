@@ -0,0 +1,219 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.world.generation;
+
+import com.google.common.collect.Maps;
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Rect2i;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches the facets of providers that only depend on the horizontal position, so regions that cover the same columns,
+ * like the chunks stacked on top of each other, share them instead of generating them again.
+ * <br><br>
+ * Only the providers passed to the constructor are cached. These must produce nothing but {@link WorldFacet2D}s,
+ * which no other provider updates, and may only require facets of other cached providers. Cached facets are shared
+ * between regions and must not be modified after the provider produced them.
+ * <br><br>
+ * The least recently used facets are evicted once the estimated size of the cache exceeds its capacity.
+ */
+public class FacetCache {
+
+    /**
+     * The default capacity, in bytes.
+     */
+    public static final long DEFAULT_CAPACITY = 64 * 1024 * 1024;
+
+    /**
+     * The estimated size of a cache entry besides the values of its facets, in bytes.
+     */
+    private static final int ENTRY_OVERHEAD = 128;
+
+    private final Set<FacetProvider> cachedProviders;
+    private final long capacity;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+    private final ConcurrentMap<Class<? extends WorldFacet>, Statistics> statistics = Maps.newConcurrentMap();
+
+    /**
+     * @param cachedProviders the providers whose facets are cached
+     * @param capacity        the maximum estimated size of the cached facets, in bytes
+     */
+    public FacetCache(Set<FacetProvider> cachedProviders, long capacity) {
+        this.cachedProviders = cachedProviders;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Lets the provider process the region, or sets the facets it produced for the same columns before.
+     */
+    public void process(FacetProvider provider, GeneratingRegion region) {
+        if (capacity <= 0 || !cachedProviders.contains(provider)) {
+            provider.process(region);
+            return;
+        }
+        Key key = new Key(provider, region.getRegion());
+        Entry entry = get(key);
+        if (entry != null) {
+            for (Map.Entry<Class<? extends WorldFacet>, WorldFacet> facet : entry.facets.entrySet()) {
+                setRegionFacet(region, facet.getKey(), facet.getValue());
+                getStatistics(facet.getKey()).hits.increment();
+            }
+            return;
+        }
+
+        provider.process(region);
+        Map<Class<? extends WorldFacet>, WorldFacet> facets = Maps.newHashMap();
+        for (Class<? extends WorldFacet> type : producedFacets(provider)) {
+            WorldFacet facet = region.getRegionFacet(type);
+            if (facet != null) {
+                facets.put(type, facet);
+            }
+            getStatistics(type).misses.increment();
+        }
+        put(key, new Entry(facets));
+    }
+
+    /**
+     * @return the share of the requests for facets of the given type that were served from the cache, or 0 if there
+     * were none
+     */
+    public double getHitRate(Class<? extends WorldFacet> type) {
+        Statistics typeStatistics = statistics.get(type);
+        if (typeStatistics == null) {
+            return 0;
+        }
+        long hits = typeStatistics.hits.sum();
+        long requests = hits + typeStatistics.misses.sum();
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    /**
+     * @return the hit rate of every facet type requested so far, see {@link #getHitRate(Class)}
+     */
+    public Map<Class<? extends WorldFacet>, Double> getHitRates() {
+        Map<Class<? extends WorldFacet>, Double> result = Maps.newHashMap();
+        for (Class<? extends WorldFacet> type : statistics.keySet()) {
+            result.put(type, getHitRate(type));
+        }
+        return result;
+    }
+
+    /**
+     * @return the estimated size of the cached facets, in bytes
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    /**
+     * Removes all cached facets, for example because the configuration of a provider changed.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        size = 0;
+    }
+
+    private synchronized Entry get(Key key) {
+        return entries.get(key);
+    }
+
+    private synchronized void put(Key key, Entry entry) {
+        Entry replaced = entries.put(key, entry);
+        if (replaced != null) {
+            size -= replaced.size;
+        }
+        size += entry.size;
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (size > capacity && iterator.hasNext()) {
+            size -= iterator.next().size;
+            iterator.remove();
+        }
+    }
+
+    private Statistics getStatistics(Class<? extends WorldFacet> type) {
+        return statistics.computeIfAbsent(type, t -> new Statistics());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends WorldFacet> void setRegionFacet(GeneratingRegion region, Class<T> type,
+                                                              WorldFacet facet) {
+        region.setRegionFacet(type, (T) facet);
+    }
+
+    private static List<Class<? extends WorldFacet>> producedFacets(FacetProvider provider) {
+        Produces produces = provider.getClass().getAnnotation(Produces.class);
+        if (produces == null) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(produces.value());
+    }
+
+    /**
+     * The columns of a region, along with the provider that generated facets for them.
+     */
+    private static final class Key {
+        private final FacetProvider provider;
+        private final int minX;
+        private final int minZ;
+        private final int sizeX;
+        private final int sizeZ;
+
+        Key(FacetProvider provider, Region3i region) {
+            this.provider = provider;
+            this.minX = region.minX();
+            this.minZ = region.minZ();
+            this.sizeX = region.sizeX();
+            this.sizeZ = region.sizeZ();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof Key) {
+                Key other = (Key) obj;
+                return provider == other.provider && minX == other.minX && minZ == other.minZ
+                        && sizeX == other.sizeX && sizeZ == other.sizeZ;
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(provider), minX, minZ, sizeX, sizeZ);
+        }
+    }
+
+    private static final class Entry {
+        private final Map<Class<? extends WorldFacet>, WorldFacet> facets;
+        private final long size;
+
+        Entry(Map<Class<? extends WorldFacet>, WorldFacet> facets) {
+            this.facets = facets;
+            long estimatedSize = ENTRY_OVERHEAD;
+            for (WorldFacet facet : facets.values()) {
+                Rect2i facetRegion = ((WorldFacet2D) facet).getWorldRegion();
+                // Field facets store 4 bytes per position, object facets a reference
+                estimatedSize += 4L * facetRegion.sizeX() * facetRegion.sizeY();
+            }
+            this.size = estimatedSize;
+        }
+    }
+
+    private static final class Statistics {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+    }
+}
@@ -34,7 +34,17 @@ public class FacetedWorldConfigurator implements WorldConfigurator {
 
     private final List<ConfigurableFacetProvider> providers;
 
+    private final Runnable configurationChangeListener;
+
     public FacetedWorldConfigurator(List<ConfigurableFacetProvider> providersList) {
+        this(providersList, () -> { });
+    }
+
+    /**
+     * @param configurationChangeListener called whenever the configuration of a provider changed
+     */
+    public FacetedWorldConfigurator(List<ConfigurableFacetProvider> providersList,
+                                    Runnable configurationChangeListener) {
         for (ConfigurableFacetProvider provider : providersList) {
             Component old = properties.put(provider.getConfigurationName(), provider.getConfiguration());
             if (old != null) {
@@ -42,6 +52,7 @@ public FacetedWorldConfigurator(List<ConfigurableFacetProvider> providersList) {
             }
         }
         this.providers = providersList;
+        this.configurationChangeListener = configurationChangeListener;
     }
 
     @Override
@@ -55,6 +66,7 @@ public void setProperty(String key, Component comp) {
             if (key.equals(facetProvider.getConfigurationName())) {
                 facetProvider.setConfiguration(comp);
                 properties.put(key, comp);
+                configurationChangeListener.run();
                 return;
             }
         }
@@ -30,15 +30,25 @@ public class RegionImpl implements Region, GeneratingRegion {
     private final Region3i region;
     private final ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains;
     private final Map<Class<? extends WorldFacet>, Border3D> borders;
+    private final FacetCache facetCache;
 
     private final TypeMap<WorldFacet> generatingFacets = TypeMap.create();
     private final Set<FacetProvider> processedProviders = Sets.newHashSet();
     private final TypeMap<WorldFacet> generatedFacets = TypeMap.create();
 
     public RegionImpl(Region3i region, ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains, Map<Class<? extends WorldFacet>, Border3D> borders) {
+        this(region, facetProviderChains, borders, null);
+    }
+
+    /**
+     * @param facetCache the cache to take the facets of column providers from, or null to not cache facets
+     */
+    public RegionImpl(Region3i region, ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains,
+                      Map<Class<? extends WorldFacet>, Border3D> borders, FacetCache facetCache) {
         this.region = region;
         this.facetProviderChains = facetProviderChains;
         this.borders = borders;
+        this.facetCache = facetCache;
     }
 
     @Override
@@ -46,7 +56,11 @@ public <T extends WorldFacet> T getFacet(Class<T> dataType) {
         T facet = generatedFacets.get(dataType);
         if (facet == null) {
             facetProviderChains.get(dataType).stream().filter(provider -> !processedProviders.contains(provider)).forEach(provider -> {
-                provider.process(this);
+                if (facetCache != null) {
+                    facetCache.process(provider, this);
+                } else {
+                    provider.process(this);
+                }
                 processedProviders.add(provider);
             });
             facet = generatingFacets.get(dataType);
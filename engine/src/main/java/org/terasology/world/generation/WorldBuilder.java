@@ -48,6 +48,8 @@ public class WorldBuilder extends ProviderStore {
     private final List<WorldRasterizer> rasterizers = Lists.newArrayList();
     private final List<EntityProvider> entityProviders = new ArrayList<>();
     private int seaLevel = 32;
+    private long facetCacheCapacity = FacetCache.DEFAULT_CAPACITY;
+    private FacetCache facetCache;
 
     private WorldGeneratorPluginLibrary pluginLibrary;
 
@@ -93,6 +95,16 @@ public WorldBuilder setSeaLevel(int level) {
         return this;
     }
 
+    /**
+     * @param capacity the maximum estimated size of the facets cached for regions covering the same columns, in bytes.
+     *                 0 disables the cache.
+     * @return this
+     */
+    public WorldBuilder setFacetCacheCapacity(long capacity) {
+        this.facetCacheCapacity = capacity;
+        return this;
+    }
+
     public World build() {
         // TODO: ensure the required providers are present
 
@@ -104,7 +116,72 @@ public World build() {
         }
         ListMultimap<Class<? extends WorldFacet>, FacetProvider> providerChains = determineProviderChains();
         List<WorldRasterizer> orderedRasterizers = ensureRasterizerOrdering();
-        return new WorldImpl(providerChains, orderedRasterizers, entityProviders, determineBorders(providerChains), seaLevel);
+        facetCache = new FacetCache(determineColumnProviders(), facetCacheCapacity);
+        return new WorldImpl(providerChains, orderedRasterizers, entityProviders, determineBorders(providerChains),
+                seaLevel, facetCache);
+    }
+
+    /**
+     * Determines the providers whose facets only depend on the horizontal position: they produce only 2D facets, which
+     * no other provider produces or updates, update nothing and only require facets of other such providers.
+     */
+    private Set<FacetProvider> determineColumnProviders() {
+        ListMultimap<Class<? extends WorldFacet>, FacetProvider> producers = ArrayListMultimap.create();
+        Set<Class<? extends WorldFacet>> updatedFacets = Sets.newHashSet();
+        for (FacetProvider provider : providersList) {
+            Produces produces = provider.getClass().getAnnotation(Produces.class);
+            if (produces != null) {
+                for (Class<? extends WorldFacet> facet : produces.value()) {
+                    producers.put(facet, provider);
+                }
+            }
+            for (Facet updated : updatedFacets(provider)) {
+                updatedFacets.add(updated.value());
+            }
+        }
+
+        Set<FacetProvider> result = Sets.newHashSet();
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (FacetProvider provider : providersList) {
+                if (!result.contains(provider) && isColumnProvider(provider, producers, updatedFacets, result)) {
+                    result.add(provider);
+                    changed = true;
+                }
+            }
+        }
+        return result;
+    }
+
+    private boolean isColumnProvider(FacetProvider provider,
+                                     ListMultimap<Class<? extends WorldFacet>, FacetProvider> producers,
+                                     Set<Class<? extends WorldFacet>> updatedFacets,
+                                     Set<FacetProvider> columnProviders) {
+        Produces produces = provider.getClass().getAnnotation(Produces.class);
+        if (produces == null || produces.value().length == 0 || updatedFacets(provider).length > 0) {
+            return false;
+        }
+        for (Class<? extends WorldFacet> facet : produces.value()) {
+            if (!WorldFacet2D.class.isAssignableFrom(facet) || updatedFacets.contains(facet)
+                    || producers.get(facet).size() != 1) {
+                return false;
+            }
+        }
+        for (Facet requirement : requiredFacets(provider)) {
+            List<FacetProvider> requirementProducers = producers.get(requirement.value());
+            if (updatedFacets.contains(requirement.value()) || requirementProducers.size() != 1
+                    || !columnProviders.contains(requirementProducers.get(0))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void clearFacetCache() {
+        if (facetCache != null) {
+            facetCache.clear();
+        }
     }
 
     private Map<Class<? extends WorldFacet>, Border3D> determineBorders(ListMultimap<Class<? extends WorldFacet>, FacetProvider> providerChains) {
@@ -363,7 +440,7 @@ public FacetedWorldConfigurator createConfigurator() {
                 configurables.add((ConfigurableFacetProvider) facetProvider);
             }
         }
-        FacetedWorldConfigurator worldConfigurator = new FacetedWorldConfigurator(configurables);
+        FacetedWorldConfigurator worldConfigurator = new FacetedWorldConfigurator(configurables, this::clearFacetCache);
         return worldConfigurator;
     }
 }
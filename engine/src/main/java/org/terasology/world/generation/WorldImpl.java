@@ -34,22 +34,40 @@ public class WorldImpl implements World {
     private final List<EntityProvider> entityProviders;
     private final Map<Class<? extends WorldFacet>, Border3D> borders;
     private final int seaLevel;
+    private final FacetCache facetCache;
 
     public WorldImpl(ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains,
                      List<WorldRasterizer> worldRasterizers,
                      List<EntityProvider> entityProviders,
                      Map<Class<? extends WorldFacet>, Border3D> borders,
                      int seaLevel) {
+        this(facetProviderChains, worldRasterizers, entityProviders, borders, seaLevel, null);
+    }
+
+    public WorldImpl(ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains,
+                     List<WorldRasterizer> worldRasterizers,
+                     List<EntityProvider> entityProviders,
+                     Map<Class<? extends WorldFacet>, Border3D> borders,
+                     int seaLevel,
+                     FacetCache facetCache) {
         this.facetProviderChains = facetProviderChains;
         this.worldRasterizers = worldRasterizers;
         this.entityProviders = entityProviders;
         this.borders = borders;
         this.seaLevel = seaLevel;
+        this.facetCache = facetCache;
     }
 
     @Override
     public Region getWorldData(Region3i region) {
-        return new RegionImpl(region, facetProviderChains, borders);
+        return new RegionImpl(region, facetProviderChains, borders, facetCache);
+    }
+
+    /**
+     * @return the cache shared by the regions of this world, or null if facets are not cached
+     */
+    public FacetCache getFacetCache() {
+        return facetCache;
     }
 
     @Override
@@ -120,7 +120,8 @@ public interface WorldProviderCore {
     /**
      * Places all given blocks of specific types at their corresponding positions
      * </p>
-     * Chunks are
+     * The changes may be applied chunk by chunk, with listeners notified once per changed chunk through
+     * {@link WorldChangeListener#onBlocksChanged(org.terasology.world.ChunkBlockChanges)}.
      *
      * @param blocks A mapping from world position to change to the type of block to set
      * @return A mapping from world position to previous block type.
@@ -135,6 +136,23 @@ default Map<Vector3i, Block> setBlocks(Map<Vector3i, Block> blocks) {
         return resultMap;
     }
 
+    /**
+     * Places a block of a specific type at every position of a region, as a single bulk edit like
+     * {@link #setBlocks(Map)}.
+     *
+     * @param region the world positions to change
+     * @param type   the type of block to set
+     * @return A mapping from world position to previous block type.
+     * The value of a map entry is Null if the change failed (because the necessary chunk was not loaded)
+     */
+    default Map<Vector3i, Block> setBlocks(Region3i region, Block type) {
+        Map<Vector3i, Block> blocks = Maps.newHashMapWithExpectedSize(region.sizeX() * region.sizeY() * region.sizeZ());
+        for (Vector3i pos : region) {
+            blocks.put(pos, type);
+        }
+        return setBlocks(blocks);
+    }
+
     /**
      * Returns the block at the given position.
      *
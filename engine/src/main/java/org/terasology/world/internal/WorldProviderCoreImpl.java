@@ -21,6 +21,8 @@
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
 import org.joml.Vector3ic;
 import org.terasology.context.Context;
 import org.terasology.engine.SimpleUri;
@@ -30,6 +32,7 @@
 import org.terasology.math.JomlUtil;
 import org.terasology.math.Region3i;
 import org.terasology.math.geom.Vector3i;
+import org.terasology.world.ChunkBlockChanges;
 import org.terasology.world.WorldChangeListener;
 import org.terasology.world.WorldComponent;
 import org.terasology.world.block.Block;
@@ -57,11 +60,10 @@
 
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 /**
  */
@@ -221,7 +223,8 @@ public Map<Vector3i, Block> setBlocks(Map<Vector3i, Block> blocks) {
          * Hint: This method has a benchmark available in the BenchmarkScreen, The screen can be opened ingame via the
          * command "showSCreen BenchmarkScreen".
          */
-        Set<BlockChange> changedBlocks = new HashSet<>();
+        Map<Vector3i, ChunkBlockChanges> changesPerChunk = new LinkedHashMap<>();
+        TLongSet dirtyChunks = new TLongHashSet();
         Map<Vector3i, Block> result = new HashMap<>(blocks.size());
 
         for (Map.Entry<Vector3i, Block> entry : blocks.entrySet()) {
@@ -231,8 +234,8 @@ public Map<Vector3i, Block> setBlocks(Map<Vector3i, Block> blocks) {
 
             if (chunk != null) {
                 Block type = entry.getValue();
-                Vector3i blockPos = ChunkMath.calcRelativeBlockPos(worldPos);
-                Block oldBlockType = chunk.setBlock(blockPos, type);
+                Block oldBlockType = chunk.setBlock(ChunkMath.calcBlockPosX(worldPos.x),
+                        ChunkMath.calcBlockPosY(worldPos.y), ChunkMath.calcBlockPosZ(worldPos.z), type);
                 if (oldBlockType != type) {
                     BlockChange oldChange = blockChanges.get(worldPos);
                     if (oldChange == null) {
@@ -240,8 +243,9 @@ public Map<Vector3i, Block> setBlocks(Map<Vector3i, Block> blocks) {
                     } else {
                         oldChange.setTo(type);
                     }
-                    setDirtyChunksNear(worldPos);
-                    changedBlocks.add(new BlockChange(JomlUtil.from(worldPos), oldBlockType, type));
+                    addChunksNear(worldPos, dirtyChunks);
+                    changesPerChunk.computeIfAbsent(chunkPos, ChunkBlockChanges::new)
+                            .add(worldPos.x, worldPos.y, worldPos.z, type, oldBlockType);
                 }
                 result.put(worldPos, oldBlockType);
             } else {
@@ -249,13 +253,35 @@ public Map<Vector3i, Block> setBlocks(Map<Vector3i, Block> blocks) {
             }
         }
 
-        for (BlockChange change : changedBlocks) {
-            notifyBlockChanged(JomlUtil.from(change.getPosition()), change.getTo(), change.getFrom());
+        dirtyChunks.forEach(packedChunkPos -> {
+            RenderableChunk dirtiedChunk = chunkProvider.getChunk(ChunkMath.unpackChunkPosX(packedChunkPos),
+                    ChunkMath.unpackChunkPosY(packedChunkPos), ChunkMath.unpackChunkPosZ(packedChunkPos));
+            if (dirtiedChunk != null) {
+                dirtiedChunk.setDirty(true);
+            }
+            return true;
+        });
+        for (ChunkBlockChanges changes : changesPerChunk.values()) {
+            notifyBlocksChanged(changes);
         }
 
         return result;
     }
 
+    /**
+     * Adds the chunks which hold the block at the given position or one of its neighbours, the same chunks
+     * {@link #setDirtyChunksNear(Vector3i)} marks dirty.
+     */
+    private static void addChunksNear(Vector3i pos, TLongSet chunks) {
+        for (int x = ChunkMath.calcChunkPosX(pos.x - 1); x <= ChunkMath.calcChunkPosX(pos.x + 1); x++) {
+            for (int y = ChunkMath.calcChunkPosY(pos.y - 1); y <= ChunkMath.calcChunkPosY(pos.y + 1); y++) {
+                for (int z = ChunkMath.calcChunkPosZ(pos.z - 1); z <= ChunkMath.calcChunkPosZ(pos.z + 1); z++) {
+                    chunks.add(ChunkMath.packChunkPos(x, y, z));
+                }
+            }
+        }
+    }
+
     private void setDirtyChunksNear(Vector3i pos0) {
         for (Vector3i pos : ChunkMath.getChunkRegionAroundWorldPos(pos0, 1)) {
             RenderableChunk dirtiedChunk = chunkProvider.getChunk(pos);
@@ -275,6 +301,14 @@ private void notifyBlockChanged(Vector3i pos, Block type, Block oldType) {
         }
     }
 
+    private void notifyBlocksChanged(ChunkBlockChanges changes) {
+        synchronized (listeners) {
+            for (WorldChangeListener listener : listeners) {
+                listener.onBlocksChanged(changes);
+            }
+        }
+    }
+
     private void notifyExtraDataChanged(int index, Vector3i pos, int newData, int oldData) {
         // TODO: Change to match block , if those changes are made.
         synchronized (listeners) {
@@ -0,0 +1,43 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.world.propagation;
+
+import com.google.common.collect.Sets;
+import org.terasology.math.geom.Vector3i;
+
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * A position queue backed by an insertion ordered hash set, which allocates a vector and a hash node per position.
+ */
+final class LinkedPositionQueue implements PositionQueue {
+    private final Set<Vector3i> positions = Sets.newLinkedHashSet();
+
+    @Override
+    public boolean add(Vector3i pos) {
+        return positions.add(new Vector3i(pos));
+    }
+
+    @Override
+    public boolean remove(Vector3i pos) {
+        return positions.remove(pos);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return positions.isEmpty();
+    }
+
+    @Override
+    public void poll(Vector3i result) {
+        Iterator<Vector3i> iterator = positions.iterator();
+        result.set(iterator.next());
+        iterator.remove();
+    }
+
+    @Override
+    public void clear() {
+        positions.clear();
+    }
+}
@@ -0,0 +1,179 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.world.propagation;
+
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import org.terasology.math.ChunkMath;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.chunks.ChunkConstants;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A position queue that does not allocate anything per position.
+ * <br><br>
+ * Positions are kept in a ring buffer as the packed position of their chunk and their index within the chunk. Which
+ * positions are queued is tracked by a bitset per chunk, so adding and removing positions is a bit operation. Removed
+ * positions stay in the ring buffer and are skipped when polled. The bitsets are kept for reuse once the queue drains,
+ * as long as there are not more than {@link #MAX_RETAINED_CHUNKS} of them. Nothing is allocated before the first
+ * position is added, as propagators keep many queues that stay empty.
+ */
+final class PackedPositionQueue implements PositionQueue {
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int MAX_RETAINED_CHUNKS = 32;
+    private static final int POWER_XZ = ChunkConstants.POWER_X + ChunkConstants.POWER_Z;
+    private static final int CHUNK_WORDS =
+            (ChunkConstants.SIZE_X * ChunkConstants.SIZE_Y * ChunkConstants.SIZE_Z) / Long.SIZE;
+
+    private long[] chunkKeys = new long[0];
+    private int[] blockIndices = new int[0];
+    private int head;
+    private int entries;
+    private int size;
+
+    private TLongObjectMap<long[]> queuedBlocks;
+    private long lastChunkKey;
+    private long[] lastQueuedBlocks;
+
+    @Override
+    public boolean add(Vector3i pos) {
+        long chunkKey = chunkKeyOf(pos);
+        int blockIndex = blockIndexOf(pos);
+        long[] queued = queuedBlocksOf(chunkKey, true);
+        long bit = 1L << blockIndex;
+        if ((queued[blockIndex >>> 6] & bit) != 0) {
+            return false;
+        }
+        queued[blockIndex >>> 6] |= bit;
+        if (entries == chunkKeys.length) {
+            grow();
+        }
+        int tail = (head + entries) & (chunkKeys.length - 1);
+        chunkKeys[tail] = chunkKey;
+        blockIndices[tail] = blockIndex;
+        entries++;
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(Vector3i pos) {
+        long[] queued = queuedBlocksOf(chunkKeyOf(pos), false);
+        int blockIndex = blockIndexOf(pos);
+        long bit = 1L << blockIndex;
+        if (queued == null || (queued[blockIndex >>> 6] & bit) == 0) {
+            return false;
+        }
+        queued[blockIndex >>> 6] &= ~bit;
+        if (--size == 0) {
+            drained();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void poll(Vector3i result) {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        while (true) {
+            long chunkKey = chunkKeys[head];
+            int blockIndex = blockIndices[head];
+            head = (head + 1) & (chunkKeys.length - 1);
+            entries--;
+
+            long[] queued = queuedBlocksOf(chunkKey, false);
+            long bit = 1L << blockIndex;
+            if ((queued[blockIndex >>> 6] & bit) != 0) {
+                queued[blockIndex >>> 6] &= ~bit;
+                result.set(
+                        (ChunkMath.unpackChunkPosX(chunkKey) << ChunkConstants.POWER_X)
+                                + (blockIndex & ChunkConstants.INNER_CHUNK_POS_FILTER_X),
+                        (ChunkMath.unpackChunkPosY(chunkKey) << ChunkConstants.POWER_Y) + (blockIndex >>> POWER_XZ),
+                        (ChunkMath.unpackChunkPosZ(chunkKey) << ChunkConstants.POWER_Z)
+                                + ((blockIndex >>> ChunkConstants.POWER_X) & ChunkConstants.INNER_CHUNK_POS_FILTER_Z));
+                if (--size == 0) {
+                    drained();
+                }
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0) {
+            queuedBlocks.forEachValue(queued -> {
+                Arrays.fill(queued, 0);
+                return true;
+            });
+            size = 0;
+            drained();
+        }
+    }
+
+    /**
+     * Drops the removed positions left in the ring buffer, as every bitset is empty again.
+     */
+    private void drained() {
+        head = 0;
+        entries = 0;
+        if (queuedBlocks.size() > MAX_RETAINED_CHUNKS) {
+            queuedBlocks = null;
+            lastQueuedBlocks = null;
+        }
+    }
+
+    private long[] queuedBlocksOf(long chunkKey, boolean create) {
+        if (lastQueuedBlocks != null && lastChunkKey == chunkKey) {
+            return lastQueuedBlocks;
+        }
+        long[] queued = queuedBlocks == null ? null : queuedBlocks.get(chunkKey);
+        if (queued == null) {
+            if (!create) {
+                return null;
+            }
+            if (queuedBlocks == null) {
+                queuedBlocks = new TLongObjectHashMap<>();
+            }
+            queued = new long[CHUNK_WORDS];
+            queuedBlocks.put(chunkKey, queued);
+        }
+        lastChunkKey = chunkKey;
+        lastQueuedBlocks = queued;
+        return queued;
+    }
+
+    private void grow() {
+        int capacity = chunkKeys.length;
+        int newCapacity = Math.max(INITIAL_CAPACITY, capacity * 2);
+        long[] newChunkKeys = new long[newCapacity];
+        int[] newBlockIndices = new int[newCapacity];
+        int firstPart = capacity - head;
+        System.arraycopy(chunkKeys, head, newChunkKeys, 0, firstPart);
+        System.arraycopy(chunkKeys, 0, newChunkKeys, firstPart, head);
+        System.arraycopy(blockIndices, head, newBlockIndices, 0, firstPart);
+        System.arraycopy(blockIndices, 0, newBlockIndices, firstPart, head);
+        chunkKeys = newChunkKeys;
+        blockIndices = newBlockIndices;
+        head = 0;
+    }
+
+    private static long chunkKeyOf(Vector3i pos) {
+        return ChunkMath.packChunkPos(ChunkMath.calcChunkPosX(pos.x), ChunkMath.calcChunkPosY(pos.y),
+                ChunkMath.calcChunkPosZ(pos.z));
+    }
+
+    private static int blockIndexOf(Vector3i pos) {
+        return (pos.x & ChunkConstants.INNER_CHUNK_POS_FILTER_X)
+                | (pos.z & ChunkConstants.INNER_CHUNK_POS_FILTER_Z) << ChunkConstants.POWER_X
+                | (pos.y & ChunkConstants.INNER_CHUNK_POS_FILTER_Y) << POWER_XZ;
+    }
+}
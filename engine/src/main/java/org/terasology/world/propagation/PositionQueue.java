@@ -0,0 +1,35 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.world.propagation;
+
+import org.terasology.math.geom.Vector3i;
+
+/**
+ * A first in, first out queue of block positions that holds every position at most once.
+ * <br><br>
+ * Positions are copied when they get added, so callers may reuse the vectors they pass in.
+ */
+interface PositionQueue {
+
+    /**
+     * @return true if the position got added, false if it is already queued
+     */
+    boolean add(Vector3i pos);
+
+    /**
+     * @return true if the position got removed, false if it was not queued
+     */
+    boolean remove(Vector3i pos);
+
+    boolean isEmpty();
+
+    /**
+     * Removes the oldest position from the queue.
+     *
+     * @param result the vector to store the position in
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    void poll(Vector3i result);
+
+    void clear();
+}
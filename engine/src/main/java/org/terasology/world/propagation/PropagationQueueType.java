@@ -0,0 +1,30 @@
+// Copyright 2020 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.world.propagation;
+
+/**
+ * The kinds of queues a batch propagator can keep the positions it still has to process in.
+ */
+public enum PropagationQueueType {
+    /**
+     * Insertion ordered hash sets of positions. Allocates a vector and a hash node for every queued position.
+     */
+    LINKED_SETS {
+        @Override
+        PositionQueue create() {
+            return new LinkedPositionQueue();
+        }
+    },
+    /**
+     * Ring buffers of packed positions with a bitset per chunk to track the queued positions. Allocates nothing per
+     * position.
+     */
+    PACKED {
+        @Override
+        PositionQueue create() {
+            return new PackedPositionQueue();
+        }
+    };
+
+    abstract PositionQueue create();
+}
@@ -16,7 +16,6 @@
 package org.terasology.world.propagation;
 
 import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
 import org.terasology.math.ChunkMath;
 import org.terasology.math.JomlUtil;
 import org.terasology.math.Region3i;
@@ -28,7 +27,6 @@
 
 import java.util.Arrays;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * Batch propagator that works on a set of changed blocks
@@ -42,12 +40,20 @@ public class StandardBatchPropagator implements BatchPropagator {
     private PropagatorWorldView world;
 
     /* Queues are stored in reverse order. Ie, strongest light is 0. */
-    private Set<Vector3i>[] reduceQueues;
-    private Set<Vector3i>[] increaseQueues;
+    private PositionQueue[] reduceQueues;
+    private PositionQueue[] increaseQueues;
+
+    /* Reused by the processing of the queues, which copy the positions they are given */
+    private final Vector3i queuedPos = new Vector3i();
+    private final Vector3i adjacentPos = new Vector3i();
 
     private Map<Side, Vector3i> chunkEdgeDeltas = Maps.newEnumMap(Side.class);
 
     public StandardBatchPropagator(PropagationRules rules, PropagatorWorldView world) {
+        this(rules, world, PropagationQueueType.PACKED);
+    }
+
+    public StandardBatchPropagator(PropagationRules rules, PropagatorWorldView world, PropagationQueueType queueType) {
         this.world = world;
         this.rules = rules;
 
@@ -71,11 +77,11 @@ public StandardBatchPropagator(PropagationRules rules, PropagatorWorldView world
             chunkEdgeDeltas.put(side, delta);
         }
 
-        increaseQueues = new Set[rules.getMaxValue()];
-        reduceQueues = new Set[rules.getMaxValue()];
+        increaseQueues = new PositionQueue[rules.getMaxValue()];
+        reduceQueues = new PositionQueue[rules.getMaxValue()];
         for (int i = 0; i < rules.getMaxValue(); ++i) {
-            increaseQueues[i] = Sets.newLinkedHashSet();
-            reduceQueues[i] = Sets.newLinkedHashSet();
+            increaseQueues[i] = queueType.create();
+            reduceQueues[i] = queueType.create();
         }
 
     }
@@ -169,16 +175,17 @@ private void purge(Vector3i pos, byte oldValue) {
         for (Side side : Side.getAllSides()) {
             /* Handle this value being reset to the default by updating sides as needed */
             byte expectedValue = rules.propagateValue(oldValue, side, block);
-            Vector3i adjPos = side.getAdjacentPos(pos);
+            adjacentPos.set(pos);
+            adjacentPos.add(side.getVector3i());
             if (rules.canSpreadOutOf(block, side)) {
-                byte adjValue = world.getValueAt(adjPos);
+                byte adjValue = world.getValueAt(adjacentPos);
                 if (adjValue == expectedValue) {
-                    Block adjBlock = world.getBlockAt(adjPos);
+                    Block adjBlock = world.getBlockAt(adjacentPos);
                     if (rules.canSpreadInto(adjBlock, side.reverse())) {
-                        reduce(adjPos, expectedValue);
+                        reduce(adjacentPos, expectedValue);
                     }
                 } else if (adjValue > 0) {
-                    queueSpreadValue(adjPos, adjValue);
+                    queueSpreadValue(adjacentPos, adjValue);
                 }
             }
         }
@@ -192,14 +199,11 @@ private void processReduction() {
         for (int depth = 0; depth < rules.getMaxValue(); depth++) {
             byte oldValue = (byte) (rules.getMaxValue() - depth);
 
-            while (!reduceQueues[depth].isEmpty()) {
-                Set<Vector3i> toProcess = reduceQueues[depth];
-                reduceQueues[depth] = Sets.newLinkedHashSetWithExpectedSize(toProcess.size());
-
-                /* This step will add any new reductions to to the `reduceQueues` set */
-                for (Vector3i pos : toProcess) {
-                    purge(pos, oldValue);
-                }
+            /* This step will add any new reductions to the `reduceQueues` */
+            PositionQueue toProcess = reduceQueues[depth];
+            while (!toProcess.isEmpty()) {
+                toProcess.poll(queuedPos);
+                purge(queuedPos, oldValue);
             }
         }
     }
@@ -212,14 +216,11 @@ private void processIncrease() {
         for (int depth = 0; depth < rules.getMaxValue() - 1; depth++) {
             byte value = (byte) (rules.getMaxValue() - depth);
 
-            while (!increaseQueues[depth].isEmpty()) {
-                Set<Vector3i> toProcess = increaseQueues[depth];
-                increaseQueues[depth] = Sets.newLinkedHashSetWithExpectedSize(toProcess.size());
-
-                /* This step will add any new values to `increaseQueues` */
-                for (Vector3i pos : toProcess) {
-                    push(pos, value);
-                }
+            /* This step will add any new values to `increaseQueues` */
+            PositionQueue toProcess = increaseQueues[depth];
+            while (!toProcess.isEmpty()) {
+                toProcess.poll(queuedPos);
+                push(queuedPos, value);
             }
         }
 
@@ -240,14 +241,15 @@ private void push(Vector3i pos, byte value) {
             byte propagatedValue = rules.propagateValue(value, side, block);
 
             if (rules.canSpreadOutOf(block, side)) {
-                Vector3i adjPos = side.getAdjacentPos(pos);
-                byte adjValue = world.getValueAt(adjPos);
+                adjacentPos.set(pos);
+                adjacentPos.add(side.getVector3i());
+                byte adjValue = world.getValueAt(adjacentPos);
 
                 if (adjValue < propagatedValue && adjValue != PropagatorWorldView.UNAVAILABLE) {
-                    Block adjBlock = world.getBlockAt(adjPos);
+                    Block adjBlock = world.getBlockAt(adjacentPos);
 
                     if (rules.canSpreadInto(adjBlock, side.reverse())) {
-                        increase(adjPos, propagatedValue);
+                        increase(adjacentPos, propagatedValue);
                     }
                 }
             }
@@ -297,7 +299,7 @@ private void queueSpreadValue(Vector3i position, byte value) {
      * Clears all the queues and cleans up the object
      */
     private void cleanUp() {
-        for (Set<Vector3i> queue : increaseQueues) {
+        for (PositionQueue queue : increaseQueues) {
             queue.clear();
         }
     }
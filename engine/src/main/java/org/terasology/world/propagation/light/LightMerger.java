@@ -17,13 +17,18 @@
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Queues;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.terasology.math.ChunkMath;
 import org.terasology.math.Side;
 import org.terasology.math.geom.Vector3i;
 import org.terasology.world.chunks.Chunk;
 import org.terasology.world.chunks.LitChunk;
 import org.terasology.world.chunks.internal.GeneratingChunkProvider;
+import org.terasology.world.chunks.pipeline.AbstractChunkTask;
+import org.terasology.world.chunks.pipeline.ChunkTask;
 import org.terasology.world.propagation.BatchPropagator;
 import org.terasology.world.propagation.LocalChunkView;
 import org.terasology.world.propagation.PropagationRules;
@@ -32,35 +37,130 @@
 import org.terasology.world.propagation.SunlightRegenBatchPropagator;
 
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
+/**
+ * Merges the light of chunks with the light of their neighbours.
+ * <br><br>
+ * A merge reads and writes the 3x3x3 chunks around the merged chunk, so merges only run at the same time if these
+ * neighbourhoods do not overlap. Merges of overlapping neighbourhoods run in the order they were requested.
+ */
 public class LightMerger<T> {
     private static final int CENTER_INDEX = 13;
 
     private static final Logger logger = LoggerFactory.getLogger(LightMerger.class);
 
-    private ExecutorService executorService = Executors.newSingleThreadExecutor();
+    private final Consumer<ChunkTask> taskExecutor;
+    private ExecutorService executorService;
     private BlockingQueue<T> results = Queues.newLinkedBlockingQueue();
 
+    private final Object schedulingLock = new Object();
+    private final List<PendingMerge<T>> pendingMerges = Lists.newLinkedList();
+    private final TLongSet mergingChunks = new TLongHashSet();
+    private int generation;
+
     private GeneratingChunkProvider chunkProvider;
     private LightPropagationRules lightRules = new LightPropagationRules();
     private SunlightRegenPropagationRules sunlightRegenRules = new SunlightRegenPropagationRules();
 
     private boolean running = true;
 
+    /**
+     * Creates a light merger that runs the merges one after the other on a thread of its own.
+     */
     public LightMerger(GeneratingChunkProvider chunkProvider) {
         this.chunkProvider = chunkProvider;
+        this.executorService = Executors.newSingleThreadExecutor();
+        this.taskExecutor = task -> executorService.execute(task::run);
+    }
+
+    /**
+     * Creates a light merger that hands the merges to the given executor, which may run them in parallel. Usually
+     * this is the worker pool of the {@link org.terasology.world.chunks.pipeline.ChunkGenerationPipeline}.
+     */
+    public LightMerger(GeneratingChunkProvider chunkProvider, Consumer<ChunkTask> taskExecutor) {
+        this.chunkProvider = chunkProvider;
+        this.taskExecutor = taskExecutor;
     }
 
     public void beginMerge(final Chunk chunk, final T data) {
-        executorService.submit(() -> {
-            merge(chunk);
-            results.add(data);
-        });
+        List<ChunkTask> tasks;
+        synchronized (schedulingLock) {
+            pendingMerges.add(new PendingMerge<>(chunk, data));
+            tasks = dispatchMerges();
+        }
+        tasks.forEach(taskExecutor);
+    }
+
+    /**
+     * Starts every pending merge whose neighbourhood overlaps neither a running merge nor an earlier pending one.
+     *
+     * @return the tasks of the started merges, to be executed once the scheduling lock is released
+     */
+    private List<ChunkTask> dispatchMerges() {
+        if (!running || pendingMerges.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<ChunkTask> tasks = Lists.newArrayList();
+        TLongSet claimedChunks = new TLongHashSet(mergingChunks);
+        Iterator<PendingMerge<T>> iterator = pendingMerges.iterator();
+        while (iterator.hasNext()) {
+            PendingMerge<T> merge = iterator.next();
+            Vector3i pos = merge.chunk.getPosition();
+            boolean overlapping = isNeighbourhoodClaimed(pos, claimedChunks);
+            claimNeighbourhood(pos, claimedChunks, true);
+            if (!overlapping) {
+                iterator.remove();
+                claimNeighbourhood(pos, mergingChunks, true);
+                tasks.add(new MergeTask(merge, generation));
+            }
+        }
+        return tasks;
+    }
+
+    private void finishMerge(Vector3i pos, int mergeGeneration) {
+        List<ChunkTask> tasks;
+        synchronized (schedulingLock) {
+            if (mergeGeneration != generation) {
+                return;
+            }
+            claimNeighbourhood(pos, mergingChunks, false);
+            tasks = dispatchMerges();
+        }
+        tasks.forEach(taskExecutor);
+    }
+
+    private static boolean isNeighbourhoodClaimed(Vector3i pos, TLongSet claimedChunks) {
+        for (int z = pos.z - 1; z <= pos.z + 1; z++) {
+            for (int y = pos.y - 1; y <= pos.y + 1; y++) {
+                for (int x = pos.x - 1; x <= pos.x + 1; x++) {
+                    if (claimedChunks.contains(ChunkMath.packChunkPos(x, y, z))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void claimNeighbourhood(Vector3i pos, TLongSet claimedChunks, boolean claim) {
+        for (int z = pos.z - 1; z <= pos.z + 1; z++) {
+            for (int y = pos.y - 1; y <= pos.y + 1; y++) {
+                for (int x = pos.x - 1; x <= pos.x + 1; x++) {
+                    if (claim) {
+                        claimedChunks.add(ChunkMath.packChunkPos(x, y, z));
+                    } else {
+                        claimedChunks.remove(ChunkMath.packChunkPos(x, y, z));
+                    }
+                }
+            }
+        }
     }
 
     public List<T> completeMerge() {
@@ -127,19 +227,72 @@ private Chunk[] assembleLocalChunks(Chunk chunk) {
     }
 
     public void shutdown() {
-        running = false;
-        executorService.shutdown();
-        try {
-            executorService.awaitTermination(10, TimeUnit.SECONDS);
-        } catch (InterruptedException e) {
-            logger.error("Failed to shutdown light merge thread in a timely manner");
+        synchronized (schedulingLock) {
+            running = false;
+            pendingMerges.clear();
+            mergingChunks.clear();
+            generation++;
+        }
+        if (executorService != null) {
+            executorService.shutdown();
+            try {
+                executorService.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                logger.error("Failed to shutdown light merge thread in a timely manner");
+            }
         }
     }
 
     public void restart() {
-        if (!running) {
-            executorService = Executors.newSingleThreadExecutor();
+        List<ChunkTask> tasks;
+        synchronized (schedulingLock) {
+            if (running) {
+                return;
+            }
+            if (executorService != null) {
+                executorService = Executors.newSingleThreadExecutor();
+            }
             running = true;
+            tasks = dispatchMerges();
+        }
+        tasks.forEach(taskExecutor);
+    }
+
+    private static final class PendingMerge<T> {
+        private final Chunk chunk;
+        private final T data;
+
+        private PendingMerge(Chunk chunk, T data) {
+            this.chunk = chunk;
+            this.data = data;
+        }
+    }
+
+    private final class MergeTask extends AbstractChunkTask {
+        private final PendingMerge<T> pending;
+        private final int mergeGeneration;
+
+        private MergeTask(PendingMerge<T> pending, int mergeGeneration) {
+            super(pending.chunk.getPosition());
+            this.pending = pending;
+            this.mergeGeneration = mergeGeneration;
+        }
+
+        @Override
+        public String getName() {
+            return "Merge Light";
+        }
+
+        @Override
+        public void run() {
+            try {
+                merge(pending.chunk);
+                results.add(pending.data);
+            } catch (RuntimeException e) {
+                logger.error("Failed to merge the light of chunk {}", getPosition(), e);
+            } finally {
+                finishMerge(getPosition(), mergeGeneration);
+            }
         }
     }
 }